@@ -0,0 +1,139 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.benchmarks.bridges;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.jboss.logging.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.tinylog.configuration.Configuration;
+import org.tinylog.provider.ProviderRegistry;
+
+/**
+ * Benchmark for JBoss Logging with tinylog as back-end.
+ *
+ * <p>
+ * The logger category name is passed as source class name to tinylog. Therefore, a stack trace walk is only necessary
+ * if the method name has to be output.
+ * </p>
+ */
+public class JBossBenchmark {
+
+	private static final String LOGGER_CLASS_NAME = Logger.class.getName();
+
+	/** */
+	public JBossBenchmark() {
+	}
+
+	/**
+	 * Benchmarks issuing log entries that will be discarded.
+	 *
+	 * @param lifeCycle
+	 *            Provides the logger instance
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	public void discard(final LifeCycle lifeCycle) {
+		lifeCycle.logger.debug("Hello World!");
+	}
+
+	/**
+	 * Benchmarks issuing log entries that will be output.
+	 *
+	 * @param lifeCycle
+	 *            Provides the logger instance
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	public void output(final LifeCycle lifeCycle) {
+		lifeCycle.logger.info("Hello World!");
+	}
+
+	/**
+	 * Benchmarks issuing log entries with a passed logger class name that will be output. Message loggers that are
+	 * generated by the JBoss Logging tools issue log entries this way.
+	 *
+	 * @param lifeCycle
+	 *            Provides the logger instance
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	public void outputWithLoggerClassName(final LifeCycle lifeCycle) {
+		lifeCycle.logger.logf(LOGGER_CLASS_NAME, Logger.Level.INFO, null, "Hello %s!", "World");
+	}
+
+	/**
+	 * Life cycle for initializing and shutting down tinylog.
+	 */
+	@State(Scope.Benchmark)
+	public static class LifeCycle {
+
+		@Param({ "false", "true" })
+		private boolean method;
+
+		private Path file;
+		private Logger logger;
+
+		/** */
+		public LifeCycle() {
+		}
+
+		/**
+		 * Initializes tinylog and creates the logger instance.
+		 *
+		 * @throws IOException
+		 *             Failed creating temporary log file
+		 */
+		@Setup(Level.Trial)
+		public void init() throws IOException {
+			file = Files.createTempFile("jboss_", ".log");
+
+			Configuration.set("autoshutdown", "false");
+			Configuration.set("level", "info");
+			Configuration.set("writer", "file");
+			Configuration.set("writer.buffered", "true");
+			Configuration.set("writer.file", file.toString());
+			Configuration.set("writer.format", method ? "{class}.{method}(): {message}" : "{class}: {message}");
+			Configuration.set("writingthread", "true");
+
+			logger = Logger.getLogger(JBossBenchmark.class);
+		}
+
+		/**
+		 * Shuts down tinylog.
+		 *
+		 * @throws InterruptedException
+		 *             Interrupted while waiting for complete shutdown
+		 * @throws IOException
+		 *             Failed to delete log file
+		 */
+		@TearDown(Level.Trial)
+		public void shutDown() throws InterruptedException, IOException {
+			ProviderRegistry.getLoggingProvider().shutdown();
+			Files.delete(file);
+		}
+
+	}
+
+}
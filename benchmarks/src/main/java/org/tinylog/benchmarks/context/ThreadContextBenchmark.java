@@ -0,0 +1,145 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.benchmarks.context;
+
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.tinylog.core.ScopedContextProvider;
+import org.tinylog.core.TinylogContextProvider;
+import org.tinylog.provider.SnapshotContextProvider;
+
+/**
+ * Benchmark for comparing the inheritable {@link TinylogContextProvider} with the non-inheritable
+ * {@link ScopedContextProvider}. The allocation rate per operation can be measured by running JMH with the GC profiler
+ * ({@code -prof gc}).
+ *
+ * <p>
+ * The memory footprint per thread is measured by {@link #spawnIdleThread(LifeCycle)} in combination with the GC
+ * profiler. Inherited thread context values are shared immutable maps. Therefore, everything that is allocated for
+ * inheriting them while creating a child thread is retained for the whole lifetime of the child thread. The difference
+ * of the normalized allocation rate ({@code gc.alloc.rate.norm}) between both context providers is the retained memory
+ * per thread.
+ * </p>
+ */
+public class ThreadContextBenchmark {
+
+	private static final int ENTRIES = 10;
+
+	/** */
+	public ThreadContextBenchmark() {
+	}
+
+	/**
+	 * Benchmarks starting a child thread that reads a value from its thread context. The inheritable context provider
+	 * passes the thread context implicitly to the child thread, whereas the captured snapshot is restored explicitly
+	 * for the scoped context provider.
+	 *
+	 * @param lifeCycle
+	 *            Context provider with filled thread context
+	 * @param blackhole
+	 *            Sink for the value read by the child thread
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for termination of the child thread
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	public void spawnThread(final LifeCycle lifeCycle, final Blackhole blackhole) throws InterruptedException {
+		final SnapshotContextProvider provider = lifeCycle.provider;
+		final Map<String, String> snapshot = lifeCycle.inheritable ? null : provider.getMapping();
+
+		Thread thread = new Thread(() -> {
+			if (snapshot != null) {
+				provider.replace(snapshot);
+			}
+			blackhole.consume(provider.get("key0"));
+		});
+
+		thread.start();
+		thread.join();
+	}
+
+	/**
+	 * Benchmarks starting a child thread that doesn't use the thread context at all. This benchmark is intended to be
+	 * run with the GC profiler for measuring the memory footprint of implicitly inherited thread contexts.
+	 *
+	 * @param lifeCycle
+	 *            Context provider with filled thread context
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for termination of the child thread
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	public void spawnIdleThread(final LifeCycle lifeCycle) throws InterruptedException {
+		Thread thread = new Thread(() -> { });
+		thread.start();
+		thread.join();
+	}
+
+	/**
+	 * Benchmarks binding an additional value for the execution of a task and restoring the previous thread context
+	 * afterwards.
+	 *
+	 * @param lifeCycle
+	 *            Context provider with filled thread context
+	 * @param blackhole
+	 *            Sink for the bound value
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	public void bindValue(final LifeCycle lifeCycle, final Blackhole blackhole) {
+		SnapshotContextProvider provider = lifeCycle.provider;
+		Map<String, String> previous = provider.getMapping();
+		provider.put("request", "42");
+		blackhole.consume(provider.get("request"));
+		provider.replace(previous);
+	}
+
+	/**
+	 * Life cycle for creating the context provider and filling its thread context.
+	 */
+	@State(Scope.Thread)
+	public static class LifeCycle {
+
+		@Param({ "true", "false" })
+		private boolean inheritable;
+
+		private SnapshotContextProvider provider;
+
+		/** */
+		public LifeCycle() {
+		}
+
+		/**
+		 * Creates the context provider and fills the thread context with some values.
+		 */
+		@Setup(Level.Trial)
+		public void init() {
+			provider = inheritable ? new TinylogContextProvider() : new ScopedContextProvider();
+			for (int i = 0; i < ENTRIES; ++i) {
+				provider.put("key" + i, "value" + i);
+			}
+		}
+
+	}
+
+}
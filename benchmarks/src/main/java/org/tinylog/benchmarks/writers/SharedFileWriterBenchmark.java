@@ -0,0 +1,167 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.benchmarks.writers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.tinylog.core.LogEntry;
+import org.tinylog.util.JvmProcessBuilder;
+import org.tinylog.writers.SharedFileWriter;
+
+/**
+ * Benchmark for comparing file locking and atomic appending of {@link SharedFileWriter}, while other processes write
+ * simultaneously to the same log file.
+ */
+public class SharedFileWriterBenchmark {
+
+	private static final String MESSAGE = "Hello World! - Writing to a log file that is shared by multiple processes";
+
+	/** */
+	public SharedFileWriterBenchmark() {
+	}
+
+	/**
+	 * Benchmarks writing a log entry to the shared log file.
+	 *
+	 * @param lifeCycle
+	 *            Shared file writer and competing processes
+	 * @throws IOException
+	 *             Failed to write to shared log file
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	public void write(final LifeCycle lifeCycle) throws IOException {
+		lifeCycle.writer.write(lifeCycle.logEntry);
+	}
+
+	/**
+	 * Writes log entries endlessly to a given log file. This main method is used for competing processes that write
+	 * simultaneously to the same log file as the benchmark.
+	 *
+	 * @param arguments
+	 *            First element will be used as path to log file and second element for defining atomic mode
+	 * @throws IOException
+	 *             Failed to write to shared log file
+	 */
+	public static void main(final String[] arguments) throws IOException {
+		SharedFileWriter writer = createWriter(arguments[0], Boolean.parseBoolean(arguments[1]));
+		LogEntry logEntry = createLogEntry();
+
+		while (true) {
+			writer.write(logEntry);
+		}
+	}
+
+	/**
+	 * Creates a shared file writer that continues the passed log file.
+	 *
+	 * @param path
+	 *            Path to log file
+	 * @param atomic
+	 *            {@code true} for atomic appending, {@code false} for file locking
+	 * @return Created shared file writer
+	 * @throws IOException
+	 *             Failed to open log file
+	 */
+	private static SharedFileWriter createWriter(final String path, final boolean atomic) throws IOException {
+		Map<String, String> properties = new HashMap<>();
+		properties.put("file", path);
+		properties.put("format", "{message}");
+		properties.put("append", "true");
+		properties.put("atomic", Boolean.toString(atomic));
+		properties.put("writingthread", "true");
+		return new SharedFileWriter(properties);
+	}
+
+	/**
+	 * Creates a log entry with a plain text message.
+	 *
+	 * @return Created log entry
+	 */
+	private static LogEntry createLogEntry() {
+		return new LogEntry(null, null, null, null, null, null, -1, null, org.tinylog.Level.INFO, MESSAGE, null);
+	}
+
+	/**
+	 * Life cycle for creating the shared file writer and starting the competing processes.
+	 */
+	@State(Scope.Benchmark)
+	public static class LifeCycle {
+
+		@Param({ "false", "true" })
+		private boolean atomic;
+
+		@Param({ "1", "4" })
+		private int processes;
+
+		private Path file;
+		private List<Process> competitors;
+		private SharedFileWriter writer;
+		private LogEntry logEntry;
+
+		/** */
+		public LifeCycle() {
+		}
+
+		/**
+		 * Creates the shared file writer and starts all competing processes.
+		 *
+		 * @throws IOException
+		 *             Failed to create log file or to start processes
+		 */
+		@Setup(Level.Trial)
+		public void init() throws IOException {
+			file = Files.createTempFile("shared_", ".log");
+			competitors = new JvmProcessBuilder(SharedFileWriterBenchmark.class, file.toString(), Boolean.toString(atomic))
+				.start(processes - 1);
+			writer = createWriter(file.toString(), atomic);
+			logEntry = createLogEntry();
+		}
+
+		/**
+		 * Stops all competing processes and closes the shared file writer.
+		 *
+		 * @throws InterruptedException
+		 *             Interrupted while waiting for termination of competing processes
+		 * @throws IOException
+		 *             Failed to close or delete log file
+		 */
+		@TearDown(Level.Trial)
+		public void shutDown() throws InterruptedException, IOException {
+			for (Process process : competitors) {
+				process.destroy();
+				process.waitFor();
+			}
+
+			writer.close();
+			Files.delete(file);
+		}
+
+	}
+
+}
@@ -31,7 +31,7 @@ import org.powermock.reflect.Whitebox;
 import org.tinylog.Level;
 import org.tinylog.format.JavaTextMessageFormatFormatter;
 import org.tinylog.format.PrintfStyleFormatter;
-import org.tinylog.provider.LoggingProvider;
+import org.tinylog.provider.ClassAwareLoggingProvider;
 import org.tinylog.provider.ProviderRegistry;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -53,6 +53,8 @@ import static org.mockito.Mockito.when;
 @PrepareForTest(TinylogLogger.class)
 public final class TinylogLoggerTest {
 
+	private static final String LOGGER_NAME = TinylogLoggerTest.class.getName();
+
 	/**
 	 * Activates PowerMock (alternative to {@link PowerMockRunner}).
 	 */
@@ -67,7 +69,7 @@ public final class TinylogLoggerTest {
 	private boolean warnEnabled;
 	private boolean errorEnabled;
 
-	private LoggingProvider provider;
+	private ClassAwareLoggingProvider provider;
 	private TinylogLogger logger;
 
 	/**
@@ -121,21 +123,17 @@ public final class TinylogLoggerTest {
 	 */
 	@Before
 	public void init() {
-		provider = mock(LoggingProvider.class);
-		when(provider.getMinimumLevel(null)).thenReturn(level);
-		when(provider.isEnabled(anyInt(), eq(null), eq(Level.TRACE))).thenReturn(traceEnabled);
-		when(provider.isEnabled(anyInt(), eq(null), eq(Level.DEBUG))).thenReturn(debugEnabled);
-		when(provider.isEnabled(anyInt(), eq(null), eq(Level.INFO))).thenReturn(infoEnabled);
-		when(provider.isEnabled(anyInt(), eq(null), eq(Level.WARN))).thenReturn(warnEnabled);
-		when(provider.isEnabled(anyInt(), eq(null), eq(Level.ERROR))).thenReturn(errorEnabled);
-
-		logger = new TinylogLogger(TinylogLoggerTest.class.getName());
-		Whitebox.setInternalState(TinylogLogger.class, "MINIMUM_LEVEL_COVERS_TRACE", traceEnabled);
-		Whitebox.setInternalState(TinylogLogger.class, "MINIMUM_LEVEL_COVERS_DEBUG", debugEnabled);
-		Whitebox.setInternalState(TinylogLogger.class, "MINIMUM_LEVEL_COVERS_INFO", infoEnabled);
-		Whitebox.setInternalState(TinylogLogger.class, "MINIMUM_LEVEL_COVERS_WARN", warnEnabled);
-		Whitebox.setInternalState(TinylogLogger.class, "MINIMUM_LEVEL_COVERS_ERROR", errorEnabled);
+		provider = mock(ClassAwareLoggingProvider.class);
+		when(provider.getMinimumLevel(LOGGER_NAME, null)).thenReturn(level);
+		when(provider.isEnabled(anyInt(), eq(LOGGER_NAME), eq(null), eq(Level.TRACE))).thenReturn(traceEnabled);
+		when(provider.isEnabled(anyInt(), eq(LOGGER_NAME), eq(null), eq(Level.DEBUG))).thenReturn(debugEnabled);
+		when(provider.isEnabled(anyInt(), eq(LOGGER_NAME), eq(null), eq(Level.INFO))).thenReturn(infoEnabled);
+		when(provider.isEnabled(anyInt(), eq(LOGGER_NAME), eq(null), eq(Level.WARN))).thenReturn(warnEnabled);
+		when(provider.isEnabled(anyInt(), eq(LOGGER_NAME), eq(null), eq(Level.ERROR))).thenReturn(errorEnabled);
+
 		Whitebox.setInternalState(TinylogLogger.class, provider);
+
+		logger = new TinylogLogger(LOGGER_NAME);
 	}
 
 	/**
@@ -143,7 +141,7 @@ public final class TinylogLoggerTest {
 	 */
 	@After
 	public void reset() {
-		Whitebox.setInternalState(TinylogLogger.class, ProviderRegistry.getLoggingProvider());
+		Whitebox.setInternalState(TinylogLogger.class, ProviderRegistry.getClassAwareLoggingProvider());
 	}
 
 	/**
@@ -175,9 +173,9 @@ public final class TinylogLoggerTest {
 		logger.trace(42);
 
 		if (traceEnabled) {
-			verify(provider).log(2, null, Level.TRACE, null, null, 42, (Object[]) null);
+			verify(provider).log(2, LOGGER_NAME, null, Level.TRACE, null, null, 42, (Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -191,9 +189,9 @@ public final class TinylogLoggerTest {
 		logger.trace("Boom!", exception);
 
 		if (traceEnabled) {
-			verify(provider).log(2, null, Level.TRACE, exception, null, "Boom!", (Object[]) null);
+			verify(provider).log(2, LOGGER_NAME, null, Level.TRACE, exception, null, "Boom!", (Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -208,9 +206,10 @@ public final class TinylogLoggerTest {
 		logger.trace(TinylogLoggerTest.class.getName(), "Boom!", exception);
 
 		if (traceEnabled) {
-			verify(provider).log(TinylogLoggerTest.class.getName(), null, Level.TRACE, exception, null, "Boom!", (Object[]) null);
+			verify(provider).log(TinylogLoggerTest.class.getName(), LOGGER_NAME, null, Level.TRACE, exception, null, "Boom!",
+					(Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -225,10 +224,10 @@ public final class TinylogLoggerTest {
 		logger.trace(TinylogLoggerTest.class.getName(), "Hello {0}!", new Object[] { "Error" }, exception);
 
 		if (traceEnabled) {
-			verify(provider).log(eq(TinylogLoggerTest.class.getName()), isNull(), eq(Level.TRACE), same(exception),
-					any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"), eq("Error"));
+			verify(provider).log(eq(TinylogLoggerTest.class.getName()), eq(LOGGER_NAME), isNull(), eq(Level.TRACE),
+					same(exception), any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"), eq("Error"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -241,10 +240,10 @@ public final class TinylogLoggerTest {
 		logger.tracev("{0}, {1}, {2} or {3}", 1, 2, 3, 4);
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(null), any(JavaTextMessageFormatFormatter.class),
-					eq("{0}, {1}, {2} or {3}"), eq(1), eq(2), eq(3), eq(4));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(null),
+					any(JavaTextMessageFormatFormatter.class), eq("{0}, {1}, {2} or {3}"), eq(1), eq(2), eq(3), eq(4));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -257,10 +256,10 @@ public final class TinylogLoggerTest {
 		logger.tracev("Hello {0}!", "World");
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(null), any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"),
-					eq("World"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(null),
+					any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"), eq("World"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -272,10 +271,10 @@ public final class TinylogLoggerTest {
 		logger.tracev("{0} = {1}", "magic", 42);
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(null), any(JavaTextMessageFormatFormatter.class), eq("{0} = {1}"),
-					eq("magic"), eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(null),
+					any(JavaTextMessageFormatFormatter.class), eq("{0} = {1}"), eq("magic"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -288,10 +287,10 @@ public final class TinylogLoggerTest {
 		logger.tracev("{0}, {1} or {2}", 1, 2, 3);
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(null), any(JavaTextMessageFormatFormatter.class),
-					eq("{0}, {1} or {2}"), eq(1), eq(2), eq(3));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(null),
+					any(JavaTextMessageFormatFormatter.class), eq("{0}, {1} or {2}"), eq(1), eq(2), eq(3));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -306,10 +305,10 @@ public final class TinylogLoggerTest {
 		logger.tracev(exception, "{0}, {1}, {2} or {3}", 1, 2, 3, 4);
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(exception), any(JavaTextMessageFormatFormatter.class),
-					eq("{0}, {1}, {2} or {3}"), eq(1), eq(2), eq(3), eq(4));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(exception),
+					any(JavaTextMessageFormatFormatter.class), eq("{0}, {1}, {2} or {3}"), eq(1), eq(2), eq(3), eq(4));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -324,10 +323,10 @@ public final class TinylogLoggerTest {
 		logger.tracev(exception, "Hello {0}!", "Error");
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(exception), any(JavaTextMessageFormatFormatter.class),
-					eq("Hello {0}!"), eq("Error"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(exception),
+					any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"), eq("Error"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -342,10 +341,10 @@ public final class TinylogLoggerTest {
 		logger.tracev(exception, "{0} = {1}", "magic", 42);
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(exception), any(JavaTextMessageFormatFormatter.class),
-					eq("{0} = {1}"), eq("magic"), eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(exception),
+					any(JavaTextMessageFormatFormatter.class), eq("{0} = {1}"), eq("magic"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -360,10 +359,10 @@ public final class TinylogLoggerTest {
 		logger.tracev(exception, "{0}, {1} or {2}", 1, 2, 3);
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(exception), any(JavaTextMessageFormatFormatter.class),
-					eq("{0}, {1} or {2}"), eq(1), eq(2), eq(3));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(exception),
+					any(JavaTextMessageFormatFormatter.class), eq("{0}, {1} or {2}"), eq(1), eq(2), eq(3));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -376,10 +375,10 @@ public final class TinylogLoggerTest {
 		logger.tracef("%s, %s, %s or %s", "one", "two", "three", "four");
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(null), any(PrintfStyleFormatter.class), eq("%s, %s, %s or %s"),
-					eq("one"), eq("two"), eq("three"), eq("four"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(null), any(PrintfStyleFormatter.class),
+					eq("%s, %s, %s or %s"), eq("one"), eq("two"), eq("three"), eq("four"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -392,10 +391,10 @@ public final class TinylogLoggerTest {
 		logger.tracef("Hello %s!", "World");
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(null), any(PrintfStyleFormatter.class), eq("Hello %s!"),
-					eq("World"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(null), any(PrintfStyleFormatter.class),
+					eq("Hello %s!"), eq("World"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -408,10 +407,10 @@ public final class TinylogLoggerTest {
 		logger.tracef("%s = %d", "magic", 42);
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(null), any(PrintfStyleFormatter.class), eq("%s = %d"), eq("magic"),
-					eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(null), any(PrintfStyleFormatter.class),
+					eq("%s = %d"), eq("magic"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -424,10 +423,10 @@ public final class TinylogLoggerTest {
 		logger.tracef("%s, %s or %s", "one", "two", "three");
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(null), any(PrintfStyleFormatter.class), eq("%s, %s or %s"),
-					eq("one"), eq("two"), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(null), any(PrintfStyleFormatter.class),
+					eq("%s, %s or %s"), eq("one"), eq("two"), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -442,10 +441,10 @@ public final class TinylogLoggerTest {
 		logger.tracef(exception, "%s, %s, %s or %s", "one", "two", "three", "four");
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(exception), any(PrintfStyleFormatter.class), eq("%s, %s, %s or %s"),
-					eq("one"), eq("two"), eq("three"), eq("four"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(exception),
+					any(PrintfStyleFormatter.class), eq("%s, %s, %s or %s"), eq("one"), eq("two"), eq("three"), eq("four"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -460,10 +459,10 @@ public final class TinylogLoggerTest {
 		logger.tracef(exception, "Hello %s!", "World");
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(exception), any(PrintfStyleFormatter.class), eq("Hello %s!"),
-					eq("World"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(exception),
+					any(PrintfStyleFormatter.class), eq("Hello %s!"), eq("World"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -478,10 +477,10 @@ public final class TinylogLoggerTest {
 		logger.tracef(exception, "%s = %d", "magic", 42);
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(exception), any(PrintfStyleFormatter.class), eq("%s = %d"),
-					eq("magic"), eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(exception),
+					any(PrintfStyleFormatter.class), eq("%s = %d"), eq("magic"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -496,10 +495,10 @@ public final class TinylogLoggerTest {
 		logger.tracef(exception, "%s, %s or %s", "one", "two", "three");
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(exception), any(PrintfStyleFormatter.class), eq("%s, %s or %s"),
-					eq("one"), eq("two"), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(exception),
+					any(PrintfStyleFormatter.class), eq("%s, %s or %s"), eq("one"), eq("two"), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -512,9 +511,10 @@ public final class TinylogLoggerTest {
 		logger.tracef("Hello %d!", 42);
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(null), any(PrintfStyleFormatter.class), eq("Hello %d!"), eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(null), any(PrintfStyleFormatter.class),
+					eq("Hello %d!"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -527,10 +527,10 @@ public final class TinylogLoggerTest {
 		logger.tracef("%d + %d", 1, 2);
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(null), any(PrintfStyleFormatter.class), eq("%d + %d"), eq(1),
-					eq(2));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(null), any(PrintfStyleFormatter.class),
+					eq("%d + %d"), eq(1), eq(2));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -543,10 +543,10 @@ public final class TinylogLoggerTest {
 		logger.tracef("%d = %s", 42, "magic");
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(null), any(PrintfStyleFormatter.class), eq("%d = %s"), eq(42),
-					eq("magic"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(null), any(PrintfStyleFormatter.class),
+					eq("%d = %s"), eq(42), eq("magic"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -559,10 +559,10 @@ public final class TinylogLoggerTest {
 		logger.tracef("%d + %d = %d", 1, 2, 3);
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(null), any(PrintfStyleFormatter.class), eq("%d + %d = %d"), eq(1),
-					eq(2), eq(3));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(null), any(PrintfStyleFormatter.class),
+					eq("%d + %d = %d"), eq(1), eq(2), eq(3));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -575,10 +575,10 @@ public final class TinylogLoggerTest {
 		logger.tracef("%d + %d = %s", 1, 2, "three");
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(null), any(PrintfStyleFormatter.class), eq("%d + %d = %s"), eq(1),
-					eq(2), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(null), any(PrintfStyleFormatter.class),
+					eq("%d + %d = %s"), eq(1), eq(2), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -591,10 +591,10 @@ public final class TinylogLoggerTest {
 		logger.tracef("%d = %s + %s", 3, "one", "two");
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(null), any(PrintfStyleFormatter.class), eq("%d = %s + %s"), eq(3),
-					eq("one"), eq("two"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(null), any(PrintfStyleFormatter.class),
+					eq("%d = %s + %s"), eq(3), eq("one"), eq("two"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -609,10 +609,10 @@ public final class TinylogLoggerTest {
 		logger.tracef(exception, "Hello %d!", 42);
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(exception), any(PrintfStyleFormatter.class), eq("Hello %d!"),
-					eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(exception),
+					any(PrintfStyleFormatter.class), eq("Hello %d!"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -627,10 +627,10 @@ public final class TinylogLoggerTest {
 		logger.tracef(exception, "%d + %d", 1, 2);
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(exception), any(PrintfStyleFormatter.class), eq("%d + %d"), eq(1),
-					eq(2));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d + %d"), eq(1), eq(2));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -645,10 +645,10 @@ public final class TinylogLoggerTest {
 		logger.tracef(exception, "%d = %s", 42, "magic");
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(exception), any(PrintfStyleFormatter.class), eq("%d = %s"), eq(42),
-					eq("magic"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d = %s"), eq(42), eq("magic"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -663,10 +663,10 @@ public final class TinylogLoggerTest {
 		logger.tracef(exception, "%d + %d = %d", 1, 2, 3);
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(exception), any(PrintfStyleFormatter.class), eq("%d + %d = %d"),
-					eq(1), eq(2), eq(3));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d + %d = %d"), eq(1), eq(2), eq(3));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -681,10 +681,10 @@ public final class TinylogLoggerTest {
 		logger.tracef(exception, "%d + %d = %s", 1, 2, "three");
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(exception), any(PrintfStyleFormatter.class), eq("%d + %d = %s"),
-					eq(1), eq(2), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d + %d = %s"), eq(1), eq(2), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -699,10 +699,10 @@ public final class TinylogLoggerTest {
 		logger.tracef(exception, "%d = %s + %s", 3, "one", "two");
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(exception), any(PrintfStyleFormatter.class), eq("%d = %s + %s"),
-					eq(3), eq("one"), eq("two"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d = %s + %s"), eq(3), eq("one"), eq("two"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -715,9 +715,10 @@ public final class TinylogLoggerTest {
 		logger.tracef("Hello %d!", 42L);
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(null), any(PrintfStyleFormatter.class), eq("Hello %d!"), eq(42L));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(null), any(PrintfStyleFormatter.class),
+					eq("Hello %d!"), eq(42L));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -730,10 +731,10 @@ public final class TinylogLoggerTest {
 		logger.tracef("%d + %d", 1L, 2L);
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(null), any(PrintfStyleFormatter.class), eq("%d + %d"), eq(1L),
-					eq(2L));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(null), any(PrintfStyleFormatter.class),
+					eq("%d + %d"), eq(1L), eq(2L));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -746,10 +747,10 @@ public final class TinylogLoggerTest {
 		logger.tracef("%d = %s", 42L, "magic");
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(null), any(PrintfStyleFormatter.class), eq("%d = %s"), eq(42L),
-					eq("magic"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(null), any(PrintfStyleFormatter.class),
+					eq("%d = %s"), eq(42L), eq("magic"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -762,10 +763,10 @@ public final class TinylogLoggerTest {
 		logger.tracef("%d + %d = %d", 1L, 2L, 3L);
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(null), any(PrintfStyleFormatter.class), eq("%d + %d = %d"), eq(1L),
-					eq(2L), eq(3L));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(null), any(PrintfStyleFormatter.class),
+					eq("%d + %d = %d"), eq(1L), eq(2L), eq(3L));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -778,10 +779,10 @@ public final class TinylogLoggerTest {
 		logger.tracef("%d + %d = %s", 1L, 2L, "three");
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(null), any(PrintfStyleFormatter.class), eq("%d + %d = %s"), eq(1L),
-					eq(2L), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(null), any(PrintfStyleFormatter.class),
+					eq("%d + %d = %s"), eq(1L), eq(2L), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -794,10 +795,10 @@ public final class TinylogLoggerTest {
 		logger.tracef("%d = %s + %s", 3L, "one", "two");
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(null), any(PrintfStyleFormatter.class), eq("%d = %s + %s"), eq(3L),
-					eq("one"), eq("two"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(null), any(PrintfStyleFormatter.class),
+					eq("%d = %s + %s"), eq(3L), eq("one"), eq("two"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -812,10 +813,10 @@ public final class TinylogLoggerTest {
 		logger.tracef(exception, "Hello %d!", 42L);
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(exception), any(PrintfStyleFormatter.class), eq("Hello %d!"),
-					eq(42L));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(exception),
+					any(PrintfStyleFormatter.class), eq("Hello %d!"), eq(42L));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -830,10 +831,10 @@ public final class TinylogLoggerTest {
 		logger.tracef(exception, "%d + %d", 1L, 2L);
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(exception), any(PrintfStyleFormatter.class), eq("%d + %d"), eq(1L),
-					eq(2L));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d + %d"), eq(1L), eq(2L));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -848,10 +849,10 @@ public final class TinylogLoggerTest {
 		logger.tracef(exception, "%d = %s", 42L, "magic");
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(exception), any(PrintfStyleFormatter.class), eq("%d = %s"), eq(42L),
-					eq("magic"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d = %s"), eq(42L), eq("magic"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -866,10 +867,10 @@ public final class TinylogLoggerTest {
 		logger.tracef(exception, "%d + %d = %d", 1L, 2L, 3L);
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(exception), any(PrintfStyleFormatter.class), eq("%d + %d = %d"),
-					eq(1L), eq(2L), eq(3L));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d + %d = %d"), eq(1L), eq(2L), eq(3L));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -884,10 +885,10 @@ public final class TinylogLoggerTest {
 		logger.tracef(exception, "%d + %d = %s", 1L, 2L, "three");
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(exception), any(PrintfStyleFormatter.class), eq("%d + %d = %s"),
-					eq(1L), eq(2L), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d + %d = %s"), eq(1L), eq(2L), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -902,10 +903,10 @@ public final class TinylogLoggerTest {
 		logger.tracef(exception, "%d = %s + %s", 3L, "one", "two");
 
 		if (traceEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(exception), any(PrintfStyleFormatter.class), eq("%d = %s + %s"),
-					eq(3L), eq("one"), eq("two"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d = %s + %s"), eq(3L), eq("one"), eq("two"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -925,9 +926,9 @@ public final class TinylogLoggerTest {
 		logger.debug(42);
 
 		if (debugEnabled) {
-			verify(provider).log(2, null, Level.DEBUG, null, null, 42, (Object[]) null);
+			verify(provider).log(2, LOGGER_NAME, null, Level.DEBUG, null, null, 42, (Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -941,9 +942,9 @@ public final class TinylogLoggerTest {
 		logger.debug("Boom!", exception);
 
 		if (debugEnabled) {
-			verify(provider).log(2, null, Level.DEBUG, exception, null, "Boom!", (Object[]) null);
+			verify(provider).log(2, LOGGER_NAME, null, Level.DEBUG, exception, null, "Boom!", (Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -958,9 +959,10 @@ public final class TinylogLoggerTest {
 		logger.debug(TinylogLoggerTest.class.getName(), "Boom!", exception);
 
 		if (debugEnabled) {
-			verify(provider).log(TinylogLoggerTest.class.getName(), null, Level.DEBUG, exception, null, "Boom!", (Object[]) null);
+			verify(provider).log(TinylogLoggerTest.class.getName(), LOGGER_NAME, null, Level.DEBUG, exception, null, "Boom!",
+					(Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -975,10 +977,10 @@ public final class TinylogLoggerTest {
 		logger.debug(TinylogLoggerTest.class.getName(), "Hello {0}!", new Object[] { "Error" }, exception);
 
 		if (debugEnabled) {
-			verify(provider).log(eq(TinylogLoggerTest.class.getName()), isNull(), eq(Level.DEBUG), same(exception),
-					any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"), eq("Error"));
+			verify(provider).log(eq(TinylogLoggerTest.class.getName()), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG),
+					same(exception), any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"), eq("Error"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -991,10 +993,10 @@ public final class TinylogLoggerTest {
 		logger.debugv("{0}, {1}, {2} or {3}", 1, 2, 3, 4);
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(null), any(JavaTextMessageFormatFormatter.class),
-					eq("{0}, {1}, {2} or {3}"), eq(1), eq(2), eq(3), eq(4));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(null),
+					any(JavaTextMessageFormatFormatter.class), eq("{0}, {1}, {2} or {3}"), eq(1), eq(2), eq(3), eq(4));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1007,10 +1009,10 @@ public final class TinylogLoggerTest {
 		logger.debugv("Hello {0}!", "World");
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(null), any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"),
-					eq("World"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(null),
+					any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"), eq("World"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1022,10 +1024,10 @@ public final class TinylogLoggerTest {
 		logger.debugv("{0} = {1}", "magic", 42);
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(null), any(JavaTextMessageFormatFormatter.class), eq("{0} = {1}"),
-					eq("magic"), eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(null),
+					any(JavaTextMessageFormatFormatter.class), eq("{0} = {1}"), eq("magic"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1038,10 +1040,10 @@ public final class TinylogLoggerTest {
 		logger.debugv("{0}, {1} or {2}", 1, 2, 3);
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(null), any(JavaTextMessageFormatFormatter.class),
-					eq("{0}, {1} or {2}"), eq(1), eq(2), eq(3));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(null),
+					any(JavaTextMessageFormatFormatter.class), eq("{0}, {1} or {2}"), eq(1), eq(2), eq(3));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1056,10 +1058,10 @@ public final class TinylogLoggerTest {
 		logger.debugv(exception, "{0}, {1}, {2} or {3}", 1, 2, 3, 4);
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(exception), any(JavaTextMessageFormatFormatter.class),
-					eq("{0}, {1}, {2} or {3}"), eq(1), eq(2), eq(3), eq(4));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(exception),
+					any(JavaTextMessageFormatFormatter.class), eq("{0}, {1}, {2} or {3}"), eq(1), eq(2), eq(3), eq(4));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1074,10 +1076,10 @@ public final class TinylogLoggerTest {
 		logger.debugv(exception, "Hello {0}!", "Error");
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(exception), any(JavaTextMessageFormatFormatter.class),
-					eq("Hello {0}!"), eq("Error"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(exception),
+					any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"), eq("Error"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1092,10 +1094,10 @@ public final class TinylogLoggerTest {
 		logger.debugv(exception, "{0} = {1}", "magic", 42);
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(exception), any(JavaTextMessageFormatFormatter.class),
-					eq("{0} = {1}"), eq("magic"), eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(exception),
+					any(JavaTextMessageFormatFormatter.class), eq("{0} = {1}"), eq("magic"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1110,10 +1112,10 @@ public final class TinylogLoggerTest {
 		logger.debugv(exception, "{0}, {1} or {2}", 1, 2, 3);
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(exception), any(JavaTextMessageFormatFormatter.class),
-					eq("{0}, {1} or {2}"), eq(1), eq(2), eq(3));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(exception),
+					any(JavaTextMessageFormatFormatter.class), eq("{0}, {1} or {2}"), eq(1), eq(2), eq(3));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1126,10 +1128,10 @@ public final class TinylogLoggerTest {
 		logger.debugf("%s, %s, %s or %s", "one", "two", "three", "four");
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class), eq("%s, %s, %s or %s"),
-					eq("one"), eq("two"), eq("three"), eq("four"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class),
+					eq("%s, %s, %s or %s"), eq("one"), eq("two"), eq("three"), eq("four"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1142,10 +1144,10 @@ public final class TinylogLoggerTest {
 		logger.debugf("Hello %s!", "World");
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class), eq("Hello %s!"),
-					eq("World"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class),
+					eq("Hello %s!"), eq("World"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1158,10 +1160,10 @@ public final class TinylogLoggerTest {
 		logger.debugf("%s = %d", "magic", 42);
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class), eq("%s = %d"), eq("magic"),
-					eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class),
+					eq("%s = %d"), eq("magic"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1174,10 +1176,10 @@ public final class TinylogLoggerTest {
 		logger.debugf("%s, %s or %s", "one", "two", "three");
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class), eq("%s, %s or %s"),
-					eq("one"), eq("two"), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class),
+					eq("%s, %s or %s"), eq("one"), eq("two"), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1192,10 +1194,10 @@ public final class TinylogLoggerTest {
 		logger.debugf(exception, "%s, %s, %s or %s", "one", "two", "three", "four");
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(exception), any(PrintfStyleFormatter.class), eq("%s, %s, %s or %s"),
-					eq("one"), eq("two"), eq("three"), eq("four"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(exception),
+					any(PrintfStyleFormatter.class), eq("%s, %s, %s or %s"), eq("one"), eq("two"), eq("three"), eq("four"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1210,10 +1212,10 @@ public final class TinylogLoggerTest {
 		logger.debugf(exception, "Hello %s!", "World");
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(exception), any(PrintfStyleFormatter.class), eq("Hello %s!"),
-					eq("World"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(exception),
+					any(PrintfStyleFormatter.class), eq("Hello %s!"), eq("World"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1228,10 +1230,10 @@ public final class TinylogLoggerTest {
 		logger.debugf(exception, "%s = %d", "magic", 42);
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(exception), any(PrintfStyleFormatter.class), eq("%s = %d"),
-					eq("magic"), eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(exception),
+					any(PrintfStyleFormatter.class), eq("%s = %d"), eq("magic"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1246,10 +1248,10 @@ public final class TinylogLoggerTest {
 		logger.debugf(exception, "%s, %s or %s", "one", "two", "three");
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(exception), any(PrintfStyleFormatter.class), eq("%s, %s or %s"),
-					eq("one"), eq("two"), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(exception),
+					any(PrintfStyleFormatter.class), eq("%s, %s or %s"), eq("one"), eq("two"), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1262,9 +1264,10 @@ public final class TinylogLoggerTest {
 		logger.debugf("Hello %d!", 42);
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class), eq("Hello %d!"), eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class),
+					eq("Hello %d!"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1277,10 +1280,10 @@ public final class TinylogLoggerTest {
 		logger.debugf("%d + %d", 1, 2);
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class), eq("%d + %d"), eq(1),
-					eq(2));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class),
+					eq("%d + %d"), eq(1), eq(2));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1293,10 +1296,10 @@ public final class TinylogLoggerTest {
 		logger.debugf("%d = %s", 42, "magic");
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class), eq("%d = %s"), eq(42),
-					eq("magic"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class),
+					eq("%d = %s"), eq(42), eq("magic"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1309,10 +1312,10 @@ public final class TinylogLoggerTest {
 		logger.debugf("%d + %d = %d", 1, 2, 3);
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class), eq("%d + %d = %d"), eq(1),
-					eq(2), eq(3));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class),
+					eq("%d + %d = %d"), eq(1), eq(2), eq(3));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1325,10 +1328,10 @@ public final class TinylogLoggerTest {
 		logger.debugf("%d + %d = %s", 1, 2, "three");
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class), eq("%d + %d = %s"), eq(1),
-					eq(2), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class),
+					eq("%d + %d = %s"), eq(1), eq(2), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1341,10 +1344,10 @@ public final class TinylogLoggerTest {
 		logger.debugf("%d = %s + %s", 3, "one", "two");
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class), eq("%d = %s + %s"), eq(3),
-					eq("one"), eq("two"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class),
+					eq("%d = %s + %s"), eq(3), eq("one"), eq("two"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1359,10 +1362,10 @@ public final class TinylogLoggerTest {
 		logger.debugf(exception, "Hello %d!", 42);
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(exception), any(PrintfStyleFormatter.class), eq("Hello %d!"),
-					eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(exception),
+					any(PrintfStyleFormatter.class), eq("Hello %d!"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1377,10 +1380,10 @@ public final class TinylogLoggerTest {
 		logger.debugf(exception, "%d + %d", 1, 2);
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(exception), any(PrintfStyleFormatter.class), eq("%d + %d"), eq(1),
-					eq(2));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d + %d"), eq(1), eq(2));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1395,10 +1398,10 @@ public final class TinylogLoggerTest {
 		logger.debugf(exception, "%d = %s", 42, "magic");
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(exception), any(PrintfStyleFormatter.class), eq("%d = %s"), eq(42),
-					eq("magic"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d = %s"), eq(42), eq("magic"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1413,10 +1416,10 @@ public final class TinylogLoggerTest {
 		logger.debugf(exception, "%d + %d = %d", 1, 2, 3);
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(exception), any(PrintfStyleFormatter.class), eq("%d + %d = %d"),
-					eq(1), eq(2), eq(3));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d + %d = %d"), eq(1), eq(2), eq(3));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1431,10 +1434,10 @@ public final class TinylogLoggerTest {
 		logger.debugf(exception, "%d + %d = %s", 1, 2, "three");
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(exception), any(PrintfStyleFormatter.class), eq("%d + %d = %s"),
-					eq(1), eq(2), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d + %d = %s"), eq(1), eq(2), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1449,10 +1452,10 @@ public final class TinylogLoggerTest {
 		logger.debugf(exception, "%d = %s + %s", 3, "one", "two");
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(exception), any(PrintfStyleFormatter.class), eq("%d = %s + %s"),
-					eq(3), eq("one"), eq("two"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d = %s + %s"), eq(3), eq("one"), eq("two"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1465,9 +1468,10 @@ public final class TinylogLoggerTest {
 		logger.debugf("Hello %d!", 42L);
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class), eq("Hello %d!"), eq(42L));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class),
+					eq("Hello %d!"), eq(42L));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1480,10 +1484,10 @@ public final class TinylogLoggerTest {
 		logger.debugf("%d + %d", 1L, 2L);
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class), eq("%d + %d"), eq(1L),
-					eq(2L));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class),
+					eq("%d + %d"), eq(1L), eq(2L));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1496,10 +1500,10 @@ public final class TinylogLoggerTest {
 		logger.debugf("%d = %s", 42L, "magic");
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class), eq("%d = %s"), eq(42L),
-					eq("magic"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class),
+					eq("%d = %s"), eq(42L), eq("magic"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1512,10 +1516,10 @@ public final class TinylogLoggerTest {
 		logger.debugf("%d + %d = %d", 1L, 2L, 3L);
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class), eq("%d + %d = %d"), eq(1L),
-					eq(2L), eq(3L));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class),
+					eq("%d + %d = %d"), eq(1L), eq(2L), eq(3L));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1528,10 +1532,10 @@ public final class TinylogLoggerTest {
 		logger.debugf("%d + %d = %s", 1L, 2L, "three");
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class), eq("%d + %d = %s"), eq(1L),
-					eq(2L), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class),
+					eq("%d + %d = %s"), eq(1L), eq(2L), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1544,10 +1548,10 @@ public final class TinylogLoggerTest {
 		logger.debugf("%d = %s + %s", 3L, "one", "two");
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class), eq("%d = %s + %s"), eq(3L),
-					eq("one"), eq("two"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class),
+					eq("%d = %s + %s"), eq(3L), eq("one"), eq("two"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1562,10 +1566,10 @@ public final class TinylogLoggerTest {
 		logger.debugf(exception, "Hello %d!", 42L);
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(exception), any(PrintfStyleFormatter.class), eq("Hello %d!"),
-					eq(42L));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(exception),
+					any(PrintfStyleFormatter.class), eq("Hello %d!"), eq(42L));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1580,10 +1584,10 @@ public final class TinylogLoggerTest {
 		logger.debugf(exception, "%d + %d", 1L, 2L);
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(exception), any(PrintfStyleFormatter.class), eq("%d + %d"), eq(1L),
-					eq(2L));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d + %d"), eq(1L), eq(2L));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1598,10 +1602,10 @@ public final class TinylogLoggerTest {
 		logger.debugf(exception, "%d = %s", 42L, "magic");
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(exception), any(PrintfStyleFormatter.class), eq("%d = %s"), eq(42L),
-					eq("magic"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d = %s"), eq(42L), eq("magic"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1616,10 +1620,10 @@ public final class TinylogLoggerTest {
 		logger.debugf(exception, "%d + %d = %d", 1L, 2L, 3L);
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(exception), any(PrintfStyleFormatter.class), eq("%d + %d = %d"),
-					eq(1L), eq(2L), eq(3L));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d + %d = %d"), eq(1L), eq(2L), eq(3L));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1634,10 +1638,10 @@ public final class TinylogLoggerTest {
 		logger.debugf(exception, "%d + %d = %s", 1L, 2L, "three");
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(exception), any(PrintfStyleFormatter.class), eq("%d + %d = %s"),
-					eq(1L), eq(2L), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d + %d = %s"), eq(1L), eq(2L), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1652,10 +1656,10 @@ public final class TinylogLoggerTest {
 		logger.debugf(exception, "%d = %s + %s", 3L, "one", "two");
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(exception), any(PrintfStyleFormatter.class), eq("%d = %s + %s"),
-					eq(3L), eq("one"), eq("two"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d = %s + %s"), eq(3L), eq("one"), eq("two"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1675,9 +1679,9 @@ public final class TinylogLoggerTest {
 		logger.info(42);
 
 		if (infoEnabled) {
-			verify(provider).log(2, null, Level.INFO, null, null, 42, (Object[]) null);
+			verify(provider).log(2, LOGGER_NAME, null, Level.INFO, null, null, 42, (Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1691,9 +1695,9 @@ public final class TinylogLoggerTest {
 		logger.info("Boom!", exception);
 
 		if (infoEnabled) {
-			verify(provider).log(2, null, Level.INFO, exception, null, "Boom!", (Object[]) null);
+			verify(provider).log(2, LOGGER_NAME, null, Level.INFO, exception, null, "Boom!", (Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1708,9 +1712,10 @@ public final class TinylogLoggerTest {
 		logger.info(TinylogLoggerTest.class.getName(), "Boom!", exception);
 
 		if (infoEnabled) {
-			verify(provider).log(TinylogLoggerTest.class.getName(), null, Level.INFO, exception, null, "Boom!", (Object[]) null);
+			verify(provider).log(TinylogLoggerTest.class.getName(), LOGGER_NAME, null, Level.INFO, exception, null, "Boom!",
+					(Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1725,10 +1730,10 @@ public final class TinylogLoggerTest {
 		logger.info(TinylogLoggerTest.class.getName(), "Hello {0}!", new Object[] { "Error" }, exception);
 
 		if (infoEnabled) {
-			verify(provider).log(eq(TinylogLoggerTest.class.getName()), isNull(), eq(Level.INFO), same(exception),
-					any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"), eq("Error"));
+			verify(provider).log(eq(TinylogLoggerTest.class.getName()), eq(LOGGER_NAME), isNull(), eq(Level.INFO),
+					same(exception), any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"), eq("Error"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1741,10 +1746,10 @@ public final class TinylogLoggerTest {
 		logger.infov("{0}, {1}, {2} or {3}", 1, 2, 3, 4);
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(null), any(JavaTextMessageFormatFormatter.class),
-					eq("{0}, {1}, {2} or {3}"), eq(1), eq(2), eq(3), eq(4));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(null),
+					any(JavaTextMessageFormatFormatter.class), eq("{0}, {1}, {2} or {3}"), eq(1), eq(2), eq(3), eq(4));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1757,10 +1762,10 @@ public final class TinylogLoggerTest {
 		logger.infov("Hello {0}!", "World");
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(null), any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"),
-					eq("World"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(null),
+					any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"), eq("World"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1772,10 +1777,10 @@ public final class TinylogLoggerTest {
 		logger.infov("{0} = {1}", "magic", 42);
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(null), any(JavaTextMessageFormatFormatter.class), eq("{0} = {1}"),
-					eq("magic"), eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(null),
+					any(JavaTextMessageFormatFormatter.class), eq("{0} = {1}"), eq("magic"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1787,10 +1792,10 @@ public final class TinylogLoggerTest {
 		logger.infov("{0}, {1} or {2}", 1, 2, 3);
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(null), any(JavaTextMessageFormatFormatter.class),
-					eq("{0}, {1} or {2}"), eq(1), eq(2), eq(3));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(null),
+					any(JavaTextMessageFormatFormatter.class), eq("{0}, {1} or {2}"), eq(1), eq(2), eq(3));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1805,10 +1810,10 @@ public final class TinylogLoggerTest {
 		logger.infov(exception, "{0}, {1}, {2} or {3}", 1, 2, 3, 4);
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(exception), any(JavaTextMessageFormatFormatter.class),
-					eq("{0}, {1}, {2} or {3}"), eq(1), eq(2), eq(3), eq(4));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(exception),
+					any(JavaTextMessageFormatFormatter.class), eq("{0}, {1}, {2} or {3}"), eq(1), eq(2), eq(3), eq(4));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1823,10 +1828,10 @@ public final class TinylogLoggerTest {
 		logger.infov(exception, "Hello {0}!", "Error");
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(exception), any(JavaTextMessageFormatFormatter.class),
-					eq("Hello {0}!"), eq("Error"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(exception),
+					any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"), eq("Error"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1841,10 +1846,10 @@ public final class TinylogLoggerTest {
 		logger.infov(exception, "{0} = {1}", "magic", 42);
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(exception), any(JavaTextMessageFormatFormatter.class),
-					eq("{0} = {1}"), eq("magic"), eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(exception),
+					any(JavaTextMessageFormatFormatter.class), eq("{0} = {1}"), eq("magic"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1859,10 +1864,10 @@ public final class TinylogLoggerTest {
 		logger.infov(exception, "{0}, {1} or {2}", 1, 2, 3);
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(exception), any(JavaTextMessageFormatFormatter.class),
-					eq("{0}, {1} or {2}"), eq(1), eq(2), eq(3));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(exception),
+					any(JavaTextMessageFormatFormatter.class), eq("{0}, {1} or {2}"), eq(1), eq(2), eq(3));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1875,10 +1880,10 @@ public final class TinylogLoggerTest {
 		logger.infof("%s, %s, %s or %s", "one", "two", "three", "four");
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(null), any(PrintfStyleFormatter.class), eq("%s, %s, %s or %s"),
-					eq("one"), eq("two"), eq("three"), eq("four"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(null), any(PrintfStyleFormatter.class),
+					eq("%s, %s, %s or %s"), eq("one"), eq("two"), eq("three"), eq("four"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1891,10 +1896,10 @@ public final class TinylogLoggerTest {
 		logger.infof("Hello %s!", "World");
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(null), any(PrintfStyleFormatter.class), eq("Hello %s!"),
-					eq("World"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(null), any(PrintfStyleFormatter.class),
+					eq("Hello %s!"), eq("World"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1907,10 +1912,10 @@ public final class TinylogLoggerTest {
 		logger.infof("%s = %d", "magic", 42);
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(null), any(PrintfStyleFormatter.class), eq("%s = %d"), eq("magic"),
-					eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(null), any(PrintfStyleFormatter.class),
+					eq("%s = %d"), eq("magic"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1923,10 +1928,10 @@ public final class TinylogLoggerTest {
 		logger.infof("%s, %s or %s", "one", "two", "three");
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(null), any(PrintfStyleFormatter.class), eq("%s, %s or %s"),
-					eq("one"), eq("two"), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(null), any(PrintfStyleFormatter.class),
+					eq("%s, %s or %s"), eq("one"), eq("two"), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1941,10 +1946,10 @@ public final class TinylogLoggerTest {
 		logger.infof(exception, "%s, %s, %s or %s", "one", "two", "three", "four");
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(exception), any(PrintfStyleFormatter.class), eq("%s, %s, %s or %s"),
-					eq("one"), eq("two"), eq("three"), eq("four"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(exception),
+					any(PrintfStyleFormatter.class), eq("%s, %s, %s or %s"), eq("one"), eq("two"), eq("three"), eq("four"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1959,10 +1964,10 @@ public final class TinylogLoggerTest {
 		logger.infof(exception, "Hello %s!", "World");
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(exception), any(PrintfStyleFormatter.class), eq("Hello %s!"),
-					eq("World"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(exception),
+					any(PrintfStyleFormatter.class), eq("Hello %s!"), eq("World"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1977,10 +1982,10 @@ public final class TinylogLoggerTest {
 		logger.infof(exception, "%s = %d", "magic", 42);
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(exception), any(PrintfStyleFormatter.class), eq("%s = %d"),
-					eq("magic"), eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(exception),
+					any(PrintfStyleFormatter.class), eq("%s = %d"), eq("magic"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -1995,10 +2000,10 @@ public final class TinylogLoggerTest {
 		logger.infof(exception, "%s, %s or %s", "one", "two", "three");
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(exception), any(PrintfStyleFormatter.class), eq("%s, %s or %s"),
-					eq("one"), eq("two"), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(exception),
+					any(PrintfStyleFormatter.class), eq("%s, %s or %s"), eq("one"), eq("two"), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2011,9 +2016,10 @@ public final class TinylogLoggerTest {
 		logger.infof("Hello %d!", 42);
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(null), any(PrintfStyleFormatter.class), eq("Hello %d!"), eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(null), any(PrintfStyleFormatter.class),
+					eq("Hello %d!"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2026,9 +2032,10 @@ public final class TinylogLoggerTest {
 		logger.infof("%d + %d", 1, 2);
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(null), any(PrintfStyleFormatter.class), eq("%d + %d"), eq(1), eq(2));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(null), any(PrintfStyleFormatter.class),
+					eq("%d + %d"), eq(1), eq(2));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2041,10 +2048,10 @@ public final class TinylogLoggerTest {
 		logger.infof("%d = %s", 42, "magic");
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(null), any(PrintfStyleFormatter.class), eq("%d = %s"), eq(42),
-					eq("magic"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(null), any(PrintfStyleFormatter.class),
+					eq("%d = %s"), eq(42), eq("magic"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2057,10 +2064,10 @@ public final class TinylogLoggerTest {
 		logger.infof("%d + %d = %d", 1, 2, 3);
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(null), any(PrintfStyleFormatter.class), eq("%d + %d = %d"), eq(1),
-					eq(2), eq(3));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(null), any(PrintfStyleFormatter.class),
+					eq("%d + %d = %d"), eq(1), eq(2), eq(3));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2073,10 +2080,10 @@ public final class TinylogLoggerTest {
 		logger.infof("%d + %d = %s", 1, 2, "three");
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(null), any(PrintfStyleFormatter.class), eq("%d + %d = %s"), eq(1),
-					eq(2), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(null), any(PrintfStyleFormatter.class),
+					eq("%d + %d = %s"), eq(1), eq(2), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2089,10 +2096,10 @@ public final class TinylogLoggerTest {
 		logger.infof("%d = %s + %s", 3, "one", "two");
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(null), any(PrintfStyleFormatter.class), eq("%d = %s + %s"), eq(3),
-					eq("one"), eq("two"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(null), any(PrintfStyleFormatter.class),
+					eq("%d = %s + %s"), eq(3), eq("one"), eq("two"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2107,10 +2114,10 @@ public final class TinylogLoggerTest {
 		logger.infof(exception, "Hello %d!", 42);
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(exception), any(PrintfStyleFormatter.class), eq("Hello %d!"),
-					eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(exception),
+					any(PrintfStyleFormatter.class), eq("Hello %d!"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2125,10 +2132,10 @@ public final class TinylogLoggerTest {
 		logger.infof(exception, "%d + %d", 1, 2);
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(exception), any(PrintfStyleFormatter.class), eq("%d + %d"), eq(1),
-					eq(2));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d + %d"), eq(1), eq(2));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2143,10 +2150,10 @@ public final class TinylogLoggerTest {
 		logger.infof(exception, "%d = %s", 42, "magic");
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(exception), any(PrintfStyleFormatter.class), eq("%d = %s"), eq(42),
-					eq("magic"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d = %s"), eq(42), eq("magic"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2161,10 +2168,10 @@ public final class TinylogLoggerTest {
 		logger.infof(exception, "%d + %d = %d", 1, 2, 3);
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(exception), any(PrintfStyleFormatter.class), eq("%d + %d = %d"),
-					eq(1), eq(2), eq(3));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d + %d = %d"), eq(1), eq(2), eq(3));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2179,10 +2186,10 @@ public final class TinylogLoggerTest {
 		logger.infof(exception, "%d + %d = %s", 1, 2, "three");
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(exception), any(PrintfStyleFormatter.class), eq("%d + %d = %s"),
-					eq(1), eq(2), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d + %d = %s"), eq(1), eq(2), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2197,10 +2204,10 @@ public final class TinylogLoggerTest {
 		logger.infof(exception, "%d = %s + %s", 3, "one", "two");
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(exception), any(PrintfStyleFormatter.class), eq("%d = %s + %s"),
-					eq(3), eq("one"), eq("two"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d = %s + %s"), eq(3), eq("one"), eq("two"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2213,9 +2220,10 @@ public final class TinylogLoggerTest {
 		logger.infof("Hello %d!", 42L);
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(null), any(PrintfStyleFormatter.class), eq("Hello %d!"), eq(42L));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(null), any(PrintfStyleFormatter.class),
+					eq("Hello %d!"), eq(42L));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2228,10 +2236,10 @@ public final class TinylogLoggerTest {
 		logger.infof("%d + %d", 1L, 2L);
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(null), any(PrintfStyleFormatter.class), eq("%d + %d"), eq(1L),
-					eq(2L));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(null), any(PrintfStyleFormatter.class),
+					eq("%d + %d"), eq(1L), eq(2L));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2244,10 +2252,10 @@ public final class TinylogLoggerTest {
 		logger.infof("%d = %s", 42L, "magic");
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(null), any(PrintfStyleFormatter.class), eq("%d = %s"), eq(42L),
-					eq("magic"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(null), any(PrintfStyleFormatter.class),
+					eq("%d = %s"), eq(42L), eq("magic"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2260,10 +2268,10 @@ public final class TinylogLoggerTest {
 		logger.infof("%d + %d = %d", 1L, 2L, 3L);
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(null), any(PrintfStyleFormatter.class), eq("%d + %d = %d"), eq(1L),
-					eq(2L), eq(3L));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(null), any(PrintfStyleFormatter.class),
+					eq("%d + %d = %d"), eq(1L), eq(2L), eq(3L));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2276,10 +2284,10 @@ public final class TinylogLoggerTest {
 		logger.infof("%d + %d = %s", 1L, 2L, "three");
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(null), any(PrintfStyleFormatter.class), eq("%d + %d = %s"), eq(1L),
-					eq(2L), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(null), any(PrintfStyleFormatter.class),
+					eq("%d + %d = %s"), eq(1L), eq(2L), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2292,10 +2300,10 @@ public final class TinylogLoggerTest {
 		logger.infof("%d = %s + %s", 3L, "one", "two");
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(null), any(PrintfStyleFormatter.class), eq("%d = %s + %s"), eq(3L),
-					eq("one"), eq("two"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(null), any(PrintfStyleFormatter.class),
+					eq("%d = %s + %s"), eq(3L), eq("one"), eq("two"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2310,10 +2318,10 @@ public final class TinylogLoggerTest {
 		logger.infof(exception, "Hello %d!", 42L);
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(exception), any(PrintfStyleFormatter.class), eq("Hello %d!"),
-					eq(42L));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(exception),
+					any(PrintfStyleFormatter.class), eq("Hello %d!"), eq(42L));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2328,10 +2336,10 @@ public final class TinylogLoggerTest {
 		logger.infof(exception, "%d + %d", 1L, 2L);
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(exception), any(PrintfStyleFormatter.class), eq("%d + %d"), eq(1L),
-					eq(2L));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d + %d"), eq(1L), eq(2L));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2346,10 +2354,10 @@ public final class TinylogLoggerTest {
 		logger.infof(exception, "%d = %s", 42L, "magic");
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(exception), any(PrintfStyleFormatter.class), eq("%d = %s"), eq(42L),
-					eq("magic"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d = %s"), eq(42L), eq("magic"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2364,10 +2372,10 @@ public final class TinylogLoggerTest {
 		logger.infof(exception, "%d + %d = %d", 1L, 2L, 3L);
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(exception), any(PrintfStyleFormatter.class), eq("%d + %d = %d"),
-					eq(1L), eq(2L), eq(3L));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d + %d = %d"), eq(1L), eq(2L), eq(3L));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2382,10 +2390,10 @@ public final class TinylogLoggerTest {
 		logger.infof(exception, "%d + %d = %s", 1L, 2L, "three");
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(exception), any(PrintfStyleFormatter.class), eq("%d + %d = %s"),
-					eq(1L), eq(2L), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d + %d = %s"), eq(1L), eq(2L), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2400,10 +2408,10 @@ public final class TinylogLoggerTest {
 		logger.infof(exception, "%d = %s + %s", 3L, "one", "two");
 
 		if (infoEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(exception), any(PrintfStyleFormatter.class), eq("%d = %s + %s"),
-					eq(3L), eq("one"), eq("two"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d = %s + %s"), eq(3L), eq("one"), eq("two"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2415,9 +2423,9 @@ public final class TinylogLoggerTest {
 		logger.warn(42);
 
 		if (warnEnabled) {
-			verify(provider).log(2, null, Level.WARN, null, null, 42, (Object[]) null);
+			verify(provider).log(2, LOGGER_NAME, null, Level.WARN, null, null, 42, (Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2431,9 +2439,9 @@ public final class TinylogLoggerTest {
 		logger.warn("Boom!", exception);
 
 		if (warnEnabled) {
-			verify(provider).log(2, null, Level.WARN, exception, null, "Boom!", (Object[]) null);
+			verify(provider).log(2, LOGGER_NAME, null, Level.WARN, exception, null, "Boom!", (Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2448,9 +2456,10 @@ public final class TinylogLoggerTest {
 		logger.warn(TinylogLoggerTest.class.getName(), "Boom!", exception);
 
 		if (warnEnabled) {
-			verify(provider).log(TinylogLoggerTest.class.getName(), null, Level.WARN, exception, null, "Boom!", (Object[]) null);
+			verify(provider).log(TinylogLoggerTest.class.getName(), LOGGER_NAME, null, Level.WARN, exception, null, "Boom!",
+					(Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2465,10 +2474,10 @@ public final class TinylogLoggerTest {
 		logger.warn(TinylogLoggerTest.class.getName(), "Hello {0}!", new Object[] { "Error" }, exception);
 
 		if (warnEnabled) {
-			verify(provider).log(eq(TinylogLoggerTest.class.getName()), isNull(), eq(Level.WARN), same(exception),
-					any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"), eq("Error"));
+			verify(provider).log(eq(TinylogLoggerTest.class.getName()), eq(LOGGER_NAME), isNull(), eq(Level.WARN),
+					same(exception), any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"), eq("Error"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2481,10 +2490,10 @@ public final class TinylogLoggerTest {
 		logger.warnv("{0}, {1}, {2} or {3}", 1, 2, 3, 4);
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(null), any(JavaTextMessageFormatFormatter.class),
-					eq("{0}, {1}, {2} or {3}"), eq(1), eq(2), eq(3), eq(4));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(null),
+					any(JavaTextMessageFormatFormatter.class), eq("{0}, {1}, {2} or {3}"), eq(1), eq(2), eq(3), eq(4));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2497,10 +2506,10 @@ public final class TinylogLoggerTest {
 		logger.warnv("Hello {0}!", "World");
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(null), any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"),
-					eq("World"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(null),
+					any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"), eq("World"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2512,10 +2521,10 @@ public final class TinylogLoggerTest {
 		logger.warnv("{0} = {1}", "magic", 42);
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(null), any(JavaTextMessageFormatFormatter.class), eq("{0} = {1}"),
-					eq("magic"), eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(null),
+					any(JavaTextMessageFormatFormatter.class), eq("{0} = {1}"), eq("magic"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2527,10 +2536,10 @@ public final class TinylogLoggerTest {
 		logger.warnv("{0}, {1} or {2}", 1, 2, 3);
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(null), any(JavaTextMessageFormatFormatter.class),
-					eq("{0}, {1} or {2}"), eq(1), eq(2), eq(3));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(null),
+					any(JavaTextMessageFormatFormatter.class), eq("{0}, {1} or {2}"), eq(1), eq(2), eq(3));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2545,10 +2554,10 @@ public final class TinylogLoggerTest {
 		logger.warnv(exception, "{0}, {1}, {2} or {3}", 1, 2, 3, 4);
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(exception), any(JavaTextMessageFormatFormatter.class),
-					eq("{0}, {1}, {2} or {3}"), eq(1), eq(2), eq(3), eq(4));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(exception),
+					any(JavaTextMessageFormatFormatter.class), eq("{0}, {1}, {2} or {3}"), eq(1), eq(2), eq(3), eq(4));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2563,10 +2572,10 @@ public final class TinylogLoggerTest {
 		logger.warnv(exception, "Hello {0}!", "Error");
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(exception), any(JavaTextMessageFormatFormatter.class),
-					eq("Hello {0}!"), eq("Error"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(exception),
+					any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"), eq("Error"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2581,10 +2590,10 @@ public final class TinylogLoggerTest {
 		logger.warnv(exception, "{0} = {1}", "magic", 42);
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(exception), any(JavaTextMessageFormatFormatter.class),
-					eq("{0} = {1}"), eq("magic"), eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(exception),
+					any(JavaTextMessageFormatFormatter.class), eq("{0} = {1}"), eq("magic"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2599,10 +2608,10 @@ public final class TinylogLoggerTest {
 		logger.warnv(exception, "{0}, {1} or {2}", 1, 2, 3);
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(exception), any(JavaTextMessageFormatFormatter.class),
-					eq("{0}, {1} or {2}"), eq(1), eq(2), eq(3));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(exception),
+					any(JavaTextMessageFormatFormatter.class), eq("{0}, {1} or {2}"), eq(1), eq(2), eq(3));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2615,10 +2624,10 @@ public final class TinylogLoggerTest {
 		logger.warnf("%s, %s, %s or %s", "one", "two", "three", "four");
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class), eq("%s, %s, %s or %s"),
-					eq("one"), eq("two"), eq("three"), eq("four"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class),
+					eq("%s, %s, %s or %s"), eq("one"), eq("two"), eq("three"), eq("four"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2631,10 +2640,10 @@ public final class TinylogLoggerTest {
 		logger.warnf("Hello %s!", "World");
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class), eq("Hello %s!"),
-					eq("World"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class),
+					eq("Hello %s!"), eq("World"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2647,10 +2656,10 @@ public final class TinylogLoggerTest {
 		logger.warnf("%s = %d", "magic", 42);
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class), eq("%s = %d"), eq("magic"),
-					eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class),
+					eq("%s = %d"), eq("magic"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2663,10 +2672,10 @@ public final class TinylogLoggerTest {
 		logger.warnf("%s, %s or %s", "one", "two", "three");
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class), eq("%s, %s or %s"),
-					eq("one"), eq("two"), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class),
+					eq("%s, %s or %s"), eq("one"), eq("two"), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2681,10 +2690,10 @@ public final class TinylogLoggerTest {
 		logger.warnf(exception, "%s, %s, %s or %s", "one", "two", "three", "four");
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(exception), any(PrintfStyleFormatter.class), eq("%s, %s, %s or %s"),
-					eq("one"), eq("two"), eq("three"), eq("four"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(exception),
+					any(PrintfStyleFormatter.class), eq("%s, %s, %s or %s"), eq("one"), eq("two"), eq("three"), eq("four"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2699,10 +2708,10 @@ public final class TinylogLoggerTest {
 		logger.warnf(exception, "Hello %s!", "World");
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(exception), any(PrintfStyleFormatter.class), eq("Hello %s!"),
-					eq("World"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(exception),
+					any(PrintfStyleFormatter.class), eq("Hello %s!"), eq("World"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2717,10 +2726,10 @@ public final class TinylogLoggerTest {
 		logger.warnf(exception, "%s = %d", "magic", 42);
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(exception), any(PrintfStyleFormatter.class), eq("%s = %d"),
-					eq("magic"), eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(exception),
+					any(PrintfStyleFormatter.class), eq("%s = %d"), eq("magic"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2735,10 +2744,10 @@ public final class TinylogLoggerTest {
 		logger.warnf(exception, "%s, %s or %s", "one", "two", "three");
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(exception), any(PrintfStyleFormatter.class), eq("%s, %s or %s"),
-					eq("one"), eq("two"), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(exception),
+					any(PrintfStyleFormatter.class), eq("%s, %s or %s"), eq("one"), eq("two"), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2751,9 +2760,10 @@ public final class TinylogLoggerTest {
 		logger.warnf("Hello %d!", 42);
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class), eq("Hello %d!"), eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class),
+					eq("Hello %d!"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2766,9 +2776,10 @@ public final class TinylogLoggerTest {
 		logger.warnf("%d + %d", 1, 2);
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class), eq("%d + %d"), eq(1), eq(2));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class),
+					eq("%d + %d"), eq(1), eq(2));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2781,10 +2792,10 @@ public final class TinylogLoggerTest {
 		logger.warnf("%d = %s", 42, "magic");
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class), eq("%d = %s"), eq(42),
-					eq("magic"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class),
+					eq("%d = %s"), eq(42), eq("magic"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2797,10 +2808,10 @@ public final class TinylogLoggerTest {
 		logger.warnf("%d + %d = %d", 1, 2, 3);
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class), eq("%d + %d = %d"), eq(1),
-					eq(2), eq(3));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class),
+					eq("%d + %d = %d"), eq(1), eq(2), eq(3));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2813,10 +2824,10 @@ public final class TinylogLoggerTest {
 		logger.warnf("%d + %d = %s", 1, 2, "three");
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class), eq("%d + %d = %s"), eq(1),
-					eq(2), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class),
+					eq("%d + %d = %s"), eq(1), eq(2), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2829,10 +2840,10 @@ public final class TinylogLoggerTest {
 		logger.warnf("%d = %s + %s", 3, "one", "two");
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class), eq("%d = %s + %s"), eq(3),
-					eq("one"), eq("two"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class),
+					eq("%d = %s + %s"), eq(3), eq("one"), eq("two"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2847,10 +2858,10 @@ public final class TinylogLoggerTest {
 		logger.warnf(exception, "Hello %d!", 42);
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(exception), any(PrintfStyleFormatter.class), eq("Hello %d!"),
-					eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(exception),
+					any(PrintfStyleFormatter.class), eq("Hello %d!"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2865,10 +2876,10 @@ public final class TinylogLoggerTest {
 		logger.warnf(exception, "%d + %d", 1, 2);
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(exception), any(PrintfStyleFormatter.class), eq("%d + %d"), eq(1),
-					eq(2));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d + %d"), eq(1), eq(2));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2883,10 +2894,10 @@ public final class TinylogLoggerTest {
 		logger.warnf(exception, "%d = %s", 42, "magic");
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(exception), any(PrintfStyleFormatter.class), eq("%d = %s"), eq(42),
-					eq("magic"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d = %s"), eq(42), eq("magic"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2901,10 +2912,10 @@ public final class TinylogLoggerTest {
 		logger.warnf(exception, "%d + %d = %d", 1, 2, 3);
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(exception), any(PrintfStyleFormatter.class), eq("%d + %d = %d"),
-					eq(1), eq(2), eq(3));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d + %d = %d"), eq(1), eq(2), eq(3));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2919,10 +2930,10 @@ public final class TinylogLoggerTest {
 		logger.warnf(exception, "%d + %d = %s", 1, 2, "three");
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(exception), any(PrintfStyleFormatter.class), eq("%d + %d = %s"),
-					eq(1), eq(2), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d + %d = %s"), eq(1), eq(2), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2937,10 +2948,10 @@ public final class TinylogLoggerTest {
 		logger.warnf(exception, "%d = %s + %s", 3, "one", "two");
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(exception), any(PrintfStyleFormatter.class), eq("%d = %s + %s"),
-					eq(3), eq("one"), eq("two"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d = %s + %s"), eq(3), eq("one"), eq("two"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2953,9 +2964,10 @@ public final class TinylogLoggerTest {
 		logger.warnf("Hello %d!", 42L);
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class), eq("Hello %d!"), eq(42L));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class),
+					eq("Hello %d!"), eq(42L));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2968,10 +2980,10 @@ public final class TinylogLoggerTest {
 		logger.warnf("%d + %d", 1L, 2L);
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class), eq("%d + %d"), eq(1L),
-					eq(2L));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class),
+					eq("%d + %d"), eq(1L), eq(2L));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -2984,10 +2996,10 @@ public final class TinylogLoggerTest {
 		logger.warnf("%d = %s", 42L, "magic");
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class), eq("%d = %s"), eq(42L),
-					eq("magic"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class),
+					eq("%d = %s"), eq(42L), eq("magic"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3000,10 +3012,10 @@ public final class TinylogLoggerTest {
 		logger.warnf("%d + %d = %d", 1L, 2L, 3L);
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class), eq("%d + %d = %d"), eq(1L),
-					eq(2L), eq(3L));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class),
+					eq("%d + %d = %d"), eq(1L), eq(2L), eq(3L));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3016,10 +3028,10 @@ public final class TinylogLoggerTest {
 		logger.warnf("%d + %d = %s", 1L, 2L, "three");
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class), eq("%d + %d = %s"), eq(1L),
-					eq(2L), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class),
+					eq("%d + %d = %s"), eq(1L), eq(2L), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3032,10 +3044,10 @@ public final class TinylogLoggerTest {
 		logger.warnf("%d = %s + %s", 3L, "one", "two");
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class), eq("%d = %s + %s"), eq(3L),
-					eq("one"), eq("two"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class),
+					eq("%d = %s + %s"), eq(3L), eq("one"), eq("two"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3050,10 +3062,10 @@ public final class TinylogLoggerTest {
 		logger.warnf(exception, "Hello %d!", 42L);
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(exception), any(PrintfStyleFormatter.class), eq("Hello %d!"),
-					eq(42L));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(exception),
+					any(PrintfStyleFormatter.class), eq("Hello %d!"), eq(42L));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3068,10 +3080,10 @@ public final class TinylogLoggerTest {
 		logger.warnf(exception, "%d + %d", 1L, 2L);
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(exception), any(PrintfStyleFormatter.class), eq("%d + %d"), eq(1L),
-					eq(2L));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d + %d"), eq(1L), eq(2L));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3086,10 +3098,10 @@ public final class TinylogLoggerTest {
 		logger.warnf(exception, "%d = %s", 42L, "magic");
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(exception), any(PrintfStyleFormatter.class), eq("%d = %s"), eq(42L),
-					eq("magic"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d = %s"), eq(42L), eq("magic"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3104,10 +3116,10 @@ public final class TinylogLoggerTest {
 		logger.warnf(exception, "%d + %d = %d", 1L, 2L, 3L);
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(exception), any(PrintfStyleFormatter.class), eq("%d + %d = %d"),
-					eq(1L), eq(2L), eq(3L));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d + %d = %d"), eq(1L), eq(2L), eq(3L));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3122,10 +3134,10 @@ public final class TinylogLoggerTest {
 		logger.warnf(exception, "%d + %d = %s", 1L, 2L, "three");
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(exception), any(PrintfStyleFormatter.class), eq("%d + %d = %s"),
-					eq(1L), eq(2L), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d + %d = %s"), eq(1L), eq(2L), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3140,10 +3152,10 @@ public final class TinylogLoggerTest {
 		logger.warnf(exception, "%d = %s + %s", 3L, "one", "two");
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(exception), any(PrintfStyleFormatter.class), eq("%d = %s + %s"),
-					eq(3L), eq("one"), eq("two"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d = %s + %s"), eq(3L), eq("one"), eq("two"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3155,9 +3167,9 @@ public final class TinylogLoggerTest {
 		logger.error(42);
 
 		if (errorEnabled) {
-			verify(provider).log(2, null, Level.ERROR, null, null, 42, (Object[]) null);
+			verify(provider).log(2, LOGGER_NAME, null, Level.ERROR, null, null, 42, (Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3171,9 +3183,9 @@ public final class TinylogLoggerTest {
 		logger.error("Boom!", exception);
 
 		if (errorEnabled) {
-			verify(provider).log(2, null, Level.ERROR, exception, null, "Boom!", (Object[]) null);
+			verify(provider).log(2, LOGGER_NAME, null, Level.ERROR, exception, null, "Boom!", (Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3188,9 +3200,10 @@ public final class TinylogLoggerTest {
 		logger.error(TinylogLoggerTest.class.getName(), "Boom!", exception);
 
 		if (errorEnabled) {
-			verify(provider).log(TinylogLoggerTest.class.getName(), null, Level.ERROR, exception, null, "Boom!", (Object[]) null);
+			verify(provider).log(TinylogLoggerTest.class.getName(), LOGGER_NAME, null, Level.ERROR, exception, null, "Boom!",
+					(Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3205,10 +3218,10 @@ public final class TinylogLoggerTest {
 		logger.error(TinylogLoggerTest.class.getName(), "Hello {0}!", new Object[] { "Error" }, exception);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(TinylogLoggerTest.class.getName()), isNull(), eq(Level.ERROR), same(exception),
-					any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"), eq("Error"));
+			verify(provider).log(eq(TinylogLoggerTest.class.getName()), eq(LOGGER_NAME), isNull(), eq(Level.ERROR),
+					same(exception), any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"), eq("Error"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3221,10 +3234,10 @@ public final class TinylogLoggerTest {
 		logger.errorv("{0}, {1}, {2} or {3}", 1, 2, 3, 4);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(JavaTextMessageFormatFormatter.class),
-					eq("{0}, {1}, {2} or {3}"), eq(1), eq(2), eq(3), eq(4));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null),
+					any(JavaTextMessageFormatFormatter.class), eq("{0}, {1}, {2} or {3}"), eq(1), eq(2), eq(3), eq(4));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3237,10 +3250,10 @@ public final class TinylogLoggerTest {
 		logger.errorv("Hello {0}!", "World");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"),
-					eq("World"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null),
+					any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"), eq("World"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3252,10 +3265,10 @@ public final class TinylogLoggerTest {
 		logger.errorv("{0} = {1}", "magic", 42);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(JavaTextMessageFormatFormatter.class), eq("{0} = {1}"),
-					eq("magic"), eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null),
+					any(JavaTextMessageFormatFormatter.class), eq("{0} = {1}"), eq("magic"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3268,10 +3281,10 @@ public final class TinylogLoggerTest {
 		logger.errorv("{0}, {1} or {2}", 1, 2, 3);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(JavaTextMessageFormatFormatter.class),
-					eq("{0}, {1} or {2}"), eq(1), eq(2), eq(3));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null),
+					any(JavaTextMessageFormatFormatter.class), eq("{0}, {1} or {2}"), eq(1), eq(2), eq(3));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3286,10 +3299,10 @@ public final class TinylogLoggerTest {
 		logger.errorv(exception, "{0}, {1}, {2} or {3}", 1, 2, 3, 4);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(JavaTextMessageFormatFormatter.class),
-					eq("{0}, {1}, {2} or {3}"), eq(1), eq(2), eq(3), eq(4));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(JavaTextMessageFormatFormatter.class), eq("{0}, {1}, {2} or {3}"), eq(1), eq(2), eq(3), eq(4));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3304,10 +3317,10 @@ public final class TinylogLoggerTest {
 		logger.errorv(exception, "Hello {0}!", "Error");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(JavaTextMessageFormatFormatter.class),
-					eq("Hello {0}!"), eq("Error"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"), eq("Error"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3322,10 +3335,10 @@ public final class TinylogLoggerTest {
 		logger.errorv(exception, "{0} = {1}", "magic", 42);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(JavaTextMessageFormatFormatter.class),
-					eq("{0} = {1}"), eq("magic"), eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(JavaTextMessageFormatFormatter.class), eq("{0} = {1}"), eq("magic"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3340,10 +3353,10 @@ public final class TinylogLoggerTest {
 		logger.errorv(exception, "{0}, {1} or {2}", 1, 2, 3);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(JavaTextMessageFormatFormatter.class),
-					eq("{0}, {1} or {2}"), eq(1), eq(2), eq(3));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(JavaTextMessageFormatFormatter.class), eq("{0}, {1} or {2}"), eq(1), eq(2), eq(3));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3356,10 +3369,10 @@ public final class TinylogLoggerTest {
 		logger.errorf("%s, %s, %s or %s", "one", "two", "three", "four");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class), eq("%s, %s, %s or %s"),
-					eq("one"), eq("two"), eq("three"), eq("four"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class),
+					eq("%s, %s, %s or %s"), eq("one"), eq("two"), eq("three"), eq("four"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3372,10 +3385,10 @@ public final class TinylogLoggerTest {
 		logger.errorf("Hello %s!", "World");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class), eq("Hello %s!"),
-					eq("World"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class),
+					eq("Hello %s!"), eq("World"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3388,10 +3401,10 @@ public final class TinylogLoggerTest {
 		logger.errorf("%s = %d", "magic", 42);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class), eq("%s = %d"), eq("magic"),
-					eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class),
+					eq("%s = %d"), eq("magic"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3404,10 +3417,10 @@ public final class TinylogLoggerTest {
 		logger.errorf("%s, %s or %s", "one", "two", "three");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class), eq("%s, %s or %s"),
-					eq("one"), eq("two"), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class),
+					eq("%s, %s or %s"), eq("one"), eq("two"), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3422,10 +3435,10 @@ public final class TinylogLoggerTest {
 		logger.errorf(exception, "%s, %s, %s or %s", "one", "two", "three", "four");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(PrintfStyleFormatter.class), eq("%s, %s, %s or %s"),
-					eq("one"), eq("two"), eq("three"), eq("four"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(PrintfStyleFormatter.class), eq("%s, %s, %s or %s"), eq("one"), eq("two"), eq("three"), eq("four"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3440,10 +3453,10 @@ public final class TinylogLoggerTest {
 		logger.errorf(exception, "Hello %s!", "World");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(PrintfStyleFormatter.class), eq("Hello %s!"),
-					eq("World"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(PrintfStyleFormatter.class), eq("Hello %s!"), eq("World"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3458,10 +3471,10 @@ public final class TinylogLoggerTest {
 		logger.errorf(exception, "%s = %d", "magic", 42);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(PrintfStyleFormatter.class), eq("%s = %d"),
-					eq("magic"), eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(PrintfStyleFormatter.class), eq("%s = %d"), eq("magic"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3476,10 +3489,10 @@ public final class TinylogLoggerTest {
 		logger.errorf(exception, "%s, %s or %s", "one", "two", "three");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(PrintfStyleFormatter.class), eq("%s, %s or %s"),
-					eq("one"), eq("two"), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(PrintfStyleFormatter.class), eq("%s, %s or %s"), eq("one"), eq("two"), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3492,9 +3505,10 @@ public final class TinylogLoggerTest {
 		logger.errorf("Hello %d!", 42);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class), eq("Hello %d!"), eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class),
+					eq("Hello %d!"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3507,10 +3521,10 @@ public final class TinylogLoggerTest {
 		logger.errorf("%d + %d", 1, 2);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class), eq("%d + %d"), eq(1),
-					eq(2));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class),
+					eq("%d + %d"), eq(1), eq(2));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3523,10 +3537,10 @@ public final class TinylogLoggerTest {
 		logger.errorf("%d = %s", 42, "magic");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class), eq("%d = %s"), eq(42),
-					eq("magic"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class),
+					eq("%d = %s"), eq(42), eq("magic"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3539,10 +3553,10 @@ public final class TinylogLoggerTest {
 		logger.errorf("%d + %d = %d", 1, 2, 3);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class), eq("%d + %d = %d"), eq(1),
-					eq(2), eq(3));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class),
+					eq("%d + %d = %d"), eq(1), eq(2), eq(3));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3555,10 +3569,10 @@ public final class TinylogLoggerTest {
 		logger.errorf("%d + %d = %s", 1, 2, "three");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class), eq("%d + %d = %s"), eq(1),
-					eq(2), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class),
+					eq("%d + %d = %s"), eq(1), eq(2), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3571,10 +3585,10 @@ public final class TinylogLoggerTest {
 		logger.errorf("%d = %s + %s", 3, "one", "two");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class), eq("%d = %s + %s"), eq(3),
-					eq("one"), eq("two"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class),
+					eq("%d = %s + %s"), eq(3), eq("one"), eq("two"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3589,10 +3603,10 @@ public final class TinylogLoggerTest {
 		logger.errorf(exception, "Hello %d!", 42);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(PrintfStyleFormatter.class), eq("Hello %d!"),
-					eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(PrintfStyleFormatter.class), eq("Hello %d!"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3607,10 +3621,10 @@ public final class TinylogLoggerTest {
 		logger.errorf(exception, "%d + %d", 1, 2);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(PrintfStyleFormatter.class), eq("%d + %d"), eq(1),
-					eq(2));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d + %d"), eq(1), eq(2));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3625,10 +3639,10 @@ public final class TinylogLoggerTest {
 		logger.errorf(exception, "%d = %s", 42, "magic");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(PrintfStyleFormatter.class), eq("%d = %s"), eq(42),
-					eq("magic"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d = %s"), eq(42), eq("magic"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3643,10 +3657,10 @@ public final class TinylogLoggerTest {
 		logger.errorf(exception, "%d + %d = %d", 1, 2, 3);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(PrintfStyleFormatter.class), eq("%d + %d = %d"),
-					eq(1), eq(2), eq(3));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d + %d = %d"), eq(1), eq(2), eq(3));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3661,10 +3675,10 @@ public final class TinylogLoggerTest {
 		logger.errorf(exception, "%d + %d = %s", 1, 2, "three");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(PrintfStyleFormatter.class), eq("%d + %d = %s"),
-					eq(1), eq(2), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d + %d = %s"), eq(1), eq(2), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3679,10 +3693,10 @@ public final class TinylogLoggerTest {
 		logger.errorf(exception, "%d = %s + %s", 3, "one", "two");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(PrintfStyleFormatter.class), eq("%d = %s + %s"),
-					eq(3), eq("one"), eq("two"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d = %s + %s"), eq(3), eq("one"), eq("two"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3695,9 +3709,10 @@ public final class TinylogLoggerTest {
 		logger.errorf("Hello %d!", 42L);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class), eq("Hello %d!"), eq(42L));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class),
+					eq("Hello %d!"), eq(42L));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3710,10 +3725,10 @@ public final class TinylogLoggerTest {
 		logger.errorf("%d + %d", 1L, 2L);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class), eq("%d + %d"), eq(1L),
-					eq(2L));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class),
+					eq("%d + %d"), eq(1L), eq(2L));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3726,10 +3741,10 @@ public final class TinylogLoggerTest {
 		logger.errorf("%d = %s", 42L, "magic");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class), eq("%d = %s"), eq(42L),
-					eq("magic"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class),
+					eq("%d = %s"), eq(42L), eq("magic"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3742,10 +3757,10 @@ public final class TinylogLoggerTest {
 		logger.errorf("%d + %d = %d", 1L, 2L, 3L);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class), eq("%d + %d = %d"), eq(1L),
-					eq(2L), eq(3L));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class),
+					eq("%d + %d = %d"), eq(1L), eq(2L), eq(3L));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3758,10 +3773,10 @@ public final class TinylogLoggerTest {
 		logger.errorf("%d + %d = %s", 1L, 2L, "three");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class), eq("%d + %d = %s"), eq(1L),
-					eq(2L), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class),
+					eq("%d + %d = %s"), eq(1L), eq(2L), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3774,10 +3789,10 @@ public final class TinylogLoggerTest {
 		logger.errorf("%d = %s + %s", 3L, "one", "two");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class), eq("%d = %s + %s"), eq(3L),
-					eq("one"), eq("two"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class),
+					eq("%d = %s + %s"), eq(3L), eq("one"), eq("two"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3792,10 +3807,10 @@ public final class TinylogLoggerTest {
 		logger.errorf(exception, "Hello %d!", 42L);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(PrintfStyleFormatter.class), eq("Hello %d!"),
-					eq(42L));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(PrintfStyleFormatter.class), eq("Hello %d!"), eq(42L));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3810,10 +3825,10 @@ public final class TinylogLoggerTest {
 		logger.errorf(exception, "%d + %d", 1L, 2L);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(PrintfStyleFormatter.class), eq("%d + %d"), eq(1L),
-					eq(2L));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d + %d"), eq(1L), eq(2L));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3828,10 +3843,10 @@ public final class TinylogLoggerTest {
 		logger.errorf(exception, "%d = %s", 42L, "magic");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(PrintfStyleFormatter.class), eq("%d = %s"), eq(42L),
-					eq("magic"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d = %s"), eq(42L), eq("magic"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3846,10 +3861,10 @@ public final class TinylogLoggerTest {
 		logger.errorf(exception, "%d + %d = %d", 1L, 2L, 3L);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(PrintfStyleFormatter.class), eq("%d + %d = %d"),
-					eq(1L), eq(2L), eq(3L));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d + %d = %d"), eq(1L), eq(2L), eq(3L));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3864,10 +3879,10 @@ public final class TinylogLoggerTest {
 		logger.errorf(exception, "%d + %d = %s", 1L, 2L, "three");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(PrintfStyleFormatter.class), eq("%d + %d = %s"),
-					eq(1L), eq(2L), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d + %d = %s"), eq(1L), eq(2L), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3882,10 +3897,10 @@ public final class TinylogLoggerTest {
 		logger.errorf(exception, "%d = %s + %s", 3L, "one", "two");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(PrintfStyleFormatter.class), eq("%d = %s + %s"),
-					eq(3L), eq("one"), eq("two"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d = %s + %s"), eq(3L), eq("one"), eq("two"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3897,9 +3912,9 @@ public final class TinylogLoggerTest {
 		logger.fatal(42);
 
 		if (errorEnabled) {
-			verify(provider).log(2, null, Level.ERROR, null, null, 42, (Object[]) null);
+			verify(provider).log(2, LOGGER_NAME, null, Level.ERROR, null, null, 42, (Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3913,9 +3928,9 @@ public final class TinylogLoggerTest {
 		logger.fatal("Boom!", exception);
 
 		if (errorEnabled) {
-			verify(provider).log(2, null, Level.ERROR, exception, null, "Boom!", (Object[]) null);
+			verify(provider).log(2, LOGGER_NAME, null, Level.ERROR, exception, null, "Boom!", (Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3930,9 +3945,10 @@ public final class TinylogLoggerTest {
 		logger.fatal(TinylogLoggerTest.class.getName(), "Boom!", exception);
 
 		if (errorEnabled) {
-			verify(provider).log(TinylogLoggerTest.class.getName(), null, Level.ERROR, exception, null, "Boom!", (Object[]) null);
+			verify(provider).log(TinylogLoggerTest.class.getName(), LOGGER_NAME, null, Level.ERROR, exception, null, "Boom!",
+					(Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3947,10 +3963,10 @@ public final class TinylogLoggerTest {
 		logger.fatal(TinylogLoggerTest.class.getName(), "Hello {0}!", new Object[] { "Error" }, exception);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(TinylogLoggerTest.class.getName()), isNull(), eq(Level.ERROR), same(exception),
-					any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"), eq("Error"));
+			verify(provider).log(eq(TinylogLoggerTest.class.getName()), eq(LOGGER_NAME), isNull(), eq(Level.ERROR),
+					same(exception), any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"), eq("Error"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3963,10 +3979,10 @@ public final class TinylogLoggerTest {
 		logger.fatalv("{0}, {1}, {2} or {3}", 1, 2, 3, 4);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(JavaTextMessageFormatFormatter.class),
-					eq("{0}, {1}, {2} or {3}"), eq(1), eq(2), eq(3), eq(4));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null),
+					any(JavaTextMessageFormatFormatter.class), eq("{0}, {1}, {2} or {3}"), eq(1), eq(2), eq(3), eq(4));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3979,10 +3995,10 @@ public final class TinylogLoggerTest {
 		logger.fatalv("Hello {0}!", "World");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"),
-					eq("World"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null),
+					any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"), eq("World"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -3994,10 +4010,10 @@ public final class TinylogLoggerTest {
 		logger.fatalv("{0} = {1}", "magic", 42);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(JavaTextMessageFormatFormatter.class), eq("{0} = {1}"),
-					eq("magic"), eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null),
+					any(JavaTextMessageFormatFormatter.class), eq("{0} = {1}"), eq("magic"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4010,10 +4026,10 @@ public final class TinylogLoggerTest {
 		logger.fatalv("{0}, {1} or {2}", 1, 2, 3);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(JavaTextMessageFormatFormatter.class),
-					eq("{0}, {1} or {2}"), eq(1), eq(2), eq(3));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null),
+					any(JavaTextMessageFormatFormatter.class), eq("{0}, {1} or {2}"), eq(1), eq(2), eq(3));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4028,10 +4044,10 @@ public final class TinylogLoggerTest {
 		logger.fatalv(exception, "{0}, {1}, {2} or {3}", 1, 2, 3, 4);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(JavaTextMessageFormatFormatter.class),
-					eq("{0}, {1}, {2} or {3}"), eq(1), eq(2), eq(3), eq(4));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(JavaTextMessageFormatFormatter.class), eq("{0}, {1}, {2} or {3}"), eq(1), eq(2), eq(3), eq(4));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4046,10 +4062,10 @@ public final class TinylogLoggerTest {
 		logger.fatalv(exception, "Hello {0}!", "Error");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(JavaTextMessageFormatFormatter.class),
-					eq("Hello {0}!"), eq("Error"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"), eq("Error"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4064,10 +4080,10 @@ public final class TinylogLoggerTest {
 		logger.fatalv(exception, "{0} = {1}", "magic", 42);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(JavaTextMessageFormatFormatter.class),
-					eq("{0} = {1}"), eq("magic"), eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(JavaTextMessageFormatFormatter.class), eq("{0} = {1}"), eq("magic"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4082,10 +4098,10 @@ public final class TinylogLoggerTest {
 		logger.fatalv(exception, "{0}, {1} or {2}", 1, 2, 3);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(JavaTextMessageFormatFormatter.class),
-					eq("{0}, {1} or {2}"), eq(1), eq(2), eq(3));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(JavaTextMessageFormatFormatter.class), eq("{0}, {1} or {2}"), eq(1), eq(2), eq(3));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4098,10 +4114,10 @@ public final class TinylogLoggerTest {
 		logger.fatalf("%s, %s, %s or %s", "one", "two", "three", "four");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class), eq("%s, %s, %s or %s"),
-					eq("one"), eq("two"), eq("three"), eq("four"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class),
+					eq("%s, %s, %s or %s"), eq("one"), eq("two"), eq("three"), eq("four"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4114,10 +4130,10 @@ public final class TinylogLoggerTest {
 		logger.fatalf("Hello %s!", "World");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class), eq("Hello %s!"),
-					eq("World"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class),
+					eq("Hello %s!"), eq("World"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4130,10 +4146,10 @@ public final class TinylogLoggerTest {
 		logger.fatalf("%s = %d", "magic", 42);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class), eq("%s = %d"), eq("magic"),
-					eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class),
+					eq("%s = %d"), eq("magic"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4146,10 +4162,10 @@ public final class TinylogLoggerTest {
 		logger.fatalf("%s, %s or %s", "one", "two", "three");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class), eq("%s, %s or %s"),
-					eq("one"), eq("two"), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class),
+					eq("%s, %s or %s"), eq("one"), eq("two"), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4164,10 +4180,10 @@ public final class TinylogLoggerTest {
 		logger.fatalf(exception, "%s, %s, %s or %s", "one", "two", "three", "four");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(PrintfStyleFormatter.class), eq("%s, %s, %s or %s"),
-					eq("one"), eq("two"), eq("three"), eq("four"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(PrintfStyleFormatter.class), eq("%s, %s, %s or %s"), eq("one"), eq("two"), eq("three"), eq("four"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4182,10 +4198,10 @@ public final class TinylogLoggerTest {
 		logger.fatalf(exception, "Hello %s!", "World");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(PrintfStyleFormatter.class), eq("Hello %s!"),
-					eq("World"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(PrintfStyleFormatter.class), eq("Hello %s!"), eq("World"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4200,10 +4216,10 @@ public final class TinylogLoggerTest {
 		logger.fatalf(exception, "%s = %d", "magic", 42);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(PrintfStyleFormatter.class), eq("%s = %d"),
-					eq("magic"), eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(PrintfStyleFormatter.class), eq("%s = %d"), eq("magic"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4218,10 +4234,10 @@ public final class TinylogLoggerTest {
 		logger.fatalf(exception, "%s, %s or %s", "one", "two", "three");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(PrintfStyleFormatter.class), eq("%s, %s or %s"),
-					eq("one"), eq("two"), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(PrintfStyleFormatter.class), eq("%s, %s or %s"), eq("one"), eq("two"), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4234,9 +4250,10 @@ public final class TinylogLoggerTest {
 		logger.fatalf("Hello %d!", 42);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class), eq("Hello %d!"), eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class),
+					eq("Hello %d!"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4249,10 +4266,10 @@ public final class TinylogLoggerTest {
 		logger.fatalf("%d + %d", 1, 2);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class), eq("%d + %d"), eq(1),
-					eq(2));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class),
+					eq("%d + %d"), eq(1), eq(2));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4265,10 +4282,10 @@ public final class TinylogLoggerTest {
 		logger.fatalf("%d = %s", 42, "magic");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class), eq("%d = %s"), eq(42),
-					eq("magic"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class),
+					eq("%d = %s"), eq(42), eq("magic"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4281,10 +4298,10 @@ public final class TinylogLoggerTest {
 		logger.fatalf("%d + %d = %d", 1, 2, 3);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class), eq("%d + %d = %d"), eq(1),
-					eq(2), eq(3));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class),
+					eq("%d + %d = %d"), eq(1), eq(2), eq(3));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4297,10 +4314,10 @@ public final class TinylogLoggerTest {
 		logger.fatalf("%d + %d = %s", 1, 2, "three");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class), eq("%d + %d = %s"), eq(1),
-					eq(2), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class),
+					eq("%d + %d = %s"), eq(1), eq(2), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4313,10 +4330,10 @@ public final class TinylogLoggerTest {
 		logger.fatalf("%d = %s + %s", 3, "one", "two");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class), eq("%d = %s + %s"), eq(3),
-					eq("one"), eq("two"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class),
+					eq("%d = %s + %s"), eq(3), eq("one"), eq("two"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4331,10 +4348,10 @@ public final class TinylogLoggerTest {
 		logger.fatalf(exception, "Hello %d!", 42);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(PrintfStyleFormatter.class), eq("Hello %d!"),
-					eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(PrintfStyleFormatter.class), eq("Hello %d!"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4349,10 +4366,10 @@ public final class TinylogLoggerTest {
 		logger.fatalf(exception, "%d + %d", 1, 2);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(PrintfStyleFormatter.class), eq("%d + %d"), eq(1),
-					eq(2));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d + %d"), eq(1), eq(2));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4367,10 +4384,10 @@ public final class TinylogLoggerTest {
 		logger.fatalf(exception, "%d = %s", 42, "magic");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(PrintfStyleFormatter.class), eq("%d = %s"), eq(42),
-					eq("magic"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d = %s"), eq(42), eq("magic"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4385,10 +4402,10 @@ public final class TinylogLoggerTest {
 		logger.fatalf(exception, "%d + %d = %d", 1, 2, 3);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(PrintfStyleFormatter.class), eq("%d + %d = %d"),
-					eq(1), eq(2), eq(3));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d + %d = %d"), eq(1), eq(2), eq(3));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4403,10 +4420,10 @@ public final class TinylogLoggerTest {
 		logger.fatalf(exception, "%d + %d = %s", 1, 2, "three");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(PrintfStyleFormatter.class), eq("%d + %d = %s"),
-					eq(1), eq(2), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d + %d = %s"), eq(1), eq(2), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4421,10 +4438,10 @@ public final class TinylogLoggerTest {
 		logger.fatalf(exception, "%d = %s + %s", 3, "one", "two");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(PrintfStyleFormatter.class), eq("%d = %s + %s"),
-					eq(3), eq("one"), eq("two"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d = %s + %s"), eq(3), eq("one"), eq("two"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4437,9 +4454,10 @@ public final class TinylogLoggerTest {
 		logger.fatalf("Hello %d!", 42L);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class), eq("Hello %d!"), eq(42L));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class),
+					eq("Hello %d!"), eq(42L));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4452,10 +4470,10 @@ public final class TinylogLoggerTest {
 		logger.fatalf("%d + %d", 1L, 2L);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class), eq("%d + %d"), eq(1L),
-					eq(2L));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class),
+					eq("%d + %d"), eq(1L), eq(2L));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4468,10 +4486,10 @@ public final class TinylogLoggerTest {
 		logger.fatalf("%d = %s", 42L, "magic");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class), eq("%d = %s"), eq(42L),
-					eq("magic"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class),
+					eq("%d = %s"), eq(42L), eq("magic"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4484,10 +4502,10 @@ public final class TinylogLoggerTest {
 		logger.fatalf("%d + %d = %d", 1L, 2L, 3L);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class), eq("%d + %d = %d"), eq(1L),
-					eq(2L), eq(3L));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class),
+					eq("%d + %d = %d"), eq(1L), eq(2L), eq(3L));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4500,10 +4518,10 @@ public final class TinylogLoggerTest {
 		logger.fatalf("%d + %d = %s", 1L, 2L, "three");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class), eq("%d + %d = %s"), eq(1L),
-					eq(2L), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class),
+					eq("%d + %d = %s"), eq(1L), eq(2L), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4516,10 +4534,10 @@ public final class TinylogLoggerTest {
 		logger.fatalf("%d = %s + %s", 3L, "one", "two");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class), eq("%d = %s + %s"), eq(3L),
-					eq("one"), eq("two"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(null), any(PrintfStyleFormatter.class),
+					eq("%d = %s + %s"), eq(3L), eq("one"), eq("two"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4534,10 +4552,10 @@ public final class TinylogLoggerTest {
 		logger.fatalf(exception, "Hello %d!", 42L);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(PrintfStyleFormatter.class), eq("Hello %d!"),
-					eq(42L));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(PrintfStyleFormatter.class), eq("Hello %d!"), eq(42L));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4552,10 +4570,10 @@ public final class TinylogLoggerTest {
 		logger.fatalf(exception, "%d + %d", 1L, 2L);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(PrintfStyleFormatter.class), eq("%d + %d"), eq(1L),
-					eq(2L));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d + %d"), eq(1L), eq(2L));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4570,10 +4588,10 @@ public final class TinylogLoggerTest {
 		logger.fatalf(exception, "%d = %s", 42L, "magic");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(PrintfStyleFormatter.class), eq("%d = %s"), eq(42L),
-					eq("magic"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d = %s"), eq(42L), eq("magic"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4588,10 +4606,10 @@ public final class TinylogLoggerTest {
 		logger.fatalf(exception, "%d + %d = %d", 1L, 2L, 3L);
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(PrintfStyleFormatter.class), eq("%d + %d = %d"),
-					eq(1L), eq(2L), eq(3L));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d + %d = %d"), eq(1L), eq(2L), eq(3L));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4606,10 +4624,10 @@ public final class TinylogLoggerTest {
 		logger.fatalf(exception, "%d + %d = %s", 1L, 2L, "three");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(PrintfStyleFormatter.class), eq("%d + %d = %s"),
-					eq(1L), eq(2L), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d + %d = %s"), eq(1L), eq(2L), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4624,10 +4642,10 @@ public final class TinylogLoggerTest {
 		logger.fatalf(exception, "%d = %s + %s", 3L, "one", "two");
 
 		if (errorEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(PrintfStyleFormatter.class), eq("%d = %s + %s"),
-					eq(3L), eq("one"), eq("two"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception),
+					any(PrintfStyleFormatter.class), eq("%d = %s + %s"), eq(3L), eq("one"), eq("two"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4639,17 +4657,17 @@ public final class TinylogLoggerTest {
 		logger.log(org.jboss.logging.Logger.Level.DEBUG, 42);
 
 		if (debugEnabled) {
-			verify(provider).log(2, null, Level.DEBUG, null, null, 42, (Object[]) null);
+			verify(provider).log(2, LOGGER_NAME, null, Level.DEBUG, null, null, 42, (Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 
 		logger.log(org.jboss.logging.Logger.Level.WARN, 42);
 
 		if (warnEnabled) {
-			verify(provider).log(2, null, Level.WARN, null, null, 42, (Object[]) null);
+			verify(provider).log(2, LOGGER_NAME, null, Level.WARN, null, null, 42, (Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4663,17 +4681,17 @@ public final class TinylogLoggerTest {
 		logger.log(org.jboss.logging.Logger.Level.DEBUG, "Boom!", exception);
 
 		if (debugEnabled) {
-			verify(provider).log(2, null, Level.DEBUG, exception, null, "Boom!", (Object[]) null);
+			verify(provider).log(2, LOGGER_NAME, null, Level.DEBUG, exception, null, "Boom!", (Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 
 		logger.log(org.jboss.logging.Logger.Level.WARN, "Boom!", exception);
 
 		if (warnEnabled) {
-			verify(provider).log(2, null, Level.WARN, exception, null, "Boom!", (Object[]) null);
+			verify(provider).log(2, LOGGER_NAME, null, Level.WARN, exception, null, "Boom!", (Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4687,19 +4705,19 @@ public final class TinylogLoggerTest {
 		logger.log(org.jboss.logging.Logger.Level.DEBUG, TinylogLoggerTest.class.getName(), "Boom!", exception);
 
 		if (debugEnabled) {
-			verify(provider).log(eq(TinylogLoggerTest.class.getName()), isNull(), eq(Level.DEBUG), same(exception),
-					any(JavaTextMessageFormatFormatter.class), eq("Boom!"), isNull());
+			verify(provider).log(eq(TinylogLoggerTest.class.getName()), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG),
+					same(exception), any(JavaTextMessageFormatFormatter.class), eq("Boom!"), isNull());
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 
 		logger.log(org.jboss.logging.Logger.Level.WARN, TinylogLoggerTest.class.getName(), "Boom!", exception);
 
 		if (warnEnabled) {
-			verify(provider).log(eq(TinylogLoggerTest.class.getName()), isNull(), eq(Level.WARN), same(exception),
-					any(JavaTextMessageFormatFormatter.class), eq("Boom!"), isNull());
+			verify(provider).log(eq(TinylogLoggerTest.class.getName()), eq(LOGGER_NAME), isNull(), eq(Level.WARN),
+					same(exception), any(JavaTextMessageFormatFormatter.class), eq("Boom!"), isNull());
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4715,20 +4733,20 @@ public final class TinylogLoggerTest {
 				exception);
 
 		if (debugEnabled) {
-			verify(provider).log(eq(TinylogLoggerTest.class.getName()), isNull(), eq(Level.DEBUG), same(exception),
-					any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"), eq("Error"));
+			verify(provider).log(eq(TinylogLoggerTest.class.getName()), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG),
+					same(exception), any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"), eq("Error"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 
 		logger.log(TinylogLoggerTest.class.getName(), org.jboss.logging.Logger.Level.WARN, "Hello {0}!", new Object[] { "Error" },
 				exception);
 
 		if (warnEnabled) {
-			verify(provider).log(eq(TinylogLoggerTest.class.getName()), isNull(), eq(Level.WARN), same(exception),
-					any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"), eq("Error"));
+			verify(provider).log(eq(TinylogLoggerTest.class.getName()), eq(LOGGER_NAME), isNull(), eq(Level.WARN),
+					same(exception), any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"), eq("Error"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4740,19 +4758,19 @@ public final class TinylogLoggerTest {
 		logger.logv(org.jboss.logging.Logger.Level.DEBUG, "{0}, {1}, {2} or {3}", 1, 2, 3, 4);
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(null), any(JavaTextMessageFormatFormatter.class),
-					eq("{0}, {1}, {2} or {3}"), eq(1), eq(2), eq(3), eq(4));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(null),
+					any(JavaTextMessageFormatFormatter.class), eq("{0}, {1}, {2} or {3}"), eq(1), eq(2), eq(3), eq(4));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 
 		logger.logv(org.jboss.logging.Logger.Level.WARN, "{0}, {1}, {2} or {3}", 1, 2, 3, 4);
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(null), any(JavaTextMessageFormatFormatter.class),
-					eq("{0}, {1}, {2} or {3}"), eq(1), eq(2), eq(3), eq(4));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(null),
+					any(JavaTextMessageFormatFormatter.class), eq("{0}, {1}, {2} or {3}"), eq(1), eq(2), eq(3), eq(4));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4764,19 +4782,19 @@ public final class TinylogLoggerTest {
 		logger.logv(org.jboss.logging.Logger.Level.DEBUG, "Hello {0}!", "World");
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(null), any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"),
-					eq("World"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(null),
+					any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"), eq("World"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 
 		logger.logv(org.jboss.logging.Logger.Level.WARN, "Hello {0}!", "World");
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(null), any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"),
-					eq("World"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(null),
+					any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"), eq("World"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4788,19 +4806,19 @@ public final class TinylogLoggerTest {
 		logger.logv(org.jboss.logging.Logger.Level.DEBUG, "{0} = {1}", "magic", 42);
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(null), any(JavaTextMessageFormatFormatter.class), eq("{0} = {1}"),
-					eq("magic"), eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(null),
+					any(JavaTextMessageFormatFormatter.class), eq("{0} = {1}"), eq("magic"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 
 		logger.logv(org.jboss.logging.Logger.Level.WARN, "{0} = {1}", "magic", 42);
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(null), any(JavaTextMessageFormatFormatter.class), eq("{0} = {1}"),
-					eq("magic"), eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(null),
+					any(JavaTextMessageFormatFormatter.class), eq("{0} = {1}"), eq("magic"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4812,19 +4830,19 @@ public final class TinylogLoggerTest {
 		logger.logv(org.jboss.logging.Logger.Level.DEBUG, "{0}, {1} or {2}", 1, 2, 3);
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(null), any(JavaTextMessageFormatFormatter.class),
-					eq("{0}, {1} or {2}"), eq(1), eq(2), eq(3));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(null),
+					any(JavaTextMessageFormatFormatter.class), eq("{0}, {1} or {2}"), eq(1), eq(2), eq(3));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 
 		logger.logv(org.jboss.logging.Logger.Level.WARN, "{0}, {1} or {2}", 1, 2, 3);
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(null), any(JavaTextMessageFormatFormatter.class),
-					eq("{0}, {1} or {2}"), eq(1), eq(2), eq(3));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(null),
+					any(JavaTextMessageFormatFormatter.class), eq("{0}, {1} or {2}"), eq(1), eq(2), eq(3));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4838,19 +4856,19 @@ public final class TinylogLoggerTest {
 		logger.logv(org.jboss.logging.Logger.Level.DEBUG, exception, "{0}, {1}, {2} or {3}", 1, 2, 3, 4);
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(exception), any(JavaTextMessageFormatFormatter.class),
-					eq("{0}, {1}, {2} or {3}"), eq(1), eq(2), eq(3), eq(4));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(exception),
+					any(JavaTextMessageFormatFormatter.class), eq("{0}, {1}, {2} or {3}"), eq(1), eq(2), eq(3), eq(4));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 
 		logger.logv(org.jboss.logging.Logger.Level.WARN, exception, "{0}, {1}, {2} or {3}", 1, 2, 3, 4);
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(exception), any(JavaTextMessageFormatFormatter.class),
-					eq("{0}, {1}, {2} or {3}"), eq(1), eq(2), eq(3), eq(4));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(exception),
+					any(JavaTextMessageFormatFormatter.class), eq("{0}, {1}, {2} or {3}"), eq(1), eq(2), eq(3), eq(4));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4864,19 +4882,19 @@ public final class TinylogLoggerTest {
 		logger.logv(org.jboss.logging.Logger.Level.DEBUG, exception, "Hello {0}!", "World");
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(exception), any(JavaTextMessageFormatFormatter.class),
-					eq("Hello {0}!"), eq("World"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(exception),
+					any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"), eq("World"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 
 		logger.logv(org.jboss.logging.Logger.Level.WARN, exception, "Hello {0}!", "World");
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(exception), any(JavaTextMessageFormatFormatter.class),
-					eq("Hello {0}!"), eq("World"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(exception),
+					any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"), eq("World"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4890,19 +4908,19 @@ public final class TinylogLoggerTest {
 		logger.logv(org.jboss.logging.Logger.Level.DEBUG, exception, "{0} = {1}", "magic", 42);
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(exception), any(JavaTextMessageFormatFormatter.class),
-					eq("{0} = {1}"), eq("magic"), eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(exception),
+					any(JavaTextMessageFormatFormatter.class), eq("{0} = {1}"), eq("magic"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 
 		logger.logv(org.jboss.logging.Logger.Level.WARN, exception, "{0} = {1}", "magic", 42);
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(exception), any(JavaTextMessageFormatFormatter.class),
-					eq("{0} = {1}"), eq("magic"), eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(exception),
+					any(JavaTextMessageFormatFormatter.class), eq("{0} = {1}"), eq("magic"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4916,19 +4934,19 @@ public final class TinylogLoggerTest {
 		logger.logv(org.jboss.logging.Logger.Level.DEBUG, exception, "{0}, {1} or {2}", 1, 2, 3);
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(exception), any(JavaTextMessageFormatFormatter.class),
-					eq("{0}, {1} or {2}"), eq(1), eq(2), eq(3));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(exception),
+					any(JavaTextMessageFormatFormatter.class), eq("{0}, {1} or {2}"), eq(1), eq(2), eq(3));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 
 		logger.logv(org.jboss.logging.Logger.Level.WARN, exception, "{0}, {1} or {2}", 1, 2, 3);
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(exception), any(JavaTextMessageFormatFormatter.class),
-					eq("{0}, {1} or {2}"), eq(1), eq(2), eq(3));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(exception),
+					any(JavaTextMessageFormatFormatter.class), eq("{0}, {1} or {2}"), eq(1), eq(2), eq(3));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4943,19 +4961,21 @@ public final class TinylogLoggerTest {
 		logger.logv(TinylogLoggerTest.class.getName(), org.jboss.logging.Logger.Level.DEBUG, exception, "{0}, {1}, {2} or {3}", 1, 2, 3, 4);
 
 		if (debugEnabled) {
-			verify(provider).log(eq(TinylogLoggerTest.class.getName()), isNull(), eq(Level.DEBUG), same(exception),
-					any(JavaTextMessageFormatFormatter.class), eq("{0}, {1}, {2} or {3}"), eq(1), eq(2), eq(3), eq(4));
+			verify(provider).log(eq(TinylogLoggerTest.class.getName()), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG),
+					same(exception), any(JavaTextMessageFormatFormatter.class), eq("{0}, {1}, {2} or {3}"), eq(1), eq(2), eq(3),
+					eq(4));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 
 		logger.logv(TinylogLoggerTest.class.getName(), org.jboss.logging.Logger.Level.WARN, exception, "{0}, {1}, {2} or {3}", 1, 2, 3, 4);
 
 		if (warnEnabled) {
-			verify(provider).log(eq(TinylogLoggerTest.class.getName()), isNull(), eq(Level.WARN), same(exception),
-					any(JavaTextMessageFormatFormatter.class), eq("{0}, {1}, {2} or {3}"), eq(1), eq(2), eq(3), eq(4));
+			verify(provider).log(eq(TinylogLoggerTest.class.getName()), eq(LOGGER_NAME), isNull(), eq(Level.WARN),
+					same(exception), any(JavaTextMessageFormatFormatter.class), eq("{0}, {1}, {2} or {3}"), eq(1), eq(2), eq(3),
+					eq(4));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4970,19 +4990,19 @@ public final class TinylogLoggerTest {
 		logger.logv(TinylogLoggerTest.class.getName(), org.jboss.logging.Logger.Level.DEBUG, exception, "Hello {0}!", "World");
 
 		if (debugEnabled) {
-			verify(provider).log(eq(TinylogLoggerTest.class.getName()), isNull(), eq(Level.DEBUG), same(exception),
-					any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"), eq("World"));
+			verify(provider).log(eq(TinylogLoggerTest.class.getName()), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG),
+					same(exception), any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"), eq("World"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 
 		logger.logv(TinylogLoggerTest.class.getName(), org.jboss.logging.Logger.Level.WARN, exception, "Hello {0}!", "World");
 
 		if (warnEnabled) {
-			verify(provider).log(eq(TinylogLoggerTest.class.getName()), isNull(), eq(Level.WARN), same(exception),
-					any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"), eq("World"));
+			verify(provider).log(eq(TinylogLoggerTest.class.getName()), eq(LOGGER_NAME), isNull(), eq(Level.WARN),
+					same(exception), any(JavaTextMessageFormatFormatter.class), eq("Hello {0}!"), eq("World"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -4997,19 +5017,19 @@ public final class TinylogLoggerTest {
 		logger.logv(TinylogLoggerTest.class.getName(), org.jboss.logging.Logger.Level.DEBUG, exception, "{0} = {1}", "magic", 42);
 
 		if (debugEnabled) {
-			verify(provider).log(eq(TinylogLoggerTest.class.getName()), isNull(), eq(Level.DEBUG), same(exception),
-					any(JavaTextMessageFormatFormatter.class), eq("{0} = {1}"), eq("magic"), eq(42));
+			verify(provider).log(eq(TinylogLoggerTest.class.getName()), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG),
+					same(exception), any(JavaTextMessageFormatFormatter.class), eq("{0} = {1}"), eq("magic"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 
 		logger.logv(TinylogLoggerTest.class.getName(), org.jboss.logging.Logger.Level.WARN, exception, "{0} = {1}", "magic", 42);
 
 		if (warnEnabled) {
-			verify(provider).log(eq(TinylogLoggerTest.class.getName()), isNull(), eq(Level.WARN), same(exception),
-					any(JavaTextMessageFormatFormatter.class), eq("{0} = {1}"), eq("magic"), eq(42));
+			verify(provider).log(eq(TinylogLoggerTest.class.getName()), eq(LOGGER_NAME), isNull(), eq(Level.WARN),
+					same(exception), any(JavaTextMessageFormatFormatter.class), eq("{0} = {1}"), eq("magic"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -5024,19 +5044,19 @@ public final class TinylogLoggerTest {
 		logger.logv(TinylogLoggerTest.class.getName(), org.jboss.logging.Logger.Level.DEBUG, exception, "{0}, {1} or {2}", 1, 2, 3);
 
 		if (debugEnabled) {
-			verify(provider).log(eq(TinylogLoggerTest.class.getName()), isNull(), eq(Level.DEBUG), same(exception),
-					any(JavaTextMessageFormatFormatter.class), eq("{0}, {1} or {2}"), eq(1), eq(2), eq(3));
+			verify(provider).log(eq(TinylogLoggerTest.class.getName()), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG),
+					same(exception), any(JavaTextMessageFormatFormatter.class), eq("{0}, {1} or {2}"), eq(1), eq(2), eq(3));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 
 		logger.logv(TinylogLoggerTest.class.getName(), org.jboss.logging.Logger.Level.WARN, exception, "{0}, {1} or {2}", 1, 2, 3);
 
 		if (warnEnabled) {
-			verify(provider).log(eq(TinylogLoggerTest.class.getName()), isNull(), eq(Level.WARN), same(exception),
-					any(JavaTextMessageFormatFormatter.class), eq("{0}, {1} or {2}"), eq(1), eq(2), eq(3));
+			verify(provider).log(eq(TinylogLoggerTest.class.getName()), eq(LOGGER_NAME), isNull(), eq(Level.WARN),
+					same(exception), any(JavaTextMessageFormatFormatter.class), eq("{0}, {1} or {2}"), eq(1), eq(2), eq(3));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -5048,19 +5068,19 @@ public final class TinylogLoggerTest {
 		logger.logf(org.jboss.logging.Logger.Level.DEBUG, "%s, %s, %s or %s", "one", "two", "three", "four");
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class), eq("%s, %s, %s or %s"),
-					eq("one"), eq("two"), eq("three"), eq("four"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class),
+					eq("%s, %s, %s or %s"), eq("one"), eq("two"), eq("three"), eq("four"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 
 		logger.logf(org.jboss.logging.Logger.Level.WARN, "%s, %s, %s or %s", "one", "two", "three", "four");
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class), eq("%s, %s, %s or %s"),
-					eq("one"), eq("two"), eq("three"), eq("four"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class),
+					eq("%s, %s, %s or %s"), eq("one"), eq("two"), eq("three"), eq("four"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -5072,19 +5092,19 @@ public final class TinylogLoggerTest {
 		logger.logf(org.jboss.logging.Logger.Level.DEBUG, "Hello %s!", "World");
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class), eq("Hello %s!"),
-					eq("World"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class),
+					eq("Hello %s!"), eq("World"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 
 		logger.logf(org.jboss.logging.Logger.Level.WARN, "Hello %s!", "World");
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class), eq("Hello %s!"),
-					eq("World"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class),
+					eq("Hello %s!"), eq("World"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -5096,19 +5116,19 @@ public final class TinylogLoggerTest {
 		logger.logf(org.jboss.logging.Logger.Level.DEBUG, "%s = %d", "magic", 42);
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class), eq("%s = %d"), eq("magic"),
-					eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class),
+					eq("%s = %d"), eq("magic"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 
 		logger.logf(org.jboss.logging.Logger.Level.WARN, "%s = %d", "magic", 42);
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class), eq("%s = %d"), eq("magic"),
-					eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class),
+					eq("%s = %d"), eq("magic"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -5120,19 +5140,19 @@ public final class TinylogLoggerTest {
 		logger.logf(org.jboss.logging.Logger.Level.DEBUG, "%s, %s or %s", "one", "two", "three");
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class), eq("%s, %s or %s"),
-					eq("one"), eq("two"), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(null), any(PrintfStyleFormatter.class),
+					eq("%s, %s or %s"), eq("one"), eq("two"), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 
 		logger.logf(org.jboss.logging.Logger.Level.WARN, "%s, %s or %s", "one", "two", "three");
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class), eq("%s, %s or %s"),
-					eq("one"), eq("two"), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(null), any(PrintfStyleFormatter.class),
+					eq("%s, %s or %s"), eq("one"), eq("two"), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -5147,19 +5167,19 @@ public final class TinylogLoggerTest {
 		logger.logf(org.jboss.logging.Logger.Level.DEBUG, exception, "%s, %s, %s or %s", "one", "two", "three", "four");
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(exception), any(PrintfStyleFormatter.class), eq("%s, %s, %s or %s"),
-					eq("one"), eq("two"), eq("three"), eq("four"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(exception),
+					any(PrintfStyleFormatter.class), eq("%s, %s, %s or %s"), eq("one"), eq("two"), eq("three"), eq("four"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 
 		logger.logf(org.jboss.logging.Logger.Level.WARN, exception, "%s, %s, %s or %s", "one", "two", "three", "four");
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(exception), any(PrintfStyleFormatter.class), eq("%s, %s, %s or %s"),
-					eq("one"), eq("two"), eq("three"), eq("four"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(exception),
+					any(PrintfStyleFormatter.class), eq("%s, %s, %s or %s"), eq("one"), eq("two"), eq("three"), eq("four"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -5174,19 +5194,19 @@ public final class TinylogLoggerTest {
 		logger.logf(org.jboss.logging.Logger.Level.DEBUG, exception, "Hello %s!", "Error");
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(exception), any(PrintfStyleFormatter.class), eq("Hello %s!"),
-					eq("Error"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(exception),
+					any(PrintfStyleFormatter.class), eq("Hello %s!"), eq("Error"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 
 		logger.logf(org.jboss.logging.Logger.Level.WARN, exception, "Hello %s!", "Error");
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(exception), any(PrintfStyleFormatter.class), eq("Hello %s!"),
-					eq("Error"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(exception),
+					any(PrintfStyleFormatter.class), eq("Hello %s!"), eq("Error"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -5201,19 +5221,19 @@ public final class TinylogLoggerTest {
 		logger.logf(org.jboss.logging.Logger.Level.DEBUG, exception, "%s = %d", "magic", 42);
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(exception), any(PrintfStyleFormatter.class), eq("%s = %d"),
-					eq("magic"), eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(exception),
+					any(PrintfStyleFormatter.class), eq("%s = %d"), eq("magic"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 
 		logger.logf(org.jboss.logging.Logger.Level.WARN, exception, "%s = %d", "magic", 42);
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(exception), any(PrintfStyleFormatter.class), eq("%s = %d"),
-					eq("magic"), eq(42));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(exception),
+					any(PrintfStyleFormatter.class), eq("%s = %d"), eq("magic"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -5228,19 +5248,19 @@ public final class TinylogLoggerTest {
 		logger.logf(org.jboss.logging.Logger.Level.DEBUG, exception, "%s, %s or %s", "one", "two", "three");
 
 		if (debugEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(exception), any(PrintfStyleFormatter.class), eq("%s, %s or %s"),
-					eq("one"), eq("two"), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(exception),
+					any(PrintfStyleFormatter.class), eq("%s, %s or %s"), eq("one"), eq("two"), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 
 		logger.logf(org.jboss.logging.Logger.Level.WARN, exception, "%s, %s or %s", "one", "two", "three");
 
 		if (warnEnabled) {
-			verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(exception), any(PrintfStyleFormatter.class), eq("%s, %s or %s"),
-					eq("one"), eq("two"), eq("three"));
+			verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(exception),
+					any(PrintfStyleFormatter.class), eq("%s, %s or %s"), eq("one"), eq("two"), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -5256,20 +5276,22 @@ public final class TinylogLoggerTest {
 				"three", "four");
 
 		if (debugEnabled) {
-			verify(provider).log(eq(TinylogLoggerTest.class.getName()), isNull(), eq(Level.DEBUG), same(exception),
-					any(PrintfStyleFormatter.class), eq("%s, %s, %s or %s"), eq("one"), eq("two"), eq("three"), eq("four"));
+			verify(provider).log(eq(TinylogLoggerTest.class.getName()), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG),
+					same(exception), any(PrintfStyleFormatter.class), eq("%s, %s, %s or %s"), eq("one"), eq("two"), eq("three"),
+					eq("four"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 
 		logger.logf(TinylogLoggerTest.class.getName(), org.jboss.logging.Logger.Level.WARN, exception, "%s, %s, %s or %s", "one", "two",
 				"three", "four");
 
 		if (warnEnabled) {
-			verify(provider).log(eq(TinylogLoggerTest.class.getName()), isNull(), eq(Level.WARN), same(exception),
-					any(PrintfStyleFormatter.class), eq("%s, %s, %s or %s"), eq("one"), eq("two"), eq("three"), eq("four"));
+			verify(provider).log(eq(TinylogLoggerTest.class.getName()), eq(LOGGER_NAME), isNull(), eq(Level.WARN),
+					same(exception), any(PrintfStyleFormatter.class), eq("%s, %s, %s or %s"), eq("one"), eq("two"), eq("three"),
+					eq("four"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -5284,19 +5306,19 @@ public final class TinylogLoggerTest {
 		logger.logf(TinylogLoggerTest.class.getName(), org.jboss.logging.Logger.Level.DEBUG, exception, "Hello %s!", "Error");
 
 		if (debugEnabled) {
-			verify(provider).log(eq(TinylogLoggerTest.class.getName()), isNull(), eq(Level.DEBUG), same(exception),
-					any(PrintfStyleFormatter.class), eq("Hello %s!"), eq("Error"));
+			verify(provider).log(eq(TinylogLoggerTest.class.getName()), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG),
+					same(exception), any(PrintfStyleFormatter.class), eq("Hello %s!"), eq("Error"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 
 		logger.logf(TinylogLoggerTest.class.getName(), org.jboss.logging.Logger.Level.WARN, exception, "Hello %s!", "Error");
 
 		if (warnEnabled) {
-			verify(provider).log(eq(TinylogLoggerTest.class.getName()), isNull(), eq(Level.WARN), same(exception),
-					any(PrintfStyleFormatter.class), eq("Hello %s!"), eq("Error"));
+			verify(provider).log(eq(TinylogLoggerTest.class.getName()), eq(LOGGER_NAME), isNull(), eq(Level.WARN),
+					same(exception), any(PrintfStyleFormatter.class), eq("Hello %s!"), eq("Error"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -5311,19 +5333,19 @@ public final class TinylogLoggerTest {
 		logger.logf(TinylogLoggerTest.class.getName(), org.jboss.logging.Logger.Level.DEBUG, exception, "%s = %d", "magic", 42);
 
 		if (debugEnabled) {
-			verify(provider).log(eq(TinylogLoggerTest.class.getName()), isNull(), eq(Level.DEBUG), same(exception),
-					any(PrintfStyleFormatter.class), eq("%s = %d"), eq("magic"), eq(42));
+			verify(provider).log(eq(TinylogLoggerTest.class.getName()), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG),
+					same(exception), any(PrintfStyleFormatter.class), eq("%s = %d"), eq("magic"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 
 		logger.logf(TinylogLoggerTest.class.getName(), org.jboss.logging.Logger.Level.WARN, exception, "%s = %d", "magic", 42);
 
 		if (warnEnabled) {
-			verify(provider).log(eq(TinylogLoggerTest.class.getName()), isNull(), eq(Level.WARN), same(exception),
-					any(PrintfStyleFormatter.class), eq("%s = %d"), eq("magic"), eq(42));
+			verify(provider).log(eq(TinylogLoggerTest.class.getName()), eq(LOGGER_NAME), isNull(), eq(Level.WARN),
+					same(exception), any(PrintfStyleFormatter.class), eq("%s = %d"), eq("magic"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -5339,20 +5361,20 @@ public final class TinylogLoggerTest {
 				"three");
 
 		if (debugEnabled) {
-			verify(provider).log(eq(TinylogLoggerTest.class.getName()), isNull(), eq(Level.DEBUG), same(exception),
-					any(PrintfStyleFormatter.class), eq("%s, %s or %s"), eq("one"), eq("two"), eq("three"));
+			verify(provider).log(eq(TinylogLoggerTest.class.getName()), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG),
+					same(exception), any(PrintfStyleFormatter.class), eq("%s, %s or %s"), eq("one"), eq("two"), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 
 		logger.logf(TinylogLoggerTest.class.getName(), org.jboss.logging.Logger.Level.WARN, exception, "%s, %s or %s", "one", "two",
 				"three");
 
 		if (warnEnabled) {
-			verify(provider).log(eq(TinylogLoggerTest.class.getName()), isNull(), eq(Level.WARN), same(exception),
-					any(PrintfStyleFormatter.class), eq("%s, %s or %s"), eq("one"), eq("two"), eq("three"));
+			verify(provider).log(eq(TinylogLoggerTest.class.getName()), eq(LOGGER_NAME), isNull(), eq(Level.WARN),
+					same(exception), any(PrintfStyleFormatter.class), eq("%s, %s or %s"), eq("one"), eq("two"), eq("three"));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
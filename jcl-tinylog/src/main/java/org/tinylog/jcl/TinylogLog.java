@@ -15,153 +15,179 @@ package org.tinylog.jcl;
 
 import org.apache.commons.logging.Log;
 import org.tinylog.Level;
-import org.tinylog.provider.LoggingProvider;
+import org.tinylog.provider.ClassAwareLoggingProvider;
 import org.tinylog.provider.ProviderRegistry;
 
 /**
- * Apache Commons Logging (JCL) compatible log class that uses tinylog's {@link LoggingProvider}.
+ * Apache Commons Logging (JCL) compatible log class that uses tinylog's {@link ClassAwareLoggingProvider}.
+ *
+ * <p>
+ * The log name is passed as class name to the logging provider. Therefore, custom severity levels for packages and
+ * classes are resolved once, when the log is created, and no stack trace walk is necessary for determining the caller
+ * class.
+ * </p>
  */
 public final class TinylogLog implements Log {
 
 	private static final int STACKTRACE_DEPTH = 2;
 
-	private static final LoggingProvider provider = ProviderRegistry.getLoggingProvider();
+	private static final ClassAwareLoggingProvider provider = ProviderRegistry.getClassAwareLoggingProvider();
+
+	private final String name;
+
+	private final boolean minimumLevelCoversTrace;
+	private final boolean minimumLevelCoversDebug;
+	private final boolean minimumLevelCoversInfo;
+	private final boolean minimumLevelCoversWarn;
+	private final boolean minimumLevelCoversError;
 
-	// @formatter:off
-	private static final boolean MINIMUM_LEVEL_COVERS_TRACE = isCoveredByMinimumLevel(Level.TRACE);
-	private static final boolean MINIMUM_LEVEL_COVERS_DEBUG = isCoveredByMinimumLevel(Level.DEBUG);
-	private static final boolean MINIMUM_LEVEL_COVERS_INFO  = isCoveredByMinimumLevel(Level.INFO);
-	private static final boolean MINIMUM_LEVEL_COVERS_WARN  = isCoveredByMinimumLevel(Level.WARN);
-	private static final boolean MINIMUM_LEVEL_COVERS_ERROR = isCoveredByMinimumLevel(Level.ERROR);
-	// @formatter:on
+	/**
+	 * @param name
+	 *            Name for log
+	 */
+	TinylogLog(final String name) {
+		this.name = name;
 
-	/** */
-	TinylogLog() {
+		// @formatter:off
+		minimumLevelCoversTrace = isCoveredByMinimumLevel(name, Level.TRACE);
+		minimumLevelCoversDebug = isCoveredByMinimumLevel(name, Level.DEBUG);
+		minimumLevelCoversInfo  = isCoveredByMinimumLevel(name, Level.INFO);
+		minimumLevelCoversWarn  = isCoveredByMinimumLevel(name, Level.WARN);
+		minimumLevelCoversError = isCoveredByMinimumLevel(name, Level.ERROR);
+		// @formatter:on
 	}
-	
+
 	@Override
 	public boolean isTraceEnabled() {
-		return MINIMUM_LEVEL_COVERS_TRACE && provider.isEnabled(STACKTRACE_DEPTH, null, Level.TRACE);
+		return minimumLevelCoversTrace && provider.isEnabled(STACKTRACE_DEPTH, name, null, Level.TRACE);
 	}
 
 	@Override
 	public void trace(final Object message) {
-		if (MINIMUM_LEVEL_COVERS_TRACE) {
-			provider.log(STACKTRACE_DEPTH, null, Level.TRACE, null, null, message);
+		if (minimumLevelCoversTrace) {
+			provider.log(STACKTRACE_DEPTH, name, null, Level.TRACE, null, null, message, (Object[]) null);
 		}
 	}
 
 	@Override
 	public void trace(final Object message, final Throwable exception) {
-		if (MINIMUM_LEVEL_COVERS_TRACE) {
-			provider.log(STACKTRACE_DEPTH, null, Level.TRACE, exception, null, message == exception ? null : message);
+		if (minimumLevelCoversTrace) {
+			provider.log(STACKTRACE_DEPTH, name, null, Level.TRACE, exception, null, message == exception ? null : message,
+					(Object[]) null);
 		}
 	}
 
 	@Override
 	public boolean isDebugEnabled() {
-		return MINIMUM_LEVEL_COVERS_DEBUG && provider.isEnabled(STACKTRACE_DEPTH, null, Level.DEBUG);
+		return minimumLevelCoversDebug && provider.isEnabled(STACKTRACE_DEPTH, name, null, Level.DEBUG);
 	}
 
 	@Override
 	public void debug(final Object message) {
-		if (MINIMUM_LEVEL_COVERS_DEBUG) {
-			provider.log(STACKTRACE_DEPTH, null, Level.DEBUG, null, null, message);
+		if (minimumLevelCoversDebug) {
+			provider.log(STACKTRACE_DEPTH, name, null, Level.DEBUG, null, null, message, (Object[]) null);
 		}
 	}
 
 	@Override
 	public void debug(final Object message, final Throwable exception) {
-		if (MINIMUM_LEVEL_COVERS_DEBUG) {
-			provider.log(STACKTRACE_DEPTH, null, Level.DEBUG, exception, null, message == exception ? null : message);
+		if (minimumLevelCoversDebug) {
+			provider.log(STACKTRACE_DEPTH, name, null, Level.DEBUG, exception, null, message == exception ? null : message,
+					(Object[]) null);
 		}
 	}
 
 	@Override
 	public boolean isInfoEnabled() {
-		return MINIMUM_LEVEL_COVERS_INFO && provider.isEnabled(STACKTRACE_DEPTH, null, Level.INFO);
+		return minimumLevelCoversInfo && provider.isEnabled(STACKTRACE_DEPTH, name, null, Level.INFO);
 	}
 
 	@Override
 	public void info(final Object message) {
-		if (MINIMUM_LEVEL_COVERS_INFO) {
-			provider.log(STACKTRACE_DEPTH, null, Level.INFO, null, null, message);
+		if (minimumLevelCoversInfo) {
+			provider.log(STACKTRACE_DEPTH, name, null, Level.INFO, null, null, message, (Object[]) null);
 		}
 	}
 
 	@Override
 	public void info(final Object message, final Throwable exception) {
-		if (MINIMUM_LEVEL_COVERS_INFO) {
-			provider.log(STACKTRACE_DEPTH, null, Level.INFO, exception, null, message == exception ? null : message);
+		if (minimumLevelCoversInfo) {
+			provider.log(STACKTRACE_DEPTH, name, null, Level.INFO, exception, null, message == exception ? null : message,
+					(Object[]) null);
 		}
 	}
 
 	@Override
 	public boolean isWarnEnabled() {
-		return MINIMUM_LEVEL_COVERS_WARN && provider.isEnabled(STACKTRACE_DEPTH, null, Level.WARN);
+		return minimumLevelCoversWarn && provider.isEnabled(STACKTRACE_DEPTH, name, null, Level.WARN);
 	}
 
 	@Override
 	public void warn(final Object message) {
-		if (MINIMUM_LEVEL_COVERS_WARN) {
-			provider.log(STACKTRACE_DEPTH, null, Level.WARN, null, null, message);
+		if (minimumLevelCoversWarn) {
+			provider.log(STACKTRACE_DEPTH, name, null, Level.WARN, null, null, message, (Object[]) null);
 		}
 	}
 
 	@Override
 	public void warn(final Object message, final Throwable exception) {
-		if (MINIMUM_LEVEL_COVERS_WARN) {
-			provider.log(STACKTRACE_DEPTH, null, Level.WARN, exception, null, message == exception ? null : message);
+		if (minimumLevelCoversWarn) {
+			provider.log(STACKTRACE_DEPTH, name, null, Level.WARN, exception, null, message == exception ? null : message,
+					(Object[]) null);
 		}
 	}
 
 	@Override
 	public boolean isErrorEnabled() {
-		return MINIMUM_LEVEL_COVERS_ERROR && provider.isEnabled(STACKTRACE_DEPTH, null, Level.ERROR);
+		return minimumLevelCoversError && provider.isEnabled(STACKTRACE_DEPTH, name, null, Level.ERROR);
 	}
 
 	@Override
 	public void error(final Object message) {
-		if (MINIMUM_LEVEL_COVERS_ERROR) {
-			provider.log(STACKTRACE_DEPTH, null, Level.ERROR, null, null, message);
+		if (minimumLevelCoversError) {
+			provider.log(STACKTRACE_DEPTH, name, null, Level.ERROR, null, null, message, (Object[]) null);
 		}
 	}
 
 	@Override
 	public void error(final Object message, final Throwable exception) {
-		if (MINIMUM_LEVEL_COVERS_ERROR) {
-			provider.log(STACKTRACE_DEPTH, null, Level.ERROR, exception, null, exception == message ? null : message);
+		if (minimumLevelCoversError) {
+			provider.log(STACKTRACE_DEPTH, name, null, Level.ERROR, exception, null, exception == message ? null : message,
+					(Object[]) null);
 		}
 	}
 
 	@Override
 	public boolean isFatalEnabled() {
-		return MINIMUM_LEVEL_COVERS_ERROR && provider.isEnabled(STACKTRACE_DEPTH, null, Level.ERROR);
+		return minimumLevelCoversError && provider.isEnabled(STACKTRACE_DEPTH, name, null, Level.ERROR);
 	}
 
 	@Override
 	public void fatal(final Object message) {
-		if (MINIMUM_LEVEL_COVERS_ERROR) {
-			provider.log(STACKTRACE_DEPTH, null, Level.ERROR, null, null, message);
+		if (minimumLevelCoversError) {
+			provider.log(STACKTRACE_DEPTH, name, null, Level.ERROR, null, null, message, (Object[]) null);
 		}
 	}
 
 	@Override
 	public void fatal(final Object message, final Throwable exception) {
-		if (MINIMUM_LEVEL_COVERS_ERROR) {
-			provider.log(STACKTRACE_DEPTH, null, Level.ERROR, exception, null, exception == message ? null : message);
+		if (minimumLevelCoversError) {
+			provider.log(STACKTRACE_DEPTH, name, null, Level.ERROR, exception, null, exception == message ? null : message,
+					(Object[]) null);
 		}
 	}
 
 	/**
-	 * Checks if a given severity level is covered by the logging provider's minimum level.
+	 * Checks if a given severity level is covered by the untagged logging provider's minimum level for a log name.
 	 *
+	 * @param name
+	 *            Name of log
 	 * @param level
 	 *            Severity level to check
 	 * @return {@code true} if given severity level is covered, otherwise {@code false}
 	 */
-	private static boolean isCoveredByMinimumLevel(final Level level) {
-		return provider.getMinimumLevel(null).ordinal() <= level.ordinal();
+	private static boolean isCoveredByMinimumLevel(final String name, final Level level) {
+		return provider.getMinimumLevel(name, null).ordinal() <= level.ordinal();
 	}
 
 }
@@ -16,6 +16,7 @@ package org.tinylog.jcl;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -25,24 +26,31 @@ import org.apache.commons.logging.LogFactory;
  */
 public final class TinylogLogFactory extends LogFactory {
 
-	private final TinylogLog log;
+	private final ConcurrentMap<String, TinylogLog> logs;
 	private final Map<String, Object> attributes;
 
 	/** */
 	public TinylogLogFactory() {
-		log = new TinylogLog();
+		logs = new ConcurrentHashMap<String, TinylogLog>();
 		attributes = new ConcurrentHashMap<String, Object>();
 	}
 
 	@SuppressWarnings("rawtypes")
 	@Override
 	public Log getInstance(final Class clazz) {
-		return log;
+		return getInstance(clazz.getName());
 	}
 
 	@Override
 	public Log getInstance(final String name) {
-		return log;
+		TinylogLog log = logs.get(name);
+		if (log == null) {
+			TinylogLog newLog = new TinylogLog(name);
+			TinylogLog existingLog = logs.putIfAbsent(name, newLog);
+			return existingLog == null ? newLog : existingLog;
+		} else {
+			return log;
+		}
 	}
 
 	@Override
@@ -72,7 +80,7 @@ public final class TinylogLogFactory extends LogFactory {
 
 	@Override
 	public void release() {
-		// Nothing to do
+		logs.clear();
 	}
 
 }
@@ -35,14 +35,23 @@ public final class TinylogLogFactoryTest {
 	}
 
 	/**
-	 * Verifies that always the same {@link TinylogLog} instance will be returned.
+	 * Verifies that always the same {@link TinylogLog} instance will be returned for the same name.
 	 */
 	@Test
 	public void cachedLogInstance() {
 		Log log = factory.getInstance("com.example.MyClass");
 		assertThat(log).isInstanceOf(TinylogLog.class);
 
-		assertThat(factory.getInstance("com.example.OtherClass")).isSameAs(log);
+		assertThat(factory.getInstance("com.example.MyClass")).isSameAs(log);
+		assertThat(factory.getInstance("com.example.OtherClass")).isNotSameAs(log);
+	}
+
+	/**
+	 * Verifies that the fully-qualified class name is used as name for a log that is requested for a class.
+	 */
+	@Test
+	public void logInstanceForClass() {
+		Log log = factory.getInstance(TinylogLogFactoryTest.class.getName());
 		assertThat(factory.getInstance(TinylogLogFactoryTest.class)).isSameAs(log);
 	}
 
@@ -97,11 +106,13 @@ public final class TinylogLogFactoryTest {
 	}
 
 	/**
-	 * Verifies that {@link TinylogLogFactory#release()} is callable and throws no exceptions.
+	 * Verifies that {@link TinylogLogFactory#release()} discards all created {@link TinylogLog} instances.
 	 */
 	@Test
 	public void releasable() {
+		Log log = factory.getInstance("com.example.MyClass");
 		factory.release();
+		assertThat(factory.getInstance("com.example.MyClass")).isNotSameAs(log);
 	}
 
 }
@@ -29,7 +29,7 @@ import org.powermock.modules.junit4.PowerMockRunner;
 import org.powermock.modules.junit4.rule.PowerMockRule;
 import org.powermock.reflect.Whitebox;
 import org.tinylog.Level;
-import org.tinylog.provider.LoggingProvider;
+import org.tinylog.provider.ClassAwareLoggingProvider;
 import org.tinylog.provider.ProviderRegistry;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -49,6 +49,8 @@ import static org.mockito.Mockito.when;
 @PrepareForTest(TinylogLog.class)
 public final class TinylogLogTest {
 
+	private static final String LOG_NAME = TinylogLogTest.class.getName();
+
 	/**
 	 * Activates PowerMock (alternative to {@link PowerMockRunner}).
 	 */
@@ -63,7 +65,7 @@ public final class TinylogLogTest {
 	private boolean warnEnabled;
 	private boolean errorEnabled;
 
-	private LoggingProvider provider;
+	private ClassAwareLoggingProvider provider;
 	private TinylogLog log;
 
 	/**
@@ -117,21 +119,17 @@ public final class TinylogLogTest {
 	 */
 	@Before
 	public void init() {
-		provider = mock(LoggingProvider.class);
-		when(provider.getMinimumLevel(null)).thenReturn(level);
-		when(provider.isEnabled(anyInt(), eq(null), eq(Level.TRACE))).thenReturn(traceEnabled);
-		when(provider.isEnabled(anyInt(), eq(null), eq(Level.DEBUG))).thenReturn(debugEnabled);
-		when(provider.isEnabled(anyInt(), eq(null), eq(Level.INFO))).thenReturn(infoEnabled);
-		when(provider.isEnabled(anyInt(), eq(null), eq(Level.WARN))).thenReturn(warnEnabled);
-		when(provider.isEnabled(anyInt(), eq(null), eq(Level.ERROR))).thenReturn(errorEnabled);
-
-		log = new TinylogLog();
-		Whitebox.setInternalState(TinylogLog.class, "MINIMUM_LEVEL_COVERS_TRACE", traceEnabled);
-		Whitebox.setInternalState(TinylogLog.class, "MINIMUM_LEVEL_COVERS_DEBUG", debugEnabled);
-		Whitebox.setInternalState(TinylogLog.class, "MINIMUM_LEVEL_COVERS_INFO", infoEnabled);
-		Whitebox.setInternalState(TinylogLog.class, "MINIMUM_LEVEL_COVERS_WARN", warnEnabled);
-		Whitebox.setInternalState(TinylogLog.class, "MINIMUM_LEVEL_COVERS_ERROR", errorEnabled);
+		provider = mock(ClassAwareLoggingProvider.class);
+		when(provider.getMinimumLevel(LOG_NAME, null)).thenReturn(level);
+		when(provider.isEnabled(anyInt(), eq(LOG_NAME), eq(null), eq(Level.TRACE))).thenReturn(traceEnabled);
+		when(provider.isEnabled(anyInt(), eq(LOG_NAME), eq(null), eq(Level.DEBUG))).thenReturn(debugEnabled);
+		when(provider.isEnabled(anyInt(), eq(LOG_NAME), eq(null), eq(Level.INFO))).thenReturn(infoEnabled);
+		when(provider.isEnabled(anyInt(), eq(LOG_NAME), eq(null), eq(Level.WARN))).thenReturn(warnEnabled);
+		when(provider.isEnabled(anyInt(), eq(LOG_NAME), eq(null), eq(Level.ERROR))).thenReturn(errorEnabled);
+
 		Whitebox.setInternalState(TinylogLog.class, provider);
+
+		log = new TinylogLog(LOG_NAME);
 	}
 
 	/**
@@ -139,7 +137,7 @@ public final class TinylogLogTest {
 	 */
 	@After
 	public void reset() {
-		Whitebox.setInternalState(TinylogLog.class, ProviderRegistry.getLoggingProvider());
+		Whitebox.setInternalState(TinylogLog.class, ProviderRegistry.getClassAwareLoggingProvider());
 	}
 
 	/**
@@ -158,9 +156,9 @@ public final class TinylogLogTest {
 		log.trace("Hello World!");
 
 		if (traceEnabled) {
-			verify(provider).log(2, null, Level.TRACE, null, null, "Hello World!");
+			verify(provider).log(2, LOG_NAME, null, Level.TRACE, null, null, "Hello World!", (Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -174,9 +172,9 @@ public final class TinylogLogTest {
 		log.trace(exception, exception);
 
 		if (traceEnabled) {
-			verify(provider).log(2, null, Level.TRACE, exception, null, null);
+			verify(provider).log(2, LOG_NAME, null, Level.TRACE, exception, null, null, (Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -190,9 +188,9 @@ public final class TinylogLogTest {
 		log.trace("Boom!", exception);
 
 		if (traceEnabled) {
-			verify(provider).log(2, null, Level.TRACE, exception, null, "Boom!");
+			verify(provider).log(2, LOG_NAME, null, Level.TRACE, exception, null, "Boom!", (Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -212,9 +210,9 @@ public final class TinylogLogTest {
 		log.debug("Hello World!");
 
 		if (debugEnabled) {
-			verify(provider).log(2, null, Level.DEBUG, null, null, "Hello World!");
+			verify(provider).log(2, LOG_NAME, null, Level.DEBUG, null, null, "Hello World!", (Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -228,9 +226,9 @@ public final class TinylogLogTest {
 		log.debug(exception, exception);
 
 		if (debugEnabled) {
-			verify(provider).log(2, null, Level.DEBUG, exception, null, null);
+			verify(provider).log(2, LOG_NAME, null, Level.DEBUG, exception, null, null, (Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -244,9 +242,9 @@ public final class TinylogLogTest {
 		log.debug("Boom!", exception);
 
 		if (debugEnabled) {
-			verify(provider).log(2, null, Level.DEBUG, exception, null, "Boom!");
+			verify(provider).log(2, LOG_NAME, null, Level.DEBUG, exception, null, "Boom!", (Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -266,9 +264,9 @@ public final class TinylogLogTest {
 		log.info("Hello World!");
 
 		if (infoEnabled) {
-			verify(provider).log(2, null, Level.INFO, null, null, "Hello World!");
+			verify(provider).log(2, LOG_NAME, null, Level.INFO, null, null, "Hello World!", (Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -282,9 +280,9 @@ public final class TinylogLogTest {
 		log.info(exception, exception);
 
 		if (infoEnabled) {
-			verify(provider).log(2, null, Level.INFO, exception, null, null);
+			verify(provider).log(2, LOG_NAME, null, Level.INFO, exception, null, null, (Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -298,9 +296,9 @@ public final class TinylogLogTest {
 		log.info("Boom!", exception);
 
 		if (infoEnabled) {
-			verify(provider).log(2, null, Level.INFO, exception, null, "Boom!");
+			verify(provider).log(2, LOG_NAME, null, Level.INFO, exception, null, "Boom!", (Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -320,9 +318,9 @@ public final class TinylogLogTest {
 		log.warn("Hello World!");
 
 		if (warnEnabled) {
-			verify(provider).log(2, null, Level.WARN, null, null, "Hello World!");
+			verify(provider).log(2, LOG_NAME, null, Level.WARN, null, null, "Hello World!", (Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -336,9 +334,9 @@ public final class TinylogLogTest {
 		log.warn(exception, exception);
 
 		if (warnEnabled) {
-			verify(provider).log(2, null, Level.WARN, exception, null, null);
+			verify(provider).log(2, LOG_NAME, null, Level.WARN, exception, null, null, (Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -352,9 +350,9 @@ public final class TinylogLogTest {
 		log.warn("Boom!", exception);
 
 		if (warnEnabled) {
-			verify(provider).log(2, null, Level.WARN, exception, null, "Boom!");
+			verify(provider).log(2, LOG_NAME, null, Level.WARN, exception, null, "Boom!", (Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -374,9 +372,9 @@ public final class TinylogLogTest {
 		log.error("Hello World!");
 
 		if (errorEnabled) {
-			verify(provider).log(2, null, Level.ERROR, null, null, "Hello World!");
+			verify(provider).log(2, LOG_NAME, null, Level.ERROR, null, null, "Hello World!", (Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -390,9 +388,9 @@ public final class TinylogLogTest {
 		log.error(exception, exception);
 
 		if (errorEnabled) {
-			verify(provider).log(2, null, Level.ERROR, exception, null, null);
+			verify(provider).log(2, LOG_NAME, null, Level.ERROR, exception, null, null, (Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -406,9 +404,9 @@ public final class TinylogLogTest {
 		log.error("Boom!", exception);
 
 		if (errorEnabled) {
-			verify(provider).log(2, null, Level.ERROR, exception, null, "Boom!");
+			verify(provider).log(2, LOG_NAME, null, Level.ERROR, exception, null, "Boom!", (Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -428,9 +426,9 @@ public final class TinylogLogTest {
 		log.fatal("Hello World!");
 
 		if (errorEnabled) {
-			verify(provider).log(2, null, Level.ERROR, null, null, "Hello World!");
+			verify(provider).log(2, LOG_NAME, null, Level.ERROR, null, null, "Hello World!", (Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -444,9 +442,9 @@ public final class TinylogLogTest {
 		log.fatal(exception, exception);
 
 		if (errorEnabled) {
-			verify(provider).log(2, null, Level.ERROR, exception, null, null);
+			verify(provider).log(2, LOG_NAME, null, Level.ERROR, exception, null, null, (Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -460,9 +458,9 @@ public final class TinylogLogTest {
 		log.fatal("Boom!", exception);
 
 		if (errorEnabled) {
-			verify(provider).log(2, null, Level.ERROR, exception, null, "Boom!");
+			verify(provider).log(2, LOG_NAME, null, Level.ERROR, exception, null, "Boom!", (Object[]) null);
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -13,6 +13,8 @@
 
 package org.tinylog.jul;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
@@ -22,27 +24,61 @@ import java.util.logging.Logger;
 import org.tinylog.configuration.Configuration;
 import org.tinylog.format.JavaTextMessageFormatFormatter;
 import org.tinylog.format.MessageFormatter;
-import org.tinylog.provider.LoggingProvider;
+import org.tinylog.provider.ClassAwareLoggingProvider;
 import org.tinylog.provider.ProviderRegistry;
 
 /**
  * {@link Handler java.util.logging.Handler} for redirecting log entries to tinylog.
+ *
+ * <p>
+ * The levels of {@link Logger java.util.logging.Loggers} are synchronized with the severity levels of tinylog,
+ * including custom severity levels for packages and classes. Therefore, disabled log entries are already discarded by
+ * {@code java.util.logging} before creating a {@link LogRecord}. If tinylog requires the class or method name, the
+ * source class and method of log records are passed to tinylog as they are. Otherwise, the source of log records is
+ * not requested at all, since {@code java.util.logging} walks the stack trace for determining it.
+ * </p>
  */
 final class BridgeHandler extends Handler {
 
 	private static final String LOGGER_CLASS_NAME = Logger.class.getName();
+	private static final String CUSTOM_LEVEL_PREFIX = "level@";
+	private static final String UNKNOWN_METHOD_NAME = "<unknown>";
 
 	private static final MessageFormatter formatter = new JavaTextMessageFormatFormatter(Configuration.getLocale());
-	private static final LoggingProvider provider = ProviderRegistry.getLoggingProvider();
+	private static final ClassAwareLoggingProvider provider = ProviderRegistry.getClassAwareLoggingProvider();
+
+	private final List<Logger> loggers;
 
 	/** */
 	BridgeHandler() {
+		loggers = new ArrayList<Logger>();
 	}
 
 	@Override
 	public void publish(final LogRecord record) {
-		provider.log(LOGGER_CLASS_NAME, null, translateLevel(record.getLevel()), record.getThrown(), formatter, record.getMessage(),
-				record.getParameters());
+		org.tinylog.Level level = translateLevel(record.getLevel());
+
+		String className = null;
+		if (provider.isSourceRequired(null, level)) {
+			className = record.getSourceClassName();
+			if (className == null) {
+				className = record.getLoggerName();
+			}
+		}
+
+		if (className == null || className.isEmpty()) {
+			provider.log(LOGGER_CLASS_NAME, null, level, record.getThrown(), formatter, record.getMessage(),
+					record.getParameters());
+		} else {
+			String methodName = record.getSourceMethodName();
+			if (methodName == null) {
+				methodName = UNKNOWN_METHOD_NAME;
+			}
+
+			StackTraceElement source = new StackTraceElement(className, methodName, null, -1);
+			provider.log(LOGGER_CLASS_NAME, source, null, level, record.getThrown(), formatter, record.getMessage(),
+					record.getParameters());
+		}
 	}
 
 	@Override
@@ -57,13 +93,30 @@ final class BridgeHandler extends Handler {
 
 	/**
 	 * Activates this handler.
+	 *
+	 * <p>
+	 * The root logger gets the overall minimum severity level including all custom severity levels, since logger names
+	 * in {@code java.util.logging} don't have to match the class names of the issuing classes. For each package or
+	 * class with a custom severity level, the logger with the same name gets the custom severity level. These loggers
+	 * are held by this handler, since {@code java.util.logging} keeps only weak references and would drop the
+	 * configured levels otherwise.
+	 * </p>
 	 */
 	void activate() {
 		LogManager.getLogManager().reset();
 
-		Logger logger = Logger.getLogger("");
-		logger.setLevel(translateLevel(provider.getMinimumLevel(null)));
-		logger.addHandler(this);
+		Logger root = Logger.getLogger("");
+		root.setLevel(translateLevel(provider.getMinimumLevel(null)));
+		root.addHandler(this);
+
+		for (String key : Configuration.getSiblings(CUSTOM_LEVEL_PREFIX).keySet()) {
+			String name = key.substring(CUSTOM_LEVEL_PREFIX.length());
+			if (!name.isEmpty()) {
+				Logger logger = Logger.getLogger(name);
+				logger.setLevel(translateLevel(provider.getMinimumLevel(name, null)));
+				loggers.add(logger);
+			}
+		}
 	}
 
 	/**
@@ -30,7 +30,13 @@ public final class JulTinylogBridge {
 	 * 
 	 * <p>
 	 * All existing {@link Handler handlers} will be removed. {@link Logger java.util.logging.Loggers} inherit the
-	 * minimum activated severity level from tinylog.
+	 * minimum activated severity level from tinylog, including custom severity levels for packages and classes.
+	 * </p>
+	 *
+	 * <p>
+	 * Loggers whose names match a package or class with a custom severity level get this custom severity level. All
+	 * other loggers inherit the overall minimum severity level, as their names don't have to match any class name.
+	 * Thus, records from such loggers are only filtered by tinylog according to their source class.
 	 * </p>
 	 */
 	public static void activate() {
@@ -15,6 +15,7 @@ package org.tinylog.jul;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
@@ -31,11 +32,11 @@ import org.powermock.modules.junit4.rule.PowerMockRule;
 import org.powermock.reflect.Whitebox;
 import org.tinylog.Level;
 import org.tinylog.format.JavaTextMessageFormatFormatter;
-import org.tinylog.provider.LoggingProvider;
+import org.tinylog.configuration.Configuration;
+import org.tinylog.provider.ClassAwareLoggingProvider;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
@@ -66,7 +67,7 @@ public final class BridgeHandlerTest {
 	private final boolean warningEnabled;
 	private final boolean severeEnabled;
 
-	private LoggingProvider provider;
+	private ClassAwareLoggingProvider provider;
 	private Logger logger;
 
 	/**
@@ -128,8 +129,9 @@ public final class BridgeHandlerTest {
 	 */
 	@Before
 	public void init() {
-		provider = mock(LoggingProvider.class);
-		when(provider.getMinimumLevel(null)).thenReturn(level);
+		provider = mock(ClassAwareLoggingProvider.class);
+		when(provider.getMinimumLevel((String) null)).thenReturn(level);
+		when(provider.isSourceRequired(isNull(), any())).thenReturn(true);
 		Whitebox.setInternalState(BridgeHandler.class, provider);
 
 		JulTinylogBridge.activate();
@@ -145,6 +147,60 @@ public final class BridgeHandlerTest {
 		LogManager.getLogManager().reset();
 	}
 
+	/**
+	 * Verifies that custom severity levels for packages are propagated to the loggers of {@code java.util.logging}.
+	 */
+	@Test
+	public void customLevels() {
+		Configuration.set("level@org.test", "error");
+		when(provider.getMinimumLevel("org.test", null)).thenReturn(Level.ERROR);
+
+		try {
+			JulTinylogBridge.activate();
+		} finally {
+			Configuration.replace(Collections.singletonMap("provider", "nop"));
+		}
+
+		Logger customLogger = Logger.getLogger("org.test.Foo");
+		assertThat(customLogger.isLoggable(java.util.logging.Level.WARNING)).isFalse();
+		assertThat(customLogger.isLoggable(java.util.logging.Level.SEVERE)).isTrue();
+
+		assertThat(logger.isLoggable(java.util.logging.Level.SEVERE)).isEqualTo(severeEnabled);
+		assertThat(Logger.getLogger("myapp").isLoggable(java.util.logging.Level.FINEST)).isEqualTo(finestEnabled);
+	}
+
+	/**
+	 * Verifies that an explicitly passed source class and method are used for log entries.
+	 */
+	@Test
+	public void explicitSource() {
+		logger.logp(java.util.logging.Level.SEVERE, "org.test.Foo", "bar", "Hello World!");
+
+		if (severeEnabled) {
+			verify(provider).log(eq(Logger.class.getName()), eq(new StackTraceElement("org.test.Foo", "bar", null, -1)), isNull(),
+					eq(Level.ERROR), same(null), any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
+		} else {
+			verify(provider, never()).log(anyString(), any(StackTraceElement.class), any(), any(), any(), any(), any(), any());
+		}
+	}
+
+	/**
+	 * Verifies that the source of log records is not passed, if tinylog requires neither the class nor the method
+	 * name.
+	 */
+	@Test
+	public void withoutSource() {
+		when(provider.isSourceRequired(isNull(), any())).thenReturn(false);
+
+		logger.severe("Hello World!");
+
+		verify(provider, never()).log(anyString(), any(StackTraceElement.class), any(), any(), any(), any(), any(), any());
+		if (severeEnabled) {
+			verify(provider).log(eq(Logger.class.getName()), isNull(), eq(Level.ERROR), same(null),
+					any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
+		}
+	}
+
 	/**
 	 * Verifies evaluating whether {@link java.util.logging.Level#FINEST FINEST} level is enabled.
 	 */
@@ -162,10 +218,10 @@ public final class BridgeHandlerTest {
 		logger.finest("Hello World!");
 
 		if (finestEnabled) {
-			verify(provider).log(eq(Logger.class.getName()), isNull(), eq(Level.TRACE), same(null),
-					any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
+			verify(provider).log(eq(Logger.class.getName()), eq(source("finestTextMessage")), isNull(), eq(Level.TRACE),
+					same(null), any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyString(), any(StackTraceElement.class), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -178,10 +234,10 @@ public final class BridgeHandlerTest {
 		logger.finest(() -> "Hello World!");
 
 		if (finestEnabled) {
-			verify(provider).log(eq(Logger.class.getName()), isNull(), eq(Level.TRACE), same(null),
-					any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
+			verify(provider).log(eq(Logger.class.getName()), eq(source("finestSupplierMessage")), isNull(), eq(Level.TRACE),
+					same(null), any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyString(), any(StackTraceElement.class), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -194,10 +250,10 @@ public final class BridgeHandlerTest {
 		logger.log(java.util.logging.Level.FINEST, "magic = {0}", new Object[] { 42 });
 
 		if (finestEnabled) {
-			verify(provider).log(eq(Logger.class.getName()), isNull(), eq(Level.TRACE), same(null),
-					any(JavaTextMessageFormatFormatter.class), eq("magic = {0}"), eq(42));
+			verify(provider).log(eq(Logger.class.getName()), eq(source("finestLogEntryWithArguments")), isNull(), eq(Level.TRACE),
+					same(null), any(JavaTextMessageFormatFormatter.class), eq("magic = {0}"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyString(), any(StackTraceElement.class), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -211,10 +267,10 @@ public final class BridgeHandlerTest {
 		logger.log(java.util.logging.Level.FINEST, "Hello World!", exception);
 
 		if (finestEnabled) {
-			verify(provider).log(eq(Logger.class.getName()), isNull(), eq(Level.TRACE), same(exception),
-					any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
+			verify(provider).log(eq(Logger.class.getName()), eq(source("finestLogEntryWithException")), isNull(), eq(Level.TRACE),
+					same(exception), any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyString(), any(StackTraceElement.class), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -235,10 +291,10 @@ public final class BridgeHandlerTest {
 		logger.finer("Hello World!");
 
 		if (finerEnabled) {
-			verify(provider).log(eq(Logger.class.getName()), isNull(), eq(Level.DEBUG), same(null),
-					any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
+			verify(provider).log(eq(Logger.class.getName()), eq(source("finerTextMessage")), isNull(), eq(Level.DEBUG),
+					same(null), any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyString(), any(StackTraceElement.class), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -251,10 +307,10 @@ public final class BridgeHandlerTest {
 		logger.finer(() -> "Hello World!");
 
 		if (finerEnabled) {
-			verify(provider).log(eq(Logger.class.getName()), isNull(), eq(Level.DEBUG), same(null),
-					any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
+			verify(provider).log(eq(Logger.class.getName()), eq(source("finerSupplierMessage")), isNull(), eq(Level.DEBUG),
+					same(null), any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyString(), any(StackTraceElement.class), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -267,10 +323,10 @@ public final class BridgeHandlerTest {
 		logger.log(java.util.logging.Level.FINER, "magic = {0}", new Object[] { 42 });
 
 		if (finerEnabled) {
-			verify(provider).log(eq(Logger.class.getName()), isNull(), eq(Level.DEBUG), same(null),
-					any(JavaTextMessageFormatFormatter.class), eq("magic = {0}"), eq(42));
+			verify(provider).log(eq(Logger.class.getName()), eq(source("finerLogEntryWithArguments")), isNull(), eq(Level.DEBUG),
+					same(null), any(JavaTextMessageFormatFormatter.class), eq("magic = {0}"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyString(), any(StackTraceElement.class), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -284,10 +340,10 @@ public final class BridgeHandlerTest {
 		logger.log(java.util.logging.Level.FINER, "Hello World!", exception);
 
 		if (finerEnabled) {
-			verify(provider).log(eq(Logger.class.getName()), isNull(), eq(Level.DEBUG), same(exception),
-					any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
+			verify(provider).log(eq(Logger.class.getName()), eq(source("finerLogEntryWithException")), isNull(), eq(Level.DEBUG),
+					same(exception), any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyString(), any(StackTraceElement.class), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -308,10 +364,10 @@ public final class BridgeHandlerTest {
 		logger.fine("Hello World!");
 
 		if (fineEnabled) {
-			verify(provider).log(eq(Logger.class.getName()), isNull(), eq(Level.DEBUG), same(null),
-					any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
+			verify(provider).log(eq(Logger.class.getName()), eq(source("fineTextMessage")), isNull(), eq(Level.DEBUG),
+					same(null), any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyString(), any(StackTraceElement.class), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -324,10 +380,10 @@ public final class BridgeHandlerTest {
 		logger.fine(() -> "Hello World!");
 
 		if (fineEnabled) {
-			verify(provider).log(eq(Logger.class.getName()), isNull(), eq(Level.DEBUG), same(null),
-					any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
+			verify(provider).log(eq(Logger.class.getName()), eq(source("fineSupplierMessage")), isNull(), eq(Level.DEBUG),
+					same(null), any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyString(), any(StackTraceElement.class), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -340,10 +396,10 @@ public final class BridgeHandlerTest {
 		logger.log(java.util.logging.Level.FINE, "magic = {0}", new Object[] { 42 });
 
 		if (fineEnabled) {
-			verify(provider).log(eq(Logger.class.getName()), isNull(), eq(Level.DEBUG), same(null),
-					any(JavaTextMessageFormatFormatter.class), eq("magic = {0}"), eq(42));
+			verify(provider).log(eq(Logger.class.getName()), eq(source("fineLogEntryWithArguments")), isNull(), eq(Level.DEBUG),
+					same(null), any(JavaTextMessageFormatFormatter.class), eq("magic = {0}"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyString(), any(StackTraceElement.class), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -357,10 +413,10 @@ public final class BridgeHandlerTest {
 		logger.log(java.util.logging.Level.FINE, "Hello World!", exception);
 
 		if (fineEnabled) {
-			verify(provider).log(eq(Logger.class.getName()), isNull(), eq(Level.DEBUG), same(exception),
-					any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
+			verify(provider).log(eq(Logger.class.getName()), eq(source("fineLogEntryWithException")), isNull(), eq(Level.DEBUG),
+					same(exception), any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyString(), any(StackTraceElement.class), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -381,10 +437,10 @@ public final class BridgeHandlerTest {
 		logger.config("Hello World!");
 
 		if (configEnabled) {
-			verify(provider).log(eq(Logger.class.getName()), isNull(), eq(Level.INFO), same(null),
-					any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
+			verify(provider).log(eq(Logger.class.getName()), eq(source("configTextMessage")), isNull(), eq(Level.INFO),
+					same(null), any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyString(), any(StackTraceElement.class), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -397,10 +453,10 @@ public final class BridgeHandlerTest {
 		logger.config(() -> "Hello World!");
 
 		if (configEnabled) {
-			verify(provider).log(eq(Logger.class.getName()), isNull(), eq(Level.INFO), same(null),
-					any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
+			verify(provider).log(eq(Logger.class.getName()), eq(source("configSupplierMessage")), isNull(), eq(Level.INFO),
+					same(null), any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyString(), any(StackTraceElement.class), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -413,10 +469,10 @@ public final class BridgeHandlerTest {
 		logger.log(java.util.logging.Level.CONFIG, "magic = {0}", new Object[] { 42 });
 
 		if (configEnabled) {
-			verify(provider).log(eq(Logger.class.getName()), isNull(), eq(Level.INFO), same(null),
-					any(JavaTextMessageFormatFormatter.class), eq("magic = {0}"), eq(42));
+			verify(provider).log(eq(Logger.class.getName()), eq(source("configLogEntryWithArguments")), isNull(), eq(Level.INFO),
+					same(null), any(JavaTextMessageFormatFormatter.class), eq("magic = {0}"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyString(), any(StackTraceElement.class), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -430,10 +486,10 @@ public final class BridgeHandlerTest {
 		logger.log(java.util.logging.Level.CONFIG, "Hello World!", exception);
 
 		if (configEnabled) {
-			verify(provider).log(eq(Logger.class.getName()), isNull(), eq(Level.INFO), same(exception),
-					any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
+			verify(provider).log(eq(Logger.class.getName()), eq(source("configLogEntryWithException")), isNull(), eq(Level.INFO),
+					same(exception), any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyString(), any(StackTraceElement.class), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -454,10 +510,10 @@ public final class BridgeHandlerTest {
 		logger.info("Hello World!");
 
 		if (infoEnabled) {
-			verify(provider).log(eq(Logger.class.getName()), isNull(), eq(Level.INFO), same(null),
-					any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
+			verify(provider).log(eq(Logger.class.getName()), eq(source("infoTextMessage")), isNull(), eq(Level.INFO),
+					same(null), any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyString(), any(StackTraceElement.class), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -470,10 +526,10 @@ public final class BridgeHandlerTest {
 		logger.info(() -> "Hello World!");
 
 		if (infoEnabled) {
-			verify(provider).log(eq(Logger.class.getName()), isNull(), eq(Level.INFO), same(null),
-					any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
+			verify(provider).log(eq(Logger.class.getName()), eq(source("infoSupplierMessage")), isNull(), eq(Level.INFO),
+					same(null), any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyString(), any(StackTraceElement.class), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -486,10 +542,10 @@ public final class BridgeHandlerTest {
 		logger.log(java.util.logging.Level.INFO, "magic = {0}", new Object[] { 42 });
 
 		if (infoEnabled) {
-			verify(provider).log(eq(Logger.class.getName()), isNull(), eq(Level.INFO), same(null),
-					any(JavaTextMessageFormatFormatter.class), eq("magic = {0}"), eq(42));
+			verify(provider).log(eq(Logger.class.getName()), eq(source("infoLogEntryWithArguments")), isNull(), eq(Level.INFO),
+					same(null), any(JavaTextMessageFormatFormatter.class), eq("magic = {0}"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyString(), any(StackTraceElement.class), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -503,10 +559,10 @@ public final class BridgeHandlerTest {
 		logger.log(java.util.logging.Level.INFO, "Hello World!", exception);
 
 		if (infoEnabled) {
-			verify(provider).log(eq(Logger.class.getName()), isNull(), eq(Level.INFO), same(exception),
-					any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
+			verify(provider).log(eq(Logger.class.getName()), eq(source("infoLogEntryWithException")), isNull(), eq(Level.INFO),
+					same(exception), any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyString(), any(StackTraceElement.class), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -527,10 +583,10 @@ public final class BridgeHandlerTest {
 		logger.warning("Hello World!");
 
 		if (warningEnabled) {
-			verify(provider).log(eq(Logger.class.getName()), isNull(), eq(Level.WARN), same(null),
-					any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
+			verify(provider).log(eq(Logger.class.getName()), eq(source("warningTextMessage")), isNull(), eq(Level.WARN),
+					same(null), any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyString(), any(StackTraceElement.class), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -543,10 +599,10 @@ public final class BridgeHandlerTest {
 		logger.warning(() -> "Hello World!");
 
 		if (warningEnabled) {
-			verify(provider).log(eq(Logger.class.getName()), isNull(), eq(Level.WARN), same(null),
-					any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
+			verify(provider).log(eq(Logger.class.getName()), eq(source("warningSupplierMessage")), isNull(), eq(Level.WARN),
+					same(null), any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyString(), any(StackTraceElement.class), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -559,10 +615,10 @@ public final class BridgeHandlerTest {
 		logger.log(java.util.logging.Level.WARNING, "magic = {0}", new Object[] { 42 });
 
 		if (warningEnabled) {
-			verify(provider).log(eq(Logger.class.getName()), isNull(), eq(Level.WARN), same(null),
-					any(JavaTextMessageFormatFormatter.class), eq("magic = {0}"), eq(42));
+			verify(provider).log(eq(Logger.class.getName()), eq(source("warningLogEntryWithArguments")), isNull(), eq(Level.WARN),
+					same(null), any(JavaTextMessageFormatFormatter.class), eq("magic = {0}"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyString(), any(StackTraceElement.class), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -576,10 +632,10 @@ public final class BridgeHandlerTest {
 		logger.log(java.util.logging.Level.WARNING, "Hello World!", exception);
 
 		if (warningEnabled) {
-			verify(provider).log(eq(Logger.class.getName()), isNull(), eq(Level.WARN), same(exception),
-					any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
+			verify(provider).log(eq(Logger.class.getName()), eq(source("warningLogEntryWithException")), isNull(), eq(Level.WARN),
+					same(exception), any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyString(), any(StackTraceElement.class), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -600,10 +656,10 @@ public final class BridgeHandlerTest {
 		logger.severe("Hello World!");
 
 		if (severeEnabled) {
-			verify(provider).log(eq(Logger.class.getName()), isNull(), eq(Level.ERROR), same(null),
-					any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
+			verify(provider).log(eq(Logger.class.getName()), eq(source("severeTextMessage")), isNull(), eq(Level.ERROR),
+					same(null), any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyString(), any(StackTraceElement.class), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -616,10 +672,10 @@ public final class BridgeHandlerTest {
 		logger.severe(() -> "Hello World!");
 
 		if (severeEnabled) {
-			verify(provider).log(eq(Logger.class.getName()), isNull(), eq(Level.ERROR), same(null),
-					any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
+			verify(provider).log(eq(Logger.class.getName()), eq(source("severeSupplierMessage")), isNull(), eq(Level.ERROR),
+					same(null), any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyString(), any(StackTraceElement.class), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -632,10 +688,10 @@ public final class BridgeHandlerTest {
 		logger.log(java.util.logging.Level.SEVERE, "magic = {0}", new Object[] { 42 });
 
 		if (severeEnabled) {
-			verify(provider).log(eq(Logger.class.getName()), isNull(), eq(Level.ERROR), same(null),
-					any(JavaTextMessageFormatFormatter.class), eq("magic = {0}"), eq(42));
+			verify(provider).log(eq(Logger.class.getName()), eq(source("severeLogEntryWithArguments")), isNull(), eq(Level.ERROR),
+					same(null), any(JavaTextMessageFormatFormatter.class), eq("magic = {0}"), eq(42));
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyString(), any(StackTraceElement.class), any(), any(), any(), any(), any(), any());
 		}
 	}
 
@@ -649,11 +705,22 @@ public final class BridgeHandlerTest {
 		logger.log(java.util.logging.Level.SEVERE, "Hello World!", exception);
 
 		if (severeEnabled) {
-			verify(provider).log(eq(Logger.class.getName()), isNull(), eq(Level.ERROR), same(exception),
-					any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
+			verify(provider).log(eq(Logger.class.getName()), eq(source("severeLogEntryWithException")), isNull(), eq(Level.ERROR),
+					same(exception), any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
 		} else {
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			verify(provider, never()).log(anyString(), any(StackTraceElement.class), any(), any(), any(), any(), any(), any());
 		}
 	}
 
+	/**
+	 * Creates the expected source of log entries, which are issued by this test class.
+	 *
+	 * @param method
+	 *            Name of the test method
+	 * @return Stack trace element with class and method name
+	 */
+	private static StackTraceElement source(final String method) {
+		return new StackTraceElement(BridgeHandlerTest.class.getName(), method, null, -1);
+	}
+
 }
@@ -23,7 +23,7 @@ import java.util.Enumeration;
 import java.util.ResourceBundle;
 
 import org.apache.log4j.spi.LoggingEvent;
-import org.tinylog.provider.LoggingProvider;
+import org.tinylog.provider.ClassAwareLoggingProvider;
 import org.tinylog.provider.ProviderRegistry;
 
 /**
@@ -71,17 +71,16 @@ public class Category {
 
 	protected static final int STACKTRACE_DEPTH = 2;
 
-	protected static final LoggingProvider provider = ProviderRegistry.getLoggingProvider();
-
-	// @formatter:off
-	private static final boolean MINIMUM_LEVEL_COVERS_DEBUG = isCoveredByMinimumLevel(org.tinylog.Level.DEBUG);
-	private static final boolean MINIMUM_LEVEL_COVERS_INFO  = isCoveredByMinimumLevel(org.tinylog.Level.INFO);
-	private static final boolean MINIMUM_LEVEL_COVERS_WARN  = isCoveredByMinimumLevel(org.tinylog.Level.WARN);
-	private static final boolean MINIMUM_LEVEL_COVERS_ERROR = isCoveredByMinimumLevel(org.tinylog.Level.ERROR);
-	// @formatter:on
+	protected static final ClassAwareLoggingProvider provider = ProviderRegistry.getClassAwareLoggingProvider();
 
 	private final Category parent;
 	private final String name;
+	private final org.tinylog.Level minimumLevel;
+
+	private final boolean minimumLevelCoversDebug;
+	private final boolean minimumLevelCoversInfo;
+	private final boolean minimumLevelCoversWarn;
+	private final boolean minimumLevelCoversError;
 
 	private volatile ResourceBundle bundle;
 
@@ -94,6 +93,14 @@ public class Category {
 	Category(final Category parent, final String name) {
 		this.parent = parent;
 		this.name = name;
+		this.minimumLevel = provider.getMinimumLevel(name, null);
+
+		// @formatter:off
+		minimumLevelCoversDebug = isCoveredByMinimumLevel(org.tinylog.Level.DEBUG);
+		minimumLevelCoversInfo  = isCoveredByMinimumLevel(org.tinylog.Level.INFO);
+		minimumLevelCoversWarn  = isCoveredByMinimumLevel(org.tinylog.Level.WARN);
+		minimumLevelCoversError = isCoveredByMinimumLevel(org.tinylog.Level.ERROR);
+		// @formatter:on
 	}
 
 	/**
@@ -135,8 +142,8 @@ public class Category {
 	 * @since 1.2
 	 */
 	public void assertLog(final boolean assertion, final String msg) {
-		if (!assertion && MINIMUM_LEVEL_COVERS_ERROR) {
-			provider.log(STACKTRACE_DEPTH, null, org.tinylog.Level.ERROR, null, null, msg, (Object[]) null);
+		if (!assertion && minimumLevelCoversError) {
+			provider.log(STACKTRACE_DEPTH, name, null, org.tinylog.Level.ERROR, null, null, msg, (Object[]) null);
 		}
 	}
 
@@ -174,8 +181,8 @@ public class Category {
 	 *            the message object to log.
 	 */
 	public void debug(final Object message) {
-		if (MINIMUM_LEVEL_COVERS_DEBUG) {
-			provider.log(STACKTRACE_DEPTH, null, org.tinylog.Level.DEBUG, null, null, message, (Object[]) null);
+		if (minimumLevelCoversDebug) {
+			provider.log(STACKTRACE_DEPTH, name, null, org.tinylog.Level.DEBUG, null, null, message, (Object[]) null);
 		}
 	}
 
@@ -193,8 +200,9 @@ public class Category {
 	 *            the exception to log, including its stack trace.
 	 */
 	public void debug(final Object message, final Throwable t) {
-		if (MINIMUM_LEVEL_COVERS_DEBUG) {
-			provider.log(STACKTRACE_DEPTH, null, org.tinylog.Level.DEBUG, t, null, message == t ? null : message, (Object[]) null);
+		if (minimumLevelCoversDebug) {
+			provider.log(STACKTRACE_DEPTH, name, null, org.tinylog.Level.DEBUG, t, null, message == t ? null : message,
+					(Object[]) null);
 		}
 	}
 
@@ -217,8 +225,8 @@ public class Category {
 	 *            the message object to log
 	 */
 	public void error(final Object message) {
-		if (MINIMUM_LEVEL_COVERS_ERROR) {
-			provider.log(STACKTRACE_DEPTH, null, org.tinylog.Level.ERROR, null, null, message, (Object[]) null);
+		if (minimumLevelCoversError) {
+			provider.log(STACKTRACE_DEPTH, name, null, org.tinylog.Level.ERROR, null, null, message, (Object[]) null);
 		}
 	}
 
@@ -236,8 +244,9 @@ public class Category {
 	 *            the exception to log, including its stack trace.
 	 */
 	public void error(final Object message, final Throwable t) {
-		if (MINIMUM_LEVEL_COVERS_ERROR) {
-			provider.log(STACKTRACE_DEPTH, null, org.tinylog.Level.ERROR, t, null, message == t ? null : message, (Object[]) null);
+		if (minimumLevelCoversError) {
+			provider.log(STACKTRACE_DEPTH, name, null, org.tinylog.Level.ERROR, t, null, message == t ? null : message,
+					(Object[]) null);
 		}
 	}
 
@@ -276,8 +285,8 @@ public class Category {
 	 *            the message object to log
 	 */
 	public void fatal(final Object message) {
-		if (MINIMUM_LEVEL_COVERS_ERROR) {
-			provider.log(STACKTRACE_DEPTH, null, org.tinylog.Level.ERROR, null, null, message, (Object[]) null);
+		if (minimumLevelCoversError) {
+			provider.log(STACKTRACE_DEPTH, name, null, org.tinylog.Level.ERROR, null, null, message, (Object[]) null);
 		}
 	}
 
@@ -295,8 +304,9 @@ public class Category {
 	 *            the exception to log, including its stack trace.
 	 */
 	public void fatal(final Object message, final Throwable t) {
-		if (MINIMUM_LEVEL_COVERS_ERROR) {
-			provider.log(STACKTRACE_DEPTH, null, org.tinylog.Level.ERROR, t, null, message == t ? null : message, (Object[]) null);
+		if (minimumLevelCoversError) {
+			provider.log(STACKTRACE_DEPTH, name, null, org.tinylog.Level.ERROR, t, null, message == t ? null : message,
+					(Object[]) null);
 		}
 	}
 
@@ -313,7 +323,8 @@ public class Category {
 	 *            Exception to log
 	 */
 	protected void forcedLog(final String fqcn, final Priority level, final Object message, final Throwable t) {
-		provider.log(fqcn, null, translatePriority(level), t, null, message == t ? null : message, (Object[]) null);
+		provider.log(fqcn, name, null, translatePriority(level), t, null, message == t ? null : message,
+				(Object[]) null);
 	}
 
 	/**
@@ -359,7 +370,7 @@ public class Category {
 	 * @return Minimum enabled severity level
 	 */
 	public Level getEffectiveLevel() {
-		return translateLevel(provider.getMinimumLevel(null));
+		return translateLevel(minimumLevel);
 	}
 
 	/**
@@ -369,7 +380,7 @@ public class Category {
 	 */
 	@Deprecated
 	public Priority getChainedPriority() {
-		return translateLevel(provider.getMinimumLevel(null));
+		return translateLevel(minimumLevel);
 	}
 
 	/**
@@ -448,7 +459,7 @@ public class Category {
 	 * @return Minimum enabled severity level
 	 */
 	public final Level getLevel() {
-		return translateLevel(provider.getMinimumLevel(null));
+		return translateLevel(minimumLevel);
 	}
 
 	/**
@@ -458,7 +469,7 @@ public class Category {
 	 */
 	@Deprecated
 	public final Level getPriority() {
-		return translateLevel(provider.getMinimumLevel(null));
+		return translateLevel(minimumLevel);
 	}
 
 	/**
@@ -507,8 +518,8 @@ public class Category {
 	 *            the message object to log
 	 */
 	public void info(final Object message) {
-		if (MINIMUM_LEVEL_COVERS_INFO) {
-			provider.log(STACKTRACE_DEPTH, null, org.tinylog.Level.INFO, null, null, message, (Object[]) null);
+		if (minimumLevelCoversInfo) {
+			provider.log(STACKTRACE_DEPTH, name, null, org.tinylog.Level.INFO, null, null, message, (Object[]) null);
 		}
 	}
 
@@ -526,8 +537,9 @@ public class Category {
 	 *            the exception to log, including its stack trace.
 	 */
 	public void info(final Object message, final Throwable t) {
-		if (MINIMUM_LEVEL_COVERS_INFO) {
-			provider.log(STACKTRACE_DEPTH, null, org.tinylog.Level.INFO, t, null, message == t ? null : message, (Object[]) null);
+		if (minimumLevelCoversInfo) {
+			provider.log(STACKTRACE_DEPTH, name, null, org.tinylog.Level.INFO, t, null, message == t ? null : message,
+					(Object[]) null);
 		}
 	}
 
@@ -583,7 +595,7 @@ public class Category {
 	 * @return boolean - {@code true} if this category is debug enabled, {@code false} otherwise.
 	 */
 	public boolean isDebugEnabled() {
-		return MINIMUM_LEVEL_COVERS_DEBUG && provider.isEnabled(STACKTRACE_DEPTH, null, org.tinylog.Level.DEBUG);
+		return minimumLevelCoversDebug && provider.isEnabled(STACKTRACE_DEPTH, name, null, org.tinylog.Level.DEBUG);
 	}
 
 	/**
@@ -598,7 +610,8 @@ public class Category {
 	 * @return boolean True if this category is enabled for {@code level}.
 	 */
 	public boolean isEnabledFor(final Priority level) {
-		return provider.isEnabled(STACKTRACE_DEPTH, null, translatePriority(level));
+		org.tinylog.Level severityLevel = translatePriority(level);
+		return isCoveredByMinimumLevel(severityLevel) && provider.isEnabled(STACKTRACE_DEPTH, name, null, severityLevel);
 	}
 
 	/**
@@ -607,7 +620,7 @@ public class Category {
 	 * @return boolean - {@code true} if this category is enabled for level info, {@code false} otherwise.
 	 */
 	public boolean isInfoEnabled() {
-		return MINIMUM_LEVEL_COVERS_INFO && provider.isEnabled(STACKTRACE_DEPTH, null, org.tinylog.Level.INFO);
+		return minimumLevelCoversInfo && provider.isEnabled(STACKTRACE_DEPTH, name, null, org.tinylog.Level.INFO);
 	}
 
 	/**
@@ -626,10 +639,13 @@ public class Category {
 	 * @since 0.8.4
 	 */
 	public void l7dlog(final Priority priority, final String key, final Throwable t) {
-		ResourceBundle bundle = this.bundle;
-		String message = bundle == null ? key : bundle.getString(key);
+		org.tinylog.Level severityLevel = translatePriority(priority);
+		if (isCoveredByMinimumLevel(severityLevel)) {
+			ResourceBundle bundle = this.bundle;
+			String message = bundle == null ? key : bundle.getString(key);
 
-		provider.log(STACKTRACE_DEPTH, null, translatePriority(priority), t, null, message, (Object[]) null);
+			provider.log(STACKTRACE_DEPTH, name, null, severityLevel, t, null, message, (Object[]) null);
+		}
 	}
 
 	/**
@@ -649,10 +665,13 @@ public class Category {
 	 * @since 0.8.4
 	 */
 	public void l7dlog(final Priority priority, final String key, final Object[] params, final Throwable t) {
-		ResourceBundle bundle = this.bundle;
-		String message = bundle == null ? key : MessageFormat.format(bundle.getString(key), params);
+		org.tinylog.Level severityLevel = translatePriority(priority);
+		if (isCoveredByMinimumLevel(severityLevel)) {
+			ResourceBundle bundle = this.bundle;
+			String message = bundle == null ? key : MessageFormat.format(bundle.getString(key), params);
 
-		provider.log(STACKTRACE_DEPTH, null, translatePriority(priority), t, null, message, (Object[]) null);
+			provider.log(STACKTRACE_DEPTH, name, null, severityLevel, t, null, message, (Object[]) null);
+		}
 	}
 
 	/**
@@ -667,7 +686,10 @@ public class Category {
 	 * 
 	 */
 	public void log(final Priority priority, final Object message, final Throwable t) {
-		provider.log(STACKTRACE_DEPTH, null, translatePriority(priority), t, null, message == t ? null : message, (Object[]) null);
+		org.tinylog.Level severityLevel = translatePriority(priority);
+		if (isCoveredByMinimumLevel(severityLevel)) {
+			provider.log(STACKTRACE_DEPTH, name, null, severityLevel, t, null, message == t ? null : message, (Object[]) null);
+		}
 	}
 
 	/**
@@ -679,7 +701,10 @@ public class Category {
 	 *            Message to log
 	 */
 	public void log(final Priority priority, final Object message) {
-		provider.log(STACKTRACE_DEPTH, null, translatePriority(priority), null, null, message, (Object[]) null);
+		org.tinylog.Level severityLevel = translatePriority(priority);
+		if (isCoveredByMinimumLevel(severityLevel)) {
+			provider.log(STACKTRACE_DEPTH, name, null, severityLevel, null, null, message, (Object[]) null);
+		}
 	}
 
 	/**
@@ -695,7 +720,8 @@ public class Category {
 	 *            The throwable of the logging request, may be null.
 	 */
 	public void log(final String callerFQCN, final Priority level, final Object message, final Throwable t) {
-		provider.log(callerFQCN, null, translatePriority(level), t, null, message == t ? null : message, (Object[]) null);
+		provider.log(callerFQCN, name, null, translatePriority(level), t, null, message == t ? null : message,
+				(Object[]) null);
 	}
 
 	/**
@@ -835,8 +861,8 @@ public class Category {
 	 *            the message object to log.
 	 */
 	public void warn(final Object message) {
-		if (MINIMUM_LEVEL_COVERS_WARN) {
-			provider.log(STACKTRACE_DEPTH, null, org.tinylog.Level.WARN, null, null, message, (Object[]) null);
+		if (minimumLevelCoversWarn) {
+			provider.log(STACKTRACE_DEPTH, name, null, org.tinylog.Level.WARN, null, null, message, (Object[]) null);
 		}
 	}
 
@@ -854,20 +880,22 @@ public class Category {
 	 *            the exception to log, including its stack trace.
 	 */
 	public void warn(final Object message, final Throwable t) {
-		if (MINIMUM_LEVEL_COVERS_WARN) {
-			provider.log(STACKTRACE_DEPTH, null, org.tinylog.Level.WARN, t, null, message == t ? null : message, (Object[]) null);
+		if (minimumLevelCoversWarn) {
+			provider.log(STACKTRACE_DEPTH, name, null, org.tinylog.Level.WARN, t, null, message == t ? null : message,
+					(Object[]) null);
 		}
 	}
 
 	/**
-	 * Checks if a given severity level is covered by the logging provider's minimum level.
+	 * Checks if a given severity level is covered by the minimum level of this category. The minimum level is resolved
+	 * once for the name of this category, including custom severity levels for packages and classes.
 	 *
 	 * @param level
 	 *            Severity level to check
 	 * @return {@code true} if given severity level is covered, otherwise {@code false}
 	 */
-	protected static boolean isCoveredByMinimumLevel(final org.tinylog.Level level) {
-		return provider.getMinimumLevel(null).ordinal() <= level.ordinal();
+	protected final boolean isCoveredByMinimumLevel(final org.tinylog.Level level) {
+		return minimumLevel.ordinal() <= level.ordinal();
 	}
 
 	/**
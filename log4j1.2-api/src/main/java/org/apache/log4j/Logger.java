@@ -25,7 +25,7 @@ import org.apache.log4j.spi.LoggerFactory;
  */
 public class Logger extends Category {
 
-	private static final boolean MINIMUM_LEVEL_COVERS_TRACE = isCoveredByMinimumLevel(org.tinylog.Level.TRACE);
+	private final boolean minimumLevelCoversTrace = isCoveredByMinimumLevel(org.tinylog.Level.TRACE);
 
 	/**
 	 * @param parent
@@ -124,8 +124,8 @@ public class Logger extends Category {
 	 * @since 1.2.12
 	 */
 	public void trace(final Object message) {
-		if (MINIMUM_LEVEL_COVERS_TRACE) {
-			provider.log(STACKTRACE_DEPTH, null, org.tinylog.Level.TRACE, null, null, message, (Object[]) null);
+		if (minimumLevelCoversTrace) {
+			provider.log(STACKTRACE_DEPTH, getName(), null, org.tinylog.Level.TRACE, null, null, message, (Object[]) null);
 		}
 	}
 
@@ -144,8 +144,9 @@ public class Logger extends Category {
 	 * @since 1.2.12
 	 */
 	public void trace(final Object message, final Throwable t) {
-		if (MINIMUM_LEVEL_COVERS_TRACE) {
-			provider.log(STACKTRACE_DEPTH, null, org.tinylog.Level.TRACE, t, null, message == t ? null : message, (Object[]) null);
+		if (minimumLevelCoversTrace) {
+			provider.log(STACKTRACE_DEPTH, getName(), null, org.tinylog.Level.TRACE, t, null, message == t ? null : message,
+					(Object[]) null);
 		}
 	}
 
@@ -157,7 +158,7 @@ public class Logger extends Category {
 	 * @since 1.2.12
 	 */
 	public boolean isTraceEnabled() {
-		return MINIMUM_LEVEL_COVERS_TRACE && provider.isEnabled(STACKTRACE_DEPTH, null, org.tinylog.Level.TRACE);
+		return minimumLevelCoversTrace && provider.isEnabled(STACKTRACE_DEPTH, getName(), null, org.tinylog.Level.TRACE);
 	}
 
 }
@@ -19,7 +19,7 @@ package org.apache.log4j;
 
 import java.util.Stack;
 
-import org.tinylog.provider.InternalLogger;
+import org.tinylog.ThreadContext;
 
 /**
  * The NDC class implements <i>nested diagnostic contexts</i> as defined by Neil Harrison in the article "Patterns for
@@ -73,12 +73,26 @@ import org.tinylog.provider.InternalLogger;
  * reference to any other thread, in particular to a child.
  * </p>
  * 
+ * <p>
+ * tinylog stores the nested diagnostic context as space-separated text with the key "{@value #CONTEXT_KEY}" in its
+ * {@link ThreadContext}, so that it can be output via the placeholder <code>{context: ndc}</code>. The stack itself
+ * is an immutable linked list. Therefore, push and pop operations don't copy any existing entries, and stacks can be
+ * shared with child threads without cloning.
+ * </p>
+ * 
  * @author Ceki G&uuml;lc&uuml;
  * @since 0.7.0
  */
 
 public final class NDC {
 
+	/**
+	 * Key of the nested diagnostic context in tinylog's {@link ThreadContext}.
+	 */
+	public static final String CONTEXT_KEY = "ndc";
+
+	private static final ThreadLocal<Entry> stacks = new InheritableThreadLocal<Entry>();
+
 	/** */
 	private NDC() {
 	}
@@ -94,7 +108,7 @@ public final class NDC {
 	 * @since 0.8.4c
 	 */
 	public static void clear() {
-		// Ignore
+		set(null);
 	}
 
 	/**
@@ -109,11 +123,21 @@ public final class NDC {
 	 * The child thread uses the {@link #inherit inherit} method to inherit the parent's diagnostic context.
 	 * </p>
 	 * 
-	 * @return Stack A clone of the current thread's diagnostic context.
+	 * @return Stack A clone of the current thread's diagnostic context or {@code null} if there is none.
 	 */
-	@SuppressWarnings("rawtypes")
+	@SuppressWarnings({ "rawtypes", "unchecked" })
 	public static Stack cloneStack() {
-		return null;
+		Entry entry = current();
+		if (entry == null) {
+			return null;
+		}
+
+		Stack stack = new Stack();
+		stack.setSize(entry.depth);
+		for (Entry current = entry; current != null; current = current.parent) {
+			stack.set(current.depth - 1, current.message);
+		}
+		return stack;
 	}
 
 	/**
@@ -140,7 +164,13 @@ public final class NDC {
 	 */
 	@SuppressWarnings("rawtypes")
 	public static void inherit(final Stack stack) {
-		// Ignore
+		if (stack != null) {
+			Entry entry = null;
+			for (Object message : stack) {
+				entry = new Entry(entry, String.valueOf(message));
+			}
+			set(entry);
+		}
 	}
 
 	/**
@@ -151,7 +181,8 @@ public final class NDC {
 	 * @since 0.7.5
 	 */
 	public static int getDepth() {
-		return 0;
+		Entry entry = current();
+		return entry == null ? 0 : entry.depth;
 	}
 
 	/**
@@ -165,7 +196,13 @@ public final class NDC {
 	 * @return String The innermost diagnostic context.
 	 */
 	public static String pop() {
-		return "";
+		Entry entry = current();
+		if (entry == null) {
+			return "";
+		} else {
+			set(entry.parent);
+			return entry.message;
+		}
 	}
 
 	/**
@@ -179,7 +216,8 @@ public final class NDC {
 	 * @return The innermost diagnostic context.
 	 */
 	public static String peek() {
-		return "";
+		Entry entry = current();
+		return entry == null ? "" : entry.message;
 	}
 
 	/**
@@ -193,7 +231,7 @@ public final class NDC {
 	 *            The new diagnostic context information.
 	 */
 	public static void push(final String message) {
-		InternalLogger.log(org.tinylog.Level.WARN, "tinylog does not support NDC, \"" + message + "\" will be discarded");
+		set(new Entry(current(), String.valueOf(message)));
 	}
 
 	/**
@@ -213,7 +251,8 @@ public final class NDC {
 	 * </p>
 	 */
 	public static void remove() {
-		// Ignore
+		stacks.remove();
+		ThreadContext.remove(CONTEXT_KEY);
 	}
 
 	/**
@@ -248,7 +287,82 @@ public final class NDC {
 	 * @since 0.7.5
 	 */
 	public static void setMaxDepth(final int maxDepth) {
-		// Ignore
+		Entry entry = current();
+		if (entry != null && entry.depth > maxDepth) {
+			while (entry != null && entry.depth > maxDepth) {
+				entry = entry.parent;
+			}
+			set(entry);
+		}
+	}
+
+	/**
+	 * Gets the top entry of the nested diagnostic context for the current thread.
+	 *
+	 * <p>
+	 * The thread context is the authoritative source. If the thread context has been changed independently, for
+	 * example by clearing or restoring it, the cached stack is outdated. In this case, the text from the thread context
+	 * is used as single entry.
+	 * </p>
+	 *
+	 * @return Top entry or {@code null} if the nested diagnostic context is empty
+	 */
+	private static Entry current() {
+		String text = ThreadContext.get(CONTEXT_KEY);
+		if (text == null) {
+			return null;
+		}
+
+		Entry entry = stacks.get();
+		if (entry != null && text.equals(entry.text)) {
+			return entry;
+		} else {
+			entry = new Entry(null, text);
+			stacks.set(entry);
+			return entry;
+		}
+	}
+
+	/**
+	 * Sets a new top entry for the nested diagnostic context of the current thread.
+	 *
+	 * @param entry
+	 *            New top entry or {@code null} for an empty nested diagnostic context
+	 */
+	private static void set(final Entry entry) {
+		if (entry == null) {
+			stacks.remove();
+			ThreadContext.remove(CONTEXT_KEY);
+		} else {
+			stacks.set(entry);
+			ThreadContext.put(CONTEXT_KEY, entry.text);
+		}
+	}
+
+	/**
+	 * Immutable entry of a nested diagnostic context. Each entry refers to its parent entry and contains the
+	 * space-separated text of all messages from the bottom up to itself.
+	 */
+	private static final class Entry {
+
+		private final Entry parent;
+		private final String message;
+		private final String text;
+		private final int depth;
+
+		/**
+		 * @param parent
+		 *            Parent entry or {@code null} for the bottom entry
+		 * @param message
+		 *            Diagnostic context information
+		 */
+		private Entry(final Entry parent, final String message) {
+			this.parent = parent;
+			this.message = message;
+			this.text = parent == null ? message : parent.text + " " + message;
+			this.depth = parent == null ? 1 : parent.depth + 1;
+		}
+
 	}
 
 }
@@ -35,7 +35,7 @@ import org.powermock.modules.junit4.PowerMockRunner;
 import org.powermock.modules.junit4.rule.PowerMockRule;
 import org.powermock.reflect.Whitebox;
 import org.tinylog.Level;
-import org.tinylog.provider.LoggingProvider;
+import org.tinylog.provider.ClassAwareLoggingProvider;
 import org.tinylog.provider.ProviderRegistry;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -114,6 +114,8 @@ public final class CategoryTest {
 	@PrepareForTest(Category.class)
 	public static final class Logging {
 
+		private static final String NAME = Logging.class.getName();
+
 		/**
 		 * Activates PowerMock (alternative to {@link PowerMockRunner}).
 		 */
@@ -127,7 +129,7 @@ public final class CategoryTest {
 		private boolean warnEnabled;
 		private boolean errorEnabled;
 
-		private LoggingProvider provider;
+		private ClassAwareLoggingProvider provider;
 		private Category category;
 
 		/**
@@ -177,19 +179,17 @@ public final class CategoryTest {
 		 */
 		@Before
 		public void init() {
-			provider = mock(LoggingProvider.class);
-			when(provider.getMinimumLevel(null)).thenReturn(level);
-			when(provider.isEnabled(anyInt(), eq(null), eq(Level.DEBUG))).thenReturn(debugEnabled);
-			when(provider.isEnabled(anyInt(), eq(null), eq(Level.INFO))).thenReturn(infoEnabled);
-			when(provider.isEnabled(anyInt(), eq(null), eq(Level.WARN))).thenReturn(warnEnabled);
-			when(provider.isEnabled(anyInt(), eq(null), eq(Level.ERROR))).thenReturn(errorEnabled);
-
-			category = new Category(Logging.class.getName());
-			Whitebox.setInternalState(Category.class, "MINIMUM_LEVEL_COVERS_DEBUG", debugEnabled);
-			Whitebox.setInternalState(Category.class, "MINIMUM_LEVEL_COVERS_INFO", infoEnabled);
-			Whitebox.setInternalState(Category.class, "MINIMUM_LEVEL_COVERS_WARN", warnEnabled);
-			Whitebox.setInternalState(Category.class, "MINIMUM_LEVEL_COVERS_ERROR", errorEnabled);
+			provider = mock(ClassAwareLoggingProvider.class);
+			when(provider.getMinimumLevel(anyString(), eq(null))).thenReturn(Level.OFF);
+			when(provider.getMinimumLevel(NAME, null)).thenReturn(level);
+			when(provider.isEnabled(anyInt(), eq(NAME), eq(null), eq(Level.DEBUG))).thenReturn(debugEnabled);
+			when(provider.isEnabled(anyInt(), eq(NAME), eq(null), eq(Level.INFO))).thenReturn(infoEnabled);
+			when(provider.isEnabled(anyInt(), eq(NAME), eq(null), eq(Level.WARN))).thenReturn(warnEnabled);
+			when(provider.isEnabled(anyInt(), eq(NAME), eq(null), eq(Level.ERROR))).thenReturn(errorEnabled);
+
 			Whitebox.setInternalState(Category.class, provider);
+
+			category = new Category(NAME);
 		}
 
 		/**
@@ -197,7 +197,7 @@ public final class CategoryTest {
 		 */
 		@After
 		public void reset() {
-			Whitebox.setInternalState(Logger.class, ProviderRegistry.getLoggingProvider());
+			Whitebox.setInternalState(Logger.class, ProviderRegistry.getClassAwareLoggingProvider());
 		}
 
 		/**
@@ -271,9 +271,9 @@ public final class CategoryTest {
 			category.debug(42);
 
 			if (debugEnabled) {
-				verify(provider).log(2, null, Level.DEBUG, null, null, 42, (Object[]) null);
+				verify(provider).log(2, NAME, null, Level.DEBUG, null, null, 42, (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -287,9 +287,9 @@ public final class CategoryTest {
 			category.debug("Boom!", exception);
 
 			if (debugEnabled) {
-				verify(provider).log(2, null, Level.DEBUG, exception, null, "Boom!", (Object[]) null);
+				verify(provider).log(2, NAME, null, Level.DEBUG, exception, null, "Boom!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -304,9 +304,9 @@ public final class CategoryTest {
 			category.debug(exception, exception);
 
 			if (debugEnabled) {
-				verify(provider).log(2, null, Level.DEBUG, exception, null, null, (Object[]) null);
+				verify(provider).log(2, NAME, null, Level.DEBUG, exception, null, null, (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -318,9 +318,9 @@ public final class CategoryTest {
 			category.info(42);
 
 			if (infoEnabled) {
-				verify(provider).log(2, null, Level.INFO, null, null, 42, (Object[]) null);
+				verify(provider).log(2, NAME, null, Level.INFO, null, null, 42, (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -334,9 +334,9 @@ public final class CategoryTest {
 			category.info("Boom!", exception);
 
 			if (infoEnabled) {
-				verify(provider).log(2, null, Level.INFO, exception, null, "Boom!", (Object[]) null);
+				verify(provider).log(2, NAME, null, Level.INFO, exception, null, "Boom!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -350,9 +350,9 @@ public final class CategoryTest {
 			category.info(exception, exception);
 
 			if (infoEnabled) {
-				verify(provider).log(2, null, Level.INFO, exception, null, null, (Object[]) null);
+				verify(provider).log(2, NAME, null, Level.INFO, exception, null, null, (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -364,9 +364,9 @@ public final class CategoryTest {
 			category.warn(42);
 
 			if (warnEnabled) {
-				verify(provider).log(2, null, Level.WARN, null, null, 42, (Object[]) null);
+				verify(provider).log(2, NAME, null, Level.WARN, null, null, 42, (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -380,9 +380,9 @@ public final class CategoryTest {
 			category.warn("Boom!", exception);
 
 			if (warnEnabled) {
-				verify(provider).log(2, null, Level.WARN, exception, null, "Boom!", (Object[]) null);
+				verify(provider).log(2, NAME, null, Level.WARN, exception, null, "Boom!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -396,9 +396,9 @@ public final class CategoryTest {
 			category.warn(exception, exception);
 
 			if (warnEnabled) {
-				verify(provider).log(2, null, Level.WARN, exception, null, null, (Object[]) null);
+				verify(provider).log(2, NAME, null, Level.WARN, exception, null, null, (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -410,9 +410,9 @@ public final class CategoryTest {
 			category.error(42);
 
 			if (errorEnabled) {
-				verify(provider).log(2, null, Level.ERROR, null, null, 42, (Object[]) null);
+				verify(provider).log(2, NAME, null, Level.ERROR, null, null, 42, (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -426,9 +426,9 @@ public final class CategoryTest {
 			category.error("Boom!", exception);
 
 			if (errorEnabled) {
-				verify(provider).log(2, null, Level.ERROR, exception, null, "Boom!", (Object[]) null);
+				verify(provider).log(2, NAME, null, Level.ERROR, exception, null, "Boom!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -443,9 +443,9 @@ public final class CategoryTest {
 			category.error(exception, exception);
 
 			if (errorEnabled) {
-				verify(provider).log(2, null, Level.ERROR, exception, null, null, (Object[]) null);
+				verify(provider).log(2, NAME, null, Level.ERROR, exception, null, null, (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -457,9 +457,9 @@ public final class CategoryTest {
 			category.fatal(42);
 
 			if (errorEnabled) {
-				verify(provider).log(2, null, Level.ERROR, null, null, 42, (Object[]) null);
+				verify(provider).log(2, NAME, null, Level.ERROR, null, null, 42, (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -473,9 +473,9 @@ public final class CategoryTest {
 			category.fatal("Boom!", exception);
 
 			if (errorEnabled) {
-				verify(provider).log(2, null, Level.ERROR, exception, null, "Boom!", (Object[]) null);
+				verify(provider).log(2, NAME, null, Level.ERROR, exception, null, "Boom!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -490,9 +490,9 @@ public final class CategoryTest {
 			category.fatal(exception, exception);
 
 			if (errorEnabled) {
-				verify(provider).log(2, null, Level.ERROR, exception, null, null, (Object[]) null);
+				verify(provider).log(2, NAME, null, Level.ERROR, exception, null, null, (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -502,7 +502,7 @@ public final class CategoryTest {
 		@Test
 		public void assertLogWithPositiveAssertion() {
 			category.assertLog(true, "Hello World!");
-			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+			verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 		}
 
 		/**
@@ -514,9 +514,9 @@ public final class CategoryTest {
 			category.assertLog(false, "Hello World!");
 
 			if (errorEnabled) {
-				verify(provider).log(2, null, Level.ERROR, null, null, "Hello World!", (Object[]) null);
+				verify(provider).log(2, NAME, null, Level.ERROR, null, null, "Hello World!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -531,17 +531,17 @@ public final class CategoryTest {
 			category.forcedLog("MyClass", Priority.DEBUG, "Boom!", exception);
 
 			if (debugEnabled) {
-				verify(provider).log("MyClass", null, Level.DEBUG, exception, null, "Boom!", (Object[]) null);
+				verify(provider).log("MyClass", NAME, null, Level.DEBUG, exception, null, "Boom!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 
 			category.forcedLog("MyClass", Priority.WARN, "Boom!", exception);
 
 			if (warnEnabled) {
-				verify(provider).log("MyClass", null, Level.WARN, exception, null, "Boom!", (Object[]) null);
+				verify(provider).log("MyClass", NAME, null, Level.WARN, exception, null, "Boom!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -557,17 +557,17 @@ public final class CategoryTest {
 			category.forcedLog("MyClass", Priority.DEBUG, exception, exception);
 
 			if (debugEnabled) {
-				verify(provider).log("MyClass", null, Level.DEBUG, exception, null, null, (Object[]) null);
+				verify(provider).log("MyClass", NAME, null, Level.DEBUG, exception, null, null, (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 
 			category.forcedLog("MyClass", Priority.WARN, exception, exception);
 
 			if (warnEnabled) {
-				verify(provider).log("MyClass", null, Level.WARN, exception, null, null, (Object[]) null);
+				verify(provider).log("MyClass", NAME, null, Level.WARN, exception, null, null, (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -584,17 +584,17 @@ public final class CategoryTest {
 			category.l7dlog(Priority.DEBUG, "test", exception);
 
 			if (debugEnabled) {
-				verify(provider).log(2, null, Level.DEBUG, exception, null, "Hello World!", (Object[]) null);
+				verify(provider).log(2, NAME, null, Level.DEBUG, exception, null, "Hello World!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 
 			category.l7dlog(Priority.WARN, "test", exception);
 
 			if (warnEnabled) {
-				verify(provider).log(2, null, Level.WARN, exception, null, "Hello World!", (Object[]) null);
+				verify(provider).log(2, NAME, null, Level.WARN, exception, null, "Hello World!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -611,17 +611,17 @@ public final class CategoryTest {
 			category.l7dlog(Priority.DEBUG, "test", new Object[] { "Java" }, exception);
 
 			if (debugEnabled) {
-				verify(provider).log(2, null, Level.DEBUG, exception, null, "Hello Java!", (Object[]) null);
+				verify(provider).log(2, NAME, null, Level.DEBUG, exception, null, "Hello Java!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 
 			category.l7dlog(Priority.WARN, "test", new Object[] { "Java" }, exception);
 
 			if (warnEnabled) {
-				verify(provider).log(2, null, Level.WARN, exception, null, "Hello Java!", (Object[]) null);
+				verify(provider).log(2, NAME, null, Level.WARN, exception, null, "Hello Java!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -635,17 +635,17 @@ public final class CategoryTest {
 			category.log(Priority.DEBUG, "Hello World!");
 
 			if (debugEnabled) {
-				verify(provider).log(2, null, Level.DEBUG, null, null, "Hello World!", (Object[]) null);
+				verify(provider).log(2, NAME, null, Level.DEBUG, null, null, "Hello World!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 
 			category.log(Priority.WARN, "Hello World!", null);
 
 			if (warnEnabled) {
-				verify(provider).log(2, null, Level.WARN, null, null, "Hello World!", (Object[]) null);
+				verify(provider).log(2, NAME, null, Level.WARN, null, null, "Hello World!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -661,17 +661,17 @@ public final class CategoryTest {
 			category.log(Priority.DEBUG, "Boom!", exception);
 
 			if (debugEnabled) {
-				verify(provider).log(2, null, Level.DEBUG, exception, null, "Boom!", (Object[]) null);
+				verify(provider).log(2, NAME, null, Level.DEBUG, exception, null, "Boom!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 
 			category.log(Priority.WARN, "Boom!", exception);
 
 			if (warnEnabled) {
-				verify(provider).log(2, null, Level.WARN, exception, null, "Boom!", (Object[]) null);
+				verify(provider).log(2, NAME, null, Level.WARN, exception, null, "Boom!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -687,17 +687,17 @@ public final class CategoryTest {
 			category.log(Priority.DEBUG, exception, exception);
 
 			if (debugEnabled) {
-				verify(provider).log(2, null, Level.DEBUG, exception, null, null, (Object[]) null);
+				verify(provider).log(2, NAME, null, Level.DEBUG, exception, null, null, (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 
 			category.log(Priority.WARN, exception, exception);
 
 			if (warnEnabled) {
-				verify(provider).log(2, null, Level.WARN, exception, null, null, (Object[]) null);
+				verify(provider).log(2, NAME, null, Level.WARN, exception, null, null, (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -713,17 +713,17 @@ public final class CategoryTest {
 			category.log("MyClass", Priority.DEBUG, "Boom!", exception);
 
 			if (debugEnabled) {
-				verify(provider).log("MyClass", null, Level.DEBUG, exception, null, "Boom!", (Object[]) null);
+				verify(provider).log("MyClass", NAME, null, Level.DEBUG, exception, null, "Boom!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 
 			category.log("MyClass", Priority.WARN, "Boom!", exception);
 
 			if (warnEnabled) {
-				verify(provider).log("MyClass", null, Level.WARN, exception, null, "Boom!", (Object[]) null);
+				verify(provider).log("MyClass", NAME, null, Level.WARN, exception, null, "Boom!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -739,17 +739,17 @@ public final class CategoryTest {
 			category.log("MyClass", Priority.DEBUG, exception, exception);
 
 			if (debugEnabled) {
-				verify(provider).log("MyClass", null, Level.DEBUG, exception, null, null, (Object[]) null);
+				verify(provider).log("MyClass", NAME, null, Level.DEBUG, exception, null, null, (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 
 			category.log("MyClass", Priority.WARN, exception, exception);
 
 			if (warnEnabled) {
-				verify(provider).log("MyClass", null, Level.WARN, exception, null, null, (Object[]) null);
+				verify(provider).log("MyClass", NAME, null, Level.WARN, exception, null, null, (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
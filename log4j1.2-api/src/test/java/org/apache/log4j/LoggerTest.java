@@ -31,7 +31,7 @@ import org.powermock.modules.junit4.PowerMockRunner;
 import org.powermock.modules.junit4.rule.PowerMockRule;
 import org.powermock.reflect.Whitebox;
 import org.tinylog.Level;
-import org.tinylog.provider.LoggingProvider;
+import org.tinylog.provider.ClassAwareLoggingProvider;
 import org.tinylog.provider.ProviderRegistry;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -97,6 +97,8 @@ public final class LoggerTest {
 	@PrepareForTest(Logger.class)
 	public static final class Logging {
 
+		private static final String NAME = Logging.class.getName();
+
 		/**
 		 * Activates PowerMock (alternative to {@link PowerMockRunner}).
 		 */
@@ -111,7 +113,7 @@ public final class LoggerTest {
 		private boolean warnEnabled;
 		private boolean errorEnabled;
 
-		private LoggingProvider provider;
+		private ClassAwareLoggingProvider provider;
 		private Logger logger;
 
 		/**
@@ -165,21 +167,18 @@ public final class LoggerTest {
 		 */
 		@Before
 		public void init() {
-			provider = mock(LoggingProvider.class);
-			when(provider.getMinimumLevel(null)).thenReturn(level);
-			when(provider.isEnabled(anyInt(), eq(null), eq(Level.TRACE))).thenReturn(traceEnabled);
-			when(provider.isEnabled(anyInt(), eq(null), eq(Level.DEBUG))).thenReturn(debugEnabled);
-			when(provider.isEnabled(anyInt(), eq(null), eq(Level.INFO))).thenReturn(infoEnabled);
-			when(provider.isEnabled(anyInt(), eq(null), eq(Level.WARN))).thenReturn(warnEnabled);
-			when(provider.isEnabled(anyInt(), eq(null), eq(Level.ERROR))).thenReturn(errorEnabled);
-
-			logger = new Logger(Logging.class.getName());
-			Whitebox.setInternalState(Logger.class, "MINIMUM_LEVEL_COVERS_TRACE", traceEnabled);
-			Whitebox.setInternalState(Logger.class, "MINIMUM_LEVEL_COVERS_DEBUG", debugEnabled);
-			Whitebox.setInternalState(Logger.class, "MINIMUM_LEVEL_COVERS_INFO", infoEnabled);
-			Whitebox.setInternalState(Logger.class, "MINIMUM_LEVEL_COVERS_WARN", warnEnabled);
-			Whitebox.setInternalState(Logger.class, "MINIMUM_LEVEL_COVERS_ERROR", errorEnabled);
+			provider = mock(ClassAwareLoggingProvider.class);
+			when(provider.getMinimumLevel(anyString(), eq(null))).thenReturn(Level.OFF);
+			when(provider.getMinimumLevel(NAME, null)).thenReturn(level);
+			when(provider.isEnabled(anyInt(), eq(NAME), eq(null), eq(Level.TRACE))).thenReturn(traceEnabled);
+			when(provider.isEnabled(anyInt(), eq(NAME), eq(null), eq(Level.DEBUG))).thenReturn(debugEnabled);
+			when(provider.isEnabled(anyInt(), eq(NAME), eq(null), eq(Level.INFO))).thenReturn(infoEnabled);
+			when(provider.isEnabled(anyInt(), eq(NAME), eq(null), eq(Level.WARN))).thenReturn(warnEnabled);
+			when(provider.isEnabled(anyInt(), eq(NAME), eq(null), eq(Level.ERROR))).thenReturn(errorEnabled);
+
 			Whitebox.setInternalState(Logger.class, provider);
+
+			logger = new Logger(NAME);
 		}
 
 		/**
@@ -187,7 +186,7 @@ public final class LoggerTest {
 		 */
 		@After
 		public void reset() {
-			Whitebox.setInternalState(Logger.class, ProviderRegistry.getLoggingProvider());
+			Whitebox.setInternalState(Logger.class, ProviderRegistry.getClassAwareLoggingProvider());
 		}
 
 		/**
@@ -206,9 +205,9 @@ public final class LoggerTest {
 			logger.trace(42);
 
 			if (traceEnabled) {
-				verify(provider).log(2, null, Level.TRACE, null, null, 42, (Object[]) null);
+				verify(provider).log(2, NAME, null, Level.TRACE, null, null, 42, (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -222,9 +221,9 @@ public final class LoggerTest {
 			logger.trace("Boom!", exception);
 
 			if (traceEnabled) {
-				verify(provider).log(2, null, Level.TRACE, exception, null, "Boom!", (Object[]) null);
+				verify(provider).log(2, NAME, null, Level.TRACE, exception, null, "Boom!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -239,9 +238,9 @@ public final class LoggerTest {
 			logger.trace(exception, exception);
 
 			if (traceEnabled) {
-				verify(provider).log(2, null, Level.TRACE, exception, null, null, (Object[]) null);
+				verify(provider).log(2, NAME, null, Level.TRACE, exception, null, null, (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -13,11 +13,18 @@
 
 package org.apache.log4j;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Stack;
 
-import org.junit.Rule;
+import org.junit.After;
+import org.junit.Before;
 import org.junit.Test;
-import org.tinylog.rules.SystemStreamCollector;
+import org.powermock.reflect.Whitebox;
+import org.tinylog.ThreadContext;
+import org.tinylog.provider.ContextProvider;
+import org.tinylog.provider.ProviderRegistry;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -27,88 +34,184 @@ import static org.assertj.core.api.Assertions.assertThat;
 public final class NdcTest {
 
 	/**
-	 * Redirects and collects system output streams.
+	 * Installs a simple map based context provider for the thread context.
 	 */
-	@Rule
-	public final SystemStreamCollector systemStream = new SystemStreamCollector(true);
+	@Before
+	public void init() {
+		Whitebox.setInternalState(ThreadContext.class, new MapContextProvider());
+	}
 
 	/**
-	 * Verifies that NDC can be cleared without any side effects.
+	 * Removes the nested diagnostic context and resets the underlying context provider.
 	 */
-	@Test
-	public void clear() {
-		NDC.clear();
+	@After
+	public void reset() {
+		NDC.remove();
+		Whitebox.setInternalState(ThreadContext.class, ProviderRegistry.getLoggingProvider().getContextProvider());
 	}
 
 	/**
-	 * Verifies that {@code null} is returned as cloned stack.
+	 * Verifies that pushed messages are stored as space-separated text in the thread context.
 	 */
-	@SuppressWarnings("unchecked")
 	@Test
-	public void cloneStack() {
-		assertThat(NDC.cloneStack()).isNull();
+	public void push() {
+		NDC.push("Hello");
+		NDC.push("World");
+
+		assertThat(NDC.getDepth()).isEqualTo(2);
+		assertThat(NDC.peek()).isEqualTo("World");
+		assertThat(ThreadContext.get(NDC.CONTEXT_KEY)).isEqualTo("Hello World");
 	}
 
 	/**
-	 * Verifies that NDC can be inherited without any side effects.
+	 * Verifies that messages are popped in reverse order and the thread context is updated accordingly.
 	 */
-	@SuppressWarnings("rawtypes")
 	@Test
-	public void inherit() {
-		NDC.inherit(new Stack());
+	public void pop() {
+		NDC.push("Hello");
+		NDC.push("World");
+
+		assertThat(NDC.pop()).isEqualTo("World");
+		assertThat(ThreadContext.get(NDC.CONTEXT_KEY)).isEqualTo("Hello");
+
+		assertThat(NDC.pop()).isEqualTo("Hello");
+		assertThat(ThreadContext.get(NDC.CONTEXT_KEY)).isNull();
+
+		assertThat(NDC.pop()).isEmpty();
 	}
 
 	/**
-	 * Verifies that the current depth is fixed to zero.
+	 * Verifies that an empty string is peeked for an empty NDC.
 	 */
 	@Test
-	public void getDepth() {
+	public void peekEmpty() {
+		assertThat(NDC.peek()).isEmpty();
 		assertThat(NDC.getDepth()).isZero();
 	}
 
 	/**
-	 * Verifies that always an empty string is popped.
+	 * Verifies that all messages can be cleared.
 	 */
 	@Test
-	public void pop() {
-		assertThat(NDC.pop()).isEmpty();
+	public void clear() {
+		NDC.push("Hello");
+		NDC.clear();
+
+		assertThat(NDC.getDepth()).isZero();
+		assertThat(ThreadContext.get(NDC.CONTEXT_KEY)).isNull();
 	}
 
 	/**
-	 * Verifies that always an empty string is peeked.
+	 * Verifies that all messages can be removed.
 	 */
 	@Test
-	public void peek() {
-		assertThat(NDC.peek()).isEmpty();
+	public void remove() {
+		NDC.push("Hello");
+		NDC.remove();
+
+		assertThat(NDC.getDepth()).isZero();
+		assertThat(ThreadContext.get(NDC.CONTEXT_KEY)).isNull();
 	}
 
 	/**
-	 * Verifies that a pushed message will be discarded and a warning will be output.
+	 * Verifies that a cloned stack contains all messages from bottom to top.
 	 */
 	@Test
-	public void push() {
-		NDC.push("Hello World!");
+	public void cloneStack() {
+		assertThat(NDC.cloneStack()).isNull();
 
-		assertThat(NDC.getDepth()).isZero();
-		assertThat(NDC.peek()).isEmpty();
+		NDC.push("Hello");
+		NDC.push("World");
 
-		assertThat(systemStream.consumeErrorOutput()).contains("NDC", "Hello World!");
+		assertThat(NDC.cloneStack()).containsExactly("Hello", "World");
 	}
 
 	/**
-	 * Verifies that can be removed without any side effects.
+	 * Verifies that a cloned stack can be inherited.
 	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
 	@Test
-	public void remove() {
-		NDC.remove();
+	public void inherit() {
+		Stack stack = new Stack();
+		stack.addAll(Arrays.asList("Hello", "World"));
+
+		NDC.inherit(stack);
+
+		assertThat(NDC.getDepth()).isEqualTo(2);
+		assertThat(NDC.pop()).isEqualTo("World");
+		assertThat(ThreadContext.get(NDC.CONTEXT_KEY)).isEqualTo("Hello");
 	}
 
 	/**
-	 * Verifies that the maximum depth be set without any side effects.
+	 * Verifies that the maximum depth cuts off all newer messages.
 	 */
 	@Test
 	public void setMaxDepth() {
+		NDC.push("a");
+		NDC.push("b");
+		NDC.push("c");
+
 		NDC.setMaxDepth(42);
+		assertThat(NDC.getDepth()).isEqualTo(3);
+
+		NDC.setMaxDepth(1);
+		assertThat(NDC.getDepth()).isEqualTo(1);
+		assertThat(NDC.peek()).isEqualTo("a");
+		assertThat(ThreadContext.get(NDC.CONTEXT_KEY)).isEqualTo("a");
+
+		NDC.setMaxDepth(0);
+		assertThat(NDC.getDepth()).isZero();
+		assertThat(ThreadContext.get(NDC.CONTEXT_KEY)).isNull();
+	}
+
+	/**
+	 * Verifies that independent changes of the thread context are respected.
+	 */
+	@Test
+	public void changedThreadContext() {
+		NDC.push("Hello");
+		NDC.push("World");
+
+		ThreadContext.clear();
+		assertThat(NDC.getDepth()).isZero();
+
+		ThreadContext.put(NDC.CONTEXT_KEY, "Foo Bar");
+		assertThat(NDC.getDepth()).isEqualTo(1);
+		assertThat(NDC.peek()).isEqualTo("Foo Bar");
+	}
+
+	/**
+	 * Simple context provider that stores values in a hash map.
+	 */
+	private static final class MapContextProvider implements ContextProvider {
+
+		private final Map<String, String> values = new HashMap<>();
+
+		@Override
+		public Map<String, String> getMapping() {
+			return new HashMap<>(values);
+		}
+
+		@Override
+		public String get(final String key) {
+			return values.get(key);
+		}
+
+		@Override
+		public void put(final String key, final Object value) {
+			values.put(key, value.toString());
+		}
+
+		@Override
+		public void remove(final String key) {
+			values.remove(key);
+		}
+
+		@Override
+		public void clear() {
+			values.clear();
+		}
+
 	}
 
 }
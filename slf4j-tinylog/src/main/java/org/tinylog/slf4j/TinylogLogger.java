@@ -18,18 +18,24 @@ import org.slf4j.spi.LocationAwareLogger;
 import org.tinylog.Level;
 import org.tinylog.format.LegacyMessageFormatter;
 import org.tinylog.format.MessageFormatter;
-import org.tinylog.provider.LoggingProvider;
+import org.tinylog.provider.ClassAwareLoggingProvider;
 import org.tinylog.provider.ProviderRegistry;
 
 /**
- * Location aware logger for tinylog's {@link LoggingProvider}.
+ * Location aware logger for tinylog's {@link ClassAwareLoggingProvider}.
+ *
+ * <p>
+ * The logger name is passed as class name to the logging provider. Therefore, custom severity levels for packages and
+ * classes are resolved once, when the logger is created, and no stack trace walk is necessary for determining the
+ * caller class.
+ * </p>
  */
 public final class TinylogLogger implements LocationAwareLogger {
 
 	private static final int STACKTRACE_DEPTH = 2;
 
 	private static final MessageFormatter formatter = new LegacyMessageFormatter();
-	private static final LoggingProvider provider = ProviderRegistry.getLoggingProvider();
+	private static final ClassAwareLoggingProvider provider = ProviderRegistry.getClassAwareLoggingProvider();
 
 	// @formatter:off
 	private static final boolean MINIMUM_GLOBAL_LEVEL_COVERS_TRACE = isCoveredByGlobalMinimumLevel(Level.TRACE);
@@ -39,22 +45,28 @@ public final class TinylogLogger implements LocationAwareLogger {
 	private static final boolean MINIMUM_GLOBAL_LEVEL_COVERS_ERROR = isCoveredByGlobalMinimumLevel(Level.ERROR);
 	// @formatter:on
 
-	// @formatter:off
-	private static final boolean MINIMUM_DEFAULT_LEVEL_COVERS_TRACE = isCoveredByDefaultMinimumLevel(Level.TRACE);
-	private static final boolean MINIMUM_DEFAULT_LEVEL_COVERS_DEBUG = isCoveredByDefaultMinimumLevel(Level.DEBUG);
-	private static final boolean MINIMUM_DEFAULT_LEVEL_COVERS_INFO  = isCoveredByDefaultMinimumLevel(Level.INFO);
-	private static final boolean MINIMUM_DEFAULT_LEVEL_COVERS_WARN  = isCoveredByDefaultMinimumLevel(Level.WARN);
-	private static final boolean MINIMUM_DEFAULT_LEVEL_COVERS_ERROR = isCoveredByDefaultMinimumLevel(Level.ERROR);
-	// @formatter:on
-
 	private final String name;
 
+	private final boolean minimumLevelCoversTrace;
+	private final boolean minimumLevelCoversDebug;
+	private final boolean minimumLevelCoversInfo;
+	private final boolean minimumLevelCoversWarn;
+	private final boolean minimumLevelCoversError;
+
 	/**
 	 * @param name
 	 *            Name for logger
 	 */
 	public TinylogLogger(final String name) {
 		this.name = name;
+
+		// @formatter:off
+		minimumLevelCoversTrace = isCoveredByMinimumLevel(name, Level.TRACE);
+		minimumLevelCoversDebug = isCoveredByMinimumLevel(name, Level.DEBUG);
+		minimumLevelCoversInfo  = isCoveredByMinimumLevel(name, Level.INFO);
+		minimumLevelCoversWarn  = isCoveredByMinimumLevel(name, Level.WARN);
+		minimumLevelCoversError = isCoveredByMinimumLevel(name, Level.ERROR);
+		// @formatter:on
 	}
 
 	@Override
@@ -64,55 +76,55 @@ public final class TinylogLogger implements LocationAwareLogger {
 
 	@Override
 	public boolean isTraceEnabled() {
-		return MINIMUM_DEFAULT_LEVEL_COVERS_TRACE && provider.isEnabled(STACKTRACE_DEPTH, null, Level.TRACE);
+		return minimumLevelCoversTrace && provider.isEnabled(STACKTRACE_DEPTH, name, null, Level.TRACE);
 	}
 
 	@Override
 	public void trace(final String message) {
-		if (MINIMUM_DEFAULT_LEVEL_COVERS_TRACE) {
-			provider.log(STACKTRACE_DEPTH, null, Level.TRACE, null, null, message, (Object[]) null);
+		if (minimumLevelCoversTrace) {
+			provider.log(STACKTRACE_DEPTH, name, null, Level.TRACE, null, null, message, (Object[]) null);
 		}
 	}
 
 	@Override
 	public void trace(final String format, final Object arg) {
-		if (MINIMUM_DEFAULT_LEVEL_COVERS_TRACE) {
-			provider.log(STACKTRACE_DEPTH, null, Level.TRACE, extractThrowable(arg), formatter, format, arg);
+		if (minimumLevelCoversTrace) {
+			provider.log(STACKTRACE_DEPTH, name, null, Level.TRACE, extractThrowable(arg), formatter, format, arg);
 		}
 	}
 
 	@Override
 	public void trace(final String format, final Object arg1, final Object arg2) {
-		if (MINIMUM_DEFAULT_LEVEL_COVERS_TRACE) {
-			provider.log(STACKTRACE_DEPTH, null, Level.TRACE, extractThrowable(arg2), formatter, format, arg1, arg2);
+		if (minimumLevelCoversTrace) {
+			provider.log(STACKTRACE_DEPTH, name, null, Level.TRACE, extractThrowable(arg2), formatter, format, arg1, arg2);
 		}
 	}
 
 	@Override
 	public void trace(final String format, final Object... arguments) {
-		if (MINIMUM_DEFAULT_LEVEL_COVERS_TRACE) {
-			provider.log(STACKTRACE_DEPTH, null, Level.TRACE, extractThrowable(arguments), formatter, format, arguments);
+		if (minimumLevelCoversTrace) {
+			provider.log(STACKTRACE_DEPTH, name, null, Level.TRACE, extractThrowable(arguments), formatter, format, arguments);
 		}
 	}
 
 	@Override
 	public void trace(final String message, final Throwable exception) {
-		if (MINIMUM_DEFAULT_LEVEL_COVERS_TRACE) {
-			provider.log(STACKTRACE_DEPTH, null, Level.TRACE, exception, null, message, (Object[]) null);
+		if (minimumLevelCoversTrace) {
+			provider.log(STACKTRACE_DEPTH, name, null, Level.TRACE, exception, null, message, (Object[]) null);
 		}
 	}
 
 	@Override
 	public boolean isTraceEnabled(final Marker marker) {
 		String tag = marker == null ? null : marker.getName();
-		return MINIMUM_GLOBAL_LEVEL_COVERS_TRACE && provider.isEnabled(STACKTRACE_DEPTH, tag, Level.TRACE);
+		return MINIMUM_GLOBAL_LEVEL_COVERS_TRACE && provider.isEnabled(STACKTRACE_DEPTH, name, tag, Level.TRACE);
 	}
 
 	@Override
 	public void trace(final Marker marker, final String message) {
 		if (MINIMUM_GLOBAL_LEVEL_COVERS_TRACE) {
 			String tag = marker == null ? null : marker.getName();
-			provider.log(STACKTRACE_DEPTH, tag, Level.TRACE, null, null, message, (Object[]) null);
+			provider.log(STACKTRACE_DEPTH, name, tag, Level.TRACE, null, null, message, (Object[]) null);
 		}
 	}
 
@@ -120,7 +132,7 @@ public final class TinylogLogger implements LocationAwareLogger {
 	public void trace(final Marker marker, final String format, final Object arg) {
 		if (MINIMUM_GLOBAL_LEVEL_COVERS_TRACE) {
 			String tag = marker == null ? null : marker.getName();
-			provider.log(STACKTRACE_DEPTH, tag, Level.TRACE, extractThrowable(arg), formatter, format, arg);
+			provider.log(STACKTRACE_DEPTH, name, tag, Level.TRACE, extractThrowable(arg), formatter, format, arg);
 		}
 	}
 
@@ -128,7 +140,7 @@ public final class TinylogLogger implements LocationAwareLogger {
 	public void trace(final Marker marker, final String format, final Object arg1, final Object arg2) {
 		if (MINIMUM_GLOBAL_LEVEL_COVERS_TRACE) {
 			String tag = marker == null ? null : marker.getName();
-			provider.log(STACKTRACE_DEPTH, tag, Level.TRACE, extractThrowable(arg2), formatter, format, arg1, arg2);
+			provider.log(STACKTRACE_DEPTH, name, tag, Level.TRACE, extractThrowable(arg2), formatter, format, arg1, arg2);
 		}
 	}
 
@@ -136,7 +148,7 @@ public final class TinylogLogger implements LocationAwareLogger {
 	public void trace(final Marker marker, final String format, final Object... arguments) {
 		if (MINIMUM_GLOBAL_LEVEL_COVERS_TRACE) {
 			String tag = marker == null ? null : marker.getName();
-			provider.log(STACKTRACE_DEPTH, tag, Level.TRACE, extractThrowable(arguments), formatter, format, arguments);
+			provider.log(STACKTRACE_DEPTH, name, tag, Level.TRACE, extractThrowable(arguments), formatter, format, arguments);
 		}
 	}
 
@@ -144,61 +156,61 @@ public final class TinylogLogger implements LocationAwareLogger {
 	public void trace(final Marker marker, final String message, final Throwable exception) {
 		if (MINIMUM_GLOBAL_LEVEL_COVERS_TRACE) {
 			String tag = marker == null ? null : marker.getName();
-			provider.log(STACKTRACE_DEPTH, tag, Level.TRACE, exception, null, message, (Object[]) null);
+			provider.log(STACKTRACE_DEPTH, name, tag, Level.TRACE, exception, null, message, (Object[]) null);
 		}
 	}
 
 	@Override
 	public boolean isDebugEnabled() {
-		return MINIMUM_DEFAULT_LEVEL_COVERS_DEBUG && provider.isEnabled(STACKTRACE_DEPTH, null, Level.DEBUG);
+		return minimumLevelCoversDebug && provider.isEnabled(STACKTRACE_DEPTH, name, null, Level.DEBUG);
 	}
 
 	@Override
 	public void debug(final String message) {
-		if (MINIMUM_DEFAULT_LEVEL_COVERS_DEBUG) {
-			provider.log(STACKTRACE_DEPTH, null, Level.DEBUG, null, null, message, (Object[]) null);
+		if (minimumLevelCoversDebug) {
+			provider.log(STACKTRACE_DEPTH, name, null, Level.DEBUG, null, null, message, (Object[]) null);
 		}
 	}
 
 	@Override
 	public void debug(final String format, final Object arg) {
-		if (MINIMUM_DEFAULT_LEVEL_COVERS_DEBUG) {
-			provider.log(STACKTRACE_DEPTH, null, Level.DEBUG, extractThrowable(arg), formatter, format, arg);
+		if (minimumLevelCoversDebug) {
+			provider.log(STACKTRACE_DEPTH, name, null, Level.DEBUG, extractThrowable(arg), formatter, format, arg);
 		}
 	}
 
 	@Override
 	public void debug(final String format, final Object arg1, final Object arg2) {
-		if (MINIMUM_DEFAULT_LEVEL_COVERS_DEBUG) {
-			provider.log(STACKTRACE_DEPTH, null, Level.DEBUG, extractThrowable(arg2), formatter, format, arg1, arg2);
+		if (minimumLevelCoversDebug) {
+			provider.log(STACKTRACE_DEPTH, name, null, Level.DEBUG, extractThrowable(arg2), formatter, format, arg1, arg2);
 		}
 	}
 
 	@Override
 	public void debug(final String format, final Object... arguments) {
-		if (MINIMUM_DEFAULT_LEVEL_COVERS_DEBUG) {
-			provider.log(STACKTRACE_DEPTH, null, Level.DEBUG, extractThrowable(arguments), formatter, format, arguments);
+		if (minimumLevelCoversDebug) {
+			provider.log(STACKTRACE_DEPTH, name, null, Level.DEBUG, extractThrowable(arguments), formatter, format, arguments);
 		}
 	}
 
 	@Override
 	public void debug(final String message, final Throwable exception) {
-		if (MINIMUM_DEFAULT_LEVEL_COVERS_DEBUG) {
-			provider.log(STACKTRACE_DEPTH, null, Level.DEBUG, exception, null, message, (Object[]) null);
+		if (minimumLevelCoversDebug) {
+			provider.log(STACKTRACE_DEPTH, name, null, Level.DEBUG, exception, null, message, (Object[]) null);
 		}
 	}
 
 	@Override
 	public boolean isDebugEnabled(final Marker marker) {
 		String tag = marker == null ? null : marker.getName();
-		return MINIMUM_GLOBAL_LEVEL_COVERS_DEBUG && provider.isEnabled(STACKTRACE_DEPTH, tag, Level.DEBUG);
+		return MINIMUM_GLOBAL_LEVEL_COVERS_DEBUG && provider.isEnabled(STACKTRACE_DEPTH, name, tag, Level.DEBUG);
 	}
 
 	@Override
 	public void debug(final Marker marker, final String message) {
 		if (MINIMUM_GLOBAL_LEVEL_COVERS_DEBUG) {
 			String tag = marker == null ? null : marker.getName();
-			provider.log(STACKTRACE_DEPTH, tag, Level.DEBUG, null, null, message, (Object[]) null);
+			provider.log(STACKTRACE_DEPTH, name, tag, Level.DEBUG, null, null, message, (Object[]) null);
 		}
 	}
 
@@ -206,7 +218,7 @@ public final class TinylogLogger implements LocationAwareLogger {
 	public void debug(final Marker marker, final String format, final Object arg) {
 		if (MINIMUM_GLOBAL_LEVEL_COVERS_DEBUG) {
 			String tag = marker == null ? null : marker.getName();
-			provider.log(STACKTRACE_DEPTH, tag, Level.DEBUG, extractThrowable(arg), formatter, format, arg);
+			provider.log(STACKTRACE_DEPTH, name, tag, Level.DEBUG, extractThrowable(arg), formatter, format, arg);
 		}
 	}
 
@@ -214,7 +226,7 @@ public final class TinylogLogger implements LocationAwareLogger {
 	public void debug(final Marker marker, final String format, final Object arg1, final Object arg2) {
 		if (MINIMUM_GLOBAL_LEVEL_COVERS_DEBUG) {
 			String tag = marker == null ? null : marker.getName();
-			provider.log(STACKTRACE_DEPTH, tag, Level.DEBUG, extractThrowable(arg2), formatter, format, arg1, arg2);
+			provider.log(STACKTRACE_DEPTH, name, tag, Level.DEBUG, extractThrowable(arg2), formatter, format, arg1, arg2);
 		}
 	}
 
@@ -222,7 +234,7 @@ public final class TinylogLogger implements LocationAwareLogger {
 	public void debug(final Marker marker, final String format, final Object... arguments) {
 		if (MINIMUM_GLOBAL_LEVEL_COVERS_DEBUG) {
 			String tag = marker == null ? null : marker.getName();
-			provider.log(STACKTRACE_DEPTH, tag, Level.DEBUG, extractThrowable(arguments), formatter, format, arguments);
+			provider.log(STACKTRACE_DEPTH, name, tag, Level.DEBUG, extractThrowable(arguments), formatter, format, arguments);
 		}
 	}
 
@@ -230,61 +242,61 @@ public final class TinylogLogger implements LocationAwareLogger {
 	public void debug(final Marker marker, final String message, final Throwable exception) {
 		if (MINIMUM_GLOBAL_LEVEL_COVERS_DEBUG) {
 			String tag = marker == null ? null : marker.getName();
-			provider.log(STACKTRACE_DEPTH, tag, Level.DEBUG, exception, null, message, (Object[]) null);
+			provider.log(STACKTRACE_DEPTH, name, tag, Level.DEBUG, exception, null, message, (Object[]) null);
 		}
 	}
 
 	@Override
 	public boolean isInfoEnabled() {
-		return MINIMUM_DEFAULT_LEVEL_COVERS_INFO && provider.isEnabled(STACKTRACE_DEPTH, null, Level.INFO);
+		return minimumLevelCoversInfo && provider.isEnabled(STACKTRACE_DEPTH, name, null, Level.INFO);
 	}
 
 	@Override
 	public void info(final String message) {
-		if (MINIMUM_DEFAULT_LEVEL_COVERS_INFO) {
-			provider.log(STACKTRACE_DEPTH, null, Level.INFO, null, null, message, (Object[]) null);
+		if (minimumLevelCoversInfo) {
+			provider.log(STACKTRACE_DEPTH, name, null, Level.INFO, null, null, message, (Object[]) null);
 		}
 	}
 
 	@Override
 	public void info(final String format, final Object arg) {
-		if (MINIMUM_DEFAULT_LEVEL_COVERS_INFO) {
-			provider.log(STACKTRACE_DEPTH, null, Level.INFO, extractThrowable(arg), formatter, format, arg);
+		if (minimumLevelCoversInfo) {
+			provider.log(STACKTRACE_DEPTH, name, null, Level.INFO, extractThrowable(arg), formatter, format, arg);
 		}
 	}
 
 	@Override
 	public void info(final String format, final Object arg1, final Object arg2) {
-		if (MINIMUM_DEFAULT_LEVEL_COVERS_INFO) {
-			provider.log(STACKTRACE_DEPTH, null, Level.INFO, extractThrowable(arg2), formatter, format, arg1, arg2);
+		if (minimumLevelCoversInfo) {
+			provider.log(STACKTRACE_DEPTH, name, null, Level.INFO, extractThrowable(arg2), formatter, format, arg1, arg2);
 		}
 	}
 
 	@Override
 	public void info(final String format, final Object... arguments) {
-		if (MINIMUM_DEFAULT_LEVEL_COVERS_INFO) {
-			provider.log(STACKTRACE_DEPTH, null, Level.INFO, extractThrowable(arguments), formatter, format, arguments);
+		if (minimumLevelCoversInfo) {
+			provider.log(STACKTRACE_DEPTH, name, null, Level.INFO, extractThrowable(arguments), formatter, format, arguments);
 		}
 	}
 
 	@Override
 	public void info(final String message, final Throwable exception) {
-		if (MINIMUM_DEFAULT_LEVEL_COVERS_INFO) {
-			provider.log(STACKTRACE_DEPTH, null, Level.INFO, exception, null, message, (Object[]) null);
+		if (minimumLevelCoversInfo) {
+			provider.log(STACKTRACE_DEPTH, name, null, Level.INFO, exception, null, message, (Object[]) null);
 		}
 	}
 
 	@Override
 	public boolean isInfoEnabled(final Marker marker) {
 		String tag = marker == null ? null : marker.getName();
-		return MINIMUM_GLOBAL_LEVEL_COVERS_INFO && provider.isEnabled(STACKTRACE_DEPTH, tag, Level.INFO);
+		return MINIMUM_GLOBAL_LEVEL_COVERS_INFO && provider.isEnabled(STACKTRACE_DEPTH, name, tag, Level.INFO);
 	}
 
 	@Override
 	public void info(final Marker marker, final String message) {
 		if (MINIMUM_GLOBAL_LEVEL_COVERS_INFO) {
 			String tag = marker == null ? null : marker.getName();
-			provider.log(STACKTRACE_DEPTH, tag, Level.INFO, null, null, message, (Object[]) null);
+			provider.log(STACKTRACE_DEPTH, name, tag, Level.INFO, null, null, message, (Object[]) null);
 		}
 	}
 
@@ -292,7 +304,7 @@ public final class TinylogLogger implements LocationAwareLogger {
 	public void info(final Marker marker, final String format, final Object arg) {
 		if (MINIMUM_GLOBAL_LEVEL_COVERS_INFO) {
 			String tag = marker == null ? null : marker.getName();
-			provider.log(STACKTRACE_DEPTH, tag, Level.INFO, extractThrowable(arg), formatter, format, arg);
+			provider.log(STACKTRACE_DEPTH, name, tag, Level.INFO, extractThrowable(arg), formatter, format, arg);
 		}
 	}
 
@@ -300,7 +312,7 @@ public final class TinylogLogger implements LocationAwareLogger {
 	public void info(final Marker marker, final String format, final Object arg1, final Object arg2) {
 		if (MINIMUM_GLOBAL_LEVEL_COVERS_INFO) {
 			String tag = marker == null ? null : marker.getName();
-			provider.log(STACKTRACE_DEPTH, tag, Level.INFO, extractThrowable(arg2), formatter, format, arg1, arg2);
+			provider.log(STACKTRACE_DEPTH, name, tag, Level.INFO, extractThrowable(arg2), formatter, format, arg1, arg2);
 		}
 	}
 
@@ -308,7 +320,7 @@ public final class TinylogLogger implements LocationAwareLogger {
 	public void info(final Marker marker, final String format, final Object... arguments) {
 		if (MINIMUM_GLOBAL_LEVEL_COVERS_INFO) {
 			String tag = marker == null ? null : marker.getName();
-			provider.log(STACKTRACE_DEPTH, tag, Level.INFO, extractThrowable(arguments), formatter, format, arguments);
+			provider.log(STACKTRACE_DEPTH, name, tag, Level.INFO, extractThrowable(arguments), formatter, format, arguments);
 		}
 	}
 
@@ -316,61 +328,61 @@ public final class TinylogLogger implements LocationAwareLogger {
 	public void info(final Marker marker, final String message, final Throwable exception) {
 		if (MINIMUM_GLOBAL_LEVEL_COVERS_INFO) {
 			String tag = marker == null ? null : marker.getName();
-			provider.log(STACKTRACE_DEPTH, tag, Level.INFO, exception, null, message, (Object[]) null);
+			provider.log(STACKTRACE_DEPTH, name, tag, Level.INFO, exception, null, message, (Object[]) null);
 		}
 	}
 
 	@Override
 	public boolean isWarnEnabled() {
-		return MINIMUM_DEFAULT_LEVEL_COVERS_WARN && provider.isEnabled(STACKTRACE_DEPTH, null, Level.WARN);
+		return minimumLevelCoversWarn && provider.isEnabled(STACKTRACE_DEPTH, name, null, Level.WARN);
 	}
 
 	@Override
 	public void warn(final String message) {
-		if (MINIMUM_DEFAULT_LEVEL_COVERS_WARN) {
-			provider.log(STACKTRACE_DEPTH, null, Level.WARN, null, null, message, (Object[]) null);
+		if (minimumLevelCoversWarn) {
+			provider.log(STACKTRACE_DEPTH, name, null, Level.WARN, null, null, message, (Object[]) null);
 		}
 	}
 
 	@Override
 	public void warn(final String format, final Object arg) {
-		if (MINIMUM_DEFAULT_LEVEL_COVERS_WARN) {
-			provider.log(STACKTRACE_DEPTH, null, Level.WARN, extractThrowable(arg), formatter, format, arg);
+		if (minimumLevelCoversWarn) {
+			provider.log(STACKTRACE_DEPTH, name, null, Level.WARN, extractThrowable(arg), formatter, format, arg);
 		}
 	}
 
 	@Override
 	public void warn(final String format, final Object arg1, final Object arg2) {
-		if (MINIMUM_DEFAULT_LEVEL_COVERS_WARN) {
-			provider.log(STACKTRACE_DEPTH, null, Level.WARN, extractThrowable(arg2), formatter, format, arg1, arg2);
+		if (minimumLevelCoversWarn) {
+			provider.log(STACKTRACE_DEPTH, name, null, Level.WARN, extractThrowable(arg2), formatter, format, arg1, arg2);
 		}
 	}
 
 	@Override
 	public void warn(final String format, final Object... arguments) {
-		if (MINIMUM_DEFAULT_LEVEL_COVERS_WARN) {
-			provider.log(STACKTRACE_DEPTH, null, Level.WARN, extractThrowable(arguments), formatter, format, arguments);
+		if (minimumLevelCoversWarn) {
+			provider.log(STACKTRACE_DEPTH, name, null, Level.WARN, extractThrowable(arguments), formatter, format, arguments);
 		}
 	}
 
 	@Override
 	public void warn(final String message, final Throwable exception) {
-		if (MINIMUM_DEFAULT_LEVEL_COVERS_WARN) {
-			provider.log(STACKTRACE_DEPTH, null, Level.WARN, exception, null, message, (Object[]) null);
+		if (minimumLevelCoversWarn) {
+			provider.log(STACKTRACE_DEPTH, name, null, Level.WARN, exception, null, message, (Object[]) null);
 		}
 	}
 
 	@Override
 	public boolean isWarnEnabled(final Marker marker) {
 		String tag = marker == null ? null : marker.getName();
-		return MINIMUM_GLOBAL_LEVEL_COVERS_WARN && provider.isEnabled(STACKTRACE_DEPTH, tag, Level.WARN);
+		return MINIMUM_GLOBAL_LEVEL_COVERS_WARN && provider.isEnabled(STACKTRACE_DEPTH, name, tag, Level.WARN);
 	}
 
 	@Override
 	public void warn(final Marker marker, final String message) {
 		if (MINIMUM_GLOBAL_LEVEL_COVERS_WARN) {
 			String tag = marker == null ? null : marker.getName();
-			provider.log(STACKTRACE_DEPTH, tag, Level.WARN, null, null, message, (Object[]) null);
+			provider.log(STACKTRACE_DEPTH, name, tag, Level.WARN, null, null, message, (Object[]) null);
 		}
 	}
 
@@ -378,7 +390,7 @@ public final class TinylogLogger implements LocationAwareLogger {
 	public void warn(final Marker marker, final String format, final Object arg) {
 		if (MINIMUM_GLOBAL_LEVEL_COVERS_WARN) {
 			String tag = marker == null ? null : marker.getName();
-			provider.log(STACKTRACE_DEPTH, tag, Level.WARN, extractThrowable(arg), formatter, format, arg);
+			provider.log(STACKTRACE_DEPTH, name, tag, Level.WARN, extractThrowable(arg), formatter, format, arg);
 		}
 	}
 
@@ -386,7 +398,7 @@ public final class TinylogLogger implements LocationAwareLogger {
 	public void warn(final Marker marker, final String format, final Object arg1, final Object arg2) {
 		if (MINIMUM_GLOBAL_LEVEL_COVERS_WARN) {
 			String tag = marker == null ? null : marker.getName();
-			provider.log(STACKTRACE_DEPTH, tag, Level.WARN, extractThrowable(arg2), formatter, format, arg1, arg2);
+			provider.log(STACKTRACE_DEPTH, name, tag, Level.WARN, extractThrowable(arg2), formatter, format, arg1, arg2);
 		}
 	}
 
@@ -394,7 +406,7 @@ public final class TinylogLogger implements LocationAwareLogger {
 	public void warn(final Marker marker, final String format, final Object... arguments) {
 		if (MINIMUM_GLOBAL_LEVEL_COVERS_WARN) {
 			String tag = marker == null ? null : marker.getName();
-			provider.log(STACKTRACE_DEPTH, tag, Level.WARN, extractThrowable(arguments), formatter, format, arguments);
+			provider.log(STACKTRACE_DEPTH, name, tag, Level.WARN, extractThrowable(arguments), formatter, format, arguments);
 		}
 	}
 
@@ -402,61 +414,61 @@ public final class TinylogLogger implements LocationAwareLogger {
 	public void warn(final Marker marker, final String message, final Throwable exception) {
 		if (MINIMUM_GLOBAL_LEVEL_COVERS_WARN) {
 			String tag = marker == null ? null : marker.getName();
-			provider.log(STACKTRACE_DEPTH, tag, Level.WARN, exception, null, message, (Object[]) null);
+			provider.log(STACKTRACE_DEPTH, name, tag, Level.WARN, exception, null, message, (Object[]) null);
 		}
 	}
 
 	@Override
 	public boolean isErrorEnabled() {
-		return MINIMUM_DEFAULT_LEVEL_COVERS_ERROR && provider.isEnabled(STACKTRACE_DEPTH, null, Level.ERROR);
+		return minimumLevelCoversError && provider.isEnabled(STACKTRACE_DEPTH, name, null, Level.ERROR);
 	}
 
 	@Override
 	public void error(final String message) {
-		if (MINIMUM_DEFAULT_LEVEL_COVERS_ERROR) {
-			provider.log(STACKTRACE_DEPTH, null, Level.ERROR, null, null, message, (Object[]) null);
+		if (minimumLevelCoversError) {
+			provider.log(STACKTRACE_DEPTH, name, null, Level.ERROR, null, null, message, (Object[]) null);
 		}
 	}
 
 	@Override
 	public void error(final String format, final Object arg) {
-		if (MINIMUM_DEFAULT_LEVEL_COVERS_ERROR) {
-			provider.log(STACKTRACE_DEPTH, null, Level.ERROR, extractThrowable(arg), formatter, format, arg);
+		if (minimumLevelCoversError) {
+			provider.log(STACKTRACE_DEPTH, name, null, Level.ERROR, extractThrowable(arg), formatter, format, arg);
 		}
 	}
 
 	@Override
 	public void error(final String format, final Object arg1, final Object arg2) {
-		if (MINIMUM_DEFAULT_LEVEL_COVERS_ERROR) {
-			provider.log(STACKTRACE_DEPTH, null, Level.ERROR, extractThrowable(arg2), formatter, format, arg1, arg2);
+		if (minimumLevelCoversError) {
+			provider.log(STACKTRACE_DEPTH, name, null, Level.ERROR, extractThrowable(arg2), formatter, format, arg1, arg2);
 		}
 	}
 
 	@Override
 	public void error(final String format, final Object... arguments) {
-		if (MINIMUM_DEFAULT_LEVEL_COVERS_ERROR) {
-			provider.log(STACKTRACE_DEPTH, null, Level.ERROR, extractThrowable(arguments), formatter, format, arguments);
+		if (minimumLevelCoversError) {
+			provider.log(STACKTRACE_DEPTH, name, null, Level.ERROR, extractThrowable(arguments), formatter, format, arguments);
 		}
 	}
 
 	@Override
 	public void error(final String message, final Throwable exception) {
-		if (MINIMUM_DEFAULT_LEVEL_COVERS_ERROR) {
-			provider.log(STACKTRACE_DEPTH, null, Level.ERROR, exception, null, message, (Object[]) null);
+		if (minimumLevelCoversError) {
+			provider.log(STACKTRACE_DEPTH, name, null, Level.ERROR, exception, null, message, (Object[]) null);
 		}
 	}
 
 	@Override
 	public boolean isErrorEnabled(final Marker marker) {
 		String tag = marker == null ? null : marker.getName();
-		return MINIMUM_GLOBAL_LEVEL_COVERS_ERROR && provider.isEnabled(STACKTRACE_DEPTH, tag, Level.ERROR);
+		return MINIMUM_GLOBAL_LEVEL_COVERS_ERROR && provider.isEnabled(STACKTRACE_DEPTH, name, tag, Level.ERROR);
 	}
 
 	@Override
 	public void error(final Marker marker, final String message) {
 		if (MINIMUM_GLOBAL_LEVEL_COVERS_ERROR) {
 			String tag = marker == null ? null : marker.getName();
-			provider.log(STACKTRACE_DEPTH, tag, Level.ERROR, null, null, message, (Object[]) null);
+			provider.log(STACKTRACE_DEPTH, name, tag, Level.ERROR, null, null, message, (Object[]) null);
 		}
 	}
 
@@ -464,7 +476,7 @@ public final class TinylogLogger implements LocationAwareLogger {
 	public void error(final Marker marker, final String format, final Object arg) {
 		if (MINIMUM_GLOBAL_LEVEL_COVERS_ERROR) {
 			String tag = marker == null ? null : marker.getName();
-			provider.log(STACKTRACE_DEPTH, tag, Level.ERROR, extractThrowable(arg), formatter, format, arg);
+			provider.log(STACKTRACE_DEPTH, name, tag, Level.ERROR, extractThrowable(arg), formatter, format, arg);
 		}
 	}
 
@@ -472,7 +484,7 @@ public final class TinylogLogger implements LocationAwareLogger {
 	public void error(final Marker marker, final String format, final Object arg1, final Object arg2) {
 		if (MINIMUM_GLOBAL_LEVEL_COVERS_ERROR) {
 			String tag = marker == null ? null : marker.getName();
-			provider.log(STACKTRACE_DEPTH, tag, Level.ERROR, extractThrowable(arg2), formatter, format, arg1, arg2);
+			provider.log(STACKTRACE_DEPTH, name, tag, Level.ERROR, extractThrowable(arg2), formatter, format, arg1, arg2);
 		}
 	}
 
@@ -480,7 +492,7 @@ public final class TinylogLogger implements LocationAwareLogger {
 	public void error(final Marker marker, final String format, final Object... arguments) {
 		if (MINIMUM_GLOBAL_LEVEL_COVERS_ERROR) {
 			String tag = marker == null ? null : marker.getName();
-			provider.log(STACKTRACE_DEPTH, tag, Level.ERROR, extractThrowable(arguments), formatter, format, arguments);
+			provider.log(STACKTRACE_DEPTH, name, tag, Level.ERROR, extractThrowable(arguments), formatter, format, arguments);
 		}
 	}
 
@@ -488,7 +500,7 @@ public final class TinylogLogger implements LocationAwareLogger {
 	public void error(final Marker marker, final String message, final Throwable exception) {
 		if (MINIMUM_GLOBAL_LEVEL_COVERS_ERROR) {
 			String tag = marker == null ? null : marker.getName();
-			provider.log(STACKTRACE_DEPTH, tag, Level.ERROR, exception, null, message, (Object[]) null);
+			provider.log(STACKTRACE_DEPTH, name, tag, Level.ERROR, exception, null, message, (Object[]) null);
 		}
 	}
 
@@ -497,8 +509,8 @@ public final class TinylogLogger implements LocationAwareLogger {
 		final Throwable exception) {
 		Level severityLevel = translateLevel(level);
 		String tag = marker == null ? null : marker.getName();
-		if (provider.getMinimumLevel(tag).ordinal() <= severityLevel.ordinal()) {
-			provider.log(fqcn, tag, severityLevel, exception, formatter, message, arguments);
+		if (provider.getMinimumLevel(name, tag).ordinal() <= severityLevel.ordinal()) {
+			provider.log(fqcn, name, tag, severityLevel, exception, formatter, message, arguments);
 		}
 	}
 
@@ -514,14 +526,16 @@ public final class TinylogLogger implements LocationAwareLogger {
 	}
 
 	/**
-	 * Checks if a given severity level is covered by the untagged logging provider's minimum level.
+	 * Checks if a given severity level is covered by the untagged logging provider's minimum level for a logger name.
 	 *
+	 * @param name
+	 *            Name of logger
 	 * @param level
 	 *            Severity level to check
 	 * @return {@code true} if given severity level is covered, otherwise {@code false}
 	 */
-	private static boolean isCoveredByDefaultMinimumLevel(final Level level) {
-		return provider.getMinimumLevel(null).ordinal() <= level.ordinal();
+	private static boolean isCoveredByMinimumLevel(final String name, final Level level) {
+		return provider.getMinimumLevel(name, null).ordinal() <= level.ordinal();
 	}
 
 	/**
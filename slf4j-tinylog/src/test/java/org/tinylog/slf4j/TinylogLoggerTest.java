@@ -33,7 +33,7 @@ import org.slf4j.Marker;
 import org.slf4j.helpers.BasicMarkerFactory;
 import org.tinylog.Level;
 import org.tinylog.format.LegacyMessageFormatter;
-import org.tinylog.provider.LoggingProvider;
+import org.tinylog.provider.ClassAwareLoggingProvider;
 import org.tinylog.provider.ProviderRegistry;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -54,6 +54,8 @@ import static org.mockito.Mockito.when;
 @RunWith(Enclosed.class)
 public final class TinylogLoggerTest {
 
+	private static final String LOGGER_NAME = TinylogLoggerTest.class.getName();
+
 	/**
 	 * Test logging without using a {@link Marker}.
 	 */
@@ -75,7 +77,7 @@ public final class TinylogLoggerTest {
 		private boolean warnEnabled;
 		private boolean errorEnabled;
 
-		private LoggingProvider provider;
+		private ClassAwareLoggingProvider provider;
 		private TinylogLogger logger;
 
 		/**
@@ -129,15 +131,13 @@ public final class TinylogLoggerTest {
 		 */
 		@Before
 		public void init() {
-			provider = mock(LoggingProvider.class);
-			when(provider.getMinimumLevel(null)).thenReturn(level);
-			when(provider.isEnabled(anyInt(), isNull(), eq(Level.TRACE))).thenReturn(traceEnabled);
-			when(provider.isEnabled(anyInt(), isNull(), eq(Level.DEBUG))).thenReturn(debugEnabled);
-			when(provider.isEnabled(anyInt(), isNull(), eq(Level.INFO))).thenReturn(infoEnabled);
-			when(provider.isEnabled(anyInt(), isNull(), eq(Level.WARN))).thenReturn(warnEnabled);
-			when(provider.isEnabled(anyInt(), isNull(), eq(Level.ERROR))).thenReturn(errorEnabled);
-
-			logger = new TinylogLogger(TinylogLoggerTest.class.getName());
+			provider = mock(ClassAwareLoggingProvider.class);
+			when(provider.getMinimumLevel(LOGGER_NAME, null)).thenReturn(level);
+			when(provider.isEnabled(anyInt(), eq(LOGGER_NAME), isNull(), eq(Level.TRACE))).thenReturn(traceEnabled);
+			when(provider.isEnabled(anyInt(), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG))).thenReturn(debugEnabled);
+			when(provider.isEnabled(anyInt(), eq(LOGGER_NAME), isNull(), eq(Level.INFO))).thenReturn(infoEnabled);
+			when(provider.isEnabled(anyInt(), eq(LOGGER_NAME), isNull(), eq(Level.WARN))).thenReturn(warnEnabled);
+			when(provider.isEnabled(anyInt(), eq(LOGGER_NAME), isNull(), eq(Level.ERROR))).thenReturn(errorEnabled);
 
 			Whitebox.setInternalState(TinylogLogger.class, "MINIMUM_GLOBAL_LEVEL_COVERS_TRACE", traceEnabled);
 			Whitebox.setInternalState(TinylogLogger.class, "MINIMUM_GLOBAL_LEVEL_COVERS_DEBUG", debugEnabled);
@@ -145,13 +145,9 @@ public final class TinylogLoggerTest {
 			Whitebox.setInternalState(TinylogLogger.class, "MINIMUM_GLOBAL_LEVEL_COVERS_WARN", warnEnabled);
 			Whitebox.setInternalState(TinylogLogger.class, "MINIMUM_GLOBAL_LEVEL_COVERS_ERROR", errorEnabled);
 
-			Whitebox.setInternalState(TinylogLogger.class, "MINIMUM_DEFAULT_LEVEL_COVERS_TRACE", traceEnabled);
-			Whitebox.setInternalState(TinylogLogger.class, "MINIMUM_DEFAULT_LEVEL_COVERS_DEBUG", debugEnabled);
-			Whitebox.setInternalState(TinylogLogger.class, "MINIMUM_DEFAULT_LEVEL_COVERS_INFO", infoEnabled);
-			Whitebox.setInternalState(TinylogLogger.class, "MINIMUM_DEFAULT_LEVEL_COVERS_WARN", warnEnabled);
-			Whitebox.setInternalState(TinylogLogger.class, "MINIMUM_DEFAULT_LEVEL_COVERS_ERROR", errorEnabled);
-
 			Whitebox.setInternalState(TinylogLogger.class, provider);
+
+			logger = new TinylogLogger(LOGGER_NAME);
 		}
 
 		/**
@@ -159,7 +155,7 @@ public final class TinylogLoggerTest {
 		 */
 		@After
 		public void reset() {
-			Whitebox.setInternalState(TinylogLogger.class, ProviderRegistry.getLoggingProvider());
+			Whitebox.setInternalState(TinylogLogger.class, ProviderRegistry.getClassAwareLoggingProvider());
 		}
 
 		/**
@@ -167,7 +163,7 @@ public final class TinylogLoggerTest {
 		 */
 		@Test
 		public void getName() {
-			assertThat(logger.getName()).isEqualTo(TinylogLoggerTest.class.getName());
+			assertThat(logger.getName()).isEqualTo(LOGGER_NAME);
 		}
 
 		/**
@@ -186,9 +182,9 @@ public final class TinylogLoggerTest {
 			logger.trace("Hello World!");
 
 			if (traceEnabled) {
-				verify(provider).log(2, null, Level.TRACE, null, null, "Hello World!", (Object[]) null);
+				verify(provider).log(2, LOGGER_NAME, null, Level.TRACE, null, null, "Hello World!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -201,10 +197,10 @@ public final class TinylogLoggerTest {
 			logger.trace("Hello {}!", "World");
 
 			if (traceEnabled) {
-				verify(provider).log(eq(2), isNull(), eq(Level.TRACE), isNull(), any(LegacyMessageFormatter.class), eq("Hello {}!"),
-						eq("World"));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), isNull(), any(LegacyMessageFormatter.class),
+						eq("Hello {}!"), eq("World"));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -217,10 +213,10 @@ public final class TinylogLoggerTest {
 			logger.trace("{} = {}", "magic", 42);
 
 			if (traceEnabled) {
-				verify(provider).log(eq(2), isNull(), eq(Level.TRACE), isNull(), any(LegacyMessageFormatter.class), eq("{} = {}"),
-						eq("magic"), eq(42));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), isNull(), any(LegacyMessageFormatter.class),
+						eq("{} = {}"), eq("magic"), eq(42));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -235,10 +231,10 @@ public final class TinylogLoggerTest {
 			logger.trace("{} = {}", "magic", 42, exception);
 
 			if (traceEnabled) {
-				verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(exception), any(LegacyMessageFormatter.class), eq("{} = {}"),
-						eq("magic"), eq(42), same(exception));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(exception), any(LegacyMessageFormatter.class),
+						eq("{} = {}"), eq("magic"), eq(42), same(exception));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -253,9 +249,9 @@ public final class TinylogLoggerTest {
 			logger.trace("Hello World!", exception);
 
 			if (traceEnabled) {
-				verify(provider).log(2, null, Level.TRACE, exception, null, "Hello World!", (Object[]) null);
+				verify(provider).log(2, LOGGER_NAME, null, Level.TRACE, exception, null, "Hello World!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -275,9 +271,9 @@ public final class TinylogLoggerTest {
 			logger.debug("Hello World!");
 
 			if (debugEnabled) {
-				verify(provider).log(2, null, Level.DEBUG, null, null, "Hello World!", (Object[]) null);
+				verify(provider).log(2, LOGGER_NAME, null, Level.DEBUG, null, null, "Hello World!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -290,10 +286,10 @@ public final class TinylogLoggerTest {
 			logger.debug("Hello {}!", "World");
 
 			if (debugEnabled) {
-				verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), isNull(), any(LegacyMessageFormatter.class), eq("Hello {}!"),
-						eq("World"));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), isNull(), any(LegacyMessageFormatter.class),
+						eq("Hello {}!"), eq("World"));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -306,10 +302,10 @@ public final class TinylogLoggerTest {
 			logger.debug("{} = {}", "magic", 42);
 
 			if (debugEnabled) {
-				verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), isNull(), any(LegacyMessageFormatter.class), eq("{} = {}"),
-						eq("magic"), eq(42));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), isNull(), any(LegacyMessageFormatter.class),
+						eq("{} = {}"), eq("magic"), eq(42));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -324,10 +320,10 @@ public final class TinylogLoggerTest {
 			logger.debug("{} = {}", "magic", 42, exception);
 
 			if (debugEnabled) {
-				verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(exception), any(LegacyMessageFormatter.class), eq("{} = {}"),
-						eq("magic"), eq(42), same(exception));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(exception), any(LegacyMessageFormatter.class),
+						eq("{} = {}"), eq("magic"), eq(42), same(exception));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -342,9 +338,9 @@ public final class TinylogLoggerTest {
 			logger.debug("Hello World!", exception);
 
 			if (debugEnabled) {
-				verify(provider).log(2, null, Level.DEBUG, exception, null, "Hello World!", (Object[]) null);
+				verify(provider).log(2, LOGGER_NAME, null, Level.DEBUG, exception, null, "Hello World!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -364,9 +360,9 @@ public final class TinylogLoggerTest {
 			logger.info("Hello World!");
 
 			if (infoEnabled) {
-				verify(provider).log(2, null, Level.INFO, null, null, "Hello World!", (Object[]) null);
+				verify(provider).log(2, LOGGER_NAME, null, Level.INFO, null, null, "Hello World!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -379,10 +375,10 @@ public final class TinylogLoggerTest {
 			logger.info("Hello {}!", "World");
 
 			if (infoEnabled) {
-				verify(provider).log(eq(2), isNull(), eq(Level.INFO), isNull(), any(LegacyMessageFormatter.class), eq("Hello {}!"),
-						eq("World"));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), isNull(), any(LegacyMessageFormatter.class),
+						eq("Hello {}!"), eq("World"));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -395,10 +391,10 @@ public final class TinylogLoggerTest {
 			logger.info("{} = {}", "magic", 42);
 
 			if (infoEnabled) {
-				verify(provider).log(eq(2), isNull(), eq(Level.INFO), isNull(), any(LegacyMessageFormatter.class), eq("{} = {}"),
-						eq("magic"), eq(42));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), isNull(), any(LegacyMessageFormatter.class),
+						eq("{} = {}"), eq("magic"), eq(42));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -413,10 +409,10 @@ public final class TinylogLoggerTest {
 			logger.info("{} = {}", "magic", 42, exception);
 
 			if (infoEnabled) {
-				verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(exception), any(LegacyMessageFormatter.class), eq("{} = {}"),
-						eq("magic"), eq(42), same(exception));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(exception), any(LegacyMessageFormatter.class),
+						eq("{} = {}"), eq("magic"), eq(42), same(exception));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -431,9 +427,9 @@ public final class TinylogLoggerTest {
 			logger.info("Hello World!", exception);
 
 			if (infoEnabled) {
-				verify(provider).log(2, null, Level.INFO, exception, null, "Hello World!", (Object[]) null);
+				verify(provider).log(2, LOGGER_NAME, null, Level.INFO, exception, null, "Hello World!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -453,9 +449,9 @@ public final class TinylogLoggerTest {
 			logger.warn("Hello World!");
 
 			if (warnEnabled) {
-				verify(provider).log(2, null, Level.WARN, null, null, "Hello World!", (Object[]) null);
+				verify(provider).log(2, LOGGER_NAME, null, Level.WARN, null, null, "Hello World!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -468,10 +464,10 @@ public final class TinylogLoggerTest {
 			logger.warn("Hello {}!", "World");
 
 			if (warnEnabled) {
-				verify(provider).log(eq(2), isNull(), eq(Level.WARN), isNull(), any(LegacyMessageFormatter.class), eq("Hello {}!"),
-						eq("World"));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), isNull(), any(LegacyMessageFormatter.class),
+						eq("Hello {}!"), eq("World"));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -484,10 +480,10 @@ public final class TinylogLoggerTest {
 			logger.warn("{} = {}", "magic", 42);
 
 			if (warnEnabled) {
-				verify(provider).log(eq(2), isNull(), eq(Level.WARN), isNull(), any(LegacyMessageFormatter.class), eq("{} = {}"),
-						eq("magic"), eq(42));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), isNull(), any(LegacyMessageFormatter.class),
+						eq("{} = {}"), eq("magic"), eq(42));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -502,10 +498,10 @@ public final class TinylogLoggerTest {
 			logger.warn("{} = {}", "magic", 42, exception);
 
 			if (warnEnabled) {
-				verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(exception), any(LegacyMessageFormatter.class), eq("{} = {}"),
-						eq("magic"), eq(42), same(exception));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(exception), any(LegacyMessageFormatter.class),
+						eq("{} = {}"), eq("magic"), eq(42), same(exception));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -520,9 +516,9 @@ public final class TinylogLoggerTest {
 			logger.warn("Hello World!", exception);
 
 			if (warnEnabled) {
-				verify(provider).log(2, null, Level.WARN, exception, null, "Hello World!", (Object[]) null);
+				verify(provider).log(2, LOGGER_NAME, null, Level.WARN, exception, null, "Hello World!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -542,9 +538,9 @@ public final class TinylogLoggerTest {
 			logger.error("Hello World!");
 
 			if (errorEnabled) {
-				verify(provider).log(2, null, Level.ERROR, null, null, "Hello World!", (Object[]) null);
+				verify(provider).log(2, LOGGER_NAME, null, Level.ERROR, null, null, "Hello World!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -557,10 +553,10 @@ public final class TinylogLoggerTest {
 			logger.error("Hello {}!", "World");
 
 			if (errorEnabled) {
-				verify(provider).log(eq(2), isNull(), eq(Level.ERROR), isNull(), any(LegacyMessageFormatter.class), eq("Hello {}!"),
-						eq("World"));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), isNull(), any(LegacyMessageFormatter.class),
+						eq("Hello {}!"), eq("World"));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -573,10 +569,10 @@ public final class TinylogLoggerTest {
 			logger.error("{} = {}", "magic", 42);
 
 			if (errorEnabled) {
-				verify(provider).log(eq(2), isNull(), eq(Level.ERROR), isNull(), any(LegacyMessageFormatter.class), eq("{} = {}"),
-						eq("magic"), eq(42));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), isNull(), any(LegacyMessageFormatter.class),
+						eq("{} = {}"), eq("magic"), eq(42));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -591,10 +587,10 @@ public final class TinylogLoggerTest {
 			logger.error("{} = {}", "magic", 42, exception);
 
 			if (errorEnabled) {
-				verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(LegacyMessageFormatter.class), eq("{} = {}"),
-						eq("magic"), eq(42), same(exception));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception), any(LegacyMessageFormatter.class),
+						eq("{} = {}"), eq("magic"), eq(42), same(exception));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -609,9 +605,9 @@ public final class TinylogLoggerTest {
 			logger.error("Hello World!", exception);
 
 			if (errorEnabled) {
-				verify(provider).log(2, null, Level.ERROR, exception, null, "Hello World!", (Object[]) null);
+				verify(provider).log(2, LOGGER_NAME, null, Level.ERROR, exception, null, "Hello World!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -626,9 +622,9 @@ public final class TinylogLoggerTest {
 			logger.log(null, TinylogLogger.class.getName(), level.ordinal() * 10, "Hello {}!", arguments, exception);
 
 			if (level == Level.OFF) {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			} else {
-				verify(provider).log(eq(TinylogLogger.class.getName()), isNull(), eq(level), same(exception),
+				verify(provider).log(eq(TinylogLogger.class.getName()), eq(LOGGER_NAME), isNull(), eq(level), same(exception),
 						any(LegacyMessageFormatter.class), eq("Hello {}!"), eq("World"));
 			}
 		}
@@ -659,7 +655,7 @@ public final class TinylogLoggerTest {
 		private boolean warnEnabled;
 		private boolean errorEnabled;
 
-		private LoggingProvider provider;
+		private ClassAwareLoggingProvider provider;
 		private TinylogLogger logger;
 
 		/**
@@ -714,23 +710,21 @@ public final class TinylogLoggerTest {
 		 */
 		@Before
 		public void init() {
-			provider = mock(LoggingProvider.class);
-
-			when(provider.getMinimumLevel(null)).thenReturn(Level.OFF);
-			when(provider.isEnabled(anyInt(), isNull(), eq(Level.TRACE))).thenReturn(false);
-			when(provider.isEnabled(anyInt(), isNull(), eq(Level.DEBUG))).thenReturn(false);
-			when(provider.isEnabled(anyInt(), isNull(), eq(Level.INFO))).thenReturn(false);
-			when(provider.isEnabled(anyInt(), isNull(), eq(Level.WARN))).thenReturn(false);
-			when(provider.isEnabled(anyInt(), isNull(), eq(Level.ERROR))).thenReturn(false);
-
-			when(provider.getMinimumLevel(TAG)).thenReturn(level);
-			when(provider.isEnabled(anyInt(), eq(TAG), eq(Level.TRACE))).thenReturn(traceEnabled);
-			when(provider.isEnabled(anyInt(), eq(TAG), eq(Level.DEBUG))).thenReturn(debugEnabled);
-			when(provider.isEnabled(anyInt(), eq(TAG), eq(Level.INFO))).thenReturn(infoEnabled);
-			when(provider.isEnabled(anyInt(), eq(TAG), eq(Level.WARN))).thenReturn(warnEnabled);
-			when(provider.isEnabled(anyInt(), eq(TAG), eq(Level.ERROR))).thenReturn(errorEnabled);
-
-			logger = new TinylogLogger(TinylogLoggerTest.class.getName());
+			provider = mock(ClassAwareLoggingProvider.class);
+
+			when(provider.getMinimumLevel(LOGGER_NAME, null)).thenReturn(Level.OFF);
+			when(provider.isEnabled(anyInt(), eq(LOGGER_NAME), isNull(), eq(Level.TRACE))).thenReturn(false);
+			when(provider.isEnabled(anyInt(), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG))).thenReturn(false);
+			when(provider.isEnabled(anyInt(), eq(LOGGER_NAME), isNull(), eq(Level.INFO))).thenReturn(false);
+			when(provider.isEnabled(anyInt(), eq(LOGGER_NAME), isNull(), eq(Level.WARN))).thenReturn(false);
+			when(provider.isEnabled(anyInt(), eq(LOGGER_NAME), isNull(), eq(Level.ERROR))).thenReturn(false);
+
+			when(provider.getMinimumLevel(LOGGER_NAME, TAG)).thenReturn(level);
+			when(provider.isEnabled(anyInt(), eq(LOGGER_NAME), eq(TAG), eq(Level.TRACE))).thenReturn(traceEnabled);
+			when(provider.isEnabled(anyInt(), eq(LOGGER_NAME), eq(TAG), eq(Level.DEBUG))).thenReturn(debugEnabled);
+			when(provider.isEnabled(anyInt(), eq(LOGGER_NAME), eq(TAG), eq(Level.INFO))).thenReturn(infoEnabled);
+			when(provider.isEnabled(anyInt(), eq(LOGGER_NAME), eq(TAG), eq(Level.WARN))).thenReturn(warnEnabled);
+			when(provider.isEnabled(anyInt(), eq(LOGGER_NAME), eq(TAG), eq(Level.ERROR))).thenReturn(errorEnabled);
 
 			Whitebox.setInternalState(TinylogLogger.class, "MINIMUM_GLOBAL_LEVEL_COVERS_TRACE", traceEnabled);
 			Whitebox.setInternalState(TinylogLogger.class, "MINIMUM_GLOBAL_LEVEL_COVERS_DEBUG", debugEnabled);
@@ -738,13 +732,9 @@ public final class TinylogLoggerTest {
 			Whitebox.setInternalState(TinylogLogger.class, "MINIMUM_GLOBAL_LEVEL_COVERS_WARN", warnEnabled);
 			Whitebox.setInternalState(TinylogLogger.class, "MINIMUM_GLOBAL_LEVEL_COVERS_ERROR", errorEnabled);
 
-			Whitebox.setInternalState(TinylogLogger.class, "MINIMUM_DEFAULT_LEVEL_COVERS_TRACE", false);
-			Whitebox.setInternalState(TinylogLogger.class, "MINIMUM_DEFAULT_LEVEL_COVERS_DEBUG", false);
-			Whitebox.setInternalState(TinylogLogger.class, "MINIMUM_DEFAULT_LEVEL_COVERS_INFO", false);
-			Whitebox.setInternalState(TinylogLogger.class, "MINIMUM_DEFAULT_LEVEL_COVERS_WARN", false);
-			Whitebox.setInternalState(TinylogLogger.class, "MINIMUM_DEFAULT_LEVEL_COVERS_ERROR", false);
-
 			Whitebox.setInternalState(TinylogLogger.class, provider);
+
+			logger = new TinylogLogger(LOGGER_NAME);
 		}
 
 		/**
@@ -752,7 +742,7 @@ public final class TinylogLoggerTest {
 		 */
 		@After
 		public void reset() {
-			Whitebox.setInternalState(TinylogLogger.class, ProviderRegistry.getLoggingProvider());
+			Whitebox.setInternalState(TinylogLogger.class, ProviderRegistry.getClassAwareLoggingProvider());
 		}
 
 		/**
@@ -760,7 +750,7 @@ public final class TinylogLoggerTest {
 		 */
 		@Test
 		public void getName() {
-			assertThat(logger.getName()).isEqualTo(TinylogLoggerTest.class.getName());
+			assertThat(logger.getName()).isEqualTo(LOGGER_NAME);
 		}
 
 		/**
@@ -779,9 +769,9 @@ public final class TinylogLoggerTest {
 			logger.trace(marker, "Hello World!");
 
 			if (traceEnabled) {
-				verify(provider).log(2, TAG, Level.TRACE, null, null, "Hello World!", (Object[]) null);
+				verify(provider).log(2, LOGGER_NAME, TAG, Level.TRACE, null, null, "Hello World!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -794,10 +784,10 @@ public final class TinylogLoggerTest {
 			logger.trace(marker, "Hello {}!", "World");
 
 			if (traceEnabled) {
-				verify(provider).log(eq(2), eq(TAG), eq(Level.TRACE), isNull(), any(LegacyMessageFormatter.class), eq("Hello {}!"),
-						eq("World"));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), eq(TAG), eq(Level.TRACE), isNull(), any(LegacyMessageFormatter.class),
+						eq("Hello {}!"), eq("World"));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -810,10 +800,10 @@ public final class TinylogLoggerTest {
 			logger.trace(marker, "{} = {}", "magic", 42);
 
 			if (traceEnabled) {
-				verify(provider).log(eq(2), eq(TAG), eq(Level.TRACE), isNull(), any(LegacyMessageFormatter.class), eq("{} = {}"),
-						eq("magic"), eq(42));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), eq(TAG), eq(Level.TRACE), isNull(), any(LegacyMessageFormatter.class),
+						eq("{} = {}"), eq("magic"), eq(42));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -828,10 +818,10 @@ public final class TinylogLoggerTest {
 			logger.trace(marker, "{} = {}", "magic", 42, exception);
 
 			if (traceEnabled) {
-				verify(provider).log(eq(2), eq(TAG), eq(Level.TRACE), same(exception), any(LegacyMessageFormatter.class), eq("{} = {}"),
-						eq("magic"), eq(42), same(exception));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), eq(TAG), eq(Level.TRACE), same(exception), any(LegacyMessageFormatter.class),
+						eq("{} = {}"), eq("magic"), eq(42), same(exception));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -846,9 +836,9 @@ public final class TinylogLoggerTest {
 			logger.trace(marker, "Hello World!", exception);
 
 			if (traceEnabled) {
-				verify(provider).log(2, TAG, Level.TRACE, exception, null, "Hello World!", (Object[]) null);
+				verify(provider).log(2, LOGGER_NAME, TAG, Level.TRACE, exception, null, "Hello World!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -868,9 +858,9 @@ public final class TinylogLoggerTest {
 			logger.debug(marker, "Hello World!");
 
 			if (debugEnabled) {
-				verify(provider).log(2, TAG, Level.DEBUG, null, null, "Hello World!", (Object[]) null);
+				verify(provider).log(2, LOGGER_NAME, TAG, Level.DEBUG, null, null, "Hello World!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -883,10 +873,10 @@ public final class TinylogLoggerTest {
 			logger.debug(marker, "Hello {}!", "World");
 
 			if (debugEnabled) {
-				verify(provider).log(eq(2), eq(TAG), eq(Level.DEBUG), isNull(), any(LegacyMessageFormatter.class), eq("Hello {}!"),
-						eq("World"));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), eq(TAG), eq(Level.DEBUG), isNull(), any(LegacyMessageFormatter.class),
+						eq("Hello {}!"), eq("World"));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -899,10 +889,10 @@ public final class TinylogLoggerTest {
 			logger.debug(marker, "{} = {}", "magic", 42);
 
 			if (debugEnabled) {
-				verify(provider).log(eq(2), eq(TAG), eq(Level.DEBUG), isNull(), any(LegacyMessageFormatter.class), eq("{} = {}"),
-						eq("magic"), eq(42));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), eq(TAG), eq(Level.DEBUG), isNull(), any(LegacyMessageFormatter.class),
+						eq("{} = {}"), eq("magic"), eq(42));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -917,10 +907,10 @@ public final class TinylogLoggerTest {
 			logger.debug(marker, "{} = {}", "magic", 42, exception);
 
 			if (debugEnabled) {
-				verify(provider).log(eq(2), eq(TAG), eq(Level.DEBUG), same(exception), any(LegacyMessageFormatter.class), eq("{} = {}"),
-						eq("magic"), eq(42), same(exception));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), eq(TAG), eq(Level.DEBUG), same(exception), any(LegacyMessageFormatter.class),
+						eq("{} = {}"), eq("magic"), eq(42), same(exception));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -935,9 +925,9 @@ public final class TinylogLoggerTest {
 			logger.debug(marker, "Hello World!", exception);
 
 			if (debugEnabled) {
-				verify(provider).log(2, TAG, Level.DEBUG, exception, null, "Hello World!", (Object[]) null);
+				verify(provider).log(2, LOGGER_NAME, TAG, Level.DEBUG, exception, null, "Hello World!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -957,9 +947,9 @@ public final class TinylogLoggerTest {
 			logger.info(marker, "Hello World!");
 
 			if (infoEnabled) {
-				verify(provider).log(2, TAG, Level.INFO, null, null, "Hello World!", (Object[]) null);
+				verify(provider).log(2, LOGGER_NAME, TAG, Level.INFO, null, null, "Hello World!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -972,10 +962,10 @@ public final class TinylogLoggerTest {
 			logger.info(marker, "Hello {}!", "World");
 
 			if (infoEnabled) {
-				verify(provider).log(eq(2), eq(TAG), eq(Level.INFO), isNull(), any(LegacyMessageFormatter.class), eq("Hello {}!"),
-						eq("World"));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), eq(TAG), eq(Level.INFO), isNull(), any(LegacyMessageFormatter.class),
+						eq("Hello {}!"), eq("World"));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -988,10 +978,10 @@ public final class TinylogLoggerTest {
 			logger.info(marker, "{} = {}", "magic", 42);
 
 			if (infoEnabled) {
-				verify(provider).log(eq(2), eq(TAG), eq(Level.INFO), isNull(), any(LegacyMessageFormatter.class), eq("{} = {}"),
-						eq("magic"), eq(42));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), eq(TAG), eq(Level.INFO), isNull(), any(LegacyMessageFormatter.class),
+						eq("{} = {}"), eq("magic"), eq(42));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -1006,10 +996,10 @@ public final class TinylogLoggerTest {
 			logger.info(marker, "{} = {}", "magic", 42, exception);
 
 			if (infoEnabled) {
-				verify(provider).log(eq(2), eq(TAG), eq(Level.INFO), same(exception), any(LegacyMessageFormatter.class), eq("{} = {}"),
-						eq("magic"), eq(42), same(exception));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), eq(TAG), eq(Level.INFO), same(exception), any(LegacyMessageFormatter.class),
+						eq("{} = {}"), eq("magic"), eq(42), same(exception));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -1024,9 +1014,9 @@ public final class TinylogLoggerTest {
 			logger.info(marker, "Hello World!", exception);
 
 			if (infoEnabled) {
-				verify(provider).log(2, TAG, Level.INFO, exception, null, "Hello World!", (Object[]) null);
+				verify(provider).log(2, LOGGER_NAME, TAG, Level.INFO, exception, null, "Hello World!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -1046,9 +1036,9 @@ public final class TinylogLoggerTest {
 			logger.warn(marker, "Hello World!");
 
 			if (warnEnabled) {
-				verify(provider).log(2, TAG, Level.WARN, null, null, "Hello World!", (Object[]) null);
+				verify(provider).log(2, LOGGER_NAME, TAG, Level.WARN, null, null, "Hello World!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -1061,10 +1051,10 @@ public final class TinylogLoggerTest {
 			logger.warn(marker, "Hello {}!", "World");
 
 			if (warnEnabled) {
-				verify(provider).log(eq(2), eq(TAG), eq(Level.WARN), isNull(), any(LegacyMessageFormatter.class), eq("Hello {}!"),
-						eq("World"));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), eq(TAG), eq(Level.WARN), isNull(), any(LegacyMessageFormatter.class),
+						eq("Hello {}!"), eq("World"));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -1077,10 +1067,10 @@ public final class TinylogLoggerTest {
 			logger.warn(marker, "{} = {}", "magic", 42);
 
 			if (warnEnabled) {
-				verify(provider).log(eq(2), eq(TAG), eq(Level.WARN), isNull(), any(LegacyMessageFormatter.class), eq("{} = {}"),
-						eq("magic"), eq(42));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), eq(TAG), eq(Level.WARN), isNull(), any(LegacyMessageFormatter.class),
+						eq("{} = {}"), eq("magic"), eq(42));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -1095,10 +1085,10 @@ public final class TinylogLoggerTest {
 			logger.warn(marker, "{} = {}", "magic", 42, exception);
 
 			if (warnEnabled) {
-				verify(provider).log(eq(2), eq(TAG), eq(Level.WARN), same(exception), any(LegacyMessageFormatter.class), eq("{} = {}"),
-						eq("magic"), eq(42), same(exception));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), eq(TAG), eq(Level.WARN), same(exception), any(LegacyMessageFormatter.class),
+						eq("{} = {}"), eq("magic"), eq(42), same(exception));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -1113,9 +1103,9 @@ public final class TinylogLoggerTest {
 			logger.warn(marker, "Hello World!", exception);
 
 			if (warnEnabled) {
-				verify(provider).log(2, TAG, Level.WARN, exception, null, "Hello World!", (Object[]) null);
+				verify(provider).log(2, LOGGER_NAME, TAG, Level.WARN, exception, null, "Hello World!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -1135,9 +1125,9 @@ public final class TinylogLoggerTest {
 			logger.error(marker, "Hello World!");
 
 			if (errorEnabled) {
-				verify(provider).log(2, TAG, Level.ERROR, null, null, "Hello World!", (Object[]) null);
+				verify(provider).log(2, LOGGER_NAME, TAG, Level.ERROR, null, null, "Hello World!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -1150,10 +1140,10 @@ public final class TinylogLoggerTest {
 			logger.error(marker, "Hello {}!", "World");
 
 			if (errorEnabled) {
-				verify(provider).log(eq(2), eq(TAG), eq(Level.ERROR), isNull(), any(LegacyMessageFormatter.class), eq("Hello {}!"),
-						eq("World"));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), eq(TAG), eq(Level.ERROR), isNull(), any(LegacyMessageFormatter.class),
+						eq("Hello {}!"), eq("World"));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -1166,10 +1156,10 @@ public final class TinylogLoggerTest {
 			logger.error(marker, "{} = {}", "magic", 42);
 
 			if (errorEnabled) {
-				verify(provider).log(eq(2), eq(TAG), eq(Level.ERROR), isNull(), any(LegacyMessageFormatter.class), eq("{} = {}"),
-						eq("magic"), eq(42));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), eq(TAG), eq(Level.ERROR), isNull(), any(LegacyMessageFormatter.class),
+						eq("{} = {}"), eq("magic"), eq(42));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -1184,10 +1174,10 @@ public final class TinylogLoggerTest {
 			logger.error(marker, "{} = {}", "magic", 42, exception);
 
 			if (errorEnabled) {
-				verify(provider).log(eq(2), eq(TAG), eq(Level.ERROR), same(exception), any(LegacyMessageFormatter.class), eq("{} = {}"),
-						eq("magic"), eq(42), same(exception));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), eq(TAG), eq(Level.ERROR), same(exception), any(LegacyMessageFormatter.class),
+						eq("{} = {}"), eq("magic"), eq(42), same(exception));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -1202,9 +1192,9 @@ public final class TinylogLoggerTest {
 			logger.error(marker, "Hello World!", exception);
 
 			if (errorEnabled) {
-				verify(provider).log(2, TAG, Level.ERROR, exception, null, "Hello World!", (Object[]) null);
+				verify(provider).log(2, LOGGER_NAME, TAG, Level.ERROR, exception, null, "Hello World!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -1219,9 +1209,9 @@ public final class TinylogLoggerTest {
 			logger.log(marker, TinylogLogger.class.getName(), level.ordinal() * 10, "Hello {}!", arguments, exception);
 
 			if (level == Level.OFF) {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			} else {
-				verify(provider).log(eq(TinylogLogger.class.getName()), eq(TAG), eq(level), same(exception),
+				verify(provider).log(eq(TinylogLogger.class.getName()), eq(LOGGER_NAME), eq(TAG), eq(level), same(exception),
 						any(LegacyMessageFormatter.class), eq("Hello {}!"), eq("World"));
 			}
 		}
@@ -1249,7 +1239,7 @@ public final class TinylogLoggerTest {
 		private boolean warnEnabled;
 		private boolean errorEnabled;
 
-		private LoggingProvider provider;
+		private ClassAwareLoggingProvider provider;
 		private TinylogLogger logger;
 
 		/**
@@ -1303,16 +1293,14 @@ public final class TinylogLoggerTest {
 		 */
 		@Before
 		public void init() {
-			provider = mock(LoggingProvider.class);
+			provider = mock(ClassAwareLoggingProvider.class);
 
-			when(provider.getMinimumLevel(null)).thenReturn(level);
-			when(provider.isEnabled(anyInt(), isNull(), eq(Level.TRACE))).thenReturn(traceEnabled);
-			when(provider.isEnabled(anyInt(), isNull(), eq(Level.DEBUG))).thenReturn(debugEnabled);
-			when(provider.isEnabled(anyInt(), isNull(), eq(Level.INFO))).thenReturn(infoEnabled);
-			when(provider.isEnabled(anyInt(), isNull(), eq(Level.WARN))).thenReturn(warnEnabled);
-			when(provider.isEnabled(anyInt(), isNull(), eq(Level.ERROR))).thenReturn(errorEnabled);
-
-			logger = new TinylogLogger(TinylogLoggerTest.class.getName());
+			when(provider.getMinimumLevel(LOGGER_NAME, null)).thenReturn(level);
+			when(provider.isEnabled(anyInt(), eq(LOGGER_NAME), isNull(), eq(Level.TRACE))).thenReturn(traceEnabled);
+			when(provider.isEnabled(anyInt(), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG))).thenReturn(debugEnabled);
+			when(provider.isEnabled(anyInt(), eq(LOGGER_NAME), isNull(), eq(Level.INFO))).thenReturn(infoEnabled);
+			when(provider.isEnabled(anyInt(), eq(LOGGER_NAME), isNull(), eq(Level.WARN))).thenReturn(warnEnabled);
+			when(provider.isEnabled(anyInt(), eq(LOGGER_NAME), isNull(), eq(Level.ERROR))).thenReturn(errorEnabled);
 
 			Whitebox.setInternalState(TinylogLogger.class, "MINIMUM_GLOBAL_LEVEL_COVERS_TRACE", traceEnabled);
 			Whitebox.setInternalState(TinylogLogger.class, "MINIMUM_GLOBAL_LEVEL_COVERS_DEBUG", debugEnabled);
@@ -1320,13 +1308,9 @@ public final class TinylogLoggerTest {
 			Whitebox.setInternalState(TinylogLogger.class, "MINIMUM_GLOBAL_LEVEL_COVERS_WARN", warnEnabled);
 			Whitebox.setInternalState(TinylogLogger.class, "MINIMUM_GLOBAL_LEVEL_COVERS_ERROR", errorEnabled);
 
-			Whitebox.setInternalState(TinylogLogger.class, "MINIMUM_DEFAULT_LEVEL_COVERS_TRACE", false);
-			Whitebox.setInternalState(TinylogLogger.class, "MINIMUM_DEFAULT_LEVEL_COVERS_DEBUG", false);
-			Whitebox.setInternalState(TinylogLogger.class, "MINIMUM_DEFAULT_LEVEL_COVERS_INFO", false);
-			Whitebox.setInternalState(TinylogLogger.class, "MINIMUM_DEFAULT_LEVEL_COVERS_WARN", false);
-			Whitebox.setInternalState(TinylogLogger.class, "MINIMUM_DEFAULT_LEVEL_COVERS_ERROR", false);
-
 			Whitebox.setInternalState(TinylogLogger.class, provider);
+
+			logger = new TinylogLogger(LOGGER_NAME);
 		}
 
 		/**
@@ -1334,7 +1318,7 @@ public final class TinylogLoggerTest {
 		 */
 		@After
 		public void reset() {
-			Whitebox.setInternalState(TinylogLogger.class, ProviderRegistry.getLoggingProvider());
+			Whitebox.setInternalState(TinylogLogger.class, ProviderRegistry.getClassAwareLoggingProvider());
 		}
 
 		/**
@@ -1342,7 +1326,7 @@ public final class TinylogLoggerTest {
 		 */
 		@Test
 		public void getName() {
-			assertThat(logger.getName()).isEqualTo(TinylogLoggerTest.class.getName());
+			assertThat(logger.getName()).isEqualTo(LOGGER_NAME);
 		}
 
 		/**
@@ -1361,9 +1345,9 @@ public final class TinylogLoggerTest {
 			logger.trace((Marker) null, "Hello World!");
 
 			if (traceEnabled) {
-				verify(provider).log(2, null, Level.TRACE, null, null, "Hello World!", (Object[]) null);
+				verify(provider).log(2, LOGGER_NAME, null, Level.TRACE, null, null, "Hello World!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -1376,10 +1360,10 @@ public final class TinylogLoggerTest {
 			logger.trace((Marker) null, "Hello {}!", "World");
 
 			if (traceEnabled) {
-				verify(provider).log(eq(2), isNull(), eq(Level.TRACE), isNull(), any(LegacyMessageFormatter.class), eq("Hello {}!"),
-						eq("World"));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), isNull(), any(LegacyMessageFormatter.class),
+						eq("Hello {}!"), eq("World"));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -1392,10 +1376,10 @@ public final class TinylogLoggerTest {
 			logger.trace(null, "{} = {}", "magic", 42);
 
 			if (traceEnabled) {
-				verify(provider).log(eq(2), isNull(), eq(Level.TRACE), isNull(), any(LegacyMessageFormatter.class), eq("{} = {}"),
-						eq("magic"), eq(42));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), isNull(), any(LegacyMessageFormatter.class),
+						eq("{} = {}"), eq("magic"), eq(42));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -1410,10 +1394,10 @@ public final class TinylogLoggerTest {
 			logger.trace((Marker) null, "{} = {}", "magic", 42, exception);
 
 			if (traceEnabled) {
-				verify(provider).log(eq(2), isNull(), eq(Level.TRACE), same(exception), any(LegacyMessageFormatter.class), eq("{} = {}"),
-						eq("magic"), eq(42), same(exception));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.TRACE), same(exception), any(LegacyMessageFormatter.class),
+						eq("{} = {}"), eq("magic"), eq(42), same(exception));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -1428,9 +1412,9 @@ public final class TinylogLoggerTest {
 			logger.trace((Marker) null, "Hello World!", exception);
 
 			if (traceEnabled) {
-				verify(provider).log(2, null, Level.TRACE, exception, null, "Hello World!", (Object[]) null);
+				verify(provider).log(2, LOGGER_NAME, null, Level.TRACE, exception, null, "Hello World!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -1450,9 +1434,9 @@ public final class TinylogLoggerTest {
 			logger.debug((Marker) null, "Hello World!");
 
 			if (debugEnabled) {
-				verify(provider).log(2, null, Level.DEBUG, null, null, "Hello World!", (Object[]) null);
+				verify(provider).log(2, LOGGER_NAME, null, Level.DEBUG, null, null, "Hello World!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -1465,10 +1449,10 @@ public final class TinylogLoggerTest {
 			logger.debug((Marker) null, "Hello {}!", "World");
 
 			if (debugEnabled) {
-				verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), isNull(), any(LegacyMessageFormatter.class), eq("Hello {}!"),
-						eq("World"));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), isNull(), any(LegacyMessageFormatter.class),
+						eq("Hello {}!"), eq("World"));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -1481,10 +1465,10 @@ public final class TinylogLoggerTest {
 			logger.debug(null, "{} = {}", "magic", 42);
 
 			if (debugEnabled) {
-				verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), isNull(), any(LegacyMessageFormatter.class), eq("{} = {}"),
-						eq("magic"), eq(42));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), isNull(), any(LegacyMessageFormatter.class),
+						eq("{} = {}"), eq("magic"), eq(42));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -1499,10 +1483,10 @@ public final class TinylogLoggerTest {
 			logger.debug((Marker) null, "{} = {}", "magic", 42, exception);
 
 			if (debugEnabled) {
-				verify(provider).log(eq(2), isNull(), eq(Level.DEBUG), same(exception), any(LegacyMessageFormatter.class), eq("{} = {}"),
-						eq("magic"), eq(42), same(exception));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.DEBUG), same(exception), any(LegacyMessageFormatter.class),
+						eq("{} = {}"), eq("magic"), eq(42), same(exception));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -1517,9 +1501,9 @@ public final class TinylogLoggerTest {
 			logger.debug((Marker) null, "Hello World!", exception);
 
 			if (debugEnabled) {
-				verify(provider).log(2, null, Level.DEBUG, exception, null, "Hello World!", (Object[]) null);
+				verify(provider).log(2, LOGGER_NAME, null, Level.DEBUG, exception, null, "Hello World!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -1539,9 +1523,9 @@ public final class TinylogLoggerTest {
 			logger.info((Marker) null, "Hello World!");
 
 			if (infoEnabled) {
-				verify(provider).log(2, null, Level.INFO, null, null, "Hello World!", (Object[]) null);
+				verify(provider).log(2, LOGGER_NAME, null, Level.INFO, null, null, "Hello World!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -1554,10 +1538,10 @@ public final class TinylogLoggerTest {
 			logger.info((Marker) null, "Hello {}!", "World");
 
 			if (infoEnabled) {
-				verify(provider).log(eq(2), isNull(), eq(Level.INFO), isNull(), any(LegacyMessageFormatter.class), eq("Hello {}!"),
-						eq("World"));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), isNull(), any(LegacyMessageFormatter.class),
+						eq("Hello {}!"), eq("World"));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -1570,10 +1554,10 @@ public final class TinylogLoggerTest {
 			logger.info(null, "{} = {}", "magic", 42);
 
 			if (infoEnabled) {
-				verify(provider).log(eq(2), isNull(), eq(Level.INFO), isNull(), any(LegacyMessageFormatter.class), eq("{} = {}"),
-						eq("magic"), eq(42));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), isNull(), any(LegacyMessageFormatter.class),
+						eq("{} = {}"), eq("magic"), eq(42));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -1588,10 +1572,10 @@ public final class TinylogLoggerTest {
 			logger.info((Marker) null, "{} = {}", "magic", 42, exception);
 
 			if (infoEnabled) {
-				verify(provider).log(eq(2), isNull(), eq(Level.INFO), same(exception), any(LegacyMessageFormatter.class), eq("{} = {}"),
-						eq("magic"), eq(42), same(exception));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.INFO), same(exception), any(LegacyMessageFormatter.class),
+						eq("{} = {}"), eq("magic"), eq(42), same(exception));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -1606,9 +1590,9 @@ public final class TinylogLoggerTest {
 			logger.info((Marker) null, "Hello World!", exception);
 
 			if (infoEnabled) {
-				verify(provider).log(2, null, Level.INFO, exception, null, "Hello World!", (Object[]) null);
+				verify(provider).log(2, LOGGER_NAME, null, Level.INFO, exception, null, "Hello World!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -1628,9 +1612,9 @@ public final class TinylogLoggerTest {
 			logger.warn((Marker) null, "Hello World!");
 
 			if (warnEnabled) {
-				verify(provider).log(2, null, Level.WARN, null, null, "Hello World!", (Object[]) null);
+				verify(provider).log(2, LOGGER_NAME, null, Level.WARN, null, null, "Hello World!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -1643,10 +1627,10 @@ public final class TinylogLoggerTest {
 			logger.warn((Marker) null, "Hello {}!", "World");
 
 			if (warnEnabled) {
-				verify(provider).log(eq(2), isNull(), eq(Level.WARN), isNull(), any(LegacyMessageFormatter.class), eq("Hello {}!"),
-						eq("World"));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), isNull(), any(LegacyMessageFormatter.class),
+						eq("Hello {}!"), eq("World"));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -1659,10 +1643,10 @@ public final class TinylogLoggerTest {
 			logger.warn(null, "{} = {}", "magic", 42);
 
 			if (warnEnabled) {
-				verify(provider).log(eq(2), isNull(), eq(Level.WARN), isNull(), any(LegacyMessageFormatter.class), eq("{} = {}"),
-						eq("magic"), eq(42));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), isNull(), any(LegacyMessageFormatter.class),
+						eq("{} = {}"), eq("magic"), eq(42));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -1677,10 +1661,10 @@ public final class TinylogLoggerTest {
 			logger.warn((Marker) null, "{} = {}", "magic", 42, exception);
 
 			if (warnEnabled) {
-				verify(provider).log(eq(2), isNull(), eq(Level.WARN), same(exception), any(LegacyMessageFormatter.class), eq("{} = {}"),
-						eq("magic"), eq(42), same(exception));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.WARN), same(exception), any(LegacyMessageFormatter.class),
+						eq("{} = {}"), eq("magic"), eq(42), same(exception));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -1695,9 +1679,9 @@ public final class TinylogLoggerTest {
 			logger.warn((Marker) null, "Hello World!", exception);
 
 			if (warnEnabled) {
-				verify(provider).log(2, null, Level.WARN, exception, null, "Hello World!", (Object[]) null);
+				verify(provider).log(2, LOGGER_NAME, null, Level.WARN, exception, null, "Hello World!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -1717,9 +1701,9 @@ public final class TinylogLoggerTest {
 			logger.error((Marker) null, "Hello World!");
 
 			if (errorEnabled) {
-				verify(provider).log(2, null, Level.ERROR, null, null, "Hello World!", (Object[]) null);
+				verify(provider).log(2, LOGGER_NAME, null, Level.ERROR, null, null, "Hello World!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -1732,10 +1716,10 @@ public final class TinylogLoggerTest {
 			logger.error((Marker) null, "Hello {}!", "World");
 
 			if (errorEnabled) {
-				verify(provider).log(eq(2), isNull(), eq(Level.ERROR), isNull(), any(LegacyMessageFormatter.class), eq("Hello {}!"),
-						eq("World"));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), isNull(), any(LegacyMessageFormatter.class),
+						eq("Hello {}!"), eq("World"));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -1748,10 +1732,10 @@ public final class TinylogLoggerTest {
 			logger.error(null, "{} = {}", "magic", 42);
 
 			if (errorEnabled) {
-				verify(provider).log(eq(2), isNull(), eq(Level.ERROR), isNull(), any(LegacyMessageFormatter.class), eq("{} = {}"),
-						eq("magic"), eq(42));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), isNull(), any(LegacyMessageFormatter.class),
+						eq("{} = {}"), eq("magic"), eq(42));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -1766,10 +1750,10 @@ public final class TinylogLoggerTest {
 			logger.error((Marker) null, "{} = {}", "magic", 42, exception);
 
 			if (errorEnabled) {
-				verify(provider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(LegacyMessageFormatter.class), eq("{} = {}"),
-						eq("magic"), eq(42), same(exception));
+				verify(provider).log(eq(2), eq(LOGGER_NAME), isNull(), eq(Level.ERROR), same(exception), any(LegacyMessageFormatter.class),
+						eq("{} = {}"), eq("magic"), eq(42), same(exception));
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -1784,9 +1768,9 @@ public final class TinylogLoggerTest {
 			logger.error((Marker) null, "Hello World!", exception);
 
 			if (errorEnabled) {
-				verify(provider).log(2, null, Level.ERROR, exception, null, "Hello World!", (Object[]) null);
+				verify(provider).log(2, LOGGER_NAME, null, Level.ERROR, exception, null, "Hello World!", (Object[]) null);
 			} else {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			}
 		}
 
@@ -1801,9 +1785,9 @@ public final class TinylogLoggerTest {
 			logger.log(null, TinylogLogger.class.getName(), level.ordinal() * 10, "Hello {}!", arguments, exception);
 
 			if (level == Level.OFF) {
-				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+				verify(provider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any(), any());
 			} else {
-				verify(provider).log(eq(TinylogLogger.class.getName()), isNull(), eq(level), same(exception),
+				verify(provider).log(eq(TinylogLogger.class.getName()), eq(LOGGER_NAME), isNull(), eq(level), same(exception),
 						any(LegacyMessageFormatter.class), eq("Hello {}!"), eq("World"));
 			}
 		}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.slf4j2;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.slf4j.Marker;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.tinylog.Level;
+import org.tinylog.format.LegacyMessageFormatter;
+import org.tinylog.format.MessageFormatter;
+import org.tinylog.provider.ClassAwareLoggingProvider;
+
+/**
+ * Builder for log entries of the fluent logging API of SLF4J 2. Key value pairs are passed as additional context
+ * values of the single log entry to the logging provider. The thread context is neither modified nor copied.
+ *
+ * <p>
+ * Builders are only created for enabled severity levels and are intended to issue exactly one log entry. They must not
+ * be shared between threads.
+ * </p>
+ */
+final class TinylogLoggingEventBuilder implements LoggingEventBuilder {
+
+	private static final int STACKTRACE_DEPTH = 3;
+
+	private static final MessageFormatter formatter = new LegacyMessageFormatter();
+
+	private final ClassAwareLoggingProvider provider;
+	private final String name;
+	private final Level level;
+
+	private String tag;
+	private Throwable exception;
+	private List<Object> arguments;
+	private Map<String, String> context;
+	private Object message;
+
+	/**
+	 * @param provider
+	 *            Logging provider for issuing the log entry
+	 * @param name
+	 *            Name of the logger
+	 * @param level
+	 *            Severity level of the log entry
+	 */
+	TinylogLoggingEventBuilder(final ClassAwareLoggingProvider provider, final String name, final Level level) {
+		this.provider = provider;
+		this.name = name;
+		this.level = level;
+	}
+
+	@Override
+	public LoggingEventBuilder setCause(final Throwable cause) {
+		this.exception = cause;
+		return this;
+	}
+
+	/**
+	 * Adds a marker. tinylog supports only one tag per log entry. Therefore, only the first marker is used as tag and
+	 * all further markers are ignored.
+	 *
+	 * @param marker
+	 *            Marker to add
+	 * @return This instance
+	 */
+	@Override
+	public LoggingEventBuilder addMarker(final Marker marker) {
+		if (tag == null && marker != null) {
+			tag = marker.getName();
+		}
+		return this;
+	}
+
+	@Override
+	public LoggingEventBuilder addArgument(final Object argument) {
+		store(argument);
+		return this;
+	}
+
+	@Override
+	public LoggingEventBuilder addArgument(final Supplier<?> supplier) {
+		return addArgument(supplier.get());
+	}
+
+	@Override
+	public LoggingEventBuilder addKeyValue(final String key, final Object value) {
+		if (context == null) {
+			context = new LinkedHashMap<String, String>();
+		}
+		context.put(key, String.valueOf(value));
+		return this;
+	}
+
+	@Override
+	public LoggingEventBuilder addKeyValue(final String key, final Supplier<Object> supplier) {
+		return addKeyValue(key, supplier.get());
+	}
+
+	@Override
+	public LoggingEventBuilder setMessage(final String message) {
+		this.message = message;
+		return this;
+	}
+
+	@Override
+	public LoggingEventBuilder setMessage(final Supplier<String> supplier) {
+		this.message = supplier.get();
+		return this;
+	}
+
+	@Override
+	public void log() {
+		output(message);
+	}
+
+	@Override
+	public void log(final String message) {
+		output(message);
+	}
+
+	@Override
+	public void log(final String format, final Object arg) {
+		store(arg);
+		output(format);
+	}
+
+	@Override
+	public void log(final String format, final Object arg1, final Object arg2) {
+		store(arg1);
+		store(arg2);
+		output(format);
+	}
+
+	@Override
+	public void log(final String format, final Object... arguments) {
+		for (Object argument : arguments) {
+			store(argument);
+		}
+		output(format);
+	}
+
+	@Override
+	public void log(final Supplier<String> supplier) {
+		output(supplier.get());
+	}
+
+	/**
+	 * Stores an argument for the format pattern.
+	 *
+	 * @param argument
+	 *            Argument to store
+	 */
+	private void store(final Object argument) {
+		if (arguments == null) {
+			arguments = new ArrayList<Object>();
+		}
+		arguments.add(argument);
+	}
+
+	/**
+	 * Issues the log entry. A throwable as last argument is used as exception and removed from the arguments, if no
+	 * cause has been set explicitly.
+	 *
+	 * @param message
+	 *            Text message or format pattern
+	 */
+	private void output(final Object message) {
+		if (exception == null && arguments != null && arguments.get(arguments.size() - 1) instanceof Throwable) {
+			exception = (Throwable) arguments.remove(arguments.size() - 1);
+		}
+
+		if (arguments == null || arguments.isEmpty()) {
+			provider.log(STACKTRACE_DEPTH, name, tag, level, context, exception, null, message, (Object[]) null);
+		} else {
+			provider.log(STACKTRACE_DEPTH, name, tag, level, context, exception, formatter, message, arguments.toArray());
+		}
+	}
+
+}
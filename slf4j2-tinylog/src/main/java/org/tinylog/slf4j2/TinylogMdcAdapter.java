@@ -0,0 +1,124 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.slf4j2;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.slf4j.spi.MDCAdapter;
+import org.tinylog.ThreadContext;
+
+/**
+ * MDC adapter for tinylog's {@link ThreadContext}.
+ *
+ * <p>
+ * tinylog's thread context supports only plain string values. Therefore, the deques of SLF4J 2 are managed by this
+ * adapter for each thread separately. They are neither inherited by child threads nor output by tinylog.
+ * </p>
+ */
+public final class TinylogMdcAdapter implements MDCAdapter {
+
+	private final ThreadLocal<Map<String, Deque<String>>> deques;
+
+	/** */
+	public TinylogMdcAdapter() {
+		deques = new ThreadLocal<Map<String, Deque<String>>>();
+	}
+
+	@Override
+	public void put(final String key, final String value) {
+		ThreadContext.put(key, value);
+	}
+
+	@Override
+	public String get(final String key) {
+		return ThreadContext.get(key);
+	}
+
+	@Override
+	public void remove(final String key) {
+		ThreadContext.remove(key);
+	}
+
+	@Override
+	public void clear() {
+		ThreadContext.clear();
+	}
+
+	@Override
+	public Map<String, String> getCopyOfContextMap() {
+		return new HashMap<String, String>(ThreadContext.getMapping());
+	}
+
+	@Override
+	public void setContextMap(final Map<String, String> contextMap) {
+		ThreadContext.clear();
+		for (Entry<String, String> entry : contextMap.entrySet()) {
+			ThreadContext.put(entry.getKey(), entry.getValue());
+		}
+	}
+
+	@Override
+	public void pushByKey(final String key, final String value) {
+		Map<String, Deque<String>> map = deques.get();
+		if (map == null) {
+			map = new HashMap<String, Deque<String>>();
+			deques.set(map);
+		}
+
+		Deque<String> deque = map.get(key);
+		if (deque == null) {
+			deque = new ArrayDeque<String>();
+			map.put(key, deque);
+		}
+
+		deque.push(value);
+	}
+
+	@Override
+	public String popByKey(final String key) {
+		Deque<String> deque = getDeque(key);
+		return deque == null ? null : deque.poll();
+	}
+
+	@Override
+	public Deque<String> getCopyOfDequeByKey(final String key) {
+		Deque<String> deque = getDeque(key);
+		return deque == null ? null : new ArrayDeque<String>(deque);
+	}
+
+	@Override
+	public void clearDequeByKey(final String key) {
+		Deque<String> deque = getDeque(key);
+		if (deque != null) {
+			deque.clear();
+		}
+	}
+
+	/**
+	 * Gets the deque of the current thread for a key.
+	 *
+	 * @param key
+	 *            Key of the deque
+	 * @return Found deque or {@code null} if there is none
+	 */
+	private Deque<String> getDeque(final String key) {
+		Map<String, Deque<String>> map = deques.get();
+		return map == null ? null : map.get(key);
+	}
+
+}
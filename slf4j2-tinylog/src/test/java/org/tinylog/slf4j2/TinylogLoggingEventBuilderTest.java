@@ -0,0 +1,186 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.slf4j2;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Marker;
+import org.slf4j.helpers.BasicMarkerFactory;
+import org.tinylog.Level;
+import org.tinylog.format.LegacyMessageFormatter;
+import org.tinylog.provider.ClassAwareLoggingProvider;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link TinylogLoggingEventBuilder}.
+ */
+public final class TinylogLoggingEventBuilderTest {
+
+	private static final String LOGGER_NAME = TinylogLoggingEventBuilderTest.class.getName();
+
+	private ClassAwareLoggingProvider provider;
+	private TinylogLoggingEventBuilder builder;
+
+	/**
+	 * Mocks the underlying logging provider and creates a new builder for {@link Level#INFO INFO} level.
+	 */
+	@Before
+	public void init() {
+		provider = mock(ClassAwareLoggingProvider.class);
+		builder = new TinylogLoggingEventBuilder(provider, LOGGER_NAME, Level.INFO);
+	}
+
+	/**
+	 * Verifies that a plain text message will be logged with the logger name as class name.
+	 */
+	@Test
+	public void plainTextMessage() {
+		builder.log("Hello World!");
+
+		verify(provider).log(3, LOGGER_NAME, null, Level.INFO, null, null, null, "Hello World!", (Object[]) null);
+	}
+
+	/**
+	 * Verifies that a lazy text message will be logged.
+	 */
+	@Test
+	public void lazyMessage() {
+		builder.log(() -> "Hello World!");
+
+		verify(provider).log(3, LOGGER_NAME, null, Level.INFO, null, null, null, "Hello World!", (Object[]) null);
+	}
+
+	/**
+	 * Verifies that a message, which has been set in advance, will be logged.
+	 */
+	@Test
+	public void presetMessage() {
+		builder.setMessage("Hello World!").addArgument(42).log();
+
+		verify(provider).log(eq(3), eq(LOGGER_NAME), isNull(), eq(Level.INFO), noContext(), isNull(), any(LegacyMessageFormatter.class),
+			eq("Hello World!"), eq(42));
+	}
+
+	/**
+	 * Verifies that formatted text messages will be logged with all added and passed arguments.
+	 */
+	@Test
+	public void formattedMessages() {
+		new TinylogLoggingEventBuilder(provider, LOGGER_NAME, Level.INFO).log("Hello {}!", "World");
+		verify(provider).log(eq(3), eq(LOGGER_NAME), isNull(), eq(Level.INFO), noContext(), isNull(), any(LegacyMessageFormatter.class),
+			eq("Hello {}!"), eq("World"));
+
+		new TinylogLoggingEventBuilder(provider, LOGGER_NAME, Level.INFO).addArgument("magic").log("{} = {}", 42);
+		verify(provider).log(eq(3), eq(LOGGER_NAME), isNull(), eq(Level.INFO), noContext(), isNull(), any(LegacyMessageFormatter.class),
+			eq("{} = {}"), eq("magic"), eq(42));
+
+		new TinylogLoggingEventBuilder(provider, LOGGER_NAME, Level.INFO).addArgument(() -> 1).log("{}, {}, {}", 2, 3);
+		verify(provider).log(eq(3), eq(LOGGER_NAME), isNull(), eq(Level.INFO), noContext(), isNull(), any(LegacyMessageFormatter.class),
+			eq("{}, {}, {}"), eq(1), eq(2), eq(3));
+
+		new TinylogLoggingEventBuilder(provider, LOGGER_NAME, Level.INFO).log("{}{}{}", "a", "b", "c");
+		verify(provider).log(eq(3), eq(LOGGER_NAME), isNull(), eq(Level.INFO), noContext(), isNull(), any(LegacyMessageFormatter.class),
+			eq("{}{}{}"), eq("a"), eq("b"), eq("c"));
+	}
+
+	/**
+	 * Verifies that a throwable as last argument will be used as exception and removed from the arguments.
+	 */
+	@Test
+	public void exceptionAsLastArgument() {
+		RuntimeException exception = new RuntimeException();
+
+		builder.log("Hello {}!", "World", exception);
+
+		verify(provider).log(eq(3), eq(LOGGER_NAME), isNull(), eq(Level.INFO), noContext(), same(exception),
+			any(LegacyMessageFormatter.class), eq("Hello {}!"), eq("World"));
+	}
+
+	/**
+	 * Verifies that a throwable as single argument will be used as exception and the message will be logged as plain
+	 * text.
+	 */
+	@Test
+	public void exceptionAsSingleArgument() {
+		RuntimeException exception = new RuntimeException();
+
+		builder.log("Hello {}!", exception);
+
+		verify(provider).log(3, LOGGER_NAME, null, Level.INFO, null, exception, null, "Hello {}!", (Object[]) null);
+	}
+
+	/**
+	 * Verifies that an explicitly set cause takes precedence over a throwable as last argument.
+	 */
+	@Test
+	public void explicitCause() {
+		RuntimeException cause = new RuntimeException();
+		RuntimeException argument = new RuntimeException();
+
+		builder.setCause(cause).log("Hello {}!", argument);
+
+		verify(provider).log(eq(3), eq(LOGGER_NAME), isNull(), eq(Level.INFO), noContext(), same(cause),
+			any(LegacyMessageFormatter.class), eq("Hello {}!"), same(argument));
+	}
+
+	/**
+	 * Verifies that the first marker will be used as tag.
+	 */
+	@Test
+	public void marker() {
+		BasicMarkerFactory factory = new BasicMarkerFactory();
+		Marker first = factory.getDetachedMarker("first");
+		Marker second = factory.getDetachedMarker("second");
+
+		builder.addMarker(null).addMarker(first).addMarker(second).log("Hello World!");
+
+		verify(provider).log(3, LOGGER_NAME, "first", Level.INFO, null, null, null, "Hello World!", (Object[]) null);
+	}
+
+	/**
+	 * Verifies that key value pairs will be passed as additional context values.
+	 */
+	@Test
+	public void keyValuePairs() {
+		Map<String, String> context = new LinkedHashMap<>();
+		context.put("user", "alice");
+		context.put("count", "42");
+		context.put("lazy", "true");
+		context.put("empty", "null");
+
+		builder.addKeyValue("user", "alice").addKeyValue("count", 42).addKeyValue("lazy", () -> true).addKeyValue("empty", (Object) null)
+			.log("Hello World!");
+
+		verify(provider).log(3, LOGGER_NAME, null, Level.INFO, context, null, null, "Hello World!", (Object[]) null);
+	}
+
+	/**
+	 * Argument matcher for log entries without any additional context values.
+	 *
+	 * @return {@code null}
+	 */
+	private static Map<String, String> noContext() {
+		return isNull();
+	}
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.slf4j2;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+
+import org.junit.Test;
+import org.slf4j.helpers.BasicMarkerFactory;
+import org.slf4j.spi.SLF4JServiceProvider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link TinylogServiceProvider}.
+ */
+public final class TinylogServiceProviderTest {
+
+	/**
+	 * Verifies that the service provider is registered as service.
+	 */
+	@Test
+	public void isRegistered() {
+		List<SLF4JServiceProvider> providers = new ArrayList<>();
+		ServiceLoader.load(SLF4JServiceProvider.class).forEach(providers::add);
+
+		assertThat(providers).hasAtLeastOneElementOfType(TinylogServiceProvider.class);
+	}
+
+	/**
+	 * Verifies that logger factory, marker factory, and MDC adapter are provided after initialization.
+	 */
+	@Test
+	public void initialize() {
+		TinylogServiceProvider provider = new TinylogServiceProvider();
+		provider.initialize();
+
+		assertThat(provider.getLoggerFactory()).isInstanceOf(TinylogLoggerFactory.class);
+		assertThat(provider.getMarkerFactory()).isInstanceOf(BasicMarkerFactory.class);
+		assertThat(provider.getMDCAdapter()).isInstanceOf(TinylogMdcAdapter.class);
+	}
+
+	/**
+	 * Verifies that SLF4J 2.0 is requested as API version.
+	 */
+	@Test
+	public void apiVersion() {
+		TinylogServiceProvider provider = new TinylogServiceProvider();
+
+		assertThat(provider.getRequestedApiVersion()).isEqualTo("2.0");
+	}
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Immutable set of thread context values that can be bound for the execution of a task. In opposite to
+ * {@link ThreadContext#put(String, Object)}, bound values are only visible during the execution of the task and will be
+ * removed or restored to their previous values afterwards, even if the task fails. Therefore, bound values cannot leak
+ * to other tasks that are executed later by the same pooled thread.
+ *
+ * <p>
+ * Example:
+ * </p>
+ *
+ * <pre>
+ * ThreadContext.with("requestId", id).with("user", name).run(task);
+ * </pre>
+ *
+ * @see ThreadContext#with(String, Object)
+ */
+public final class ContextBinding {
+
+	private final String[] keys;
+	private final String[] values;
+
+	/**
+	 * @param keys
+	 *            Keys of mappings
+	 * @param values
+	 *            Values of mappings ({@code null} for removing a mapping)
+	 */
+	private ContextBinding(final String[] keys, final String[] values) {
+		this.keys = keys;
+		this.values = values;
+	}
+
+	/**
+	 * Creates a binding for a single mapping.
+	 *
+	 * @param key
+	 *            Key of mapping
+	 * @param value
+	 *            Value of mapping ({@code null} for removing a mapping)
+	 * @return New binding
+	 */
+	static ContextBinding of(final String key, final Object value) {
+		return new ContextBinding(new String[] { key }, new String[] { value == null ? null : value.toString() });
+	}
+
+	/**
+	 * Creates a new binding that contains all mappings of this binding plus the passed mapping.
+	 *
+	 * @param key
+	 *            Key of mapping
+	 * @param value
+	 *            Value of mapping ({@code null} for removing a mapping)
+	 * @return New binding
+	 */
+	public ContextBinding with(final String key, final Object value) {
+		String[] keys = new String[this.keys.length + 1];
+		System.arraycopy(this.keys, 0, keys, 0, this.keys.length);
+		keys[this.keys.length] = key;
+
+		String[] values = new String[this.values.length + 1];
+		System.arraycopy(this.values, 0, values, 0, this.values.length);
+		values[this.values.length] = value == null ? null : value.toString();
+
+		return new ContextBinding(keys, values);
+	}
+
+	/**
+	 * Executes a task with the bound thread context values.
+	 *
+	 * @param task
+	 *            Task to execute
+	 */
+	public void run(final Runnable task) {
+		ContextScope scope = open();
+		try {
+			task.run();
+		} finally {
+			scope.close();
+		}
+	}
+
+	/**
+	 * Executes a task with the bound thread context values.
+	 *
+	 * @param task
+	 *            Task to execute
+	 * @param <T>
+	 *            Result type of task
+	 * @return Result of task
+	 * @throws Exception
+	 *             Exception thrown by task
+	 */
+	public <T> T call(final Callable<T> task) throws Exception {
+		ContextScope scope = open();
+		try {
+			return task.call();
+		} finally {
+			scope.close();
+		}
+	}
+
+	/**
+	 * Binds the thread context values to the current thread until the returned scope is closed.
+	 *
+	 * @return Scope that has to be closed for restoring the previous thread context values
+	 */
+	public ContextScope open() {
+		ContextScope scope = new ContextScope(ThreadContext.capture());
+		for (int i = 0; i < keys.length; ++i) {
+			if (values[i] == null) {
+				ThreadContext.remove(keys[i]);
+			} else {
+				ThreadContext.put(keys[i], values[i]);
+			}
+		}
+		return scope;
+	}
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog;
+
+import java.io.Closeable;
+import java.util.Map;
+
+/**
+ * Active scope of thread context values. Closing the scope restores the thread context values that were present when
+ * the scope was opened. Scopes should be closed in the same thread in which they were opened, and nested scopes must be
+ * closed in reverse order.
+ *
+ * <p>
+ * Scopes implement {@link Closeable} and can be used in try-with-resources statements.
+ * </p>
+ *
+ * @see ContextBinding#open()
+ * @see ThreadContext#restore(Map)
+ */
+public final class ContextScope implements Closeable {
+
+	private final Map<String, String> previous;
+	private boolean closed;
+
+	/**
+	 * @param previous
+	 *            Thread context values to restore on closing
+	 */
+	ContextScope(final Map<String, String> previous) {
+		this.previous = previous;
+	}
+
+	/**
+	 * Restores the previous thread context values. Further calls of this method have no effect.
+	 */
+	@Override
+	public void close() {
+		if (!closed) {
+			closed = true;
+			ThreadContext.replace(previous);
+		}
+	}
+
+}
@@ -46,6 +46,7 @@ public final class Logger {
 
 	private static final TaggedLogger instance = new TaggedLogger(null);
 	private static final ConcurrentMap<String, TaggedLogger> loggers = new ConcurrentHashMap<String, TaggedLogger>();
+	private static final ConcurrentMap<String, ClassLogger> classLoggers = new ConcurrentHashMap<String, ClassLogger>();
 
 	/** */
 	private Logger() {
@@ -73,6 +74,37 @@ public final class Logger {
 		}
 	}
 
+	/**
+	 * Gets a logger instance that is bound to a class. Custom severity levels for packages and classes are resolved
+	 * once for the passed class.
+	 *
+	 * @param clazz
+	 *            Class for logger
+	 * @return Logger instance
+	 */
+	public static ClassLogger forClass(final Class<?> clazz) {
+		return forName(clazz.getName());
+	}
+
+	/**
+	 * Gets a logger instance that is bound to a class name. Custom severity levels for packages and classes are resolved
+	 * once for the passed class name.
+	 *
+	 * @param name
+	 *            Fully-qualified class name for logger
+	 * @return Logger instance
+	 */
+	public static ClassLogger forName(final String name) {
+		ClassLogger logger = classLoggers.get(name);
+		if (logger == null) {
+			logger = new ClassLogger(name);
+			ClassLogger existing = classLoggers.putIfAbsent(name, logger);
+			return existing == null ? logger : existing;
+		} else {
+			return logger;
+		}
+	}
+
 	/**
 	 * Checks whether log entries at {@link Level#TRACE TRACE} level will be output.
 	 *
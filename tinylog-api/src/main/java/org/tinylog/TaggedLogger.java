@@ -22,6 +22,11 @@ import org.tinylog.provider.ProviderRegistry;
 /**
  * Logger for issuing tagged log entries. Tagged loggers can be received by calling {@link Logger#tag(String)}.
  *
+ * <p>
+ * Each tagged logger determines once at creation, which severity levels can be output for its tag. Log entries with
+ * disabled severity levels are discarded without calling the logging provider.
+ * </p>
+ *
  * @see Logger#tag(String)
  */
 public final class TaggedLogger {
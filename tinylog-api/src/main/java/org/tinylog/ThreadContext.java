@@ -13,10 +13,13 @@
 
 package org.tinylog;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 
 import org.tinylog.provider.ContextProvider;
 import org.tinylog.provider.ProviderRegistry;
+import org.tinylog.provider.SnapshotContextProvider;
 
 /**
  * Thread-based mapped diagnostic context for enriching log entries with additional values. A stored value is only
@@ -24,7 +27,13 @@ import org.tinylog.provider.ProviderRegistry;
  *
  * <p>
  * If values will be stored by a thread from a thread pool, {@link #clear()} should be called before putting the thread
- * back to the pool.
+ * back to the pool. Alternatively, values can be bound to the execution of a single task via
+ * {@link #with(String, Object)}. Such values are removed automatically after executing the task.
+ * </p>
+ *
+ * <p>
+ * For passing thread context values to tasks that are executed by other threads, the current values can be captured
+ * via {@link #capture()} and installed in the executing thread via {@link #restore(Map)}.
  * </p>
  */
 public final class ThreadContext {
@@ -89,4 +98,61 @@ public final class ThreadContext {
 		provider.clear();
 	}
 
+	/**
+	 * Creates a binding of a value that is only visible during the execution of a task. Further values can be added
+	 * via {@link ContextBinding#with(String, Object)}.
+	 *
+	 * @param key
+	 *            Key of mapping
+	 * @param value
+	 *            Value of mapping ({@code null} for removing the mapping during the execution of a task)
+	 * @return Binding for executing tasks
+	 */
+	public static ContextBinding with(final String key, final Object value) {
+		return ContextBinding.of(key, value);
+	}
+
+	/**
+	 * Captures all values of the current thread context. The returned snapshot is read-only and can be installed in
+	 * other threads via {@link #restore(Map)}.
+	 *
+	 * @return Snapshot of all stored values
+	 */
+	public static Map<String, String> capture() {
+		return provider.getMapping();
+	}
+
+	/**
+	 * Replaces all values of the current thread context by a previously captured snapshot until the returned scope is
+	 * closed. Closing the returned scope restores the values that were present before.
+	 *
+	 * @param snapshot
+	 *            Snapshot received from {@link #capture()}
+	 * @return Scope that has to be closed for restoring the previous values
+	 */
+	public static ContextScope restore(final Map<String, String> snapshot) {
+		return new ContextScope(replace(snapshot));
+	}
+
+	/**
+	 * Replaces all values of the current thread context. Snapshots are installed by reference, if supported by the
+	 * underlying context provider. Otherwise, all values are copied.
+	 *
+	 * @param mapping
+	 *            New values
+	 * @return Previous values
+	 */
+	static Map<String, String> replace(final Map<String, String> mapping) {
+		if (provider instanceof SnapshotContextProvider) {
+			return ((SnapshotContextProvider) provider).replace(mapping);
+		} else {
+			Map<String, String> previous = new HashMap<String, String>(provider.getMapping());
+			provider.clear();
+			for (Entry<String, String> entry : mapping.entrySet()) {
+				provider.put(entry.getKey(), entry.getValue());
+			}
+			return previous;
+		}
+	}
+
 }
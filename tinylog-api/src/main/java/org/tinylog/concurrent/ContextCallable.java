@@ -0,0 +1,54 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.concurrent;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import org.tinylog.ContextScope;
+import org.tinylog.ThreadContext;
+
+/**
+ * Wrapper for a {@link Callable} that executes the wrapped callable with captured thread context values.
+ *
+ * @param <T>
+ *            Result type of callable
+ */
+final class ContextCallable<T> implements Callable<T> {
+
+	private final Callable<T> task;
+	private final Map<String, String> context;
+
+	/**
+	 * @param task
+	 *            Callable to execute
+	 * @param context
+	 *            Snapshot of thread context values to install while executing the callable
+	 */
+	ContextCallable(final Callable<T> task, final Map<String, String> context) {
+		this.task = task;
+		this.context = context;
+	}
+
+	@Override
+	public T call() throws Exception {
+		ContextScope scope = ThreadContext.restore(context);
+		try {
+			return task.call();
+		} finally {
+			scope.close();
+		}
+	}
+
+}
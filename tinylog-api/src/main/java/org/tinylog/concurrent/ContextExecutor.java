@@ -0,0 +1,41 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.concurrent;
+
+import java.util.concurrent.Executor;
+
+import org.tinylog.ThreadContext;
+
+/**
+ * Wrapper for an {@link Executor} that passes the thread context values of the submitting thread to all executed
+ * tasks.
+ */
+final class ContextExecutor implements Executor {
+
+	private final Executor executor;
+
+	/**
+	 * @param executor
+	 *            Underlying executor for executing tasks
+	 */
+	ContextExecutor(final Executor executor) {
+		this.executor = executor;
+	}
+
+	@Override
+	public void execute(final Runnable command) {
+		executor.execute(new ContextRunnable(command, ThreadContext.capture()));
+	}
+
+}
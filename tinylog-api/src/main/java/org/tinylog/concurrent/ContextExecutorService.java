@@ -0,0 +1,130 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.concurrent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.tinylog.ThreadContext;
+
+/**
+ * Wrapper for an {@link ExecutorService} that passes the thread context values of the submitting thread to all
+ * executed tasks.
+ */
+final class ContextExecutorService implements ExecutorService {
+
+	private final ExecutorService executor;
+
+	/**
+	 * @param executor
+	 *            Underlying executor service for executing tasks
+	 */
+	ContextExecutorService(final ExecutorService executor) {
+		this.executor = executor;
+	}
+
+	@Override
+	public void execute(final Runnable command) {
+		executor.execute(new ContextRunnable(command, ThreadContext.capture()));
+	}
+
+	@Override
+	public Future<?> submit(final Runnable task) {
+		return executor.submit(new ContextRunnable(task, ThreadContext.capture()));
+	}
+
+	@Override
+	public <T> Future<T> submit(final Runnable task, final T result) {
+		return executor.submit(new ContextRunnable(task, ThreadContext.capture()), result);
+	}
+
+	@Override
+	public <T> Future<T> submit(final Callable<T> task) {
+		return executor.submit(new ContextCallable<T>(task, ThreadContext.capture()));
+	}
+
+	@Override
+	public <T> List<Future<T>> invokeAll(final Collection<? extends Callable<T>> tasks) throws InterruptedException {
+		return executor.invokeAll(wrap(tasks));
+	}
+
+	@Override
+	public <T> List<Future<T>> invokeAll(final Collection<? extends Callable<T>> tasks, final long timeout,
+		final TimeUnit unit) throws InterruptedException {
+		return executor.invokeAll(wrap(tasks), timeout, unit);
+	}
+
+	@Override
+	public <T> T invokeAny(final Collection<? extends Callable<T>> tasks) throws InterruptedException, ExecutionException {
+		return executor.invokeAny(wrap(tasks));
+	}
+
+	@Override
+	public <T> T invokeAny(final Collection<? extends Callable<T>> tasks, final long timeout, final TimeUnit unit)
+		throws InterruptedException, ExecutionException, TimeoutException {
+		return executor.invokeAny(wrap(tasks), timeout, unit);
+	}
+
+	@Override
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	@Override
+	public List<Runnable> shutdownNow() {
+		return executor.shutdownNow();
+	}
+
+	@Override
+	public boolean isShutdown() {
+		return executor.isShutdown();
+	}
+
+	@Override
+	public boolean isTerminated() {
+		return executor.isTerminated();
+	}
+
+	@Override
+	public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+		return executor.awaitTermination(timeout, unit);
+	}
+
+	/**
+	 * Wraps all passed callables. The thread context values are captured only once and shared by all callables.
+	 *
+	 * @param tasks
+	 *            Callables to wrap
+	 * @param <T>
+	 *            Result type of callables
+	 * @return Wrapped callables
+	 */
+	private static <T> List<Callable<T>> wrap(final Collection<? extends Callable<T>> tasks) {
+		Map<String, String> context = ThreadContext.capture();
+		List<Callable<T>> wrappers = new ArrayList<Callable<T>>(tasks.size());
+		for (Callable<T> task : tasks) {
+			wrappers.add(new ContextCallable<T>(task, context));
+		}
+		return wrappers;
+	}
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.concurrent;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+import org.tinylog.ThreadContext;
+
+/**
+ * Wrappers for passing thread context values to tasks that are executed by other threads.
+ *
+ * <p>
+ * The thread context values are captured only once when wrapping a task or submitting a task to a wrapped executor.
+ * The captured snapshot is installed in the executing thread for the execution of the task and the previous values of
+ * the executing thread are restored afterwards. Snapshots are immutable and installed by reference, if supported by
+ * the context provider. Thereby, no copies of thread context values are required.
+ * </p>
+ *
+ * @see ContextStages
+ */
+public final class ContextPropagation {
+
+	/** */
+	private ContextPropagation() {
+	}
+
+	/**
+	 * Wraps a runnable, which will be executed with the current thread context values.
+	 *
+	 * @param task
+	 *            Runnable to wrap
+	 * @return Wrapped runnable
+	 */
+	public static Runnable wrap(final Runnable task) {
+		return new ContextRunnable(task, ThreadContext.capture());
+	}
+
+	/**
+	 * Wraps a callable, which will be executed with the current thread context values.
+	 *
+	 * @param task
+	 *            Callable to wrap
+	 * @param <T>
+	 *            Result type of callable
+	 * @return Wrapped callable
+	 */
+	public static <T> Callable<T> wrap(final Callable<T> task) {
+		return new ContextCallable<T>(task, ThreadContext.capture());
+	}
+
+	/**
+	 * Wraps a runnable, which will be executed with the passed thread context values.
+	 *
+	 * @param task
+	 *            Runnable to wrap
+	 * @param context
+	 *            Snapshot received from {@link ThreadContext#capture()}
+	 * @return Wrapped runnable
+	 */
+	public static Runnable wrap(final Runnable task, final Map<String, String> context) {
+		return new ContextRunnable(task, context);
+	}
+
+	/**
+	 * Wraps a callable, which will be executed with the passed thread context values.
+	 *
+	 * @param task
+	 *            Callable to wrap
+	 * @param context
+	 *            Snapshot received from {@link ThreadContext#capture()}
+	 * @param <T>
+	 *            Result type of callable
+	 * @return Wrapped callable
+	 */
+	public static <T> Callable<T> wrap(final Callable<T> task, final Map<String, String> context) {
+		return new ContextCallable<T>(task, context);
+	}
+
+	/**
+	 * Wraps an executor. All tasks will be executed with the thread context values of the thread that submits the
+	 * task.
+	 *
+	 * @param executor
+	 *            Executor to wrap
+	 * @return Wrapped executor
+	 */
+	public static Executor wrap(final Executor executor) {
+		return new ContextExecutor(executor);
+	}
+
+	/**
+	 * Wraps an executor service. All tasks will be executed with the thread context values of the thread that submits
+	 * the task.
+	 *
+	 * @param executor
+	 *            Executor service to wrap
+	 * @return Wrapped executor service
+	 */
+	public static ExecutorService wrap(final ExecutorService executor) {
+		return new ContextExecutorService(executor);
+	}
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.concurrent;
+
+import java.util.Map;
+
+import org.tinylog.ContextScope;
+import org.tinylog.ThreadContext;
+
+/**
+ * Wrapper for a {@link Runnable} that executes the wrapped runnable with captured thread context values.
+ */
+final class ContextRunnable implements Runnable {
+
+	private final Runnable task;
+	private final Map<String, String> context;
+
+	/**
+	 * @param task
+	 *            Runnable to execute
+	 * @param context
+	 *            Snapshot of thread context values to install while executing the runnable
+	 */
+	ContextRunnable(final Runnable task, final Map<String, String> context) {
+		this.task = task;
+		this.context = context;
+	}
+
+	@Override
+	public void run() {
+		ContextScope scope = ThreadContext.restore(context);
+		try {
+			task.run();
+		} finally {
+			scope.close();
+		}
+	}
+
+}
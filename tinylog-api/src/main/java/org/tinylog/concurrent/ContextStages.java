@@ -0,0 +1,314 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.concurrent;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.codehaus.mojo.animal_sniffer.IgnoreJRERequirement;
+import org.tinylog.ContextScope;
+import org.tinylog.ThreadContext;
+
+/**
+ * Wrappers for passing thread context values to the stages of a {@link CompletableFuture}.
+ *
+ * <p>
+ * Stages of a completable future are executed by the thread that completes the previous stage or by the executor of
+ * an asynchronous stage. Therefore, the thread context values are captured already when wrapping a function, and are
+ * installed while executing the function.
+ * </p>
+ *
+ * <p>
+ * Example:
+ * </p>
+ *
+ * <pre>
+ * CompletableFuture.supplyAsync(ContextStages.supplier(() -&gt; load(id)))
+ *     .thenApply(ContextStages.function(data -&gt; parse(data)))
+ *     .thenAccept(ContextStages.consumer(result -&gt; Logger.info("Parsed {}", result)));
+ * </pre>
+ *
+ * <p>
+ * This class requires Java 8 or later.
+ * </p>
+ */
+@IgnoreJRERequirement
+public final class ContextStages {
+
+	/** */
+	private ContextStages() {
+	}
+
+	/**
+	 * Wraps a supplier, which will be executed with the current thread context values.
+	 *
+	 * @param supplier
+	 *            Supplier to wrap
+	 * @param <T>
+	 *            Result type of supplier
+	 * @return Wrapped supplier
+	 */
+	public static <T> Supplier<T> supplier(final Supplier<T> supplier) {
+		return new ContextSupplier<T>(supplier, ThreadContext.capture());
+	}
+
+	/**
+	 * Wraps a function, which will be executed with the current thread context values.
+	 *
+	 * @param function
+	 *            Function to wrap
+	 * @param <T>
+	 *            Argument type of function
+	 * @param <R>
+	 *            Result type of function
+	 * @return Wrapped function
+	 */
+	public static <T, R> Function<T, R> function(final Function<T, R> function) {
+		return new ContextFunction<T, R>(function, ThreadContext.capture());
+	}
+
+	/**
+	 * Wraps a consumer, which will be executed with the current thread context values.
+	 *
+	 * @param consumer
+	 *            Consumer to wrap
+	 * @param <T>
+	 *            Argument type of consumer
+	 * @return Wrapped consumer
+	 */
+	public static <T> Consumer<T> consumer(final Consumer<T> consumer) {
+		return new ContextConsumer<T>(consumer, ThreadContext.capture());
+	}
+
+	/**
+	 * Wraps a bi-function, which will be executed with the current thread context values.
+	 *
+	 * @param function
+	 *            Bi-function to wrap
+	 * @param <T>
+	 *            First argument type of bi-function
+	 * @param <U>
+	 *            Second argument type of bi-function
+	 * @param <R>
+	 *            Result type of bi-function
+	 * @return Wrapped bi-function
+	 */
+	public static <T, U, R> BiFunction<T, U, R> biFunction(final BiFunction<T, U, R> function) {
+		return new ContextBiFunction<T, U, R>(function, ThreadContext.capture());
+	}
+
+	/**
+	 * Wraps a bi-consumer, which will be executed with the current thread context values.
+	 *
+	 * @param consumer
+	 *            Bi-consumer to wrap
+	 * @param <T>
+	 *            First argument type of bi-consumer
+	 * @param <U>
+	 *            Second argument type of bi-consumer
+	 * @return Wrapped bi-consumer
+	 */
+	public static <T, U> BiConsumer<T, U> biConsumer(final BiConsumer<T, U> consumer) {
+		return new ContextBiConsumer<T, U>(consumer, ThreadContext.capture());
+	}
+
+	/**
+	 * Wrapper for a supplier that installs captured thread context values.
+	 *
+	 * @param <T>
+	 *            Result type of supplier
+	 */
+	@IgnoreJRERequirement
+	private static final class ContextSupplier<T> implements Supplier<T> {
+
+		private final Supplier<T> supplier;
+		private final Map<String, String> context;
+
+		/**
+		 * @param supplier
+		 *            Supplier to execute
+		 * @param context
+		 *            Snapshot of thread context values
+		 */
+		private ContextSupplier(final Supplier<T> supplier, final Map<String, String> context) {
+			this.supplier = supplier;
+			this.context = context;
+		}
+
+		@Override
+		public T get() {
+			ContextScope scope = ThreadContext.restore(context);
+			try {
+				return supplier.get();
+			} finally {
+				scope.close();
+			}
+		}
+
+	}
+
+	/**
+	 * Wrapper for a function that installs captured thread context values.
+	 *
+	 * @param <T>
+	 *            Argument type of function
+	 * @param <R>
+	 *            Result type of function
+	 */
+	@IgnoreJRERequirement
+	private static final class ContextFunction<T, R> implements Function<T, R> {
+
+		private final Function<T, R> function;
+		private final Map<String, String> context;
+
+		/**
+		 * @param function
+		 *            Function to execute
+		 * @param context
+		 *            Snapshot of thread context values
+		 */
+		private ContextFunction(final Function<T, R> function, final Map<String, String> context) {
+			this.function = function;
+			this.context = context;
+		}
+
+		@Override
+		public R apply(final T argument) {
+			ContextScope scope = ThreadContext.restore(context);
+			try {
+				return function.apply(argument);
+			} finally {
+				scope.close();
+			}
+		}
+
+	}
+
+	/**
+	 * Wrapper for a consumer that installs captured thread context values.
+	 *
+	 * @param <T>
+	 *            Argument type of consumer
+	 */
+	@IgnoreJRERequirement
+	private static final class ContextConsumer<T> implements Consumer<T> {
+
+		private final Consumer<T> consumer;
+		private final Map<String, String> context;
+
+		/**
+		 * @param consumer
+		 *            Consumer to execute
+		 * @param context
+		 *            Snapshot of thread context values
+		 */
+		private ContextConsumer(final Consumer<T> consumer, final Map<String, String> context) {
+			this.consumer = consumer;
+			this.context = context;
+		}
+
+		@Override
+		public void accept(final T argument) {
+			ContextScope scope = ThreadContext.restore(context);
+			try {
+				consumer.accept(argument);
+			} finally {
+				scope.close();
+			}
+		}
+
+	}
+
+	/**
+	 * Wrapper for a bi-function that installs captured thread context values.
+	 *
+	 * @param <T>
+	 *            First argument type of bi-function
+	 * @param <U>
+	 *            Second argument type of bi-function
+	 * @param <R>
+	 *            Result type of bi-function
+	 */
+	@IgnoreJRERequirement
+	private static final class ContextBiFunction<T, U, R> implements BiFunction<T, U, R> {
+
+		private final BiFunction<T, U, R> function;
+		private final Map<String, String> context;
+
+		/**
+		 * @param function
+		 *            Bi-function to execute
+		 * @param context
+		 *            Snapshot of thread context values
+		 */
+		private ContextBiFunction(final BiFunction<T, U, R> function, final Map<String, String> context) {
+			this.function = function;
+			this.context = context;
+		}
+
+		@Override
+		public R apply(final T first, final U second) {
+			ContextScope scope = ThreadContext.restore(context);
+			try {
+				return function.apply(first, second);
+			} finally {
+				scope.close();
+			}
+		}
+
+	}
+
+	/**
+	 * Wrapper for a bi-consumer that installs captured thread context values.
+	 *
+	 * @param <T>
+	 *            First argument type of bi-consumer
+	 * @param <U>
+	 *            Second argument type of bi-consumer
+	 */
+	@IgnoreJRERequirement
+	private static final class ContextBiConsumer<T, U> implements BiConsumer<T, U> {
+
+		private final BiConsumer<T, U> consumer;
+		private final Map<String, String> context;
+
+		/**
+		 * @param consumer
+		 *            Bi-consumer to execute
+		 * @param context
+		 *            Snapshot of thread context values
+		 */
+		private ContextBiConsumer(final BiConsumer<T, U> consumer, final Map<String, String> context) {
+			this.consumer = consumer;
+			this.context = context;
+		}
+
+		@Override
+		public void accept(final T first, final U second) {
+			ContextScope scope = ThreadContext.restore(context);
+			try {
+				consumer.accept(first, second);
+			} finally {
+				scope.close();
+			}
+		}
+
+	}
+
+}
@@ -27,16 +27,43 @@ public abstract class AbstractMessageFormatter implements MessageFormatter {
 	}
 
 	/**
-	 * Resolves potential lazy arguments of an array.
+	 * Formats a text message and appends the result to a passed string builder. All placeholders will be replaced
+	 * with the given arguments. Unlike {@link #format(String, Object[])}, the formatted text message doesn't have to
+	 * exist as standalone string.
+	 *
+	 * <p>
+	 * This default implementation appends the result of {@link #format(String, Object[])}. Message formatters that can
+	 * build their output incrementally should override this method.
+	 * </p>
+	 *
+	 * @param builder
+	 *            Target for the formatted text message
+	 * @param message
+	 *            Text message with placeholders
+	 * @param arguments
+	 *            Replacements for placeholders
+	 */
+	public void formatTo(final StringBuilder builder, final String message, final Object[] arguments) {
+		builder.append(format(message, arguments));
+	}
+
+	/**
+	 * Resolves potential lazy arguments of an array. The passed array is returned as it is, if it doesn't contain any
+	 * {@link Supplier Suppliers}.
 	 *
 	 * @param arguments
 	 *            Array of {@link Supplier Suppliers} and other objects
-	 * @return New array in which all {@link Supplier Suppliers} are resolved to its real object
+	 * @return Array in which all {@link Supplier Suppliers} are resolved to its real object
 	 */
 	protected static Object[] resolve(final Object[] arguments) {
-		Object[] resolvedArguments = new Object[arguments.length];
+		Object[] resolvedArguments = arguments;
 		for (int i = 0; i < arguments.length; ++i) {
-			resolvedArguments[i] = resolve(arguments[i]);
+			if (arguments[i] instanceof Supplier<?>) {
+				if (resolvedArguments == arguments) {
+					resolvedArguments = arguments.clone();
+				}
+				resolvedArguments[i] = ((Supplier<?>) arguments[i]).get();
+			}
 		}
 		return resolvedArguments;
 	}
@@ -48,60 +48,55 @@ public class AdvancedMessageFormatter extends AbstractMessageFormatter {
 
 	@Override
 	public String format(final String message, final Object[] arguments) {
-		int length = message.length();
+		StringBuilder builder = new StringBuilder(message.length() + ADDITIONAL_STRING_BUILDER_CAPACITY);
+		formatTo(builder, message, arguments);
+		return builder.toString();
+	}
 
-		StringBuilder builder = new StringBuilder(length + ADDITIONAL_STRING_BUILDER_CAPACITY);
-		StringBuilder buffer = new StringBuilder(length + ADDITIONAL_STRING_BUILDER_CAPACITY);
-		StringBuilder current = builder;
+	@Override
+	public void formatTo(final StringBuilder builder, final String message, final Object[] arguments) {
+		int length = message.length();
 
 		int argumentIndex = 0;
-		int openingTickIndex = -1;
+		int openingTickPosition = -1;
 		int openingCurlyBrackets = 0;
+		int patternStart = -1;
 
 		for (int index = 0; index < length; ++index) {
 			char character = message.charAt(index);
 			if (escape && character == '\'' && index + 1 < length && openingCurlyBrackets == 0) {
 				if (message.charAt(index + 1) == '\'') {
-					current.append('\'');
+					builder.append('\'');
 					index += 1;
 				} else {
-					openingTickIndex = openingTickIndex < 0 ? index : -1;
+					openingTickPosition = openingTickPosition < 0 ? builder.length() : -1;
 				}
-			} else if (character == '{' && index + 1 < length && argumentIndex < arguments.length && openingTickIndex < 0) {
+			} else if (character == '{' && index + 1 < length && argumentIndex < arguments.length && openingTickPosition < 0) {
 				if (openingCurlyBrackets++ == 0) {
-					current = buffer;
-				} else {
-					current.append(character);
+					patternStart = index + 1;
 				}
-			} else if (character == '}' && openingCurlyBrackets > 0 && openingTickIndex < 0) {
+			} else if (character == '}' && openingCurlyBrackets > 0 && openingTickPosition < 0) {
 				if (--openingCurlyBrackets == 0) {
 					Object argument = resolve(arguments[argumentIndex++]);
-					if (buffer.length() == 0) {
+					if (patternStart == index) {
 						builder.append(argument);
 					} else {
-						builder.append(format(buffer.toString(), argument));
-						buffer.setLength(0);
+						builder.append(format(message.substring(patternStart, index), argument));
 					}
-					buffer.setLength(0);
-					current = builder;
-				} else {
-					current.append(character);
 				}
-			} else {
-				current.append(character);
+			} else if (openingCurlyBrackets == 0) {
+				builder.append(character);
 			}
 		}
 
-		if (buffer.length() > 0) {
+		if (openingCurlyBrackets > 0) {
 			builder.append('{');
-			builder.append(buffer);
+			builder.append(message, patternStart, length);
 		}
 
-		if (openingTickIndex >= 0) {
-			builder.insert(openingTickIndex, '\'');
+		if (openingTickPosition >= 0) {
+			builder.insert(openingTickPosition, '\'');
 		}
-
-		return builder.toString();
 	}
 
 	/**
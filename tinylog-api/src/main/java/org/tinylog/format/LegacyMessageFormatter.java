@@ -30,8 +30,14 @@ public class LegacyMessageFormatter extends AbstractMessageFormatter {
 
 	@Override
 	public String format(final String message, final Object[] arguments) {
+		StringBuilder builder = new StringBuilder(message.length() + ADDITIONAL_STRING_BUILDER_CAPACITY);
+		formatTo(builder, message, arguments);
+		return builder.toString();
+	}
+
+	@Override
+	public void formatTo(final StringBuilder builder, final String message, final Object[] arguments) {
 		int length = message.length();
-		StringBuilder builder = new StringBuilder(length + ADDITIONAL_STRING_BUILDER_CAPACITY);
 		int argumentIndex = 0;
 
 		for (int index = 0; index < length; ++index) {
@@ -43,8 +49,6 @@ public class LegacyMessageFormatter extends AbstractMessageFormatter {
 				builder.append(character);
 			}
 		}
-
-		return builder.toString();
 	}
 
 }
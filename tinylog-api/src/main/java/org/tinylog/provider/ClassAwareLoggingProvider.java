@@ -0,0 +1,177 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.provider;
+
+import java.util.Map;
+
+import org.tinylog.Level;
+import org.tinylog.format.MessageFormatter;
+
+/**
+ * Extension for logging providers that can resolve severity levels for a known class name. Loggers that are bound to
+ * a class can use this extension to avoid stack trace walks for determining the caller class.
+ */
+public interface ClassAwareLoggingProvider extends LoggingProvider {
+
+	/**
+	 * Gets the lowest activated severity level for a class and tag.
+	 *
+	 * <p>
+	 * The result of this method is cacheable. All lower severity levels than the returned level will be never output
+	 * for the passed class and tag.
+	 * </p>
+	 *
+	 * @param className
+	 *            Fully-qualified class name
+	 * @param tag
+	 *            Tag to check (can be {@code null})
+	 * @return Lowest activated severity level
+	 */
+	Level getMinimumLevel(String className, String tag);
+
+	/**
+	 * Checks whether log entries from a class with given tag and severity level will be output.
+	 *
+	 * @param depth
+	 *            Depth of caller in stack trace (e.g. '1' if there is only one method between caller and this method in
+	 *            the stack trace), will be only used by implementations that cannot use the passed class name
+	 * @param className
+	 *            Fully-qualified class name
+	 * @param tag
+	 *            Tag to check (can be {@code null})
+	 * @param level
+	 *            Severity level to check
+	 * @return {@code true} if given severity level is enabled, {@code false} if disabled
+	 */
+	boolean isEnabled(int depth, String className, String tag, Level level);
+
+	/**
+	 * Checks whether the class or method name of the caller is required for log entries with given tag and severity
+	 * level, either for resolving custom severity levels or for outputting. Bridges of logging APIs can use this method
+	 * to determine the source of log entries only if it is actually needed.
+	 *
+	 * @param tag
+	 *            Tag to check (can be {@code null})
+	 * @param level
+	 *            Severity level to check
+	 * @return {@code true} if the class or method name is required, {@code false} if not
+	 */
+	boolean isSourceRequired(String tag, Level level);
+
+	/**
+	 * Provides a regular log entry from a known class.
+	 *
+	 * @param depth
+	 *            Depth of caller in stack trace (e.g. '1' if there is only one method between caller and this method in
+	 *            the stack trace), will be only used if method name, file name or line number are required
+	 * @param className
+	 *            Fully-qualified class name of caller
+	 * @param tag
+	 *            Tag of log entry or {@code null} if untagged
+	 * @param level
+	 *            Severity level of log entry
+	 * @param exception
+	 *            Exception to log or {@code null}
+	 * @param formatter
+	 *            Formatter for text message, only required if there are any arguments to insert
+	 * @param obj
+	 *            Message to log or {@code null}
+	 * @param arguments
+	 *            Arguments for message or {@code null}
+	 */
+	void log(int depth, String className, String tag, Level level, Throwable exception, MessageFormatter formatter, Object obj,
+		Object... arguments);
+
+	/**
+	 * Provides a regular log entry from a known class via a logger that is identified by its class name. This is
+	 * intended for bridges of logging APIs that know the source class name already, but pass the fully-qualified class
+	 * name of their logger instead of a fixed stack trace depth.
+	 *
+	 * @param loggerClassName
+	 *            Fully-qualified class name of the logger instance, will be only used if method name, file name or line
+	 *            number are required
+	 * @param className
+	 *            Fully-qualified class name of caller
+	 * @param tag
+	 *            Tag of log entry or {@code null} if untagged
+	 * @param level
+	 *            Severity level of log entry
+	 * @param exception
+	 *            Exception to log or {@code null}
+	 * @param formatter
+	 *            Formatter for text message, only required if there are any arguments to insert
+	 * @param obj
+	 *            Message to log or {@code null}
+	 * @param arguments
+	 *            Arguments for message or {@code null}
+	 */
+	void log(String loggerClassName, String className, String tag, Level level, Throwable exception, MessageFormatter formatter,
+		Object obj, Object... arguments);
+
+	/**
+	 * Provides a regular log entry from a known source. The class and method name of the passed stack trace element
+	 * are used as they are. If the file name or line number are required but not contained in the passed source, they
+	 * are determined via the stack trace. This is intended for bridges of logging APIs that carry the source of log
+	 * entries already.
+	 *
+	 * @param loggerClassName
+	 *            Fully-qualified class name of the logger instance, will be only used for determining file name and line
+	 *            number and by implementations that cannot use the passed source
+	 * @param source
+	 *            Class name, method name, and optionally file name and line number of the caller
+	 * @param tag
+	 *            Tag of log entry or {@code null} if untagged
+	 * @param level
+	 *            Severity level of log entry
+	 * @param exception
+	 *            Exception to log or {@code null}
+	 * @param formatter
+	 *            Formatter for text message, only required if there are any arguments to insert
+	 * @param obj
+	 *            Message to log or {@code null}
+	 * @param arguments
+	 *            Arguments for message or {@code null}
+	 */
+	void log(String loggerClassName, StackTraceElement source, String tag, Level level, Throwable exception,
+		MessageFormatter formatter, Object obj, Object... arguments);
+
+	/**
+	 * Provides a regular log entry from a known class with additional context values. The additional values are only
+	 * added to the passed log entry and override values with the same keys from the thread context. The thread context
+	 * itself remains untouched.
+	 *
+	 * @param depth
+	 *            Depth of caller in stack trace (e.g. '1' if there is only one method between caller and this method in
+	 *            the stack trace), will be only used if method name, file name or line number are required
+	 * @param className
+	 *            Fully-qualified class name of caller
+	 * @param tag
+	 *            Tag of log entry or {@code null} if untagged
+	 * @param level
+	 *            Severity level of log entry
+	 * @param context
+	 *            Additional context values or {@code null} if there are none
+	 * @param exception
+	 *            Exception to log or {@code null}
+	 * @param formatter
+	 *            Formatter for text message, only required if there are any arguments to insert
+	 * @param obj
+	 *            Message to log or {@code null}
+	 * @param arguments
+	 *            Arguments for message or {@code null}
+	 */
+	void log(int depth, String className, String tag, Level level, Map<String, String> context, Throwable exception,
+		MessageFormatter formatter, Object obj, Object... arguments);
+
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.provider;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.tinylog.Level;
+import org.tinylog.format.MessageFormatter;
+
+/**
+ * Adapter for logging providers that don't implement {@link ClassAwareLoggingProvider}. The passed class names are
+ * ignored and all calls are delegated to the methods of the underlying logging provider that determine the caller
+ * class via the stack trace. Additional context values for single log entries are not supported by such logging
+ * providers. Therefore, they are put temporarily into the thread context of the underlying logging provider while
+ * issuing the log entry and the previous thread context values are restored afterwards.
+ */
+final class ClassAwareProviderAdapter implements ClassAwareLoggingProvider {
+
+	private final LoggingProvider provider;
+
+	/**
+	 * @param provider
+	 *            Underlying logging provider
+	 */
+	ClassAwareProviderAdapter(final LoggingProvider provider) {
+		this.provider = provider;
+	}
+
+	/**
+	 * Gets a class-aware logging provider for a logging provider. Class-aware logging providers are returned as they
+	 * are, all other logging providers are wrapped by an adapter.
+	 *
+	 * @param provider
+	 *            Logging provider
+	 * @return Class-aware logging provider
+	 */
+	static ClassAwareLoggingProvider of(final LoggingProvider provider) {
+		if (provider instanceof ClassAwareLoggingProvider) {
+			return (ClassAwareLoggingProvider) provider;
+		} else {
+			return new ClassAwareProviderAdapter(provider);
+		}
+	}
+
+	@Override
+	public ContextProvider getContextProvider() {
+		return provider.getContextProvider();
+	}
+
+	@Override
+	public Level getMinimumLevel() {
+		return provider.getMinimumLevel();
+	}
+
+	@Override
+	public Level getMinimumLevel(final String tag) {
+		return provider.getMinimumLevel(tag);
+	}
+
+	@Override
+	public Level getMinimumLevel(final String className, final String tag) {
+		return provider.getMinimumLevel(tag);
+	}
+
+	@Override
+	public boolean isEnabled(final int depth, final String tag, final Level level) {
+		return provider.isEnabled(depth + 1, tag, level);
+	}
+
+	@Override
+	public boolean isEnabled(final int depth, final String className, final String tag, final Level level) {
+		return provider.isEnabled(depth + 1, tag, level);
+	}
+
+	/**
+	 * Always returns {@code false}, since passed sources are ignored anyway and the underlying logging provider
+	 * determines the caller via the stack trace on its own.
+	 *
+	 * @param tag
+	 *            Tag to check (can be {@code null})
+	 * @param level
+	 *            Severity level to check
+	 * @return Always {@code false}
+	 */
+	@Override
+	public boolean isSourceRequired(final String tag, final Level level) {
+		return false;
+	}
+
+	@Override
+	public void log(final int depth, final String tag, final Level level, final Throwable exception,
+		final MessageFormatter formatter, final Object obj, final Object... arguments) {
+		provider.log(depth + 1, tag, level, exception, formatter, obj, arguments);
+	}
+
+	@Override
+	public void log(final String loggerClassName, final String tag, final Level level, final Throwable exception,
+		final MessageFormatter formatter, final Object obj, final Object... arguments) {
+		provider.log(loggerClassName, tag, level, exception, formatter, obj, arguments);
+	}
+
+	@Override
+	public void log(final int depth, final String className, final String tag, final Level level,
+		final Throwable exception, final MessageFormatter formatter, final Object obj, final Object... arguments) {
+		provider.log(depth + 1, tag, level, exception, formatter, obj, arguments);
+	}
+
+	@Override
+	public void log(final String loggerClassName, final String className, final String tag, final Level level,
+		final Throwable exception, final MessageFormatter formatter, final Object obj, final Object... arguments) {
+		provider.log(loggerClassName, tag, level, exception, formatter, obj, arguments);
+	}
+
+	@Override
+	public void log(final String loggerClassName, final StackTraceElement source, final String tag, final Level level,
+		final Throwable exception, final MessageFormatter formatter, final Object obj, final Object... arguments) {
+		provider.log(loggerClassName, tag, level, exception, formatter, obj, arguments);
+	}
+
+	@Override
+	public void log(final int depth, final String className, final String tag, final Level level, final Map<String, String> context,
+		final Throwable exception, final MessageFormatter formatter, final Object obj, final Object... arguments) {
+		if (context == null || context.isEmpty()) {
+			provider.log(depth + 1, tag, level, exception, formatter, obj, arguments);
+		} else {
+			ContextProvider contextProvider = provider.getContextProvider();
+			Map<String, String> previous = apply(contextProvider, context);
+			try {
+				provider.log(depth + 1, tag, level, exception, formatter, obj, arguments);
+			} finally {
+				restore(contextProvider, previous);
+			}
+		}
+	}
+
+	@Override
+	public void shutdown() throws InterruptedException {
+		provider.shutdown();
+	}
+
+	/**
+	 * Puts additional context values into the thread context.
+	 *
+	 * @param contextProvider
+	 *            Context provider of the underlying logging provider
+	 * @param context
+	 *            Additional context values to put
+	 * @return Previous thread context values of the overwritten keys ({@code null} for absent keys)
+	 */
+	private static Map<String, String> apply(final ContextProvider contextProvider, final Map<String, String> context) {
+		Map<String, String> previous = new HashMap<String, String>(context.size() * 2);
+		for (Entry<String, String> entry : context.entrySet()) {
+			previous.put(entry.getKey(), contextProvider.get(entry.getKey()));
+			contextProvider.put(entry.getKey(), entry.getValue());
+		}
+		return previous;
+	}
+
+	/**
+	 * Restores previous thread context values.
+	 *
+	 * @param contextProvider
+	 *            Context provider of the underlying logging provider
+	 * @param previous
+	 *            Previous thread context values ({@code null} for absent keys)
+	 */
+	private static void restore(final ContextProvider contextProvider, final Map<String, String> previous) {
+		for (Entry<String, String> entry : previous.entrySet()) {
+			if (entry.getValue() == null) {
+				contextProvider.remove(entry.getKey());
+			} else {
+				contextProvider.put(entry.getKey(), entry.getValue());
+			}
+		}
+	}
+
+}
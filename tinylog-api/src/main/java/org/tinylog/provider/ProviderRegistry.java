@@ -34,6 +34,7 @@ public final class ProviderRegistry {
 	private static final String NOP_PROVIDER_NAME = "nop";
 
 	private static final LoggingProvider loggingProvider = loadLoggingProvider();
+	private static final ClassAwareLoggingProvider classAwareLoggingProvider = ClassAwareProviderAdapter.of(loggingProvider);
 
 	/** */
 	private ProviderRegistry() {
@@ -53,6 +54,21 @@ public final class ProviderRegistry {
 		return loggingProvider;
 	}
 
+	/**
+	 * Returns the actual logging provider as class-aware logging provider. Logging providers that don't implement
+	 * {@link ClassAwareLoggingProvider} are wrapped by an adapter that falls back to the stack trace based methods.
+	 *
+	 * <p>
+	 * This method is intended for loggers that are bound to a class or have a name, like the loggers of logging API
+	 * bridges. Such loggers can pass their name as class name to avoid stack trace walks for each log entry.
+	 * </p>
+	 *
+	 * @return Actual logging provider as class-aware logging provider
+	 */
+	public static ClassAwareLoggingProvider getClassAwareLoggingProvider() {
+		return classAwareLoggingProvider;
+	}
+
 	/**
 	 * Loads the actual logging provider.
 	 *
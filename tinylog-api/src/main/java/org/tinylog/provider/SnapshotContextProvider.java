@@ -0,0 +1,34 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.provider;
+
+import java.util.Map;
+
+/**
+ * Extension for context providers that can replace the entire thread context at once. This allows installing a
+ * previously captured thread context by reference instead of copying all values one by one.
+ */
+public interface SnapshotContextProvider extends ContextProvider {
+
+	/**
+	 * Replaces all values of the thread context of the current thread by the passed mapping. The passed mapping should
+	 * not be modified afterwards. Mappings received from {@link #getMapping()} can be installed without copying.
+	 *
+	 * @param mapping
+	 *            New thread context values
+	 * @return Previous thread context values
+	 */
+	Map<String, String> replace(Map<String, String> mapping);
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.powermock.reflect.Whitebox;
+import org.tinylog.provider.ContextProvider;
+import org.tinylog.provider.ProviderRegistry;
+import org.tinylog.provider.SnapshotContextProvider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link ContextBinding}.
+ */
+public final class ContextBindingTest {
+
+	private SnapshotContextProvider provider;
+	private Map<String, String> previous;
+
+	/**
+	 * Mocks the underlying context provider.
+	 */
+	@Before
+	public void init() {
+		provider = mock(SnapshotContextProvider.class);
+		previous = Collections.singletonMap("e", "2.71");
+		when(provider.getMapping()).thenReturn(previous);
+		Whitebox.setInternalState(ThreadContext.class, ContextProvider.class, provider);
+	}
+
+	/**
+	 * Resets the underlying context provider.
+	 */
+	@After
+	public void reset() {
+		Whitebox.setInternalState(ThreadContext.class, ContextProvider.class, ProviderRegistry.getLoggingProvider().getContextProvider());
+	}
+
+	/**
+	 * Verifies that bound values are stored before executing a runnable and restored afterwards.
+	 */
+	@Test
+	public void runRunnable() {
+		Runnable task = mock(Runnable.class);
+
+		ThreadContext.with("number", 42).with("e", null).run(task);
+
+		InOrder order = inOrder(provider, task);
+		order.verify(provider).put("number", "42");
+		order.verify(provider).remove("e");
+		order.verify(task).run();
+		order.verify(provider).replace(same(previous));
+	}
+
+	/**
+	 * Verifies that bound values are stored before executing a callable and restored afterwards, even if the callable
+	 * fails.
+	 *
+	 * @throws Exception
+	 *             Failed to mock callable
+	 */
+	@Test
+	public void callFailingCallable() throws Exception {
+		Callable<?> task = mock(Callable.class);
+		when(task.call()).thenThrow(new IllegalStateException());
+
+		assertThatThrownBy(() -> ThreadContext.with("number", 42).call(task)).isInstanceOf(IllegalStateException.class);
+
+		InOrder order = inOrder(provider);
+		order.verify(provider).put("number", "42");
+		order.verify(provider).replace(same(previous));
+	}
+
+	/**
+	 * Verifies that the result of a callable is returned.
+	 *
+	 * @throws Exception
+	 *             Failed to execute callable
+	 */
+	@Test
+	public void callCallable() throws Exception {
+		assertThat(ThreadContext.with("number", 42).call(() -> 42)).isEqualTo(42);
+	}
+
+	/**
+	 * Verifies that bindings are immutable.
+	 */
+	@Test
+	public void immutable() {
+		ContextBinding first = ThreadContext.with("a", 1);
+		first.with("b", 2);
+
+		first.run(() -> { });
+
+		InOrder order = inOrder(provider);
+		order.verify(provider).put("a", "1");
+		order.verify(provider).replace(same(previous));
+		order.verifyNoMoreInteractions();
+	}
+
+	/**
+	 * Verifies that closing a scope multiple times restores the previous values only once.
+	 */
+	@Test
+	public void closeScopeTwice() {
+		ContextScope scope = ThreadContext.with("a", 1).open();
+		scope.close();
+		scope.close();
+
+		InOrder order = inOrder(provider);
+		order.verify(provider).put("a", "1");
+		order.verify(provider).replace(same(previous));
+		order.verifyNoMoreInteractions();
+	}
+
+}
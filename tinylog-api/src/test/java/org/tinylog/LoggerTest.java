@@ -1091,4 +1091,42 @@ public final class LoggerTest {
 
 	}
 
+	/**
+	 * Tests for receiving class logger instances.
+	 */
+	@RunWith(PowerMockRunner.class)
+	@PrepareForTest(ClassLogger.class)
+	public static final class ClassBinding {
+
+		/**
+		 * Redirects and collects system output streams.
+		 */
+		@Rule
+		public final SystemStreamCollector systemStream = new SystemStreamCollector(false);
+
+		/**
+		 * Verifies that {@link Logger#forClass(Class)} returns the same instance of {@link ClassLogger} for each class.
+		 */
+		@Test
+		public void forClass() {
+			ClassLogger logger = Logger.forClass(LoggerTest.class);
+
+			assertThat(logger).isNotNull().isSameAs(Logger.forClass(LoggerTest.class)).isNotSameAs(Logger.forClass(Logger.class));
+			assertThat(logger.getClassName()).isEqualTo(LoggerTest.class.getName());
+		}
+
+		/**
+		 * Verifies that {@link Logger#forName(String)} returns the same instance of {@link ClassLogger} as
+		 * {@link Logger#forClass(Class)} for the same class name.
+		 */
+		@Test
+		public void forName() {
+			ClassLogger logger = Logger.forName("org.tinylog.LoggerTest");
+
+			assertThat(logger).isNotNull().isSameAs(Logger.forClass(LoggerTest.class)).isNotSameAs(Logger.forName("org.tinylog.Other"));
+			assertThat(logger.getClassName()).isEqualTo("org.tinylog.LoggerTest");
+		}
+
+	}
+
 }
@@ -13,6 +13,10 @@
 
 package org.tinylog;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -20,10 +24,12 @@ import org.junit.Test;
 import org.powermock.reflect.Whitebox;
 import org.tinylog.provider.ContextProvider;
 import org.tinylog.provider.ProviderRegistry;
+import org.tinylog.provider.SnapshotContextProvider;
 import org.tinylog.rules.SystemStreamCollector;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -112,4 +118,101 @@ public final class ThreadContextTest {
 		verify(provider).clear();
 	}
 
+	/**
+	 * Verifies that a captured snapshot is taken from underlying context provider.
+	 */
+	@Test
+	public void capture() {
+		Map<String, String> mapping = Collections.singletonMap("pi", "3.14");
+		when(provider.getMapping()).thenReturn(mapping);
+		assertThat(ThreadContext.capture()).isSameAs(mapping);
+	}
+
+	/**
+	 * Verifies that a snapshot is installed by reference and the previous mapping is restored afterwards, if the
+	 * underlying context provider supports snapshots.
+	 */
+	@Test
+	public void restoreSnapshotByReference() {
+		SnapshotContextProvider provider = mock(SnapshotContextProvider.class);
+		Whitebox.setInternalState(ThreadContext.class, ContextProvider.class, provider);
+
+		Map<String, String> previous = Collections.singletonMap("e", "2.71");
+		Map<String, String> snapshot = Collections.singletonMap("pi", "3.14");
+		when(provider.replace(same(snapshot))).thenReturn(previous);
+
+		ContextScope scope = ThreadContext.restore(snapshot);
+		verify(provider).replace(same(snapshot));
+
+		scope.close();
+		verify(provider).replace(same(previous));
+	}
+
+	/**
+	 * Verifies that a snapshot is copied into the thread context and the previous values are restored afterwards, if
+	 * the underlying context provider doesn't support snapshots.
+	 */
+	@Test
+	public void restoreSnapshotByCopying() {
+		Whitebox.setInternalState(ThreadContext.class, ContextProvider.class, new MapContextProvider());
+		ThreadContext.put("e", "2.71");
+
+		ContextScope scope = ThreadContext.restore(Collections.singletonMap("pi", "3.14"));
+		assertThat(ThreadContext.getMapping()).containsOnly(entry("pi", "3.14"));
+
+		scope.close();
+
+		assertThat(ThreadContext.getMapping()).containsOnly(entry("e", "2.71"));
+	}
+
+	/**
+	 * Verifies that bound values are only visible while executing a task.
+	 */
+	@Test
+	public void bindValues() {
+		Whitebox.setInternalState(ThreadContext.class, ContextProvider.class, new MapContextProvider());
+		ThreadContext.put("a", "1");
+		ThreadContext.put("b", "2");
+
+		ThreadContext.with("b", 3).with("c", 4).with("a", null).run(() -> {
+			assertThat(ThreadContext.getMapping()).containsOnly(entry("b", "3"), entry("c", "4"));
+		});
+
+		assertThat(ThreadContext.getMapping()).containsOnly(entry("a", "1"), entry("b", "2"));
+	}
+
+	/**
+	 * Simple context provider that stores values in a hash map.
+	 */
+	private static final class MapContextProvider implements ContextProvider {
+
+		private final Map<String, String> values = new HashMap<>();
+
+		@Override
+		public Map<String, String> getMapping() {
+			return new HashMap<>(values);
+		}
+
+		@Override
+		public String get(final String key) {
+			return values.get(key);
+		}
+
+		@Override
+		public void put(final String key, final Object value) {
+			values.put(key, value.toString());
+		}
+
+		@Override
+		public void remove(final String key) {
+			values.remove(key);
+		}
+
+		@Override
+		public void clear() {
+			values.clear();
+		}
+
+	}
+
 }
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.concurrent;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.powermock.reflect.Whitebox;
+import org.tinylog.ThreadContext;
+import org.tinylog.provider.ContextProvider;
+import org.tinylog.provider.ProviderRegistry;
+import org.tinylog.util.ThreadLocalContextProvider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Tests for {@link ContextPropagation}.
+ */
+public final class ContextPropagationTest {
+
+	private ExecutorService pool;
+
+	/**
+	 * Installs a thread local context provider and creates a single-threaded executor service.
+	 */
+	@Before
+	public void init() {
+		Whitebox.setInternalState(ThreadContext.class, ContextProvider.class, new ThreadLocalContextProvider());
+		pool = Executors.newSingleThreadExecutor();
+	}
+
+	/**
+	 * Shuts down the executor service and restores the original context provider.
+	 *
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for termination of the executor service
+	 */
+	@After
+	public void reset() throws InterruptedException {
+		pool.shutdownNow();
+		pool.awaitTermination(1, TimeUnit.MINUTES);
+		Whitebox.setInternalState(ThreadContext.class, ContextProvider.class, ProviderRegistry.getLoggingProvider().getContextProvider());
+	}
+
+	/**
+	 * Verifies that a wrapped runnable is executed with the thread context values that were present when wrapping the
+	 * runnable, and that the previous values of the executing thread are restored afterwards.
+	 *
+	 * @throws Exception
+	 *             Failed to execute runnable
+	 */
+	@Test
+	public void runnable() throws Exception {
+		pool.submit(() -> ThreadContext.put("worker", "yes")).get();
+
+		ThreadContext.put("request", 42);
+		AtomicReference<Map<String, String>> mapping = new AtomicReference<>();
+		Runnable task = ContextPropagation.wrap(() -> mapping.set(ThreadContext.getMapping()));
+		ThreadContext.put("request", 43);
+
+		pool.submit(task).get();
+
+		assertThat(mapping.get()).containsOnly(entry("request", "42"));
+		assertThat(pool.submit(ThreadContext::getMapping).get()).containsOnly(entry("worker", "yes"));
+	}
+
+	/**
+	 * Verifies that a wrapped callable is executed with the thread context values that were present when wrapping the
+	 * callable.
+	 *
+	 * @throws Exception
+	 *             Failed to execute callable
+	 */
+	@Test
+	public void callable() throws Exception {
+		ThreadContext.put("request", 42);
+		Callable<String> task = ContextPropagation.wrap(() -> ThreadContext.get("request"));
+		ThreadContext.clear();
+
+		assertThat(pool.submit(task).get()).isEqualTo("42");
+		assertThat(pool.submit(ThreadContext::getMapping).get()).isEmpty();
+	}
+
+	/**
+	 * Verifies that a runnable can be wrapped with an explicitly captured snapshot.
+	 *
+	 * @throws Exception
+	 *             Failed to execute runnable
+	 */
+	@Test
+	public void explicitSnapshot() throws Exception {
+		ThreadContext.put("request", 42);
+		Map<String, String> snapshot = ThreadContext.capture();
+		ThreadContext.clear();
+
+		AtomicReference<String> value = new AtomicReference<>();
+		pool.submit(ContextPropagation.wrap(() -> value.set(ThreadContext.get("request")), snapshot)).get();
+		assertThat(value.get()).isEqualTo("42");
+
+		assertThat(pool.submit(ContextPropagation.wrap(() -> ThreadContext.get("request"), snapshot)).get()).isEqualTo("42");
+	}
+
+	/**
+	 * Verifies that the captured snapshot is installed by reference instead of being copied.
+	 *
+	 * @throws Exception
+	 *             Failed to execute callable
+	 */
+	@Test
+	public void installByReference() throws Exception {
+		ThreadContext.put("request", 42);
+		Map<String, String> snapshot = ThreadContext.capture();
+
+		assertThat(pool.submit(ContextPropagation.wrap(ThreadContext::getMapping)).get()).isSameAs(snapshot);
+	}
+
+	/**
+	 * Verifies that a wrapped executor passes the thread context values of the submitting thread.
+	 *
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for execution
+	 */
+	@Test
+	public void executor() throws InterruptedException {
+		Executor executor = ContextPropagation.wrap((Executor) pool);
+		AtomicReference<String> value = new AtomicReference<>();
+
+		ThreadContext.put("request", 42);
+		executor.execute(() -> value.set(ThreadContext.get("request")));
+
+		pool.shutdown();
+		pool.awaitTermination(1, TimeUnit.MINUTES);
+		assertThat(value.get()).isEqualTo("42");
+	}
+
+	/**
+	 * Verifies that all submitting methods of a wrapped executor service pass the thread context values of the
+	 * submitting thread.
+	 *
+	 * @throws Exception
+	 *             Failed to execute tasks
+	 */
+	@Test
+	public void executorService() throws Exception {
+		ExecutorService executor = ContextPropagation.wrap(pool);
+		AtomicReference<String> value = new AtomicReference<>();
+
+		ThreadContext.put("request", 42);
+
+		executor.submit(() -> value.set(ThreadContext.get("request"))).get();
+		assertThat(value.get()).isEqualTo("42");
+
+		assertThat(executor.submit(() -> value.set(ThreadContext.get("request")), "done").get()).isEqualTo("done");
+		assertThat(executor.submit(() -> ThreadContext.get("request")).get()).isEqualTo("42");
+
+		Callable<String> first = () -> ThreadContext.get("request") + "a";
+		Callable<String> second = () -> ThreadContext.get("request") + "b";
+
+		List<Future<String>> futures = executor.invokeAll(Arrays.asList(first, second));
+		assertThat(futures.get(0).get()).isEqualTo("42a");
+		assertThat(futures.get(1).get()).isEqualTo("42b");
+
+		futures = executor.invokeAll(Arrays.asList(first, second), 1, TimeUnit.MINUTES);
+		assertThat(futures.get(0).get()).isEqualTo("42a");
+		assertThat(futures.get(1).get()).isEqualTo("42b");
+
+		assertThat(executor.invokeAny(Collections.singletonList(first))).isEqualTo("42a");
+		assertThat(executor.invokeAny(Collections.singletonList(second), 1, TimeUnit.MINUTES)).isEqualTo("42b");
+	}
+
+	/**
+	 * Verifies that the life cycle methods of a wrapped executor service are delegated to the underlying executor
+	 * service.
+	 *
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for termination
+	 */
+	@Test
+	public void executorServiceLifeCycle() throws InterruptedException {
+		ExecutorService executor = ContextPropagation.wrap(pool);
+		assertThat(executor.isShutdown()).isFalse();
+		assertThat(executor.isTerminated()).isFalse();
+
+		executor.shutdown();
+		assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+		assertThat(executor.isShutdown()).isTrue();
+		assertThat(executor.isTerminated()).isTrue();
+		assertThat(executor.shutdownNow()).isEmpty();
+	}
+
+}
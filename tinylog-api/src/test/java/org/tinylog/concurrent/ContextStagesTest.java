@@ -0,0 +1,105 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.powermock.reflect.Whitebox;
+import org.tinylog.ThreadContext;
+import org.tinylog.provider.ContextProvider;
+import org.tinylog.provider.ProviderRegistry;
+import org.tinylog.util.ThreadLocalContextProvider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ContextStages}.
+ */
+public final class ContextStagesTest {
+
+	private ExecutorService pool;
+
+	/**
+	 * Installs a thread local context provider and creates a single-threaded executor service.
+	 */
+	@Before
+	public void init() {
+		Whitebox.setInternalState(ThreadContext.class, ContextProvider.class, new ThreadLocalContextProvider());
+		pool = Executors.newSingleThreadExecutor();
+	}
+
+	/**
+	 * Shuts down the executor service and restores the original context provider.
+	 *
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for termination of the executor service
+	 */
+	@After
+	public void reset() throws InterruptedException {
+		pool.shutdownNow();
+		pool.awaitTermination(1, TimeUnit.MINUTES);
+		Whitebox.setInternalState(ThreadContext.class, ContextProvider.class, ProviderRegistry.getLoggingProvider().getContextProvider());
+	}
+
+	/**
+	 * Verifies that thread context values are passed to all stages of a completable future.
+	 */
+	@Test
+	public void stages() {
+		ThreadContext.put("request", 42);
+
+		CompletableFuture<String> supplied = CompletableFuture.supplyAsync(
+			ContextStages.supplier(() -> ThreadContext.get("request")), pool);
+		CompletableFuture<String> applied = supplied.thenApplyAsync(
+			ContextStages.function(value -> value + ThreadContext.get("request")), pool);
+		CompletableFuture<String> combined = applied.thenCombineAsync(supplied,
+			ContextStages.biFunction((first, second) -> first + second + ThreadContext.get("request")), pool);
+
+		AtomicReference<String> accepted = new AtomicReference<>();
+		CompletableFuture<Void> consumed = combined.thenAcceptAsync(
+			ContextStages.consumer(value -> accepted.set(value + ThreadContext.get("request"))), pool);
+
+		AtomicReference<String> completed = new AtomicReference<>();
+		CompletableFuture<Void> finished = consumed.whenCompleteAsync(
+			ContextStages.biConsumer((value, exception) -> completed.set(ThreadContext.get("request"))), pool);
+
+		ThreadContext.clear();
+		finished.join();
+
+		assertThat(combined.join()).isEqualTo("42424242");
+		assertThat(accepted.get()).isEqualTo("4242424242");
+		assertThat(completed.get()).isEqualTo("42");
+	}
+
+	/**
+	 * Verifies that the previous thread context values of the executing thread are restored after executing a stage.
+	 */
+	@Test
+	public void restorePreviousValues() {
+		CompletableFuture.runAsync(() -> ThreadContext.put("worker", "yes"), pool).join();
+
+		ThreadContext.put("request", 42);
+		CompletableFuture.supplyAsync(ContextStages.supplier(() -> ThreadContext.get("request")), pool).join();
+
+		assertThat(CompletableFuture.supplyAsync(ThreadContext::getMapping, pool).join()).containsOnlyKeys("worker");
+	}
+
+}
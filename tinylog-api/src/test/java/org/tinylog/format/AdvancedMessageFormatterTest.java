@@ -232,6 +232,27 @@ public final class AdvancedMessageFormatterTest {
 		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("WARN").containsOnlyOnce("#..#");
 	}
 
+	/**
+	 * Verifies that a formatted text message can be appended to an existing string builder.
+	 */
+	@Test
+	public void formatToBuilder() {
+		StringBuilder builder = new StringBuilder("Message: ");
+		new AdvancedMessageFormatter(Locale.US, escape).formatTo(builder, "Hello {} and {0.00}!", new Object[] { "tinylog", 1 });
+		assertThat(builder).hasToString("Message: Hello tinylog and 1.00!");
+	}
+
+	/**
+	 * Verifies that an unclosed single tick is restored at the correct position when formatting into a string builder
+	 * with existing content.
+	 */
+	@Test
+	public void formatToBuilderWithSingleTick() {
+		StringBuilder builder = new StringBuilder("Message: ");
+		new AdvancedMessageFormatter(Locale.ROOT, escape).formatTo(builder, "{} isn't {}", new Object[] { "foo", "bar" });
+		assertThat(builder).hasToString(escape ? "Message: foo isn't {}" : "Message: foo isn't bar");
+	}
+
 	/**
 	 * Uses {@link AdvancedMessageFormatter} for formatting a text message.
 	 *
@@ -116,6 +116,26 @@ public final class LegacyMessageFormatterTest {
 		assertThat(format("{foo} {}", "bar")).isEqualTo("{foo} bar");
 	}
 
+	/**
+	 * Verifies that a formatted text message can be appended to an existing string builder.
+	 */
+	@Test
+	public void formatToBuilder() {
+		StringBuilder builder = new StringBuilder("Message: ");
+		new LegacyMessageFormatter().formatTo(builder, "Hello {}!", new Object[] { "tinylog" });
+		assertThat(builder).hasToString("Message: Hello tinylog!");
+	}
+
+	/**
+	 * Verifies that lazy arguments will be resolved when formatting into a string builder.
+	 */
+	@Test
+	public void formatToBuilderWithLazyArgument() {
+		StringBuilder builder = new StringBuilder();
+		new LegacyMessageFormatter().formatTo(builder, "Hello {}!", new Object[] { (Supplier<String>) () -> "tinylog" });
+		assertThat(builder).hasToString("Hello tinylog!");
+	}
+
 	/**
 	 * Uses {@link LegacyMessageFormatter} for formatting a text message.
 	 *
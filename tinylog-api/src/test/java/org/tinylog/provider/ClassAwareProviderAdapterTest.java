@@ -0,0 +1,194 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.provider;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.tinylog.Level;
+import org.tinylog.format.MessageFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link ClassAwareProviderAdapter}.
+ */
+public final class ClassAwareProviderAdapterTest {
+
+	/**
+	 * Verifies that class-aware logging providers are used directly without any adapter.
+	 */
+	@Test
+	public void classAwareProvider() {
+		ClassAwareLoggingProvider provider = mock(ClassAwareLoggingProvider.class);
+		assertThat(ClassAwareProviderAdapter.of(provider)).isSameAs(provider);
+	}
+
+	/**
+	 * Verifies that the minimum severity levels of the underlying logging provider are returned.
+	 */
+	@Test
+	public void minimumLevels() {
+		LoggingProvider provider = mock(LoggingProvider.class);
+		when(provider.getMinimumLevel()).thenReturn(Level.DEBUG);
+		when(provider.getMinimumLevel("test")).thenReturn(Level.WARN);
+
+		ClassAwareLoggingProvider adapter = ClassAwareProviderAdapter.of(provider);
+		assertThat(adapter.getMinimumLevel()).isEqualTo(Level.DEBUG);
+		assertThat(adapter.getMinimumLevel("test")).isEqualTo(Level.WARN);
+		assertThat(adapter.getMinimumLevel("org.test.Foo", "test")).isEqualTo(Level.WARN);
+	}
+
+	/**
+	 * Verifies that enabled checks are delegated with the depth of the adapter method.
+	 */
+	@Test
+	public void enabled() {
+		LoggingProvider provider = mock(LoggingProvider.class);
+		when(provider.isEnabled(3, "test", Level.INFO)).thenReturn(true);
+
+		ClassAwareLoggingProvider adapter = ClassAwareProviderAdapter.of(provider);
+		assertThat(adapter.isEnabled(2, "test", Level.INFO)).isTrue();
+		assertThat(adapter.isEnabled(2, "org.test.Foo", "test", Level.INFO)).isTrue();
+		assertThat(adapter.isEnabled(2, "org.test.Foo", "test", Level.DEBUG)).isFalse();
+	}
+
+	/**
+	 * Verifies that sources are never required, since the underlying logging provider determines the caller itself.
+	 */
+	@Test
+	public void sourceRequired() {
+		ClassAwareLoggingProvider adapter = ClassAwareProviderAdapter.of(mock(LoggingProvider.class));
+		assertThat(adapter.isSourceRequired(null, Level.INFO)).isFalse();
+	}
+
+	/**
+	 * Verifies that log entries are delegated with the depth of the adapter method.
+	 */
+	@Test
+	public void logging() {
+		LoggingProvider provider = mock(LoggingProvider.class);
+		MessageFormatter formatter = mock(MessageFormatter.class);
+		Exception exception = new NullPointerException();
+
+		ClassAwareLoggingProvider adapter = ClassAwareProviderAdapter.of(provider);
+
+		adapter.log(2, "org.test.Foo", "test", Level.INFO, exception, formatter, "Hello {}!", "World");
+		verify(provider).log(3, "test", Level.INFO, exception, formatter, "Hello {}!", "World");
+
+		adapter.log(2, "test", Level.WARN, null, null, "Hello World!");
+		verify(provider).log(3, "test", Level.WARN, null, null, "Hello World!");
+
+		adapter.log("org.test.Logger", "test", Level.ERROR, null, null, "Hello World!");
+		verify(provider).log("org.test.Logger", "test", Level.ERROR, null, null, "Hello World!");
+	}
+
+	/**
+	 * Verifies that log entries with a known class name are delegated with the logger class name, since the underlying
+	 * logging provider determines the caller class via the stack trace itself.
+	 */
+	@Test
+	public void loggingWithClassName() {
+		LoggingProvider provider = mock(LoggingProvider.class);
+
+		ClassAwareLoggingProvider adapter = ClassAwareProviderAdapter.of(provider);
+
+		adapter.log("org.test.Logger", "org.test.Foo", "test", Level.INFO, null, null, "Hello World!");
+		verify(provider).log("org.test.Logger", "test", Level.INFO, null, null, "Hello World!");
+	}
+
+	/**
+	 * Verifies that log entries with a known source are delegated with the logger class name, since the underlying
+	 * logging provider determines the source via the stack trace itself.
+	 */
+	@Test
+	public void loggingWithSource() {
+		LoggingProvider provider = mock(LoggingProvider.class);
+		StackTraceElement source = new StackTraceElement("org.test.Foo", "bar", null, -1);
+
+		ClassAwareLoggingProvider adapter = ClassAwareProviderAdapter.of(provider);
+
+		adapter.log("org.test.Logger", source, "test", Level.INFO, null, null, "Hello World!");
+		verify(provider).log("org.test.Logger", "test", Level.INFO, null, null, "Hello World!");
+	}
+
+	/**
+	 * Verifies that additional context values are put temporarily into the thread context of the underlying logging
+	 * provider and the previous thread context values are restored afterwards.
+	 */
+	@Test
+	public void loggingWithContext() {
+		LoggingProvider provider = mock(LoggingProvider.class);
+		MessageFormatter formatter = mock(MessageFormatter.class);
+		ContextProvider contextProvider = mock(ContextProvider.class);
+		when(provider.getContextProvider()).thenReturn(contextProvider);
+		when(contextProvider.get("user")).thenReturn("alice");
+
+		Map<String, String> context = new LinkedHashMap<String, String>();
+		context.put("user", "bob");
+		context.put("request", "42");
+
+		ClassAwareLoggingProvider adapter = ClassAwareProviderAdapter.of(provider);
+		adapter.log(2, "org.test.Foo", "test", Level.INFO, context, null, formatter, "Hello {}!", "World");
+
+		InOrder order = inOrder(contextProvider, provider);
+		order.verify(contextProvider).put("user", "bob");
+		order.verify(contextProvider).put("request", "42");
+		order.verify(provider).log(3, "test", Level.INFO, null, formatter, "Hello {}!", "World");
+		order.verify(contextProvider).put("user", "alice");
+		order.verify(contextProvider).remove("request");
+	}
+
+	/**
+	 * Verifies that log entries with empty additional context values don't touch the thread context.
+	 */
+	@Test
+	public void loggingWithEmptyContext() {
+		LoggingProvider provider = mock(LoggingProvider.class);
+
+		ClassAwareLoggingProvider adapter = ClassAwareProviderAdapter.of(provider);
+		adapter.log(2, "org.test.Foo", "test", Level.INFO, Collections.<String, String>emptyMap(), null, null, "Hello World!");
+
+		verify(provider).log(3, "test", Level.INFO, null, null, "Hello World!");
+		verify(provider, never()).getContextProvider();
+	}
+
+	/**
+	 * Verifies that the context provider and shutdown are delegated.
+	 *
+	 * @throws InterruptedException
+	 *             Interrupted while shutting down
+	 */
+	@Test
+	public void delegation() throws InterruptedException {
+		LoggingProvider provider = mock(LoggingProvider.class);
+		ContextProvider contextProvider = mock(ContextProvider.class);
+		when(provider.getContextProvider()).thenReturn(contextProvider);
+
+		ClassAwareLoggingProvider adapter = ClassAwareProviderAdapter.of(provider);
+		assertThat(adapter.getContextProvider()).isSameAs(contextProvider);
+
+		adapter.shutdown();
+		verify(provider).shutdown();
+	}
+
+}
@@ -71,6 +71,16 @@ public final class ProviderRegistryTest {
 		assertThat(ProviderRegistry.getLoggingProvider()).isInstanceOf(NopLoggingProvider.class);
 	}
 
+	/**
+	 * Verifies that the actual logging provider will be wrapped as class-aware logging provider, if it doesn't
+	 * implement {@link ClassAwareLoggingProvider} itself.
+	 */
+	@Test
+	public void classAwareProvider() {
+		assertThat(ProviderRegistry.getClassAwareLoggingProvider()).isInstanceOf(ClassAwareProviderAdapter.class);
+		assertThat(ProviderRegistry.getClassAwareLoggingProvider()).isSameAs(ProviderRegistry.getClassAwareLoggingProvider());
+	}
+
 	/**
 	 * Verifies that a {@link NopLoggingProvider} will be created if there are no registered logging providers.
 	 *
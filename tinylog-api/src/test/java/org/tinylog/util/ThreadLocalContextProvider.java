@@ -0,0 +1,69 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.tinylog.provider.SnapshotContextProvider;
+
+/**
+ * Simple context provider that stores read-only maps in a non-inheritable thread local.
+ */
+public final class ThreadLocalContextProvider implements SnapshotContextProvider {
+
+	private final ThreadLocal<Map<String, String>> data = ThreadLocal.withInitial(Collections::emptyMap);
+
+	/** */
+	public ThreadLocalContextProvider() {
+	}
+
+	@Override
+	public Map<String, String> getMapping() {
+		return data.get();
+	}
+
+	@Override
+	public String get(final String key) {
+		return data.get().get(key);
+	}
+
+	@Override
+	public void put(final String key, final Object value) {
+		Map<String, String> map = new HashMap<>(data.get());
+		map.put(key, String.valueOf(value));
+		data.set(Collections.unmodifiableMap(map));
+	}
+
+	@Override
+	public void remove(final String key) {
+		Map<String, String> map = new HashMap<>(data.get());
+		map.remove(key);
+		data.set(Collections.unmodifiableMap(map));
+	}
+
+	@Override
+	public void clear() {
+		data.remove();
+	}
+
+	@Override
+	public Map<String, String> replace(final Map<String, String> mapping) {
+		Map<String, String> previous = data.get();
+		data.set(mapping);
+		return previous;
+	}
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.decoder;
+
+import java.io.BufferedInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+
+import org.tinylog.core.LogEntry;
+import org.tinylog.pattern.FormatPatternParser;
+import org.tinylog.pattern.Token;
+import org.tinylog.writers.BinaryReader;
+
+/**
+ * Converter for binary log files, which have been written by {@link org.tinylog.writers.BinaryWriter}, into readable
+ * text. Log entries are rendered by a format pattern with the same syntax as the format pattern of text writers.
+ */
+public final class BinaryDecoder {
+
+	private static final String DEFAULT_FORMAT_PATTERN = "{date} [{thread}] {class}.{method}()\n{level}: {message}";
+	private static final String NEW_LINE = System.getProperty("line.separator");
+	private static final int BUILDER_CAPACITY = 1024;
+
+	private static final String USAGE = "Usage: java -jar tinylog-binary-decoder.jar [-format <pattern>] [-exception <filters>] <file>...";
+
+	private final Token token;
+	private final StringBuilder builder;
+
+	/**
+	 * @param pattern
+	 *            Format pattern for rendering log entries
+	 * @param filters
+	 *            Comma separated list of throwable filters or {@code null}
+	 */
+	public BinaryDecoder(final String pattern, final String filters) {
+		token = new FormatPatternParser(filters).parse(pattern + NEW_LINE);
+		builder = new StringBuilder(BUILDER_CAPACITY);
+	}
+
+	/**
+	 * Converts binary log files into text and outputs the text to {@link System#out}. Options "-format" for the format
+	 * pattern and "-exception" for throwable filters can be passed before the paths to the binary log files.
+	 *
+	 * @param arguments
+	 *            Command line arguments
+	 */
+	public static void main(final String[] arguments) {
+		String pattern = DEFAULT_FORMAT_PATTERN;
+		String filters = null;
+
+		int index = 0;
+		while (index < arguments.length - 1 && arguments[index].startsWith("-")) {
+			if ("-format".equals(arguments[index])) {
+				pattern = arguments[index + 1];
+			} else if ("-exception".equals(arguments[index])) {
+				filters = arguments[index + 1];
+			} else {
+				System.err.println("Unknown option '" + arguments[index] + "'");
+				System.err.println(USAGE);
+				return;
+			}
+			index += 2;
+		}
+
+		if (index >= arguments.length) {
+			System.err.println(USAGE);
+			return;
+		}
+
+		BinaryDecoder decoder = new BinaryDecoder(pattern, filters);
+
+		for (int i = index; i < arguments.length; ++i) {
+			try {
+				InputStream stream = new BufferedInputStream(new FileInputStream(arguments[i]));
+				try {
+					decoder.decode(stream, System.out);
+				} finally {
+					stream.close();
+				}
+			} catch (IOException ex) {
+				System.err.println("Failed to decode '" + arguments[i] + "': " + ex.getMessage());
+			}
+		}
+
+		System.out.flush();
+	}
+
+	/**
+	 * Converts all log entries of a binary log file into text.
+	 *
+	 * @param input
+	 *            Input stream of a binary log file
+	 * @param output
+	 *            Print stream for outputting rendered log entries
+	 * @throws IOException
+	 *             Binary log file cannot be read or is corrupted
+	 */
+	public void decode(final InputStream input, final PrintStream output) throws IOException {
+		BinaryReader reader = new BinaryReader(input);
+		for (LogEntry logEntry = reader.read(); logEntry != null; logEntry = reader.read()) {
+			builder.setLength(0);
+			token.render(logEntry, builder);
+			output.append(builder);
+		}
+	}
+
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.decoder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Locale;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.tinylog.Level;
+import org.tinylog.core.LogEntry;
+import org.tinylog.format.AdvancedMessageFormatter;
+import org.tinylog.format.MessageFormatter;
+import org.tinylog.rules.SystemStreamCollector;
+import org.tinylog.runtime.RuntimeProvider;
+import org.tinylog.util.FileSystem;
+import org.tinylog.writers.BinaryWriter;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link BinaryDecoder}.
+ */
+public final class BinaryDecoderTest {
+
+	private static final String NEW_LINE = System.lineSeparator();
+
+	/**
+	 * Redirects and collects system output streams.
+	 */
+	@Rule
+	public final SystemStreamCollector systemStream = new SystemStreamCollector(true);
+
+	/**
+	 * Verifies that log entries of a binary log file can be rendered by a custom format pattern.
+	 *
+	 * @throws IOException
+	 *             Failed writing or reading file
+	 */
+	@Test
+	public void customFormatPattern() throws IOException {
+		String file = createBinaryLogFile();
+
+		BinaryDecoder.main(new String[] { "-format", "{level} {class-name}.{method}(): {message-only}", file });
+
+		assertThat(systemStream.consumeStandardOutput()).isEqualTo(
+			"INFO BinaryDecoderTest.customFormatPattern(): Hello World!" + NEW_LINE
+			+ "WARN BinaryDecoderTest.customFormatPattern(): 42 is the answer" + NEW_LINE
+			+ "ERROR BinaryDecoderTest.customFormatPattern(): Oops" + NEW_LINE
+		);
+	}
+
+	/**
+	 * Verifies that exceptions are rendered with stack trace and suppressed exceptions, and that throwable filters can be
+	 * applied.
+	 *
+	 * @throws IOException
+	 *             Failed writing or reading file
+	 */
+	@Test
+	public void exceptionWithFilter() throws IOException {
+		String file = createBinaryLogFile();
+
+		BinaryDecoder.main(new String[] { "-format", "{exception}", "-exception", "drop cause", file });
+
+		String output = systemStream.consumeStandardOutput();
+		assertThat(output).startsWith(NEW_LINE + NEW_LINE + IllegalStateException.class.getName() + ": Oops" + NEW_LINE + "\tat ");
+		assertThat(output).contains(BinaryDecoderTest.class.getName()).doesNotContain("Caused by");
+		assertThat(output).contains(NEW_LINE + "\tSuppressed: " + IOException.class.getName() + ": Close" + NEW_LINE);
+	}
+
+	/**
+	 * Verifies that the default format pattern of writers is used, if no custom format pattern is passed.
+	 *
+	 * @throws IOException
+	 *             Failed writing or reading file
+	 */
+	@Test
+	public void defaultFormatPattern() throws IOException {
+		String file = createBinaryLogFile();
+
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		try (FileInputStream input = new FileInputStream(file); PrintStream output = new PrintStream(stream, true, "UTF-8")) {
+			new BinaryDecoder("{date: yyyy-MM-dd} [{thread}] {class}.{method}()\n{level}: {message}", null).decode(input, output);
+		}
+
+		String prefix = LocalDate.now() + " [" + Thread.currentThread().getName() + "] " + BinaryDecoderTest.class.getName()
+			+ ".defaultFormatPattern()" + NEW_LINE;
+
+		assertThat(new String(stream.toByteArray(), StandardCharsets.UTF_8))
+			.startsWith(prefix + "INFO: Hello World!" + NEW_LINE + prefix + "WARN: 42 is the answer" + NEW_LINE + prefix + "ERROR: Oops");
+	}
+
+	/**
+	 * Verifies that the usage will be output, if no file is passed.
+	 */
+	@Test
+	public void missingFile() {
+		BinaryDecoder.main(new String[0]);
+		assertThat(systemStream.consumeErrorOutput()).startsWith("Usage:");
+	}
+
+	/**
+	 * Verifies that an unknown option will be reported.
+	 */
+	@Test
+	public void unknownOption() {
+		BinaryDecoder.main(new String[] { "-foo", "bar", "log.bin" });
+		assertThat(systemStream.consumeErrorOutput()).contains("-foo").contains("Usage:");
+	}
+
+	/**
+	 * Verifies that an error will be reported for a file that is not a binary log file.
+	 *
+	 * @throws IOException
+	 *             Failed creating temporary file
+	 */
+	@Test
+	public void invalidFile() throws IOException {
+		String file = FileSystem.createTemporaryFile("Hello World!");
+
+		BinaryDecoder.main(new String[] { file });
+		assertThat(systemStream.consumeStandardOutput()).isEmpty();
+		assertThat(systemStream.consumeErrorOutput()).contains(file).contains("not a binary log file");
+	}
+
+	/**
+	 * Creates a binary log file with three log entries issued by the calling method. The last log entry contains an
+	 * exception with cause and suppressed exception.
+	 *
+	 * @return Path to created binary log file
+	 * @throws IOException
+	 *             Failed writing file
+	 */
+	private static String createBinaryLogFile() throws IOException {
+		StackTraceElement caller = new Throwable().getStackTrace()[1];
+		AdvancedMessageFormatter formatter = new AdvancedMessageFormatter(Locale.ROOT, false);
+		Exception exception = new IllegalStateException("Oops", new NullPointerException());
+		exception.addSuppressed(new IOException("Close"));
+
+		String file = FileSystem.createTemporaryFile();
+		BinaryWriter writer = new BinaryWriter(singletonMap("file", file));
+		writer.write(createLogEntry(caller, Level.INFO, "Hello World!", null, null, null));
+		writer.write(createLogEntry(caller, Level.WARN, null, formatter, "{} is the answer", null, 42));
+		writer.write(createLogEntry(caller, Level.ERROR, "Oops", null, null, exception));
+		writer.close();
+		return file;
+	}
+
+	/**
+	 * Creates a log entry for the current thread.
+	 *
+	 * @param caller
+	 *            Issuing stack trace element
+	 * @param level
+	 *            Severity level
+	 * @param message
+	 *            Formatted text message
+	 * @param formatter
+	 *            Message formatter for message template
+	 * @param template
+	 *            Message template
+	 * @param exception
+	 *            Exception or throwable
+	 * @param arguments
+	 *            Arguments for message template
+	 * @return Created log entry
+	 */
+	private static LogEntry createLogEntry(final StackTraceElement caller, final Level level, final String message,
+		final MessageFormatter formatter, final String template, final Throwable exception, final Object... arguments) {
+		return new LogEntry(RuntimeProvider.createTimestamp(), Thread.currentThread(), emptyMap(), caller.getClassName(),
+			caller.getMethodName(), caller.getFileName(), caller.getLineNumber(), null, level, message, exception, formatter, template,
+			template == null ? null : arguments);
+	}
+
+}
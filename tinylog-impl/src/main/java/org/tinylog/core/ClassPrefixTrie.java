@@ -0,0 +1,186 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+/**
+ * Immutable character trie for checking whether a class name starts with any of a set of package or class prefixes.
+ *
+ * <p>
+ * A prefix matches a class name only at package or inner class boundaries. For example, the prefix {@code org.test}
+ * matches the class names {@code org.test.Foo} and {@code org.test.Foo$Bar}, but not {@code org.tester.Foo}. Lookups
+ * traverse the class name character by character and don't allocate any objects.
+ * </p>
+ */
+final class ClassPrefixTrie {
+
+	private final Node root;
+
+	/**
+	 * @param prefixes
+	 *            Package or class prefixes
+	 */
+	ClassPrefixTrie(final Collection<String> prefixes) {
+		Builder builder = new Builder();
+		for (String prefix : prefixes) {
+			String normalized = prefix.endsWith(".") ? prefix.substring(0, prefix.length() - 1) : prefix;
+			if (!normalized.isEmpty()) {
+				builder.add(normalized);
+			}
+		}
+		root = builder.build();
+	}
+
+	/**
+	 * Checks whether a class name starts with any of the prefixes.
+	 *
+	 * @param className
+	 *            Fully-qualified class name
+	 * @return {@code true} if the passed class name belongs to a prefix, {@code false} if not
+	 */
+	boolean contains(final String className) {
+		if (className == null) {
+			return false;
+		}
+
+		Node node = root;
+		int length = className.length();
+
+		for (int i = 0; i < length; ++i) {
+			char character = className.charAt(i);
+			if (node.terminal && (character == '.' || character == '$')) {
+				return true;
+			}
+
+			node = node.get(character);
+			if (node == null) {
+				return false;
+			}
+		}
+
+		return node.terminal;
+	}
+
+	/**
+	 * Single node of the trie with sorted outgoing edges.
+	 */
+	private static final class Node {
+
+		private static final Node[] NO_CHILDREN = new Node[0];
+
+		private final char[] keys;
+		private final Node[] children;
+		private final boolean terminal;
+
+		/**
+		 * @param keys
+		 *            Sorted characters of outgoing edges
+		 * @param children
+		 *            Child nodes in the same order as the keys
+		 * @param terminal
+		 *            Defines whether a prefix ends at this node
+		 */
+		private Node(final char[] keys, final Node[] children, final boolean terminal) {
+			this.keys = keys;
+			this.children = children.length == 0 ? NO_CHILDREN : children;
+			this.terminal = terminal;
+		}
+
+		/**
+		 * Gets the child node for a character.
+		 *
+		 * @param character
+		 *            Next character
+		 * @return Child node or {@code null} if there is no outgoing edge for the passed character
+		 */
+		private Node get(final char character) {
+			int low = 0;
+			int high = keys.length - 1;
+
+			while (low <= high) {
+				int middle = (low + high) >>> 1;
+				char key = keys[middle];
+				if (key < character) {
+					low = middle + 1;
+				} else if (key > character) {
+					high = middle - 1;
+				} else {
+					return children[middle];
+				}
+			}
+
+			return null;
+		}
+
+	}
+
+	/**
+	 * Mutable builder for creating an immutable tree of nodes.
+	 */
+	private static final class Builder {
+
+		private final Map<Character, Builder> children;
+		private boolean terminal;
+
+		/** */
+		private Builder() {
+			children = new TreeMap<Character, Builder>();
+		}
+
+		/**
+		 * Adds a prefix.
+		 *
+		 * @param prefix
+		 *            Prefix to add
+		 */
+		private void add(final String prefix) {
+			Builder builder = this;
+			for (int i = 0; i < prefix.length(); ++i) {
+				Character character = prefix.charAt(i);
+				Builder child = builder.children.get(character);
+				if (child == null) {
+					child = new Builder();
+					builder.children.put(character, child);
+				}
+				builder = child;
+			}
+			builder.terminal = true;
+		}
+
+		/**
+		 * Creates the immutable node.
+		 *
+		 * @return Created node with all child nodes
+		 */
+		private Node build() {
+			char[] keys = new char[children.size()];
+			Node[] nodes = new Node[children.size()];
+
+			int index = 0;
+			for (Entry<Character, Builder> entry : children.entrySet()) {
+				keys[index] = entry.getKey();
+				nodes[index] = entry.getValue().build();
+				index += 1;
+			}
+
+			return new Node(keys, nodes, terminal);
+		}
+
+	}
+
+}
@@ -14,6 +14,7 @@
 package org.tinylog.core;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -21,12 +22,17 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import org.tinylog.Level;
 import org.tinylog.configuration.Configuration;
 import org.tinylog.configuration.ServiceLoader;
+import org.tinylog.filters.Filter;
 import org.tinylog.provider.InternalLogger;
 import org.tinylog.runtime.RuntimeProvider;
+import org.tinylog.writers.DeduplicatingWriterDecorator;
 import org.tinylog.writers.Writer;
 
 /**
@@ -36,6 +42,8 @@ import org.tinylog.writers.Writer;
  */
 public final class ConfigurationParser {
 
+	private static final int DEFAULT_FILTER_SUMMARY_INTERVAL = 60;
+
 	/** */
 	private ConfigurationParser() {
 	}
@@ -67,21 +75,42 @@ public final class ConfigurationParser {
 	}
 
 	/**
-	 * Loads all tags from writers in configuration.
+	 * Loads all tags from writers in configuration. Writers can define multiple comma-separated tags. Tag patterns with
+	 * wildcards are not included.
 	 *
 	 * @return Found tags
 	 */
 	public static List<String> getTags() {
 		List<String> tags = new ArrayList<String>();
 		for (String writerProperty : Configuration.getSiblings("writer").keySet()) {
-			String tag = Configuration.get(writerProperty + ".tag");
-			if (tag != null && !tag.isEmpty() && !tag.equals("-") && !tags.contains(tag)) {
-				tags.add(tag);
+			for (String tag : parseTags(Configuration.get(writerProperty + ".tag"))) {
+				if (!tag.equals("-") && !Wildcards.contains(tag) && !tags.contains(tag)) {
+					tags.add(tag);
+				}
 			}
 		}
 		return tags;
 	}
 
+	/**
+	 * Loads all tag patterns with wildcards from writers in configuration.
+	 *
+	 * @return Found tag patterns in alphabetical order
+	 */
+	public static List<String> getTagPatterns() {
+		List<String> patterns = new ArrayList<String>();
+		for (String writerProperty : Configuration.getSiblings("writer").keySet()) {
+			for (String tag : parseTags(Configuration.get(writerProperty + ".tag"))) {
+				if (Wildcards.contains(tag) && !patterns.contains(tag)) {
+					patterns.add(tag);
+				}
+			}
+		}
+
+		Collections.sort(patterns);
+		return patterns;
+	}
+
 	/**
 	 * Detects whether writing thread is enabled in configuration.
 	 *
@@ -91,6 +120,45 @@ public final class ConfigurationParser {
 		return "true".equalsIgnoreCase(Configuration.get("writingthread"));
 	}
 
+	/**
+	 * Reads the maximum number of stack trace elements per throwable for snapshots of exceptions and other throwables.
+	 * If enabled, snapshots are taken before passing log entries to the writing thread, so that the original throwables
+	 * can be garbage collected immediately.
+	 *
+	 * @return Maximum number of stack trace elements, or {@code -1} if snapshots are disabled
+	 */
+	public static int getExceptionSnapshotDepth() {
+		if (!"true".equalsIgnoreCase(Configuration.get("exception.snapshot"))) {
+			return -1;
+		}
+
+		String property = Configuration.get("exception.snapshot.depth");
+		if (property == null) {
+			return Integer.MAX_VALUE;
+		} else {
+			try {
+				int depth = Integer.parseInt(property.trim());
+				if (depth >= 0) {
+					return depth;
+				}
+			} catch (NumberFormatException ex) {
+				// Handled below
+			}
+
+			InternalLogger.log(Level.ERROR, "Invalid exception snapshot depth: " + property);
+			return Integer.MAX_VALUE;
+		}
+	}
+
+	/**
+	 * Detects whether scoped thread context is enabled in configuration.
+	 *
+	 * @return {@code true} if thread context is explicitly configured as "scoped", otherwise {@code false}
+	 */
+	public static boolean isScopedThreadContextEnabled() {
+		return "scoped".equalsIgnoreCase(Configuration.get("threadcontext"));
+	}
+
 	/**
 	 * Detects whether auto shutdown is enabled in configuration.
 	 *
@@ -100,6 +168,48 @@ public final class ConfigurationParser {
 		return !"false".equalsIgnoreCase(Configuration.get("autoshutdown"));
 	}
 
+	/**
+	 * Creates all configured filters.
+	 *
+	 * @return Created filters or an empty list if there are no filters configured
+	 */
+	public static List<Filter> createFilters() {
+		String property = Configuration.get("filter");
+		if (property == null || property.isEmpty()) {
+			return Collections.emptyList();
+		} else {
+			if (RuntimeProvider.getProcessId() == Long.MIN_VALUE) {
+				java.util.ServiceLoader.load(Filter.class); // Workaround for ProGuard (see issue #126)
+			}
+
+			return new ServiceLoader<Filter>(Filter.class, String.class).createList(property);
+		}
+	}
+
+	/**
+	 * Reads the interval for outputting summaries of log entries that have been discarded by filters.
+	 *
+	 * @return Interval in seconds, or {@code 0} if summaries are disabled
+	 */
+	public static int getFilterSummaryInterval() {
+		String property = Configuration.get("filter.summary");
+		if (property == null) {
+			return DEFAULT_FILTER_SUMMARY_INTERVAL;
+		} else {
+			try {
+				int interval = Integer.parseInt(property.trim());
+				if (interval >= 0) {
+					return interval;
+				}
+			} catch (NumberFormatException ex) {
+				// Handled below
+			}
+
+			InternalLogger.log(Level.ERROR, "Invalid filter summary interval: " + property);
+			return DEFAULT_FILTER_SUMMARY_INTERVAL;
+		}
+	}
+
 	/**
 	 * Creates a two-dimensional matrix with all configured writers. The first dimension represents the tags. It starts
 	 * with untagged writers, following with all tagged writers and ending with writers that accepts all kind of log
@@ -114,13 +224,36 @@ public final class ConfigurationParser {
 	 *            Defines whether {@link WritingThread} is enabled
 	 * @return Matrix with all created writers
 	 */
-	@SuppressWarnings("unchecked")
 	public static Collection<Writer>[][] createWriters(final List<String> tags, final Level minimumLevel, final boolean writingThread) {
+		return createWriters(tags, Collections.<String>emptyList(), minimumLevel, writingThread);
+	}
+
+	/**
+	 * Creates a two-dimensional matrix with all configured writers. The first dimension represents the tags. It starts
+	 * with untagged writers, following with all tagged writers, following with one entry for each tag pattern, and
+	 * ending with writers that accepts all kind of log entries. The entry of a tag pattern contains all writers for
+	 * tags that match only this tag pattern. Tags that match several tag patterns have to be routed to the union of
+	 * the entries of their tag patterns. The second dimension represents the severity level. It starts with
+	 * {@link Level#TRACE} and ends with {@link Level#ERROR}.
+	 *
+	 * @param tags
+	 *            Order of defined tags
+	 * @param patterns
+	 *            Order of defined tag patterns with wildcards
+	 * @param minimumLevel
+	 *            Minimum global severity level
+	 * @param writingThread
+	 *            Defines whether {@link WritingThread} is enabled
+	 * @return Matrix with all created writers
+	 */
+	@SuppressWarnings("unchecked")
+	public static Collection<Writer>[][] createWriters(final List<String> tags, final List<String> patterns, final Level minimumLevel,
+		final boolean writingThread) {
 		if (RuntimeProvider.getProcessId() == Long.MIN_VALUE) {
 			java.util.ServiceLoader.load(Writer.class); // Workaround for ProGuard (see issue #126)
 		}
 
-		Collection<Writer>[][] matrix = new Collection[tags.size() + 2][Level.values().length - 1];
+		Collection<Writer>[][] matrix = new Collection[tags.size() + patterns.size() + 2][Level.values().length - 1];
 		ServiceLoader<Writer> loader = new ServiceLoader<Writer>(Writer.class, Map.class);
 
 		Map<String, String> writerProperties = Configuration.getSiblings("writer");
@@ -137,27 +270,49 @@ public final class ConfigurationParser {
 			if (level.ordinal() < minimumLevel.ordinal()) {
 				level = minimumLevel;
 			}
+
+			Level maxLevel = parse(configuration.get("maxlevel"), Level.ERROR);
 			
 			String exception = Configuration.get("exception");
 			if (exception != null && !configuration.containsKey("exception")) {
 				configuration.put("exception", exception);
 			}
 
+			String dedup = configuration.remove("dedup");
+
+			Map<String, String> filters = new HashMap<String, String>();
+			for (String key : new ArrayList<String>(configuration.keySet())) {
+				if (key.startsWith("filter.")) {
+					filters.put(key.substring("filter.".length()), configuration.remove(key));
+				}
+			}
+
 			configuration.remove("tag");
 			configuration.remove("level");
+			configuration.remove("maxlevel");
 
 			configuration.put("writingthread", Boolean.toString(writingThread));
 
 			Writer writer = loader.create(entry.getValue(), configuration);
+			if (writer != null && dedup != null) {
+				long interval = parseDuration(dedup);
+				if (interval > 0) {
+					writer = new DeduplicatingWriterDecorator(writer, interval);
+				} else {
+					InternalLogger.log(Level.ERROR, "Invalid deduplication interval: " + dedup);
+				}
+			}
+
+			if (writer != null && !filters.isEmpty()) {
+				writer = createFilteredWriter(writer, filters);
+			}
+
 			if (writer != null) {
-				if (tag == null || tag.isEmpty()) {
-					for (int tagIndex = 0; tagIndex < matrix.length; ++tagIndex) {
-						addWriter(writer, matrix, tagIndex, level);
+				boolean[] tagIndices = getTagIndices(parseTags(tag), tags, patterns, matrix.length);
+				for (int tagIndex = 0; tagIndex < matrix.length; ++tagIndex) {
+					if (tagIndices[tagIndex]) {
+						addWriter(writer, matrix, tagIndex, level, maxLevel);
 					}
-				} else if (tag.equals("-")) {
-					addWriter(writer, matrix, 0, level);
-				} else {
-					addWriter(writer, matrix, tags.indexOf(tag) + 1, level);
 				}
 			}
 		}
@@ -173,9 +328,118 @@ public final class ConfigurationParser {
 		return matrix;
 	}
 
+	/**
+	 * Splits a comma-separated list of tags.
+	 *
+	 * @param property
+	 *            Comma-separated tags or {@code null}
+	 * @return All found tags (list will be empty if there are no tags)
+	 */
+	private static List<String> parseTags(final String property) {
+		List<String> tags = new ArrayList<String>();
+		if (property != null) {
+			for (String tag : property.split(",")) {
+				String trimmed = tag.trim();
+				if (!trimmed.isEmpty()) {
+					tags.add(trimmed);
+				}
+			}
+		}
+		return tags;
+	}
+
+	/**
+	 * Determines the indices in the writer matrix for the tags of a writer.
+	 *
+	 * @param writerTags
+	 *            Tags and tag patterns of the writer (an empty list accepts all tags)
+	 * @param tags
+	 *            Order of defined tags
+	 * @param patterns
+	 *            Order of defined tag patterns with wildcards
+	 * @param size
+	 *            Total number of tag indices in the writer matrix
+	 * @return Flags for all tag indices to which the writer has to be added
+	 */
+	private static boolean[] getTagIndices(final List<String> writerTags, final List<String> tags, final List<String> patterns,
+		final int size) {
+		boolean[] indices = new boolean[size];
+
+		if (writerTags.isEmpty()) {
+			Arrays.fill(indices, true);
+		} else {
+			for (String tag : writerTags) {
+				if (tag.equals("-")) {
+					indices[0] = true;
+				} else if (Wildcards.contains(tag)) {
+					for (int i = 0; i < tags.size(); ++i) {
+						if (Wildcards.matches(tag, tags.get(i))) {
+							indices[i + 1] = true;
+						}
+					}
+
+					int index = patterns.indexOf(tag);
+					if (index >= 0) {
+						indices[tags.size() + index + 1] = true;
+					}
+				} else {
+					indices[tags.indexOf(tag) + 1] = true;
+				}
+			}
+		}
+
+		return indices;
+	}
+
+	/**
+	 * Wraps a writer with filter conditions from configuration. Supported conditions are {@code tag} (comma-separated
+	 * tag patterns with optional wildcards or "-" for untagged log entries), {@code class} (comma-separated package or
+	 * class prefixes), {@code message} (text that must be contained in the message), and {@code regex} (regular
+	 * expression that must be found in the message).
+	 *
+	 * @param writer
+	 *            Writer to wrap
+	 * @param filters
+	 *            Filter conditions without "filter." prefix
+	 * @return Filtered writer or the passed writer itself if there are no valid filter conditions
+	 */
+	private static Writer createFilteredWriter(final Writer writer, final Map<String, String> filters) {
+		String[] tags = null;
+		ClassPrefixTrie classes = null;
+		String text = null;
+		Pattern pattern = null;
+
+		for (Entry<String, String> entry : filters.entrySet()) {
+			String key = entry.getKey();
+			String value = entry.getValue();
+
+			if ("tag".equals(key)) {
+				tags = value.trim().split("\\s*,\\s*");
+			} else if ("class".equals(key)) {
+				classes = new ClassPrefixTrie(Arrays.asList(value.trim().split("\\s*,\\s*")));
+			} else if ("message".equals(key)) {
+				text = value;
+			} else if ("regex".equals(key)) {
+				try {
+					pattern = Pattern.compile(value);
+				} catch (PatternSyntaxException ex) {
+					InternalLogger.log(Level.ERROR, "Invalid regular expression for writer filter: " + value);
+				}
+			} else {
+				InternalLogger.log(Level.ERROR, "Unknown writer filter: " + key);
+			}
+		}
+
+		if (tags == null && classes == null && text == null && pattern == null) {
+			return writer;
+		} else {
+			return new FilteredWriter(writer, tags, classes, text, pattern);
+		}
+	}
+
 	/**
 	 * Adds a writer to a well-defined matrix. The given writer will be added only at the given tag index for severity
-	 * levels equal or above the given severity level.
+	 * levels between the given minimum and maximum severity levels.
 	 *
 	 * @param writer
 	 *            Writer to add
@@ -184,10 +448,13 @@ public final class ConfigurationParser {
 	 * @param tagIndex
 	 *            Represents the tag (first dimension of matrix)
 	 * @param level
-	 *            Represents the severity level (second dimension of matrix)
+	 *            Represents the minimum severity level (second dimension of matrix)
+	 * @param maxLevel
+	 *            Represents the maximum severity level (second dimension of matrix)
 	 */
-	private static void addWriter(final Writer writer, final Collection<Writer>[][] matrix, final int tagIndex, final Level level) {
-		for (int levelIndex = level.ordinal(); levelIndex < Level.OFF.ordinal(); ++levelIndex) {
+	private static void addWriter(final Writer writer, final Collection<Writer>[][] matrix, final int tagIndex, final Level level,
+		final Level maxLevel) {
+		for (int levelIndex = level.ordinal(); levelIndex <= maxLevel.ordinal() && levelIndex < Level.OFF.ordinal(); ++levelIndex) {
 			Collection<Writer> collection = matrix[tagIndex][levelIndex];
 			if (collection == null) {
 				collection = new ArrayList<Writer>();
@@ -197,6 +464,41 @@ public final class ConfigurationParser {
 		}
 	}
 
+	/**
+	 * Parses a duration with time unit (for example "500ms", "5s", "1m", or "1h"). Durations without time unit are
+	 * interpreted as seconds.
+	 *
+	 * @param value
+	 *            Duration to parse
+	 * @return Duration in nanoseconds or {@code -1} if the passed value is invalid
+	 */
+	private static long parseDuration(final String value) {
+		String duration = value.trim().toLowerCase(Locale.ROOT);
+
+		TimeUnit unit;
+		if (duration.endsWith("ms")) {
+			unit = TimeUnit.MILLISECONDS;
+			duration = duration.substring(0, duration.length() - "ms".length());
+		} else if (duration.endsWith("s")) {
+			unit = TimeUnit.SECONDS;
+			duration = duration.substring(0, duration.length() - "s".length());
+		} else if (duration.endsWith("m")) {
+			unit = TimeUnit.MINUTES;
+			duration = duration.substring(0, duration.length() - "m".length());
+		} else if (duration.endsWith("h")) {
+			unit = TimeUnit.HOURS;
+			duration = duration.substring(0, duration.length() - "h".length());
+		} else {
+			unit = TimeUnit.SECONDS;
+		}
+
+		try {
+			return unit.toNanos(Long.parseLong(duration.trim()));
+		} catch (NumberFormatException ex) {
+			return -1;
+		}
+	}
+
 	/**
 	 * Reads a severity level from configuration.
 	 *
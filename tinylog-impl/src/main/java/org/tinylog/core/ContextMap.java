@@ -0,0 +1,275 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Immutable map for thread context values. Keys and values are stored alternately in a single array that is sorted by
+ * keys. Lookups use binary search. Adding or removing a mapping creates a new map and leaves the original map untouched,
+ * so that already issued log entries keep their snapshot of the thread context. Like for a hash map, {@code null} is
+ * a valid key. It is sorted before all other keys.
+ *
+ * <p>
+ * Thread contexts usually contain only a few mappings. For such small maps, copying a single array is much cheaper than
+ * copying a hash map, and each modification allocates only one array and one map object.
+ * </p>
+ */
+final class ContextMap extends AbstractMap<String, String> {
+
+	/**
+	 * Map without any mappings.
+	 */
+	static final ContextMap EMPTY = new ContextMap(new String[0]);
+
+	private static final Comparator<String> KEY_ORDER = new KeyComparator();
+
+	private final String[] entries;
+
+	/**
+	 * @param entries
+	 *            Keys and values alternately, sorted by keys
+	 */
+	private ContextMap(final String[] entries) {
+		this.entries = entries;
+	}
+
+	/**
+	 * Gets a context map with the same mappings as the passed map. Mappings with {@code null} as value are ignored.
+	 *
+	 * @param map
+	 *            Source map
+	 * @return Passed map itself, if it is already a context map, otherwise a new context map
+	 */
+	static ContextMap of(final Map<String, String> map) {
+		if (map instanceof ContextMap) {
+			return (ContextMap) map;
+		} else if (map.isEmpty()) {
+			return EMPTY;
+		} else {
+			Map<String, String> sorted = new TreeMap<String, String>(KEY_ORDER);
+			for (Map.Entry<String, String> entry : map.entrySet()) {
+				if (entry.getValue() != null) {
+					sorted.put(entry.getKey(), entry.getValue());
+				}
+			}
+
+			String[] entries = new String[sorted.size() * 2];
+			int index = 0;
+			for (Map.Entry<String, String> entry : sorted.entrySet()) {
+				entries[index++] = entry.getKey();
+				entries[index++] = entry.getValue();
+			}
+
+			return entries.length == 0 ? EMPTY : new ContextMap(entries);
+		}
+	}
+
+	@Override
+	public int size() {
+		return entries.length / 2;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return entries.length == 0;
+	}
+
+	@Override
+	public boolean containsKey(final Object key) {
+		return (key == null || key instanceof String) && find((String) key) >= 0;
+	}
+
+	@Override
+	public String get(final Object key) {
+		if (key == null || key instanceof String) {
+			int index = find((String) key);
+			return index >= 0 ? entries[index * 2 + 1] : null;
+		} else {
+			return null;
+		}
+	}
+
+	@Override
+	public Set<Map.Entry<String, String>> entrySet() {
+		return new EntrySet();
+	}
+
+	/**
+	 * Creates a new map that contains all mappings of this map plus the passed mapping. An existing mapping with the
+	 * same key will be replaced.
+	 *
+	 * @param key
+	 *            Key of mapping
+	 * @param value
+	 *            Value of mapping
+	 * @return New map with passed mapping
+	 */
+	ContextMap with(final String key, final String value) {
+		int index = find(key);
+
+		if (index >= 0) {
+			if (value.equals(entries[index * 2 + 1])) {
+				return this;
+			} else {
+				String[] copy = entries.clone();
+				copy[index * 2 + 1] = value;
+				return new ContextMap(copy);
+			}
+		} else {
+			int position = (-index - 1) * 2;
+			String[] copy = new String[entries.length + 2];
+			System.arraycopy(entries, 0, copy, 0, position);
+			copy[position] = key;
+			copy[position + 1] = value;
+			System.arraycopy(entries, position, copy, position + 2, entries.length - position);
+			return new ContextMap(copy);
+		}
+	}
+
+	/**
+	 * Creates a new map that contains all mappings of this map except the mapping with the passed key.
+	 *
+	 * @param key
+	 *            Key of mapping to remove
+	 * @return New map without passed key or this map if there is no mapping with the passed key
+	 */
+	ContextMap without(final String key) {
+		int index = find(key);
+
+		if (index < 0) {
+			return this;
+		} else if (entries.length == 2) {
+			return EMPTY;
+		} else {
+			int position = index * 2;
+			String[] copy = new String[entries.length - 2];
+			System.arraycopy(entries, 0, copy, 0, position);
+			System.arraycopy(entries, position + 2, copy, position, entries.length - position - 2);
+			return new ContextMap(copy);
+		}
+	}
+
+	/**
+	 * Searches for a key via binary search.
+	 *
+	 * @param key
+	 *            Key to search for (can be {@code null})
+	 * @return Index of mapping if found, otherwise {@code (-(insertion index) - 1)}
+	 */
+	private int find(final String key) {
+		int low = 0;
+		int high = entries.length / 2 - 1;
+
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			int comparison = KEY_ORDER.compare(entries[middle * 2], key);
+
+			if (comparison < 0) {
+				low = middle + 1;
+			} else if (comparison > 0) {
+				high = middle - 1;
+			} else {
+				return middle;
+			}
+		}
+
+		return -(low + 1);
+	}
+
+	/**
+	 * Natural order of strings with {@code null} before all other strings.
+	 */
+	private static final class KeyComparator implements Comparator<String> {
+
+		/** */
+		private KeyComparator() {
+		}
+
+		@Override
+		public int compare(final String first, final String second) {
+			if (first == null) {
+				return second == null ? 0 : -1;
+			} else if (second == null) {
+				return 1;
+			} else {
+				return first.compareTo(second);
+			}
+		}
+
+	}
+
+	/**
+	 * Read-only view of all mappings.
+	 */
+	private final class EntrySet extends AbstractSet<Map.Entry<String, String>> {
+
+		/** */
+		private EntrySet() {
+		}
+
+		@Override
+		public int size() {
+			return entries.length / 2;
+		}
+
+		@Override
+		public Iterator<Map.Entry<String, String>> iterator() {
+			return new EntryIterator();
+		}
+
+	}
+
+	/**
+	 * Read-only iterator over all mappings.
+	 */
+	private final class EntryIterator implements Iterator<Map.Entry<String, String>> {
+
+		private int index;
+
+		/** */
+		private EntryIterator() {
+		}
+
+		@Override
+		public boolean hasNext() {
+			return index < entries.length;
+		}
+
+		@Override
+		public Map.Entry<String, String> next() {
+			if (index >= entries.length) {
+				throw new NoSuchElementException();
+			}
+
+			Map.Entry<String, String> entry = new SimpleImmutableEntry<String, String>(entries[index], entries[index + 1]);
+			index += 2;
+			return entry;
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+
+	}
+
+}
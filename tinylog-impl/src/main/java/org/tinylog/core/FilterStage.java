@@ -0,0 +1,110 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.tinylog.Level;
+import org.tinylog.filters.Filter;
+
+/**
+ * Chain of filters that is applied before creating log entries. The filter stage counts all discarded log entries for
+ * outputting periodic summaries.
+ */
+final class FilterStage {
+
+	private final Filter[] filters;
+	private final long interval;
+	private final AtomicLong discarded;
+	private final AtomicLong nextSummary;
+
+	/**
+	 * @param filters
+	 *            Filters to apply
+	 * @param interval
+	 *            Interval in nanoseconds for summaries of discarded log entries ({@code 0} for disabling summaries)
+	 */
+	FilterStage(final List<Filter> filters, final long interval) {
+		this.filters = filters.toArray(new Filter[filters.size()]);
+		this.interval = interval;
+		this.discarded = new AtomicLong();
+		this.nextSummary = new AtomicLong(System.nanoTime() + interval);
+	}
+
+	/**
+	 * Gets all log entry values that are required by at least one filter.
+	 *
+	 * @return Required log entry values
+	 */
+	Collection<LogEntryValue> getRequiredLogEntryValues() {
+		Set<LogEntryValue> values = EnumSet.noneOf(LogEntryValue.class);
+		for (Filter filter : filters) {
+			values.addAll(filter.getRequiredLogEntryValues());
+		}
+		return values;
+	}
+
+	/**
+	 * Decides whether a log entry will be output. A log entry will be only output if all filters accept it.
+	 *
+	 * @param caller
+	 *            Stack trace element of the caller or {@code null}
+	 * @param tag
+	 *            Tag of log entry or {@code null} if untagged
+	 * @param level
+	 *            Severity level of log entry
+	 * @param message
+	 *            Message template, message object, or {@code null}
+	 * @return {@code true} if the log entry will be output, {@code false} if the log entry will be discarded
+	 */
+	boolean accept(final StackTraceElement caller, final String tag, final Level level, final Object message) {
+		for (Filter filter : filters) {
+			if (!filter.accept(caller, tag, level, message)) {
+				discarded.incrementAndGet();
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks whether a summary of discarded log entries is due. If so, the counter of discarded log entries is reset.
+	 *
+	 * @return Number of discarded log entries since the last summary, or {@code 0} if no summary is due
+	 */
+	long pollSummary() {
+		if (interval > 0 && discarded.get() > 0) {
+			long now = System.nanoTime();
+			long due = nextSummary.get();
+			if (now - due >= 0 && nextSummary.compareAndSet(due, now + interval)) {
+				return discarded.getAndSet(0);
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Gets the number of all discarded log entries since the last summary and resets the counter.
+	 *
+	 * @return Number of discarded log entries since the last summary
+	 */
+	long drain() {
+		return interval > 0 ? discarded.getAndSet(0) : 0;
+	}
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.tinylog.writers.Writer;
+
+/**
+ * Wrapper for writers with filter conditions that have been compiled from configuration at startup.
+ *
+ * <p>
+ * The logging provider evaluates {@link #accept(LogEntry)} before passing a log entry to a writer or enqueuing it for
+ * the writing thread. Thereby, log entries that don't match are never handed over to the underlying writer. All
+ * defined conditions must be fulfilled for accepting a log entry.
+ * </p>
+ */
+final class FilteredWriter implements Writer {
+
+	private static final String UNTAGGED = "-";
+
+	private final Writer writer;
+	private final String[] tags;
+	private final ClassPrefixTrie classes;
+	private final String text;
+	private final Pattern pattern;
+
+	/**
+	 * @param writer
+	 *            Underlying writer
+	 * @param tags
+	 *            Tag patterns with optional wildcards ({@code *} and {@code ?}) or {@code null} for accepting all tags
+	 * @param classes
+	 *            Package or class prefixes or {@code null} for accepting all classes
+	 * @param text
+	 *            Text that must be contained in the message or {@code null} for accepting all messages
+	 * @param pattern
+	 *            Regular expression that must be found in the message or {@code null} for accepting all messages
+	 */
+	FilteredWriter(final Writer writer, final String[] tags, final ClassPrefixTrie classes, final String text, final Pattern pattern) {
+		this.writer = writer;
+		this.tags = tags;
+		this.classes = classes;
+		this.text = text;
+		this.pattern = pattern;
+	}
+
+	/**
+	 * Gets the underlying writer.
+	 *
+	 * @return Wrapped writer
+	 */
+	Writer getWriter() {
+		return writer;
+	}
+
+	/**
+	 * Checks whether a log entry fulfills all filter conditions.
+	 *
+	 * @param logEntry
+	 *            Log entry to check
+	 * @return {@code true} if the log entry should be output by the underlying writer, {@code false} if not
+	 */
+	boolean accept(final LogEntry logEntry) {
+		if (tags != null && !matchesAnyTag(logEntry.getTag())) {
+			return false;
+		} else if (classes != null && !classes.contains(logEntry.getClassName())) {
+			return false;
+		}
+
+		String message = logEntry.getMessage();
+		if (text != null && (message == null || !message.contains(text))) {
+			return false;
+		} else {
+			return pattern == null || message != null && pattern.matcher(message).find();
+		}
+	}
+
+	@Override
+	public Collection<LogEntryValue> getRequiredLogEntryValues() {
+		Set<LogEntryValue> values = EnumSet.noneOf(LogEntryValue.class);
+		values.addAll(writer.getRequiredLogEntryValues());
+
+		if (tags != null) {
+			values.add(LogEntryValue.TAG);
+		}
+
+		if (classes != null) {
+			values.add(LogEntryValue.CLASS);
+		}
+
+		if (text != null || pattern != null) {
+			values.add(LogEntryValue.MESSAGE);
+		}
+
+		return values;
+	}
+
+	@Override
+	public void write(final LogEntry logEntry) throws Exception {
+		writer.write(logEntry);
+	}
+
+	@Override
+	public void flush() throws Exception {
+		writer.flush();
+	}
+
+	@Override
+	public void close() throws Exception {
+		writer.close();
+	}
+
+	/**
+	 * Checks whether a tag matches any of the defined tag patterns.
+	 *
+	 * @param tag
+	 *            Tag of log entry or {@code null} if untagged
+	 * @return {@code true} if the tag matches, {@code false} if not
+	 */
+	private boolean matchesAnyTag(final String tag) {
+		for (String candidate : tags) {
+			if (tag == null ? UNTAGGED.equals(candidate) : Wildcards.matches(candidate, tag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
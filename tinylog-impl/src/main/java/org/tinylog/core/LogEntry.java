@@ -16,13 +16,19 @@ package org.tinylog.core;
 import java.util.Map;
 
 import org.tinylog.Level;
+import org.tinylog.format.AbstractMessageFormatter;
+import org.tinylog.format.MessageFormatter;
 import org.tinylog.runtime.Timestamp;
 
 /**
- * Immutable holder of all required data for writing a log entry.
+ * Holder of all required data for writing a log entry. Apart from caching the lazily formatted text message, log
+ * entries are not modified after creation.
  *
  * <p>
- * A writer can only depend on values that have been requested. All other values are may {@code null}.
+ * A writer can only depend on values that have been requested. All other values are may {@code null}. The text
+ * message of log entries with arguments can be formatted lazily, when it is requested for the first time. In this
+ * case, the formatted text message is cached. Log entries should only be created with unformatted text messages, if
+ * they are output by the current thread before the arguments can change.
  * </p>
  */
 public final class LogEntry {
@@ -36,8 +42,11 @@ public final class LogEntry {
 	private final int lineNumber;
 	private final String tag;
 	private final Level level;
-	private final String message;
+	private String message;
 	private final Throwable exception;
+	private final MessageFormatter messageFormatter;
+	private final String messageTemplate;
+	private final Object[] messageArguments;
 
 	/**
 	 * @param timestamp
@@ -66,6 +75,43 @@ public final class LogEntry {
 	public LogEntry(final Timestamp timestamp, final Thread thread, final Map<String, String> context, final String className,
 		final String methodName, final String fileName, final int lineNumber, final String tag, final Level level,
 		final String message, final Throwable exception) {
+		this(timestamp, thread, context, className, methodName, fileName, lineNumber, tag, level, message, exception, null, null, null);
+	}
+
+	/**
+	 * @param timestamp
+	 *            Date and time of issuing this log entry
+	 * @param thread
+	 *            Thread that has issued this log entry
+	 * @param context
+	 *            Actual thread context mapping
+	 * @param className
+	 *            Name of class in which this log entry has been issued
+	 * @param methodName
+	 *            Name of method in which this log entry has been issued
+	 * @param fileName
+	 *            Name of source file in which this log entry has been issued
+	 * @param lineNumber
+	 *            Line number in source file where this log entry has been issued
+	 * @param tag
+	 *            Tag from logger if this log entry has been issued by a tagged logger
+	 * @param level
+	 *            Severity level of this log entry
+	 * @param message
+	 *            Text message of this log entry
+	 * @param exception
+	 *            Caught exception or throwable associated with this log entry
+	 * @param messageFormatter
+	 *            Formatter that is responsible for the message template
+	 * @param messageTemplate
+	 *            Unformatted text message with placeholders
+	 * @param messageArguments
+	 *            Resolved arguments for the placeholders of the message template
+	 */
+	public LogEntry(final Timestamp timestamp, final Thread thread, final Map<String, String> context, final String className,
+		final String methodName, final String fileName, final int lineNumber, final String tag, final Level level,
+		final String message, final Throwable exception, final MessageFormatter messageFormatter, final String messageTemplate,
+		final Object[] messageArguments) {
 		this.timestamp = timestamp;
 		this.thread = thread;
 		this.context = context;
@@ -77,6 +123,9 @@ public final class LogEntry {
 		this.level = level;
 		this.message = message;
 		this.exception = exception;
+		this.messageFormatter = messageFormatter;
+		this.messageTemplate = messageTemplate;
+		this.messageArguments = messageArguments;
 	}
 
 	/**
@@ -161,14 +210,56 @@ public final class LogEntry {
 	}
 
 	/**
-	 * Gets the text message of this log entry.
+	 * Gets the text message of this log entry. If this log entry has been created with a message template and
+	 * arguments but without a formatted text message, the message will be formatted on the first call.
 	 *
 	 * @return Text message
 	 */
 	public String getMessage() {
+		String message = this.message;
+		if (message == null && messageFormatter != null && messageTemplate != null) {
+			message = messageFormatter.format(messageTemplate, messageArguments);
+			this.message = message;
+		}
 		return message;
 	}
 
+	/**
+	 * Appends the text message of this log entry to a string builder. If the text message has not been formatted
+	 * yet, the message template will be formatted directly into the passed string builder without creating a
+	 * standalone string.
+	 *
+	 * <p>
+	 * Messages that are formatted directly into the passed string builder are not cached, as caching would require
+	 * exactly the standalone string that this method avoids. Lazy formatting is only used if all writers output log
+	 * entries immediately. Therefore, the arguments cannot change in between and formatting the message again for
+	 * further writers results in the same text. Messages from formatters that cannot format
+	 * into a string builder are cached like by {@link #getMessage()}.
+	 * </p>
+	 *
+	 * @param builder
+	 *            Target for the text message
+	 * @return {@code true} if a text message has been appended, {@code false} if this log entry has no text message
+	 */
+	public boolean appendMessage(final StringBuilder builder) {
+		String message = this.message;
+		if (message != null) {
+			builder.append(message);
+			return true;
+		} else if (messageFormatter instanceof AbstractMessageFormatter && messageTemplate != null) {
+			AbstractMessageFormatter formatter = (AbstractMessageFormatter) messageFormatter;
+			formatter.formatTo(builder, messageTemplate, messageArguments);
+			return true;
+		} else if (messageFormatter != null && messageTemplate != null) {
+			message = messageFormatter.format(messageTemplate, messageArguments);
+			this.message = message;
+			builder.append(message);
+			return true;
+		} else {
+			return false;
+		}
+	}
+
 	/**
 	 * Gets the caught exception or throwable associated with this log entry.
 	 *
@@ -178,4 +269,35 @@ public final class LogEntry {
 		return exception;
 	}
 
+	/**
+	 * Gets the formatter that is responsible for the message template. It is only available for log entries with
+	 * arguments.
+	 *
+	 * @return Message formatter
+	 */
+	public MessageFormatter getMessageFormatter() {
+		return messageFormatter;
+	}
+
+	/**
+	 * Gets the unformatted text message with placeholders. It is only available for log entries with arguments.
+	 *
+	 * @return Message template
+	 */
+	public String getMessageTemplate() {
+		return messageTemplate;
+	}
+
+	/**
+	 * Gets the resolved arguments for the placeholders of the message template. If the arguments have been requested,
+	 * they are either immutable values like strings, numbers, booleans and characters, copies of mutable numbers and
+	 * dates, or have already been converted into strings while issuing. Otherwise, they can be the original arguments
+	 * as passed to the logger.
+	 *
+	 * @return Message arguments
+	 */
+	public Object[] getMessageArguments() {
+		return messageArguments;
+	}
+
 }
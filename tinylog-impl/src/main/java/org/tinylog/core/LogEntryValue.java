@@ -88,6 +88,15 @@ public enum LogEntryValue {
 	 */
 	MESSAGE,
 
+	/**
+	 * Unformatted text message with its resolved arguments.
+	 *
+	 * @see LogEntry#getMessageFormatter()
+	 * @see LogEntry#getMessageTemplate()
+	 * @see LogEntry#getMessageArguments()
+	 */
+	ARGUMENTS,
+
 	/**
 	 * Caught exception or throwable.
 	 *
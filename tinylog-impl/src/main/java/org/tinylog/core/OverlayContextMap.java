@@ -0,0 +1,155 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Read-only view of a thread context with additional context values for a single log entry. The additional values
+ * override values with the same keys from the thread context. Neither the thread context nor the additional values
+ * are copied, so both maps must not be modified after creating the view.
+ */
+final class OverlayContextMap extends AbstractMap<String, String> {
+
+	private final Map<String, String> base;
+	private final Map<String, String> overlay;
+
+	/**
+	 * @param base
+	 *            Thread context values
+	 * @param overlay
+	 *            Additional context values that override the thread context values
+	 */
+	OverlayContextMap(final Map<String, String> base, final Map<String, String> overlay) {
+		this.base = base;
+		this.overlay = overlay;
+	}
+
+	@Override
+	public int size() {
+		int size = overlay.size();
+		for (String key : base.keySet()) {
+			if (!overlay.containsKey(key)) {
+				size += 1;
+			}
+		}
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return overlay.isEmpty() && base.isEmpty();
+	}
+
+	@Override
+	public boolean containsKey(final Object key) {
+		return overlay.containsKey(key) || base.containsKey(key);
+	}
+
+	@Override
+	public String get(final Object key) {
+		return overlay.containsKey(key) ? overlay.get(key) : base.get(key);
+	}
+
+	@Override
+	public Set<Map.Entry<String, String>> entrySet() {
+		return new EntrySet();
+	}
+
+	/**
+	 * Read-only view of all mappings.
+	 */
+	private final class EntrySet extends AbstractSet<Map.Entry<String, String>> {
+
+		/** */
+		private EntrySet() {
+		}
+
+		@Override
+		public int size() {
+			return OverlayContextMap.this.size();
+		}
+
+		@Override
+		public Iterator<Map.Entry<String, String>> iterator() {
+			return new EntryIterator();
+		}
+
+	}
+
+	/**
+	 * Read-only iterator over all additional values first and afterwards all not overridden thread context values.
+	 */
+	private final class EntryIterator implements Iterator<Map.Entry<String, String>> {
+
+		private final Iterator<Map.Entry<String, String>> overlayIterator;
+		private final Iterator<Map.Entry<String, String>> baseIterator;
+		private Map.Entry<String, String> next;
+
+		/** */
+		private EntryIterator() {
+			overlayIterator = overlay.entrySet().iterator();
+			baseIterator = base.entrySet().iterator();
+			next = findNext();
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next != null;
+		}
+
+		@Override
+		public Map.Entry<String, String> next() {
+			if (next == null) {
+				throw new NoSuchElementException();
+			}
+
+			Map.Entry<String, String> entry = next;
+			next = findNext();
+			return entry;
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+
+		/**
+		 * Finds the next mapping to return.
+		 *
+		 * @return Found mapping or {@code null} if there are no more mappings
+		 */
+		private Map.Entry<String, String> findNext() {
+			if (overlayIterator.hasNext()) {
+				return new SimpleImmutableEntry<String, String>(overlayIterator.next());
+			}
+
+			while (baseIterator.hasNext()) {
+				Map.Entry<String, String> entry = baseIterator.next();
+				if (!overlay.containsKey(entry.getKey())) {
+					return new SimpleImmutableEntry<String, String>(entry);
+				}
+			}
+
+			return null;
+		}
+
+	}
+
+}
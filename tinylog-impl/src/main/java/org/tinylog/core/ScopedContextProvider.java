@@ -0,0 +1,102 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.util.Map;
+
+import org.tinylog.provider.SnapshotContextProvider;
+
+/**
+ * Alternative context provider that stores thread context values in a non-inheritable {@link ThreadLocal}. Child
+ * threads start with an empty thread context, and values have to be passed explicitly via
+ * {@link org.tinylog.ThreadContext#capture()} and {@link org.tinylog.ThreadContext#restore(Map)}. Values should be
+ * bound via {@link org.tinylog.ThreadContext#with(String, Object)} for the execution of a task, so that no values
+ * remain on pooled threads afterwards.
+ *
+ * <p>
+ * This context provider is intended for applications with a large number of short-living threads, for which
+ * inheriting thread context values would be unnecessary overhead.
+ * </p>
+ */
+public final class ScopedContextProvider implements SnapshotContextProvider {
+
+	private final ThreadLocal<ContextMap> data;
+
+	/** */
+	public ScopedContextProvider() {
+		data = new ThreadLocal<ContextMap>();
+	}
+
+	@Override
+	public Map<String, String> getMapping() {
+		return current();
+	}
+
+	@Override
+	public String get(final String key) {
+		return current().get(key);
+	}
+
+	@Override
+	public void put(final String key, final Object value) {
+		if (value == null) {
+			remove(key);
+		} else {
+			store(current().with(key, value.toString()));
+		}
+	}
+
+	@Override
+	public void remove(final String key) {
+		store(current().without(key));
+	}
+
+	@Override
+	public void clear() {
+		data.remove();
+	}
+
+	@Override
+	public Map<String, String> replace(final Map<String, String> mapping) {
+		ContextMap previous = current();
+		store(ContextMap.of(mapping));
+		return previous;
+	}
+
+	/**
+	 * Gets the thread context values of the current thread.
+	 *
+	 * @return Stored values or an empty map if there are none
+	 */
+	private ContextMap current() {
+		ContextMap map = data.get();
+		return map == null ? ContextMap.EMPTY : map;
+	}
+
+	/**
+	 * Stores thread context values for the current thread. The thread local entry will be removed for empty maps, so
+	 * that threads without any values don't keep a reference.
+	 *
+	 * @param map
+	 *            Values to store
+	 */
+	private void store(final ContextMap map) {
+		if (map.isEmpty()) {
+			data.remove();
+		} else {
+			data.set(map);
+		}
+	}
+
+}
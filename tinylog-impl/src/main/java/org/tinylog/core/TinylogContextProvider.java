@@ -13,23 +13,22 @@
 
 package org.tinylog.core;
 
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 
-import org.tinylog.provider.ContextProvider;
+import org.tinylog.provider.SnapshotContextProvider;
 
 /**
  * tinylog's native context provider implementation uses a {@link InheritableThreadLocal} to store thread context
- * values.
+ * values. The values are stored in immutable maps. Therefore, maps can be shared with child threads and issued log
+ * entries without copying.
  */
-public class TinylogContextProvider implements ContextProvider {
+public class TinylogContextProvider implements SnapshotContextProvider {
 
-	private final ThreadLocal<Map<String, String>> data;
+	private final ThreadLocal<ContextMap> data;
 
 	/** */
 	public TinylogContextProvider() {
-		data = new InheritableEmptyMapThreadLocal<String, String>();
+		data = new InheritableEmptyMapThreadLocal();
 	}
 
 	@Override
@@ -44,45 +43,42 @@ public class TinylogContextProvider implements ContextProvider {
 
 	@Override
 	public void put(final String key, final Object value) {
-		Map<String, String> map = new HashMap<String, String>(data.get());
 		if (value == null) {
-			map.remove(key);
+			remove(key);
 		} else {
-			map.put(key, value.toString());
+			data.set(data.get().with(key, value.toString()));
 		}
-		data.set(Collections.unmodifiableMap(map));
 	}
 
 	@Override
 	public void remove(final String key) {
-		Map<String, String> map = new HashMap<String, String>(data.get());
-		map.remove(key);
-		data.set(map.isEmpty() ? Collections.<String, String>emptyMap() : Collections.unmodifiableMap(map));
-
+		data.set(data.get().without(key));
 	}
 
 	@Override
 	public void clear() {
-		data.set(Collections.<String, String>emptyMap());
+		data.set(ContextMap.EMPTY);
+	}
+
+	@Override
+	public Map<String, String> replace(final Map<String, String> mapping) {
+		Map<String, String> previous = data.get();
+		data.set(ContextMap.of(mapping));
+		return previous;
 	}
 
 	/**
 	 * Inheritable thread local with an empty map as initial value.
-	 *
-	 * @param <K>
-	 *            Type of map keys
-	 * @param <V>
-	 *            Type of map values
 	 */
-	private static final class InheritableEmptyMapThreadLocal<K, V> extends InheritableThreadLocal<Map<K, V>> {
+	private static final class InheritableEmptyMapThreadLocal extends InheritableThreadLocal<ContextMap> {
 
 		/** */
 		private InheritableEmptyMapThreadLocal() {
 		}
 
 		@Override
-		protected Map<K, V> initialValue() {
-			return Collections.emptyMap();
+		protected ContextMap initialValue() {
+			return ContextMap.EMPTY;
 		}
 
 	}
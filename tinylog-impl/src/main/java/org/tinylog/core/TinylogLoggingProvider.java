@@ -13,53 +13,87 @@
 
 package org.tinylog.core;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.tinylog.Level;
 import org.tinylog.Supplier;
+import org.tinylog.filters.Filter;
 import org.tinylog.format.MessageFormatter;
+import org.tinylog.provider.ClassAwareLoggingProvider;
 import org.tinylog.provider.ContextProvider;
 import org.tinylog.provider.InternalLogger;
-import org.tinylog.provider.LoggingProvider;
 import org.tinylog.runtime.RuntimeProvider;
 import org.tinylog.runtime.Timestamp;
+import org.tinylog.throwable.ThrowableSnapshot;
+import org.tinylog.writers.ImmediateWriter;
 import org.tinylog.writers.Writer;
 
 /**
  * tinylog's native logging provider implementation.
  */
-public class TinylogLoggingProvider implements LoggingProvider {
+public class TinylogLoggingProvider implements ClassAwareLoggingProvider {
 
-	private final TinylogContextProvider context;
+	private static final int MAXIMUM_RESOLVED_TAGS = 10000;
+
+	private final ContextProvider context;
 	private final Level globalLevel;
 	private final Map<String, Level> customLevels;
-	private final List<String> knownTags;
-	private final Collection<Writer>[][] writers;
-	private final Collection<LogEntryValue>[][] requiredLogEntryValues;
-	private final BitSet fullStackTraceRequired;
+	private final Map<String, Integer> tagIndices;
+	private final String[] tagPatterns;
+	private final int unknownTagIndex;
+	private final ConcurrentMap<String, Integer> resolvedTagIndices;
+	private final Map<BitSet, Integer> combinedTagIndices;
+	private final FilterStage filters;
+	private final Collection<Writer> summaryWriters;
+	private volatile Collection<Writer>[][] writers;
+	private volatile Collection<LogEntryValue>[][] requiredLogEntryValues;
+	private volatile BitSet fullStackTraceRequired;
+	private volatile boolean[][] lazyFormattingAllowed;
 	private final WritingThread writingThread;
+	private final int snapshotDepth;
 
 	/** */
 	public TinylogLoggingProvider() {
-		context = new TinylogContextProvider();
+		context = ConfigurationParser.isScopedThreadContextEnabled() ? new ScopedContextProvider() : new TinylogContextProvider();
 		globalLevel = ConfigurationParser.getGlobalLevel();
 		customLevels = ConfigurationParser.getCustomLevels();
-		knownTags = ConfigurationParser.getTags();
+		List<String> knownTags = ConfigurationParser.getTags();
+		List<String> knownPatterns = ConfigurationParser.getTagPatterns();
+		tagIndices = calculateTagIndices(knownTags);
+		tagPatterns = knownPatterns.toArray(new String[knownPatterns.size()]);
+		unknownTagIndex = knownTags.size() + tagPatterns.length + 1;
+		resolvedTagIndices = new ConcurrentHashMap<String, Integer>();
+		combinedTagIndices = new HashMap<BitSet, Integer>();
 
 		Level minimumLevel = calculateMinimumLevel(globalLevel, customLevels);
 		boolean hasWritingThread = ConfigurationParser.isWritingThreadEnabled();
 
-		writers = ConfigurationParser.createWriters(knownTags, minimumLevel, hasWritingThread);
-		requiredLogEntryValues = calculateRequiredLogEntryValues(writers);
+		writers = ConfigurationParser.createWriters(knownTags, knownPatterns, minimumLevel, hasWritingThread);
+		filters = createFilterStage();
+		summaryWriters = filters == null ? Collections.<Writer>emptyList() : getWarningWriters(writers);
+		requiredLogEntryValues = calculateRequiredLogEntryValues(writers, filters);
 		fullStackTraceRequired = calculateFullStackTraceRequirements(requiredLogEntryValues);
-		writingThread = hasWritingThread ? createWritingThread(writers) : null;
+		lazyFormattingAllowed = hasWritingThread ? new boolean[writers.length][Level.OFF.ordinal()] : calculateLazyFormatting(writers);
+		writingThread = hasWritingThread ? createWritingThread(writers, filters, summaryWriters) : null;
+		snapshotDepth = hasWritingThread ? ConfigurationParser.getExceptionSnapshotDepth() : -1;
 
 		if (ConfigurationParser.isAutoShutdownEnabled()) {
 			Runtime.getRuntime().addShutdownHook(new Thread() {
@@ -104,6 +138,13 @@ public class TinylogLoggingProvider implements LoggingProvider {
 		return Level.OFF;
 	}
 
+	@Override
+	public Level getMinimumLevel(final String className, final String tag) {
+		Level activeLevel = customLevels.isEmpty() ? globalLevel : getLevel(className);
+		Level tagLevel = getMinimumLevel(tag);
+		return activeLevel.ordinal() > tagLevel.ordinal() ? activeLevel : tagLevel;
+	}
+
 	@Override
 	public boolean isEnabled(final int depth, final String tag, final Level level) {
 		Level activeLevel;
@@ -118,6 +159,22 @@ public class TinylogLoggingProvider implements LoggingProvider {
 		return activeLevel.ordinal() <= level.ordinal() && writers[getTagIndex(tag)][level.ordinal()].size() > 0;
 	}
 
+	@Override
+	public boolean isEnabled(final int depth, final String className, final String tag, final Level level) {
+		Level activeLevel = customLevels.isEmpty() ? globalLevel : getLevel(className);
+		return activeLevel.ordinal() <= level.ordinal() && writers[getTagIndex(tag)][level.ordinal()].size() > 0;
+	}
+
+	@Override
+	public boolean isSourceRequired(final String tag, final Level level) {
+		if (customLevels.isEmpty()) {
+			Collection<LogEntryValue> values = requiredLogEntryValues[getTagIndex(tag)][level.ordinal()];
+			return values.contains(LogEntryValue.CLASS) || values.contains(LogEntryValue.METHOD);
+		} else {
+			return true;
+		}
+	}
+
 	@Override
 	public void log(final int depth, final String tag, final Level level, final Throwable exception, final MessageFormatter formatter,
 		final Object obj, final Object... arguments) {
@@ -143,8 +200,9 @@ public class TinylogLoggingProvider implements LoggingProvider {
 			activeLevel = getLevel(stackTraceElement.getClassName());
 		}
 
-		if (activeLevel.ordinal() <= level.ordinal()) {
-			LogEntry logEntry = createLogEntry(stackTraceElement, tag, tagIndex, level, exception, formatter, obj, arguments);
+		if (activeLevel.ordinal() <= level.ordinal()
+			&& isAccepted(writers[tagIndex][level.ordinal()], stackTraceElement, tag, level, obj)) {
+			LogEntry logEntry = createLogEntry(stackTraceElement, tag, tagIndex, level, null, exception, formatter, obj, arguments);
 			output(logEntry, writers[tagIndex][logEntry.getLevel().ordinal()]);
 		}
 	}
@@ -174,14 +232,102 @@ public class TinylogLoggingProvider implements LoggingProvider {
 			activeLevel = getLevel(stackTraceElement.getClassName());
 		}
 
-		if (activeLevel.ordinal() <= level.ordinal()) {
-			LogEntry logEntry = createLogEntry(stackTraceElement, tag, tagIndex, level, exception, formatter, obj, arguments);
+		if (activeLevel.ordinal() <= level.ordinal()
+			&& isAccepted(writers[tagIndex][level.ordinal()], stackTraceElement, tag, level, obj)) {
+			LogEntry logEntry = createLogEntry(stackTraceElement, tag, tagIndex, level, null, exception, formatter, obj, arguments);
 			output(logEntry, writers[tagIndex][logEntry.getLevel().ordinal()]);
 		}
 	}
 
+	@Override
+	public void log(final int depth, final String className, final String tag, final Level level, final Throwable exception,
+		final MessageFormatter formatter, final Object obj, final Object... arguments) {
+		log(depth + 1, className, tag, level, null, exception, formatter, obj, arguments);
+	}
+
+	@Override
+	public void log(final String loggerClassName, final String className, final String tag, final Level level,
+		final Throwable exception, final MessageFormatter formatter, final Object obj, final Object... arguments) {
+		Level activeLevel = customLevels.isEmpty() ? globalLevel : getLevel(className);
+
+		if (activeLevel.ordinal() <= level.ordinal()) {
+			int tagIndex = getTagIndex(tag);
+
+			StackTraceElement stackTraceElement;
+			if (fullStackTraceRequired.get(tagIndex)) {
+				StackTraceElement caller = RuntimeProvider.getCallerStackTraceElement(loggerClassName);
+				stackTraceElement = new StackTraceElement(className, caller.getMethodName(), caller.getFileName(), caller.getLineNumber());
+			} else if (requiredLogEntryValues[tagIndex][level.ordinal()].contains(LogEntryValue.CLASS)) {
+				stackTraceElement = new StackTraceElement(className, "<unknown>", null, -1);
+			} else {
+				stackTraceElement = null;
+			}
+
+			if (isAccepted(writers[tagIndex][level.ordinal()], stackTraceElement, tag, level, obj)) {
+				LogEntry logEntry = createLogEntry(stackTraceElement, tag, tagIndex, level, null, exception, formatter, obj, arguments);
+				output(logEntry, writers[tagIndex][logEntry.getLevel().ordinal()]);
+			}
+		}
+	}
+
+	@Override
+	public void log(final String loggerClassName, final StackTraceElement source, final String tag, final Level level,
+		final Throwable exception, final MessageFormatter formatter, final Object obj, final Object... arguments) {
+		Level activeLevel = customLevels.isEmpty() ? globalLevel : getLevel(source.getClassName());
+
+		if (activeLevel.ordinal() <= level.ordinal()) {
+			int tagIndex = getTagIndex(tag);
+
+			StackTraceElement stackTraceElement;
+			if (fullStackTraceRequired.get(tagIndex) && source.getFileName() == null) {
+				StackTraceElement caller = RuntimeProvider.getCallerStackTraceElement(loggerClassName);
+				stackTraceElement = new StackTraceElement(source.getClassName(), source.getMethodName(), caller.getFileName(),
+					caller.getLineNumber());
+			} else {
+				stackTraceElement = source;
+			}
+
+			if (isAccepted(writers[tagIndex][level.ordinal()], stackTraceElement, tag, level, obj)) {
+				LogEntry logEntry = createLogEntry(stackTraceElement, tag, tagIndex, level, null, exception, formatter, obj, arguments);
+				output(logEntry, writers[tagIndex][logEntry.getLevel().ordinal()]);
+			}
+		}
+	}
+
+	@Override
+	public void log(final int depth, final String className, final String tag, final Level level, final Map<String, String> context,
+		final Throwable exception, final MessageFormatter formatter, final Object obj, final Object... arguments) {
+		Level activeLevel = customLevels.isEmpty() ? globalLevel : getLevel(className);
+
+		if (activeLevel.ordinal() <= level.ordinal()) {
+			int tagIndex = getTagIndex(tag);
+
+			StackTraceElement stackTraceElement;
+			if (fullStackTraceRequired.get(tagIndex)) {
+				StackTraceElement caller = RuntimeProvider.getCallerStackTraceElement(depth + 1);
+				stackTraceElement = new StackTraceElement(className, caller.getMethodName(), caller.getFileName(), caller.getLineNumber());
+			} else if (requiredLogEntryValues[tagIndex][level.ordinal()].contains(LogEntryValue.CLASS)) {
+				stackTraceElement = new StackTraceElement(className, "<unknown>", null, -1);
+			} else {
+				stackTraceElement = null;
+			}
+
+			if (isAccepted(writers[tagIndex][level.ordinal()], stackTraceElement, tag, level, obj)) {
+				LogEntry logEntry = createLogEntry(stackTraceElement, tag, tagIndex, level, context, exception, formatter, obj, arguments);
+				output(logEntry, writers[tagIndex][logEntry.getLevel().ordinal()]);
+			}
+		}
+	}
+
 	@Override
 	public void shutdown() throws InterruptedException {
+		if (filters != null) {
+			long count = filters.drain();
+			if (count > 0) {
+				outputFilterSummary(count);
+			}
+		}
+
 		if (writingThread == null) {
 			for (Writer writer : getAllWriters(writers)) {
 				try {
@@ -215,15 +361,48 @@ public class TinylogLoggingProvider implements LoggingProvider {
 		return minimumLevel;
 	}
 
+	/**
+	 * Maps all known tags to their indices in the writer matrix. Index 0 is reserved for untagged log entries, the
+	 * indices after the known tags for combinations of tag patterns, and the last index for unknown tags.
+	 *
+	 * @param knownTags
+	 *            All tags that are used by writers
+	 * @return Known tags with their indices
+	 */
+	private static Map<String, Integer> calculateTagIndices(final List<String> knownTags) {
+		Map<String, Integer> indices = new HashMap<String, Integer>();
+		for (int i = 0; i < knownTags.size(); ++i) {
+			indices.put(knownTags.get(i), i + 1);
+		}
+		return indices;
+	}
+
+	/**
+	 * Creates the filter stage for all configured filters.
+	 *
+	 * @return Filter stage or {@code null} if there are no filters configured
+	 */
+	private static FilterStage createFilterStage() {
+		List<Filter> filters = ConfigurationParser.createFilters();
+		if (filters.isEmpty()) {
+			return null;
+		} else {
+			return new FilterStage(filters, TimeUnit.SECONDS.toNanos(ConfigurationParser.getFilterSummaryInterval()));
+		}
+	}
+
 	/**
 	 * Creates a matrix with all required log entry values for each tag and severity level.
 	 *
 	 * @param writers
 	 *            Matrix with registered writers
+	 * @param filters
+	 *            Filter stage or {@code null} if there are no filters
 	 * @return Matrix with all required log entry values
 	 */
 	@SuppressWarnings("unchecked")
-	private static Collection<LogEntryValue>[][] calculateRequiredLogEntryValues(final Collection<Writer>[][] writers) {
+	private static Collection<LogEntryValue>[][] calculateRequiredLogEntryValues(final Collection<Writer>[][] writers,
+		final FilterStage filters) {
 		Collection<LogEntryValue>[][] logEntryValues = new Collection[writers.length][Level.values().length - 1];
 
 		for (int tagIndex = 0; tagIndex < writers.length; ++tagIndex) {
@@ -232,6 +411,9 @@ public class TinylogLoggingProvider implements LoggingProvider {
 				for (Writer writer : writers[tagIndex][levelIndex]) {
 					values.addAll(writer.getRequiredLogEntryValues());
 				}
+				if (filters != null && !writers[tagIndex][levelIndex].isEmpty()) {
+					values.addAll(filters.getRequiredLogEntryValues());
+				}
 				logEntryValues[tagIndex][levelIndex] = values;
 			}
 		}
@@ -258,19 +440,68 @@ public class TinylogLoggingProvider implements LoggingProvider {
 	}
 
 	/**
-	 * Creates a writing thread for a matrix of writers.
+	 * Calculates for which tag and severity level text messages can be formatted lazily. This is only possible if all
+	 * writers are {@link ImmediateWriter immediate writers}, since log entries with lazily formatted messages still
+	 * refer to the original, possibly mutable arguments.
+	 *
+	 * @param writers
+	 *            Matrix with registered writers
+	 * @return Matrix with {@code true} for each tag and severity level, for which lazy formatting is possible
+	 */
+	private static boolean[][] calculateLazyFormatting(final Collection<Writer>[][] writers) {
+		boolean[][] result = new boolean[writers.length][Level.OFF.ordinal()];
+
+		for (int tagIndex = 0; tagIndex < writers.length; ++tagIndex) {
+			for (int levelIndex = 0; levelIndex < Level.OFF.ordinal(); ++levelIndex) {
+				boolean immediate = true;
+				for (Writer writer : writers[tagIndex][levelIndex]) {
+					Writer target = writer instanceof FilteredWriter ? ((FilteredWriter) writer).getWriter() : writer;
+					immediate &= target instanceof ImmediateWriter;
+				}
+				result[tagIndex][levelIndex] = immediate;
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Creates a writing thread for a matrix of writers. If there are filters, the writing thread outputs due summaries
+	 * of discarded log entries periodically.
 	 *
 	 * @param matrix
 	 *            All writers
+	 * @param filters
+	 *            Filter stage or {@code null} if there are no filters
+	 * @param summaryWriters
+	 *            Writers for summaries of discarded log entries
 	 * @return Initialized and running writhing thread
 	 */
-	private static WritingThread createWritingThread(final Collection<Writer>[][] matrix) {
+	private static WritingThread createWritingThread(final Collection<Writer>[][] matrix, final FilterStage filters,
+		final Collection<Writer> summaryWriters) {
 		Collection<Writer> writers = getAllWriters(matrix);
-		WritingThread thread = new WritingThread(writers);
+		Runnable task = filters == null ? null : new FilterSummaryTask(filters, summaryWriters);
+		WritingThread thread = new WritingThread(writers, task);
 		thread.start();
 		return thread;
 	}
 
+	/**
+	 * Collects all writer instances that output untagged or tagged log entries with the severity level
+	 * {@link Level#WARN WARN}.
+	 *
+	 * @param matrix
+	 *            All writers
+	 * @return Collection that contains each writer only once
+	 */
+	private static Collection<Writer> getWarningWriters(final Collection<Writer>[][] matrix) {
+		Collection<Writer> writers = Collections.newSetFromMap(new IdentityHashMap<Writer, Boolean>());
+		for (int i = 0; i < matrix.length; ++i) {
+			writers.addAll(matrix[i][Level.WARN.ordinal()]);
+		}
+		return writers;
+	}
+
 	/**
 	 * Collects all writer instances from a matrix of writers.
 	 *
@@ -299,11 +530,105 @@ public class TinylogLoggingProvider implements LoggingProvider {
 		if (tag == null) {
 			return 0;
 		} else {
-			int index = knownTags.indexOf(tag);
-			return index == -1 ? knownTags.size() + 1 : index + 1;
+			Integer index = tagIndices.get(tag);
+			if (index != null) {
+				return index;
+			} else if (tagPatterns.length == 0) {
+				return unknownTagIndex;
+			} else {
+				return resolveTagIndex(tag);
+			}
 		}
 	}
 
+	/**
+	 * Resolves the index of a tag that is not explicitly defined by any writer. The index depends on the combination
+	 * of matching tag patterns. Resolved indices are cached, so that each tag has to be matched only once.
+	 *
+	 * @param tag
+	 *            Name of tag
+	 * @return Index of tag
+	 */
+	private int resolveTagIndex(final String tag) {
+		Integer index = resolvedTagIndices.get(tag);
+		if (index == null) {
+			BitSet matches = new BitSet(tagPatterns.length);
+			for (int i = 0; i < tagPatterns.length; ++i) {
+				if (Wildcards.matches(tagPatterns[i], tag)) {
+					matches.set(i);
+				}
+			}
+
+			int count = matches.cardinality();
+			if (count == 0) {
+				index = unknownTagIndex;
+			} else if (count == 1) {
+				index = tagIndices.size() + matches.nextSetBit(0) + 1;
+			} else {
+				index = getCombinedTagIndex(matches);
+			}
+
+			if (resolvedTagIndices.size() < MAXIMUM_RESOLVED_TAGS) {
+				resolvedTagIndices.put(tag, index);
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Gets the index of a combination of several matching tag patterns. The writer matrix gets a new entry for each
+	 * combination, when it is used for the first time.
+	 *
+	 * @param patterns
+	 *            Indices of all matching tag patterns
+	 * @return Index of the combination of tag patterns
+	 */
+	private int getCombinedTagIndex(final BitSet patterns) {
+		synchronized (combinedTagIndices) {
+			Integer index = combinedTagIndices.get(patterns);
+			if (index == null) {
+				index = addCombinedTagIndex(patterns);
+				combinedTagIndices.put(patterns, index);
+			}
+			return index;
+		}
+	}
+
+	/**
+	 * Adds a new entry for a combination of tag patterns to the writer matrix. The new entry contains all writers of
+	 * the passed tag patterns. All matrices are copied on write, as they are read concurrently without any locks.
+	 *
+	 * @param patterns
+	 *            Indices of all matching tag patterns
+	 * @return Index of the new entry
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private int addCombinedTagIndex(final BitSet patterns) {
+		int index = writers.length;
+		Collection<Writer>[][] matrix = Arrays.copyOf(writers, index + 1);
+		matrix[index] = new Collection[Level.OFF.ordinal()];
+
+		for (int levelIndex = 0; levelIndex < Level.OFF.ordinal(); ++levelIndex) {
+			List<Writer> combined = new ArrayList<Writer>();
+			for (int i = patterns.nextSetBit(0); i >= 0; i = patterns.nextSetBit(i + 1)) {
+				for (Writer writer : writers[tagIndices.size() + i + 1][levelIndex]) {
+					if (!combined.contains(writer)) {
+						combined.add(writer);
+					}
+				}
+			}
+			matrix[index][levelIndex] = combined;
+		}
+
+		Collection<LogEntryValue>[][] logEntryValues = calculateRequiredLogEntryValues(matrix, filters);
+		writers = matrix;
+		requiredLogEntryValues = logEntryValues;
+		fullStackTraceRequired = calculateFullStackTraceRequirements(logEntryValues);
+		lazyFormattingAllowed = writingThread == null ? calculateLazyFormatting(matrix) : new boolean[matrix.length][Level.OFF.ordinal()];
+
+		return index;
+	}
+
 	/**
 	 * Gets the severity level for a class. If there is no custom severity level for the class or one of it's
 	 * (sub-)packages, the global severity level will be returned.
@@ -329,6 +654,64 @@ public class TinylogLoggingProvider implements LoggingProvider {
 		}
 	}
 
+	/**
+	 * Applies all filters to an issued log entry. If there is no writing thread for outputting summaries of discarded
+	 * log entries periodically and a summary is due, the summary will be output first. Log entries without any writers
+	 * are rejected before applying the filters, so that they neither consume rate limits nor count as discarded.
+	 *
+	 * @param writers
+	 *            Writers that would output the issued log entry
+	 * @param stackTraceElement
+	 *            Optional stack trace element of caller
+	 * @param tag
+	 *            Tag name if issued from a tagged logger
+	 * @param level
+	 *            Severity level
+	 * @param obj
+	 *            Message to log
+	 * @return {@code true} if the log entry will be output, {@code false} if the log entry has been discarded
+	 */
+	private boolean isAccepted(final Collection<Writer> writers, final StackTraceElement stackTraceElement, final String tag,
+		final Level level, final Object obj) {
+		if (writers.isEmpty()) {
+			return false;
+		} else if (filters == null) {
+			return true;
+		} else {
+			if (writingThread == null) {
+				long count = filters.pollSummary();
+				if (count > 0) {
+					outputFilterSummary(count);
+				}
+			}
+			return filters.accept(stackTraceElement, tag, level, obj);
+		}
+	}
+
+	/**
+	 * Outputs a summary of discarded log entries as untagged warning to all writers that output warnings for any tag.
+	 *
+	 * @param count
+	 *            Number of discarded log entries
+	 */
+	private void outputFilterSummary(final long count) {
+		output(createFilterSummary(count), summaryWriters);
+	}
+
+	/**
+	 * Creates an untagged warning as summary of discarded log entries. The logging provider itself is used as source,
+	 * so that format patterns with class or method names can output the summary.
+	 *
+	 * @param count
+	 *            Number of discarded log entries
+	 * @return Created log entry
+	 */
+	private static LogEntry createFilterSummary(final long count) {
+		String message = "Discarded " + count + " log entries by filters";
+		return new LogEntry(RuntimeProvider.createTimestamp(), Thread.currentThread(), Collections.<String, String>emptyMap(),
+			TinylogLoggingProvider.class.getName(), "<unknown>", null, -1, null, Level.WARN, message, null);
+	}
+
 	/**
 	 * Creates a new log entry.
 	 *
@@ -340,6 +723,8 @@ public class TinylogLoggingProvider implements LoggingProvider {
 	 *            Index of tag
 	 * @param level
 	 *            Severity level
+	 * @param additionalContext
+	 *            Additional context values or {@code null}
 	 * @param exception
 	 *            Caught exception or throwable to log
 	 * @param formatter
@@ -351,12 +736,17 @@ public class TinylogLoggingProvider implements LoggingProvider {
 	 * @return Filled log entry
 	 */
 	private LogEntry createLogEntry(final StackTraceElement stackTraceElement, final String tag, final int tagIndex, final Level level,
-		final Throwable exception, final MessageFormatter formatter, final Object obj, final Object[] arguments) {
+		final Map<String, String> additionalContext, final Throwable exception, final MessageFormatter formatter, final Object obj,
+		final Object[] arguments) {
 		Collection<LogEntryValue> required = requiredLogEntryValues[tagIndex][level.ordinal()];
 
 		Timestamp timestamp = RuntimeProvider.createTimestamp();
 		Thread thread = required.contains(LogEntryValue.THREAD) ? Thread.currentThread() : null;
-		Map<String, String> context = required.contains(LogEntryValue.CONTEXT) ? this.context.getMapping() : null;
+		Map<String, String> context = required.contains(LogEntryValue.CONTEXT) ? getContext(additionalContext) : null;
+		Throwable throwable = exception;
+		if (throwable != null && snapshotDepth >= 0 && required.contains(LogEntryValue.EXCEPTION)) {
+			throwable = ThrowableSnapshot.create(exception, snapshotDepth);
+		}
 
 		String className;
 		String methodName;
@@ -379,10 +769,120 @@ public class TinylogLoggingProvider implements LoggingProvider {
 			Object evaluatedObject = obj instanceof Supplier<?> ? ((Supplier<?>) obj).get() : obj;
 			message = evaluatedObject == null ? null : evaluatedObject.toString();
 		} else {
-			message = formatter.format((String) obj, arguments);
+			Object[] resolvedArguments = resolveSuppliers(arguments);
+			if (required.contains(LogEntryValue.ARGUMENTS)) {
+				message = required.contains(LogEntryValue.MESSAGE) ? formatter.format((String) obj, resolvedArguments) : null;
+				return new LogEntry(timestamp, thread, context, className, methodName, fileName, lineNumber, tag, level, message,
+					throwable, formatter, (String) obj, resolveArguments(resolvedArguments));
+			} else if (lazyFormattingAllowed[tagIndex][level.ordinal()]) {
+				return new LogEntry(timestamp, thread, context, className, methodName, fileName, lineNumber, tag, level, null,
+					throwable, formatter, (String) obj, resolvedArguments);
+			} else {
+				message = required.contains(LogEntryValue.MESSAGE) ? formatter.format((String) obj, resolvedArguments) : null;
+			}
 		}
 
-		return new LogEntry(timestamp, thread, context, className, methodName, fileName, lineNumber, tag, level, message, exception);
+		return new LogEntry(timestamp, thread, context, className, methodName, fileName, lineNumber, tag, level, message, throwable);
+	}
+
+	/**
+	 * Gets the thread context combined with additional context values. The thread context is not copied. Instead, the
+	 * additional values are laid over the thread context.
+	 *
+	 * @param additionalContext
+	 *            Additional context values or {@code null}
+	 * @return Thread context with additional context values
+	 */
+	private Map<String, String> getContext(final Map<String, String> additionalContext) {
+		Map<String, String> mapping = context.getMapping();
+
+		if (additionalContext == null || additionalContext.isEmpty()) {
+			return mapping;
+		} else if (mapping.isEmpty()) {
+			return additionalContext;
+		} else {
+			return new OverlayContextMap(mapping, additionalContext);
+		}
+	}
+
+	/**
+	 * Evaluates all suppliers of a message template. Thereby, the message can be formatted lazily multiple times with
+	 * the same result. The passed array is returned as it is, if it doesn't contain any suppliers.
+	 *
+	 * @param arguments
+	 *            Original arguments
+	 * @return Arguments without suppliers
+	 */
+	private static Object[] resolveSuppliers(final Object[] arguments) {
+		Object[] resolvedArguments = arguments;
+
+		for (int i = 0; i < arguments.length; ++i) {
+			if (arguments[i] instanceof Supplier<?>) {
+				if (resolvedArguments == arguments) {
+					resolvedArguments = arguments.clone();
+				}
+				resolvedArguments[i] = ((Supplier<?>) arguments[i]).get();
+			}
+		}
+
+		return resolvedArguments;
+	}
+
+	/**
+	 * Resolves all arguments for a message template. Suppliers are evaluated, mutable numbers and dates are copied, and
+	 * all other values that are not known to be immutable are converted into strings. Thereby, the resolved arguments
+	 * can be safely output later by another thread, and numbers and dates can still be formatted by number and date
+	 * patterns.
+	 *
+	 * @param arguments
+	 *            Original arguments
+	 * @return Resolved arguments
+	 */
+	private static Object[] resolveArguments(final Object[] arguments) {
+		Object[] resolvedArguments = new Object[arguments.length];
+
+		for (int i = 0; i < arguments.length; ++i) {
+			Object argument = arguments[i];
+			if (argument instanceof Supplier<?>) {
+				argument = ((Supplier<?>) argument).get();
+			}
+
+			if (argument == null || argument instanceof String || argument instanceof Boolean || argument instanceof Character
+				|| argument instanceof Byte || argument instanceof Short || argument instanceof Integer || argument instanceof Long
+				|| argument instanceof Float || argument instanceof Double || argument instanceof BigInteger
+				|| argument instanceof BigDecimal) {
+				resolvedArguments[i] = argument;
+			} else if (argument instanceof AtomicInteger) {
+				resolvedArguments[i] = ((AtomicInteger) argument).get();
+			} else if (argument instanceof AtomicLong) {
+				resolvedArguments[i] = ((AtomicLong) argument).get();
+			} else if (argument instanceof Number) {
+				resolvedArguments[i] = copyNumber((Number) argument);
+			} else if (argument instanceof Date) {
+				resolvedArguments[i] = ((Date) argument).clone();
+			} else {
+				resolvedArguments[i] = argument.toString();
+			}
+		}
+
+		return resolvedArguments;
+	}
+
+	/**
+	 * Copies a number of an unknown, possibly mutable type into an immutable {@link BigDecimal} with the same value.
+	 * Numbers whose string representation is not a valid decimal number are converted into strings.
+	 *
+	 * @param number
+	 *            Number to copy
+	 * @return Immutable copy of the passed number
+	 */
+	private static Object copyNumber(final Number number) {
+		String value = number.toString();
+		try {
+			return new BigDecimal(value);
+		} catch (NumberFormatException ex) {
+			return value;
+		}
 	}
 
 	/**
@@ -396,17 +896,75 @@ public class TinylogLoggingProvider implements LoggingProvider {
 	private void output(final LogEntry logEntry, final Iterable<Writer> writers) {
 		if (writingThread == null) {
 			for (Writer writer : writers) {
-				try {
-					writer.write(logEntry);
-				} catch (Exception ex) {
-					InternalLogger.log(Level.ERROR, ex, "Failed to write log entry '" + logEntry.getMessage() + "'");
+				if (isAcceptedBy(writer, logEntry)) {
+					try {
+						writer.write(logEntry);
+					} catch (Exception ex) {
+						InternalLogger.log(Level.ERROR, ex, "Failed to write log entry '" + logEntry.getMessage() + "'");
+					}
 				}
 			}
 		} else {
 			for (Writer writer : writers) {
-				writingThread.add(writer, logEntry);
+				if (isAcceptedBy(writer, logEntry)) {
+					writingThread.add(writer, logEntry);
+				}
 			}
 		}
 	}
 
+	/**
+	 * Checks whether a writer accepts a log entry. Writers with compiled filter conditions are checked before handing
+	 * over log entries. All other writers accept all log entries.
+	 *
+	 * @param writer
+	 *            Writer to check
+	 * @param logEntry
+	 *            Log entry to output
+	 * @return {@code true} if the log entry should be passed to the writer, {@code false} if not
+	 */
+	private static boolean isAcceptedBy(final Writer writer, final LogEntry logEntry) {
+		return !(writer instanceof FilteredWriter) || ((FilteredWriter) writer).accept(logEntry);
+	}
+
+	/**
+	 * Task for outputting due summaries of discarded log entries periodically. The task is run by the writing thread
+	 * and therefore writes summaries directly to the writers.
+	 */
+	private static final class FilterSummaryTask implements Runnable {
+
+		private final FilterStage filters;
+		private final Collection<Writer> writers;
+
+		/**
+		 * @param filters
+		 *            Filter stage that counts discarded log entries
+		 * @param writers
+		 *            Writers for summaries of discarded log entries
+		 */
+		private FilterSummaryTask(final FilterStage filters, final Collection<Writer> writers) {
+			this.filters = filters;
+			this.writers = writers;
+		}
+
+		@Override
+		public void run() {
+			long count = filters.pollSummary();
+			if (count > 0) {
+				LogEntry logEntry = createFilterSummary(count);
+				for (Writer writer : writers) {
+					if (isAcceptedBy(writer, logEntry)) {
+						try {
+							writer.write(logEntry);
+							writer.flush();
+						} catch (Exception ex) {
+							InternalLogger.log(Level.ERROR, ex, "Failed to write log entry '" + logEntry.getMessage() + "'");
+						}
+					}
+				}
+			}
+		}
+
+	}
+
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+/**
+ * Matcher for simple patterns with wildcards. The wildcard {@code *} matches any number of characters and the wildcard
+ * {@code ?} matches exactly one character. Matching doesn't allocate any objects.
+ */
+final class Wildcards {
+
+	/** */
+	private Wildcards() {
+	}
+
+	/**
+	 * Checks whether a text contains any wildcards.
+	 *
+	 * @param text
+	 *            Text to check
+	 * @return {@code true} if the passed text contains at least one wildcard, {@code false} if not
+	 */
+	static boolean contains(final String text) {
+		return text.indexOf('*') >= 0 || text.indexOf('?') >= 0;
+	}
+
+	/**
+	 * Checks whether a text matches a pattern with wildcards.
+	 *
+	 * @param pattern
+	 *            Pattern with optional wildcards
+	 * @param text
+	 *            Text to check
+	 * @return {@code true} if the text matches, {@code false} if not
+	 */
+	static boolean matches(final String pattern, final String text) {
+		int patternIndex = 0;
+		int textIndex = 0;
+		int starIndex = -1;
+		int backtrackIndex = 0;
+
+		while (textIndex < text.length()) {
+			char character = patternIndex < pattern.length() ? pattern.charAt(patternIndex) : 0;
+			if (patternIndex < pattern.length() && character != '*' && (character == '?' || character == text.charAt(textIndex))) {
+				patternIndex += 1;
+				textIndex += 1;
+			} else if (patternIndex < pattern.length() && character == '*') {
+				starIndex = patternIndex;
+				backtrackIndex = textIndex;
+				patternIndex += 1;
+			} else if (starIndex >= 0) {
+				patternIndex = starIndex + 1;
+				backtrackIndex += 1;
+				textIndex = backtrackIndex;
+			} else {
+				return false;
+			}
+		}
+
+		while (patternIndex < pattern.length() && pattern.charAt(patternIndex) == '*') {
+			patternIndex += 1;
+		}
+
+		return patternIndex == pattern.length();
+	}
+
+}
@@ -32,6 +32,7 @@ final class WritingThread extends Thread {
 
 	private final Object mutex;
 	private final Collection<Writer> writers;
+	private final Runnable periodicTask;
 	private List<Task> tasks;
 
 	/**
@@ -39,8 +40,19 @@ final class WritingThread extends Thread {
 	 *            Open writers
 	 */
 	WritingThread(final Collection<Writer> writers) {
+		this(writers, null);
+	}
+
+	/**
+	 * @param writers
+	 *            Open writers
+	 * @param periodicTask
+	 *            Task to run before each writing cycle or {@code null}
+	 */
+	WritingThread(final Collection<Writer> writers, final Runnable periodicTask) {
 		this.mutex = new Object();
 		this.writers = writers;
+		this.periodicTask = periodicTask;
 		this.tasks = new ArrayList<Task>();
 
 		setName(THREAD_NAME);
@@ -56,6 +68,10 @@ final class WritingThread extends Thread {
 		Collection<Writer> writers = new ArrayList<Writer>(1);
 
 		while (true) {
+			if (periodicTask != null) {
+				runPeriodicTask();
+			}
+
 			for (Task task : receiveTasks()) {
 				if (task == Task.POISON) {
 					close();
@@ -124,6 +140,17 @@ final class WritingThread extends Thread {
 		}
 	}
 
+	/**
+	 * Runs the periodic task. Any exceptions are caught and logged, so that the writing thread continues.
+	 */
+	private void runPeriodicTask() {
+		try {
+			periodicTask.run();
+		} catch (RuntimeException ex) {
+			InternalLogger.log(Level.ERROR, ex, "Failed to run periodic task");
+		}
+	}
+
 	/**
 	 * Writes a log entry.
 	 *
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.filters;
+
+import java.util.Collection;
+
+import org.tinylog.Level;
+import org.tinylog.core.LogEntryValue;
+
+/**
+ * Filters decide whether an issued log entry will be output. They are applied before a log entry is created, so that
+ * discarded log entries cause neither allocations nor any work for writers.
+ *
+ * <p>
+ * Filters are configured via the property {@code filter} as comma separated list. Each filter can receive an argument
+ * after a colon (e.g. {@code filter = rate limit: 1000/s, sample: 10% level=debug}). All filters must be thread-safe.
+ * </p>
+ */
+public interface Filter {
+
+	/**
+	 * Gets all log entry values that are required for filtering log entries. Only {@link LogEntryValue#CLASS},
+	 * {@link LogEntryValue#METHOD}, {@link LogEntryValue#FILE}, and {@link LogEntryValue#LINE} are taken into account.
+	 *
+	 * @return Required log entry values
+	 */
+	Collection<LogEntryValue> getRequiredLogEntryValues();
+
+	/**
+	 * Decides whether a log entry will be output.
+	 *
+	 * @param caller
+	 *            Stack trace element of the caller or {@code null}, if the location of the caller is neither required by
+	 *            this filter nor by any writer
+	 * @param tag
+	 *            Tag of log entry or {@code null} if untagged
+	 * @param level
+	 *            Severity level of log entry
+	 * @param message
+	 *            Message template, message object, or {@code null}
+	 * @return {@code true} if the log entry will be output, {@code false} if the log entry will be discarded
+	 */
+	boolean accept(StackTraceElement caller, String tag, Level level, Object message);
+
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.filters;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.tinylog.Level;
+import org.tinylog.core.LogEntryValue;
+
+/**
+ * Filter for limiting the number of output log entries per time unit by using token buckets.
+ *
+ * <p>
+ * The argument defines the maximum number of log entries per second ({@code s}), minute ({@code m}), or hour
+ * ({@code h}), for example {@code 1000/s}. By default, there is a single limit for all log entries. Optionally, the
+ * limit can be applied separately for each message template ({@code 1000/s per message}), each tag
+ * ({@code 1000/s per tag}), or each call site ({@code 1000/s per caller}). Limiting per call site requires the stack
+ * trace element of the caller and is therefore more expensive than limiting per message template.
+ * </p>
+ */
+public final class RateLimitFilter implements Filter {
+
+	private static final int MAXIMUM_BUCKETS = 10000;
+	private static final int EVICTED_BUCKETS = MAXIMUM_BUCKETS / 10;
+	private static final int SCOPED_TOKENS = 3;
+
+	private final long permits;
+	private final long period;
+	private final Scope scope;
+	private final TokenBucket global;
+	private final ConcurrentMap<Object, TokenBucket> buckets;
+	private final Object evictionLock;
+
+	/**
+	 * @param argument
+	 *            Maximum number of log entries per time unit with optional scope (e.g. "1000/s per message")
+	 *
+	 * @throws IllegalArgumentException
+	 *             Invalid or missing rate limit
+	 */
+	public RateLimitFilter(final String argument) {
+		if (argument == null || argument.trim().isEmpty()) {
+			throw new IllegalArgumentException("No rate limit defined for rate limit filter");
+		}
+
+		String[] tokens = argument.trim().toLowerCase(Locale.ROOT).split("\\s+");
+
+		int separator = tokens[0].indexOf('/');
+		if (separator == -1) {
+			throw new IllegalArgumentException("Invalid rate limit \"" + argument + "\" for rate limit filter");
+		}
+
+		try {
+			permits = Long.parseLong(tokens[0].substring(0, separator));
+		} catch (NumberFormatException ex) {
+			throw new IllegalArgumentException("Invalid rate limit \"" + argument + "\" for rate limit filter");
+		}
+
+		if (permits <= 0) {
+			throw new IllegalArgumentException("Invalid rate limit \"" + argument + "\" for rate limit filter");
+		}
+
+		period = parsePeriod(tokens[0].substring(separator + 1), argument);
+
+		if (tokens.length == 1) {
+			scope = Scope.ALL;
+		} else if (tokens.length == SCOPED_TOKENS && "per".equals(tokens[1])) {
+			scope = parseScope(tokens[2], argument);
+		} else {
+			throw new IllegalArgumentException("Invalid rate limit \"" + argument + "\" for rate limit filter");
+		}
+
+		global = new TokenBucket(permits, period, System.nanoTime());
+		buckets = scope == Scope.ALL ? null : new ConcurrentHashMap<Object, TokenBucket>();
+		evictionLock = new Object();
+	}
+
+	@Override
+	public Collection<LogEntryValue> getRequiredLogEntryValues() {
+		if (scope == Scope.CALLER) {
+			return EnumSet.of(LogEntryValue.CLASS, LogEntryValue.METHOD, LogEntryValue.LINE);
+		} else {
+			return Collections.emptySet();
+		}
+	}
+
+	@Override
+	public boolean accept(final StackTraceElement caller, final String tag, final Level level, final Object message) {
+		long now = System.nanoTime();
+		Object key = getKey(caller, tag, message);
+
+		if (key == null) {
+			return global.tryAcquire(now);
+		} else {
+			TokenBucket bucket = buckets.get(key);
+			if (bucket == null) {
+				if (buckets.size() >= MAXIMUM_BUCKETS) {
+					evict(now);
+				}
+
+				bucket = new TokenBucket(permits, period, now);
+				TokenBucket existing = buckets.putIfAbsent(key, bucket);
+				if (existing != null) {
+					bucket = existing;
+				}
+			}
+			return bucket.tryAcquire(now);
+		}
+	}
+
+	/**
+	 * Removes token buckets to make room for new ones. Full token buckets are removed first, as they behave exactly
+	 * like new ones. If there are still too many token buckets, the least recently used ones are removed. Thereby,
+	 * token buckets of frequently issued log entries are kept.
+	 *
+	 * @param now
+	 *            Current time in nanoseconds (see {@link System#nanoTime()})
+	 */
+	private void evict(final long now) {
+		synchronized (evictionLock) {
+			if (buckets.size() < MAXIMUM_BUCKETS) {
+				return;
+			}
+
+			for (Iterator<TokenBucket> iterator = buckets.values().iterator(); iterator.hasNext();) {
+				if (iterator.next().isFull(now)) {
+					iterator.remove();
+				}
+			}
+
+			int excess = buckets.size() - (MAXIMUM_BUCKETS - EVICTED_BUCKETS);
+			if (excess > 0) {
+				long[] accesses = new long[buckets.size()];
+				int count = 0;
+				for (TokenBucket bucket : buckets.values()) {
+					if (count < accesses.length) {
+						accesses[count++] = bucket.getLastAccess() - now;
+					}
+				}
+
+				Arrays.sort(accesses, 0, count);
+				long threshold = accesses[Math.min(excess, count) - 1];
+
+				for (Iterator<TokenBucket> iterator = buckets.values().iterator(); iterator.hasNext();) {
+					if (iterator.next().getLastAccess() - now <= threshold) {
+						iterator.remove();
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Gets the key of the token bucket for a log entry.
+	 *
+	 * @param caller
+	 *            Stack trace element of the caller
+	 * @param tag
+	 *            Tag of log entry
+	 * @param message
+	 *            Message template or message object
+	 * @return Key of token bucket or {@code null} for the global token bucket
+	 */
+	private Object getKey(final StackTraceElement caller, final String tag, final Object message) {
+		switch (scope) {
+			case MESSAGE:
+				return message == null || message instanceof String ? message : message.getClass();
+			case TAG:
+				return tag;
+			case CALLER:
+				return caller;
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * Parses the period of a rate limit.
+	 *
+	 * @param unit
+	 *            Time unit ("s", "m", or "h")
+	 * @param argument
+	 *            Full argument for error messages
+	 * @return Period in nanoseconds
+	 *
+	 * @throws IllegalArgumentException
+	 *             Unknown time unit
+	 */
+	private static long parsePeriod(final String unit, final String argument) {
+		if ("s".equals(unit)) {
+			return TimeUnit.SECONDS.toNanos(1);
+		} else if ("m".equals(unit)) {
+			return TimeUnit.MINUTES.toNanos(1);
+		} else if ("h".equals(unit)) {
+			return TimeUnit.HOURS.toNanos(1);
+		} else {
+			throw new IllegalArgumentException("Invalid time unit in rate limit \"" + argument + "\" for rate limit filter");
+		}
+	}
+
+	/**
+	 * Parses the scope of a rate limit.
+	 *
+	 * @param name
+	 *            Name of scope ("message", "tag", or "caller")
+	 * @param argument
+	 *            Full argument for error messages
+	 * @return Parsed scope
+	 *
+	 * @throws IllegalArgumentException
+	 *             Unknown scope
+	 */
+	private static Scope parseScope(final String name, final String argument) {
+		if ("message".equals(name)) {
+			return Scope.MESSAGE;
+		} else if ("tag".equals(name)) {
+			return Scope.TAG;
+		} else if ("caller".equals(name)) {
+			return Scope.CALLER;
+		} else {
+			throw new IllegalArgumentException("Invalid scope in rate limit \"" + argument + "\" for rate limit filter");
+		}
+	}
+
+	/**
+	 * Scopes for separate rate limits.
+	 */
+	private enum Scope {
+
+		/**
+		 * Single rate limit for all log entries.
+		 */
+		ALL,
+
+		/**
+		 * Separate rate limit for each message template.
+		 */
+		MESSAGE,
+
+		/**
+		 * Separate rate limit for each tag.
+		 */
+		TAG,
+
+		/**
+		 * Separate rate limit for each call site.
+		 */
+		CALLER
+
+	}
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.filters;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Random;
+
+import org.tinylog.Level;
+import org.tinylog.core.LogEntryValue;
+
+/**
+ * Filter for probabilistic sampling of log entries.
+ *
+ * <p>
+ * The argument defines the percentage of log entries to output, for example {@code 10%}. Optionally, sampling can be
+ * restricted to a severity level and all lower severity levels ({@code 10% level=debug}) and to a tag
+ * ({@code 10% tag=sql}). Log entries that don't match these restrictions are always output.
+ * </p>
+ */
+public final class SampleFilter implements Filter {
+
+	private static final double PERCENT = 100d;
+
+	private final double rate;
+	private final Level level;
+	private final String tag;
+	private final ThreadLocal<Random> random;
+
+	/**
+	 * @param argument
+	 *            Percentage of log entries to output with optional restrictions (e.g. "10% level=debug tag=sql")
+	 *
+	 * @throws IllegalArgumentException
+	 *             Invalid or missing sampling rate
+	 */
+	public SampleFilter(final String argument) {
+		if (argument == null || argument.trim().isEmpty()) {
+			throw new IllegalArgumentException("No sampling rate defined for sample filter");
+		}
+
+		String[] tokens = argument.trim().split("\\s+");
+		rate = parseRate(tokens[0], argument);
+
+		Level level = null;
+		String tag = null;
+
+		for (int i = 1; i < tokens.length; ++i) {
+			String token = tokens[i];
+			if (token.startsWith("level=")) {
+				try {
+					level = Level.valueOf(token.substring("level=".length()).toUpperCase(Locale.ROOT));
+				} catch (IllegalArgumentException ex) {
+					throw new IllegalArgumentException("Invalid severity level in \"" + argument + "\" for sample filter");
+				}
+			} else if (token.startsWith("tag=")) {
+				tag = token.substring("tag=".length());
+			} else {
+				throw new IllegalArgumentException("Invalid restriction \"" + token + "\" for sample filter");
+			}
+		}
+
+		this.level = level;
+		this.tag = tag;
+		this.random = new RandomThreadLocal();
+	}
+
+	@Override
+	public Collection<LogEntryValue> getRequiredLogEntryValues() {
+		return Collections.emptySet();
+	}
+
+	@Override
+	public boolean accept(final StackTraceElement caller, final String tag, final Level level, final Object message) {
+		if (this.level != null && level.ordinal() > this.level.ordinal()) {
+			return true;
+		} else if (this.tag != null && !this.tag.equals(tag)) {
+			return true;
+		} else {
+			return random.get().nextDouble() < rate;
+		}
+	}
+
+	/**
+	 * Parses the sampling rate.
+	 *
+	 * @param value
+	 *            Percentage (e.g. "10%") or fraction (e.g. "0.1")
+	 * @param argument
+	 *            Full argument for error messages
+	 * @return Sampling rate between 0 and 1
+	 */
+	private static double parseRate(final String value, final String argument) {
+		double rate;
+		try {
+			if (value.endsWith("%")) {
+				rate = Double.parseDouble(value.substring(0, value.length() - 1)) / PERCENT;
+			} else {
+				rate = Double.parseDouble(value);
+			}
+		} catch (NumberFormatException ex) {
+			throw new IllegalArgumentException("Invalid sampling rate \"" + argument + "\" for sample filter");
+		}
+
+		if (rate < 0d || rate > 1d) {
+			throw new IllegalArgumentException("Invalid sampling rate \"" + argument + "\" for sample filter");
+		} else {
+			return rate;
+		}
+	}
+
+	/**
+	 * Thread local that provides an own random number generator for each thread.
+	 */
+	private static final class RandomThreadLocal extends ThreadLocal<Random> {
+
+		/** */
+		private RandomThreadLocal() {
+		}
+
+		@Override
+		protected Random initialValue() {
+			return new Random();
+		}
+
+	}
+
+}
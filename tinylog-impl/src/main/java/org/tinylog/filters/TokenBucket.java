@@ -0,0 +1,81 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.filters;
+
+/**
+ * Thread-safe token bucket for limiting the number of permits per period. The bucket is full initially and refills
+ * continuously. It is implemented as generic cell rate algorithm, which needs only a single timestamp as state.
+ */
+final class TokenBucket {
+
+	private final long interval;
+	private final long tolerance;
+	private long arrival;
+	private long access;
+
+	/**
+	 * @param permits
+	 *            Maximum number of permits per period
+	 * @param period
+	 *            Period in nanoseconds
+	 * @param now
+	 *            Current time in nanoseconds (see {@link System#nanoTime()})
+	 */
+	TokenBucket(final long permits, final long period, final long now) {
+		this.interval = Math.max(1L, period / permits);
+		this.tolerance = period - interval;
+		this.arrival = now;
+		this.access = now;
+	}
+
+	/**
+	 * Tries to take a permit from this bucket.
+	 *
+	 * @param now
+	 *            Current time in nanoseconds (see {@link System#nanoTime()})
+	 * @return {@code true} if a permit has been taken, {@code false} if the bucket is empty
+	 */
+	synchronized boolean tryAcquire(final long now) {
+		access = now;
+
+		long base = arrival - now > 0 ? arrival : now;
+		if (base - now > tolerance) {
+			return false;
+		} else {
+			arrival = base + interval;
+			return true;
+		}
+	}
+
+	/**
+	 * Checks whether this bucket has been refilled completely. A full bucket behaves exactly like a new one.
+	 *
+	 * @param now
+	 *            Current time in nanoseconds (see {@link System#nanoTime()})
+	 * @return {@code true} if this bucket is full, {@code false} if permits have been taken recently
+	 */
+	synchronized boolean isFull(final long now) {
+		return arrival - now <= 0;
+	}
+
+	/**
+	 * Gets the time of the last attempt to take a permit from this bucket.
+	 *
+	 * @return Time in nanoseconds (see {@link System#nanoTime()})
+	 */
+	synchronized long getLastAccess() {
+		return access;
+	}
+
+}
@@ -21,8 +21,10 @@ import java.util.List;
 
 import org.tinylog.core.LogEntry;
 import org.tinylog.core.LogEntryValue;
+import org.tinylog.throwable.SuppressedExceptions;
 import org.tinylog.throwable.ThrowableData;
 import org.tinylog.throwable.ThrowableFilter;
+import org.tinylog.throwable.ThrowableFilterChain;
 import org.tinylog.throwable.ThrowableWrapper;
 
 /**
@@ -32,14 +34,41 @@ final class ExceptionToken implements Token {
 
 	private static final String NEW_LINE = System.getProperty("line.separator");
 
-	private final List<ThrowableFilter> filters;
+	private final ThrowableFilter filter;
+	private final StackTraceCache cache;
+	private final int maxDepth;
+	private final int maxFrames;
+	private final List<String> foldedPackages;
 
 	/**
 	 * @param filters
 	 *            Throwable filters for output of exceptions and other throwables
 	 */
 	ExceptionToken(final List<ThrowableFilter> filters) {
-		this.filters = filters;
+		this(filters, 0, Integer.MAX_VALUE, Integer.MAX_VALUE, Collections.<String>emptyList());
+	}
+
+	/**
+	 * @param filters
+	 *            Throwable filters for output of exceptions and other throwables
+	 * @param repeatWindow
+	 *            Window in nanoseconds in which repeated stack traces will be output as short references (zero for
+	 *            always outputting complete stack traces)
+	 * @param maxDepth
+	 *            Maximum number of stack trace elements to output per throwable
+	 * @param maxFrames
+	 *            Maximum number of stack trace elements to output in total for a throwable including all its causes and
+	 *            suppressed exceptions
+	 * @param foldedPackages
+	 *            Packages and classes whose consecutive stack trace elements will be folded into a single line
+	 */
+	ExceptionToken(final List<ThrowableFilter> filters, final long repeatWindow, final int maxDepth, final int maxFrames,
+		final List<String> foldedPackages) {
+		this.filter = new ThrowableFilterChain(filters);
+		this.cache = new StackTraceCache(repeatWindow);
+		this.maxDepth = maxDepth;
+		this.maxFrames = maxFrames;
+		this.foldedPackages = foldedPackages;
 	}
 
 	@Override
@@ -51,7 +80,7 @@ final class ExceptionToken implements Token {
 	public void render(final LogEntry logEntry, final StringBuilder builder) {
 		Throwable throwable = logEntry.getException();
 		if (throwable != null) {
-			render(filter(throwable), Collections.<StackTraceElement>emptyList(), builder);
+			builder.append(render(throwable));
 		}
 	}
 
@@ -61,12 +90,33 @@ final class ExceptionToken implements Token {
 		if (throwable == null) {
 			statement.setString(index, null);
 		} else {
-			StringBuilder builder = new StringBuilder();
-			render(filter(throwable), Collections.<StackTraceElement>emptyList(), builder);
-			statement.setString(index, builder.toString());
+			statement.setString(index, render(throwable));
 		}
 	}
 
+	/**
+	 * Renders a throwable. Already rendered stack traces are taken from the cache, and are output as short references
+	 * if they are repeated within the repeat window. The fingerprint of the throwable is calculated at most once, and
+	 * only if the same throwable instance has not been rendered before.
+	 *
+	 * @param throwable
+	 *            Throwable to render
+	 * @return Rendered throwable
+	 */
+	private String render(final Throwable throwable) {
+		String text = cache.get(throwable);
+		if (text == null) {
+			StackTraceCache.Fingerprint fingerprint = new StackTraceCache.Fingerprint(throwable);
+			text = cache.get(fingerprint, throwable);
+			if (text == null) {
+				StringBuilder builder = new StringBuilder();
+				render(filter(throwable), Collections.<StackTraceElement>emptyList(), "", maxFrames, builder);
+				text = cache.put(fingerprint, throwable, builder.toString());
+			}
+		}
+		return text;
+	}
+
 	/**
 	 * Applies all registered {@link ThrowableFilter throwable filters}.
 	 *
@@ -75,24 +125,26 @@ final class ExceptionToken implements Token {
 	 * @return Transformed throwable
 	 */
 	private ThrowableData filter(final Throwable throwable) {
-		ThrowableData data = new ThrowableWrapper(throwable);
-		for (ThrowableFilter filter : filters) {
-			data = filter.filter(data);
-		}
-		return data;
+		return filter.filter(new ThrowableWrapper(throwable));
 	}
 
 	/**
-	 * Renders a throwable including stack trace and cause throwable.
+	 * Renders a throwable including stack trace, suppressed exceptions and cause throwable.
 	 *
 	 * @param throwable
 	 *            Throwable to render
 	 * @param parentTrace
 	 *            Stack trace from parent throwable
+	 * @param indentation
+	 *            Indentation for all lines after the first line
+	 * @param frameBudget
+	 *            Maximum number of stack trace elements that can still be output
 	 * @param builder
 	 *            Output will be appended to this string builder
+	 * @return Remaining number of stack trace elements that can still be output
 	 */
-	private void render(final ThrowableData throwable, final List<StackTraceElement> parentTrace, final StringBuilder builder) {
+	private int render(final ThrowableData throwable, final List<StackTraceElement> parentTrace, final String indentation,
+		final int frameBudget, final StringBuilder builder) {
 		List<StackTraceElement> stackTrace = throwable.getStackTrace();
 
 		int parentIndex = parentTrace.size() - 1;
@@ -111,25 +163,97 @@ final class ExceptionToken implements Token {
 			builder.append(message);
 		}
 
-		for (int i = 0; i < stackTrace.size() - commonElements; ++i) {
+		int visibleElements = Math.min(Math.min(stackTrace.size() - commonElements, maxDepth), frameBudget);
+		int index = 0;
+		while (index < visibleElements) {
+			StackTraceElement element = stackTrace.get(index);
+			String foldedPackage = getFoldedPackage(element.getClassName());
+
+			int end = index + 1;
+			if (foldedPackage != null) {
+				while (end < visibleElements && foldedPackage.equals(getFoldedPackage(stackTrace.get(end).getClassName()))) {
+					end += 1;
+				}
+			}
+
 			builder.append(NEW_LINE);
-			builder.append("\tat ");
-			builder.append(stackTrace.get(i));
+			builder.append(indentation);
+			if (end - index > 1) {
+				builder.append("\t... ");
+				builder.append(end - index);
+				builder.append(" frames in ");
+				builder.append(foldedPackage);
+			} else {
+				builder.append("\tat ");
+				builder.append(element);
+			}
+
+			index = end;
 		}
-		
-		if (commonElements > 0) {
+
+		int hiddenElements = stackTrace.size() - visibleElements;
+		if (hiddenElements > 0) {
 			builder.append(NEW_LINE);
+			builder.append(indentation);
 			builder.append("\t... ");
-			builder.append(commonElements);
+			builder.append(hiddenElements);
 			builder.append(" more");
 		}
 
+		int remainingFrames = frameBudget - visibleElements;
+		int omittedThrowables = 0;
+
+		for (ThrowableData suppressed : SuppressedExceptions.get(throwable)) {
+			if (remainingFrames > 0) {
+				builder.append(NEW_LINE);
+				builder.append(indentation);
+				builder.append("\tSuppressed: ");
+				remainingFrames = render(suppressed, stackTrace, indentation + "\t", remainingFrames, builder);
+			} else {
+				omittedThrowables += 1;
+			}
+		}
+
 		ThrowableData cause = throwable.getCause();
 		if (cause != null) {
+			if (remainingFrames > 0) {
+				builder.append(NEW_LINE);
+				builder.append(indentation);
+				builder.append("Caused by: ");
+				remainingFrames = render(cause, stackTrace, indentation, remainingFrames, builder);
+			} else {
+				omittedThrowables += 1;
+			}
+		}
+
+		if (omittedThrowables > 0) {
 			builder.append(NEW_LINE);
-			builder.append("Caused by: ");
-			render(cause, stackTrace, builder);
+			builder.append(indentation);
+			builder.append("\t... ");
+			builder.append(omittedThrowables);
+			builder.append(omittedThrowables == 1 ? " throwable omitted" : " throwables omitted");
 		}
+
+		return remainingFrames;
+	}
+
+	/**
+	 * Gets the folded package or class that a class belongs to.
+	 *
+	 * @param className
+	 *            Fully-qualified class name
+	 * @return Configured package or class or {@code null} if the stack trace elements of the passed class should not
+	 *         be folded
+	 */
+	private String getFoldedPackage(final String className) {
+		for (String foldedPackage : foldedPackages) {
+			if (className.startsWith(foldedPackage)
+				&& (className.length() == foldedPackage.length() || className.charAt(foldedPackage.length()) == '.')) {
+				return foldedPackage;
+			}
+		}
+
+		return null;
 	}
 
 }
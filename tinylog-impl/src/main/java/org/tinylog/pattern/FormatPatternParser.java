@@ -16,6 +16,8 @@ package org.tinylog.pattern;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 import org.tinylog.Level;
@@ -30,19 +32,49 @@ import org.tinylog.throwable.ThrowableFilter;
 public final class FormatPatternParser {
 
 	private static final Pattern SPLIT_PATTERN = Pattern.compile(",");
+	private static final Pattern PACKAGE_SPLIT_PATTERN = Pattern.compile("\\|");
 
 	private final List<ThrowableFilter> filters;
+	private final long repeatWindow;
+	private final int maxDepth;
+	private final int maxFrames;
+	private final List<String> foldedPackages;
 
 	/**
 	 * @param filters
 	 *            Comma separated list of throwable filters
 	 */
 	public FormatPatternParser(final String filters) {
-		if (filters == null) {
-			this.filters = Collections.emptyList();
-		} else {
-			this.filters = new ServiceLoader<ThrowableFilter>(ThrowableFilter.class, String.class).createList(filters);
-		}
+		this.filters = createFilters(filters);
+		this.repeatWindow = 0;
+		this.maxDepth = Integer.MAX_VALUE;
+		this.maxFrames = Integer.MAX_VALUE;
+		this.foldedPackages = Collections.emptyList();
+	}
+
+	/**
+	 * Creates a parser for a writer. The throwable filters are read from property {@code exception}. Additionally,
+	 * the output of exceptions and other throwables can be customized by the following optional properties:
+	 *
+	 * <ul>
+	 * <li>{@code exception.repeats}: Window in seconds in which repeated stack traces are output as short
+	 * references</li>
+	 * <li>{@code exception.depth}: Maximum number of stack trace elements to output per throwable</li>
+	 * <li>{@code exception.frames}: Maximum number of stack trace elements to output in total for a throwable
+	 * including all its causes and suppressed exceptions</li>
+	 * <li>{@code exception.fold}: Packages and classes, separated by a vertical bar "|", whose consecutive stack trace
+	 * elements are folded into a single line</li>
+	 * </ul>
+	 *
+	 * @param properties
+	 *            Configuration for writer
+	 */
+	public FormatPatternParser(final Map<String, String> properties) {
+		this.filters = createFilters(properties.get("exception"));
+		this.repeatWindow = TimeUnit.SECONDS.toNanos(parseOption(properties, "exception.repeats", 0));
+		this.maxDepth = parseOption(properties, "exception.depth", Integer.MAX_VALUE);
+		this.maxFrames = parseOption(properties, "exception.frames", Integer.MAX_VALUE);
+		this.foldedPackages = parsePackages(properties.get("exception.fold"));
 	}
 
 	/**
@@ -160,11 +192,11 @@ public final class FormatPatternParser {
 		} else if ("level".equals(name)) {
 			return new SeverityLevelToken();
 		} else if ("message".equals(name)) {
-			return new MessageAndExceptionToken(filters);
+			return new MessageAndExceptionToken(createExceptionToken());
 		} else if ("message-only".equals(name)) {
 			return new MessageToken();
 		} else if ("exception".equals(name)) {
-			return new ExceptionToken(filters);
+			return createExceptionToken();
 		} else if ("opening-curly-bracket".equals(name)) {
 			return new PlainTextToken("{");
 		} else if ("closing-curly-bracket".equals(name)) {
@@ -176,6 +208,15 @@ public final class FormatPatternParser {
 		}
 	}
 
+	/**
+	 * Creates a new {@link ExceptionToken} with the configured options for exceptions and other throwables.
+	 *
+	 * @return New instance of {@link ExceptionToken}
+	 */
+	private ExceptionToken createExceptionToken() {
+		return new ExceptionToken(filters, repeatWindow, maxDepth, maxFrames, foldedPackages);
+	}
+
 	/**
 	 * Creates a new {@link DateToken}.
 	 *
@@ -261,6 +302,68 @@ public final class FormatPatternParser {
 		return styledToken;
 	}
 
+	/**
+	 * Creates all throwable filters.
+	 *
+	 * @param property
+	 *            Comma separated list of throwable filters or {@code null}
+	 * @return Throwable filters
+	 */
+	private static List<ThrowableFilter> createFilters(final String property) {
+		if (property == null) {
+			return Collections.emptyList();
+		} else {
+			return new ServiceLoader<ThrowableFilter>(ThrowableFilter.class, String.class).createList(property);
+		}
+	}
+
+	/**
+	 * Reads a positive integer option for the output of exceptions and other throwables.
+	 *
+	 * @param properties
+	 *            Configuration for writer
+	 * @param key
+	 *            Name of property
+	 * @param defaultValue
+	 *            Default value, if the property is not defined or invalid
+	 * @return Configured or default value
+	 */
+	private static int parseOption(final Map<String, String> properties, final String key, final int defaultValue) {
+		String value = properties.get(key);
+		if (value == null) {
+			return defaultValue;
+		} else {
+			try {
+				return parsePositiveInteger(value.trim());
+			} catch (NumberFormatException ex) {
+				InternalLogger.log(Level.ERROR, "'" + value + "' is an invalid value for '" + key + "'");
+				return defaultValue;
+			}
+		}
+	}
+
+	/**
+	 * Splits a list of packages and classes.
+	 *
+	 * @param property
+	 *            Packages and classes, separated by a vertical bar "|", or {@code null}
+	 * @return All found packages and classes
+	 */
+	private static List<String> parsePackages(final String property) {
+		if (property == null) {
+			return Collections.emptyList();
+		} else {
+			List<String> packages = new ArrayList<String>();
+			for (String name : PACKAGE_SPLIT_PATTERN.split(property)) {
+				name = name.trim();
+				if (!name.isEmpty()) {
+					packages.add(name);
+				}
+			}
+			return packages;
+		}
+	}
+
 	/**
 	 * Parses a positive integer. In opposite to {@link Integer#parseInt(String)}, this method throws a
 	 * {@link NumberFormatException} for negative values.
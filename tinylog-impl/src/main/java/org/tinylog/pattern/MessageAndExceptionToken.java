@@ -40,6 +40,15 @@ final class MessageAndExceptionToken implements Token {
 		exceptionToken = new ExceptionToken(filters);
 	}
 
+	/**
+	 * @param exceptionToken
+	 *            Token for outputting the exception or other throwable
+	 */
+	MessageAndExceptionToken(final ExceptionToken exceptionToken) {
+		this.messageToken = new MessageToken();
+		this.exceptionToken = exceptionToken;
+	}
+
 	@Override
 	public Collection<LogEntryValue> getRequiredLogEntryValues() {
 		return EnumSet.of(LogEntryValue.MESSAGE, LogEntryValue.EXCEPTION);
@@ -47,10 +56,10 @@ final class MessageAndExceptionToken implements Token {
 
 	@Override
 	public void render(final LogEntry logEntry, final StringBuilder builder) {
-		messageToken.render(logEntry, builder);
+		boolean hasMessage = messageToken.renderMessage(logEntry, builder);
 
 		if (logEntry.getException() != null) {
-			if (logEntry.getMessage() != null) {
+			if (hasMessage) {
 				builder.append(": ");
 			}
 			exceptionToken.render(logEntry, builder);
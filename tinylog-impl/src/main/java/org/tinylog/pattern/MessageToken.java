@@ -17,7 +17,6 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.regex.Pattern;
 
 import org.tinylog.core.LogEntry;
 import org.tinylog.core.LogEntryValue;
@@ -27,7 +26,6 @@ import org.tinylog.core.LogEntryValue;
  */
 final class MessageToken implements Token {
 
-	private static final Pattern NEW_LINE_PATTERN = Pattern.compile("\r\n|\n|\r");
 	private static final String NEW_LINE = System.getProperty("line.separator");
 
 	/** */
@@ -41,9 +39,26 @@ final class MessageToken implements Token {
 
 	@Override
 	public void render(final LogEntry logEntry, final StringBuilder builder) {
-		String message = logEntry.getMessage();
-		if (message != null) {
-			builder.append(NEW_LINE_PATTERN.matcher(message).replaceAll(NEW_LINE));
+		renderMessage(logEntry, builder);
+	}
+
+	/**
+	 * Renders the text message of a log entry directly into a string builder. All kinds of line breaks are converted
+	 * into the line separator of the system.
+	 *
+	 * @param logEntry
+	 *            Log entry to render
+	 * @param builder
+	 *            Target for the text message
+	 * @return {@code true} if a text message has been rendered, {@code false} if the log entry has no text message
+	 */
+	boolean renderMessage(final LogEntry logEntry, final StringBuilder builder) {
+		int start = builder.length();
+		if (logEntry.appendMessage(builder)) {
+			normalizeNewLines(builder, start);
+			return true;
+		} else {
+			return false;
 		}
 	}
 
@@ -52,4 +67,25 @@ final class MessageToken implements Token {
 		statement.setString(index, logEntry.getMessage());
 	}
 
+	/**
+	 * Converts all line breaks into the line separator of the system.
+	 *
+	 * @param builder
+	 *            String builder with line breaks
+	 * @param start
+	 *            Index of the first character to convert
+	 */
+	private static void normalizeNewLines(final StringBuilder builder, final int start) {
+		for (int index = start; index < builder.length(); ++index) {
+			char character = builder.charAt(index);
+			if (character == '\r' || character == '\n') {
+				int length = character == '\r' && index + 1 < builder.length() && builder.charAt(index + 1) == '\n' ? 2 : 1;
+				if (length != NEW_LINE.length() || length == 1 && character != NEW_LINE.charAt(0)) {
+					builder.replace(index, index + length, NEW_LINE);
+				}
+				index += NEW_LINE.length() - 1;
+			}
+		}
+	}
+
 }
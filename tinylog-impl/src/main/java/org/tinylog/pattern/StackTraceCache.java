@@ -0,0 +1,337 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.pattern;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.tinylog.throwable.SuppressedExceptions;
+import org.tinylog.throwable.ThrowableData;
+import org.tinylog.throwable.ThrowableSnapshot;
+
+/**
+ * Bounded cache for rendered exceptions and other throwables.
+ *
+ * <p>
+ * Rendered stack traces are stored in a small hash table with a fixed number of slots. A throwable is found either by
+ * identity, if exactly the same instance is rendered again, or by its fingerprint consisting of class names, messages
+ * and stack trace elements of the throwable including all its causes and suppressed exceptions. If two different
+ * fingerprints compete for the same slot, the older one will be displaced. Cached throwables are only weakly
+ * referenced and can be garbage collected at any time.
+ * </p>
+ *
+ * <p>
+ * If a window is defined, only the first occurrence of a stack trace within this window is output completely. All
+ * repeats are output as short references in the form "[stack #a1b2 seen 342x]" that point to the complete stack
+ * trace.
+ * </p>
+ */
+final class StackTraceCache {
+
+	private static final String NEW_LINE = System.getProperty("line.separator");
+
+	private static final int SLOTS = 64;
+	private static final int ID_SHIFT = 16;
+	private static final int ID_MASK = 0xFFFF;
+	private static final int ID_LENGTH = 4;
+
+	private final long window;
+	private final Entry[] entries;
+
+	/**
+	 * @param window
+	 *            Window in nanoseconds in which repeats of a stack trace will be output as short references (zero
+	 *            for always outputting complete stack traces)
+	 */
+	StackTraceCache(final long window) {
+		this.window = window;
+		this.entries = new Entry[SLOTS];
+	}
+
+	/**
+	 * Gets the text to output for exactly the same throwable instance, if it has been rendered before. This lookup is
+	 * cheap, as no fingerprint has to be calculated.
+	 *
+	 * @param throwable
+	 *            Throwable to output
+	 * @return Complete stack trace or short reference, or {@code null} if the passed throwable instance is not cached
+	 */
+	synchronized String get(final Throwable throwable) {
+		Entry entry = findByIdentity(throwable);
+		return entry == null ? null : output(entry);
+	}
+
+	/**
+	 * Gets the text to output for a throwable with the passed fingerprint.
+	 *
+	 * @param fingerprint
+	 *            Fingerprint of the passed throwable
+	 * @param throwable
+	 *            Throwable to output
+	 * @return Complete stack trace or short reference, or {@code null} if there is no cached throwable with the same
+	 *         fingerprint
+	 */
+	synchronized String get(final Fingerprint fingerprint, final Throwable throwable) {
+		Entry entry = entries[fingerprint.hash & (SLOTS - 1)];
+		if (entry == null || !entry.fingerprint.equals(fingerprint)) {
+			return null;
+		} else {
+			entry.instance = new WeakReference<Throwable>(throwable);
+			return output(entry);
+		}
+	}
+
+	/**
+	 * Stores a rendered throwable.
+	 *
+	 * @param fingerprint
+	 *            Fingerprint of the passed throwable
+	 * @param throwable
+	 *            Original throwable
+	 * @param rendered
+	 *            Complete rendered stack trace
+	 * @return Text to output, which is the passed rendered stack trace, extended with an ID if repeats are output as
+	 *         short references
+	 */
+	synchronized String put(final Fingerprint fingerprint, final Throwable throwable, final String rendered) {
+		int lineEnd = rendered.indexOf(NEW_LINE);
+		String header = lineEnd == -1 ? rendered : rendered.substring(0, lineEnd);
+		String id = toId(fingerprint.hash);
+
+		String text;
+		if (window > 0) {
+			text = header + " [stack #" + id + "]" + rendered.substring(header.length());
+		} else {
+			text = rendered;
+		}
+
+		Entry entry = new Entry(fingerprint, throwable, header, id, text);
+		entry.start = System.nanoTime();
+		entry.count = 1;
+		entries[fingerprint.hash & (SLOTS - 1)] = entry;
+
+		return text;
+	}
+
+	/**
+	 * Gets the text to output for a cached throwable and counts the repeat.
+	 *
+	 * @param entry
+	 *            Entry of the cached throwable
+	 * @return Complete stack trace or short reference
+	 */
+	private String output(final Entry entry) {
+		if (window > 0) {
+			long now = System.nanoTime();
+			if (now - entry.start < window) {
+				entry.count += 1;
+				return entry.header + " [stack #" + entry.id + " seen " + entry.count + "x]";
+			} else {
+				entry.start = now;
+				entry.count = 1;
+			}
+		}
+
+		return entry.text;
+	}
+
+	/**
+	 * Searches for an entry with exactly the passed throwable.
+	 *
+	 * @param throwable
+	 *            Throwable to search for
+	 * @return Found entry or {@code null}
+	 */
+	private Entry findByIdentity(final Throwable throwable) {
+		for (Entry entry : entries) {
+			if (entry != null && entry.instance.get() == throwable) {
+				return entry;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Converts a hash into a short hexadecimal ID.
+	 *
+	 * @param hash
+	 *            Hash of fingerprint
+	 * @return Hexadecimal ID with four digits
+	 */
+	private static String toId(final int hash) {
+		String id = Integer.toHexString((hash ^ (hash >>> ID_SHIFT)) & ID_MASK);
+		StringBuilder builder = new StringBuilder(ID_LENGTH);
+		for (int i = id.length(); i < ID_LENGTH; ++i) {
+			builder.append('0');
+		}
+		return builder.append(id).toString();
+	}
+
+	/**
+	 * Cached rendered throwable.
+	 */
+	private static final class Entry {
+
+		private final Fingerprint fingerprint;
+		private final String header;
+		private final String id;
+		private final String text;
+
+		private WeakReference<Throwable> instance;
+		private long start;
+		private int count;
+
+		/**
+		 * @param fingerprint
+		 *            Fingerprint of the throwable
+		 * @param throwable
+		 *            Original throwable
+		 * @param header
+		 *            First line of the rendered throwable
+		 * @param id
+		 *            Short ID for references
+		 * @param text
+		 *            Complete rendered throwable
+		 */
+		private Entry(final Fingerprint fingerprint, final Throwable throwable, final String header, final String id,
+			final String text) {
+			this.fingerprint = fingerprint;
+			this.instance = new WeakReference<Throwable>(throwable);
+			this.header = header;
+			this.id = id;
+			this.text = text;
+		}
+
+	}
+
+	/**
+	 * Class names, messages and stack trace elements of a throwable including all its causes and suppressed exceptions.
+	 * The fingerprint is taken directly from the throwable without creating any {@link ThrowableData} wrappers. The hash
+	 * covers class names, messages, stack trace lengths and the top stack trace element of each throwable only, while
+	 * {@link #equals(Object)} compares all stack trace elements.
+	 */
+	static final class Fingerprint {
+
+		private static final int HASH_FACTOR = 31;
+
+		private final List<Object> values;
+		private final int hash;
+
+		/**
+		 * @param throwable
+		 *            Throwable to fingerprint
+		 */
+		Fingerprint(final Throwable throwable) {
+			values = new ArrayList<Object>();
+			hash = add(throwable, Collections.newSetFromMap(new IdentityHashMap<Throwable, Boolean>()), 1);
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (obj instanceof Fingerprint) {
+				Fingerprint other = (Fingerprint) obj;
+				return hash == other.hash && values.equals(other.values);
+			} else {
+				return false;
+			}
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		/**
+		 * Adds the values of a throwable and all its causes and suppressed exceptions. The end of each cause chain is
+		 * marked by {@code null}. Throwables that have been already visited are added as circular references without
+		 * traversing them again.
+		 *
+		 * @param throwable
+		 *            Throwable to add
+		 * @param visited
+		 *            All already visited throwables
+		 * @param seed
+		 *            Hash of all previously added values
+		 * @return Hash including all added values
+		 */
+		private int add(final Throwable throwable, final Set<Throwable> visited, final int seed) {
+			int result = seed;
+
+			for (Throwable current = throwable; current != null; current = current.getCause()) {
+				if (!visited.add(current)) {
+					values.add(CircularReference.INSTANCE);
+					values.add(getClassName(current));
+					values.add(current.getMessage());
+					break;
+				}
+
+				String className = getClassName(current);
+				String message = current.getMessage();
+				StackTraceElement[] stackTrace = current.getStackTrace();
+				Throwable[] suppressed = SuppressedExceptions.get(current);
+
+				values.add(className);
+				values.add(message);
+				values.add(Arrays.asList(stackTrace));
+				values.add(suppressed.length);
+
+				result = result * HASH_FACTOR + className.hashCode();
+				result = result * HASH_FACTOR + (message == null ? 0 : message.hashCode());
+				result = result * HASH_FACTOR + stackTrace.length;
+				result = result * HASH_FACTOR + (stackTrace.length == 0 ? 0 : stackTrace[0].hashCode());
+
+				for (Throwable exception : suppressed) {
+					result = add(exception, visited, result);
+				}
+			}
+
+			values.add(null);
+			return result;
+		}
+
+		/**
+		 * Gets the class name of a throwable. For {@link ThrowableSnapshot ThrowableSnapshots}, the class name of the
+		 * original throwable is returned.
+		 *
+		 * @param throwable
+		 *            Throwable
+		 * @return Fully-qualified class name
+		 */
+		private static String getClassName(final Throwable throwable) {
+			if (throwable instanceof ThrowableSnapshot) {
+				return ((ThrowableSnapshot) throwable).getClassName();
+			} else {
+				return throwable.getClass().getName();
+			}
+		}
+
+	}
+
+	/**
+	 * Marker for throwables that are referenced circularly.
+	 */
+	private enum CircularReference {
+
+		/** */
+		INSTANCE
+
+	}
+
+}
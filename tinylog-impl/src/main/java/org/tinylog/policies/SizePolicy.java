@@ -64,7 +64,20 @@ public final class SizePolicy implements Policy {
 
 	@Override
 	public boolean continueCurrentFile(final byte[] entry) {
-		count += entry.length;
+		return continueCurrentFile(entry.length);
+	}
+
+	/**
+	 * Checks if a log entry with the passed number of bytes can be appended to the current log file. In contrast to
+	 * {@link #continueCurrentFile(byte[])}, the log entry doesn't have to be copied into an array of its exact size.
+	 *
+	 * @param length
+	 *            Number of bytes of the log entry
+	 * @return {@code true} if log entry can be appended to the current log file, {@code false} if a new log file should
+	 *         be created
+	 */
+	public boolean continueCurrentFile(final int length) {
+		count += length;
 		return count <= maximum;
 	}
 
@@ -45,7 +45,16 @@ public abstract class AbstractStackTraceElementsFilter extends AbstractThrowable
 			cause = filter(cause);
 		}
 
-		return new ThrowableStore(origin.getClassName(), origin.getMessage(), newTrace, cause);
+		List<ThrowableData> suppressed = SuppressedExceptions.get(origin);
+		if (!suppressed.isEmpty()) {
+			List<ThrowableData> filteredSuppressed = new ArrayList<ThrowableData>(suppressed.size());
+			for (ThrowableData exception : suppressed) {
+				filteredSuppressed.add(filter(exception));
+			}
+			suppressed = filteredSuppressed;
+		}
+
+		return new ThrowableStore(origin.getClassName(), origin.getMessage(), newTrace, cause, suppressed);
 	}
 
 	/**
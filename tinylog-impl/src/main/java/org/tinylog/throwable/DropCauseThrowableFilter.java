@@ -34,13 +34,13 @@ public final class DropCauseThrowableFilter extends AbstractThrowableFilter {
 	@Override
 	public ThrowableData filter(final ThrowableData origin) {
 		if (getArguments().isEmpty()) {
-			return new ThrowableStore(origin.getClassName(), origin.getMessage(), origin.getStackTrace(), null);
+			return dropCause(origin);
 		} else {
 			String className = origin.getClassName();
 
 			for (String filter : getArguments()) {
 				if (className.equals(filter)) {
-					return new ThrowableStore(origin.getClassName(), origin.getMessage(), origin.getStackTrace(), null);
+					return dropCause(origin);
 				}
 			}
 			
@@ -48,4 +48,16 @@ public final class DropCauseThrowableFilter extends AbstractThrowableFilter {
 		}
 	}
 	
+	/**
+	 * Creates a copy of throwable data without cause.
+	 *
+	 * @param origin
+	 *            Original throwable data
+	 * @return Copy without cause
+	 */
+	private static ThrowableData dropCause(final ThrowableData origin) {
+		return new ThrowableStore(origin.getClassName(), origin.getMessage(), origin.getStackTrace(), null,
+			SuppressedExceptions.get(origin));
+	}
+
 }
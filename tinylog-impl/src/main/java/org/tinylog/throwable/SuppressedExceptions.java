@@ -0,0 +1,94 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.throwable;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.codehaus.mojo.animal_sniffer.IgnoreJRERequirement;
+
+/**
+ * Access to suppressed exceptions of throwables. Suppressed exceptions are available since Java 7. On older Java
+ * versions, throwables never have suppressed exceptions.
+ */
+public final class SuppressedExceptions {
+
+	private static final Throwable[] NONE = new Throwable[0];
+	private static final boolean SUPPORTED = isSupported();
+
+	/** */
+	private SuppressedExceptions() {
+	}
+
+	/**
+	 * Gets all suppressed exceptions of a throwable.
+	 *
+	 * @param throwable
+	 *            Throwable with suppressed exceptions
+	 * @return Suppressed exceptions or an empty array if there are none
+	 */
+	@IgnoreJRERequirement
+	public static Throwable[] get(final Throwable throwable) {
+		return SUPPORTED ? throwable.getSuppressed() : NONE;
+	}
+
+	/**
+	 * Gets all suppressed exceptions of throwable data. Suppressed exceptions are provided by {@link ThrowableStore}
+	 * and {@link ThrowableWrapper}. Other implementations of {@link ThrowableData}, for example from custom throwable
+	 * filters, are handled as throwables without suppressed exceptions.
+	 *
+	 * @param data
+	 *            Throwable data with suppressed exceptions
+	 * @return Suppressed exceptions or an empty list if there are none
+	 */
+	public static List<ThrowableData> get(final ThrowableData data) {
+		if (data instanceof ThrowableStore) {
+			return ((ThrowableStore) data).getSuppressed();
+		} else if (data instanceof ThrowableWrapper) {
+			return ((ThrowableWrapper) data).getSuppressed();
+		} else {
+			return Collections.emptyList();
+		}
+	}
+
+	/**
+	 * Adds a suppressed exception to a throwable. Nothing happens, if suppressed exceptions are not supported.
+	 *
+	 * @param throwable
+	 *            Throwable to add the suppressed exception to
+	 * @param suppressed
+	 *            Suppressed exception to add
+	 */
+	@IgnoreJRERequirement
+	static void add(final Throwable throwable, final Throwable suppressed) {
+		if (SUPPORTED) {
+			throwable.addSuppressed(suppressed);
+		}
+	}
+
+	/**
+	 * Checks whether suppressed exceptions are supported by the current Java version.
+	 *
+	 * @return {@code true} if supported, {@code false} if not
+	 */
+	private static boolean isSupported() {
+		try {
+			Throwable.class.getMethod("getSuppressed");
+			return true;
+		} catch (NoSuchMethodException ex) {
+			return false;
+		}
+	}
+
+}
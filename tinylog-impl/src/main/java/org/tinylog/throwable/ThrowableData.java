@@ -40,7 +40,7 @@ public interface ThrowableData {
 	 * @return Stack trace of the throwable
 	 */
 	List<StackTraceElement> getStackTrace();
-	
+
 	/**
 	 * Gets the cause of the throwable to output.
 	 * 
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.throwable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Chain of throwable filters that are applied one after another.
+ *
+ * <p>
+ * Consecutive built-in filters ({@code keep}, {@code strip}, {@code drop cause} and {@code unpack}) are compiled into
+ * one fused filter. This fused filter walks the cause chain, suppressed exceptions and all stack trace elements only
+ * once and creates new throwable data only for the final result. All packages and classes of {@code strip} filters are merged into one
+ * prefix trie. Custom throwable filters are applied as they are between the fused filters. The output is identical
+ * to applying all filters sequentially.
+ * </p>
+ */
+public final class ThrowableFilterChain implements ThrowableFilter {
+
+	private final List<ThrowableFilter> stages;
+
+	/**
+	 * @param filters
+	 *            Throwable filters in the order of application
+	 */
+	public ThrowableFilterChain(final List<ThrowableFilter> filters) {
+		stages = new ArrayList<ThrowableFilter>();
+
+		List<AbstractThrowableFilter> builtInFilters = new ArrayList<AbstractThrowableFilter>();
+		for (ThrowableFilter filter : filters) {
+			if (filter instanceof KeepThrowableFilter || filter instanceof StripThrowableFilter
+				|| filter instanceof DropCauseThrowableFilter || filter instanceof UnpackThrowableFilter) {
+				builtInFilters.add((AbstractThrowableFilter) filter);
+			} else {
+				if (!builtInFilters.isEmpty()) {
+					stages.add(new FusedFilter(builtInFilters));
+					builtInFilters.clear();
+				}
+				stages.add(filter);
+			}
+		}
+
+		if (!builtInFilters.isEmpty()) {
+			stages.add(new FusedFilter(builtInFilters));
+		}
+	}
+
+	@Override
+	public ThrowableData filter(final ThrowableData origin) {
+		ThrowableData data = origin;
+		for (ThrowableFilter stage : stages) {
+			data = stage.filter(data);
+		}
+		return data;
+	}
+
+	/**
+	 * Single-pass filter that combines multiple built-in throwable filters.
+	 */
+	private static final class FusedFilter implements ThrowableFilter {
+
+		private final List<CauseRule> causeRules;
+		private final List<PackageTrie> keptPackages;
+		private final PackageTrie strippedPackages;
+
+		/**
+		 * @param filters
+		 *            Built-in throwable filters in the order of application
+		 */
+		private FusedFilter(final List<AbstractThrowableFilter> filters) {
+			causeRules = new ArrayList<CauseRule>();
+			keptPackages = new ArrayList<PackageTrie>();
+
+			List<String> strips = new ArrayList<String>();
+			boolean stripping = false;
+
+			for (AbstractThrowableFilter filter : filters) {
+				if (filter instanceof KeepThrowableFilter) {
+					keptPackages.add(new PackageTrie(filter.getArguments()));
+				} else if (filter instanceof StripThrowableFilter) {
+					strips.addAll(filter.getArguments());
+					stripping = true;
+				} else {
+					causeRules.add(new CauseRule(filter instanceof UnpackThrowableFilter, filter.getArguments()));
+				}
+			}
+
+			strippedPackages = stripping ? new PackageTrie(strips) : null;
+		}
+
+		@Override
+		public ThrowableData filter(final ThrowableData origin) {
+			ThrowableData head = origin;
+			boolean dropped = false;
+
+			for (CauseRule rule : causeRules) {
+				if (!rule.unpack) {
+					dropped |= rule.matches(head.getClassName());
+				} else if (!dropped) {
+					ThrowableData cause = head.getCause();
+					while (cause != null && rule.matches(head.getClassName())) {
+						head = cause;
+						cause = head.getCause();
+					}
+				}
+			}
+
+			if (keptPackages.isEmpty() && strippedPackages == null) {
+				return dropped ? new ThrowableStore(head.getClassName(), head.getMessage(), head.getStackTrace(), null,
+					SuppressedExceptions.get(head)) : head;
+			} else {
+				return strip(head, !dropped);
+			}
+		}
+
+		/**
+		 * Creates a copy of throwable data with filtered stack traces for the throwable itself, its suppressed
+		 * exceptions and its causes.
+		 *
+		 * @param data
+		 *            Original throwable data
+		 * @param withCause
+		 *            {@code true} for keeping the cause, {@code false} for dropping it
+		 * @return Filtered throwable data
+		 */
+		private ThrowableData strip(final ThrowableData data, final boolean withCause) {
+			ThrowableData cause = withCause ? data.getCause() : null;
+
+			List<ThrowableData> suppressed = SuppressedExceptions.get(data);
+			if (!suppressed.isEmpty()) {
+				List<ThrowableData> strippedSuppressed = new ArrayList<ThrowableData>(suppressed.size());
+				for (ThrowableData exception : suppressed) {
+					strippedSuppressed.add(strip(exception, true));
+				}
+				suppressed = strippedSuppressed;
+			}
+
+			return new ThrowableStore(data.getClassName(), data.getMessage(), filter(data.getStackTrace()),
+				cause == null ? null : strip(cause, true), suppressed);
+		}
+
+		/**
+		 * Removes all stack trace elements that are not kept by the {@code keep} and {@code strip} filters.
+		 *
+		 * @param stackTrace
+		 *            Original stack trace
+		 * @return Filtered stack trace
+		 */
+		private List<StackTraceElement> filter(final List<StackTraceElement> stackTrace) {
+			List<StackTraceElement> newTrace = new ArrayList<StackTraceElement>(stackTrace.size());
+			for (StackTraceElement element : stackTrace) {
+				if (isKept(element.getClassName())) {
+					newTrace.add(element);
+				}
+			}
+			return newTrace;
+		}
+
+		/**
+		 * Tests if the stack trace element of a passed class name should be kept.
+		 *
+		 * @param className
+		 *            Fully-qualified class name
+		 * @return {@code true} if the stack trace element should be kept, {@code false} if not
+		 */
+		private boolean isKept(final String className) {
+			if (strippedPackages != null && strippedPackages.contains(className)) {
+				return false;
+			}
+
+			for (PackageTrie trie : keptPackages) {
+				if (!trie.contains(className)) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+	}
+
+	/**
+	 * Rule of a {@code drop cause} or {@code unpack} filter.
+	 */
+	private static final class CauseRule {
+
+		private final boolean unpack;
+		private final Set<String> classNames;
+
+		/**
+		 * @param unpack
+		 *            {@code true} for unpacking throwables, {@code false} for dropping their causes
+		 * @param classNames
+		 *            Class names of throwables to handle (an empty collection handles all throwables)
+		 */
+		private CauseRule(final boolean unpack, final Collection<String> classNames) {
+			this.unpack = unpack;
+			this.classNames = classNames.isEmpty() ? null : new HashSet<String>(classNames);
+		}
+
+		/**
+		 * Tests if this rule handles a throwable.
+		 *
+		 * @param className
+		 *            Class name of the throwable
+		 * @return {@code true} if the rule has to be applied, {@code false} if not
+		 */
+		private boolean matches(final String className) {
+			return classNames == null || classNames.contains(className);
+		}
+
+	}
+
+}
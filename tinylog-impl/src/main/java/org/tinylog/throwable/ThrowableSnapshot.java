@@ -0,0 +1,163 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.throwable;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Throwable that reproduces a previously recorded exception or other throwable. It is not thrown itself but outputs
+ * the class name, message, stack trace, suppressed exceptions and cause of the original throwable.
+ */
+public final class ThrowableSnapshot extends Throwable {
+
+	private static final long serialVersionUID = 1L;
+
+	private final String className;
+
+	/**
+	 * @param className
+	 *            Class name of the original throwable
+	 * @param message
+	 *            Message of the original throwable (can be {@code null})
+	 * @param stackTrace
+	 *            Stack trace of the original throwable
+	 * @param cause
+	 *            Cause of the original throwable (can be {@code null})
+	 */
+	public ThrowableSnapshot(final String className, final String message, final StackTraceElement[] stackTrace,
+		final ThrowableSnapshot cause) {
+		super(message, cause);
+		this.className = className;
+		setStackTrace(stackTrace);
+	}
+
+	/**
+	 * @param className
+	 *            Class name of the original throwable
+	 * @param message
+	 *            Message of the original throwable (can be {@code null})
+	 * @param stackTrace
+	 *            Stack trace of the original throwable
+	 * @param cause
+	 *            Cause of the original throwable (can be {@code null})
+	 * @param suppressed
+	 *            Suppressed exceptions of the original throwable
+	 */
+	public ThrowableSnapshot(final String className, final String message, final StackTraceElement[] stackTrace,
+		final ThrowableSnapshot cause, final ThrowableSnapshot[] suppressed) {
+		this(className, message, stackTrace, cause);
+		for (ThrowableSnapshot exception : suppressed) {
+			SuppressedExceptions.add(this, exception);
+		}
+	}
+
+	/**
+	 * @param className
+	 *            Class name of the original throwable
+	 * @param message
+	 *            Message of the original throwable (can be {@code null})
+	 * @param stackTrace
+	 *            Stack trace of the original throwable
+	 */
+	private ThrowableSnapshot(final String className, final String message, final StackTraceElement[] stackTrace) {
+		super(message);
+		this.className = className;
+		setStackTrace(stackTrace);
+	}
+
+	/**
+	 * Creates a compact snapshot of a throwable including all its causes and suppressed exceptions. The snapshot contains
+	 * only the class names, messages and stack traces. Thereby, the original throwable including all other data, which
+	 * is attached to it, can be garbage collected.
+	 *
+	 * @param throwable
+	 *            Original throwable
+	 * @param maxDepth
+	 *            Maximum number of stack trace elements to keep per throwable
+	 * @return Snapshot of the passed throwable
+	 */
+	public static ThrowableSnapshot create(final Throwable throwable, final int maxDepth) {
+		return create(throwable, maxDepth, new IdentityHashMap<Throwable, ThrowableSnapshot>());
+	}
+
+	/**
+	 * Creates a snapshot of a throwable including all its causes and suppressed exceptions. Throwables that have been
+	 * already visited are not copied again but reused. Thereby, circular references are preserved instead of resulting
+	 * in an endless recursion.
+	 *
+	 * @param throwable
+	 *            Original throwable
+	 * @param maxDepth
+	 *            Maximum number of stack trace elements to keep per throwable
+	 * @param snapshots
+	 *            All already created snapshots mapped by their original throwables
+	 * @return Snapshot of the passed throwable
+	 */
+	private static ThrowableSnapshot create(final Throwable throwable, final int maxDepth,
+		final Map<Throwable, ThrowableSnapshot> snapshots) {
+		ThrowableSnapshot snapshot = snapshots.get(throwable);
+		if (snapshot != null) {
+			return snapshot;
+		}
+
+		String className;
+		if (throwable instanceof ThrowableSnapshot) {
+			className = ((ThrowableSnapshot) throwable).getClassName();
+		} else {
+			className = throwable.getClass().getName();
+		}
+
+		StackTraceElement[] stackTrace = throwable.getStackTrace();
+		if (stackTrace.length > maxDepth) {
+			stackTrace = Arrays.copyOf(stackTrace, maxDepth);
+		}
+
+		snapshot = new ThrowableSnapshot(className, throwable.getMessage(), stackTrace);
+		snapshots.put(throwable, snapshot);
+
+		Throwable cause = throwable.getCause();
+		if (cause != null) {
+			snapshot.initCause(create(cause, maxDepth, snapshots));
+		}
+
+		for (Throwable suppressed : SuppressedExceptions.get(throwable)) {
+			SuppressedExceptions.add(snapshot, create(suppressed, maxDepth, snapshots));
+		}
+
+		return snapshot;
+	}
+
+	/**
+	 * Gets the class name of the original throwable.
+	 *
+	 * @return Class name of the original throwable
+	 */
+	public String getClassName() {
+		return className;
+	}
+
+	@Override
+	public synchronized Throwable fillInStackTrace() {
+		return this;
+	}
+
+	@Override
+	public String toString() {
+		String message = getLocalizedMessage();
+		return message == null ? className : className + ": " + message;
+	}
+
+}
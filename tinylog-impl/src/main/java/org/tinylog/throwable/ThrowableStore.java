@@ -13,6 +13,7 @@
 
 package org.tinylog.throwable;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -20,10 +21,11 @@ import java.util.List;
  */
 public final class ThrowableStore implements ThrowableData {
 
-	private String className;
-	private String message;
-	private List<StackTraceElement> stackTrace;
-	private ThrowableData cause;
+	private final String className;
+	private final String message;
+	private final List<StackTraceElement> stackTrace;
+	private final ThrowableData cause;
+	private final List<ThrowableData> suppressed;
 
 	/**
 	 * @param className
@@ -37,10 +39,28 @@ public final class ThrowableStore implements ThrowableData {
 	 */
 	public ThrowableStore(final String className, final String message, final List<StackTraceElement> stackTrace,
 		final ThrowableData cause) {
+		this(className, message, stackTrace, cause, Collections.<ThrowableData>emptyList());
+	}
+
+	/**
+	 * @param className
+	 *            Class name of the throwable
+	 * @param message
+	 *            Message of the throwable
+	 * @param stackTrace
+	 *            Stack trace for the throwable
+	 * @param cause
+	 *            Cause of the throwable (can be {@code null})
+	 * @param suppressed
+	 *            Suppressed exceptions of the throwable
+	 */
+	public ThrowableStore(final String className, final String message, final List<StackTraceElement> stackTrace,
+		final ThrowableData cause, final List<ThrowableData> suppressed) {
 		this.className = className;
 		this.message = message;
 		this.stackTrace = stackTrace;
 		this.cause = cause;
+		this.suppressed = suppressed;
 	}
 
 	@Override
@@ -58,6 +78,15 @@ public final class ThrowableStore implements ThrowableData {
 		return stackTrace;
 	}
 
+	/**
+	 * Gets the suppressed exceptions of the throwable to output.
+	 *
+	 * @return Suppressed exceptions or an empty list if there are none
+	 */
+	public List<ThrowableData> getSuppressed() {
+		return suppressed;
+	}
+
 	@Override
 	public ThrowableData getCause() {
 		return cause;
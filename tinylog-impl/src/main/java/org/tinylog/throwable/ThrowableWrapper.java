@@ -13,27 +13,51 @@
 
 package org.tinylog.throwable;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * Wrapper for exceptions and other throwables.
+ *
+ * <p>
+ * Causes and suppressed exceptions that refer back to an enclosing throwable are not wrapped again but replaced by a
+ * marker in the form "[CIRCULAR REFERENCE: ...]" like in {@link Throwable#printStackTrace()}. Thereby, circular
+ * references cannot result in endless recursions.
+ * </p>
  */
 public final class ThrowableWrapper implements ThrowableData {
 
 	private final Throwable throwable;
+	private final ThrowableWrapper parent;
 
 	/**
 	 * @param throwable
 	 *            Throwable to wrap
 	 */
 	public ThrowableWrapper(final Throwable throwable) {
+		this(throwable, null);
+	}
+
+	/**
+	 * @param throwable
+	 *            Throwable to wrap
+	 * @param parent
+	 *            Wrapper of the enclosing throwable (can be {@code null})
+	 */
+	private ThrowableWrapper(final Throwable throwable, final ThrowableWrapper parent) {
 		this.throwable = throwable;
+		this.parent = parent;
 	}
 
 	@Override
 	public String getClassName() {
-		return throwable.getClass().getName();
+		if (throwable instanceof ThrowableSnapshot) {
+			return ((ThrowableSnapshot) throwable).getClassName();
+		} else {
+			return throwable.getClass().getName();
+		}
 	}
 
 	@Override
@@ -46,9 +70,46 @@ public final class ThrowableWrapper implements ThrowableData {
 		return Arrays.asList(throwable.getStackTrace());
 	}
 
+	/**
+	 * Gets the suppressed exceptions of the throwable to output.
+	 *
+	 * @return Suppressed exceptions or an empty list if there are none
+	 */
+	public List<ThrowableData> getSuppressed() {
+		Throwable[] suppressed = SuppressedExceptions.get(throwable);
+		if (suppressed.length == 0) {
+			return Collections.emptyList();
+		} else {
+			List<ThrowableData> wrappers = new ArrayList<ThrowableData>(suppressed.length);
+			for (Throwable exception : suppressed) {
+				wrappers.add(wrap(exception));
+			}
+			return wrappers;
+		}
+	}
+
 	@Override
-	public ThrowableWrapper getCause() {
-		return throwable.getCause() == null ? null : new ThrowableWrapper(throwable.getCause());
+	public ThrowableData getCause() {
+		Throwable cause = throwable.getCause();
+		return cause == null ? null : wrap(cause);
+	}
+
+	/**
+	 * Wraps a cause or suppressed exception of the wrapped throwable.
+	 *
+	 * @param child
+	 *            Cause or suppressed exception
+	 * @return Wrapper for the passed throwable or a marker if the passed throwable is already an enclosing throwable
+	 */
+	private ThrowableData wrap(final Throwable child) {
+		for (ThrowableWrapper wrapper = this; wrapper != null; wrapper = wrapper.parent) {
+			if (wrapper.throwable == child) {
+				String marker = "[CIRCULAR REFERENCE: " + child + "]";
+				return new ThrowableStore(marker, null, Collections.<StackTraceElement>emptyList(), null);
+			}
+		}
+
+		return new ThrowableWrapper(child, this);
 	}
 
 }
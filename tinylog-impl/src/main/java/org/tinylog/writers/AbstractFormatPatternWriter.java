@@ -35,7 +35,7 @@ import org.tinylog.writers.raw.SynchronizedWriterDecorator;
 /**
  * Base writer for outputting rendered log entries. The format pattern will be read from property {@code format}.
  */
-public abstract class AbstractFormatPatternWriter implements Writer {
+public abstract class AbstractFormatPatternWriter implements ImmediateWriter {
 
 	private static final String DEFAULT_FORMAT_PATTERN = "{date} [{thread}] {class}.{method}()\n{level}: {message}";
 	private static final String NEW_LINE = System.getProperty("line.separator");
@@ -54,7 +54,7 @@ public abstract class AbstractFormatPatternWriter implements Writer {
 			pattern = DEFAULT_FORMAT_PATTERN;
 		}
 
-		token = new FormatPatternParser(properties.get("exception")).parse(pattern + NEW_LINE);
+		token = new FormatPatternParser(properties).parse(pattern + NEW_LINE);
 		builder = Boolean.parseBoolean(properties.get("writingthread")) ? new StringBuilder(BUILDER_CAPACITY) : null;
 	}
 
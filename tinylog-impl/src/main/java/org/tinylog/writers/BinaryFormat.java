@@ -0,0 +1,203 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers;
+
+/**
+ * Constants for the binary log file format that is written by {@link BinaryWriter} and read by {@link BinaryReader}.
+ *
+ * <p>
+ * A binary log file starts with a magic header followed by a sequence of records. Each record is prefixed by its
+ * length as unsigned variable-length integer and starts with a record type byte. Strings for classes, methods, source
+ * files, threads, tags, context keys, formatters and message templates are defined only once by a string record and
+ * afterwards referenced by their index. A reset record discards all defined strings and the base timestamp. Log entry
+ * records start with a bit mask of the contained values. Timestamps are stored as delta to the previous log entry.
+ * </p>
+ */
+final class BinaryFormat {
+
+	/**
+	 * Magic bytes at the beginning of every binary log file.
+	 */
+	static final byte[] MAGIC = { 't', 'i', 'n', 'y', 'l', 'o', 'g', 'b' };
+
+	/**
+	 * Version of the binary log file format.
+	 */
+	static final int VERSION = 1;
+
+	/**
+	 * Record that discards all defined strings and the base timestamp.
+	 */
+	static final int RESET_RECORD = 0;
+
+	/**
+	 * Record that defines a new string for the dictionary.
+	 */
+	static final int STRING_RECORD = 1;
+
+	/**
+	 * Record that contains a log entry.
+	 */
+	static final int ENTRY_RECORD = 2;
+
+	/**
+	 * Log entry contains date and time of issue.
+	 */
+	static final int DATE_FLAG = 0x1;
+
+	/**
+	 * Log entry contains issuing thread.
+	 */
+	static final int THREAD_FLAG = 0x2;
+
+	/**
+	 * Log entry contains thread context mapping.
+	 */
+	static final int CONTEXT_FLAG = 0x4;
+
+	/**
+	 * Log entry contains name of issuing class.
+	 */
+	static final int CLASS_FLAG = 0x8;
+
+	/**
+	 * Log entry contains name of issuing method.
+	 */
+	static final int METHOD_FLAG = 0x10;
+
+	/**
+	 * Log entry contains name of issuing source file.
+	 */
+	static final int FILE_FLAG = 0x20;
+
+	/**
+	 * Log entry contains line number in source file.
+	 */
+	static final int LINE_FLAG = 0x40;
+
+	/**
+	 * Log entry contains tag of logger.
+	 */
+	static final int TAG_FLAG = 0x80;
+
+	/**
+	 * Log entry contains severity level.
+	 */
+	static final int LEVEL_FLAG = 0x100;
+
+	/**
+	 * Log entry contains an already formatted text message.
+	 */
+	static final int MESSAGE_FLAG = 0x200;
+
+	/**
+	 * Log entry contains a message template with arguments.
+	 */
+	static final int TEMPLATE_FLAG = 0x400;
+
+	/**
+	 * Log entry contains an exception or other throwable.
+	 */
+	static final int EXCEPTION_FLAG = 0x800;
+
+	/**
+	 * Argument is {@code null}.
+	 */
+	static final int NULL_ARGUMENT = 0;
+
+	/**
+	 * Argument is a {@link String}.
+	 */
+	static final int STRING_ARGUMENT = 1;
+
+	/**
+	 * Argument is a {@link Byte}.
+	 */
+	static final int BYTE_ARGUMENT = 2;
+
+	/**
+	 * Argument is a {@link Short}.
+	 */
+	static final int SHORT_ARGUMENT = 3;
+
+	/**
+	 * Argument is an {@link Integer}.
+	 */
+	static final int INTEGER_ARGUMENT = 4;
+
+	/**
+	 * Argument is a {@link Long}.
+	 */
+	static final int LONG_ARGUMENT = 5;
+
+	/**
+	 * Argument is a {@link Float}.
+	 */
+	static final int FLOAT_ARGUMENT = 6;
+
+	/**
+	 * Argument is a {@link Double}.
+	 */
+	static final int DOUBLE_ARGUMENT = 7;
+
+	/**
+	 * Argument is a {@link java.math.BigInteger}.
+	 */
+	static final int BIG_INTEGER_ARGUMENT = 8;
+
+	/**
+	 * Argument is a {@link java.math.BigDecimal}.
+	 */
+	static final int BIG_DECIMAL_ARGUMENT = 9;
+
+	/**
+	 * Argument is {@link Boolean#FALSE}.
+	 */
+	static final int FALSE_ARGUMENT = 10;
+
+	/**
+	 * Argument is {@link Boolean#TRUE}.
+	 */
+	static final int TRUE_ARGUMENT = 11;
+
+	/**
+	 * Argument is a {@link Character}.
+	 */
+	static final int CHARACTER_ARGUMENT = 12;
+
+	/**
+	 * Number of payload bits per byte of a variable-length integer.
+	 */
+	static final int VARINT_SHIFT = 7;
+
+	/**
+	 * Mask for the payload bits of a variable-length integer byte.
+	 */
+	static final int VARINT_MASK = 0x7F;
+
+	/**
+	 * Bit that signals that a variable-length integer continues in the next byte.
+	 */
+	static final int VARINT_CONTINUATION = 0x80;
+
+	/**
+	 * Number of nanoseconds per millisecond.
+	 */
+	static final int NANOS_PER_MILLISECOND = 1000000;
+
+	/** */
+	private BinaryFormat() {
+	}
+
+}
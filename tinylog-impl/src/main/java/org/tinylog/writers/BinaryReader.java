@@ -0,0 +1,529 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.codehaus.mojo.animal_sniffer.IgnoreJRERequirement;
+import org.tinylog.Level;
+import org.tinylog.configuration.Configuration;
+import org.tinylog.core.LogEntry;
+import org.tinylog.format.AdvancedMessageFormatter;
+import org.tinylog.format.MessageFormatter;
+import org.tinylog.provider.InternalLogger;
+import org.tinylog.runtime.Timestamp;
+import org.tinylog.throwable.ThrowableSnapshot;
+
+/**
+ * Reader for binary log files that have been written by {@link BinaryWriter}. Each record is restored as
+ * {@link LogEntry} that can be rendered by any format pattern. Messages with arguments are formatted by the same
+ * message formatter that has been used while logging.
+ *
+ * @see BinaryFormat
+ */
+public final class BinaryReader implements Closeable {
+
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+	private static final int BUFFER_CAPACITY = 1024;
+
+	private final DataInputStream stream;
+	private final Locale locale;
+	private final boolean escape;
+
+	private final List<String> dictionary;
+	private final Map<Long, Thread> threads;
+	private final Map<String, MessageFormatter> formatters;
+
+	private byte[] data;
+	private int position;
+	private long lastMillis;
+
+	/**
+	 * Message formatters will use the locale and escaping mode from tinylog's configuration.
+	 *
+	 * @param stream
+	 *            Input stream of a binary log file
+	 * @throws IOException
+	 *             Input stream cannot be read or contains no binary log file
+	 */
+	public BinaryReader(final InputStream stream) throws IOException {
+		this(stream, Configuration.getLocale(), Configuration.isEscapingEnabled());
+	}
+
+	/**
+	 * @param stream
+	 *            Input stream of a binary log file
+	 * @param locale
+	 *            Locale for message formatters
+	 * @param escape
+	 *            {@code true} for enabling escaping of curly brackets in message templates, {@code false} for disabling
+	 * @throws IOException
+	 *             Input stream cannot be read or contains no binary log file
+	 */
+	public BinaryReader(final InputStream stream, final Locale locale, final boolean escape) throws IOException {
+		this.stream = new DataInputStream(stream);
+		this.locale = locale;
+		this.escape = escape;
+
+		dictionary = new ArrayList<String>();
+		threads = new HashMap<Long, Thread>();
+		formatters = new HashMap<String, MessageFormatter>();
+		data = new byte[BUFFER_CAPACITY];
+
+		byte[] header = new byte[BinaryFormat.MAGIC.length + 1];
+		try {
+			this.stream.readFully(header);
+		} catch (EOFException ex) {
+			throw new IOException("Stream is too short to be a binary log file");
+		}
+
+		if (!Arrays.equals(Arrays.copyOf(header, BinaryFormat.MAGIC.length), BinaryFormat.MAGIC)) {
+			throw new IOException("Stream is not a binary log file");
+		} else if (header[BinaryFormat.MAGIC.length] != BinaryFormat.VERSION) {
+			throw new IOException("Unsupported version " + header[BinaryFormat.MAGIC.length] + " of binary log file");
+		}
+	}
+
+	/**
+	 * Reads the next log entry.
+	 *
+	 * @return Next log entry or {@code null} if the end of the stream has been reached
+	 * @throws IOException
+	 *             Input stream cannot be read or is corrupted
+	 */
+	public LogEntry read() throws IOException {
+		while (true) {
+			int length;
+			try {
+				length = readVarInt(stream);
+			} catch (EOFException ex) {
+				return null;
+			}
+
+			if (length <= 0) {
+				throw new IOException("Invalid record length " + length);
+			} else if (length > data.length) {
+				data = new byte[Math.max(length, data.length * 2)];
+			}
+
+			try {
+				stream.readFully(data, 0, length);
+			} catch (EOFException ex) {
+				throw new IOException("Last record is truncated");
+			}
+
+			position = 1;
+
+			try {
+				switch (data[0]) {
+					case BinaryFormat.RESET_RECORD:
+						dictionary.clear();
+						threads.clear();
+						lastMillis = 0;
+						break;
+					case BinaryFormat.STRING_RECORD:
+						dictionary.add(new String(data, 1, length - 1, UTF_8));
+						break;
+					case BinaryFormat.ENTRY_RECORD:
+						return readLogEntry();
+					default:
+						throw new IOException("Unknown record type " + data[0]);
+				}
+			} catch (IndexOutOfBoundsException ex) {
+				throw new IOException("Record is corrupted", ex);
+			}
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		stream.close();
+	}
+
+	/**
+	 * Reads an unsigned variable-length integer from an input stream.
+	 *
+	 * @param stream
+	 *            Input stream to read from
+	 * @return Read integer
+	 * @throws IOException
+	 *             Input stream cannot be read
+	 */
+	private static int readVarInt(final DataInputStream stream) throws IOException {
+		int value = 0;
+		int shift = 0;
+		while (true) {
+			int current = stream.readUnsignedByte();
+			value |= (current & BinaryFormat.VARINT_MASK) << shift;
+			if ((current & BinaryFormat.VARINT_CONTINUATION) == 0) {
+				return value;
+			}
+			shift += BinaryFormat.VARINT_SHIFT;
+		}
+	}
+
+	/**
+	 * Decodes a zigzag encoded integer.
+	 *
+	 * @param value
+	 *            Zigzag encoded integer
+	 * @return Original signed integer
+	 */
+	private static long decodeZigZag(final long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	/**
+	 * Restores a log entry from the current entry record.
+	 *
+	 * @return Restored log entry
+	 * @throws IOException
+	 *             Record contains invalid data
+	 */
+	private LogEntry readLogEntry() throws IOException {
+		int flags = readVarInt();
+
+		Timestamp timestamp = null;
+		if ((flags & BinaryFormat.DATE_FLAG) != 0) {
+			lastMillis += decodeZigZag(readVarLong());
+			timestamp = new RestoredTimestamp(lastMillis, readVarInt());
+		}
+
+		Thread thread = null;
+		if ((flags & BinaryFormat.THREAD_FLAG) != 0) {
+			thread = getThread(readReference(), readVarLong());
+		}
+
+		Map<String, String> context = null;
+		if ((flags & BinaryFormat.CONTEXT_FLAG) != 0) {
+			int size = readVarInt();
+			context = new LinkedHashMap<String, String>(size * 2);
+			for (int i = 0; i < size; ++i) {
+				context.put(readReference(), readString());
+			}
+		}
+
+		String className = (flags & BinaryFormat.CLASS_FLAG) == 0 ? null : readReference();
+		String methodName = (flags & BinaryFormat.METHOD_FLAG) == 0 ? null : readReference();
+		String fileName = (flags & BinaryFormat.FILE_FLAG) == 0 ? null : readReference();
+		int lineNumber = (flags & BinaryFormat.LINE_FLAG) == 0 ? -1 : readVarInt();
+		String tag = (flags & BinaryFormat.TAG_FLAG) == 0 ? null : readReference();
+		Level level = (flags & BinaryFormat.LEVEL_FLAG) == 0 ? null : Level.values()[readVarInt()];
+
+		String message = null;
+		if ((flags & BinaryFormat.TEMPLATE_FLAG) != 0) {
+			MessageFormatter formatter = getFormatter(readReference());
+			String template = readReference();
+			Object[] arguments = new Object[readVarInt()];
+			for (int i = 0; i < arguments.length; ++i) {
+				arguments[i] = readArgument();
+			}
+			message = formatter.format(template, arguments);
+		} else if ((flags & BinaryFormat.MESSAGE_FLAG) != 0) {
+			message = readString();
+		}
+
+		Throwable exception = (flags & BinaryFormat.EXCEPTION_FLAG) == 0 ? null : readThrowable();
+
+		return new LogEntry(timestamp, thread, context, className, methodName, fileName, lineNumber, tag, level, message, exception);
+	}
+
+	/**
+	 * Reads a typed message argument from the current record.
+	 *
+	 * @return Restored argument
+	 * @throws IOException
+	 *             Record contains an unknown argument type
+	 */
+	private Object readArgument() throws IOException {
+		int type = data[position++];
+		switch (type) {
+			case BinaryFormat.NULL_ARGUMENT:
+				return null;
+			case BinaryFormat.STRING_ARGUMENT:
+				return readString();
+			case BinaryFormat.BYTE_ARGUMENT:
+				return (byte) decodeZigZag(readVarLong());
+			case BinaryFormat.SHORT_ARGUMENT:
+				return (short) decodeZigZag(readVarLong());
+			case BinaryFormat.INTEGER_ARGUMENT:
+				return (int) decodeZigZag(readVarLong());
+			case BinaryFormat.LONG_ARGUMENT:
+				return decodeZigZag(readVarLong());
+			case BinaryFormat.FLOAT_ARGUMENT:
+				return Float.intBitsToFloat(readVarInt());
+			case BinaryFormat.DOUBLE_ARGUMENT:
+				return Double.longBitsToDouble(readVarLong());
+			case BinaryFormat.BIG_INTEGER_ARGUMENT:
+				return new BigInteger(readString());
+			case BinaryFormat.BIG_DECIMAL_ARGUMENT:
+				return new BigDecimal(readString());
+			case BinaryFormat.FALSE_ARGUMENT:
+				return Boolean.FALSE;
+			case BinaryFormat.TRUE_ARGUMENT:
+				return Boolean.TRUE;
+			case BinaryFormat.CHARACTER_ARGUMENT:
+				return (char) readVarInt();
+			default:
+				throw new IOException("Unknown argument type " + type);
+		}
+	}
+
+	/**
+	 * Reads an exception or other throwable including its stack trace, suppressed exceptions and causes from the
+	 * current record.
+	 *
+	 * @return Restored throwable
+	 * @throws IOException
+	 *             Record contains invalid data
+	 */
+	private ThrowableSnapshot readThrowable() throws IOException {
+		String className = readReference();
+		String message = readString();
+
+		StackTraceElement[] stackTrace = new StackTraceElement[readVarInt()];
+		for (int i = 0; i < stackTrace.length; ++i) {
+			String declaringClass = readReference();
+			String methodName = readReference();
+			String fileName = readReference();
+			int lineNumber = (int) decodeZigZag(readVarLong());
+			stackTrace[i] = new StackTraceElement(declaringClass, methodName, fileName, lineNumber);
+		}
+
+		ThrowableSnapshot[] suppressed = new ThrowableSnapshot[readVarInt()];
+		for (int i = 0; i < suppressed.length; ++i) {
+			suppressed[i] = readThrowable();
+		}
+
+		ThrowableSnapshot cause = data[position++] == 0 ? null : readThrowable();
+		return new ThrowableSnapshot(className, message, stackTrace, cause, suppressed);
+	}
+
+	/**
+	 * Reads a reference to a string from the dictionary.
+	 *
+	 * @return Referenced string or {@code null}
+	 * @throws IOException
+	 *             Referenced string is not defined
+	 */
+	private String readReference() throws IOException {
+		int index = readVarInt();
+		if (index == 0) {
+			return null;
+		} else if (index > dictionary.size()) {
+			throw new IOException("Reference to undefined string #" + index);
+		} else {
+			return dictionary.get(index - 1);
+		}
+	}
+
+	/**
+	 * Reads a string that is stored directly in the current record.
+	 *
+	 * @return Read string or {@code null}
+	 */
+	private String readString() {
+		int length = readVarInt();
+		if (length == 0) {
+			return null;
+		} else {
+			String value = new String(data, position, length - 1, UTF_8);
+			position += length - 1;
+			return value;
+		}
+	}
+
+	/**
+	 * Reads an unsigned variable-length integer from the current record.
+	 *
+	 * @return Read integer
+	 */
+	private int readVarInt() {
+		return (int) readVarLong();
+	}
+
+	/**
+	 * Reads an unsigned variable-length long from the current record.
+	 *
+	 * @return Read long
+	 */
+	private long readVarLong() {
+		long value = 0;
+		int shift = 0;
+		while (true) {
+			byte current = data[position++];
+			value |= (long) (current & BinaryFormat.VARINT_MASK) << shift;
+			if ((current & BinaryFormat.VARINT_CONTINUATION) == 0) {
+				return value;
+			}
+			shift += BinaryFormat.VARINT_SHIFT;
+		}
+	}
+
+	/**
+	 * Gets a thread with the passed name and ID. Threads are reused as long as the name does not change.
+	 *
+	 * @param name
+	 *            Name of thread
+	 * @param id
+	 *            ID of thread
+	 * @return Thread with given name and ID
+	 */
+	private Thread getThread(final String name, final long id) {
+		Thread thread = threads.get(id);
+		if (thread == null || !thread.getName().equals(name)) {
+			thread = new RestoredThread(name, id);
+			threads.put(id, thread);
+		}
+		return thread;
+	}
+
+	/**
+	 * Gets a message formatter instance for a class name. Instances are created only once and reused for all log
+	 * entries. If a message formatter cannot be instantiated, {@link AdvancedMessageFormatter} will be used as fallback.
+	 *
+	 * @param className
+	 *            Fully-qualified class name of message formatter
+	 * @return Message formatter
+	 */
+	private MessageFormatter getFormatter(final String className) {
+		MessageFormatter formatter = formatters.get(className);
+		if (formatter == null) {
+			formatter = createFormatter(className);
+			if (formatter == null) {
+				InternalLogger.log(Level.WARN, "Cannot create message formatter '" + className + "', use default formatter instead");
+				formatter = new AdvancedMessageFormatter(locale, escape);
+			}
+			formatters.put(className, formatter);
+		}
+		return formatter;
+	}
+
+	/**
+	 * Creates a new message formatter. Supported are public constructors with a locale and escaping mode, with only a
+	 * locale, and without any parameters.
+	 *
+	 * @param className
+	 *            Fully-qualified class name of message formatter
+	 * @return Created message formatter or {@code null} if the message formatter cannot be instantiated
+	 */
+	private MessageFormatter createFormatter(final String className) {
+		try {
+			for (Constructor<?> constructor : Class.forName(className).getConstructors()) {
+				Class<?>[] types = constructor.getParameterTypes();
+				if (types.length == 2 && types[0] == Locale.class && types[1] == boolean.class) {
+					return (MessageFormatter) constructor.newInstance(locale, escape);
+				} else if (types.length == 1 && types[0] == Locale.class) {
+					return (MessageFormatter) constructor.newInstance(locale);
+				} else if (types.length == 0) {
+					return (MessageFormatter) constructor.newInstance();
+				}
+			}
+			return null;
+		} catch (ClassNotFoundException ex) {
+			return null;
+		} catch (InstantiationException ex) {
+			return null;
+		} catch (IllegalAccessException ex) {
+			return null;
+		} catch (InvocationTargetException ex) {
+			return null;
+		} catch (ClassCastException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * Timestamp with millisecond precision and additional nanoseconds.
+	 */
+	private static final class RestoredTimestamp implements Timestamp {
+
+		private final long millis;
+		private final int nanos;
+
+		/**
+		 * @param millis
+		 *            Milliseconds since 1970-01-01T00:00:00Z
+		 * @param nanos
+		 *            Additional nanoseconds within the millisecond
+		 */
+		private RestoredTimestamp(final long millis, final int nanos) {
+			this.millis = millis;
+			this.nanos = nanos;
+		}
+
+		@Override
+		public Date toDate() {
+			return new Date(millis);
+		}
+
+		@IgnoreJRERequirement
+		@Override
+		public Instant toInstant() {
+			return Instant.ofEpochMilli(millis).plusNanos(nanos);
+		}
+
+		@Override
+		public java.sql.Timestamp toSqlTimestamp() {
+			java.sql.Timestamp timestamp = new java.sql.Timestamp(millis);
+			timestamp.setNanos(timestamp.getNanos() + nanos);
+			return timestamp;
+		}
+
+	}
+
+	/**
+	 * Placeholder for a thread that has issued log entries. It will be never started.
+	 */
+	private static final class RestoredThread extends Thread {
+
+		private final long id;
+
+		/**
+		 * @param name
+		 *            Name of original thread
+		 * @param id
+		 *            ID of original thread
+		 */
+		private RestoredThread(final String name, final long id) {
+			super(name);
+			this.id = id;
+		}
+
+		@Override
+		public long getId() {
+			return id;
+		}
+
+	}
+
+}
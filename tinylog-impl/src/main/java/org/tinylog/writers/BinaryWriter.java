@@ -0,0 +1,582 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.tinylog.Level;
+import org.tinylog.configuration.ServiceLoader;
+import org.tinylog.core.LogEntry;
+import org.tinylog.core.LogEntryValue;
+import org.tinylog.provider.InternalLogger;
+import org.tinylog.throwable.SuppressedExceptions;
+import org.tinylog.throwable.ThrowableData;
+import org.tinylog.throwable.ThrowableFilter;
+import org.tinylog.throwable.ThrowableFilterChain;
+import org.tinylog.throwable.ThrowableWrapper;
+import org.tinylog.writers.raw.ByteArrayWriter;
+
+/**
+ * Writer for outputting log entries in a compact binary format into a file. Messages with arguments are stored as
+ * unformatted template plus arguments. Therefore, no text has to be formatted or rendered while logging. Binary log
+ * files can be converted into readable text by {@link BinaryReader} and any format pattern.
+ *
+ * @see BinaryFormat
+ */
+public final class BinaryWriter implements Writer {
+
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+	private static final String DEFAULT_VALUES = "date, thread, context, class, method, file, line, tag, level, message, exception";
+	private static final int BUFFER_CAPACITY = 1024;
+	private static final int MAXIMUM_DICTIONARY_SIZE = 0x10000;
+	private static final long UNSIGNED_INT_MASK = 0xFFFFFFFFL;
+
+	private final Collection<LogEntryValue> values;
+	private final ThrowableFilter filter;
+
+	private final Object mutex;
+	private final ByteArrayWriter writer;
+
+	private final Map<String, Integer> dictionary;
+	private final Buffer output;
+	private final Buffer record;
+	private long lastMillis;
+
+	/**
+	 * @throws FileNotFoundException
+	 *             Log file does not exist or cannot be opened for any other reason
+	 * @throws IOException
+	 *             Header cannot be written to log file
+	 * @throws IllegalArgumentException
+	 *             A property has an invalid value or is missing in configuration
+	 */
+	public BinaryWriter() throws FileNotFoundException, IOException {
+		this(Collections.<String, String>emptyMap());
+	}
+
+	/**
+	 * @param properties
+	 *            Configuration for writer
+	 *
+	 * @throws FileNotFoundException
+	 *             Log file does not exist or cannot be opened for any other reason
+	 * @throws IOException
+	 *             Header cannot be written to log file
+	 * @throws IllegalArgumentException
+	 *             A property has an invalid value or is missing in configuration
+	 */
+	public BinaryWriter(final Map<String, String> properties) throws FileNotFoundException, IOException {
+		String fileName = AbstractFormatPatternWriter.getFileName(properties);
+		boolean append = Boolean.parseBoolean(properties.get("append"));
+		boolean buffered = Boolean.parseBoolean(properties.get("buffered"));
+		boolean writingThread = Boolean.parseBoolean(properties.get("writingthread"));
+
+		values = parseValues(properties.get("values"));
+		filter = new ThrowableFilterChain(createFilters(properties.get("exception")));
+
+		mutex = writingThread ? null : new Object();
+		dictionary = new HashMap<String, Integer>();
+		output = new Buffer(BUFFER_CAPACITY);
+		record = new Buffer(BUFFER_CAPACITY);
+
+		boolean continued = append && new File(fileName).length() > 0;
+		writer = AbstractFormatPatternWriter.createByteArrayWriter(fileName, append, buffered, false, false);
+
+		if (continued) {
+			output.writeVarInt(1);
+			output.writeByte(BinaryFormat.RESET_RECORD);
+		} else {
+			output.writeBytes(BinaryFormat.MAGIC);
+			output.writeByte(BinaryFormat.VERSION);
+		}
+
+		writer.write(output.data, output.size);
+		output.size = 0;
+	}
+
+	@Override
+	public Collection<LogEntryValue> getRequiredLogEntryValues() {
+		return values;
+	}
+
+	@Override
+	public void write(final LogEntry logEntry) throws IOException {
+		if (mutex == null) {
+			doWrite(logEntry);
+		} else {
+			synchronized (mutex) {
+				doWrite(logEntry);
+			}
+		}
+	}
+
+	@Override
+	public void flush() throws IOException {
+		if (mutex == null) {
+			writer.flush();
+		} else {
+			synchronized (mutex) {
+				writer.flush();
+			}
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (mutex == null) {
+			writer.close();
+		} else {
+			synchronized (mutex) {
+				writer.close();
+			}
+		}
+	}
+
+	/**
+	 * Creates all throwable filters that should be applied before writing exceptions.
+	 *
+	 * @param property
+	 *            Comma separated list of throwable filters or {@code null}
+	 * @return Throwable filters
+	 */
+	private static List<ThrowableFilter> createFilters(final String property) {
+		if (property == null) {
+			return Collections.emptyList();
+		} else {
+			return new ServiceLoader<ThrowableFilter>(ThrowableFilter.class, String.class).createList(property);
+		}
+	}
+
+	/**
+	 * Parses the log entry values that should be recorded.
+	 *
+	 * @param property
+	 *            Comma separated list of value names or {@code null} for recording all values
+	 * @return Required log entry values
+	 */
+	private static Collection<LogEntryValue> parseValues(final String property) {
+		Collection<LogEntryValue> values = EnumSet.noneOf(LogEntryValue.class);
+
+		for (String name : (property == null ? DEFAULT_VALUES : property).split(",")) {
+			String value = name.trim().toUpperCase(Locale.ROOT);
+			if ("MESSAGE".equals(value)) {
+				values.add(LogEntryValue.ARGUMENTS);
+			} else if (value.length() > 0) {
+				try {
+					values.add(LogEntryValue.valueOf(value));
+				} catch (IllegalArgumentException ex) {
+					InternalLogger.log(Level.ERROR, "Unknown log entry value '" + name.trim() + "' for binary writer");
+				}
+			}
+		}
+
+		return values;
+	}
+
+	/**
+	 * Encodes a log entry and writes it into the log file. Required but not yet defined strings are written as separate
+	 * string records before the actual log entry record.
+	 *
+	 * @param logEntry
+	 *            Log entry to write
+	 * @throws IOException
+	 *             Failed to write log entry
+	 */
+	private void doWrite(final LogEntry logEntry) throws IOException {
+		if (dictionary.size() >= MAXIMUM_DICTIONARY_SIZE) {
+			dictionary.clear();
+			lastMillis = 0;
+			output.writeVarInt(1);
+			output.writeByte(BinaryFormat.RESET_RECORD);
+		}
+
+		int flags = getFlags(logEntry);
+
+		record.size = 0;
+		record.writeByte(BinaryFormat.ENTRY_RECORD);
+		record.writeVarInt(flags);
+
+		if ((flags & BinaryFormat.DATE_FLAG) != 0) {
+			Timestamp timestamp = logEntry.getTimestamp().toSqlTimestamp();
+			long millis = timestamp.getTime();
+			record.writeVarLong(encodeZigZag(millis - lastMillis));
+			record.writeVarInt(timestamp.getNanos() % BinaryFormat.NANOS_PER_MILLISECOND);
+			lastMillis = millis;
+		}
+
+		if ((flags & BinaryFormat.THREAD_FLAG) != 0) {
+			Thread thread = logEntry.getThread();
+			writeReference(thread.getName());
+			record.writeVarLong(thread.getId());
+		}
+
+		if ((flags & BinaryFormat.CONTEXT_FLAG) != 0) {
+			Map<String, String> context = logEntry.getContext();
+			record.writeVarInt(context.size());
+			for (Entry<String, String> entry : context.entrySet()) {
+				writeReference(entry.getKey());
+				writeString(entry.getValue());
+			}
+		}
+
+		if ((flags & BinaryFormat.CLASS_FLAG) != 0) {
+			writeReference(logEntry.getClassName());
+		}
+
+		if ((flags & BinaryFormat.METHOD_FLAG) != 0) {
+			writeReference(logEntry.getMethodName());
+		}
+
+		if ((flags & BinaryFormat.FILE_FLAG) != 0) {
+			writeReference(logEntry.getFileName());
+		}
+
+		if ((flags & BinaryFormat.LINE_FLAG) != 0) {
+			record.writeVarInt(logEntry.getLineNumber());
+		}
+
+		if ((flags & BinaryFormat.TAG_FLAG) != 0) {
+			writeReference(logEntry.getTag());
+		}
+
+		if ((flags & BinaryFormat.LEVEL_FLAG) != 0) {
+			record.writeVarInt(logEntry.getLevel().ordinal());
+		}
+
+		if ((flags & BinaryFormat.TEMPLATE_FLAG) != 0) {
+			writeReference(logEntry.getMessageFormatter().getClass().getName());
+			writeReference(logEntry.getMessageTemplate());
+			Object[] arguments = logEntry.getMessageArguments();
+			record.writeVarInt(arguments.length);
+			for (Object argument : arguments) {
+				writeArgument(argument);
+			}
+		} else if ((flags & BinaryFormat.MESSAGE_FLAG) != 0) {
+			writeString(logEntry.getMessage());
+		}
+
+		if ((flags & BinaryFormat.EXCEPTION_FLAG) != 0) {
+			writeThrowable(filter.filter(new ThrowableWrapper(logEntry.getException())));
+		}
+
+		output.writeVarInt(record.size);
+		output.writeBytes(record.data, record.size);
+
+		writer.write(output.data, output.size);
+		output.size = 0;
+	}
+
+	/**
+	 * Determines which values of a log entry will be written.
+	 *
+	 * @param logEntry
+	 *            Log entry to write
+	 * @return Bit mask of available values
+	 */
+	private int getFlags(final LogEntry logEntry) {
+		int flags = 0;
+
+		if (logEntry.getTimestamp() != null && values.contains(LogEntryValue.DATE)) {
+			flags |= BinaryFormat.DATE_FLAG;
+		}
+
+		if (logEntry.getThread() != null && values.contains(LogEntryValue.THREAD)) {
+			flags |= BinaryFormat.THREAD_FLAG;
+		}
+
+		if (logEntry.getContext() != null && !logEntry.getContext().isEmpty() && values.contains(LogEntryValue.CONTEXT)) {
+			flags |= BinaryFormat.CONTEXT_FLAG;
+		}
+
+		if (logEntry.getClassName() != null && values.contains(LogEntryValue.CLASS)) {
+			flags |= BinaryFormat.CLASS_FLAG;
+		}
+
+		if (logEntry.getMethodName() != null && values.contains(LogEntryValue.METHOD)) {
+			flags |= BinaryFormat.METHOD_FLAG;
+		}
+
+		if (logEntry.getFileName() != null && values.contains(LogEntryValue.FILE)) {
+			flags |= BinaryFormat.FILE_FLAG;
+		}
+
+		if (logEntry.getLineNumber() >= 0 && values.contains(LogEntryValue.LINE)) {
+			flags |= BinaryFormat.LINE_FLAG;
+		}
+
+		if (logEntry.getTag() != null && values.contains(LogEntryValue.TAG)) {
+			flags |= BinaryFormat.TAG_FLAG;
+		}
+
+		if (logEntry.getLevel() != null && values.contains(LogEntryValue.LEVEL)) {
+			flags |= BinaryFormat.LEVEL_FLAG;
+		}
+
+		if (logEntry.getMessageTemplate() != null && values.contains(LogEntryValue.ARGUMENTS)) {
+			flags |= BinaryFormat.TEMPLATE_FLAG;
+		} else if (logEntry.getMessage() != null && values.contains(LogEntryValue.ARGUMENTS)) {
+			flags |= BinaryFormat.MESSAGE_FLAG;
+		}
+
+		if (logEntry.getException() != null && values.contains(LogEntryValue.EXCEPTION)) {
+			flags |= BinaryFormat.EXCEPTION_FLAG;
+		}
+
+		return flags;
+	}
+
+	/**
+	 * Writes a reference to a string from the dictionary into the log entry record. If the passed string is not defined
+	 * yet, it will be added to the dictionary and a new string record will be written.
+	 *
+	 * @param value
+	 *            String to reference
+	 */
+	private void writeReference(final String value) {
+		if (value == null) {
+			record.writeVarInt(0);
+		} else {
+			Integer index = dictionary.get(value);
+			if (index == null) {
+				index = dictionary.size();
+				dictionary.put(value, index);
+
+				byte[] bytes = value.getBytes(UTF_8);
+				output.writeVarInt(bytes.length + 1);
+				output.writeByte(BinaryFormat.STRING_RECORD);
+				output.writeBytes(bytes, bytes.length);
+			}
+			record.writeVarInt(index + 1);
+		}
+	}
+
+	/**
+	 * Writes a string directly into the log entry record.
+	 *
+	 * @param value
+	 *            String to write (can be {@code null})
+	 */
+	private void writeString(final String value) {
+		if (value == null) {
+			record.writeVarInt(0);
+		} else {
+			byte[] bytes = value.getBytes(UTF_8);
+			record.writeVarInt(bytes.length + 1);
+			record.writeBytes(bytes, bytes.length);
+		}
+	}
+
+	/**
+	 * Writes a resolved message argument with its type into the log entry record.
+	 *
+	 * @param argument
+	 *            Argument to write
+	 */
+	private void writeArgument(final Object argument) {
+		if (argument == null) {
+			record.writeByte(BinaryFormat.NULL_ARGUMENT);
+		} else if (argument instanceof String) {
+			record.writeByte(BinaryFormat.STRING_ARGUMENT);
+			writeString((String) argument);
+		} else if (argument instanceof Integer) {
+			record.writeByte(BinaryFormat.INTEGER_ARGUMENT);
+			record.writeVarLong(encodeZigZag((Integer) argument));
+		} else if (argument instanceof Long) {
+			record.writeByte(BinaryFormat.LONG_ARGUMENT);
+			record.writeVarLong(encodeZigZag((Long) argument));
+		} else if (argument instanceof Short) {
+			record.writeByte(BinaryFormat.SHORT_ARGUMENT);
+			record.writeVarLong(encodeZigZag((Short) argument));
+		} else if (argument instanceof Byte) {
+			record.writeByte(BinaryFormat.BYTE_ARGUMENT);
+			record.writeVarLong(encodeZigZag((Byte) argument));
+		} else if (argument instanceof Double) {
+			record.writeByte(BinaryFormat.DOUBLE_ARGUMENT);
+			record.writeVarLong(Double.doubleToLongBits((Double) argument));
+		} else if (argument instanceof Float) {
+			record.writeByte(BinaryFormat.FLOAT_ARGUMENT);
+			record.writeVarInt(Float.floatToIntBits((Float) argument));
+		} else if (argument instanceof Boolean) {
+			record.writeByte((Boolean) argument ? BinaryFormat.TRUE_ARGUMENT : BinaryFormat.FALSE_ARGUMENT);
+		} else if (argument instanceof Character) {
+			record.writeByte(BinaryFormat.CHARACTER_ARGUMENT);
+			record.writeVarInt((Character) argument);
+		} else if (argument instanceof BigInteger) {
+			record.writeByte(BinaryFormat.BIG_INTEGER_ARGUMENT);
+			writeString(argument.toString());
+		} else if (argument instanceof BigDecimal) {
+			record.writeByte(BinaryFormat.BIG_DECIMAL_ARGUMENT);
+			writeString(argument.toString());
+		} else {
+			record.writeByte(BinaryFormat.STRING_ARGUMENT);
+			writeString(argument.toString());
+		}
+	}
+
+	/**
+	 * Writes an exception or other throwable including its stack trace, suppressed exceptions and causes into the log
+	 * entry record.
+	 *
+	 * @param throwable
+	 *            Throwable to write
+	 */
+	private void writeThrowable(final ThrowableData throwable) {
+		writeReference(throwable.getClassName());
+		writeString(throwable.getMessage());
+
+		List<StackTraceElement> stackTrace = throwable.getStackTrace();
+		record.writeVarInt(stackTrace.size());
+		for (StackTraceElement element : stackTrace) {
+			writeReference(element.getClassName());
+			writeReference(element.getMethodName());
+			writeReference(element.getFileName());
+			record.writeVarLong(encodeZigZag(element.getLineNumber()));
+		}
+
+		List<ThrowableData> suppressed = SuppressedExceptions.get(throwable);
+		record.writeVarInt(suppressed.size());
+		for (ThrowableData exception : suppressed) {
+			writeThrowable(exception);
+		}
+
+		ThrowableData cause = throwable.getCause();
+		if (cause == null) {
+			record.writeByte(0);
+		} else {
+			record.writeByte(1);
+			writeThrowable(cause);
+		}
+	}
+
+	/**
+	 * Maps signed integers to unsigned integers, so that numbers with a small absolute value have a small variable-length
+	 * encoding.
+	 *
+	 * @param value
+	 *            Signed integer
+	 * @return Zigzag encoded integer
+	 */
+	private static long encodeZigZag(final long value) {
+		return (value << 1) ^ (value >> (Long.SIZE - 1));
+	}
+
+	/**
+	 * Growable byte array with support for variable-length integers.
+	 */
+	private static final class Buffer {
+
+		private byte[] data;
+		private int size;
+
+		/**
+		 * @param capacity
+		 *            Initial capacity in bytes
+		 */
+		private Buffer(final int capacity) {
+			data = new byte[capacity];
+		}
+
+		/**
+		 * Appends a single byte.
+		 *
+		 * @param value
+		 *            Byte to append
+		 */
+		private void writeByte(final int value) {
+			ensureCapacity(1);
+			data[size++] = (byte) value;
+		}
+
+		/**
+		 * Appends all bytes of an array.
+		 *
+		 * @param bytes
+		 *            Bytes to append
+		 */
+		private void writeBytes(final byte[] bytes) {
+			writeBytes(bytes, bytes.length);
+		}
+
+		/**
+		 * Appends the first bytes of an array.
+		 *
+		 * @param bytes
+		 *            Bytes to append
+		 * @param length
+		 *            Number of bytes to append
+		 */
+		private void writeBytes(final byte[] bytes, final int length) {
+			ensureCapacity(length);
+			System.arraycopy(bytes, 0, data, size, length);
+			size += length;
+		}
+
+		/**
+		 * Appends an unsigned variable-length integer.
+		 *
+		 * @param value
+		 *            Unsigned integer to append
+		 */
+		private void writeVarInt(final int value) {
+			writeVarLong(value & UNSIGNED_INT_MASK);
+		}
+
+		/**
+		 * Appends an unsigned variable-length long.
+		 *
+		 * @param value
+		 *            Unsigned long to append
+		 */
+		private void writeVarLong(final long value) {
+			ensureCapacity((Long.SIZE + BinaryFormat.VARINT_SHIFT - 1) / BinaryFormat.VARINT_SHIFT);
+
+			long remaining = value;
+			while ((remaining & ~BinaryFormat.VARINT_MASK) != 0) {
+				data[size++] = (byte) ((remaining & BinaryFormat.VARINT_MASK) | BinaryFormat.VARINT_CONTINUATION);
+				remaining >>>= BinaryFormat.VARINT_SHIFT;
+			}
+			data[size++] = (byte) remaining;
+		}
+
+		/**
+		 * Ensures that the requested number of bytes can be appended without exceeding the capacity.
+		 *
+		 * @param length
+		 *            Number of bytes to append
+		 */
+		private void ensureCapacity(final int length) {
+			if (size + length > data.length) {
+				byte[] newData = new byte[Math.max(data.length * 2, size + length)];
+				System.arraycopy(data, 0, newData, 0, size);
+				data = newData;
+			}
+		}
+
+	}
+
+}
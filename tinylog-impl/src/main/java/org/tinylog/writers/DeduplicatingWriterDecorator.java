@@ -0,0 +1,202 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.tinylog.Level;
+import org.tinylog.core.LogEntry;
+import org.tinylog.core.LogEntryValue;
+
+/**
+ * Decorator for writers that suppresses repeated log entries with identical messages and severity levels.
+ *
+ * <p>
+ * The first occurrence of a message is passed immediately to the underlying writer. All repeats within the defined
+ * interval are swallowed and reported later as one log entry with the suffix "(repeated N times)". Summaries are output
+ * when the message is displaced, when the writer is flushed after the interval has expired, or when the writer is
+ * closed. Recent messages are tracked in a small hash table with a fixed number of slots. If two different messages
+ * compete for the same slot, the older one will be displaced.
+ * </p>
+ *
+ * <p>
+ * The hash table itself does not allocate any objects. However, the text message of each log entry has to be
+ * formatted for comparison, even if the underlying writer would not need it, and each summary is a new log entry
+ * with a new text message.
+ * </p>
+ */
+public final class DeduplicatingWriterDecorator implements Writer {
+
+	private static final int SLOTS = 64;
+	private static final int HASH_FACTOR = 31;
+	private static final int HASH_SHIFT = 16;
+
+	private final Writer writer;
+	private final long interval;
+
+	private final int[] hashes;
+	private final LogEntry[] entries;
+	private final long[] starts;
+	private final int[] repeats;
+
+	/**
+	 * @param writer
+	 *            Underlying writer for outputting log entries
+	 * @param interval
+	 *            Interval in nanoseconds in which repeats of a message will be suppressed
+	 */
+	public DeduplicatingWriterDecorator(final Writer writer, final long interval) {
+		this.writer = writer;
+		this.interval = interval;
+
+		this.hashes = new int[SLOTS];
+		this.entries = new LogEntry[SLOTS];
+		this.starts = new long[SLOTS];
+		this.repeats = new int[SLOTS];
+	}
+
+	/**
+	 * Gets the underlying writer.
+	 *
+	 * @return Decorated writer
+	 */
+	public Writer getWriter() {
+		return writer;
+	}
+
+	@Override
+	public Collection<LogEntryValue> getRequiredLogEntryValues() {
+		Set<LogEntryValue> values = EnumSet.of(LogEntryValue.LEVEL, LogEntryValue.MESSAGE);
+		values.addAll(writer.getRequiredLogEntryValues());
+		return values;
+	}
+
+	@Override
+	public void write(final LogEntry logEntry) throws Exception {
+		String message = logEntry.getMessage();
+		if (message == null) {
+			writer.write(logEntry);
+			return;
+		}
+
+		Level level = logEntry.getLevel();
+		int hash = message.hashCode() * HASH_FACTOR + level.ordinal();
+		int index = (hash ^ (hash >>> HASH_SHIFT)) & (SLOTS - 1);
+		long now = System.nanoTime();
+
+		LogEntry displacedEntry;
+		int displacedRepeats;
+
+		synchronized (entries) {
+			LogEntry current = entries[index];
+			if (current != null && hashes[index] == hash && current.getLevel() == level && message.equals(current.getMessage())
+				&& now - starts[index] < interval) {
+				entries[index] = logEntry;
+				repeats[index] += 1;
+				return;
+			}
+
+			displacedEntry = current;
+			displacedRepeats = repeats[index];
+
+			hashes[index] = hash;
+			entries[index] = logEntry;
+			starts[index] = now;
+			repeats[index] = 0;
+		}
+
+		if (displacedRepeats > 0) {
+			writer.write(summarize(displacedEntry, displacedRepeats));
+		}
+
+		writer.write(logEntry);
+	}
+
+	/**
+	 * Outputs summaries for all suppressed repeats whose interval has expired and flushes the underlying writer
+	 * afterwards.
+	 */
+	@Override
+	public void flush() throws Exception {
+		try {
+			for (LogEntry logEntry : release(false)) {
+				writer.write(logEntry);
+			}
+		} finally {
+			writer.flush();
+		}
+	}
+
+	/**
+	 * Outputs summaries for all suppressed repeats and closes the underlying writer afterwards.
+	 */
+	@Override
+	public void close() throws Exception {
+		try {
+			for (LogEntry logEntry : release(true)) {
+				writer.write(logEntry);
+			}
+		} finally {
+			writer.close();
+		}
+	}
+
+	/**
+	 * Removes tracked messages from the hash table and creates summaries for their suppressed repeats.
+	 *
+	 * @param all
+	 *            {@code true} for removing all tracked messages, {@code false} for removing only tracked messages whose
+	 *            interval has expired
+	 * @return Summaries for suppressed repeats
+	 */
+	private List<LogEntry> release(final boolean all) {
+		List<LogEntry> summaries = new ArrayList<LogEntry>();
+		long now = System.nanoTime();
+
+		synchronized (entries) {
+			for (int i = 0; i < SLOTS; ++i) {
+				if (entries[i] != null && (all || now - starts[i] >= interval)) {
+					if (repeats[i] > 0) {
+						summaries.add(summarize(entries[i], repeats[i]));
+					}
+					entries[i] = null;
+					repeats[i] = 0;
+				}
+			}
+		}
+
+		return summaries;
+	}
+
+	/**
+	 * Creates a copy of a log entry with the number of suppressed repeats appended to the message.
+	 *
+	 * @param logEntry
+	 *            Last suppressed log entry
+	 * @param count
+	 *            Number of suppressed repeats
+	 * @return Summarizing log entry
+	 */
+	private static LogEntry summarize(final LogEntry logEntry, final int count) {
+		String message = logEntry.getMessage() + " (repeated " + count + " times)";
+		return new LogEntry(logEntry.getTimestamp(), logEntry.getThread(), logEntry.getContext(), logEntry.getClassName(),
+			logEntry.getMethodName(), logEntry.getFileName(), logEntry.getLineNumber(), logEntry.getTag(), logEntry.getLevel(),
+			message, logEntry.getException());
+	}
+
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers;
+
+/**
+ * Marker interface for writers that output log entries immediately while {@link #write(org.tinylog.core.LogEntry)} is
+ * executed and do not keep any references to passed log entries afterwards.
+ *
+ * <p>
+ * The text messages of log entries with arguments can be formatted lazily, if all writers for a tag and severity
+ * level implement this interface. For all other writers, text messages are formatted while issuing log entries, since
+ * the arguments could have changed when the log entry is output later.
+ * </p>
+ */
+public interface ImmediateWriter extends Writer {
+
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.tinylog.core.LogEntry;
+import org.tinylog.policies.SizePolicy;
+
+/**
+ * Append-only journal file for storing log entries of {@link JdbcWriter} while the database is unavailable. Log
+ * entries are stored in the format of {@link BinaryWriter} and can be read in chunks for replaying. New log entries
+ * can be still appended while reading, since each new writer session continues the file with a reset record.
+ *
+ * <p>
+ * Read log entries are only removed from the journal after being confirmed by {@link #confirm()}. Unconfirmed log
+ * entries are returned again by the next call of {@link #read(int)}. When closing the journal after confirming log
+ * entries, the journal file is rewritten with only the not yet confirmed log entries. Until then, confirmed log
+ * entries remain in the journal file and will be read again by the next instance, if the journal is not closed
+ * properly. Therefore, log entries are delivered at least once.
+ * </p>
+ *
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ */
+final class JdbcJournal {
+
+	private static final String TEMPORARY_FILE_EXTENSION = ".tmp";
+
+	private final String path;
+	private final SizePolicy policy;
+	private final List<LogEntry> unconfirmed;
+
+	private BinaryWriter writer;
+	private BinaryReader reader;
+	private boolean empty;
+	private boolean exhausted;
+	private boolean confirmed;
+
+	/**
+	 * @param path
+	 *            Path to journal file
+	 * @param maximumSize
+	 *            Maximum size for journal file (e.g. "16MB")
+	 *
+	 * @throws IllegalArgumentException
+	 *             Invalid or unsupported maximum size
+	 */
+	JdbcJournal(final String path, final String maximumSize) {
+		this.path = path;
+		this.policy = new SizePolicy(maximumSize);
+		this.unconfirmed = new ArrayList<LogEntry>();
+		this.empty = new File(path).length() == 0;
+	}
+
+	/**
+	 * Checks whether there are any log entries that still have to be read.
+	 *
+	 * @return {@code true} if there are no log entries to read, {@code false} if there are log entries to read
+	 */
+	boolean isEmpty() {
+		return empty;
+	}
+
+	/**
+	 * Appends a log entry to the journal file. The log entry is refused if the journal file has already reached its
+	 * maximum size.
+	 *
+	 * @param logEntry
+	 *            Log entry to append
+	 * @return {@code true} if the log entry has been appended, {@code false} if the journal file is full
+	 *
+	 * @throws IOException
+	 *             Failed to write log entry into journal file
+	 */
+	boolean append(final LogEntry logEntry) throws IOException {
+		if (!policy.continueExistingFile(path)) {
+			return false;
+		}
+
+		if (writer == null) {
+			writer = createWriter(path, true);
+		}
+
+		writer.write(logEntry);
+		empty = false;
+		exhausted = false;
+		return true;
+	}
+
+	/**
+	 * Reads the next log entries from the journal file. The returned log entries remain in the journal file until they
+	 * are confirmed by {@link #confirm()}. After confirming all log entries, the journal file will be deleted. If the
+	 * journal file is corrupted, it will be deleted as well.
+	 *
+	 * @param limit
+	 *            Maximum number of log entries to read
+	 * @return Read log entries
+	 *
+	 * @throws IOException
+	 *             Failed to read journal file
+	 */
+	List<LogEntry> read(final int limit) throws IOException {
+		if (!empty) {
+			try {
+				if (writer != null) {
+					writer.close();
+					writer = null;
+				}
+
+				if (reader == null) {
+					reader = new BinaryReader(new FileInputStream(path));
+				}
+
+				while (!exhausted && unconfirmed.size() < limit) {
+					LogEntry logEntry = reader.read();
+					if (logEntry == null) {
+						exhausted = true;
+					} else {
+						unconfirmed.add(logEntry);
+					}
+				}
+			} catch (IOException ex) {
+				discard();
+				throw ex;
+			}
+
+			if (exhausted && unconfirmed.isEmpty()) {
+				discard();
+			}
+		}
+
+		return new ArrayList<LogEntry>(unconfirmed);
+	}
+
+	/**
+	 * Confirms that all log entries, which have been returned by the last call of {@link #read(int)}, have been
+	 * replayed successfully. These log entries will be not returned again.
+	 *
+	 * @throws IOException
+	 *             Failed to delete the completely replayed journal file
+	 */
+	void confirm() throws IOException {
+		if (!unconfirmed.isEmpty()) {
+			unconfirmed.clear();
+			confirmed = true;
+
+			if (exhausted) {
+				discard();
+			}
+		}
+	}
+
+	/**
+	 * Closes the journal file. Not yet confirmed log entries remain in the journal file and will be read by the next
+	 * instance. If log entries have been already confirmed, the journal file will be rewritten without them.
+	 *
+	 * @throws IOException
+	 *             Failed to close or rewrite journal file
+	 */
+	void close() throws IOException {
+		try {
+			if (writer != null) {
+				writer.close();
+			}
+		} finally {
+			writer = null;
+			if (reader != null) {
+				try {
+					if (confirmed) {
+						truncate(reader);
+					}
+				} finally {
+					unconfirmed.clear();
+					exhausted = false;
+					confirmed = false;
+					reader.close();
+					reader = null;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Rewrites the journal file with only the not yet confirmed log entries.
+	 *
+	 * @param source
+	 *            Opened reader for the current journal file
+	 * @throws IOException
+	 *             Failed to read the journal file or to write the new journal file
+	 */
+	private void truncate(final BinaryReader source) throws IOException {
+		File file = new File(path);
+		File temporaryFile = new File(path + TEMPORARY_FILE_EXTENSION);
+		boolean remaining = !unconfirmed.isEmpty();
+
+		BinaryWriter tail = createWriter(temporaryFile.getPath(), false);
+		try {
+			for (LogEntry logEntry : unconfirmed) {
+				tail.write(logEntry);
+			}
+
+			for (LogEntry logEntry = source.read(); logEntry != null; logEntry = source.read()) {
+				tail.write(logEntry);
+				remaining = true;
+			}
+		} finally {
+			tail.close();
+		}
+
+		source.close();
+
+		if (!file.delete()) {
+			throw new IOException("Failed to delete journal file \"" + path + "\"");
+		} else if (!remaining) {
+			empty = true;
+			if (!temporaryFile.delete()) {
+				throw new IOException("Failed to delete temporary journal file \"" + temporaryFile + "\"");
+			}
+		} else if (!temporaryFile.renameTo(file)) {
+			throw new IOException("Failed to rename \"" + temporaryFile + "\" to \"" + path + "\"");
+		}
+	}
+
+	/**
+	 * Closes and deletes the journal file.
+	 *
+	 * @throws IOException
+	 *             Failed to close or delete journal file
+	 */
+	private void discard() throws IOException {
+		confirmed = false;
+		close();
+
+		File file = new File(path);
+		empty = true;
+
+		if (file.exists() && !file.delete()) {
+			throw new IOException("Failed to delete journal file \"" + path + "\"");
+		}
+	}
+
+	/**
+	 * Creates a binary writer for a journal file.
+	 *
+	 * @param path
+	 *            Path to journal file
+	 * @param append
+	 *            {@code true} for continuing an existing file, {@code false} for overwriting
+	 * @return Created binary writer
+	 *
+	 * @throws IOException
+	 *             Failed to open journal file
+	 */
+	private static BinaryWriter createWriter(final String path, final boolean append) throws IOException {
+		Map<String, String> properties = new HashMap<String, String>();
+		properties.put("file", path);
+		properties.put("append", Boolean.toString(append));
+		properties.put("writingthread", "true");
+		return new BinaryWriter(properties);
+	}
+
+}
@@ -13,6 +13,7 @@
 
 package org.tinylog.writers;
 
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.PreparedStatement;
@@ -39,28 +40,80 @@ import org.tinylog.provider.InternalLogger;
 
 /**
  * Writer for inserting log entries into a SQL database table.
+ *
+ * <p>
+ * In batch mode, log entries are collected and inserted as batch as soon as the configured batch size or batch latency
+ * is reached. Batches can be optionally inserted as multi-row insert statements and by a separate sender thread. The
+ * sender thread uses two alternating buffers, so that new log entries can be collected while the previous batch is
+ * being transmitted to the database.
+ * </p>
+ *
+ * <p>
+ * Multi-row insert statements are limited to the configured maximum number of bind parameters per statement
+ * ({@code batch.parameters}, 2000 by default, as SQL Server accepts at most 2100 parameters). Batches with more bind
+ * parameters are split into several insert statements.
+ * </p>
+ *
+ * <p>
+ * Without sender thread, the batch latency is checked only when the next log entry is written or the writer is
+ * flushed. Therefore, collected log entries can remain longer than the configured batch latency in the batch, if no
+ * further log entries are issued. The sender thread enforces the batch latency on its own.
+ * </p>
+ *
+ * <p>
+ * If a journal file is configured, log entries will be stored in this file while the database is unavailable instead
+ * of being discarded. After reconnecting, the stored log entries are replayed in batches, limited to the configured
+ * number of log entries per second. Replaying is triggered by writing new log entries and by flushing. As long as the
+ * journal file contains log entries, new log entries are appended to the journal file, so that they are inserted after
+ * all older log entries. Only if the journal file is full, new log entries are inserted directly. Not yet replayed
+ * log entries remain in the journal file across restarts.
+ * </p>
+ *
+ * <p>
+ * Log entries from the journal file are delivered at least once. Replayed log entries are only removed from the
+ * journal file when the journal file has been replayed completely or the writer is closed. If the application
+ * terminates without closing the writer or the database connection breaks while replaying, already inserted log
+ * entries will be replayed again.
+ * </p>
  */
 public final class JdbcWriter implements Writer {
 
 	private static final String FIELD_PREFIX = "field.";
-	private static final long MAX_BATCH_SIZE = 100;
+	private static final int DEFAULT_BATCH_SIZE = 100;
+	private static final int DEFAULT_MAX_PARAMETERS = 2000;
 	private static final long MIN_RETRY_INTERVAL = 1000;
+	private static final String SENDER_THREAD_NAME = "tinylog-JdbcSenderThread";
+	private static final String DEFAULT_JOURNAL_SIZE = "10MB";
+	private static final int DEFAULT_REPLAY_RATE = 1000;
+	private static final long MILLISECONDS_PER_SECOND = 1000;
 
 	private final String url;
 	private final String user;
 	private final String password;
 	private final boolean reconnect;
 	private final boolean batch;
+	private final int batchSize;
+	private final long batchLatency;
+	private final boolean multiRow;
+	private final int rowsPerStatement;
 
 	private final Object mutex;
-	private final String sql;
+	private final String sqlPrefix;
+	private final String sqlRow;
 	private final List<Token> tokens;
+	private final List<LogEntry> pending;
+	private final SenderThread sender;
+	private final JdbcJournal journal;
+	private final long replayRate;
 
 	private Connection connection;
 	private PreparedStatement statement;
+	private PreparedStatement multiRowStatement;
 	private long batchCount;
+	private long batchTimestamp;
 	private long lostCount;
 	private long reconnectTimestamp;
+	private long replayTimestamp;
 
 	/**
 	 * @throws NamingException
@@ -86,14 +139,40 @@ public final class JdbcWriter implements Writer {
 		user = properties.get("user");
 		password = properties.get("password");
 		reconnect = Boolean.parseBoolean(properties.get("reconnect"));
-		batch = Boolean.parseBoolean(properties.get("batch"));
+		multiRow = Boolean.parseBoolean(properties.get("batch.multirow"));
+		boolean async = Boolean.parseBoolean(properties.get("batch.async"));
+		batch = Boolean.parseBoolean(properties.get("batch")) || multiRow || async;
+		batchSize = (int) parsePositiveNumber(properties, "batch.size", DEFAULT_BATCH_SIZE);
+		batchLatency = parsePositiveNumber(properties, "batch.latency", 0);
 
 		mutex = Boolean.parseBoolean(properties.get("writingthread")) ? null : new Object();
 
 		connection = connect(url, user, password);
-		sql = renderSql(properties, connection.getMetaData().getIdentifierQuoteString());
-		statement = connection.prepareStatement(sql);
 		tokens = createTokens(properties);
+		sqlPrefix = renderSqlPrefix(properties, connection.getMetaData().getIdentifierQuoteString());
+		sqlRow = renderSqlRow(tokens.size());
+		statement = connection.prepareStatement(sqlPrefix + sqlRow);
+
+		int maxParameters = (int) parsePositiveNumber(properties, "batch.parameters", DEFAULT_MAX_PARAMETERS);
+		rowsPerStatement = Math.max(1, Math.min(batchSize, maxParameters / Math.max(1, tokens.size())));
+
+		pending = multiRow && !async ? new ArrayList<LogEntry>(batchSize) : null;
+
+		String journalFile = properties.get("journal");
+		if (journalFile == null) {
+			journal = null;
+		} else {
+			String journalSize = properties.get("journal.size");
+			journal = new JdbcJournal(journalFile, journalSize == null ? DEFAULT_JOURNAL_SIZE : journalSize);
+		}
+		replayRate = parsePositiveNumber(properties, "journal.rate", DEFAULT_REPLAY_RATE);
+
+		if (async) {
+			sender = new SenderThread();
+			sender.start();
+		} else {
+			sender = null;
+		}
 	}
 
 	@Override
@@ -107,7 +186,9 @@ public final class JdbcWriter implements Writer {
 
 	@Override
 	public void write(final LogEntry logEntry) throws SQLException {
-		if (mutex == null) {
+		if (sender != null) {
+			sender.add(logEntry);
+		} else if (mutex == null) {
 			doWrite(logEntry);
 		} else {
 			synchronized (mutex) {
@@ -118,7 +199,15 @@ public final class JdbcWriter implements Writer {
 
 	@Override
 	public void flush() throws SQLException {
-		if (batch) {
+		if (sender != null) {
+			if (batchLatency == 0) {
+				sender.requestFlush();
+			}
+
+			if (journal != null) {
+				sender.requestReplay();
+			}
+		} else if (batch || journal != null) {
 			if (mutex == null) {
 				doFlush();
 			} else {
@@ -131,6 +220,10 @@ public final class JdbcWriter implements Writer {
 
 	@Override
 	public void close() throws SQLException {
+		if (sender != null) {
+			sender.shutdown();
+		}
+
 		if (mutex == null) {
 			doClose();
 		} else {
@@ -150,8 +243,46 @@ public final class JdbcWriter implements Writer {
 	 *             Database access failed
 	 */
 	private void doWrite(final LogEntry logEntry) throws SQLException {
-		if (checkConnection()) {
+		boolean connected = checkConnection();
+		if (connected && journal != null && batchCount == 0) {
+			connected = replayJournal();
+		}
+
+		if (!connected) {
+			if (!store(logEntry)) {
+				lostCount += 1;
+			}
+		} else if (journal == null || journal.isEmpty() || !store(logEntry)) {
+			insert(logEntry);
+		}
+	}
+
+	/**
+	 * Unsynchronized method for inserting a log entry into the database or adding it to the current batch.
+	 *
+	 * @param logEntry
+	 *            Log entry to insert
+	 *
+	 * @throws SQLException
+	 *             Database access failed
+	 */
+	private void insert(final LogEntry logEntry) throws SQLException {
+		if (pending != null) {
+			if (pending.isEmpty()) {
+				batchTimestamp = System.currentTimeMillis();
+			}
+
+			pending.add(logEntry);
+			batchCount = pending.size();
+
+			if (isBatchDue()) {
+				sendPendingEntries();
+			}
+		} else {
 			if (batch) {
+				if (batchCount == 0) {
+					batchTimestamp = System.currentTimeMillis();
+				}
 				batchCount += 1;
 			}
 
@@ -167,7 +298,7 @@ public final class JdbcWriter implements Writer {
 			try {
 				if (batch) {
 					statement.addBatch();
-					if (batchCount >= MAX_BATCH_SIZE) {
+					if (isBatchDue()) {
 						statement.executeBatch();
 						batchCount = 0;
 					}
@@ -178,29 +309,284 @@ public final class JdbcWriter implements Writer {
 				resetConnection();
 				throw ex;
 			}
-		} else {
-			lostCount += 1;
 		}
 	}
 
 	/**
-	 * Unsynchronized method for flushing all cached batch insert statements.
+	 * Unsynchronized method for flushing all cached batch insert statements. If a batch latency is configured, the
+	 * cached log entries will be only inserted after reaching the batch latency. Log entries from the journal file
+	 * will be replayed, if the replay rate permits it.
 	 *
 	 * @throws SQLException
 	 *             Database access failed
 	 */
 	private void doFlush() throws SQLException {
+		if (journal != null && batchCount == 0 && checkConnection()) {
+			replayJournal();
+		}
+
+		if (batchLatency == 0 || System.currentTimeMillis() - batchTimestamp >= batchLatency) {
+			doFlushImmediately();
+		}
+	}
+
+	/**
+	 * Unsynchronized method for inserting all cached log entries immediately.
+	 *
+	 * @throws SQLException
+	 *             Database access failed
+	 */
+	private void doFlushImmediately() throws SQLException {
 		if (batchCount > 0) {
+			if (pending == null) {
+				try {
+					statement.executeBatch();
+					batchCount = 0;
+				} catch (SQLException ex) {
+					resetConnection();
+					throw ex;
+				}
+			} else {
+				sendPendingEntries();
+			}
+		}
+	}
+
+	/**
+	 * Checks whether the cached log entries have reached the batch size or batch latency.
+	 *
+	 * @return {@code true} if the cached log entries should be inserted now, otherwise {@code false}
+	 */
+	private boolean isBatchDue() {
+		return batchCount >= batchSize || (batchLatency > 0 && System.currentTimeMillis() - batchTimestamp >= batchLatency);
+	}
+
+	/**
+	 * Inserts all log entries that have been collected for a multi-row insert statement.
+	 *
+	 * @throws SQLException
+	 *             Database access failed
+	 */
+	private void sendPendingEntries() throws SQLException {
+		try {
+			insertRows(pending);
+		} finally {
+			pending.clear();
+			batchCount = 0;
+		}
+	}
+
+	/**
+	 * Inserts log entries as batch on the sender thread. Failures are output via {@link InternalLogger}, since there
+	 * is no caller to whom they can be reported. If the journal file still contains log entries after replaying, the
+	 * passed log entries are appended to the journal file instead of being inserted, as long as it is not full.
+	 *
+	 * @param entries
+	 *            Log entries to insert
+	 */
+	private void transmit(final List<LogEntry> entries) {
+		boolean connected = checkConnection();
+		if (connected && journal != null) {
+			connected = replayJournal();
+		}
+
+		List<LogEntry> unstored = entries;
+		if (!connected || (journal != null && !journal.isEmpty())) {
+			unstored = new ArrayList<LogEntry>();
+			for (LogEntry logEntry : entries) {
+				if (!store(logEntry)) {
+					unstored.add(logEntry);
+				}
+			}
+		}
+
+		if (!connected) {
+			lostCount += unstored.size();
+		} else if (!unstored.isEmpty()) {
 			try {
-				statement.executeBatch();
-				batchCount = 0;
+				if (multiRow) {
+					insertRows(unstored);
+				} else {
+					insertBatch(unstored);
+				}
 			} catch (SQLException ex) {
-				resetConnection();
-				throw ex;
+				InternalLogger.log(Level.ERROR, ex, "Failed to insert log entries into database");
+			} catch (RuntimeException ex) {
+				InternalLogger.log(Level.ERROR, ex, "Failed to insert log entries into database");
+			}
+		}
+	}
+
+	/**
+	 * Stores a log entry in the journal file, if a journal file is configured.
+	 *
+	 * @param logEntry
+	 *            Log entry to store
+	 * @return {@code true} if the log entry has been stored, {@code false} if it has not been stored
+	 */
+	private boolean store(final LogEntry logEntry) {
+		if (journal != null) {
+			try {
+				return journal.append(logEntry);
+			} catch (IOException ex) {
+				InternalLogger.log(Level.ERROR, ex, "Failed to write log entry into journal");
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Replays the next batch of log entries from the journal file, if the replay rate permits it. The database
+	 * connection must be established and no other log entries may be cached for batch execution.
+	 *
+	 * <p>
+	 * Replayed log entries are only removed from the journal after being inserted successfully. If the database
+	 * connection breaks while replaying, the log entries remain in the journal and will be replayed again after
+	 * reconnecting. Log entries that cannot be inserted for any other reason are removed and counted as lost.
+	 * </p>
+	 *
+	 * @return {@code true} if the database connection is still established, {@code false} if it broke while replaying
+	 */
+	private boolean replayJournal() {
+		long now = System.currentTimeMillis();
+		if (!journal.isEmpty() && now >= replayTimestamp) {
+			List<LogEntry> entries;
+			try {
+				entries = journal.read(batchSize);
+			} catch (IOException ex) {
+				InternalLogger.log(Level.ERROR, ex, "Failed to read log entries from journal");
+				return true;
+			}
+
+			long lost = lostCount;
+			replayTimestamp = now + entries.size() * MILLISECONDS_PER_SECOND / replayRate;
+
+			try {
+				if (multiRow) {
+					insertRows(entries);
+				} else {
+					insertBatch(entries);
+				}
+			} catch (SQLException ex) {
+				InternalLogger.log(Level.ERROR, ex, "Failed to replay log entries from journal");
+				batchCount = 0;
+				if (connection == null) {
+					lostCount = lost;
+					return false;
+				} else {
+					lostCount = lost + entries.size();
+				}
+			}
+
+			try {
+				journal.confirm();
+			} catch (IOException ex) {
+				InternalLogger.log(Level.ERROR, ex, "Failed to remove replayed log entries from journal");
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Inserts log entries via JDBC batch execution. Each batch contains at most the configured batch size.
+	 *
+	 * @param entries
+	 *            Log entries to insert
+	 *
+	 * @throws SQLException
+	 *             Database access failed
+	 */
+	private void insertBatch(final List<LogEntry> entries) throws SQLException {
+		int index = 0;
+		try {
+			while (index < entries.size()) {
+				int end = Math.min(index + batchSize, entries.size());
+				for (int row = index; row < end; ++row) {
+					for (int i = 0; i < tokens.size(); ++i) {
+						tokens.get(i).apply(entries.get(row), statement, i + 1);
+					}
+					statement.addBatch();
+				}
+				statement.executeBatch();
+				index = end;
 			}
+		} catch (SQLException ex) {
+			batchCount = entries.size() - index;
+			resetConnection();
+			throw ex;
 		}
 	}
 
+	/**
+	 * Inserts log entries via multi-row insert statements. Each statement contains at most the configured batch size
+	 * of rows and never more bind parameters than configured, unless a single row requires more. The prepared
+	 * statement for complete statements is reused.
+	 *
+	 * @param entries
+	 *            Log entries to insert
+	 *
+	 * @throws SQLException
+	 *             Database access failed
+	 */
+	private void insertRows(final List<LogEntry> entries) throws SQLException {
+		int index = 0;
+		try {
+			while (index < entries.size()) {
+				int rows = Math.min(rowsPerStatement, entries.size() - index);
+
+				PreparedStatement target;
+				if (rows == rowsPerStatement) {
+					if (multiRowStatement == null) {
+						multiRowStatement = connection.prepareStatement(renderSql(rows));
+					}
+					target = multiRowStatement;
+				} else {
+					target = connection.prepareStatement(renderSql(rows));
+				}
+
+				try {
+					for (int row = 0; row < rows; ++row) {
+						for (int i = 0; i < tokens.size(); ++i) {
+							tokens.get(i).apply(entries.get(index + row), target, row * tokens.size() + i + 1);
+						}
+					}
+					target.executeUpdate();
+				} finally {
+					if (target != multiRowStatement) {
+						target.close();
+					}
+				}
+
+				index += rows;
+			}
+		} catch (SQLException ex) {
+			batchCount = entries.size() - index;
+			resetConnection();
+			throw ex;
+		}
+	}
+
+	/**
+	 * Generates an insert SQL statement for multiple rows.
+	 *
+	 * @param rows
+	 *            Number of rows
+	 * @return SQL statement for {@link PreparedStatement}
+	 */
+	private String renderSql(final int rows) {
+		StringBuilder builder = new StringBuilder(sqlPrefix.length() + (sqlRow.length() + 2) * rows);
+		builder.append(sqlPrefix);
+		for (int i = 0; i < rows; ++i) {
+			if (i > 0) {
+				builder.append(", ");
+			}
+			builder.append(sqlRow);
+		}
+		return builder.toString();
+	}
+
 	/**
 	 * Unsynchronized method for closing database connection.
 	 *
@@ -209,10 +595,18 @@ public final class JdbcWriter implements Writer {
 	 */
 	private void doClose() throws SQLException {
 		try {
-			if (batch) {
-				doFlush();
+			if (batch && sender == null) {
+				doFlushImmediately();
 			}
 		} finally {
+			if (journal != null) {
+				try {
+					journal.close();
+				} catch (IOException ex) {
+					InternalLogger.log(Level.ERROR, ex, "Failed to close journal");
+				}
+			}
+
 			if (lostCount > 0) {
 				InternalLogger.log(Level.ERROR, "Lost log entries due to broken database connection: " + lostCount);
 			}
@@ -234,7 +628,7 @@ public final class JdbcWriter implements Writer {
 				long start = System.currentTimeMillis();
 				try {
 					connection = connect(url, user, password);
-					statement = connection.prepareStatement(sql);
+					statement = connection.prepareStatement(sqlPrefix + sqlRow);
 					InternalLogger.log(Level.ERROR, "Lost log entries due to broken database connection: " + lostCount);
 					lostCount = 0;
 					return true;
@@ -264,6 +658,7 @@ public final class JdbcWriter implements Writer {
 		if (reconnect) {
 			closeConnectionSilently();
 			statement = null;
+			multiRowStatement = null;
 			lostCount = batch ? batchCount : 1;
 			batchCount = 0;
 			reconnectTimestamp = 0;
@@ -359,18 +754,19 @@ public final class JdbcWriter implements Writer {
 	}
 
 	/**
-	 * Generates an insert SQL statement for the configured table and its fields.
+	 * Generates the beginning of an insert SQL statement for the configured table and its fields. The returned SQL ends
+	 * with the keyword "VALUES" and a trailing space.
 	 *
 	 * @param properties
 	 *            Properties that contains the configured table and fields
 	 * @param quote
 	 *            Character for quoting identifiers (can be a space if the database doesn't support quote characters)
-	 * @return SQL statement for {@link PreparedStatement}
+	 * @return Beginning of SQL statement for {@link PreparedStatement}
 	 *
 	 * @throws SQLException
 	 *             Table or field names contain illegal characters
 	 */
-	private static String renderSql(final Map<String, String> properties, final String quote) throws SQLException {
+	private static String renderSqlPrefix(final Map<String, String> properties, final String quote) throws SQLException {
 		StringBuilder builder = new StringBuilder();
 		builder.append("INSERT INTO ");
 		append(builder, getTable(properties), quote);
@@ -391,7 +787,21 @@ public final class JdbcWriter implements Writer {
 			}
 		}
 
-		builder.append(") VALUES (");
+		builder.append(") VALUES ");
+
+		return builder.toString();
+	}
+
+	/**
+	 * Generates the placeholders for a single row of an insert SQL statement.
+	 *
+	 * @param count
+	 *            Number of fields
+	 * @return Placeholders in parentheses
+	 */
+	private static String renderSqlRow(final int count) {
+		StringBuilder builder = new StringBuilder();
+		builder.append("(");
 
 		for (int i = 0; i < count; ++i) {
 			if (i > 0) {
@@ -406,6 +816,36 @@ public final class JdbcWriter implements Writer {
 		return builder.toString();
 	}
 
+	/**
+	 * Parses a positive number from configuration.
+	 *
+	 * @param properties
+	 *            Configuration for writer
+	 * @param key
+	 *            Name of property
+	 * @param defaultValue
+	 *            Default value, if the property is not defined or invalid
+	 * @return Configured or default number
+	 */
+	private static long parsePositiveNumber(final Map<String, String> properties, final String key, final long defaultValue) {
+		String value = properties.get(key);
+		if (value == null) {
+			return defaultValue;
+		} else {
+			try {
+				long number = Long.parseLong(value.trim());
+				if (number > 0) {
+					return number;
+				}
+			} catch (NumberFormatException ex) {
+				// Handled below
+			}
+
+			InternalLogger.log(Level.ERROR, "Invalid value '" + value + "' for property '" + key + "' of JDBC writer");
+			return defaultValue;
+		}
+	}
+
 	/**
 	 * Appends a database identifier securely to a builder that is building a SQL statement.
 	 *
@@ -443,7 +883,7 @@ public final class JdbcWriter implements Writer {
 	 * @return Tokens for filling a {@link PreparedStatement}
 	 */
 	private static List<Token> createTokens(final Map<String, String> properties) {
-		FormatPatternParser parser = new FormatPatternParser(properties.get("exception"));
+		FormatPatternParser parser = new FormatPatternParser(properties);
 
 		List<Token> tokens = new ArrayList<Token>();
 		for (Entry<String, String> entry : properties.entrySet()) {
@@ -454,4 +894,167 @@ public final class JdbcWriter implements Writer {
 		return tokens;
 	}
 
+	/**
+	 * Thread for inserting batches of log entries asynchronously. Log entries are collected in one buffer while the
+	 * previously collected log entries of the other buffer are being inserted.
+	 */
+	private final class SenderThread extends Thread {
+
+		private List<LogEntry> filling;
+		private List<LogEntry> spare;
+		private long fillingTimestamp;
+		private boolean flushRequested;
+		private boolean replayRequested;
+		private boolean shutdownRequested;
+		private boolean terminated;
+
+		/** */
+		private SenderThread() {
+			filling = new ArrayList<LogEntry>(batchSize);
+			spare = new ArrayList<LogEntry>(batchSize);
+
+			setName(SENDER_THREAD_NAME);
+			setDaemon(true);
+		}
+
+		/**
+		 * Collects all log entries until receiving a shutdown request and inserts them as batches.
+		 */
+		@Override
+		public void run() {
+			try {
+				while (true) {
+					List<LogEntry> entries = take();
+					if (entries == null) {
+						return;
+					}
+
+					transmit(entries);
+					entries.clear();
+
+					synchronized (this) {
+						spare = entries;
+					}
+				}
+			} finally {
+				synchronized (this) {
+					terminated = true;
+					notifyAll();
+				}
+			}
+		}
+
+		/**
+		 * Adds a log entry to the current batch. If the current batch is already full, this method blocks until the
+		 * previous batch has been inserted.
+		 *
+		 * @param logEntry
+		 *            Log entry to add
+		 * @throws IllegalStateException
+		 *             Sender thread has been terminated unexpectedly
+		 */
+		private synchronized void add(final LogEntry logEntry) {
+			while (filling.size() >= batchSize && !shutdownRequested && !terminated) {
+				try {
+					wait();
+				} catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+					break;
+				}
+			}
+
+			if (terminated && !shutdownRequested) {
+				throw new IllegalStateException("JDBC sender thread has been terminated unexpectedly");
+			}
+
+			boolean first = filling.isEmpty();
+			if (first) {
+				fillingTimestamp = System.currentTimeMillis();
+			}
+
+			filling.add(logEntry);
+
+			if ((first && batchLatency > 0) || filling.size() >= batchSize) {
+				notifyAll();
+			}
+		}
+
+		/**
+		 * Requests to insert the current batch, even if it is not full yet.
+		 */
+		private synchronized void requestFlush() {
+			if (!filling.isEmpty()) {
+				flushRequested = true;
+				notifyAll();
+			}
+		}
+
+		/**
+		 * Requests to replay log entries from the journal file, even if there are no new log entries to insert.
+		 */
+		private synchronized void requestReplay() {
+			replayRequested = true;
+			notifyAll();
+		}
+
+		/**
+		 * Requests to insert all remaining log entries and waits until this thread has been terminated.
+		 */
+		private void shutdown() {
+			synchronized (this) {
+				shutdownRequested = true;
+				notifyAll();
+			}
+
+			try {
+				join();
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		/**
+		 * Waits until the current batch is due and swaps it with the spare buffer. If replaying is requested while there
+		 * are no log entries to insert, an empty batch is returned.
+		 *
+		 * @return Log entries to insert or {@code null} if this thread should terminate
+		 */
+		private synchronized List<LogEntry> take() {
+			while (true) {
+				long now = System.currentTimeMillis();
+
+				if (filling.isEmpty()) {
+					if (replayRequested) {
+						List<LogEntry> entries = filling;
+						filling = spare;
+						spare = null;
+						replayRequested = false;
+						return entries;
+					} else if (shutdownRequested) {
+						return null;
+					}
+				} else if (shutdownRequested || flushRequested || filling.size() >= batchSize
+					|| (batchLatency > 0 && now - fillingTimestamp >= batchLatency)) {
+					List<LogEntry> entries = filling;
+					filling = spare;
+					spare = null;
+					flushRequested = false;
+					notifyAll();
+					return entries;
+				}
+
+				try {
+					if (batchLatency > 0 && !filling.isEmpty()) {
+						wait(Math.max(1, batchLatency - (now - fillingTimestamp)));
+					} else {
+						wait();
+					}
+				} catch (InterruptedException ex) {
+					// Ignore and continue
+				}
+			}
+		}
+
+	}
+
 }
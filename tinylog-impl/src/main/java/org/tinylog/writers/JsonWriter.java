@@ -0,0 +1,631 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.tinylog.Level;
+import org.tinylog.core.LogEntry;
+import org.tinylog.core.LogEntryValue;
+import org.tinylog.path.DynamicPath;
+import org.tinylog.pattern.FormatPatternParser;
+import org.tinylog.pattern.Token;
+import org.tinylog.policies.Policy;
+import org.tinylog.provider.InternalLogger;
+import org.tinylog.writers.raw.ByteArrayWriter;
+
+/**
+ * Writer for outputting log entries as structured JSON objects into a file. Each configured field is rendered by a
+ * format pattern and written as JSON string property. The output is always encoded in UTF-8.
+ *
+ * <p>
+ * Log entries can be framed either as newline delimited JSON (one object per line, default) or as a single JSON array
+ * that is closed when the writer is closed.
+ * </p>
+ *
+ * <p>
+ * If {@link Policy policies} are defined, the log file will be rolled like by {@link RollingFileWriter}. In this case,
+ * the path to the log file can contain patterns that will be resolved at runtime, and the number of backups to keep can
+ * be limited. In array framing, each log file contains its own complete JSON array.
+ * </p>
+ */
+public final class JsonWriter implements ImmediateWriter {
+
+	private static final String FIELD_PREFIX = "field.";
+	private static final String DEFAULT_DATE_PATTERN = "date: yyyy-MM-dd'T'HH:mm:ss.SSSZ";
+	private static final int BUFFER_CAPACITY = 1024;
+	private static final int BUILDER_CAPACITY = 256;
+
+	private static final byte[] ARRAY_START = new byte[] { '[' };
+	private static final byte[] ARRAY_END = new byte[] { '\n', ']', '\n' };
+
+	private static final int NEW_ARRAY = 0;
+	private static final int EMPTY_ARRAY = 1;
+	private static final int FILLED_ARRAY = 2;
+
+	private static final byte[] HEX_DIGITS = { '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f' };
+
+	private static final int CONTROL_CHARACTERS = 0x20;
+	private static final int ASCII_LIMIT = 0x80;
+	private static final int TWO_BYTES_LIMIT = 0x800;
+	private static final int SIX_BITS_MASK = 0x3F;
+	private static final int HALF_BYTE_MASK = 0xF;
+	private static final int FIRST_SHIFT = 6;
+	private static final int SECOND_SHIFT = 12;
+	private static final int THIRD_SHIFT = 18;
+	private static final int BITS_PER_HEX_DIGIT = 4;
+	private static final int HEX_DIGITS_PER_ESCAPE = 4;
+	private static final int TWO_BYTES_PREFIX = 0xC0;
+	private static final int THREE_BYTES_PREFIX = 0xE0;
+	private static final int FOUR_BYTES_PREFIX = 0xF0;
+	private static final int CONTINUATION_PREFIX = 0x80;
+
+	private final byte[][] names;
+	private final Token[] tokens;
+	private final boolean array;
+
+	private final DynamicPath path;
+	private final List<Policy> policies;
+	private final int backups;
+	private final boolean buffered;
+	private final boolean shared;
+
+	private final Object mutex;
+	private final StringBuilder builder;
+
+	private ByteArrayWriter writer;
+	private byte[] buffer;
+	private int position;
+	private boolean first;
+
+	/**
+	 * @throws FileNotFoundException
+	 *             Log file does not exist or cannot be opened for any other reason
+	 * @throws IOException
+	 *             Existing log file cannot be prepared for continuation
+	 * @throws IllegalArgumentException
+	 *             A property has an invalid value or is missing in configuration
+	 */
+	public JsonWriter() throws FileNotFoundException, IOException {
+		this(Collections.<String, String>emptyMap());
+	}
+
+	/**
+	 * @param properties
+	 *            Configuration for writer
+	 *
+	 * @throws FileNotFoundException
+	 *             Log file does not exist or cannot be opened for any other reason
+	 * @throws IOException
+	 *             Existing log file cannot be prepared for continuation
+	 * @throws IllegalArgumentException
+	 *             A property has an invalid value or is missing in configuration
+	 */
+	public JsonWriter(final Map<String, String> properties) throws FileNotFoundException, IOException {
+		String fileName = AbstractFormatPatternWriter.getFileName(properties);
+		boolean append = Boolean.parseBoolean(properties.get("append"));
+		boolean writingThread = Boolean.parseBoolean(properties.get("writingthread"));
+
+		buffered = Boolean.parseBoolean(properties.get("buffered"));
+		shared = Boolean.parseBoolean(properties.get("shared"));
+
+		array = isArrayFraming(properties.get("framing"), shared);
+		mutex = writingThread ? null : new Object();
+		builder = new StringBuilder(BUILDER_CAPACITY);
+		buffer = new byte[BUFFER_CAPACITY];
+
+		Map<String, Token> fields = createFields(properties);
+		names = new byte[fields.size()][];
+		tokens = new Token[fields.size()];
+
+		int index = 0;
+		for (Entry<String, Token> entry : fields.entrySet()) {
+			names[index] = encodeName(entry.getKey());
+			tokens[index] = entry.getValue();
+			index += 1;
+		}
+
+		String policiesProperty = properties.get("policies");
+		if (policiesProperty == null || policiesProperty.isEmpty()) {
+			this.path = null;
+			this.policies = Collections.emptyList();
+			this.backups = -1;
+		} else {
+			this.path = new DynamicPath(fileName);
+			this.policies = RollingFileWriter.createPolicies(policiesProperty);
+			this.backups = properties.containsKey("backups") ? Integer.parseInt(properties.get("backups")) : -1;
+
+			List<File> files = path.getAllFiles();
+			if (files.size() > 0 && path.isValid(files.get(0)) && RollingFileWriter.canBeContinued(files.get(0).getPath(), this.policies)) {
+				fileName = files.get(0).getPath();
+				append = true;
+				RollingFileWriter.deleteBackups(files.subList(1, files.size()), backups);
+			} else {
+				fileName = path.resolve();
+				append = false;
+				RollingFileWriter.deleteBackups(files, backups);
+			}
+		}
+
+		open(fileName, append);
+	}
+
+	@Override
+	public Collection<LogEntryValue> getRequiredLogEntryValues() {
+		Collection<LogEntryValue> values = EnumSet.noneOf(LogEntryValue.class);
+		for (Token token : tokens) {
+			values.addAll(token.getRequiredLogEntryValues());
+		}
+		return values;
+	}
+
+	@Override
+	public void write(final LogEntry logEntry) throws IOException {
+		if (mutex == null) {
+			doWrite(logEntry);
+		} else {
+			synchronized (mutex) {
+				doWrite(logEntry);
+			}
+		}
+	}
+
+	@Override
+	public void flush() throws IOException {
+		if (mutex == null) {
+			writer.flush();
+		} else {
+			synchronized (mutex) {
+				writer.flush();
+			}
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (mutex == null) {
+			doClose();
+		} else {
+			synchronized (mutex) {
+				doClose();
+			}
+		}
+	}
+
+	/**
+	 * Unsynchronized method for writing a log entry as JSON object.
+	 *
+	 * @param logEntry
+	 *            Log entry to write
+	 *
+	 * @throws IOException
+	 *             Writing failed
+	 */
+	private void doWrite(final LogEntry logEntry) throws IOException {
+		render(logEntry);
+
+		if (path != null && !RollingFileWriter.canBeContinued(buffer, position, policies)) {
+			doClose();
+
+			String fileName = path.resolve();
+			RollingFileWriter.deleteBackups(path.getAllFiles(), backups);
+			open(fileName, false);
+
+			for (Policy policy : policies) {
+				policy.reset();
+			}
+
+			render(logEntry);
+		}
+
+		writer.write(buffer, position);
+	}
+
+	/**
+	 * Renders a log entry as JSON object into the byte buffer. In array framing, the object is preceded by the
+	 * separator to the previous log entry.
+	 *
+	 * @param logEntry
+	 *            Log entry to render
+	 */
+	private void render(final LogEntry logEntry) {
+		position = 0;
+
+		if (array) {
+			if (first) {
+				first = false;
+			} else {
+				appendByte(',');
+			}
+			appendByte('\n');
+		}
+
+		appendByte('{');
+
+		for (int i = 0; i < tokens.length; ++i) {
+			if (i > 0) {
+				appendByte(',');
+			}
+
+			appendBytes(names[i]);
+
+			builder.setLength(0);
+			tokens[i].render(logEntry, builder);
+			appendByte('"');
+			appendEscaped(builder);
+			appendByte('"');
+		}
+
+		appendByte('}');
+
+		if (!array) {
+			appendByte('\n');
+		}
+	}
+
+	/**
+	 * Opens a log file for writing. In array framing, a new JSON array is started or an existing one is continued.
+	 *
+	 * @param fileName
+	 *            Log file to open
+	 * @param append
+	 *            An already existing file should be continued
+	 * @throws IOException
+	 *             Failed to open the log file or to prepare an existing log file for continuation
+	 */
+	private void open(final String fileName, final boolean append) throws IOException {
+		int state = array && append ? reopenArray(fileName) : NEW_ARRAY;
+		first = state != FILLED_ARRAY;
+
+		writer = AbstractFormatPatternWriter.createByteArrayWriter(fileName, append, buffered, false, shared);
+
+		if (array && state == NEW_ARRAY) {
+			writer.write(ARRAY_START, ARRAY_START.length);
+		}
+	}
+
+	/**
+	 * Unsynchronized method for closing the log file. The JSON array will be closed, if array framing is enabled.
+	 *
+	 * @throws IOException
+	 *             Closing failed
+	 */
+	private void doClose() throws IOException {
+		try {
+			if (array) {
+				writer.write(ARRAY_END, ARRAY_END.length);
+			}
+		} finally {
+			writer.close();
+		}
+	}
+
+	/**
+	 * Appends a single ASCII character to the byte buffer.
+	 *
+	 * @param character
+	 *            ASCII character to append
+	 */
+	private void appendByte(final int character) {
+		ensureCapacity(1);
+		buffer[position++] = (byte) character;
+	}
+
+	/**
+	 * Appends an already encoded byte array to the byte buffer.
+	 *
+	 * @param data
+	 *            Encoded bytes to append
+	 */
+	private void appendBytes(final byte[] data) {
+		ensureCapacity(data.length);
+		System.arraycopy(data, 0, buffer, position, data.length);
+		position += data.length;
+	}
+
+	/**
+	 * Appends a text as escaped JSON string content encoded in UTF-8 to the byte buffer.
+	 *
+	 * @param text
+	 *            Text to escape and encode
+	 */
+	private void appendEscaped(final CharSequence text) {
+		int length = text.length();
+
+		/* Six bytes are the maximum that can be produced for a single character by an escape sequence */
+		ensureCapacity(length * "\\u0000".length());
+
+		for (int i = 0; i < length; ++i) {
+			char character = text.charAt(i);
+
+			if (character == '"' || character == '\\') {
+				buffer[position++] = '\\';
+				buffer[position++] = (byte) character;
+			} else if (character < CONTROL_CHARACTERS) {
+				appendEscapedControlCharacter(character);
+			} else if (character < ASCII_LIMIT) {
+				buffer[position++] = (byte) character;
+			} else if (character < TWO_BYTES_LIMIT) {
+				buffer[position++] = (byte) (TWO_BYTES_PREFIX | (character >> FIRST_SHIFT));
+				buffer[position++] = (byte) (CONTINUATION_PREFIX | (character & SIX_BITS_MASK));
+			} else if (Character.isHighSurrogate(character) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+				int codePoint = Character.toCodePoint(character, text.charAt(++i));
+				buffer[position++] = (byte) (FOUR_BYTES_PREFIX | (codePoint >> THIRD_SHIFT));
+				buffer[position++] = (byte) (CONTINUATION_PREFIX | ((codePoint >> SECOND_SHIFT) & SIX_BITS_MASK));
+				buffer[position++] = (byte) (CONTINUATION_PREFIX | ((codePoint >> FIRST_SHIFT) & SIX_BITS_MASK));
+				buffer[position++] = (byte) (CONTINUATION_PREFIX | (codePoint & SIX_BITS_MASK));
+			} else if (Character.isHighSurrogate(character) || Character.isLowSurrogate(character)) {
+				appendUnicodeEscape(character);
+			} else {
+				buffer[position++] = (byte) (THREE_BYTES_PREFIX | (character >> SECOND_SHIFT));
+				buffer[position++] = (byte) (CONTINUATION_PREFIX | ((character >> FIRST_SHIFT) & SIX_BITS_MASK));
+				buffer[position++] = (byte) (CONTINUATION_PREFIX | (character & SIX_BITS_MASK));
+			}
+		}
+	}
+
+	/**
+	 * Appends an escape sequence for a control character. The capacity of the byte buffer has to be ensured by the
+	 * caller.
+	 *
+	 * @param character
+	 *            Control character to escape
+	 */
+	private void appendEscapedControlCharacter(final char character) {
+		switch (character) {
+			case '\n':
+				buffer[position++] = '\\';
+				buffer[position++] = 'n';
+				break;
+			case '\r':
+				buffer[position++] = '\\';
+				buffer[position++] = 'r';
+				break;
+			case '\t':
+				buffer[position++] = '\\';
+				buffer[position++] = 't';
+				break;
+			case '\b':
+				buffer[position++] = '\\';
+				buffer[position++] = 'b';
+				break;
+			case '\f':
+				buffer[position++] = '\\';
+				buffer[position++] = 'f';
+				break;
+			default:
+				appendUnicodeEscape(character);
+				break;
+		}
+	}
+
+	/**
+	 * Appends a "\\uXXXX" escape sequence for a character. The capacity of the byte buffer has to be ensured by the
+	 * caller.
+	 *
+	 * @param character
+	 *            Character to escape
+	 */
+	private void appendUnicodeEscape(final char character) {
+		buffer[position++] = '\\';
+		buffer[position++] = 'u';
+		for (int shift = (HEX_DIGITS_PER_ESCAPE - 1) * BITS_PER_HEX_DIGIT; shift >= 0; shift -= BITS_PER_HEX_DIGIT) {
+			buffer[position++] = HEX_DIGITS[(character >> shift) & HALF_BYTE_MASK];
+		}
+	}
+
+	/**
+	 * Grows the byte buffer if there is not enough free space for a given number of bytes.
+	 *
+	 * @param required
+	 *            Number of bytes that should be appended
+	 */
+	private void ensureCapacity(final int required) {
+		if (position + required > buffer.length) {
+			byte[] newBuffer = new byte[Math.max(buffer.length * 2, position + required)];
+			System.arraycopy(buffer, 0, newBuffer, 0, position);
+			buffer = newBuffer;
+		}
+	}
+
+	/**
+	 * Encodes a property name including quotes and colon as UTF-8 byte array.
+	 *
+	 * @param name
+	 *            Name of JSON property
+	 * @return Encoded property name
+	 */
+	private byte[] encodeName(final String name) {
+		position = 0;
+
+		appendByte('"');
+		appendEscaped(name);
+		appendByte('"');
+		appendByte(':');
+
+		byte[] data = new byte[position];
+		System.arraycopy(buffer, 0, data, 0, position);
+		return data;
+	}
+
+	/**
+	 * Creates tokens for all configured fields. If no fields are configured, date, level and message will be output.
+	 *
+	 * @param properties
+	 *            Properties that contains the configured fields
+	 * @return Tokens mapped by JSON property names
+	 */
+	private static Map<String, Token> createFields(final Map<String, String> properties) {
+		FormatPatternParser parser = new FormatPatternParser(properties);
+
+		Map<String, Token> fields = new LinkedHashMap<String, Token>();
+		for (Entry<String, String> entry : properties.entrySet()) {
+			String key = entry.getKey();
+			if (key.toLowerCase(Locale.ROOT).startsWith(FIELD_PREFIX)) {
+				fields.put(key.substring(FIELD_PREFIX.length()), parser.parse(entry.getValue()));
+			}
+		}
+
+		if (fields.isEmpty()) {
+			fields.put("date", parser.parse(DEFAULT_DATE_PATTERN));
+			fields.put("level", parser.parse("level"));
+			fields.put("message", parser.parse("message"));
+		}
+
+		return fields;
+	}
+
+	/**
+	 * Checks whether log entries should be framed in a JSON array.
+	 *
+	 * @param framing
+	 *            Configured framing or {@code null} for default
+	 * @param shared
+	 *            Output file is shared with other processes
+	 * @return {@code true} for JSON array framing, {@code false} for newline delimited JSON
+	 */
+	private static boolean isArrayFraming(final String framing, final boolean shared) {
+		if (framing == null || "ndjson".equalsIgnoreCase(framing)) {
+			return false;
+		} else if ("array".equalsIgnoreCase(framing)) {
+			if (shared) {
+				InternalLogger.log(Level.WARN, "Array framing is not supported for shared JSON files, newline delimited JSON is used");
+				return false;
+			} else {
+				return true;
+			}
+		} else {
+			InternalLogger.log(Level.ERROR, "Unknown framing for JSON writer: '" + framing + "'");
+			return false;
+		}
+	}
+
+	/**
+	 * Removes the closing bracket of an already existing JSON array, so that new log entries can be added to it. The
+	 * existing file must either contain only whitespaces or a JSON array that has been written by this writer.
+	 *
+	 * @param fileName
+	 *            Log file to continue
+	 * @return {@link #NEW_ARRAY} if there is no existing JSON array, {@link #EMPTY_ARRAY} if the existing JSON array
+	 *         has no elements, or {@link #FILLED_ARRAY} if the existing JSON array contains already log entries
+	 * @throws IOException
+	 *             Failed to read or truncate the existing log file, or the existing log file doesn't contain a JSON
+	 *             array
+	 */
+	private static int reopenArray(final String fileName) throws IOException {
+		File file = new File(fileName);
+		if (!file.isFile() || file.length() == 0) {
+			return NEW_ARRAY;
+		}
+
+		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+		try {
+			long start = findFirstNonWhitespace(randomAccessFile);
+			if (start < 0) {
+				return NEW_ARRAY;
+			} else if (read(randomAccessFile, start) != '[') {
+				throw new IOException("Existing log file '" + fileName + "' does not contain a JSON array and cannot be continued");
+			}
+
+			long index = findLastNonWhitespace(randomAccessFile, randomAccessFile.length() - 1);
+			int last = read(randomAccessFile, index);
+			if (last == ']') {
+				index = findLastNonWhitespace(randomAccessFile, index - 1);
+				last = read(randomAccessFile, index);
+			}
+
+			if (index == start) {
+				randomAccessFile.setLength(index + 1);
+				return EMPTY_ARRAY;
+			} else if (last == '}') {
+				randomAccessFile.setLength(index + 1);
+				return FILLED_ARRAY;
+			} else {
+				throw new IOException("Existing log file '" + fileName + "' contains an incomplete JSON array and cannot be continued");
+			}
+		} finally {
+			randomAccessFile.close();
+		}
+	}
+
+	/**
+	 * Searches forwards for the first byte that is not a whitespace.
+	 *
+	 * @param file
+	 *            File to search in
+	 * @return Position of found byte or -1 if there are only whitespaces
+	 * @throws IOException
+	 *             Failed to read file
+	 */
+	private static long findFirstNonWhitespace(final RandomAccessFile file) throws IOException {
+		file.seek(0);
+		for (long index = 0; ; ++index) {
+			int value = file.read();
+			if (value < 0) {
+				return -1;
+			} else if (value != ' ' && value != '\t' && value != '\r' && value != '\n') {
+				return index;
+			}
+		}
+	}
+
+	/**
+	 * Searches backwards for the last byte that is not a whitespace.
+	 *
+	 * @param file
+	 *            File to search in
+	 * @param start
+	 *            Position to start searching from
+	 * @return Position of found byte or -1 if there are only whitespaces
+	 * @throws IOException
+	 *             Failed to read file
+	 */
+	private static long findLastNonWhitespace(final RandomAccessFile file, final long start) throws IOException {
+		for (long index = start; index >= 0; --index) {
+			int value = read(file, index);
+			if (value != ' ' && value != '\t' && value != '\r' && value != '\n') {
+				return index;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Reads a single byte at a defined position.
+	 *
+	 * @param file
+	 *            File to read from
+	 * @param position
+	 *            Position of byte
+	 * @return Read byte or -1 if the position is beyond the end of the file
+	 * @throws IOException
+	 *             Failed to read file
+	 */
+	private static int read(final RandomAccessFile file, final long position) throws IOException {
+		file.seek(position);
+		return file.read();
+	}
+
+}
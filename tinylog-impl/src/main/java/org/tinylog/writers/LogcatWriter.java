@@ -30,7 +30,7 @@ import org.tinylog.provider.InternalLogger;
 /**
  * Writer for redirecting log entries to Android's logcat.
  */
-public final class LogcatWriter implements Writer {
+public final class LogcatWriter implements ImmediateWriter {
 
 	private static final String DEFAULT_TAG_FORMAT_PATTERN = "{class-name}";
 	private static final String DEFAULT_MESSAGE_FORMAT_PATTERN = "{message}";
@@ -55,7 +55,7 @@ public final class LogcatWriter implements Writer {
 	 *            Configuration for writer
 	 */
 	public LogcatWriter(final Map<String, String> properties) {
-		FormatPatternParser parser = new FormatPatternParser(properties.get("exception"));
+		FormatPatternParser parser = new FormatPatternParser(properties);
 		boolean hasWritingThread = Boolean.parseBoolean(properties.get("writingthread"));
 
 		String tagPattern = properties.get("tagname");
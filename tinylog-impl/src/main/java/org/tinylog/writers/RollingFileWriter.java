@@ -17,6 +17,7 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -25,7 +26,9 @@ import org.tinylog.Level;
 import org.tinylog.configuration.ServiceLoader;
 import org.tinylog.core.LogEntry;
 import org.tinylog.path.DynamicPath;
+import org.tinylog.policies.DailyPolicy;
 import org.tinylog.policies.Policy;
+import org.tinylog.policies.SizePolicy;
 import org.tinylog.policies.StartupPolicy;
 import org.tinylog.provider.InternalLogger;
 import org.tinylog.runtime.RuntimeProvider;
@@ -184,7 +187,7 @@ public final class RollingFileWriter extends AbstractFormatPatternWriter {
 	 *            Nullable string with policies to create
 	 * @return Created policies
 	 */
-	private static List<Policy> createPolicies(final String property) {
+	static List<Policy> createPolicies(final String property) {
 		if (property == null || property.isEmpty()) {
 			return Collections.<Policy>singletonList(new StartupPolicy(null));
 		} else {
@@ -205,7 +208,7 @@ public final class RollingFileWriter extends AbstractFormatPatternWriter {
 	 *            Policies that should be applied
 	 * @return {@code true} if the passed log file can be continued, {@code false} if a new log file should be started
 	 */
-	private static boolean canBeContinued(final String fileName, final List<Policy> policies) {
+	static boolean canBeContinued(final String fileName, final List<Policy> policies) {
 		boolean result = true;
 		for (Policy policy : policies) {
 			result &= policy.continueExistingFile(fileName);
@@ -222,7 +225,7 @@ public final class RollingFileWriter extends AbstractFormatPatternWriter {
 	 *            Policies that should be applied
 	 * @return {@code true} if the current log file can be continued, {@code false} if a new log file should be started
 	 */
-	private static boolean canBeContinued(final byte[] data, final List<Policy> policies) {
+	static boolean canBeContinued(final byte[] data, final List<Policy> policies) {
 		boolean result = true;
 		for (Policy policy : policies) {
 			result &= policy.continueCurrentFile(data);
@@ -230,6 +233,37 @@ public final class RollingFileWriter extends AbstractFormatPatternWriter {
 		return result;
 	}
 
+	/**
+	 * Checks if a new log entry can be still written to the current log file. The log entry is passed as the first
+	 * bytes of a larger buffer. The size policy needs only the length and all other built-in policies don't inspect
+	 * the log entry at all. Only for custom policies, the log entry is copied into an array of its exact size.
+	 *
+	 * @param buffer
+	 *            Buffer that starts with the log entry
+	 * @param length
+	 *            Number of bytes of the log entry
+	 * @param policies
+	 *            Policies that should be applied
+	 * @return {@code true} if the current log file can be continued, {@code false} if a new log file should be started
+	 */
+	static boolean canBeContinued(final byte[] buffer, final int length, final List<Policy> policies) {
+		boolean result = true;
+		byte[] data = null;
+		for (Policy policy : policies) {
+			if (policy instanceof SizePolicy) {
+				result &= ((SizePolicy) policy).continueCurrentFile(length);
+			} else if (policy instanceof DailyPolicy || policy instanceof StartupPolicy) {
+				result &= policy.continueCurrentFile(buffer);
+			} else {
+				if (data == null) {
+					data = Arrays.copyOf(buffer, length);
+				}
+				result &= policy.continueCurrentFile(data);
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * Deletes old log files.
 	 *
@@ -238,7 +272,7 @@ public final class RollingFileWriter extends AbstractFormatPatternWriter {
 	 * @param count
 	 *            Number of log files to keep
 	 */
-	private static void deleteBackups(final List<File> files, final int count) {
+	static void deleteBackups(final List<File> files, final int count) {
 		if (count >= 0) {
 			for (int i = files.size() - Math.max(0, files.size() - count); i < files.size(); ++i) {
 				if (!files.get(i).delete()) {
@@ -13,7 +13,9 @@
 
 package org.tinylog.writers;
 
+import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.channels.FileLock;
@@ -24,13 +26,24 @@ import java.util.Map;
 import org.tinylog.Level;
 import org.tinylog.core.LogEntry;
 import org.tinylog.provider.InternalLogger;
+import org.tinylog.writers.raw.AtomicFileOutputStreamWriter;
+import org.tinylog.writers.raw.BufferedWriterDecorator;
 import org.tinylog.writers.raw.ByteArrayWriter;
+import org.tinylog.writers.raw.SynchronizedWriterDecorator;
 
 /**
  * Writer for outputting log entries to a shared log file. Multiple processes can write simultaneously to the same log
  * file. The shared file writer ensures that no process overrides log entries of another process. Already existing files
  * can be continued. The output can be buffered for improving performance, but is not recommended as outputs of
  * different processes will be not in chronological order.
+ *
+ * <p>
+ * By default, each write operation locks the log file. If atomic mode is enabled, the log file is opened in append mode
+ * and relies on the operating system to move to the end of the file and write in one step. Writes larger than 4 KB,
+ * which are typical for buffered output, are split into chunks of at most 4 KB that end on a line boundary. In atomic
+ * mode, all processes that write to the same log file must enable atomic mode. Atomic mode is not suitable for network file systems like NFS, which do
+ * not support append mode reliably.
+ * </p>
  */
 public final class SharedFileWriter extends AbstractFormatPatternWriter {
 
@@ -70,6 +83,7 @@ public final class SharedFileWriter extends AbstractFormatPatternWriter {
 		boolean append = Boolean.parseBoolean(properties.get("append"));
 		boolean buffered = Boolean.parseBoolean(properties.get("buffered"));
 		boolean writingThread = Boolean.parseBoolean(properties.get("writingthread"));
+		boolean atomic = Boolean.parseBoolean(properties.get("atomic"));
 
 		if (append) {
 			lockFile = null;
@@ -93,7 +107,11 @@ public final class SharedFileWriter extends AbstractFormatPatternWriter {
 		}
 
 		charset = getCharset(properties);
-		writer = createByteArrayWriter(fileName, append, buffered, !writingThread, true);
+		if (atomic) {
+			writer = createAtomicByteArrayWriter(fileName, append, buffered, !writingThread);
+		} else {
+			writer = createByteArrayWriter(fileName, append, buffered, !writingThread, true);
+		}
 	}
 
 	@Override
@@ -122,4 +140,49 @@ public final class SharedFileWriter extends AbstractFormatPatternWriter {
 		}
 	}
 
+	/**
+	 * Creates a {@link ByteArrayWriter} for a file that relies on atomic appends instead of file locks. The file is
+	 * always opened in append mode. If an already existing file should not be continued, it will be truncated after
+	 * opening.
+	 *
+	 * @param fileName
+	 *            Name of file to open for writing
+	 * @param append
+	 *            An already existing file should be continued
+	 * @param buffered
+	 *            Output should be buffered
+	 * @param threadSafe
+	 *            Created writer must be thread-safe
+	 * @return Writer for writing to passed file
+	 * @throws FileNotFoundException
+	 *             File does not exist or cannot be opened for any other reason
+	 * @throws IOException
+	 *             Folder cannot be created or file cannot be truncated
+	 */
+	private static ByteArrayWriter createAtomicByteArrayWriter(final String fileName, final boolean append, final boolean buffered,
+		final boolean threadSafe) throws FileNotFoundException, IOException {
+		File file = new File(fileName).getAbsoluteFile();
+		File folder = file.getParentFile();
+		if (!folder.mkdirs() && !folder.isDirectory()) {
+			throw new IOException("Failed to create folder \"" + folder + "\" for log file");
+		}
+
+		FileOutputStream stream = new FileOutputStream(file, true);
+		if (!append) {
+			stream.getChannel().truncate(0);
+		}
+
+		ByteArrayWriter writer = new AtomicFileOutputStreamWriter(stream);
+
+		if (buffered) {
+			writer = new BufferedWriterDecorator(writer);
+		}
+
+		if (threadSafe) {
+			writer = new SynchronizedWriterDecorator(writer, stream);
+		}
+
+		return writer;
+	}
+
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers.raw;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * Wrapper for using {@link FileOutputStream} in append mode as writer for files that are shared between multiple
+ * processes. If the file has been opened in append mode ({@code O_APPEND} on POSIX systems), the operating system moves
+ * to the end of the file and writes the passed data as one atomic step. Therefore, processes cannot override the data
+ * of each other and this writer does not use any file locks.
+ *
+ * <p>
+ * This is the only guarantee. Local file systems on Linux and macOS write regular files without interleaving the data
+ * of concurrent write operations, but POSIX does not require this. Network file systems like NFS do not support append
+ * mode reliably at all.
+ * </p>
+ *
+ * <p>
+ * Writes that are larger than {@value #ATOMIC_WRITE_LIMIT} bytes (the minimum {@code PIPE_BUF} size that POSIX
+ * guarantees) could be split by the operating system at any position. Therefore, such large writes, which are typical
+ * for buffered output, are split into chunks of at most {@value #ATOMIC_WRITE_LIMIT} bytes that end on a line boundary.
+ * Other processes can write between these chunks, but cannot break lines. Only lines that are larger than
+ * {@value #ATOMIC_WRITE_LIMIT} bytes on their own will be split.
+ * </p>
+ *
+ * <p>
+ * All processes that write to the same file must use this writer. In opposite to {@link LockedFileOutputStreamWriter},
+ * it is not possible to mix both writers for the same file.
+ * </p>
+ */
+public final class AtomicFileOutputStreamWriter implements ByteArrayWriter {
+
+	/**
+	 * Maximum number of bytes that are written at once.
+	 */
+	public static final int ATOMIC_WRITE_LIMIT = 4096;
+
+	private final FileOutputStream stream;
+
+	/**
+	 * @param stream
+	 *            Underlying output stream, which must be opened in append mode
+	 */
+	public AtomicFileOutputStreamWriter(final FileOutputStream stream) {
+		this.stream = stream;
+	}
+
+	@Override
+	public void write(final byte[] data, final int length) throws IOException {
+		int start = 0;
+		while (length - start > ATOMIC_WRITE_LIMIT) {
+			int end = findChunkEnd(data, start);
+			stream.write(data, start, end - start);
+			start = end;
+		}
+
+		stream.write(data, start, length - start);
+	}
+
+	@Override
+	public void flush() {
+	}
+
+	@Override
+	public void close() throws IOException {
+		stream.close();
+	}
+
+	/**
+	 * Finds the end of the largest chunk that starts at the passed position, does not exceed
+	 * {@value #ATOMIC_WRITE_LIMIT} bytes, and ends with a line feed.
+	 *
+	 * @param data
+	 *            Data to write
+	 * @param start
+	 *            Start position of the chunk
+	 * @return Exclusive end position of the chunk
+	 */
+	private static int findChunkEnd(final byte[] data, final int start) {
+		for (int i = start + ATOMIC_WRITE_LIMIT - 1; i >= start; --i) {
+			if (data[i] == '\n') {
+				return i + 1;
+			}
+		}
+
+		return start + ATOMIC_WRITE_LIMIT;
+	}
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ClassPrefixTrie}.
+ */
+public final class ClassPrefixTrieTest {
+
+	/**
+	 * Verifies that an empty trie doesn't contain any class names.
+	 */
+	@Test
+	public void empty() {
+		ClassPrefixTrie trie = new ClassPrefixTrie(emptyList());
+
+		assertThat(trie.contains("org.test.Foo")).isFalse();
+		assertThat(trie.contains("")).isFalse();
+		assertThat(trie.contains(null)).isFalse();
+	}
+
+	/**
+	 * Verifies that package prefixes match all classes in the package and in sub packages.
+	 */
+	@Test
+	public void packages() {
+		ClassPrefixTrie trie = new ClassPrefixTrie(asList("org.test", "com.example.sub."));
+
+		assertThat(trie.contains("org.test.Foo")).isTrue();
+		assertThat(trie.contains("org.test.sub.Foo")).isTrue();
+		assertThat(trie.contains("com.example.sub.Foo")).isTrue();
+
+		assertThat(trie.contains("org.tester.Foo")).isFalse();
+		assertThat(trie.contains("org.Foo")).isFalse();
+		assertThat(trie.contains("com.example.Foo")).isFalse();
+	}
+
+	/**
+	 * Verifies that class prefixes match the class itself and its inner classes.
+	 */
+	@Test
+	public void classes() {
+		ClassPrefixTrie trie = new ClassPrefixTrie(asList("org.test.Foo"));
+
+		assertThat(trie.contains("org.test.Foo")).isTrue();
+		assertThat(trie.contains("org.test.Foo$Bar")).isTrue();
+
+		assertThat(trie.contains("org.test.FooBar")).isFalse();
+		assertThat(trie.contains("org.test.Fo")).isFalse();
+	}
+
+	/**
+	 * Verifies that overlapping prefixes are supported.
+	 */
+	@Test
+	public void overlappingPrefixes() {
+		ClassPrefixTrie trie = new ClassPrefixTrie(asList("org.test.sub", "org.test", "org.test.sub.deep"));
+
+		assertThat(trie.contains("org.test.Foo")).isTrue();
+		assertThat(trie.contains("org.test.sub.Foo")).isTrue();
+		assertThat(trie.contains("org.test.sub.deep.Foo")).isTrue();
+		assertThat(trie.contains("org.other.Foo")).isFalse();
+	}
+
+}
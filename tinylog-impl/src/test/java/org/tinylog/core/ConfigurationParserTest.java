@@ -24,13 +24,18 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.tinylog.Level;
 import org.tinylog.configuration.Configuration;
+import org.tinylog.filters.Filter;
+import org.tinylog.filters.RateLimitFilter;
+import org.tinylog.filters.SampleFilter;
 import org.tinylog.rules.SystemStreamCollector;
 import org.tinylog.throwable.ThrowableFilter;
 import org.tinylog.util.ConfigurationStoreWriter;
 import org.tinylog.writers.ConsoleWriter;
+import org.tinylog.writers.DeduplicatingWriterDecorator;
 import org.tinylog.writers.FileWriter;
 import org.tinylog.writers.Writer;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
@@ -203,6 +208,43 @@ public final class ConfigurationParserTest {
 		assertThat(tags).containsExactlyInAnyOrder("system", "technical");
 	}
 
+	/**
+	 * Verifies that multiple comma-separated tags can be defined for a writer.
+	 */
+	@Test
+	public void writerWithMultipleTags() {
+		Configuration.set("writer", "console");
+		Configuration.set("writer.tag", "sql, jdbc,hikari, -");
+
+		List<String> tags = ConfigurationParser.getTags();
+		assertThat(tags).containsExactly("sql", "jdbc", "hikari");
+	}
+
+	/**
+	 * Verifies that tag patterns with wildcards are not returned as tags, but as tag patterns.
+	 */
+	@Test
+	public void writerWithTagPatterns() {
+		Configuration.set("writer1", "console");
+		Configuration.set("writer1.tag", "sql*, http");
+		Configuration.set("writer2", "console");
+		Configuration.set("writer2.tag", "sql*, *.jdbc");
+
+		assertThat(ConfigurationParser.getTags()).containsExactly("http");
+		assertThat(ConfigurationParser.getTagPatterns()).containsExactly("*.jdbc", "sql*");
+	}
+
+	/**
+	 * Verifies that the number of tag patterns is not limited.
+	 */
+	@Test
+	public void manyTagPatterns() {
+		Configuration.set("writer", "console");
+		Configuration.set("writer.tag", "a*, b*, c*, d*, e*, f*, g*, h*, i*, j*");
+
+		assertThat(ConfigurationParser.getTagPatterns()).containsExactly("a*", "b*", "c*", "d*", "e*", "f*", "g*", "h*", "i*", "j*");
+	}
+
 	/**
 	 * Verifies that writing thread is disabled by default.
 	 */
@@ -234,6 +276,61 @@ public final class ConfigurationParserTest {
 		assertThat(enabled).isTrue();
 	}
 
+	/**
+	 * Verifies that exception snapshots are disabled by default.
+	 */
+	@Test
+	public void noConfiguredExceptionSnapshot() {
+		assertThat(ConfigurationParser.getExceptionSnapshotDepth()).isEqualTo(-1);
+
+		Configuration.set("exception.snapshot.depth", "10");
+		assertThat(ConfigurationParser.getExceptionSnapshotDepth()).isEqualTo(-1);
+	}
+
+	/**
+	 * Verifies that exception snapshots can be enabled with and without limited stack trace depth.
+	 */
+	@Test
+	public void enabledExceptionSnapshot() {
+		Configuration.set("exception.snapshot", "true");
+		assertThat(ConfigurationParser.getExceptionSnapshotDepth()).isEqualTo(Integer.MAX_VALUE);
+
+		Configuration.set("exception.snapshot.depth", "10");
+		assertThat(ConfigurationParser.getExceptionSnapshotDepth()).isEqualTo(10);
+	}
+
+	/**
+	 * Verifies that an error will be logged, if the stack trace depth for exception snapshots is invalid.
+	 */
+	@Test
+	public void invalidExceptionSnapshotDepth() {
+		Configuration.set("exception.snapshot", "true");
+		Configuration.set("exception.snapshot.depth", "many");
+
+		assertThat(ConfigurationParser.getExceptionSnapshotDepth()).isEqualTo(Integer.MAX_VALUE);
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("ERROR").containsOnlyOnce("many");
+	}
+
+	/**
+	 * Verifies that the inheritable thread context is used by default.
+	 */
+	@Test
+	public void noConfiguredThreadContext() {
+		boolean scoped = ConfigurationParser.isScopedThreadContextEnabled();
+		assertThat(scoped).isFalse();
+	}
+
+	/**
+	 * Verifies that a configured scoped thread context will be detected.
+	 */
+	@Test
+	public void scopedThreadContext() {
+		Configuration.set("threadcontext", "scoped");
+
+		boolean scoped = ConfigurationParser.isScopedThreadContextEnabled();
+		assertThat(scoped).isTrue();
+	}
+
 	/**
 	 * Verifies that auto shutdown is disabled by default.
 	 */
@@ -455,4 +552,201 @@ public final class ConfigurationParserTest {
 		assertThat(writer.getProperties()).contains(entry("exception", "unpack"));
 	}
 
+	/**
+	 * Verifies that no filters will be created, if there are no configured filters.
+	 */
+	@Test
+	public void noFilters() {
+		assertThat(ConfigurationParser.createFilters()).isEmpty();
+	}
+
+	/**
+	 * Verifies that all configured filters will be created in the defined order.
+	 */
+	@Test
+	public void multipleFilters() {
+		Configuration.set("filter", "sample: 10% level=debug, rate limit: 100/s");
+
+		List<Filter> filters = ConfigurationParser.createFilters();
+		assertThat(filters).hasSize(2);
+		assertThat(filters.get(0)).isInstanceOf(SampleFilter.class);
+		assertThat(filters.get(1)).isInstanceOf(RateLimitFilter.class);
+	}
+
+	/**
+	 * Verifies that invalid filters will be reported and skipped.
+	 */
+	@Test
+	public void invalidFilter() {
+		Configuration.set("filter", "rate limit: 100, sample: 50%");
+
+		List<Filter> filters = ConfigurationParser.createFilters();
+		assertThat(filters).hasSize(1).allSatisfy(filter -> assertThat(filter).isInstanceOf(SampleFilter.class));
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("ERROR").containsOnlyOnce("100");
+	}
+
+	/**
+	 * Verifies that the default summary interval of 60 seconds will be used, if there is no defined interval.
+	 */
+	@Test
+	public void defaultFilterSummaryInterval() {
+		assertThat(ConfigurationParser.getFilterSummaryInterval()).isEqualTo(60);
+	}
+
+	/**
+	 * Verifies that a defined summary interval will be parsed correctly.
+	 */
+	@Test
+	public void definedFilterSummaryInterval() {
+		Configuration.set("filter.summary", "300");
+		assertThat(ConfigurationParser.getFilterSummaryInterval()).isEqualTo(300);
+
+		Configuration.set("filter.summary", "0");
+		assertThat(ConfigurationParser.getFilterSummaryInterval()).isZero();
+	}
+
+	/**
+	 * Verifies that an invalid summary interval will be reported and the default interval used instead.
+	 */
+	@Test
+	public void invalidFilterSummaryInterval() {
+		Configuration.set("filter.summary", "abc");
+		assertThat(ConfigurationParser.getFilterSummaryInterval()).isEqualTo(60);
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("ERROR").containsOnlyOnce("abc");
+
+		Configuration.set("filter.summary", "-1");
+		assertThat(ConfigurationParser.getFilterSummaryInterval()).isEqualTo(60);
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("ERROR").containsOnlyOnce("-1");
+	}
+
+	/**
+	 * Verifies that a writer will be wrapped by a {@link DeduplicatingWriterDecorator}, if a deduplication interval is
+	 * defined.
+	 */
+	@Test
+	public void deduplicatingWriter() {
+		Configuration.set("writer", "configuration store");
+		Configuration.set("writer.dedup", "5s");
+
+		Collection<Writer>[][] writers = ConfigurationParser.createWriters(emptyList(), Level.INFO, false);
+		Writer writer = writers[0][Level.INFO.ordinal()].iterator().next();
+		assertThat(writer).isInstanceOf(DeduplicatingWriterDecorator.class);
+
+		Writer decorated = ((DeduplicatingWriterDecorator) writer).getWriter();
+		assertThat(decorated).isInstanceOf(ConfigurationStoreWriter.class);
+		assertThat(((ConfigurationStoreWriter) decorated).getProperties()).doesNotContainKey("dedup");
+	}
+
+	/**
+	 * Verifies that an invalid deduplication interval will be reported and the writer used without decorator.
+	 */
+	@Test
+	public void invalidDeduplicationInterval() {
+		Configuration.set("writer", "configuration store");
+		Configuration.set("writer.dedup", "five seconds");
+
+		Collection<Writer>[][] writers = ConfigurationParser.createWriters(emptyList(), Level.INFO, false);
+		assertThat(writers[0][Level.INFO.ordinal()].iterator().next()).isInstanceOf(ConfigurationStoreWriter.class);
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("ERROR").containsOnlyOnce("five seconds");
+	}
+
+	/**
+	 * Verifies that writers will be added only for severity levels up to a defined maximum severity level.
+	 */
+	@Test
+	public void maximumLevel() {
+		Configuration.set("writer", "console");
+		Configuration.set("writer.maxlevel", "info");
+
+		Collection<Writer>[][] writers = ConfigurationParser.createWriters(emptyList(), Level.TRACE, false);
+		assertThat(writers[0][Level.TRACE.ordinal()]).hasSize(1);
+		assertThat(writers[0][Level.INFO.ordinal()]).hasSize(1);
+		assertThat(writers[0][Level.WARN.ordinal()]).isEmpty();
+		assertThat(writers[0][Level.ERROR.ordinal()]).isEmpty();
+	}
+
+	/**
+	 * Verifies that a writer will be wrapped by a {@link FilteredWriter}, if filter conditions are defined.
+	 */
+	@Test
+	public void filteredWriter() {
+		Configuration.set("writer", "configuration store");
+		Configuration.set("writer.filter.tag", "sql*, -");
+		Configuration.set("writer.filter.class", "org.test");
+		Configuration.set("writer.filter.message", "slow");
+		Configuration.set("writer.filter.regex", "\\d+ms");
+
+		Collection<Writer>[][] writers = ConfigurationParser.createWriters(emptyList(), Level.INFO, false);
+		Writer writer = writers[0][Level.INFO.ordinal()].iterator().next();
+		assertThat(writer).isInstanceOf(FilteredWriter.class);
+
+		Writer decorated = ((FilteredWriter) writer).getWriter();
+		assertThat(decorated).isInstanceOf(ConfigurationStoreWriter.class);
+		assertThat(((ConfigurationStoreWriter) decorated).getProperties()).doesNotContainKeys("filter.tag", "filter.class");
+		assertThat(systemStream.consumeErrorOutput()).isEmpty();
+	}
+
+	/**
+	 * Verifies that invalid and unknown filter conditions will be reported and ignored.
+	 */
+	@Test
+	public void invalidWriterFilters() {
+		Configuration.set("writer", "configuration store");
+		Configuration.set("writer.filter.regex", "[a-z");
+		Configuration.set("writer.filter.foo", "bar");
+
+		Collection<Writer>[][] writers = ConfigurationParser.createWriters(emptyList(), Level.INFO, false);
+		assertThat(writers[0][Level.INFO.ordinal()].iterator().next()).isInstanceOf(ConfigurationStoreWriter.class);
+		assertThat(systemStream.consumeErrorOutput())
+			.contains("ERROR")
+			.containsOnlyOnce("[a-z")
+			.containsOnlyOnce("foo");
+	}
+
+	/**
+	 * Verifies that a writer with multiple tags will be created only once and assigned to all its tags.
+	 */
+	@Test
+	public void writerWithTagList() {
+		Configuration.set("writer", "console");
+		Configuration.set("writer.tag", "sql, jdbc");
+
+		Collection<Writer>[][] writers = ConfigurationParser.createWriters(asList("sql", "jdbc", "http"), Level.TRACE, false);
+
+		assertThat(writers).hasSize(5);
+		assertThat(writers[0]).allSatisfy(collection -> assertThat(collection).isEmpty());
+		assertThat(writers[1]).allSatisfy(collection -> assertThat(collection).hasSize(1));
+		assertThat(writers[2]).allSatisfy(collection -> assertThat(collection).hasSize(1));
+		assertThat(writers[3]).allSatisfy(collection -> assertThat(collection).isEmpty());
+		assertThat(writers[4]).allSatisfy(collection -> assertThat(collection).isEmpty());
+
+		assertThat(writers[1][Level.INFO.ordinal()].iterator().next()).isSameAs(writers[2][Level.INFO.ordinal()].iterator().next());
+	}
+
+	/**
+	 * Verifies that writers with tag patterns will be assigned to all matching tags and to the entries of their tag
+	 * patterns.
+	 */
+	@Test
+	public void writersWithTagPatterns() {
+		Configuration.set("writer1", "console");
+		Configuration.set("writer1.tag", "sql*");
+		Configuration.set("writer2", "console");
+		Configuration.set("writer2.tag", "*.jdbc");
+
+		List<String> tags = singletonList("sql");
+		List<String> patterns = asList("*.jdbc", "sql*");
+		Collection<Writer>[][] writers = ConfigurationParser.createWriters(tags, patterns, Level.TRACE, false);
+
+		assertThat(writers).hasSize(5);
+		assertThat(writers[0][Level.INFO.ordinal()]).isEmpty();
+		assertThat(writers[1][Level.INFO.ordinal()]).hasSize(1);
+		assertThat(writers[2][Level.INFO.ordinal()]).hasSize(1);
+		assertThat(writers[3][Level.INFO.ordinal()]).hasSize(1);
+		assertThat(writers[4][Level.INFO.ordinal()]).isEmpty();
+
+		assertThat(writers[1][Level.INFO.ordinal()]).isEqualTo(writers[3][Level.INFO.ordinal()]);
+		assertThat(writers[2][Level.INFO.ordinal()]).doesNotContainAnyElementsOf(writers[3][Level.INFO.ordinal()]);
+	}
+
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Tests for {@link ContextMap}.
+ */
+public final class ContextMapTest {
+
+	/**
+	 * Verifies that the empty map has no mappings.
+	 */
+	@Test
+	public void empty() {
+		assertThat(ContextMap.EMPTY).isEmpty();
+		assertThat(ContextMap.EMPTY.get("a")).isNull();
+		assertThat(ContextMap.EMPTY.containsKey("a")).isFalse();
+	}
+
+	/**
+	 * Verifies that added mappings can be found and are iterated in the order of their keys.
+	 */
+	@Test
+	public void addMappings() {
+		ContextMap map = ContextMap.EMPTY.with("b", "2").with("c", "3").with("a", "1");
+
+		assertThat(map).hasSize(3).containsExactly(entry("a", "1"), entry("b", "2"), entry("c", "3"));
+		assertThat(map.get("b")).isEqualTo("2");
+		assertThat(map.containsKey("c")).isTrue();
+		assertThat(map.get("d")).isNull();
+		assertThat(map.get(42)).isNull();
+	}
+
+	/**
+	 * Verifies that adding a mapping doesn't modify the original map.
+	 */
+	@Test
+	public void keepOriginalMap() {
+		ContextMap original = ContextMap.EMPTY.with("a", "1");
+		ContextMap modified = original.with("a", "2").with("b", "3");
+
+		assertThat(original).containsOnly(entry("a", "1"));
+		assertThat(modified).containsOnly(entry("a", "2"), entry("b", "3"));
+	}
+
+	/**
+	 * Verifies that the same map will be returned, if an added mapping exists already.
+	 */
+	@Test
+	public void addExistingMapping() {
+		ContextMap map = ContextMap.EMPTY.with("a", "1");
+		assertThat(map.with("a", "1")).isSameAs(map);
+	}
+
+	/**
+	 * Verifies that mappings can be removed.
+	 */
+	@Test
+	public void removeMappings() {
+		ContextMap map = ContextMap.EMPTY.with("a", "1").with("b", "2").with("c", "3");
+
+		assertThat(map.without("b")).containsExactly(entry("a", "1"), entry("c", "3"));
+		assertThat(map.without("a")).containsExactly(entry("b", "2"), entry("c", "3"));
+		assertThat(map.without("c")).containsExactly(entry("a", "1"), entry("b", "2"));
+		assertThat(map.without("d")).isSameAs(map);
+		assertThat(map.without("a").without("b").without("c")).isSameAs(ContextMap.EMPTY);
+		assertThat(map).hasSize(3);
+	}
+
+	/**
+	 * Verifies that a context map cannot be modified via the map API.
+	 */
+	@Test
+	public void immutable() {
+		ContextMap map = ContextMap.EMPTY.with("a", "1");
+
+		assertThatThrownBy(() -> map.put("b", "2")).isInstanceOf(UnsupportedOperationException.class);
+		assertThatThrownBy(() -> map.remove("a")).isInstanceOf(UnsupportedOperationException.class);
+		assertThatThrownBy(() -> map.clear()).isInstanceOf(UnsupportedOperationException.class);
+
+		Iterator<Map.Entry<String, String>> iterator = map.entrySet().iterator();
+		iterator.next();
+		assertThatThrownBy(iterator::remove).isInstanceOf(UnsupportedOperationException.class);
+		assertThatThrownBy(iterator::next).isInstanceOf(NoSuchElementException.class);
+	}
+
+	/**
+	 * Verifies that {@code null} can be used as key like for a hash map and is sorted before all other keys.
+	 */
+	@Test
+	public void nullKey() {
+		ContextMap map = ContextMap.EMPTY.with(null, "0");
+		assertThat(map.get(null)).isEqualTo("0");
+
+		map = map.with("b", "2").with("a", "1").with(null, "3");
+		assertThat(map).containsExactly(entry(null, "3"), entry("a", "1"), entry("b", "2"));
+		assertThat(map.containsKey(null)).isTrue();
+		assertThat(map.get("a")).isEqualTo("1");
+
+		map = map.without(null);
+		assertThat(map).containsExactly(entry("a", "1"), entry("b", "2"));
+		assertThat(map.get(null)).isNull();
+		assertThat(map.containsKey(null)).isFalse();
+	}
+
+	/**
+	 * Verifies that a context map can be created from any other map.
+	 */
+	@Test
+	public void copyOfMap() {
+		Map<String, String> source = new HashMap<>();
+		source.put("b", "2");
+		source.put("a", "1");
+		source.put("c", null);
+		source.put(null, "0");
+
+		ContextMap map = ContextMap.of(source);
+		assertThat(map).containsExactly(entry(null, "0"), entry("a", "1"), entry("b", "2"));
+		assertThat(ContextMap.of(map)).isSameAs(map);
+		assertThat(ContextMap.of(new HashMap<>())).isSameAs(ContextMap.EMPTY);
+	}
+
+	/**
+	 * Verifies that a context map behaves like a hash map with the same mappings for many random modifications.
+	 */
+	@Test
+	public void compareWithHashMap() {
+		Random random = new Random(42);
+		Map<String, String> expected = new HashMap<>();
+		ContextMap actual = ContextMap.EMPTY;
+
+		for (int i = 0; i < 10_000; ++i) {
+			String key = "key" + random.nextInt(50);
+			if (random.nextInt(3) == 0) {
+				expected.remove(key);
+				actual = actual.without(key);
+			} else {
+				String value = Integer.toString(random.nextInt(10));
+				expected.put(key, value);
+				actual = actual.with(key, value);
+			}
+
+			assertThat(actual.get(key)).isEqualTo(expected.get(key));
+		}
+
+		assertThat(actual).isEqualTo(expected);
+		assertThat(actual.hashCode()).isEqualTo(expected.hashCode());
+	}
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.tinylog.Level;
+import org.tinylog.filters.Filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link FilterStage}.
+ */
+public final class FilterStageTest {
+
+	/**
+	 * Verifies that the required log entry values of all filters are combined.
+	 */
+	@Test
+	public void requiredLogEntryValues() {
+		Filter first = mock(Filter.class);
+		when(first.getRequiredLogEntryValues()).thenReturn(EnumSet.of(LogEntryValue.CLASS));
+		Filter second = mock(Filter.class);
+		when(second.getRequiredLogEntryValues()).thenReturn(EnumSet.of(LogEntryValue.METHOD, LogEntryValue.LINE));
+
+		FilterStage stage = new FilterStage(Arrays.asList(first, second), 0);
+		assertThat(stage.getRequiredLogEntryValues()).containsOnly(LogEntryValue.CLASS, LogEntryValue.METHOD, LogEntryValue.LINE);
+	}
+
+	/**
+	 * Verifies that a log entry is only accepted if all filters accept it, and that the filter chain stops at the first
+	 * filter that discards a log entry.
+	 */
+	@Test
+	public void acceptance() {
+		Filter first = mock(Filter.class);
+		Filter second = mock(Filter.class);
+		when(first.accept(null, "test", Level.INFO, "Hello")).thenReturn(true);
+		when(second.accept(null, "test", Level.INFO, "Hello")).thenReturn(true);
+
+		FilterStage stage = new FilterStage(Arrays.asList(first, second), 0);
+		assertThat(stage.accept(null, "test", Level.INFO, "Hello")).isTrue();
+		assertThat(stage.accept(null, "test", Level.WARN, "Hello")).isFalse();
+
+		verify(second, never()).accept(null, "test", Level.WARN, "Hello");
+		verify(first).accept(null, "test", Level.WARN, "Hello");
+	}
+
+	/**
+	 * Verifies that summaries of discarded log entries are reported periodically.
+	 *
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for next summary
+	 */
+	@Test
+	public void summary() throws InterruptedException {
+		Filter filter = mock(Filter.class);
+		FilterStage stage = new FilterStage(Collections.singletonList(filter), TimeUnit.MILLISECONDS.toNanos(100));
+
+		stage.accept(null, null, Level.INFO, "Hello");
+		stage.accept(null, null, Level.INFO, "Hello");
+		assertThat(stage.pollSummary()).isZero();
+
+		Thread.sleep(150);
+		assertThat(stage.pollSummary()).isEqualTo(2);
+		assertThat(stage.pollSummary()).isZero();
+
+		stage.accept(null, null, Level.INFO, "Hello");
+		assertThat(stage.drain()).isEqualTo(1);
+		assertThat(stage.drain()).isZero();
+	}
+
+	/**
+	 * Verifies that discarded log entries are not reported, if summaries are disabled.
+	 */
+	@Test
+	public void disabledSummary() {
+		Filter filter = mock(Filter.class);
+		FilterStage stage = new FilterStage(Collections.singletonList(filter), 0);
+
+		stage.accept(null, null, Level.INFO, "Hello");
+		assertThat(stage.pollSummary()).isZero();
+		assertThat(stage.drain()).isZero();
+	}
+
+}
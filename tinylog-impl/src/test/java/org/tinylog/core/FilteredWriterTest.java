@@ -0,0 +1,139 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+import org.tinylog.util.LogEntryBuilder;
+import org.tinylog.writers.Writer;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link FilteredWriter}.
+ */
+public final class FilteredWriterTest {
+
+	/**
+	 * Verifies that the required log entry values of the underlying writer are extended by the values required for
+	 * the filter conditions.
+	 */
+	@Test
+	public void requiredLogEntryValues() {
+		Writer writer = mock(Writer.class);
+		when(writer.getRequiredLogEntryValues()).thenReturn(singletonList(LogEntryValue.DATE));
+
+		assertThat(new FilteredWriter(writer, null, null, null, null).getRequiredLogEntryValues())
+			.containsOnly(LogEntryValue.DATE);
+		assertThat(new FilteredWriter(writer, new String[] { "sql" }, null, null, null).getRequiredLogEntryValues())
+			.containsOnly(LogEntryValue.DATE, LogEntryValue.TAG);
+		assertThat(new FilteredWriter(writer, null, new ClassPrefixTrie(singletonList("org")), null, null).getRequiredLogEntryValues())
+			.containsOnly(LogEntryValue.DATE, LogEntryValue.CLASS);
+		assertThat(new FilteredWriter(writer, null, null, "foo", null).getRequiredLogEntryValues())
+			.containsOnly(LogEntryValue.DATE, LogEntryValue.MESSAGE);
+	}
+
+	/**
+	 * Verifies that log entries can be filtered by tag patterns.
+	 */
+	@Test
+	public void tags() {
+		FilteredWriter writer = new FilteredWriter(mock(Writer.class), new String[] { "sql*", "http", "-" }, null, null, null);
+
+		assertThat(writer.accept(LogEntryBuilder.empty().tag("sql").create())).isTrue();
+		assertThat(writer.accept(LogEntryBuilder.empty().tag("sql.jdbc").create())).isTrue();
+		assertThat(writer.accept(LogEntryBuilder.empty().tag("http").create())).isTrue();
+		assertThat(writer.accept(LogEntryBuilder.empty().create())).isTrue();
+
+		assertThat(writer.accept(LogEntryBuilder.empty().tag("https").create())).isFalse();
+		assertThat(writer.accept(LogEntryBuilder.empty().tag("mysql").create())).isFalse();
+	}
+
+	/**
+	 * Verifies that log entries can be filtered by class prefixes.
+	 */
+	@Test
+	public void classes() {
+		FilteredWriter writer = new FilteredWriter(mock(Writer.class), null, new ClassPrefixTrie(singletonList("org.test")), null, null);
+
+		assertThat(writer.accept(LogEntryBuilder.empty().className("org.test.Foo").create())).isTrue();
+		assertThat(writer.accept(LogEntryBuilder.empty().className("org.other.Foo").create())).isFalse();
+		assertThat(writer.accept(LogEntryBuilder.empty().create())).isFalse();
+	}
+
+	/**
+	 * Verifies that log entries can be filtered by a text that must be contained in the message.
+	 */
+	@Test
+	public void text() {
+		FilteredWriter writer = new FilteredWriter(mock(Writer.class), null, null, "timeout", null);
+
+		assertThat(writer.accept(LogEntryBuilder.empty().message("Connection timeout after 5s").create())).isTrue();
+		assertThat(writer.accept(LogEntryBuilder.empty().message("Connection closed").create())).isFalse();
+		assertThat(writer.accept(LogEntryBuilder.empty().create())).isFalse();
+	}
+
+	/**
+	 * Verifies that log entries can be filtered by a regular expression.
+	 */
+	@Test
+	public void regex() {
+		FilteredWriter writer = new FilteredWriter(mock(Writer.class), null, null, null, Pattern.compile("^User \\d+"));
+
+		assertThat(writer.accept(LogEntryBuilder.empty().message("User 42 logged in").create())).isTrue();
+		assertThat(writer.accept(LogEntryBuilder.empty().message("User admin logged in").create())).isFalse();
+		assertThat(writer.accept(LogEntryBuilder.empty().create())).isFalse();
+	}
+
+	/**
+	 * Verifies that a log entry is only accepted if all filter conditions are fulfilled.
+	 */
+	@Test
+	public void combination() {
+		FilteredWriter writer = new FilteredWriter(mock(Writer.class), new String[] { "sql" }, null, "slow", null);
+
+		assertThat(writer.accept(LogEntryBuilder.empty().tag("sql").message("slow query").create())).isTrue();
+		assertThat(writer.accept(LogEntryBuilder.empty().tag("sql").message("fast query").create())).isFalse();
+		assertThat(writer.accept(LogEntryBuilder.empty().tag("http").message("slow request").create())).isFalse();
+	}
+
+	/**
+	 * Verifies that all writer methods are passed to the underlying writer.
+	 *
+	 * @throws Exception
+	 *             Failed writing, flushing, or closing
+	 */
+	@Test
+	public void delegation() throws Exception {
+		Writer underlying = mock(Writer.class);
+		FilteredWriter writer = new FilteredWriter(underlying, null, null, "foo", null);
+		assertThat(writer.getWriter()).isSameAs(underlying);
+
+		LogEntry logEntry = LogEntryBuilder.empty().message("bar").create();
+		writer.write(logEntry);
+		verify(underlying).write(logEntry);
+
+		writer.flush();
+		verify(underlying).flush();
+
+		writer.close();
+		verify(underlying).close();
+	}
+
+}
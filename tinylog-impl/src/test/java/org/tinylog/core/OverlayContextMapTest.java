@@ -0,0 +1,90 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Tests for {@link OverlayContextMap}.
+ */
+public final class OverlayContextMapTest {
+
+	/**
+	 * Verifies that additional values override thread context values with the same keys.
+	 */
+	@Test
+	public void lookup() {
+		Map<String, String> base = ContextMap.EMPTY.with("a", "1").with("b", "2");
+		Map<String, String> overlay = Collections.singletonMap("b", "3");
+
+		OverlayContextMap map = new OverlayContextMap(base, overlay);
+		assertThat(map.get("a")).isEqualTo("1");
+		assertThat(map.get("b")).isEqualTo("3");
+		assertThat(map.get("c")).isNull();
+		assertThat(map.containsKey("a")).isTrue();
+		assertThat(map.containsKey("b")).isTrue();
+		assertThat(map.containsKey("c")).isFalse();
+	}
+
+	/**
+	 * Verifies that additional values are iterated first and overridden thread context values are skipped.
+	 */
+	@Test
+	public void iteration() {
+		Map<String, String> base = ContextMap.EMPTY.with("a", "1").with("b", "2").with("c", "3");
+		Map<String, String> overlay = new LinkedHashMap<String, String>();
+		overlay.put("d", "4");
+		overlay.put("b", "5");
+
+		OverlayContextMap map = new OverlayContextMap(base, overlay);
+		assertThat(map).hasSize(4).containsExactly(entry("d", "4"), entry("b", "5"), entry("a", "1"), entry("c", "3"));
+	}
+
+	/**
+	 * Verifies that the view is empty if there are neither thread context values nor additional values.
+	 */
+	@Test
+	public void empty() {
+		OverlayContextMap map = new OverlayContextMap(ContextMap.EMPTY, Collections.<String, String>emptyMap());
+		assertThat(map).isEmpty();
+		assertThat(map.entrySet().iterator().hasNext()).isFalse();
+	}
+
+	/**
+	 * Verifies that the view cannot be modified via its iterator.
+	 */
+	@Test
+	public void readOnly() {
+		OverlayContextMap map = new OverlayContextMap(ContextMap.EMPTY.with("a", "1"), Collections.singletonMap("b", "2"));
+		Iterator<Map.Entry<String, String>> iterator = map.entrySet().iterator();
+
+		Map.Entry<String, String> entry = iterator.next();
+		assertThatThrownBy(() -> entry.setValue("3")).isInstanceOf(UnsupportedOperationException.class);
+		assertThatThrownBy(iterator::remove).isInstanceOf(UnsupportedOperationException.class);
+
+		iterator.next();
+		assertThatThrownBy(iterator::next).isInstanceOf(NoSuchElementException.class);
+	}
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.util.Map;
+
+import org.junit.Test;
+import org.powermock.reflect.Whitebox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Tests for {@link ScopedContextProvider}.
+ */
+public final class ScopedContextProviderTest {
+
+	/**
+	 * Verifies that a new context provider has an empty mapping.
+	 */
+	@Test
+	public void empty() {
+		ScopedContextProvider provider = new ScopedContextProvider();
+		assertThat(provider.getMapping()).isEmpty();
+		assertThat(provider.get("pi")).isNull();
+	}
+
+	/**
+	 * Verifies that values can be added, overridden and removed.
+	 */
+	@Test
+	public void modifyValues() {
+		ScopedContextProvider provider = new ScopedContextProvider();
+
+		provider.put("a", 1);
+		provider.put("b", 2);
+		assertThat(provider.getMapping()).containsOnly(entry("a", "1"), entry("b", "2"));
+
+		provider.put("a", 3);
+		provider.put("b", null);
+		assertThat(provider.get("a")).isEqualTo("3");
+		assertThat(provider.getMapping()).containsOnly(entry("a", "3"));
+
+		provider.remove("a");
+		assertThat(provider.getMapping()).isEmpty();
+	}
+
+	/**
+	 * Verifies that no thread local value remains after removing all values.
+	 */
+	@Test
+	public void releaseThreadLocal() {
+		ScopedContextProvider provider = new ScopedContextProvider();
+		ThreadLocal<?> data = Whitebox.getInternalState(provider, ThreadLocal.class);
+
+		provider.put("a", 1);
+		assertThat(data.get()).isNotNull();
+
+		provider.remove("a");
+		assertThat(data.get()).isNull();
+
+		provider.put("a", 1);
+		provider.clear();
+		assertThat(data.get()).isNull();
+	}
+
+	/**
+	 * Verifies that a captured mapping can be installed by reference and the previous mapping will be returned.
+	 */
+	@Test
+	public void replace() {
+		ScopedContextProvider provider = new ScopedContextProvider();
+		provider.put("a", 1);
+		Map<String, String> snapshot = provider.getMapping();
+
+		provider.clear();
+		provider.put("b", 2);
+		Map<String, String> previous = provider.replace(snapshot);
+
+		assertThat(provider.getMapping()).isSameAs(snapshot);
+		assertThat(previous).containsOnly(entry("b", "2"));
+	}
+
+	/**
+	 * Verifies that child threads don't inherit any values.
+	 *
+	 * @throws InterruptedException
+	 *             Failed waiting for child thread
+	 */
+	@Test
+	public void noInheritance() throws InterruptedException {
+		ScopedContextProvider provider = new ScopedContextProvider();
+		provider.put("a", 1);
+
+		Thread thread = new Thread(() -> {
+			assertThat(provider.getMapping()).isEmpty();
+			provider.put("b", 2);
+		});
+		thread.start();
+		thread.join();
+
+		assertThat(provider.getMapping()).containsOnly(entry("a", "1"));
+	}
+
+}
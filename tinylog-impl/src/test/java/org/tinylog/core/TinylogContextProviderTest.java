@@ -13,9 +13,12 @@
 
 package org.tinylog.core;
 
+import java.util.Map;
+
 import org.junit.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.entry;
 
 /**
@@ -68,6 +71,22 @@ public final class TinylogContextProviderTest {
 		assertThat(provider.getMapping()).isEmpty();
 	}
 
+	/**
+	 * Verifies that {@code null} can be used as key.
+	 */
+	@Test
+	public void nullKey() {
+		TinylogContextProvider provider = new TinylogContextProvider();
+		provider.put(null, "a");
+		provider.put("test", "b");
+
+		assertThat(provider.get(null)).isEqualTo("a");
+		assertThat(provider.get("test")).isEqualTo("b");
+
+		provider.remove(null);
+		assertThat(provider.getMapping()).containsOnly(entry("test", "b"));
+	}
+
 	/**
 	 * Verifies that existing values can be removed.
 	 */
@@ -101,6 +120,40 @@ public final class TinylogContextProviderTest {
 		assertThat(provider.getMapping()).isEmpty();
 	}
 
+	/**
+	 * Verifies that a received mapping is an immutable snapshot that is not affected by later modifications.
+	 */
+	@Test
+	public void snapshot() {
+		TinylogContextProvider provider = new TinylogContextProvider();
+		provider.put("a", 1);
+
+		Map<String, String> snapshot = provider.getMapping();
+		provider.put("a", 2);
+		provider.put("b", 3);
+		provider.remove("a");
+
+		assertThat(snapshot).containsOnly(entry("a", "1"));
+		assertThatThrownBy(() -> snapshot.put("c", "4")).isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	/**
+	 * Verifies that a captured mapping can be installed by reference and the previous mapping will be returned.
+	 */
+	@Test
+	public void replace() {
+		TinylogContextProvider provider = new TinylogContextProvider();
+		provider.put("a", 1);
+		Map<String, String> snapshot = provider.getMapping();
+
+		provider.clear();
+		provider.put("b", 2);
+		Map<String, String> previous = provider.replace(snapshot);
+
+		assertThat(provider.getMapping()).isSameAs(snapshot);
+		assertThat(previous).containsOnly(entry("b", "2"));
+	}
+
 	/**
 	 * Verifies that a child thread inherits values from parent thread but not the way around.
 	 *
@@ -14,10 +14,17 @@
 package org.tinylog.core;
 
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAccumulator;
 
 import org.assertj.core.api.Condition;
 import org.junit.After;
@@ -35,9 +42,11 @@ import org.tinylog.Supplier;
 import org.tinylog.configuration.Configuration;
 import org.tinylog.configuration.ServiceLoader;
 import org.tinylog.format.AdvancedMessageFormatter;
+import org.tinylog.format.LegacyMessageFormatter;
 import org.tinylog.format.MessageFormatter;
 import org.tinylog.provider.LoggingProvider;
 import org.tinylog.rules.SystemStreamCollector;
+import org.tinylog.throwable.ThrowableSnapshot;
 import org.tinylog.util.EvilWriter;
 import org.tinylog.util.StorageWriter;
 import org.tinylog.util.Strings;
@@ -465,6 +474,498 @@ public final class TinylogLoggingProviderTest {
 
 	}
 
+	/**
+	 * Tests for logging with known class names (custom severity level for package "org.test" is {@link Level#DEBUG}
+	 * and global severity level is {@link Level#WARN}).
+	 */
+	public static final class KnownClassName extends AbstractTest {
+
+		/**
+		 * Activates {@link ConsoleWriter} and sets severity levels.
+		 */
+		@BeforeClass
+		public static void configure() {
+			Configuration.replace(emptyMap());
+
+			Configuration.set("writer", "console");
+			Configuration.set("writer.format", "{class}.{method}(): {message}");
+
+			Configuration.set("level", "warn");
+			Configuration.set("level@org.test", "debug");
+		}
+
+		/**
+		 * Verifies that the minimum severity level is resolved by the passed class name.
+		 */
+		@Test
+		public void minimumLevel() {
+			assertThat(provider.getMinimumLevel("org.test.Foo", null)).isEqualTo(Level.DEBUG);
+			assertThat(provider.getMinimumLevel("org.other.Foo", null)).isEqualTo(Level.WARN);
+		}
+
+		/**
+		 * Verifies that enabled severity levels are resolved by the passed class name.
+		 */
+		@Test
+		public void enabled() {
+			assertThat(provider.isEnabled(1, "org.test.Foo", null, Level.DEBUG)).isTrue();
+			assertThat(provider.isEnabled(1, "org.test.Foo", null, Level.TRACE)).isFalse();
+			assertThat(provider.isEnabled(1, "org.other.Foo", null, Level.DEBUG)).isFalse();
+			assertThat(provider.isEnabled(1, "org.other.Foo", null, Level.WARN)).isTrue();
+		}
+
+		/**
+		 * Verifies that log entries are output with the passed class name and the method name of the real caller.
+		 */
+		@Test
+		public void logging() {
+			provider.log(1, "org.test.Foo", null, Level.DEBUG, null, null, "Hello World!");
+			assertThat(systemStream.consumeStandardOutput()).isEqualTo("org.test.Foo.logging(): Hello World!" + NEW_LINE);
+
+			provider.log(1, "org.other.Foo", null, Level.DEBUG, null, null, "Hello World!");
+			assertThat(systemStream.consumeStandardOutput()).isEmpty();
+
+			provider.log(1, "org.other.Foo", null, Level.WARN, null, null, "Hello World!");
+			assertThat(systemStream.consumeErrorOutput()).isEqualTo("org.other.Foo.logging(): Hello World!" + NEW_LINE);
+		}
+
+		/**
+		 * Verifies that log entries from a logger with a known class name are output with the passed class name and the
+		 * method name of the real caller.
+		 */
+		@Test
+		public void loggingViaLogger() {
+			String loggerClassName = TinylogLoggingProvider.class.getName();
+
+			provider.log(loggerClassName, "org.test.Foo", null, Level.DEBUG, null, null, "Hello World!");
+			assertThat(systemStream.consumeStandardOutput()).isEqualTo("org.test.Foo.loggingViaLogger(): Hello World!" + NEW_LINE);
+
+			provider.log(loggerClassName, "org.other.Foo", null, Level.DEBUG, null, null, "Hello World!");
+			assertThat(systemStream.consumeStandardOutput()).isEmpty();
+
+			provider.log(loggerClassName, "org.other.Foo", null, Level.WARN, null, null, "Hello World!");
+			assertThat(systemStream.consumeErrorOutput()).isEqualTo("org.other.Foo.loggingViaLogger(): Hello World!" + NEW_LINE);
+		}
+
+		/**
+		 * Verifies that log entries with a known source are output with the passed class and method name.
+		 */
+		@Test
+		public void loggingWithSource() {
+			StackTraceElement source = new StackTraceElement("org.test.Foo", "bar", null, -1);
+			provider.log("org.test.Logger", source, null, Level.DEBUG, null, null, "Hello World!");
+			assertThat(systemStream.consumeStandardOutput()).isEqualTo("org.test.Foo.bar(): Hello World!" + NEW_LINE);
+
+			source = new StackTraceElement("org.other.Foo", "bar", null, -1);
+			provider.log("org.test.Logger", source, null, Level.DEBUG, null, null, "Hello World!");
+			assertThat(systemStream.consumeStandardOutput()).isEmpty();
+
+			provider.log("org.test.Logger", source, null, Level.WARN, null, null, "Hello World!");
+			assertThat(systemStream.consumeErrorOutput()).isEqualTo("org.other.Foo.bar(): Hello World!" + NEW_LINE);
+		}
+
+	}
+
+	/**
+	 * Tests for logging with known sources that don't contain file names and line numbers.
+	 */
+	public static final class KnownSource extends AbstractTest {
+
+		/**
+		 * Activates {@link ConsoleWriter} with a format pattern that outputs the class, method and file name.
+		 */
+		@BeforeClass
+		public static void configure() {
+			Configuration.replace(emptyMap());
+
+			Configuration.set("writer", "console");
+			Configuration.set("writer.format", "{class}.{method}() {file}: {message}");
+		}
+
+		/**
+		 * Verifies that the source is required, if the class or method name is output.
+		 */
+		@Test
+		public void sourceRequired() {
+			assertThat(provider.isSourceRequired(null, Level.INFO)).isTrue();
+
+			Configuration.set("writer.format", "{file}: {message}");
+			try {
+				assertThat(new TinylogLoggingProvider().isSourceRequired(null, Level.INFO)).isFalse();
+			} finally {
+				Configuration.set("writer.format", "{class}.{method}() {file}: {message}");
+			}
+		}
+
+		/**
+		 * Verifies that the file name of the real caller is added to a passed source without file name.
+		 */
+		@Test
+		public void loggingWithSource() {
+			String loggerClassName = TinylogLoggingProvider.class.getName();
+			StackTraceElement source = new StackTraceElement("org.test.Foo", "bar", null, -1);
+
+			provider.log(loggerClassName, source, null, Level.INFO, null, null, "Hello World!");
+			assertThat(systemStream.consumeStandardOutput())
+				.isEqualTo("org.test.Foo.bar() TinylogLoggingProviderTest.java: Hello World!" + NEW_LINE);
+		}
+
+	}
+
+	/**
+	 * Tests for logging with additional context values for single log entries.
+	 */
+	public static final class AdditionalContext extends AbstractTest {
+
+		/**
+		 * Activates {@link ConsoleWriter} with a format pattern that outputs context values.
+		 */
+		@BeforeClass
+		public static void configure() {
+			Configuration.replace(emptyMap());
+
+			Configuration.set("writer", "console");
+			Configuration.set("writer.format", "{context: user, -} {context: request, -}: {message}");
+		}
+
+		/**
+		 * Verifies that additional context values are output together with the thread context, but are not stored in
+		 * the thread context.
+		 */
+		@Test
+		public void logging() {
+			provider.getContextProvider().put("user", "alice");
+			provider.getContextProvider().put("request", "1");
+
+			provider.log(1, "org.test.Foo", null, Level.INFO, singletonMap("request", "2"), null, null, "Hello World!");
+			assertThat(systemStream.consumeStandardOutput()).isEqualTo("alice 2: Hello World!" + NEW_LINE);
+
+			provider.log(1, "org.test.Foo", null, Level.INFO, null, null, "Hello World!");
+			assertThat(systemStream.consumeStandardOutput()).isEqualTo("alice 1: Hello World!" + NEW_LINE);
+
+			provider.getContextProvider().clear();
+
+			provider.log(1, "org.test.Foo", null, Level.INFO, singletonMap("request", "3"), null, null, "Hello World!");
+			assertThat(systemStream.consumeStandardOutput()).isEqualTo("- 3: Hello World!" + NEW_LINE);
+		}
+
+	}
+
+	/**
+	 * Tests for filters that discard log entries before creating them.
+	 */
+	public static final class Filtering extends AbstractTest {
+
+		/**
+		 * Activates {@link ConsoleWriter} with a rate limit filter and disables auto shutdown.
+		 */
+		@BeforeClass
+		public static void configure() {
+			Configuration.replace(emptyMap());
+
+			Configuration.set("writer", "console");
+			Configuration.set("writer.format", "{level}: {message}");
+			Configuration.set("filter", "rate limit: 2/h");
+			Configuration.set("autoshutdown", "false");
+		}
+
+		/**
+		 * Verifies that log entries exceeding the rate limit are discarded and reported as summary on shutdown.
+		 *
+		 * @throws InterruptedException
+		 *             Interrupted while waiting for complete shutdown
+		 */
+		@Test
+		public void rateLimit() throws InterruptedException {
+			provider.log(1, null, Level.INFO, null, null, "First");
+			provider.log(1, null, Level.INFO, null, null, "Second");
+			provider.log(1, null, Level.INFO, null, null, "Third");
+			provider.log(1, null, Level.INFO, null, null, "Fourth");
+
+			assertThat(systemStream.consumeStandardOutput())
+				.isEqualTo(Level.INFO + ": First" + NEW_LINE + Level.INFO + ": Second" + NEW_LINE);
+
+			provider.shutdown();
+			assertThat(systemStream.consumeErrorOutput()).isEqualTo(Level.WARN + ": Discarded 2 log entries by filters" + NEW_LINE);
+		}
+
+	}
+
+	/**
+	 * Tests for filters in combination with writers that output class names and accept only some severity levels.
+	 */
+	public static final class FilteringWithClassNames extends AbstractTest {
+
+		/**
+		 * Activates {@link ConsoleWriter} for {@link Level#INFO} and higher with a rate limit filter and disables auto
+		 * shutdown.
+		 */
+		@BeforeClass
+		public static void configure() {
+			Configuration.replace(emptyMap());
+
+			Configuration.set("writer", "console");
+			Configuration.set("writer.level", "info");
+			Configuration.set("writer.format", "{class-name}: {message}");
+			Configuration.set("filter", "rate limit: 1/h");
+			Configuration.set("autoshutdown", "false");
+		}
+
+		/**
+		 * Verifies that log entries without any writers don't consume the rate limit and the summary of discarded log
+		 * entries can be output with a class name.
+		 *
+		 * @throws InterruptedException
+		 *             Interrupted while waiting for complete shutdown
+		 */
+		@Test
+		public void rateLimit() throws InterruptedException {
+			provider.log(1, "org.test.Foo", null, Level.DEBUG, null, null, "Hidden");
+			provider.log(1, "org.test.Foo", null, Level.INFO, null, null, "First");
+			provider.log(1, "org.test.Foo", null, Level.INFO, null, null, "Second");
+
+			assertThat(systemStream.consumeStandardOutput()).isEqualTo("Foo: First" + NEW_LINE);
+
+			provider.shutdown();
+			assertThat(systemStream.consumeErrorOutput())
+				.isEqualTo("TinylogLoggingProvider: Discarded 1 log entries by filters" + NEW_LINE);
+		}
+
+	}
+
+	/**
+	 * Tests for periodic summaries of discarded log entries.
+	 */
+	public static final class FilterSummaries extends AbstractTest {
+
+		/**
+		 * Activates an untagged and a tagged {@link ConsoleWriter} with a rate limit filter, a summary interval of one
+		 * second, and writing thread.
+		 */
+		@BeforeClass
+		public static void configure() {
+			Configuration.replace(emptyMap());
+
+			Configuration.set("writer1", "console");
+			Configuration.set("writer1.format", "untagged {level}: {message}");
+			Configuration.set("writer2", "console");
+			Configuration.set("writer2.tag", "sql");
+			Configuration.set("writer2.format", "tagged {level}: {message}");
+			Configuration.set("filter", "rate limit: 1/h");
+			Configuration.set("filter.summary", "1");
+			Configuration.set("writingthread", "true");
+			Configuration.set("autoshutdown", "false");
+		}
+
+		/**
+		 * Shuts down the logging provider.
+		 *
+		 * @throws InterruptedException
+		 *             Interrupted while waiting for complete shutdown
+		 */
+		@After
+		public void shutdown() throws InterruptedException {
+			provider.shutdown();
+		}
+
+		/**
+		 * Verifies that a due summary is output by the writing thread without any further log entries and is passed to
+		 * all writers that output warnings.
+		 *
+		 * @throws InterruptedException
+		 *             Interrupted while waiting for the summary
+		 */
+		@Test
+		public void periodicSummary() throws InterruptedException {
+			provider.log(1, null, Level.INFO, null, null, "First");
+			provider.log(1, null, Level.INFO, null, null, "Second");
+
+			Thread.sleep(1500);
+
+			assertThat(systemStream.consumeErrorOutput())
+				.contains("untagged " + Level.WARN + ": Discarded 1 log entries by filters" + NEW_LINE)
+				.contains("tagged " + Level.WARN + ": Discarded 1 log entries by filters" + NEW_LINE);
+			assertThat(systemStream.consumeStandardOutput()).isEqualTo("untagged " + Level.INFO + ": First" + NEW_LINE);
+		}
+
+	}
+
+	/**
+	 * Tests for writers with filter conditions.
+	 */
+	public static final class FilteredWriters extends AbstractTest {
+
+		/**
+		 * Activates two {@link ConsoleWriter ConsoleWriters} with different filter conditions.
+		 */
+		@BeforeClass
+		public static void configure() {
+			Configuration.replace(emptyMap());
+
+			Configuration.set("writer1", "console");
+			Configuration.set("writer1.format", "first: {message}");
+			Configuration.set("writer1.maxlevel", "info");
+			Configuration.set("writer1.filter.message", "query");
+
+			Configuration.set("writer2", "console");
+			Configuration.set("writer2.format", "second: {message}");
+			Configuration.set("writer2.filter.tag", "sql*");
+		}
+
+		/**
+		 * Verifies that log entries are only output by writers whose filter conditions are fulfilled.
+		 */
+		@Test
+		public void filtering() {
+			provider.log(1, null, Level.INFO, null, null, "Slow query");
+			assertThat(systemStream.consumeStandardOutput()).isEqualTo("first: Slow query" + NEW_LINE);
+
+			provider.log(1, "sql.jdbc", Level.INFO, null, null, "Slow query");
+			assertThat(systemStream.consumeStandardOutput())
+				.containsOnlyOnce("first: Slow query" + NEW_LINE)
+				.containsOnlyOnce("second: Slow query" + NEW_LINE);
+
+			provider.log(1, "sql", Level.WARN, null, null, "Slow query");
+			assertThat(systemStream.consumeErrorOutput()).isEqualTo("second: Slow query" + NEW_LINE);
+
+			provider.log(1, "http", Level.INFO, null, null, "Slow request");
+			assertThat(systemStream.consumeStandardOutput()).isEmpty();
+		}
+
+	}
+
+	/**
+	 * Tests for writers with multiple tags and tag patterns.
+	 */
+	public static final class MultipleTags extends AbstractTest {
+
+		/**
+		 * Activates two {@link ConsoleWriter ConsoleWriters} with tag lists and tag patterns.
+		 */
+		@BeforeClass
+		public static void configure() {
+			Configuration.replace(emptyMap());
+
+			Configuration.set("writer1", "console");
+			Configuration.set("writer1.format", "first: {message}");
+			Configuration.set("writer1.tag", "sql, jdbc, http.*");
+
+			Configuration.set("writer2", "console");
+			Configuration.set("writer2.format", "second: {message}");
+			Configuration.set("writer2.tag", "*.client, -");
+		}
+
+		/**
+		 * Verifies that the minimum severity level is resolved correctly for tags and tag patterns.
+		 */
+		@Test
+		public void minimumLevel() {
+			assertThat(provider.getMinimumLevel("sql")).isEqualTo(Level.TRACE);
+			assertThat(provider.getMinimumLevel("jdbc")).isEqualTo(Level.TRACE);
+			assertThat(provider.getMinimumLevel("http.server")).isEqualTo(Level.TRACE);
+			assertThat(provider.getMinimumLevel("rest.client")).isEqualTo(Level.TRACE);
+			assertThat(provider.getMinimumLevel("mail")).isEqualTo(Level.OFF);
+		}
+
+		/**
+		 * Verifies that log entries are routed to all writers with a matching tag or tag pattern.
+		 */
+		@Test
+		public void routing() {
+			provider.log(1, "sql", Level.INFO, null, null, "Hello");
+			assertThat(systemStream.consumeStandardOutput()).isEqualTo("first: Hello" + NEW_LINE);
+
+			provider.log(1, "jdbc", Level.INFO, null, null, "Hello");
+			assertThat(systemStream.consumeStandardOutput()).isEqualTo("first: Hello" + NEW_LINE);
+
+			provider.log(1, "http.server", Level.INFO, null, null, "Hello");
+			assertThat(systemStream.consumeStandardOutput()).isEqualTo("first: Hello" + NEW_LINE);
+
+			provider.log(1, "http.client", Level.INFO, null, null, "Hello");
+			assertThat(systemStream.consumeStandardOutput())
+				.containsOnlyOnce("first: Hello" + NEW_LINE)
+				.containsOnlyOnce("second: Hello" + NEW_LINE);
+
+			provider.log(1, null, Level.INFO, null, null, "Hello");
+			assertThat(systemStream.consumeStandardOutput()).isEqualTo("second: Hello" + NEW_LINE);
+
+			provider.log(1, "mail", Level.INFO, null, null, "Hello");
+			assertThat(systemStream.consumeStandardOutput()).isEmpty();
+		}
+
+	}
+
+	/**
+	 * Tests for many writers with overlapping tag patterns.
+	 */
+	public static final class ManyTagPatterns extends AbstractTest {
+
+		/**
+		 * Activates ten {@link ConsoleWriter ConsoleWriters} with different tag patterns.
+		 */
+		@BeforeClass
+		public static void configure() {
+			Configuration.replace(emptyMap());
+
+			for (int i = 0; i < 10; ++i) {
+				Configuration.set("writer" + i, "console");
+				Configuration.set("writer" + i + ".format", i + ": {message}");
+				Configuration.set("writer" + i + ".tag", "*" + i + "*");
+			}
+		}
+
+		/**
+		 * Verifies that tags matching a single tag pattern are routed to the writer of this tag pattern.
+		 */
+		@Test
+		public void singleTagPattern() {
+			provider.log(1, "tag9", Level.INFO, null, null, "Hello");
+			assertThat(systemStream.consumeStandardOutput()).isEqualTo("9: Hello" + NEW_LINE);
+
+			provider.log(1, "tag", Level.INFO, null, null, "Hello");
+			assertThat(systemStream.consumeStandardOutput()).isEmpty();
+		}
+
+		/**
+		 * Verifies that tags matching several tag patterns are routed once to each writer of these tag patterns.
+		 */
+		@Test
+		public void combinedTagPatterns() {
+			provider.log(1, "tag0189", Level.INFO, null, null, "Hello");
+			assertThat(systemStream.consumeStandardOutput())
+				.containsOnlyOnce("0: Hello" + NEW_LINE)
+				.containsOnlyOnce("1: Hello" + NEW_LINE)
+				.containsOnlyOnce("8: Hello" + NEW_LINE)
+				.containsOnlyOnce("9: Hello" + NEW_LINE)
+				.doesNotContain("2: Hello");
+
+			provider.log(1, "tag9810", Level.INFO, null, null, "Hello");
+			assertThat(systemStream.consumeStandardOutput())
+				.containsOnlyOnce("0: Hello" + NEW_LINE)
+				.containsOnlyOnce("1: Hello" + NEW_LINE)
+				.containsOnlyOnce("8: Hello" + NEW_LINE)
+				.containsOnlyOnce("9: Hello" + NEW_LINE)
+				.doesNotContain("2: Hello");
+
+			provider.log(1, "tag23", Level.INFO, null, null, "Hello");
+			assertThat(systemStream.consumeStandardOutput())
+				.containsOnlyOnce("2: Hello" + NEW_LINE)
+				.containsOnlyOnce("3: Hello" + NEW_LINE)
+				.doesNotContain("0: Hello");
+		}
+
+		/**
+		 * Verifies that the minimum severity level is resolved correctly for tags matching several tag patterns.
+		 */
+		@Test
+		public void minimumLevel() {
+			assertThat(provider.getMinimumLevel("tag45")).isEqualTo(Level.TRACE);
+			assertThat(provider.getMinimumLevel()).isEqualTo(Level.TRACE);
+			assertThat(provider.getMinimumLevel("tag")).isEqualTo(Level.OFF);
+		}
+
+	}
+
 	/**
 	 * Tests for custom severity level for a tag (custom severity level is {@link Level#INFO} and global severity level
 	 * is {@link Level#TRACE}).
@@ -512,6 +1013,18 @@ public final class TinylogLoggingProviderTest {
 			assertThat(provider.getMinimumLevel("test")).isEqualTo(Level.INFO);
 		}
 
+		/**
+		 * Verifies that log entries with an unknown tag will be never output.
+		 */
+		@Test
+		public void unknownTagDisabled() {
+			assertThat(provider.getMinimumLevel("other")).isEqualTo(Level.OFF);
+			assertThat(provider.isEnabled(1, "other", Level.ERROR)).isFalse();
+
+			provider.log(1, "other", Level.ERROR, null, null, "Hello World!");
+			assertThat(systemStream.consumeStandardOutput()).isEmpty();
+		}
+
 		/**
 		 * Verifies that trace severity level is enabled and log entries will be output if untagged.
 		 */
@@ -667,6 +1180,19 @@ public final class TinylogLoggingProviderTest {
 			assertThat(provider.getContextProvider()).isInstanceOf(TinylogContextProvider.class);
 		}
 
+		/**
+		 * Verifies that the scoped context provider will be returned, if configured.
+		 */
+		@Test
+		public void scoped() {
+			Configuration.set("threadcontext", "scoped");
+			try {
+				assertThat(new TinylogLoggingProvider().getContextProvider()).isInstanceOf(ScopedContextProvider.class);
+			} finally {
+				Configuration.replace(emptyMap());
+			}
+		}
+
 	}
 
 	/**
@@ -714,6 +1240,95 @@ public final class TinylogLoggingProviderTest {
 			assertThat(output).containsOnlyOnce(Level.INFO.toString()).containsOnlyOnce("Hello World!");
 		}
 
+		/**
+		 * Verifies that text messages are formatted from the original arguments before handing over log entries to
+		 * the writing thread.
+		 */
+		@Test
+		public void formatting() {
+			MessageFormatter formatter = new AdvancedMessageFormatter(Locale.ROOT, false);
+			provider.log(1, null, Level.INFO, null, formatter, "Value: {0.00}", new AtomicLong(5));
+			String output = waitFor(systemStream::consumeStandardOutput, Strings::isNeitherNullNorEmpty, 100);
+			assertThat(output).containsOnlyOnce("Value: 5.00");
+		}
+
+	}
+
+	/**
+	 * Tests for snapshots of exceptions before passing log entries to the writing thread.
+	 */
+	public static final class ExceptionSnapshots {
+
+		/**
+		 * Activates {@link StorageWriter}, writing thread and exception snapshots.
+		 */
+		@Before
+		public void configure() {
+			Map<String, String> configuration = new HashMap<>();
+			configuration.put("writer", StorageWriter.class.getName());
+			configuration.put("writer.values", "exception");
+			configuration.put("writingthread", "true");
+			configuration.put("autoshutdown", "false");
+			configuration.put("exception.snapshot", "true");
+			configuration.put("exception.snapshot.depth", "1");
+			Configuration.replace(configuration);
+		}
+
+		/**
+		 * Clears global tinylog configuration.
+		 */
+		@After
+		public void clear() {
+			Configuration.replace(emptyMap());
+		}
+
+		/**
+		 * Verifies that the writer receives a trimmed snapshot instead of the original exception.
+		 *
+		 * @throws InterruptedException
+		 *             Interrupted while waiting for complete shutdown
+		 */
+		@Test
+		public void snapshot() throws InterruptedException {
+			Exception exception = new RuntimeException("Oops", new IOException("File not found"));
+
+			TinylogLoggingProvider provider = new TinylogLoggingProvider();
+			provider.log(1, null, Level.ERROR, exception, null, null);
+			provider.shutdown();
+
+			assertThat(StorageWriter.consumeEntries()).hasSize(1).allSatisfy(entry -> {
+				assertThat(entry.getException()).isInstanceOfSatisfying(ThrowableSnapshot.class, snapshot -> {
+					assertThat(snapshot.getClassName()).isEqualTo(RuntimeException.class.getName());
+					assertThat(snapshot.getMessage()).isEqualTo("Oops");
+					assertThat(snapshot.getStackTrace()).containsExactly(exception.getStackTrace()[0]);
+				});
+				assertThat(entry.getException().getCause()).isInstanceOfSatisfying(ThrowableSnapshot.class, snapshot -> {
+					assertThat(snapshot.getClassName()).isEqualTo(IOException.class.getName());
+					assertThat(snapshot.getMessage()).isEqualTo("File not found");
+				});
+			});
+		}
+
+		/**
+		 * Verifies that no snapshot is taken, if the writer doesn't output exceptions.
+		 *
+		 * @throws InterruptedException
+		 *             Interrupted while waiting for complete shutdown
+		 */
+		@Test
+		public void noSnapshotWithoutRequiredException() throws InterruptedException {
+			Configuration.set("writer.values", "message");
+			Exception exception = new RuntimeException("Oops");
+
+			TinylogLoggingProvider provider = new TinylogLoggingProvider();
+			provider.log(1, null, Level.ERROR, exception, null, null);
+			provider.shutdown();
+
+			assertThat(StorageWriter.consumeEntries()).hasSize(1).allSatisfy(entry -> {
+				assertThat(entry.getException()).isNotInstanceOf(ThrowableSnapshot.class);
+			});
+		}
+
 	}
 
 	/**
@@ -937,6 +1552,76 @@ public final class TinylogLoggingProviderTest {
 			assertThat(StorageWriter.consumeEntries()).extracting(LogEntry::getMessage).containsOnly("Hello World!");
 		}
 
+		/**
+		 * Verifies that the unformatted message template and its resolved arguments are present in received log entry.
+		 * The text message is formatted lazily on demand, if only the arguments are required.
+		 */
+		@Test
+		public void arguments() {
+			Configuration.set("writer.values", "arguments");
+			MessageFormatter formatter = new AdvancedMessageFormatter(Locale.ROOT, false);
+			Supplier<Integer> supplier = () -> 42;
+
+			new TinylogLoggingProvider().log(1, null, Level.INFO, null, formatter, "{} = {}", new StringBuilder("x"), supplier);
+			assertThat(StorageWriter.consumeEntries()).hasSize(1).allSatisfy(entry -> {
+				assertThat(entry.getMessageFormatter()).isSameAs(formatter);
+				assertThat(entry.getMessageTemplate()).isEqualTo("{} = {}");
+				assertThat(entry.getMessageArguments()).containsExactly("x", 42);
+				assertThat(entry.getMessage()).isEqualTo("x = 42");
+			});
+
+			Configuration.set("writer.values", "message, arguments");
+
+			new TinylogLoggingProvider().log(1, null, Level.INFO, null, formatter, "{} = {}", new StringBuilder("x"), supplier);
+			assertThat(StorageWriter.consumeEntries()).hasSize(1).allSatisfy(entry -> {
+				assertThat(entry.getMessage()).isEqualTo("x = 42");
+				assertThat(entry.getMessageTemplate()).isEqualTo("{} = {}");
+				assertThat(entry.getMessageArguments()).containsExactly("x", 42);
+			});
+
+			new TinylogLoggingProvider().log(1, null, Level.INFO, null, formatter, "{0.00}", new AtomicLong(5));
+			assertThat(StorageWriter.consumeEntries()).hasSize(1).allSatisfy(entry -> {
+				assertThat(entry.getMessage()).isEqualTo("5.00");
+				assertThat(entry.getMessageArguments()).containsExactly(5L);
+			});
+		}
+
+		/**
+		 * Verifies that mutable numbers and dates are copied while issuing, so that they still can be formatted by
+		 * number and date patterns, but later changes don't affect the log entry.
+		 */
+		@Test
+		public void mutableNumbersAndDates() {
+			Configuration.set("writer.values", "arguments");
+			MessageFormatter formatter = new AdvancedMessageFormatter(Locale.ROOT, false);
+			AtomicInteger integer = new AtomicInteger(1);
+			DoubleAccumulator accumulator = new DoubleAccumulator(Double::sum, 2.5);
+			Date date = new Date(1000);
+
+			new TinylogLoggingProvider().log(1, null, Level.INFO, null, formatter, "{} {} {}", integer, accumulator, date);
+			integer.set(42);
+			accumulator.accumulate(1);
+			date.setTime(2000);
+
+			assertThat(StorageWriter.consumeEntries()).hasSize(1).allSatisfy(entry -> {
+				assertThat(entry.getMessageArguments()).containsExactly(1, new BigDecimal("2.5"), new Date(1000));
+			});
+		}
+
+		/**
+		 * Verifies that text messages are formatted while issuing, if the writer could output log entries later.
+		 */
+		@Test
+		public void mutableArguments() {
+			Configuration.set("writer.values", "message");
+			StringBuilder value = new StringBuilder("foo");
+
+			new TinylogLoggingProvider().log(1, null, Level.INFO, null, new LegacyMessageFormatter(), "Value: {}", value);
+			value.append("bar");
+
+			assertThat(StorageWriter.consumeEntries()).extracting(LogEntry::getMessage).containsOnly("Value: foo");
+		}
+
 		/**
 		 * Verifies that logged exception is present in received log entry.
 		 */
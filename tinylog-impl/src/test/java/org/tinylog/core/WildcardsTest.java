@@ -0,0 +1,74 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link Wildcards}.
+ */
+public final class WildcardsTest {
+
+	/**
+	 * Verifies that wildcards are detected in texts.
+	 */
+	@Test
+	public void containsWildcards() {
+		assertThat(Wildcards.contains("sql*")).isTrue();
+		assertThat(Wildcards.contains("s?l")).isTrue();
+		assertThat(Wildcards.contains("sql")).isFalse();
+		assertThat(Wildcards.contains("")).isFalse();
+	}
+
+	/**
+	 * Verifies that texts without wildcards must match exactly.
+	 */
+	@Test
+	public void exactMatch() {
+		assertThat(Wildcards.matches("sql", "sql")).isTrue();
+		assertThat(Wildcards.matches("sql", "sq")).isFalse();
+		assertThat(Wildcards.matches("sql", "sqlite")).isFalse();
+		assertThat(Wildcards.matches("", "")).isTrue();
+	}
+
+	/**
+	 * Verifies that an asterisk matches any number of characters.
+	 */
+	@Test
+	public void asterisk() {
+		assertThat(Wildcards.matches("*", "")).isTrue();
+		assertThat(Wildcards.matches("*", "anything")).isTrue();
+		assertThat(Wildcards.matches("sql*", "sql")).isTrue();
+		assertThat(Wildcards.matches("sql*", "sql.jdbc")).isTrue();
+		assertThat(Wildcards.matches("*.jdbc", "sql.jdbc")).isTrue();
+		assertThat(Wildcards.matches("*.jdbc", "sql.jdbc.pool")).isFalse();
+		assertThat(Wildcards.matches("a*b*c", "aXbYbZc")).isTrue();
+		assertThat(Wildcards.matches("a*b*c", "aXbYbZ")).isFalse();
+		assertThat(Wildcards.matches("**", "abc")).isTrue();
+	}
+
+	/**
+	 * Verifies that a question mark matches exactly one character.
+	 */
+	@Test
+	public void questionMark() {
+		assertThat(Wildcards.matches("s?l", "sql")).isTrue();
+		assertThat(Wildcards.matches("s?l", "sl")).isFalse();
+		assertThat(Wildcards.matches("s?l", "sqql")).isFalse();
+		assertThat(Wildcards.matches("?*", "")).isFalse();
+	}
+
+}
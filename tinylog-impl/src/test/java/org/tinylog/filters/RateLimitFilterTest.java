@@ -0,0 +1,173 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.filters;
+
+import java.util.function.Supplier;
+
+import org.junit.Test;
+import org.tinylog.Level;
+import org.tinylog.configuration.ServiceLoader;
+import org.tinylog.core.LogEntryValue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link RateLimitFilter}.
+ */
+public final class RateLimitFilterTest {
+
+	/**
+	 * Verifies that an illegal argument exception will be thrown if no rate limit has been passed.
+	 */
+	@Test
+	public void missingArgument() {
+		assertThatThrownBy(() -> new RateLimitFilter(null)).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("rate limit");
+		assertThatThrownBy(() -> new RateLimitFilter(" ")).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("rate limit");
+	}
+
+	/**
+	 * Verifies that an illegal argument exception will be thrown for invalid rate limits.
+	 */
+	@Test
+	public void invalidArgument() {
+		assertThatThrownBy(() -> new RateLimitFilter("1000")).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("1000");
+		assertThatThrownBy(() -> new RateLimitFilter("abc/s")).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("abc/s");
+		assertThatThrownBy(() -> new RateLimitFilter("0/s")).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("0/s");
+		assertThatThrownBy(() -> new RateLimitFilter("10/d")).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("10/d");
+		assertThatThrownBy(() -> new RateLimitFilter("10/s per foo")).isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("per foo");
+		assertThatThrownBy(() -> new RateLimitFilter("10/s for tag")).isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("for tag");
+	}
+
+	/**
+	 * Verifies that a global rate limit is applied to all log entries.
+	 */
+	@Test
+	public void globalLimit() {
+		RateLimitFilter filter = new RateLimitFilter("3/h");
+		assertThat(filter.getRequiredLogEntryValues()).isEmpty();
+
+		assertThat(filter.accept(null, null, Level.INFO, "First")).isTrue();
+		assertThat(filter.accept(null, "test", Level.WARN, "Second")).isTrue();
+		assertThat(filter.accept(null, null, Level.ERROR, "Third")).isTrue();
+		assertThat(filter.accept(null, null, Level.INFO, "Fourth")).isFalse();
+		assertThat(filter.accept(null, "test", Level.ERROR, "Fifth")).isFalse();
+	}
+
+	/**
+	 * Verifies that log entries are output again after the period has elapsed.
+	 *
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for refill
+	 */
+	@Test
+	public void refill() throws InterruptedException {
+		RateLimitFilter filter = new RateLimitFilter("20/s");
+
+		int accepted = 0;
+		for (int i = 0; i < 100; ++i) {
+			if (filter.accept(null, null, Level.INFO, "Hello")) {
+				accepted += 1;
+			}
+		}
+		assertThat(accepted).isBetween(20, 21);
+
+		Thread.sleep(200);
+		assertThat(filter.accept(null, null, Level.INFO, "Hello")).isTrue();
+	}
+
+	/**
+	 * Verifies that a separate rate limit is applied for each message template.
+	 */
+	@Test
+	public void limitPerMessage() {
+		RateLimitFilter filter = new RateLimitFilter("1/m per message");
+		Supplier<String> first = () -> "First";
+		Supplier<String> second = () -> "Second";
+
+		assertThat(filter.accept(null, null, Level.INFO, "Hello {}")).isTrue();
+		assertThat(filter.accept(null, null, Level.INFO, "Hello {}")).isFalse();
+		assertThat(filter.accept(null, null, Level.INFO, "Goodbye {}")).isTrue();
+		assertThat(filter.accept(null, null, Level.INFO, "Goodbye {}")).isFalse();
+
+		assertThat(filter.accept(null, null, Level.INFO, first)).isTrue();
+		assertThat(filter.accept(null, null, Level.INFO, first)).isFalse();
+		assertThat(filter.accept(null, null, Level.INFO, second)).isTrue();
+
+		assertThat(filter.accept(null, null, Level.INFO, null)).isTrue();
+		assertThat(filter.accept(null, null, Level.INFO, null)).isFalse();
+	}
+
+	/**
+	 * Verifies that a separate rate limit is applied for each tag.
+	 */
+	@Test
+	public void limitPerTag() {
+		RateLimitFilter filter = new RateLimitFilter("1/h per tag");
+
+		assertThat(filter.accept(null, "sql", Level.INFO, "First")).isTrue();
+		assertThat(filter.accept(null, "sql", Level.INFO, "Second")).isFalse();
+		assertThat(filter.accept(null, "http", Level.INFO, "Third")).isTrue();
+		assertThat(filter.accept(null, null, Level.INFO, "Fourth")).isTrue();
+		assertThat(filter.accept(null, null, Level.INFO, "Fifth")).isFalse();
+	}
+
+	/**
+	 * Verifies that a separate rate limit is applied for each call site.
+	 */
+	@Test
+	public void limitPerCaller() {
+		RateLimitFilter filter = new RateLimitFilter("1/h per caller");
+		assertThat(filter.getRequiredLogEntryValues()).contains(LogEntryValue.CLASS, LogEntryValue.METHOD, LogEntryValue.LINE);
+
+		StackTraceElement first = new StackTraceElement("org.test.Foo", "run", "Foo.java", 42);
+		StackTraceElement second = new StackTraceElement("org.test.Foo", "run", "Foo.java", 43);
+
+		assertThat(filter.accept(first, null, Level.INFO, "Hello")).isTrue();
+		assertThat(filter.accept(new StackTraceElement("org.test.Foo", "run", "Foo.java", 42), null, Level.INFO, "Hello")).isFalse();
+		assertThat(filter.accept(second, null, Level.INFO, "Hello")).isTrue();
+	}
+
+	/**
+	 * Verifies that the token buckets of frequently issued log entries are kept, if there are too many distinct
+	 * message templates.
+	 */
+	@Test
+	public void evictLeastRecentlyUsed() {
+		RateLimitFilter filter = new RateLimitFilter("1/h per message");
+
+		assertThat(filter.accept(null, null, Level.INFO, "Hot")).isTrue();
+
+		for (int i = 0; i < 20_000; ++i) {
+			assertThat(filter.accept(null, null, Level.INFO, "Cold " + i)).isTrue();
+			if (i % 100 == 0) {
+				assertThat(filter.accept(null, null, Level.INFO, "Hot")).isFalse();
+			}
+		}
+
+		assertThat(filter.accept(null, null, Level.INFO, "Hot")).isFalse();
+	}
+
+	/**
+	 * Verifies that filter is registered as service under the name "rate limit".
+	 */
+	@Test
+	public void isRegistered() {
+		Filter filter = new ServiceLoader<>(Filter.class, String.class).create("rate limit", "1000/s");
+		assertThat(filter).isInstanceOf(RateLimitFilter.class);
+	}
+
+}
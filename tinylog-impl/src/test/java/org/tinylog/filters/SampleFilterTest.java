@@ -0,0 +1,127 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.filters;
+
+import org.junit.Test;
+import org.tinylog.Level;
+import org.tinylog.configuration.ServiceLoader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link SampleFilter}.
+ */
+public final class SampleFilterTest {
+
+	/**
+	 * Verifies that an illegal argument exception will be thrown if no sampling rate has been passed.
+	 */
+	@Test
+	public void missingArgument() {
+		assertThatThrownBy(() -> new SampleFilter(null)).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("sampling");
+		assertThatThrownBy(() -> new SampleFilter("")).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("sampling");
+	}
+
+	/**
+	 * Verifies that an illegal argument exception will be thrown for invalid arguments.
+	 */
+	@Test
+	public void invalidArgument() {
+		assertThatThrownBy(() -> new SampleFilter("abc")).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("abc");
+		assertThatThrownBy(() -> new SampleFilter("120%")).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("120%");
+		assertThatThrownBy(() -> new SampleFilter("-0.5")).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("-0.5");
+		assertThatThrownBy(() -> new SampleFilter("10% level=foo")).isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("level=foo");
+		assertThatThrownBy(() -> new SampleFilter("10% foo")).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("foo");
+	}
+
+	/**
+	 * Verifies that all log entries are output for a sampling rate of 100%.
+	 */
+	@Test
+	public void sampleAll() {
+		SampleFilter filter = new SampleFilter("100%");
+		assertThat(filter.getRequiredLogEntryValues()).isEmpty();
+
+		for (int i = 0; i < 1000; ++i) {
+			assertThat(filter.accept(null, null, Level.INFO, "Hello")).isTrue();
+		}
+	}
+
+	/**
+	 * Verifies that no log entries are output for a sampling rate of 0%.
+	 */
+	@Test
+	public void sampleNothing() {
+		SampleFilter filter = new SampleFilter("0");
+
+		for (int i = 0; i < 1000; ++i) {
+			assertThat(filter.accept(null, null, Level.INFO, "Hello")).isFalse();
+		}
+	}
+
+	/**
+	 * Verifies that roughly the configured percentage of log entries is output.
+	 */
+	@Test
+	public void samplePercentage() {
+		SampleFilter filter = new SampleFilter("25%");
+
+		int accepted = 0;
+		for (int i = 0; i < 10000; ++i) {
+			if (filter.accept(null, null, Level.INFO, "Hello")) {
+				accepted += 1;
+			}
+		}
+
+		assertThat(accepted).isBetween(2000, 3000);
+	}
+
+	/**
+	 * Verifies that sampling can be restricted to a severity level and all lower severity levels.
+	 */
+	@Test
+	public void restrictedLevel() {
+		SampleFilter filter = new SampleFilter("0% level=debug");
+
+		assertThat(filter.accept(null, null, Level.TRACE, "Hello")).isFalse();
+		assertThat(filter.accept(null, null, Level.DEBUG, "Hello")).isFalse();
+		assertThat(filter.accept(null, null, Level.INFO, "Hello")).isTrue();
+		assertThat(filter.accept(null, null, Level.ERROR, "Hello")).isTrue();
+	}
+
+	/**
+	 * Verifies that sampling can be restricted to a tag.
+	 */
+	@Test
+	public void restrictedTag() {
+		SampleFilter filter = new SampleFilter("0% tag=sql level=info");
+
+		assertThat(filter.accept(null, "sql", Level.DEBUG, "Hello")).isFalse();
+		assertThat(filter.accept(null, "sql", Level.WARN, "Hello")).isTrue();
+		assertThat(filter.accept(null, "http", Level.DEBUG, "Hello")).isTrue();
+		assertThat(filter.accept(null, null, Level.DEBUG, "Hello")).isTrue();
+	}
+
+	/**
+	 * Verifies that filter is registered as service under the name "sample".
+	 */
+	@Test
+	public void isRegistered() {
+		Filter filter = new ServiceLoader<>(Filter.class, String.class).create("sample", "10%");
+		assertThat(filter).isInstanceOf(SampleFilter.class);
+	}
+
+}
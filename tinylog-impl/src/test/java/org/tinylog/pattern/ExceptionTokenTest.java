@@ -19,6 +19,7 @@ import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
@@ -38,6 +39,8 @@ import static org.mockito.Mockito.verify;
  */
 public final class ExceptionTokenTest {
 
+	private static final String NEW_LINE = System.lineSeparator();
+
 	/**
 	 * Verifies that {@link LogEntryValue#EXCEPTION} is the only required log entry value.
 	 */
@@ -162,6 +165,196 @@ public final class ExceptionTokenTest {
 			.hasLineCount(exception.getStackTrace().length + 4);
 	}
 
+	/**
+	 * Verifies that stack trace elements are rendered by {@link StackTraceElement#toString()}.
+	 */
+	@Test
+	public void renderStackTraceElements() {
+		Exception exception = new RuntimeException();
+		exception.setStackTrace(new StackTraceElement[] {
+			new StackTraceElement("org.test.Foo", "run", "Foo.java", 42),
+			new StackTraceElement("org.test.Foo", "call", "Foo.java", -1),
+			new StackTraceElement("org.test.Foo", "load", null, -1),
+			new StackTraceElement("org.test.Foo", "invoke", null, -2)
+		});
+
+		ExceptionToken token = new ExceptionToken(Collections.emptyList());
+
+		assertThat(render(token, exception)).isEqualTo(
+			RuntimeException.class.getName() + NEW_LINE
+				+ "\tat org.test.Foo.run(Foo.java:42)" + NEW_LINE
+				+ "\tat org.test.Foo.call(Foo.java)" + NEW_LINE
+				+ "\tat org.test.Foo.load(Unknown Source)" + NEW_LINE
+				+ "\tat org.test.Foo.invoke(Native Method)"
+		);
+	}
+
+	/**
+	 * Verifies that the number of output stack trace elements can be limited.
+	 */
+	@Test
+	public void renderLimitedDepth() {
+		Exception exception = new RuntimeException();
+		exception.setStackTrace(createStackTrace("org.test.A", "org.test.B", "org.test.C", "org.test.D"));
+
+		ExceptionToken token = new ExceptionToken(Collections.emptyList(), 0, 2, Integer.MAX_VALUE, Collections.emptyList());
+
+		assertThat(render(token, exception)).isEqualTo(
+			RuntimeException.class.getName() + NEW_LINE
+				+ "\tat org.test.A.run(A.java:1)" + NEW_LINE
+				+ "\tat org.test.B.run(B.java:2)" + NEW_LINE
+				+ "\t... 2 more"
+		);
+	}
+
+	/**
+	 * Verifies that consecutive stack trace elements of configured packages are folded into a single line.
+	 */
+	@Test
+	public void renderFoldedFrames() {
+		Exception exception = new RuntimeException();
+		exception.setStackTrace(createStackTrace(
+			"org.test.A", "reactor.core.X", "reactor.core.publisher.Y", "reactor.core.Z", "org.test.B", "reactor.core.X",
+			"io.netty.Channel", "io.netty.Pipeline"
+		));
+
+		ExceptionToken token = new ExceptionToken(Collections.emptyList(), 0, Integer.MAX_VALUE, Integer.MAX_VALUE,
+			Arrays.asList("reactor.core", "io.netty"));
+
+		assertThat(render(token, exception)).isEqualTo(
+			RuntimeException.class.getName() + NEW_LINE
+				+ "\tat org.test.A.run(A.java:1)" + NEW_LINE
+				+ "\t... 3 frames in reactor.core" + NEW_LINE
+				+ "\tat org.test.B.run(B.java:5)" + NEW_LINE
+				+ "\tat reactor.core.X.run(X.java:6)" + NEW_LINE
+				+ "\t... 2 frames in io.netty"
+		);
+	}
+
+	/**
+	 * Verifies that suppressed exceptions are rendered with indentation before the cause exception.
+	 */
+	@Test
+	public void renderSuppressedExceptions() {
+		Exception exception = new RuntimeException("Oops", new IOException("Root"));
+		exception.setStackTrace(createStackTrace("org.test.A", "org.test.Main"));
+
+		Exception suppressed = new IllegalStateException("Close");
+		suppressed.setStackTrace(createStackTrace("org.test.B", "org.test.Main"));
+		exception.addSuppressed(suppressed);
+
+		exception.getCause().setStackTrace(createStackTrace("org.test.C"));
+
+		ExceptionToken token = new ExceptionToken(Collections.emptyList());
+
+		assertThat(render(token, exception)).isEqualTo(
+			RuntimeException.class.getName() + ": Oops" + NEW_LINE
+				+ "\tat org.test.A.run(A.java:1)" + NEW_LINE
+				+ "\tat org.test.Main.run(Main.java:2)" + NEW_LINE
+				+ "\tSuppressed: " + IllegalStateException.class.getName() + ": Close" + NEW_LINE
+				+ "\t\tat org.test.B.run(B.java:1)" + NEW_LINE
+				+ "\t\t... 1 more" + NEW_LINE
+				+ "Caused by: " + IOException.class.getName() + ": Root" + NEW_LINE
+				+ "\tat org.test.C.run(C.java:1)"
+		);
+	}
+
+	/**
+	 * Verifies that circular references between suppressed exceptions and causes are rendered as markers instead of
+	 * resulting in an endless recursion.
+	 */
+	@Test
+	public void renderCircularReference() {
+		Exception exception = new RuntimeException("Oops");
+		exception.setStackTrace(createStackTrace("org.test.A"));
+
+		Exception suppressed = new IllegalStateException("Close");
+		suppressed.setStackTrace(createStackTrace("org.test.B"));
+		suppressed.initCause(exception);
+		exception.addSuppressed(suppressed);
+
+		ExceptionToken token = new ExceptionToken(Collections.emptyList(), 1_000_000_000L, Integer.MAX_VALUE,
+			Integer.MAX_VALUE, Collections.emptyList());
+
+		assertThat(render(token, exception)).startsWith(
+			RuntimeException.class.getName() + ": Oops [stack #"
+		).endsWith(
+			NEW_LINE
+				+ "	at org.test.A.run(A.java:1)" + NEW_LINE
+				+ "	Suppressed: " + IllegalStateException.class.getName() + ": Close" + NEW_LINE
+				+ "		at org.test.B.run(B.java:1)" + NEW_LINE
+				+ "	Caused by: [CIRCULAR REFERENCE: " + RuntimeException.class.getName() + ": Oops]"
+		);
+	}
+
+	/**
+	 * Verifies that the total number of output stack trace elements can be limited.
+	 */
+	@Test
+	public void renderLimitedFrames() {
+		Exception exception = new RuntimeException("Oops", new IOException("Root"));
+		exception.setStackTrace(createStackTrace("org.test.A", "org.test.B"));
+		exception.getCause().setStackTrace(createStackTrace("org.test.C", "org.test.D"));
+		for (int i = 0; i < 3; ++i) {
+			Exception suppressed = new IllegalStateException("Close " + i);
+			suppressed.setStackTrace(createStackTrace("org.test.E"));
+			exception.addSuppressed(suppressed);
+		}
+
+		ExceptionToken token = new ExceptionToken(Collections.emptyList(), 0, Integer.MAX_VALUE, 3, Collections.emptyList());
+
+		assertThat(render(token, exception)).isEqualTo(
+			RuntimeException.class.getName() + ": Oops" + NEW_LINE
+				+ "\tat org.test.A.run(A.java:1)" + NEW_LINE
+				+ "\tat org.test.B.run(B.java:2)" + NEW_LINE
+				+ "\tSuppressed: " + IllegalStateException.class.getName() + ": Close 0" + NEW_LINE
+				+ "\t\tat org.test.E.run(E.java:1)" + NEW_LINE
+				+ "\t... 3 throwables omitted"
+		);
+	}
+
+	/**
+	 * Verifies that a repeatedly logged exception will be rendered identically every time.
+	 */
+	@Test
+	public void renderRepeatedException() {
+		Exception exception = new RuntimeException("Oops", new IOException("File not found"));
+		ExceptionToken token = new ExceptionToken(Collections.emptyList());
+
+		String first = render(token, exception);
+		assertThat(first).startsWith(RuntimeException.class.getName() + ": Oops").contains(IOException.class.getName());
+		assertThat(render(token, exception)).isEqualTo(first);
+	}
+
+	/**
+	 * Verifies that repeated stack traces are taken from the cache without applying the throwable filters again, even
+	 * if no repeat window is defined.
+	 */
+	@Test
+	public void renderCachedException() {
+		AtomicInteger counter = new AtomicInteger();
+		List<ThrowableFilter> filters = Collections.singletonList(origin -> {
+			counter.incrementAndGet();
+			return origin;
+		});
+
+		Exception first = new RuntimeException("Oops");
+		first.setStackTrace(createStackTrace("org.test.A", "org.test.B"));
+		Exception second = new RuntimeException("Oops");
+		second.setStackTrace(createStackTrace("org.test.A", "org.test.B"));
+
+		ExceptionToken token = new ExceptionToken(filters, 0, Integer.MAX_VALUE, Integer.MAX_VALUE, Collections.emptyList());
+
+		String expected = RuntimeException.class.getName() + ": Oops" + NEW_LINE
+			+ "\tat org.test.A.run(A.java:1)" + NEW_LINE
+			+ "\tat org.test.B.run(B.java:2)";
+
+		assertThat(render(token, first)).isEqualTo(expected);
+		assertThat(render(token, first)).isEqualTo(expected);
+		assertThat(render(token, second)).isEqualTo(expected);
+		assertThat(counter).hasValue(1);
+	}
+
 	/**
 	 * Verifies that an exception including its cause exception will be added correctly rendered to a
 	 * {@link PreparedStatement}.
@@ -229,6 +422,22 @@ public final class ExceptionTokenTest {
 		assertThat(captor.getValue()).startsWith(RuntimeException.class.getName() + ": Test12");
 	}
 
+	/**
+	 * Creates a stack trace with one element per passed class name.
+	 *
+	 * @param classNames
+	 *            Fully-qualified class names
+	 * @return Created stack trace
+	 */
+	private static StackTraceElement[] createStackTrace(final String... classNames) {
+		StackTraceElement[] stackTrace = new StackTraceElement[classNames.length];
+		for (int i = 0; i < classNames.length; ++i) {
+			String simpleName = classNames[i].substring(classNames[i].lastIndexOf('.') + 1);
+			stackTrace[i] = new StackTraceElement(classNames[i], "run", simpleName + ".java", i + 1);
+		}
+		return stackTrace;
+	}
+
 	/**
 	 * Renders a token.
 	 *
@@ -13,9 +13,13 @@
 
 package org.tinylog.pattern;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -309,6 +313,101 @@ public final class FormatPatternParserTest {
 				.doesNotContain("at org.tinylog");
 	}
 
+	/**
+	 * Verifies that repeats of a stack trace will be output as short references, if a window is defined via
+	 * {@code exception.repeats}.
+	 */
+	@Test
+	public void repeatedException() {
+		Token token = new FormatPatternParser(Collections.singletonMap("exception.repeats", "60")).parse("{exception}");
+		Exception exception = new NullPointerException();
+
+		StringBuilder first = new StringBuilder();
+		token.render(LogEntryBuilder.empty().exception(exception).create(), first);
+		assertThat(first.toString())
+			.startsWith(NullPointerException.class.getName() + " [stack #")
+			.hasLineCount(exception.getStackTrace().length + 1);
+
+		StringBuilder second = new StringBuilder();
+		token.render(LogEntryBuilder.empty().exception(exception).create(), second);
+		assertThat(second.toString())
+			.startsWith(NullPointerException.class.getName() + " [stack #")
+			.endsWith(" seen 2x]")
+			.hasLineCount(1);
+	}
+
+	/**
+	 * Verifies that the stack trace depth can be limited and frames of configured packages can be folded via
+	 * {@code exception.depth} and {@code exception.fold}.
+	 */
+	@Test
+	public void limitedAndFoldedException() {
+		Map<String, String> properties = new HashMap<>();
+		properties.put("exception.depth", "3");
+		properties.put("exception.fold", "org.junit | org.apache");
+
+		Exception exception = new RuntimeException();
+		exception.setStackTrace(new StackTraceElement[] {
+			new StackTraceElement("org.test.Foo", "run", "Foo.java", 1),
+			new StackTraceElement("org.junit.Bar", "run", "Bar.java", 2),
+			new StackTraceElement("org.junit.Baz", "run", "Baz.java", 3),
+			new StackTraceElement("org.apache.Qux", "run", "Qux.java", 4)
+		});
+
+		Token token = new FormatPatternParser(properties).parse("{exception}");
+		StringBuilder builder = new StringBuilder();
+		token.render(LogEntryBuilder.empty().exception(exception).create(), builder);
+
+		assertThat(builder).hasToString(
+			RuntimeException.class.getName() + NEW_LINE
+				+ "\tat org.test.Foo.run(Foo.java:1)" + NEW_LINE
+				+ "\t... 2 frames in org.junit" + NEW_LINE
+				+ "\t... 1 more"
+		);
+	}
+
+	/**
+	 * Verifies that the total number of output stack trace elements can be limited via {@code exception.frames}.
+	 */
+	@Test
+	public void limitedFramesException() {
+		Exception exception = new RuntimeException(new IOException());
+		exception.addSuppressed(new IllegalStateException());
+
+		Token token = new FormatPatternParser(Collections.singletonMap("exception.frames", "1")).parse("{exception}");
+		StringBuilder builder = new StringBuilder();
+		token.render(LogEntryBuilder.empty().exception(exception).create(), builder);
+
+		assertThat(builder.toString())
+			.startsWith(RuntimeException.class.getName())
+			.endsWith("\t... 2 throwables omitted")
+			.hasLineCount(4);
+	}
+
+	/**
+	 * Verifies that an error will be logged, if the maximum stack trace depth is invalid.
+	 */
+	@Test
+	public void invalidDepth() {
+		new FormatPatternParser(Collections.singletonMap("exception.depth", "-1")).parse("{exception}");
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("ERROR").containsOnlyOnce("exception.depth");
+	}
+
+	/**
+	 * Verifies that an error will be logged, if the window for repeated stack traces is invalid.
+	 */
+	@Test
+	public void invalidRepeatWindow() {
+		Token token = new FormatPatternParser(Collections.singletonMap("exception.repeats", "abc")).parse("{exception}");
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("ERROR").containsOnlyOnce("abc");
+
+		Exception exception = new NullPointerException();
+		StringBuilder builder = new StringBuilder();
+		token.render(LogEntryBuilder.empty().exception(exception).create(), builder);
+		token.render(LogEntryBuilder.empty().exception(exception).create(), builder);
+		assertThat(builder.toString()).hasLineCount(2 * exception.getStackTrace().length + 1).doesNotContain("[stack #");
+	}
+
 	/**
 	 * Verifies that {@code {opening-curly-bracket"}} can be parsed and outputs a single opening curly bracket '{'.
 	 */
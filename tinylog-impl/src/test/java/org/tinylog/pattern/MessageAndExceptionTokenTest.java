@@ -22,6 +22,7 @@ import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.tinylog.core.LogEntry;
 import org.tinylog.core.LogEntryValue;
+import org.tinylog.format.LegacyMessageFormatter;
 import org.tinylog.throwable.ThrowableFilter;
 import org.tinylog.throwable.ThrowableStore;
 import org.tinylog.util.LogEntryBuilder;
@@ -147,6 +148,26 @@ public final class MessageAndExceptionTokenTest {
 			.hasLineCount(exception.getStackTrace().length + 1);
 	}
 
+	/**
+	 * Verifies that a message template with arguments and an exception will be rendered correctly in combination.
+	 */
+	@Test
+	public void renderMessageTemplateAndException() {
+		Exception exception = new UnsupportedOperationException();
+		MessageAndExceptionToken token = new MessageAndExceptionToken(Collections.emptyList());
+		LogEntry logEntry = LogEntryBuilder.empty()
+			.arguments(new LegacyMessageFormatter(), "Hello {}!", "World")
+			.exception(exception)
+			.create();
+
+		StringBuilder builder = new StringBuilder();
+		token.render(logEntry, builder);
+
+		assertThat(builder.toString())
+			.startsWith("Hello World!: " + UnsupportedOperationException.class.getName())
+			.hasLineCount(exception.getStackTrace().length + 1);
+	}
+
 	/**
 	 * Verifies that a text message and an exception will be rendered correctly in combination for a {@link StringBuilder}.
 	 *
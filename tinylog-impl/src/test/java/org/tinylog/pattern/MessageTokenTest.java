@@ -19,6 +19,8 @@ import java.sql.SQLException;
 import org.junit.Test;
 import org.tinylog.core.LogEntry;
 import org.tinylog.core.LogEntryValue;
+import org.tinylog.format.LegacyMessageFormatter;
+import org.tinylog.format.MessageFormatter;
 import org.tinylog.util.LogEntryBuilder;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -114,6 +116,48 @@ public final class MessageTokenTest {
 		assertThat(render(token, "Hello\r\nWorld!")).isEqualTo("Hello" + System.lineSeparator() + "World!");
 	}
 
+	/**
+	 * Verifies that a message template with arguments will be formatted directly into the string builder.
+	 */
+	@Test
+	public void renderMessageTemplate() {
+		MessageToken token = new MessageToken();
+		LogEntry logEntry = LogEntryBuilder.empty().arguments(new LegacyMessageFormatter(), "Hello {}!", "World").create();
+
+		StringBuilder builder = new StringBuilder("Message: ");
+		token.render(logEntry, builder);
+		assertThat(builder).hasToString("Message: Hello World!");
+	}
+
+	/**
+	 * Verifies that a message template will be formatted by custom message formatters, which implement only the
+	 * message formatter interface.
+	 */
+	@Test
+	public void renderMessageTemplateWithCustomFormatter() {
+		MessageToken token = new MessageToken();
+		MessageFormatter formatter = (message, arguments) -> message.replace("{}", String.valueOf(arguments[0]));
+		LogEntry logEntry = LogEntryBuilder.empty().arguments(formatter, "Hello {}!", "World").create();
+
+		StringBuilder builder = new StringBuilder("Message: ");
+		token.render(logEntry, builder);
+		assertThat(builder).hasToString("Message: Hello World!");
+	}
+
+	/**
+	 * Verifies that line separators in formatted message templates will be converted into the line separator of the
+	 * system.
+	 */
+	@Test
+	public void convertLineSeparatorsInMessageTemplate() {
+		MessageToken token = new MessageToken();
+		LogEntry logEntry = LogEntryBuilder.empty().arguments(new LegacyMessageFormatter(), "{}\r\n{}\n{}", "a", "b", "c").create();
+
+		StringBuilder builder = new StringBuilder("\n");
+		token.render(logEntry, builder);
+		assertThat(builder).hasToString("\n" + "a" + System.lineSeparator() + "b" + System.lineSeparator() + "c");
+	}
+
 	/**
 	 * Renders a token.
 	 *
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.pattern;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.tinylog.throwable.ThrowableSnapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link StackTraceCache}.
+ */
+public final class StackTraceCacheTest {
+
+	private static final String NEW_LINE = System.lineSeparator();
+
+	/**
+	 * Verifies that {@code null} is returned for a throwable that has never been stored.
+	 */
+	@Test
+	public void unknownThrowable() {
+		StackTraceCache cache = new StackTraceCache(0);
+		assertThat(get(cache, new RuntimeException())).isNull();
+	}
+
+	/**
+	 * Verifies that the stored text is returned for exactly the same throwable instance.
+	 */
+	@Test
+	public void sameInstance() {
+		StackTraceCache cache = new StackTraceCache(0);
+		Exception exception = new RuntimeException("Oops");
+
+		assertThat(put(cache, exception, "java.lang.RuntimeException: Oops")).isEqualTo("java.lang.RuntimeException: Oops");
+		assertThat(cache.get(exception)).isEqualTo("java.lang.RuntimeException: Oops");
+	}
+
+	/**
+	 * Verifies that the stored text is returned for a different throwable with an identical stack trace.
+	 */
+	@Test
+	public void identicalStackTrace() {
+		StackTraceCache cache = new StackTraceCache(0);
+		List<Exception> exceptions = createExceptions(2, "Oops");
+
+		put(cache, exceptions.get(0), "text");
+		assertThat(get(cache, exceptions.get(1))).isEqualTo("text");
+	}
+
+	/**
+	 * Verifies that throwables with different messages are not mixed up.
+	 */
+	@Test
+	public void differentMessage() {
+		StackTraceCache cache = new StackTraceCache(0);
+
+		put(cache, createExceptions(1, "foo").get(0), "text");
+		assertThat(get(cache, createExceptions(1, "bar").get(0))).isNull();
+	}
+
+	/**
+	 * Verifies that throwables with different causes are not mixed up.
+	 */
+	@Test
+	public void differentCause() {
+		StackTraceCache cache = new StackTraceCache(0);
+		List<Exception> exceptions = createExceptions(2, "Oops");
+		exceptions.get(1).initCause(new IllegalStateException());
+
+		put(cache, exceptions.get(0), "text");
+		assertThat(get(cache, exceptions.get(1))).isNull();
+	}
+
+	/**
+	 * Verifies that throwables with different suppressed exceptions are not mixed up.
+	 */
+	@Test
+	public void differentSuppressedExceptions() {
+		StackTraceCache cache = new StackTraceCache(0);
+		List<Exception> exceptions = createExceptions(2, "Oops");
+		exceptions.get(1).addSuppressed(new IllegalStateException());
+
+		put(cache, exceptions.get(0), "text");
+		assertThat(get(cache, exceptions.get(1))).isNull();
+	}
+
+	/**
+	 * Verifies that throwables with circular references can be stored and found by their fingerprints.
+	 */
+	@Test
+	public void circularReference() {
+		StackTraceCache cache = new StackTraceCache(0);
+		List<Exception> exceptions = createExceptions(2, "Oops");
+		for (Exception exception : exceptions) {
+			Exception suppressed = new IllegalStateException();
+			suppressed.initCause(exception);
+			exception.addSuppressed(suppressed);
+		}
+
+		put(cache, exceptions.get(0), "text");
+		assertThat(get(cache, exceptions.get(1))).isEqualTo("text");
+	}
+
+	/**
+	 * Verifies that the class name of a {@link ThrowableSnapshot} is the class name of the original throwable.
+	 */
+	@Test
+	public void snapshots() {
+		StackTraceCache cache = new StackTraceCache(0);
+		StackTraceElement[] stackTrace = new StackTraceElement[] { new StackTraceElement("Foo", "bar", "Foo.java", 1) };
+
+		put(cache, new ThrowableSnapshot("java.io.IOException", null, stackTrace, null), "text");
+		assertThat(get(cache, new ThrowableSnapshot("java.io.IOException", null, stackTrace, null))).isEqualTo("text");
+		assertThat(get(cache, new ThrowableSnapshot("java.lang.RuntimeException", null, stackTrace, null))).isNull();
+	}
+
+	/**
+	 * Verifies that repeats within the window are output as short references.
+	 */
+	@Test
+	public void references() {
+		StackTraceCache cache = new StackTraceCache(TimeUnit.MINUTES.toNanos(1));
+		List<Exception> exceptions = createExceptions(3, "Oops");
+
+		String text = put(cache, exceptions.get(0), "Exception: Oops" + NEW_LINE + "\tat Foo.bar(Foo.java:1)");
+		assertThat(text).matches("Exception: Oops \\[stack #[0-9a-f]{4}\\]" + NEW_LINE + "\tat Foo.bar\\(Foo.java:1\\)");
+
+		String id = text.substring(text.indexOf('#') + 1, text.indexOf(']'));
+		assertThat(get(cache, exceptions.get(1))).isEqualTo("Exception: Oops [stack #" + id + " seen 2x]");
+		assertThat(get(cache, exceptions.get(2))).isEqualTo("Exception: Oops [stack #" + id + " seen 3x]");
+	}
+
+	/**
+	 * Verifies that the complete stack trace is output again after the window has expired.
+	 *
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for expiry of window
+	 */
+	@Test
+	public void expiredWindow() throws InterruptedException {
+		StackTraceCache cache = new StackTraceCache(TimeUnit.MILLISECONDS.toNanos(1));
+		List<Exception> exceptions = createExceptions(2, "Oops");
+
+		String text = put(cache, exceptions.get(0), "Exception: Oops");
+		Thread.sleep(10);
+		assertThat(get(cache, exceptions.get(1))).isEqualTo(text);
+	}
+
+	/**
+	 * Verifies that throwables are not found by identity if they only have an identical stack trace.
+	 */
+	@Test
+	public void identityLookupOnly() {
+		StackTraceCache cache = new StackTraceCache(0);
+		List<Exception> exceptions = createExceptions(2, "Oops");
+
+		put(cache, exceptions.get(0), "text");
+		assertThat(cache.get(exceptions.get(1))).isNull();
+	}
+
+	/**
+	 * Gets the cached text for a throwable in the same way as the exception token does, first by identity and then by
+	 * fingerprint.
+	 *
+	 * @param cache
+	 *            Cache to ask
+	 * @param throwable
+	 *            Throwable to search for
+	 * @return Found text or {@code null}
+	 */
+	private static String get(final StackTraceCache cache, final Throwable throwable) {
+		String text = cache.get(throwable);
+		return text == null ? cache.get(new StackTraceCache.Fingerprint(throwable), throwable) : text;
+	}
+
+	/**
+	 * Stores a rendered throwable.
+	 *
+	 * @param cache
+	 *            Cache to store the text in
+	 * @param throwable
+	 *            Rendered throwable
+	 * @param text
+	 *            Rendered text
+	 * @return Text to output
+	 */
+	private static String put(final StackTraceCache cache, final Throwable throwable, final String text) {
+		return cache.put(new StackTraceCache.Fingerprint(throwable), throwable, text);
+	}
+
+	/**
+	 * Creates exceptions with identical stack traces.
+	 *
+	 * @param count
+	 *            Number of exceptions to create
+	 * @param message
+	 *            Message for all exceptions
+	 * @return Created exceptions
+	 */
+	private static List<Exception> createExceptions(final int count, final String message) {
+		List<Exception> exceptions = new ArrayList<>();
+		for (int i = 0; i < count; ++i) {
+			exceptions.add(new RuntimeException(message));
+		}
+		return exceptions;
+	}
+
+}
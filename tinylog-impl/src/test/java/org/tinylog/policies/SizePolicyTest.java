@@ -150,6 +150,21 @@ public final class SizePolicyTest {
 			assertThat(policy.continueCurrentFile(new byte[1])).isTrue();
 		}
 
+		/**
+		 * Verifies that log entries can be checked by their length without passing the bytes themselves.
+		 *
+		 * @throws IOException
+		 *             Failed creating temporary file
+		 */
+		@Test
+		public void continueCurrentFileByLength() throws IOException {
+			String file = createTemporaryFile(size - 1);
+			SizePolicy policy = new SizePolicy(argument);
+			assertThat(policy.continueExistingFile(file)).isTrue();
+			assertThat(policy.continueCurrentFile(1)).isTrue();
+			assertThat(policy.continueCurrentFile(1)).isFalse();
+		}
+
 		/**
 		 * Creates a new temporary file. The created file will be deleted automatically when the virtual machine
 		 * terminates.
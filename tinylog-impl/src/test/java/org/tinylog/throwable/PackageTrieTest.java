@@ -0,0 +1,78 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.throwable;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PackageTrie}.
+ */
+public final class PackageTrieTest {
+
+	/**
+	 * Verifies that an empty trie doesn't contain any class names.
+	 */
+	@Test
+	public void empty() {
+		PackageTrie trie = new PackageTrie(Collections.emptyList());
+		assertThat(trie.contains("org.test.Foo")).isFalse();
+		assertThat(trie.contains("")).isFalse();
+	}
+
+	/**
+	 * Verifies that class names are found for packages and for classes.
+	 */
+	@Test
+	public void matchingClassNames() {
+		PackageTrie trie = new PackageTrie(Arrays.asList("org.test", "com.example.Foo"));
+
+		assertThat(trie.contains("org.test.Foo")).isTrue();
+		assertThat(trie.contains("org.test.sub.Foo")).isTrue();
+		assertThat(trie.contains("org.test")).isTrue();
+		assertThat(trie.contains("com.example.Foo")).isTrue();
+	}
+
+	/**
+	 * Verifies that packages and classes match only at package boundaries like
+	 * {@link AbstractStackTraceElementsFilter#match(String, String)}.
+	 */
+	@Test
+	public void nonMatchingClassNames() {
+		PackageTrie trie = new PackageTrie(Arrays.asList("org.test", "com.example.Foo"));
+
+		assertThat(trie.contains("org.tester.Foo")).isFalse();
+		assertThat(trie.contains("org.Foo")).isFalse();
+		assertThat(trie.contains("org")).isFalse();
+		assertThat(trie.contains("com.example.FooBar")).isFalse();
+		assertThat(trie.contains("com.example.Foo$Bar")).isFalse();
+	}
+
+	/**
+	 * Verifies that nested packages can be combined in one trie.
+	 */
+	@Test
+	public void nestedPackages() {
+		PackageTrie trie = new PackageTrie(Arrays.asList("org.test.sub", "org"));
+
+		assertThat(trie.contains("org.test.sub.Foo")).isTrue();
+		assertThat(trie.contains("org.other.Foo")).isTrue();
+		assertThat(trie.contains("organization.Foo")).isFalse();
+	}
+
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.throwable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ThrowableFilterChain}.
+ */
+public final class ThrowableFilterChainTest {
+
+	/**
+	 * Verifies that the original throwable data is returned, if there are no filters.
+	 */
+	@Test
+	public void noFilters() {
+		ThrowableData origin = createThrowable();
+		assertThat(new ThrowableFilterChain(Collections.emptyList()).filter(origin)).isSameAs(origin);
+	}
+
+	/**
+	 * Verifies that stack trace elements of all throwables are filtered by combined {@code keep} and {@code strip}
+	 * filters.
+	 */
+	@Test
+	public void keepAndStrip() {
+		ThrowableData data = filter(new KeepThrowableFilter("org|java"), new StripThrowableFilter("java.lang|org.bar"));
+
+		assertThat(data.getClassName()).isEqualTo("java.lang.RuntimeException");
+		assertThat(data.getStackTrace()).extracting(StackTraceElement::getClassName).containsExactly("org.foo.Service");
+		assertThat(data.getCause().getStackTrace()).extracting(StackTraceElement::getClassName)
+			.containsExactly("java.io.FileInputStream", "org.foo.Repository");
+		assertThat(data.getCause().getCause().getStackTrace()).isEmpty();
+	}
+
+	/**
+	 * Verifies that many {@code strip} filters behave identically to sequentially applied filters.
+	 */
+	@Test
+	public void manyStrips() {
+		verifyEquivalence(
+			new StripThrowableFilter("com.a|com.b|com.c|com.d|com.e"),
+			new StripThrowableFilter("net.a|net.b|net.c|java.lang.Thread|org.foo.Service"),
+			new StripThrowableFilter("org.bar|sun|jdk.internal|javax|org.baz")
+		);
+	}
+
+	/**
+	 * Verifies that {@code keep} filters without any packages remove all stack trace elements.
+	 */
+	@Test
+	public void keepNothing() {
+		verifyEquivalence(new KeepThrowableFilter(), new StripThrowableFilter("org.foo"));
+	}
+
+	/**
+	 * Verifies that {@code unpack} and {@code drop cause} filters are applied in the configured order.
+	 */
+	@Test
+	public void causeOrder() {
+		verifyEquivalence(new UnpackThrowableFilter("java.lang.RuntimeException"), new DropCauseThrowableFilter());
+		verifyEquivalence(new DropCauseThrowableFilter(), new UnpackThrowableFilter());
+		verifyEquivalence(new DropCauseThrowableFilter("java.io.IOException"), new UnpackThrowableFilter());
+		verifyEquivalence(new UnpackThrowableFilter(), new StripThrowableFilter("java"));
+		verifyEquivalence(new StripThrowableFilter("org"), new DropCauseThrowableFilter(), new KeepThrowableFilter("java"));
+	}
+
+	/**
+	 * Verifies that stack traces of suppressed exceptions are filtered and dropping a cause keeps suppressed exceptions.
+	 */
+	@Test
+	public void suppressedExceptions() {
+		ThrowableData data = filter(new StripThrowableFilter("java"), new DropCauseThrowableFilter());
+
+		assertThat(data.getCause()).isNull();
+		assertThat(SuppressedExceptions.get(data)).hasSize(1).allSatisfy(suppressed -> {
+			assertThat(suppressed.getClassName()).isEqualTo("java.lang.IllegalStateException");
+			assertThat(suppressed.getStackTrace()).extracting(StackTraceElement::getClassName).containsExactly("org.bar.Resource");
+			assertThat(suppressed.getCause().getStackTrace()).extracting(StackTraceElement::getClassName)
+				.containsExactly("org.bar.Parser");
+		});
+
+		verifyEquivalence(new StripThrowableFilter("java"), new DropCauseThrowableFilter());
+		verifyEquivalence(new DropCauseThrowableFilter());
+		verifyEquivalence(new KeepThrowableFilter("org.bar"));
+	}
+
+	/**
+	 * Verifies that custom throwable filters are applied between the fused built-in filters.
+	 */
+	@Test
+	public void customFilter() {
+		ThrowableFilter rename = origin -> new ThrowableStore("java.lang.IllegalStateException", origin.getMessage(),
+			origin.getStackTrace(), origin.getCause());
+
+		ThrowableData data = filter(new StripThrowableFilter("java"), rename, new UnpackThrowableFilter("java.lang.IllegalStateException"));
+
+		assertThat(data.getClassName()).isEqualTo("java.io.IOException");
+		assertThat(data.getMessage()).isEqualTo("File not found");
+		assertThat(data.getStackTrace()).extracting(StackTraceElement::getClassName).containsExactly("org.foo.Repository");
+
+		verifyEquivalence(new StripThrowableFilter("java"), rename, new UnpackThrowableFilter("java.lang.IllegalStateException"));
+	}
+
+	/**
+	 * Verifies that custom throwable data implementations without suppressed exceptions are accepted by the chain.
+	 */
+	@Test
+	public void customThrowableData() {
+		ThrowableFilter custom = origin -> new ThrowableData() {
+			@Override
+			public String getClassName() {
+				return origin.getClassName();
+			}
+
+			@Override
+			public String getMessage() {
+				return origin.getMessage();
+			}
+
+			@Override
+			public List<StackTraceElement> getStackTrace() {
+				return origin.getStackTrace();
+			}
+
+			@Override
+			public ThrowableData getCause() {
+				return origin.getCause();
+			}
+		};
+
+		ThrowableData data = filter(custom, new StripThrowableFilter("java"));
+
+		assertThat(data.getClassName()).isEqualTo("java.lang.RuntimeException");
+		assertThat(data.getStackTrace()).extracting(StackTraceElement::getClassName).containsExactly("org.foo.Service", "org.bar.Controller");
+		assertThat(SuppressedExceptions.get(data)).isEmpty();
+	}
+
+	/**
+	 * Applies throwable filters via a chain.
+	 *
+	 * @param filters
+	 *            Throwable filters to apply
+	 * @return Filtered throwable data
+	 */
+	private static ThrowableData filter(final ThrowableFilter... filters) {
+		return new ThrowableFilterChain(Arrays.asList(filters)).filter(createThrowable());
+	}
+
+	/**
+	 * Verifies that a chain produces the same output as applying the passed filters one after another.
+	 *
+	 * @param filters
+	 *            Throwable filters to apply
+	 */
+	private static void verifyEquivalence(final ThrowableFilter... filters) {
+		ThrowableData expected = createThrowable();
+		for (ThrowableFilter filter : filters) {
+			expected = filter.filter(expected);
+		}
+
+		ThrowableData actual = filter(filters);
+
+		verifyEquality(expected, actual);
+	}
+
+	/**
+	 * Verifies that two throwable data objects contain the same data including causes and suppressed exceptions.
+	 *
+	 * @param expected
+	 *            Expected throwable data
+	 * @param actual
+	 *            Actual throwable data
+	 */
+	private static void verifyEquality(final ThrowableData expected, final ThrowableData actual) {
+		if (expected == null) {
+			assertThat(actual).isNull();
+		} else {
+			assertThat(actual).isNotNull();
+			assertThat(actual.getClassName()).isEqualTo(expected.getClassName());
+			assertThat(actual.getMessage()).isEqualTo(expected.getMessage());
+			assertThat(actual.getStackTrace()).isEqualTo(expected.getStackTrace());
+			assertThat(SuppressedExceptions.get(actual)).hasSameSizeAs(SuppressedExceptions.get(expected));
+
+			for (int i = 0; i < SuppressedExceptions.get(expected).size(); ++i) {
+				verifyEquality(SuppressedExceptions.get(expected).get(i), SuppressedExceptions.get(actual).get(i));
+			}
+
+			verifyEquality(expected.getCause(), actual.getCause());
+		}
+	}
+
+	/**
+	 * Creates a throwable with two nested causes.
+	 *
+	 * @return Throwable data for a runtime exception, caused by an I/O exception, caused by a null pointer exception,
+	 *         with a suppressed illegal state exception
+	 */
+	private static ThrowableData createThrowable() {
+		ThrowableData root = new ThrowableStore("java.lang.NullPointerException", null, createStackTrace(
+			"java.lang.String", "org.bar.Parser"), null);
+		ThrowableData cause = new ThrowableStore("java.io.IOException", "File not found", createStackTrace(
+			"java.io.FileInputStream", "org.foo.Repository", "java.lang.Thread"), root);
+		ThrowableData suppressed = new ThrowableStore("java.lang.IllegalStateException", "Close", createStackTrace(
+			"org.bar.Resource", "java.lang.Thread"), root);
+		return new ThrowableStore("java.lang.RuntimeException", "Oops", createStackTrace(
+			"org.foo.Service", "org.bar.Controller", "java.lang.Thread"), cause, Collections.singletonList(suppressed));
+	}
+
+	/**
+	 * Creates a stack trace.
+	 *
+	 * @param classNames
+	 *            Class names of stack trace elements
+	 * @return Created stack trace
+	 */
+	private static List<StackTraceElement> createStackTrace(final String... classNames) {
+		StackTraceElement[] elements = new StackTraceElement[classNames.length];
+		for (int i = 0; i < classNames.length; ++i) {
+			elements[i] = new StackTraceElement(classNames[i], "run", null, i + 1);
+		}
+		return Arrays.asList(elements);
+	}
+
+}
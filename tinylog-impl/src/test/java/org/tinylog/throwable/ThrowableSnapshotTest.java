@@ -0,0 +1,113 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.throwable;
+
+import java.io.IOException;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ThrowableSnapshot}.
+ */
+public final class ThrowableSnapshotTest {
+
+	/**
+	 * Verifies that a snapshot contains class name, message and stack trace of the original throwable and its causes.
+	 */
+	@Test
+	public void createSnapshot() {
+		IOException cause = new IOException("File not found");
+		RuntimeException exception = new RuntimeException("Oops", cause);
+
+		ThrowableSnapshot snapshot = ThrowableSnapshot.create(exception, Integer.MAX_VALUE);
+
+		assertThat(snapshot.getClassName()).isEqualTo(RuntimeException.class.getName());
+		assertThat(snapshot.getMessage()).isEqualTo("Oops");
+		assertThat(snapshot.getStackTrace()).containsExactly(exception.getStackTrace());
+		assertThat(snapshot).hasToString(RuntimeException.class.getName() + ": Oops");
+
+		assertThat(snapshot.getCause()).isInstanceOfSatisfying(ThrowableSnapshot.class, causeSnapshot -> {
+			assertThat(causeSnapshot.getClassName()).isEqualTo(IOException.class.getName());
+			assertThat(causeSnapshot.getMessage()).isEqualTo("File not found");
+			assertThat(causeSnapshot.getStackTrace()).containsExactly(cause.getStackTrace());
+			assertThat(causeSnapshot.getCause()).isNull();
+		});
+	}
+
+	/**
+	 * Verifies that suppressed exceptions are included in a snapshot.
+	 */
+	@Test
+	public void snapshotSuppressedExceptions() {
+		RuntimeException exception = new RuntimeException("Oops");
+		exception.addSuppressed(new IOException("Close"));
+
+		ThrowableSnapshot snapshot = ThrowableSnapshot.create(exception, Integer.MAX_VALUE);
+
+		assertThat(snapshot.getSuppressed()).hasSize(1).allSatisfy(suppressed -> {
+			assertThat(suppressed).isInstanceOfSatisfying(ThrowableSnapshot.class, suppressedSnapshot -> {
+				assertThat(suppressedSnapshot.getClassName()).isEqualTo(IOException.class.getName());
+				assertThat(suppressedSnapshot.getMessage()).isEqualTo("Close");
+			});
+		});
+	}
+
+	/**
+	 * Verifies that circular references between suppressed exceptions and causes are preserved in a snapshot.
+	 */
+	@Test
+	public void snapshotCircularReference() {
+		RuntimeException exception = new RuntimeException("Oops");
+		IOException suppressed = new IOException("Close");
+		suppressed.initCause(exception);
+		exception.addSuppressed(suppressed);
+
+		ThrowableSnapshot snapshot = ThrowableSnapshot.create(exception, Integer.MAX_VALUE);
+
+		assertThat(snapshot.getSuppressed()).hasSize(1);
+		assertThat(snapshot.getSuppressed()[0]).isInstanceOf(ThrowableSnapshot.class);
+		assertThat(snapshot.getSuppressed()[0].getCause()).isSameAs(snapshot);
+	}
+
+	/**
+	 * Verifies that stack traces are trimmed to the maximum depth.
+	 */
+	@Test
+	public void trimStackTrace() {
+		RuntimeException exception = new RuntimeException(new IOException());
+
+		ThrowableSnapshot snapshot = ThrowableSnapshot.create(exception, 2);
+
+		assertThat(snapshot.getStackTrace()).containsExactly(exception.getStackTrace()[0], exception.getStackTrace()[1]);
+		assertThat(snapshot.getCause().getStackTrace()).hasSize(2);
+	}
+
+	/**
+	 * Verifies that the original class name is kept, if a snapshot is taken of an existing snapshot.
+	 */
+	@Test
+	public void snapshotOfSnapshot() {
+		StackTraceElement[] stackTrace = new StackTraceElement[] { new StackTraceElement("Foo", "bar", "Foo.java", 1) };
+		ThrowableSnapshot original = new ThrowableSnapshot("java.io.IOException", "Oops", stackTrace, null);
+
+		ThrowableSnapshot snapshot = ThrowableSnapshot.create(original, Integer.MAX_VALUE);
+
+		assertThat(snapshot.getClassName()).isEqualTo("java.io.IOException");
+		assertThat(snapshot.getMessage()).isEqualTo("Oops");
+		assertThat(snapshot.getStackTrace()).containsExactly(stackTrace);
+	}
+
+}
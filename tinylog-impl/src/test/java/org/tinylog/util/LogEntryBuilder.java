@@ -25,6 +25,7 @@ import java.util.Map;
 
 import org.tinylog.Level;
 import org.tinylog.core.LogEntry;
+import org.tinylog.format.MessageFormatter;
 import org.tinylog.runtime.Timestamp;
 
 /**
@@ -63,6 +64,9 @@ public final class LogEntryBuilder {
 	private Level level;
 	private String message;
 	private Throwable exception;
+	private MessageFormatter messageFormatter;
+	private String messageTemplate;
+	private Object[] messageArguments;
 
 	/** */
 	private LogEntryBuilder() {
@@ -295,13 +299,32 @@ public final class LogEntryBuilder {
 		return this;
 	}
 
+	/**
+	 * Sets the unformatted text message with its resolved arguments.
+	 *
+	 * @param formatter
+	 *            Formatter that is responsible for the message template
+	 * @param template
+	 *            Unformatted text message with placeholders
+	 * @param arguments
+	 *            Resolved arguments for the placeholders
+	 * @return Actual log entry builder
+	 */
+	public LogEntryBuilder arguments(final MessageFormatter formatter, final String template, final Object... arguments) {
+		this.messageFormatter = formatter;
+		this.messageTemplate = template;
+		this.messageArguments = arguments;
+		return this;
+	}
+
 	/**
 	 * Creates a new log entry.
 	 *
 	 * @return Created log entry
 	 */
 	public LogEntry create() {
-		return new LogEntry(timestamp, thread, context, className, methodName, fileName, lineNumber, tag, level, message, exception);
+		return new LogEntry(timestamp, thread, context, className, methodName, fileName, lineNumber, tag, level, message, exception,
+			messageFormatter, messageTemplate, messageArguments);
 	}
 
 	/**
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Locale;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.tinylog.core.LogEntry;
+import org.tinylog.format.MessageFormatter;
+import org.tinylog.rules.SystemStreamCollector;
+import org.tinylog.util.FileSystem;
+import org.tinylog.util.LogEntryBuilder;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link BinaryReader}.
+ */
+public final class BinaryReaderTest {
+
+	/**
+	 * Redirects and collects system output streams.
+	 */
+	@Rule
+	public final SystemStreamCollector systemStream = new SystemStreamCollector(true);
+
+	/**
+	 * Verifies that an empty binary log file contains no log entries.
+	 *
+	 * @throws IOException
+	 *             Failed writing or reading file
+	 */
+	@Test
+	public void emptyFile() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+		new BinaryWriter(singletonMap("file", file)).close();
+
+		try (BinaryReader reader = new BinaryReader(new FileInputStream(file))) {
+			assertThat(reader.read()).isNull();
+		}
+	}
+
+	/**
+	 * Verifies that a too short stream is rejected.
+	 */
+	@Test
+	public void tooShortStream() {
+		assertThatThrownBy(() -> new BinaryReader(new ByteArrayInputStream(new byte[] { 't', 'i', 'n', 'y' })))
+			.isInstanceOf(IOException.class)
+			.hasMessageContaining("too short");
+	}
+
+	/**
+	 * Verifies that a stream without magic header is rejected.
+	 */
+	@Test
+	public void invalidHeader() {
+		byte[] data = "Hello World!".getBytes(StandardCharsets.US_ASCII);
+		assertThatThrownBy(() -> new BinaryReader(new ByteArrayInputStream(data)))
+			.isInstanceOf(IOException.class)
+			.hasMessageContaining("not a binary log file");
+	}
+
+	/**
+	 * Verifies that an unknown version of the binary format is rejected.
+	 */
+	@Test
+	public void unsupportedVersion() {
+		byte[] data = Arrays.copyOf(BinaryFormat.MAGIC, BinaryFormat.MAGIC.length + 1);
+		data[BinaryFormat.MAGIC.length] = BinaryFormat.VERSION + 1;
+
+		assertThatThrownBy(() -> new BinaryReader(new ByteArrayInputStream(data)))
+			.isInstanceOf(IOException.class)
+			.hasMessageContaining("version");
+	}
+
+	/**
+	 * Verifies that a truncated record will be detected.
+	 *
+	 * @throws IOException
+	 *             Failed writing or reading file
+	 */
+	@Test
+	public void truncatedRecord() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+		BinaryWriter writer = new BinaryWriter(singletonMap("file", file));
+		writer.write(LogEntryBuilder.prefilled(BinaryReaderTest.class).create());
+		writer.close();
+
+		byte[] content = Files.readAllBytes(Paths.get(file));
+		byte[] data = Arrays.copyOf(content, content.length - 1);
+
+		try (BinaryReader reader = new BinaryReader(new ByteArrayInputStream(data))) {
+			assertThatThrownBy(reader::read).isInstanceOf(IOException.class).hasMessageContaining("truncated");
+		}
+	}
+
+	/**
+	 * Verifies that an unknown record type will be detected.
+	 *
+	 * @throws IOException
+	 *             Failed reading stream
+	 */
+	@Test
+	public void unknownRecordType() throws IOException {
+		byte[] data = Arrays.copyOf(BinaryFormat.MAGIC, BinaryFormat.MAGIC.length + 3);
+		data[BinaryFormat.MAGIC.length] = BinaryFormat.VERSION;
+		data[BinaryFormat.MAGIC.length + 1] = 1;
+		data[BinaryFormat.MAGIC.length + 2] = Byte.MAX_VALUE;
+
+		try (BinaryReader reader = new BinaryReader(new ByteArrayInputStream(data))) {
+			assertThatThrownBy(reader::read).isInstanceOf(IOException.class).hasMessageContaining("record type");
+		}
+	}
+
+	/**
+	 * Verifies that the default message formatter will be used, if the original message formatter cannot be
+	 * instantiated.
+	 *
+	 * @throws IOException
+	 *             Failed writing or reading file
+	 */
+	@Test
+	public void unavailableFormatter() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+		BinaryWriter writer = new BinaryWriter(singletonMap("file", file));
+		writer.write(LogEntryBuilder.empty().arguments(new PrivateFormatter(), "Hello {}!", "World").create());
+		writer.write(LogEntryBuilder.empty().arguments(new PrivateFormatter(), "Goodbye {}!", "World").create());
+		writer.close();
+
+		try (BinaryReader reader = new BinaryReader(new FileInputStream(file), Locale.ROOT, false)) {
+			assertThat(reader.read()).extracting(LogEntry::getMessage).isEqualTo("Hello World!");
+			assertThat(reader.read()).extracting(LogEntry::getMessage).isEqualTo("Goodbye World!");
+			assertThat(reader.read()).isNull();
+		}
+
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("WARN").containsOnlyOnce(PrivateFormatter.class.getName());
+	}
+
+	/**
+	 * Message formatter without public constructor.
+	 */
+	private static final class PrivateFormatter implements MessageFormatter {
+
+		/** */
+		private PrivateFormatter() {
+		}
+
+		@Override
+		public String format(final String message, final Object[] arguments) {
+			return message;
+		}
+
+	}
+
+}
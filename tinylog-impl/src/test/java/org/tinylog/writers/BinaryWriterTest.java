@@ -0,0 +1,500 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.tinylog.Level;
+import org.tinylog.configuration.ServiceLoader;
+import org.tinylog.core.LogEntry;
+import org.tinylog.core.LogEntryValue;
+import org.tinylog.format.AdvancedMessageFormatter;
+import org.tinylog.format.LegacyMessageFormatter;
+import org.tinylog.rules.SystemStreamCollector;
+import org.tinylog.throwable.ThrowableSnapshot;
+import org.tinylog.util.FileSystem;
+import org.tinylog.util.LogEntryBuilder;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.tinylog.util.Maps.doubletonMap;
+import static org.tinylog.util.Maps.tripletonMap;
+
+/**
+ * Tests for {@link BinaryWriter}.
+ */
+public final class BinaryWriterTest {
+
+	private static final Comparator<StackTraceElement> FRAME_COMPARATOR = Comparator
+		.comparing(StackTraceElement::getClassName)
+		.thenComparing(StackTraceElement::getMethodName)
+		.thenComparing(StackTraceElement::getFileName, Comparator.nullsFirst(Comparator.naturalOrder()))
+		.thenComparingInt(StackTraceElement::getLineNumber);
+
+	/**
+	 * Redirects and collects system output streams.
+	 */
+	@Rule
+	public final SystemStreamCollector systemStream = new SystemStreamCollector(true);
+
+	/**
+	 * Verifies that a new binary log file starts with the magic header.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void header() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+		new BinaryWriter(singletonMap("file", file)).close();
+
+		byte[] expected = Arrays.copyOf(BinaryFormat.MAGIC, BinaryFormat.MAGIC.length + 1);
+		expected[BinaryFormat.MAGIC.length] = BinaryFormat.VERSION;
+		assertThat(Files.readAllBytes(Paths.get(file))).containsExactly(expected);
+	}
+
+	/**
+	 * Verifies that all log entry values are required by default and that the message is required as unformatted
+	 * template with arguments.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void defaultRequiredLogEntryValues() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+		BinaryWriter writer = new BinaryWriter(singletonMap("file", file));
+
+		try {
+			assertThat(writer.getRequiredLogEntryValues()).containsOnly(LogEntryValue.DATE, LogEntryValue.THREAD,
+				LogEntryValue.CONTEXT, LogEntryValue.CLASS, LogEntryValue.METHOD, LogEntryValue.FILE, LogEntryValue.LINE,
+				LogEntryValue.TAG, LogEntryValue.LEVEL, LogEntryValue.ARGUMENTS, LogEntryValue.EXCEPTION);
+		} finally {
+			writer.close();
+		}
+	}
+
+	/**
+	 * Verifies that the required log entry values can be configured.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void configuredRequiredLogEntryValues() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+		BinaryWriter writer = new BinaryWriter(doubletonMap("file", file, "values", "level, message"));
+
+		try {
+			assertThat(writer.getRequiredLogEntryValues()).containsOnly(LogEntryValue.LEVEL, LogEntryValue.ARGUMENTS);
+		} finally {
+			writer.close();
+		}
+	}
+
+	/**
+	 * Verifies that an error will be logged for an unknown log entry value.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void unknownRequiredLogEntryValue() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+		BinaryWriter writer = new BinaryWriter(doubletonMap("file", file, "values", "level, foo"));
+
+		try {
+			assertThat(writer.getRequiredLogEntryValues()).containsOnly(LogEntryValue.LEVEL);
+			assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("ERROR").containsOnlyOnce("foo");
+		} finally {
+			writer.close();
+		}
+	}
+
+	/**
+	 * Verifies that all values of a log entry can be restored.
+	 *
+	 * @throws IOException
+	 *             Failed writing or reading file
+	 */
+	@Test
+	public void fullLogEntry() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+		BinaryWriter writer = new BinaryWriter(singletonMap("file", file));
+
+		LogEntry original = LogEntryBuilder.prefilled(BinaryWriterTest.class)
+			.date(LocalDateTime.of(2020, 1, 2, 3, 4, 5, 678_912_345))
+			.context("user", "Martin")
+			.context("session", null)
+			.lineNumber(42)
+			.tag("SYSTEM")
+			.level(Level.WARN)
+			.create();
+
+		writer.write(original);
+		writer.close();
+
+		List<LogEntry> entries = read(file);
+		assertThat(entries).hasSize(1);
+
+		LogEntry restored = entries.get(0);
+		assertThat(restored.getTimestamp().toInstant()).isEqualTo(original.getTimestamp().toInstant());
+		assertThat(restored.getThread().getName()).isEqualTo(Thread.currentThread().getName());
+		assertThat(restored.getThread().getId()).isEqualTo(Thread.currentThread().getId());
+		assertThat(restored.getContext()).isEqualTo(original.getContext());
+		assertThat(restored.getClassName()).isEqualTo(BinaryWriterTest.class.getName());
+		assertThat(restored.getMethodName()).isEqualTo(LogEntryBuilder.DEFAULT_METHOD);
+		assertThat(restored.getFileName()).isEqualTo(BinaryWriterTest.class.getSimpleName() + ".java");
+		assertThat(restored.getLineNumber()).isEqualTo(42);
+		assertThat(restored.getTag()).isEqualTo("SYSTEM");
+		assertThat(restored.getLevel()).isEqualTo(Level.WARN);
+		assertThat(restored.getMessage()).isEqualTo(LogEntryBuilder.DEFAULT_MESSAGE);
+		assertThat(restored.getException()).isNull();
+	}
+
+	/**
+	 * Verifies that values, which are not configured, are not written even if they are present in a log entry.
+	 *
+	 * @throws IOException
+	 *             Failed writing or reading file
+	 */
+	@Test
+	public void omittedLogEntryValues() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+		BinaryWriter writer = new BinaryWriter(doubletonMap("file", file, "values", "level, message"));
+
+		writer.write(LogEntryBuilder.prefilled(BinaryWriterTest.class)
+			.context("user", "Martin")
+			.exception(new NullPointerException())
+			.create());
+		writer.close();
+
+		List<LogEntry> entries = read(file);
+		assertThat(entries).hasSize(1);
+
+		LogEntry restored = entries.get(0);
+		assertThat(restored.getTimestamp()).isNull();
+		assertThat(restored.getThread()).isNull();
+		assertThat(restored.getContext()).isNull();
+		assertThat(restored.getClassName()).isNull();
+		assertThat(restored.getMethodName()).isNull();
+		assertThat(restored.getFileName()).isNull();
+		assertThat(restored.getLineNumber()).isEqualTo(-1);
+		assertThat(restored.getLevel()).isEqualTo(LogEntryBuilder.DEFAULT_LEVEL);
+		assertThat(restored.getMessage()).isEqualTo(LogEntryBuilder.DEFAULT_MESSAGE);
+		assertThat(restored.getException()).isNull();
+	}
+
+	/**
+	 * Verifies that missing values of a log entry are restored as missing values.
+	 *
+	 * @throws IOException
+	 *             Failed writing or reading file
+	 */
+	@Test
+	public void emptyLogEntry() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+		BinaryWriter writer = new BinaryWriter(singletonMap("file", file));
+		writer.write(LogEntryBuilder.empty().create());
+		writer.close();
+
+		List<LogEntry> entries = read(file);
+		assertThat(entries).hasSize(1);
+
+		LogEntry restored = entries.get(0);
+		assertThat(restored.getTimestamp()).isNull();
+		assertThat(restored.getThread()).isNull();
+		assertThat(restored.getContext()).isNull();
+		assertThat(restored.getClassName()).isNull();
+		assertThat(restored.getLineNumber()).isEqualTo(-1);
+		assertThat(restored.getLevel()).isNull();
+		assertThat(restored.getMessage()).isNull();
+		assertThat(restored.getException()).isNull();
+	}
+
+	/**
+	 * Verifies that a message template with arguments is formatted when reading.
+	 *
+	 * @throws IOException
+	 *             Failed writing or reading file
+	 */
+	@Test
+	public void messageTemplate() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+		BinaryWriter writer = new BinaryWriter(singletonMap("file", file));
+
+		AdvancedMessageFormatter formatter = new AdvancedMessageFormatter(Locale.ROOT, false);
+		writer.write(LogEntryBuilder.empty().arguments(formatter, "{} has {0.00} points", "Alice", 42).create());
+		writer.write(LogEntryBuilder.empty().arguments(new LegacyMessageFormatter(), "{} has {} points", "Bob", -1).create());
+		writer.close();
+
+		assertThat(read(file)).extracting(LogEntry::getMessage).containsExactly("Alice has 42.00 points", "Bob has -1 points");
+	}
+
+	/**
+	 * Verifies that all supported argument types are restored with correct type and value.
+	 *
+	 * @throws IOException
+	 *             Failed writing or reading file
+	 */
+	@Test
+	public void argumentTypes() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+		BinaryWriter writer = new BinaryWriter(singletonMap("file", file));
+
+		Object[] arguments = {
+			null, "text", (byte) -8, (short) 300, Integer.MIN_VALUE, Long.MAX_VALUE, 0.1f, -2.5,
+			new BigInteger("123456789012345678901234567890"), new BigDecimal("0.000000000000000000001"), false, true, 'x'
+		};
+
+		AdvancedMessageFormatter formatter = new AdvancedMessageFormatter(Locale.ROOT, false);
+		String template = String.join(" ", Collections.nCopies(arguments.length, "{}"));
+		writer.write(LogEntryBuilder.empty().arguments(formatter, template, arguments).create());
+		writer.close();
+
+		assertThat(read(file)).extracting(LogEntry::getMessage).containsExactly(formatter.format(template, arguments));
+	}
+
+	/**
+	 * Verifies that non-ASCII characters are encoded and restored correctly.
+	 *
+	 * @throws IOException
+	 *             Failed writing or reading file
+	 */
+	@Test
+	public void unicode() throws IOException {
+		String text = "gr" + (char) 0xFC + (char) 0xDF + "e " + new String(Character.toChars(0x1F600));
+
+		String file = FileSystem.createTemporaryFile();
+		BinaryWriter writer = new BinaryWriter(singletonMap("file", file));
+		writer.write(LogEntryBuilder.empty().message(text).create());
+		writer.close();
+
+		assertThat(read(file)).extracting(LogEntry::getMessage).containsExactly(text);
+	}
+
+	/**
+	 * Verifies that exceptions are restored including stack trace and cause.
+	 *
+	 * @throws IOException
+	 *             Failed writing or reading file
+	 */
+	@Test
+	public void exception() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+		BinaryWriter writer = new BinaryWriter(singletonMap("file", file));
+
+		Exception exception = new IllegalStateException("Oops", new NullPointerException());
+		writer.write(LogEntryBuilder.empty().exception(exception).create());
+		writer.close();
+
+		List<LogEntry> entries = read(file);
+		assertThat(entries).hasSize(1);
+
+		Throwable restored = entries.get(0).getException();
+		assertThat(restored).hasMessage("Oops").isInstanceOfSatisfying(ThrowableSnapshot.class, snapshot -> {
+			assertThat(snapshot.getClassName()).isEqualTo(IllegalStateException.class.getName());
+			assertThat(snapshot.getStackTrace()).usingElementComparator(FRAME_COMPARATOR).containsExactly(exception.getStackTrace());
+			assertThat(snapshot.toString()).isEqualTo(exception.toString());
+		});
+
+		Throwable cause = restored.getCause();
+		assertThat(cause).hasMessage(null).hasNoCause().isInstanceOfSatisfying(ThrowableSnapshot.class, snapshot -> {
+			assertThat(snapshot.getClassName()).isEqualTo(NullPointerException.class.getName());
+			assertThat(snapshot.getStackTrace()).usingElementComparator(FRAME_COMPARATOR)
+				.containsExactly(exception.getCause().getStackTrace());
+		});
+	}
+
+	/**
+	 * Verifies that suppressed exceptions are restored including their stack traces and causes.
+	 *
+	 * @throws IOException
+	 *             Failed writing or reading file
+	 */
+	@Test
+	public void suppressedExceptions() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+		BinaryWriter writer = new BinaryWriter(singletonMap("file", file));
+
+		Exception exception = new IllegalStateException("Oops");
+		Exception suppressed = new IOException("Close", new NullPointerException());
+		exception.addSuppressed(suppressed);
+		writer.write(LogEntryBuilder.empty().exception(exception).create());
+		writer.close();
+
+		List<LogEntry> entries = read(file);
+		assertThat(entries).hasSize(1);
+
+		Throwable restored = entries.get(0).getException();
+		assertThat(restored).hasMessage("Oops").hasNoCause();
+		assertThat(restored.getSuppressed()).hasSize(1);
+
+		Throwable restoredSuppressed = restored.getSuppressed()[0];
+		assertThat(restoredSuppressed).hasMessage("Close").isInstanceOfSatisfying(ThrowableSnapshot.class, snapshot -> {
+			assertThat(snapshot.getClassName()).isEqualTo(IOException.class.getName());
+			assertThat(snapshot.getStackTrace()).usingElementComparator(FRAME_COMPARATOR).containsExactly(suppressed.getStackTrace());
+		});
+		assertThat(restoredSuppressed.getCause()).isInstanceOfSatisfying(ThrowableSnapshot.class, snapshot -> {
+			assertThat(snapshot.getClassName()).isEqualTo(NullPointerException.class.getName());
+		});
+	}
+
+	/**
+	 * Verifies that configured throwable filters are applied before writing.
+	 *
+	 * @throws IOException
+	 *             Failed writing or reading file
+	 */
+	@Test
+	public void throwableFilter() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+		BinaryWriter writer = new BinaryWriter(doubletonMap("file", file, "exception", "drop cause"));
+
+		Exception exception = new IllegalStateException("Oops", new NullPointerException());
+		writer.write(LogEntryBuilder.empty().exception(exception).create());
+		writer.close();
+
+		assertThat(read(file)).extracting(LogEntry::getException).hasSize(1).allSatisfy(restored -> {
+			assertThat(restored).hasMessage("Oops").hasNoCause();
+		});
+	}
+
+	/**
+	 * Verifies that repeated strings are written only once into the log file.
+	 *
+	 * @throws IOException
+	 *             Failed writing or reading file
+	 */
+	@Test
+	public void dictionary() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+		BinaryWriter writer = new BinaryWriter(singletonMap("file", file));
+
+		AdvancedMessageFormatter formatter = new AdvancedMessageFormatter(Locale.ROOT, false);
+		for (int i = 0; i < 100; ++i) {
+			writer.write(LogEntryBuilder.prefilled(BinaryWriterTest.class).arguments(formatter, "Iteration #{}", i).create());
+		}
+		writer.close();
+
+		String content = new String(Files.readAllBytes(Paths.get(file)), StandardCharsets.ISO_8859_1);
+		assertThat(content).containsOnlyOnce(BinaryWriterTest.class.getName()).containsOnlyOnce("Iteration #{}");
+
+		assertThat(read(file)).hasSize(100).extracting(LogEntry::getMessage).startsWith("Iteration #0").endsWith("Iteration #99");
+	}
+
+	/**
+	 * Verifies that log entries can be appended to an existing binary log file.
+	 *
+	 * @throws IOException
+	 *             Failed writing or reading file
+	 */
+	@Test
+	public void appending() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+
+		BinaryWriter writer = new BinaryWriter(singletonMap("file", file));
+		writer.write(LogEntryBuilder.prefilled(BinaryWriterTest.class).message("First").create());
+		writer.close();
+
+		writer = new BinaryWriter(doubletonMap("file", file, "append", "true"));
+		writer.write(LogEntryBuilder.prefilled(BinaryWriterTest.class).message("Second").create());
+		writer.close();
+
+		assertThat(read(file)).extracting(LogEntry::getMessage, LogEntry::getClassName).containsExactly(
+			tuple("First", BinaryWriterTest.class.getName()),
+			tuple("Second", BinaryWriterTest.class.getName())
+		);
+	}
+
+	/**
+	 * Verifies that log entries will be output by a buffered writer after flushing.
+	 *
+	 * @throws IOException
+	 *             Failed writing or reading file
+	 */
+	@Test
+	public void buffered() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+		BinaryWriter writer = new BinaryWriter(tripletonMap("file", file, "buffered", "true", "writingthread", "true"));
+
+		writer.write(LogEntryBuilder.empty().message("Hello World!").create());
+		assertThat(Files.size(Paths.get(file))).isZero();
+
+		writer.flush();
+		assertThat(read(file)).extracting(LogEntry::getMessage).containsExactly("Hello World!");
+
+		writer.close();
+	}
+
+	/**
+	 * Verifies that an exception will be thrown, if no file name is defined.
+	 */
+	@Test
+	public void missingFileName() {
+		assertThatThrownBy(() -> new BinaryWriter(emptyMap())).hasMessageMatching("(?i).*file ?name.*");
+	}
+
+	/**
+	 * Verifies that writer is registered as service under the name "binary".
+	 *
+	 * @throws IOException
+	 *             Failed creating temporary file
+	 */
+	@Test
+	public void isRegistered() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+		Writer writer = new ServiceLoader<>(Writer.class, Map.class).create("binary", singletonMap("file", file));
+		assertThat(writer).isInstanceOf(BinaryWriter.class);
+	}
+
+	/**
+	 * Reads all log entries from a binary log file.
+	 *
+	 * @param file
+	 *            Path to binary log file
+	 * @return All found log entries
+	 * @throws IOException
+	 *             Failed to read file
+	 */
+	private static List<LogEntry> read(final String file) throws IOException {
+		List<LogEntry> entries = new ArrayList<>();
+		try (BinaryReader reader = new BinaryReader(new FileInputStream(file), Locale.ROOT, false)) {
+			for (LogEntry entry = reader.read(); entry != null; entry = reader.read()) {
+				entries.add(entry);
+			}
+		}
+		return entries;
+	}
+
+}
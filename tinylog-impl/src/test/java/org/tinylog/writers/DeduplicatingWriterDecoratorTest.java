@@ -0,0 +1,190 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+import org.tinylog.Level;
+import org.tinylog.core.LogEntry;
+import org.tinylog.core.LogEntryValue;
+import org.tinylog.util.LogEntryBuilder;
+import org.tinylog.util.StorageWriter;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link DeduplicatingWriterDecorator}.
+ */
+public final class DeduplicatingWriterDecoratorTest {
+
+	/**
+	 * Clears all log entries that have been stored by {@link StorageWriter}.
+	 */
+	@After
+	public void clear() {
+		StorageWriter.consumeEntries();
+	}
+
+	/**
+	 * Verifies that the decorator requires the severity level and message in addition to the required log entry values
+	 * of the underlying writer.
+	 */
+	@Test
+	public void requiredLogEntryValues() {
+		Writer writer = new StorageWriter(singletonMap("values", "DATE"));
+		DeduplicatingWriterDecorator decorator = new DeduplicatingWriterDecorator(writer, TimeUnit.HOURS.toNanos(1));
+
+		assertThat(decorator.getWriter()).isSameAs(writer);
+		assertThat(decorator.getRequiredLogEntryValues()).containsOnly(LogEntryValue.DATE, LogEntryValue.LEVEL, LogEntryValue.MESSAGE);
+	}
+
+	/**
+	 * Verifies that repeats of a message are suppressed and reported as one log entry on closing.
+	 *
+	 * @throws Exception
+	 *             Failed writing or closing
+	 */
+	@Test
+	public void suppressRepeats() throws Exception {
+		DeduplicatingWriterDecorator decorator = new DeduplicatingWriterDecorator(new StorageWriter(emptyMap()), TimeUnit.HOURS.toNanos(1));
+
+		decorator.write(create(Level.INFO, "Hello World!"));
+		decorator.write(create(Level.INFO, "Hello World!"));
+		decorator.write(create(Level.INFO, "Hello World!"));
+		assertThat(StorageWriter.consumeEntries()).extracting(LogEntry::getMessage).containsExactly("Hello World!");
+
+		decorator.close();
+		assertThat(StorageWriter.consumeEntries()).extracting(LogEntry::getMessage).containsExactly("Hello World! (repeated 2 times)");
+	}
+
+	/**
+	 * Verifies that identical messages with different severity levels are not treated as repeats.
+	 *
+	 * @throws Exception
+	 *             Failed writing or closing
+	 */
+	@Test
+	public void differentLevels() throws Exception {
+		DeduplicatingWriterDecorator decorator = new DeduplicatingWriterDecorator(new StorageWriter(emptyMap()), TimeUnit.HOURS.toNanos(1));
+
+		decorator.write(create(Level.INFO, "Hello World!"));
+		decorator.write(create(Level.WARN, "Hello World!"));
+		assertThat(StorageWriter.consumeEntries()).extracting(LogEntry::getLevel).containsExactly(Level.INFO, Level.WARN);
+
+		decorator.close();
+		assertThat(StorageWriter.consumeEntries()).isEmpty();
+	}
+
+	/**
+	 * Verifies that suppressed repeats are reported before outputting the message again after the interval has elapsed.
+	 *
+	 * @throws Exception
+	 *             Failed writing or closing
+	 */
+	@Test
+	public void elapsedInterval() throws Exception {
+		Writer writer = new StorageWriter(emptyMap());
+		DeduplicatingWriterDecorator decorator = new DeduplicatingWriterDecorator(writer, TimeUnit.MILLISECONDS.toNanos(100));
+
+		decorator.write(create(Level.INFO, "Hello World!"));
+		decorator.write(create(Level.INFO, "Hello World!"));
+		Thread.sleep(150);
+		decorator.write(create(Level.INFO, "Hello World!"));
+
+		assertThat(StorageWriter.consumeEntries())
+			.extracting(LogEntry::getMessage)
+			.containsExactly("Hello World!", "Hello World! (repeated 1 times)", "Hello World!");
+	}
+
+	/**
+	 * Verifies that flushing reports suppressed repeats only after the interval has elapsed.
+	 *
+	 * @throws Exception
+	 *             Failed writing or flushing
+	 */
+	@Test
+	public void flushAfterElapsedInterval() throws Exception {
+		Writer writer = new StorageWriter(emptyMap());
+		DeduplicatingWriterDecorator decorator = new DeduplicatingWriterDecorator(writer, TimeUnit.MILLISECONDS.toNanos(100));
+
+		decorator.write(create(Level.INFO, "Hello World!"));
+		decorator.write(create(Level.INFO, "Hello World!"));
+		decorator.flush();
+		assertThat(StorageWriter.consumeEntries()).extracting(LogEntry::getMessage).containsExactly("Hello World!");
+
+		Thread.sleep(150);
+
+		decorator.flush();
+		assertThat(StorageWriter.consumeEntries()).extracting(LogEntry::getMessage).containsExactly("Hello World! (repeated 1 times)");
+
+		decorator.write(create(Level.INFO, "Hello World!"));
+		decorator.close();
+		assertThat(StorageWriter.consumeEntries()).extracting(LogEntry::getMessage).containsExactly("Hello World!");
+	}
+
+	/**
+	 * Verifies that log entries without messages are passed through unchanged.
+	 *
+	 * @throws Exception
+	 *             Failed writing or closing
+	 */
+	@Test
+	public void missingMessage() throws Exception {
+		DeduplicatingWriterDecorator decorator = new DeduplicatingWriterDecorator(new StorageWriter(emptyMap()), TimeUnit.HOURS.toNanos(1));
+
+		LogEntry logEntry = LogEntryBuilder.empty().level(Level.INFO).create();
+		decorator.write(logEntry);
+		decorator.write(logEntry);
+
+		assertThat(StorageWriter.consumeEntries()).containsExactly(logEntry, logEntry);
+	}
+
+	/**
+	 * Verifies that flushing and closing are passed to the underlying writer.
+	 *
+	 * @throws Exception
+	 *             Failed flushing or closing
+	 */
+	@Test
+	public void delegation() throws Exception {
+		Writer writer = mock(Writer.class);
+		DeduplicatingWriterDecorator decorator = new DeduplicatingWriterDecorator(writer, TimeUnit.HOURS.toNanos(1));
+
+		decorator.flush();
+		verify(writer).flush();
+
+		decorator.close();
+		verify(writer).close();
+	}
+
+	/**
+	 * Creates a log entry with a defined severity level and message.
+	 *
+	 * @param level
+	 *            Severity level
+	 * @param message
+	 *            Text message
+	 * @return Created log entry
+	 */
+	private static LogEntry create(final Level level, final String message) {
+		return LogEntryBuilder.empty().level(level).message(message).create();
+	}
+
+}
@@ -13,6 +13,8 @@
 
 package org.tinylog.writers;
 
+import java.io.File;
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
@@ -39,10 +41,13 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameters;
 import org.powermock.reflect.Whitebox;
+import org.tinylog.Level;
 import org.tinylog.configuration.ServiceLoader;
 import org.tinylog.core.LogEntryValue;
+import org.tinylog.format.MessageFormatter;
 import org.tinylog.rules.InitialContextRule;
 import org.tinylog.rules.SystemStreamCollector;
+import org.tinylog.util.FileSystem;
 import org.tinylog.util.LogEntryBuilder;
 
 import static java.util.Collections.emptyMap;
@@ -50,6 +55,7 @@ import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.db.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
 import static org.tinylog.util.Maps.doubletonMap;
 import static org.tinylog.util.Maps.tripletonMap;
 
@@ -304,6 +310,181 @@ public final class JdbcWriterTest {
 			assertThat(fetchTable(TABLE_NAME)).column("MESSAGE").containsValues("Hello World!");
 		}
 
+		/**
+		 * Verifies that the batch size can be configured.
+		 *
+		 * @throws NamingException
+		 *             Failed to find data source
+		 * @throws SQLException
+		 *             Failed to access database
+		 */
+		@Test
+		public void configuredBatchSize() throws NamingException, SQLException {
+			createTable("MESSAGE CLOB NULL");
+
+			Map<String, String> extras = doubletonMap("batch", "true", "batch.size", "5");
+			JdbcWriter writer = new JdbcWriter(createProperties(singletonMap("MESSAGE", "{message}"), extras));
+
+			for (int i = 0; i < 5; ++i) {
+				assertThat(fetchTable(TABLE_NAME)).isEmpty();
+				writer.write(LogEntryBuilder.empty().message("Hello World!").create());
+			}
+
+			assertThat(fetchTable(TABLE_NAME)).hasNumberOfRows(5);
+
+			writer.close();
+		}
+
+		/**
+		 * Verifies that batched log entries will be inserted after reaching the configured batch latency and not
+		 * earlier by flushing.
+		 *
+		 * @throws NamingException
+		 *             Failed to find data source
+		 * @throws SQLException
+		 *             Failed to access database
+		 * @throws InterruptedException
+		 *             Interrupted while waiting for reaching the batch latency
+		 */
+		@Test
+		public void batchLatency() throws NamingException, SQLException, InterruptedException {
+			createTable("MESSAGE CLOB NULL");
+
+			Map<String, String> extras = doubletonMap("batch", "true", "batch.latency", "100");
+			JdbcWriter writer = new JdbcWriter(createProperties(singletonMap("MESSAGE", "{message}"), extras));
+
+			writer.write(LogEntryBuilder.empty().message("One").create());
+			writer.flush();
+			assertThat(fetchTable(TABLE_NAME)).isEmpty();
+
+			Thread.sleep(150);
+
+			writer.write(LogEntryBuilder.empty().message("Two").create());
+			assertThat(fetchTable(TABLE_NAME)).column("MESSAGE").containsValues("One", "Two");
+
+			writer.close();
+		}
+
+		/**
+		 * Verifies that log entries can be inserted by multi-row insert statements, including partial batches.
+		 *
+		 * @throws NamingException
+		 *             Failed to find data source
+		 * @throws SQLException
+		 *             Failed to access database
+		 */
+		@Test
+		public void multiRowInsertion() throws NamingException, SQLException {
+			createTable("LEVEL VARCHAR(5) NULL", "MESSAGE CLOB NULL");
+
+			Map<String, String> fields = doubletonMap("LEVEL", "{level}", "MESSAGE", "{message}");
+			Map<String, String> extras = doubletonMap("batch.multirow", "true", "batch.size", "3");
+			JdbcWriter writer = new JdbcWriter(createProperties(fields, extras));
+
+			for (int i = 1; i <= 7; ++i) {
+				writer.write(LogEntryBuilder.empty().level(Level.INFO).message("Message " + i).create());
+			}
+
+			assertThat(fetchTable(TABLE_NAME))
+				.hasNumberOfRows(6)
+				.column("LEVEL").containsValues("INFO", "INFO", "INFO", "INFO", "INFO", "INFO")
+				.column("MESSAGE").containsValues("Message 1", "Message 2", "Message 3", "Message 4", "Message 5", "Message 6");
+
+			writer.flush();
+			assertThat(fetchTable(TABLE_NAME)).hasNumberOfRows(7).column("MESSAGE").value(6).isEqualTo("Message 7");
+
+			writer.close();
+		}
+
+		/**
+		 * Verifies that multi-row insert statements are split, if a batch would exceed the configured maximum number of
+		 * bind parameters.
+		 *
+		 * @throws NamingException
+		 *             Failed to find data source
+		 * @throws SQLException
+		 *             Failed to access database
+		 */
+		@Test
+		public void multiRowInsertionWithParameterLimit() throws NamingException, SQLException {
+			createTable("LEVEL VARCHAR(5) NULL", "MESSAGE CLOB NULL");
+
+			Map<String, String> fields = doubletonMap("LEVEL", "{level}", "MESSAGE", "{message}");
+			Map<String, String> extras = tripletonMap("batch.multirow", "true", "batch.size", "5", "batch.parameters", "4");
+			JdbcWriter writer = new JdbcWriter(createProperties(fields, extras));
+
+			for (int i = 1; i <= 5; ++i) {
+				writer.write(LogEntryBuilder.empty().level(Level.INFO).message("Message " + i).create());
+			}
+
+			assertThat(fetchTable(TABLE_NAME))
+				.hasNumberOfRows(5)
+				.column("MESSAGE").containsValues("Message 1", "Message 2", "Message 3", "Message 4", "Message 5");
+
+			writer.close();
+		}
+
+		/**
+		 * Verifies that log entries will be inserted by the sender thread and all remaining log entries are inserted
+		 * while closing.
+		 *
+		 * @throws NamingException
+		 *             Failed to find data source
+		 * @throws SQLException
+		 *             Failed to access database
+		 */
+		@Test
+		public void asynchronousInsertion() throws NamingException, SQLException {
+			createTable("MESSAGE CLOB NULL");
+
+			Map<String, String> extras = doubletonMap("batch.async", "true", "batch.size", "10");
+			JdbcWriter writer = new JdbcWriter(createProperties(singletonMap("MESSAGE", "{message}"), extras));
+
+			for (int i = 1; i <= 25; ++i) {
+				writer.write(LogEntryBuilder.empty().message(String.format("Message %02d", i)).create());
+			}
+
+			writer.close();
+
+			assertThat(fetchTable(TABLE_NAME))
+				.hasNumberOfRows(25)
+				.column("MESSAGE")
+				.value(0).isEqualTo("Message 01")
+				.value(24).isEqualTo("Message 25");
+		}
+
+		/**
+		 * Verifies that the sender thread inserts log entries by multi-row insert statements after reaching the
+		 * configured batch latency.
+		 *
+		 * @throws NamingException
+		 *             Failed to find data source
+		 * @throws SQLException
+		 *             Failed to access database
+		 * @throws InterruptedException
+		 *             Interrupted while waiting for inserted log entries
+		 */
+		@Test
+		public void asynchronousMultiRowInsertionWithLatency() throws NamingException, SQLException, InterruptedException {
+			createTable("MESSAGE CLOB NULL");
+
+			Map<String, String> extras = tripletonMap("batch.async", "true", "batch.multirow", "true", "batch.latency", "50");
+			JdbcWriter writer = new JdbcWriter(createProperties(singletonMap("MESSAGE", "{message}"), extras));
+
+			writer.write(LogEntryBuilder.empty().message("One").create());
+			writer.write(LogEntryBuilder.empty().message("Two").create());
+
+			long deadline = System.currentTimeMillis() + 5000;
+			while (fetchTable(TABLE_NAME).getRowsList().size() < 2) {
+				assertThat(System.currentTimeMillis()).isLessThan(deadline);
+				Thread.sleep(10);
+			}
+
+			assertThat(fetchTable(TABLE_NAME)).column("MESSAGE").containsValues("One", "Two");
+
+			writer.close();
+		}
+
 		/**
 		 * Verifies that log entries can be written to a {@link DataSource}.
 		 *
@@ -347,6 +528,37 @@ public final class JdbcWriterTest {
 		@Rule
 		public final SystemStreamCollector systemStream = new SystemStreamCollector(true);
 
+		/**
+		 * Verifies that the sender thread survives unexpected runtime exceptions and continues inserting further log
+		 * entries.
+		 *
+		 * @throws NamingException
+		 *             Failed to find data source
+		 * @throws SQLException
+		 *             Failed to access database
+		 */
+		@Test
+		public void senderThreadSurvivesRuntimeException() throws NamingException, SQLException {
+			createTable("MESSAGE CLOB NULL");
+
+			MessageFormatter formatter = mock(MessageFormatter.class, invocation -> {
+				throw new UnsupportedOperationException();
+			});
+
+			Map<String, String> extras = doubletonMap("batch.async", "true", "batch.size", "1");
+			JdbcWriter writer = new JdbcWriter(createProperties(singletonMap("MESSAGE", "{message}"), extras));
+
+			writer.write(LogEntryBuilder.empty().arguments(formatter, "{}", 42).create());
+			for (int i = 1; i <= 5; ++i) {
+				writer.write(LogEntryBuilder.empty().message("Message " + i).create());
+			}
+
+			writer.close();
+
+			assertThat(fetchTable(TABLE_NAME)).hasNumberOfRows(5).column("MESSAGE").value(4).isEqualTo("Message 5");
+			assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("ERROR").contains("UnsupportedOperationException");
+		}
+
 		/**
 		 * Verifies that a broken connection will be not re-establishing, if reconnecting is disabled.
 		 *
@@ -444,6 +656,281 @@ public final class JdbcWriterTest {
 			assertThat(fetchTable(TABLE_NAME)).column("MESSAGE").containsValues("Four");
 		}
 
+		/**
+		 * Verifies that log entries will be stored in the journal file while the database is unavailable and replayed
+		 * after reconnecting.
+		 *
+		 * @throws IOException
+		 *             Failed to create journal file
+		 * @throws NamingException
+		 *             Failed to find data source
+		 * @throws SQLException
+		 *             Failed to access database
+		 * @throws InterruptedException
+		 *             Failed to sleep before reconnecting try
+		 */
+		@Test
+		public void replayJournal() throws IOException, NamingException, SQLException, InterruptedException {
+			createTable("MESSAGE CLOB NULL");
+
+			String journal = FileSystem.createTemporaryFile();
+			Map<String, String> extras = doubletonMap("reconnect", "true", "journal", journal);
+			JdbcWriter writer = new JdbcWriter(createProperties(singletonMap("MESSAGE", "{message}"), extras));
+
+			writer.write(LogEntryBuilder.empty().message("One").create());
+			shutdownDatabase();
+
+			assertThatThrownBy(() -> {
+				writer.write(LogEntryBuilder.empty().message("Two").create());
+			}).isInstanceOf(SQLException.class);
+
+			writer.write(LogEntryBuilder.empty().message("Three").create());
+			writer.write(LogEntryBuilder.empty().message("Four").create());
+			assertThat(new File(journal).length()).isPositive();
+
+			createTable("MESSAGE CLOB NULL");
+
+			Thread.sleep(1000);
+
+			writer.write(LogEntryBuilder.empty().message("Five").create());
+			assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("ERROR").containsOnlyOnce("1");
+			assertThat(fetchTable(TABLE_NAME)).column("MESSAGE").containsValues("Three", "Four", "Five");
+			assertThat(new File(journal)).doesNotExist();
+
+			writer.close();
+		}
+
+		/**
+		 * Verifies that log entries from the journal file will be replayed in batches, limited by the configured
+		 * replay rate, and that new log entries are inserted after all log entries from the journal file.
+		 *
+		 * @throws IOException
+		 *             Failed to create journal file
+		 * @throws NamingException
+		 *             Failed to find data source
+		 * @throws SQLException
+		 *             Failed to access database
+		 * @throws InterruptedException
+		 *             Failed to sleep before reconnecting try
+		 */
+		@Test
+		public void limitReplayRate() throws IOException, NamingException, SQLException, InterruptedException {
+			createTable("MESSAGE CLOB NULL");
+
+			Map<String, String> extras = new HashMap<>();
+			extras.put("reconnect", "true");
+			extras.put("journal", FileSystem.createTemporaryFile());
+			extras.put("journal.rate", "1");
+			extras.put("batch.size", "2");
+			JdbcWriter writer = new JdbcWriter(createProperties(singletonMap("MESSAGE", "{message}"), extras));
+
+			shutdownDatabase();
+
+			assertThatThrownBy(() -> {
+				writer.write(LogEntryBuilder.empty().message("Lost").create());
+			}).isInstanceOf(SQLException.class);
+
+			for (int i = 1; i <= 4; ++i) {
+				writer.write(LogEntryBuilder.empty().message("Journal " + i).create());
+			}
+
+			createTable("MESSAGE CLOB NULL");
+
+			Thread.sleep(1000);
+
+			writer.write(LogEntryBuilder.empty().message("New 1").create());
+			writer.write(LogEntryBuilder.empty().message("New 2").create());
+			assertThat(fetchTable(TABLE_NAME)).hasNumberOfRows(2).column("MESSAGE").containsValues("Journal 1", "Journal 2");
+
+			Thread.sleep(2000);
+
+			writer.flush();
+			assertThat(fetchTable(TABLE_NAME)).hasNumberOfRows(4)
+				.column("MESSAGE").containsValues("Journal 1", "Journal 2", "Journal 3", "Journal 4");
+
+			Thread.sleep(2000);
+
+			writer.write(LogEntryBuilder.empty().message("New 3").create());
+			assertThat(fetchTable(TABLE_NAME)).hasNumberOfRows(6)
+				.column("MESSAGE").containsValues("Journal 1", "Journal 2", "Journal 3", "Journal 4", "New 1", "New 2");
+
+			writer.close();
+			systemStream.consumeErrorOutput();
+		}
+
+		/**
+		 * Verifies that log entries will be discarded, if the journal file has reached its maximum size.
+		 *
+		 * @throws IOException
+		 *             Failed to create journal file
+		 * @throws NamingException
+		 *             Failed to find data source
+		 * @throws SQLException
+		 *             Failed to access database
+		 */
+		@Test
+		public void limitJournalSize() throws IOException, NamingException, SQLException {
+			createTable("MESSAGE CLOB NULL");
+
+			String journal = FileSystem.createTemporaryFile();
+			Map<String, String> extras = tripletonMap("reconnect", "true", "journal", journal, "journal.size", "1KB");
+			JdbcWriter writer = new JdbcWriter(createProperties(singletonMap("MESSAGE", "{message}"), extras));
+
+			shutdownDatabase();
+
+			assertThatThrownBy(() -> {
+				writer.write(LogEntryBuilder.empty().message("Lost").create());
+			}).isInstanceOf(SQLException.class);
+
+			for (int i = 0; i < 1000; ++i) {
+				writer.write(LogEntryBuilder.empty().message("Journal " + i).create());
+			}
+
+			writer.close();
+
+			assertThat(new File(journal).length()).isBetween(1024L, 2048L);
+			assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("ERROR");
+		}
+
+		/**
+		 * Verifies that not yet replayed log entries remain in the journal file and will be replayed by a new writer
+		 * instance.
+		 *
+		 * @throws IOException
+		 *             Failed to create journal file
+		 * @throws NamingException
+		 *             Failed to find data source
+		 * @throws SQLException
+		 *             Failed to access database
+		 */
+		@Test
+		public void keepJournalAcrossRestart() throws IOException, NamingException, SQLException {
+			createTable("MESSAGE CLOB NULL");
+
+			String journal = FileSystem.createTemporaryFile();
+			Map<String, String> extras = doubletonMap("reconnect", "true", "journal", journal);
+
+			JdbcWriter writer = new JdbcWriter(createProperties(singletonMap("MESSAGE", "{message}"), extras));
+			shutdownDatabase();
+
+			assertThatThrownBy(() -> {
+				writer.write(LogEntryBuilder.empty().message("Lost").create());
+			}).isInstanceOf(SQLException.class);
+
+			writer.write(LogEntryBuilder.empty().message("Journal").create());
+			writer.close();
+			systemStream.consumeErrorOutput();
+
+			createTable("MESSAGE CLOB NULL");
+
+			JdbcWriter newWriter = new JdbcWriter(createProperties(singletonMap("MESSAGE", "{message}"), extras));
+			newWriter.write(LogEntryBuilder.empty().message("New").create());
+			newWriter.close();
+
+			assertThat(fetchTable(TABLE_NAME)).column("MESSAGE").containsValues("Journal", "New");
+		}
+
+		/**
+		 * Verifies that flushing replays log entries from the journal file on the sender thread, even if there are no
+		 * new log entries.
+		 *
+		 * @throws IOException
+		 *             Failed to create journal file
+		 * @throws NamingException
+		 *             Failed to find data source
+		 * @throws SQLException
+		 *             Failed to access database
+		 */
+		@Test
+		public void replayJournalOnFlush() throws IOException, NamingException, SQLException {
+			createTable("MESSAGE CLOB NULL");
+
+			String journal = FileSystem.createTemporaryFile();
+			Map<String, String> extras = doubletonMap("reconnect", "true", "journal", journal);
+
+			JdbcWriter writer = new JdbcWriter(createProperties(singletonMap("MESSAGE", "{message}"), extras));
+			shutdownDatabase();
+
+			assertThatThrownBy(() -> {
+				writer.write(LogEntryBuilder.empty().message("Lost").create());
+			}).isInstanceOf(SQLException.class);
+
+			writer.write(LogEntryBuilder.empty().message("Journal").create());
+			writer.close();
+			systemStream.consumeErrorOutput();
+
+			createTable("MESSAGE CLOB NULL");
+
+			Map<String, String> asyncExtras = tripletonMap("reconnect", "true", "journal", journal, "batch.async", "true");
+			JdbcWriter newWriter = new JdbcWriter(createProperties(singletonMap("MESSAGE", "{message}"), asyncExtras));
+			newWriter.flush();
+			newWriter.close();
+
+			assertThat(fetchTable(TABLE_NAME)).column("MESSAGE").containsValues("Journal");
+			assertThat(new File(journal)).doesNotExist();
+		}
+
+		/**
+		 * Verifies that a new writer instance continues a partially replayed journal file without replaying already
+		 * inserted log entries again.
+		 *
+		 * @throws IOException
+		 *             Failed to create journal file
+		 * @throws NamingException
+		 *             Failed to find data source
+		 * @throws SQLException
+		 *             Failed to access database
+		 * @throws InterruptedException
+		 *             Failed to sleep before reconnecting try
+		 */
+		@Test
+		public void continuePartiallyReplayedJournalAfterRestart()
+			throws IOException, NamingException, SQLException, InterruptedException {
+			createTable("MESSAGE CLOB NULL");
+
+			String journal = FileSystem.createTemporaryFile();
+			Map<String, String> extras = new HashMap<>();
+			extras.put("reconnect", "true");
+			extras.put("journal", journal);
+			extras.put("journal.rate", "1");
+			extras.put("batch.size", "2");
+
+			JdbcWriter writer = new JdbcWriter(createProperties(singletonMap("MESSAGE", "{message}"), extras));
+			shutdownDatabase();
+
+			assertThatThrownBy(() -> {
+				writer.write(LogEntryBuilder.empty().message("Lost").create());
+			}).isInstanceOf(SQLException.class);
+
+			for (int i = 1; i <= 4; ++i) {
+				writer.write(LogEntryBuilder.empty().message("Journal " + i).create());
+			}
+
+			createTable("MESSAGE CLOB NULL");
+
+			Thread.sleep(1000);
+
+			writer.write(LogEntryBuilder.empty().message("New 1").create());
+			writer.flush();
+			writer.close();
+			systemStream.consumeErrorOutput();
+
+			assertThat(fetchTable(TABLE_NAME)).hasNumberOfRows(2).column("MESSAGE").containsValues("Journal 1", "Journal 2");
+			assertThat(new File(journal).length()).isPositive();
+
+			extras.remove("journal.rate");
+			extras.remove("batch.size");
+
+			JdbcWriter newWriter = new JdbcWriter(createProperties(singletonMap("MESSAGE", "{message}"), extras));
+			newWriter.write(LogEntryBuilder.empty().message("New 2").create());
+			newWriter.close();
+
+			assertThat(fetchTable(TABLE_NAME))
+				.hasNumberOfRows(6)
+				.column("MESSAGE").containsValues("Journal 1", "Journal 2", "Journal 3", "Journal 4", "New 1", "New 2");
+			assertThat(new File(journal)).doesNotExist();
+		}
+
 		/**
 		 * Verifies that a broken connection with enabled batch inserting will be re-establishing, if reconnecting is
 		 * enabled.
@@ -592,6 +1079,34 @@ public final class JdbcWriterTest {
 	 */
 	public static final class Validation extends AbstractTest {
 
+		/**
+		 * Redirects and collects system output streams.
+		 */
+		@Rule
+		public final SystemStreamCollector systemStream = new SystemStreamCollector(true);
+
+		/**
+		 * Verifies that an error will be logged and the default batch size used, if the configured batch size is
+		 * invalid.
+		 *
+		 * @throws NamingException
+		 *             Failed to find data source
+		 * @throws SQLException
+		 *             Failed to access database
+		 */
+		@Test
+		public void invalidBatchSize() throws NamingException, SQLException {
+			createTable("MESSAGE CLOB NULL");
+
+			Map<String, String> extras = doubletonMap("batch", "true", "batch.size", "abc");
+			JdbcWriter writer = new JdbcWriter(createProperties(singletonMap("MESSAGE", "{message}"), extras));
+
+			assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("ERROR").containsOnlyOnce("batch.size");
+			assertThat(Whitebox.<Integer>getInternalState(writer, "batchSize")).isEqualTo(100);
+
+			writer.close();
+		}
+
 		/**
 		 * Verifies that an exception will be thrown, if no connection URL has been defined. The message of the thrown
 		 * exception should contain "URL" or "url".
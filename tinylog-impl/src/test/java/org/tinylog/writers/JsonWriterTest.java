@@ -0,0 +1,449 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.tinylog.Level;
+import org.tinylog.configuration.ServiceLoader;
+import org.tinylog.core.LogEntryValue;
+import org.tinylog.rules.SystemStreamCollector;
+import org.tinylog.util.FileSystem;
+import org.tinylog.util.LogEntryBuilder;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.tinylog.util.Maps.doubletonMap;
+import static org.tinylog.util.Maps.tripletonMap;
+
+/**
+ * Tests for {@link JsonWriter}.
+ */
+public final class JsonWriterTest {
+
+	/**
+	 * Redirects and collects system output streams.
+	 */
+	@Rule
+	public final SystemStreamCollector systemStream = new SystemStreamCollector(true);
+
+	/**
+	 * Temporary folder for creating rolling log files.
+	 */
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Verifies that log entries will be output as newline delimited JSON by default.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void newlineDelimitedJson() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+		JsonWriter writer = new JsonWriter(doubletonMap("file", file, "field.msg", "{message}"));
+
+		writer.write(LogEntryBuilder.empty().message("Hello World!").create());
+		writer.write(LogEntryBuilder.empty().message("Goodbye").create());
+		writer.close();
+
+		assertThat(FileSystem.readFile(file, StandardCharsets.UTF_8)).isEqualTo("{\"msg\":\"Hello World!\"}\n{\"msg\":\"Goodbye\"}\n");
+	}
+
+	/**
+	 * Verifies that all configured fields will be output including values from thread context.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void multipleFields() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+
+		Map<String, String> properties = new HashMap<>();
+		properties.put("file", file);
+		properties.put("field.level", "level");
+		properties.put("field.user", "{context: user}");
+
+		JsonWriter writer = new JsonWriter(properties);
+		assertThat(writer.getRequiredLogEntryValues()).containsOnly(LogEntryValue.LEVEL, LogEntryValue.CONTEXT);
+
+		writer.write(LogEntryBuilder.empty().level(Level.INFO).context("user", "alice").create());
+		writer.close();
+
+		assertThat(FileSystem.readFile(file, StandardCharsets.UTF_8))
+			.startsWith("{")
+			.contains("\"level\":\"INFO\"")
+			.contains("\"user\":\"alice\"")
+			.endsWith("}\n");
+	}
+
+	/**
+	 * Verifies that date, level and message will be output, if no fields are configured.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void defaultFields() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+		JsonWriter writer = new JsonWriter(singletonMap("file", file));
+
+		assertThat(writer.getRequiredLogEntryValues())
+			.contains(LogEntryValue.DATE, LogEntryValue.LEVEL, LogEntryValue.MESSAGE, LogEntryValue.EXCEPTION);
+
+		writer.write(LogEntryBuilder.prefilled(JsonWriterTest.class).create());
+		writer.close();
+
+		assertThat(FileSystem.readFile(file, StandardCharsets.UTF_8))
+			.startsWith("{\"date\":\"1985-06-03T")
+			.contains("\"level\":\"TRACE\"")
+			.contains("\"message\":\"Hello World!\"")
+			.endsWith("}\n");
+	}
+
+	/**
+	 * Verifies that quotes, backslashes, line breaks and other control characters will be escaped.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void escaping() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+		JsonWriter writer = new JsonWriter(doubletonMap("file", file, "field.msg", "{message-only}"));
+
+		writer.write(LogEntryBuilder.empty().message("\"a\\b\"\tc\nd" + (char) 1).create());
+		writer.close();
+
+		assertThat(FileSystem.readFile(file, StandardCharsets.UTF_8))
+			.isEqualTo("{\"msg\":\"\\\"a\\\\b\\\"\\tc" + escapeNewLine() + "d\\u0001\"}\n");
+	}
+
+	/**
+	 * Verifies that non-ASCII characters including supplementary characters will be encoded as UTF-8.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void unicode() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+		JsonWriter writer = new JsonWriter(doubletonMap("file", file, "field.msg", "{message}"));
+
+		writer.write(LogEntryBuilder.empty().message("ä€" + new String(Character.toChars(0x1F600))).create());
+		writer.write(LogEntryBuilder.empty().message(String.valueOf((char) 0xD800)).create());
+		writer.close();
+
+		assertThat(FileSystem.readFile(file, StandardCharsets.UTF_8))
+			.isEqualTo("{\"msg\":\"ä€" + new String(Character.toChars(0x1F600)) + "\"}\n{\"msg\":\"\\ud800\"}\n");
+	}
+
+	/**
+	 * Verifies that huge messages that exceed the initial buffer capacity will be output completely.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void hugeMessage() throws IOException {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < 10_000; ++i) {
+			builder.append("\"");
+		}
+
+		String file = FileSystem.createTemporaryFile();
+		JsonWriter writer = new JsonWriter(doubletonMap("file", file, "field.msg", "{message}"));
+
+		writer.write(LogEntryBuilder.empty().message(builder.toString()).create());
+		writer.close();
+
+		assertThat(FileSystem.readFile(file, StandardCharsets.UTF_8))
+			.isEqualTo("{\"msg\":\"" + builder.toString().replace("\"", "\\\"") + "\"}\n");
+	}
+
+	/**
+	 * Verifies that log entries will be output as JSON array, if array framing is configured.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void arrayFraming() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+		JsonWriter writer = new JsonWriter(tripletonMap("file", file, "field.msg", "{message}", "framing", "array"));
+
+		writer.write(LogEntryBuilder.empty().message("Hello World!").create());
+		writer.write(LogEntryBuilder.empty().message("Goodbye").create());
+		writer.close();
+
+		assertThat(FileSystem.readFile(file, StandardCharsets.UTF_8))
+			.isEqualTo("[\n{\"msg\":\"Hello World!\"},\n{\"msg\":\"Goodbye\"}\n]\n");
+	}
+
+	/**
+	 * Verifies that an empty JSON array will be output, if there are no log entries.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void emptyArray() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+		new JsonWriter(doubletonMap("file", file, "framing", "array")).close();
+
+		assertThat(FileSystem.readFile(file, StandardCharsets.UTF_8)).isEqualTo("[\n]\n");
+	}
+
+	/**
+	 * Verifies that an existing JSON array will be continued, if append mode is enabled.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void continueArray() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+
+		Map<String, String> properties = new HashMap<>();
+		properties.put("file", file);
+		properties.put("field.msg", "{message}");
+		properties.put("framing", "array");
+		properties.put("append", "true");
+
+		JsonWriter writer = new JsonWriter(properties);
+		writer.close();
+
+		writer = new JsonWriter(properties);
+		writer.write(LogEntryBuilder.empty().message("First").create());
+		writer.close();
+
+		writer = new JsonWriter(properties);
+		writer.write(LogEntryBuilder.empty().message("Second").create());
+		writer.close();
+
+		assertThat(FileSystem.readFile(file, StandardCharsets.UTF_8))
+			.isEqualTo("[\n{\"msg\":\"First\"},\n{\"msg\":\"Second\"}\n]\n");
+	}
+
+	/**
+	 * Verifies that an already existing file will be continued, if append mode is enabled.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void appendingEnabled() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+
+		JsonWriter writer = new JsonWriter(tripletonMap("file", file, "field.msg", "{message}", "append", "true"));
+		writer.write(LogEntryBuilder.empty().message("First").create());
+		writer.close();
+
+		writer = new JsonWriter(tripletonMap("file", file, "field.msg", "{message}", "append", "true"));
+		writer.write(LogEntryBuilder.empty().message("Second").create());
+		writer.close();
+
+		assertThat(FileSystem.readFile(file, StandardCharsets.UTF_8)).isEqualTo("{\"msg\":\"First\"}\n{\"msg\":\"Second\"}\n");
+	}
+
+	/**
+	 * Verifies that continuing an existing file in array framing will be refused, if the existing file contains
+	 * newline delimited JSON instead of a JSON array.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void continueNewlineDelimitedJsonAsArray() throws IOException {
+		String file = FileSystem.createTemporaryFile("{\"msg\":\"First\"}");
+
+		Map<String, String> properties = new HashMap<>();
+		properties.put("file", file);
+		properties.put("field.msg", "{message}");
+		properties.put("framing", "array");
+		properties.put("append", "true");
+
+		assertThatThrownBy(() -> new JsonWriter(properties)).isInstanceOf(IOException.class).hasMessageContaining("JSON array");
+		assertThat(FileSystem.readFile(file, StandardCharsets.UTF_8)).isEqualTo("{\"msg\":\"First\"}" + System.lineSeparator());
+	}
+
+	/**
+	 * Verifies that continuing an existing file in array framing will be refused, if the existing JSON array is
+	 * truncated in the middle of a log entry.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void continueIncompleteArray() throws IOException {
+		String file = FileSystem.createTemporaryFile("[", "{\"msg\":\"Fir");
+
+		Map<String, String> properties = new HashMap<>();
+		properties.put("file", file);
+		properties.put("field.msg", "{message}");
+		properties.put("framing", "array");
+		properties.put("append", "true");
+
+		assertThatThrownBy(() -> new JsonWriter(properties)).isInstanceOf(IOException.class).hasMessageContaining("incomplete");
+	}
+
+	/**
+	 * Verifies that a new log file will be started as soon as a policy triggers a rollover.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void rollingNewlineDelimitedJson() throws IOException {
+		Map<String, String> properties = new HashMap<>();
+		properties.put("file", new File(folder.getRoot(), "{count}.json").getAbsolutePath());
+		properties.put("field.msg", "{message}");
+		properties.put("policies", "size: 20");
+
+		JsonWriter writer = new JsonWriter(properties);
+		writer.write(LogEntryBuilder.empty().message("First").create());
+		writer.write(LogEntryBuilder.empty().message("Second").create());
+		writer.close();
+
+		assertThat(new File(folder.getRoot(), "0.json")).hasContent("{\"msg\":\"First\"}\n");
+		assertThat(new File(folder.getRoot(), "1.json")).hasContent("{\"msg\":\"Second\"}\n");
+	}
+
+	/**
+	 * Verifies that each rolled log file contains a complete JSON array in array framing.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void rollingArray() throws IOException {
+		Map<String, String> properties = new HashMap<>();
+		properties.put("file", new File(folder.getRoot(), "{count}.json").getAbsolutePath());
+		properties.put("field.msg", "{message}");
+		properties.put("framing", "array");
+		properties.put("policies", "size: 40");
+
+		JsonWriter writer = new JsonWriter(properties);
+		writer.write(LogEntryBuilder.empty().message("First").create());
+		writer.write(LogEntryBuilder.empty().message("Second").create());
+		writer.write(LogEntryBuilder.empty().message("Third").create());
+		writer.close();
+
+		assertThat(FileSystem.readFile(new File(folder.getRoot(), "0.json").getPath(), StandardCharsets.UTF_8))
+			.isEqualTo("[\n{\"msg\":\"First\"},\n{\"msg\":\"Second\"}\n]\n");
+		assertThat(FileSystem.readFile(new File(folder.getRoot(), "1.json").getPath(), StandardCharsets.UTF_8))
+			.isEqualTo("[\n{\"msg\":\"Third\"}\n]\n");
+	}
+
+	/**
+	 * Verifies that log entries will be output after flushing, if buffer is enabled.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void bufferedWriting() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+		JsonWriter writer = new JsonWriter(tripletonMap("file", file, "field.msg", "{message}", "buffered", "true"));
+
+		writer.write(LogEntryBuilder.empty().message("Hello World!").create());
+		assertThat(FileSystem.readFile(file, StandardCharsets.UTF_8)).isEmpty();
+
+		writer.flush();
+		assertThat(FileSystem.readFile(file, StandardCharsets.UTF_8)).isEqualTo("{\"msg\":\"Hello World!\"}\n");
+
+		writer.close();
+	}
+
+	/**
+	 * Verifies that array framing will be replaced by newline delimited JSON for shared files.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void sharedArrayFraming() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+
+		Map<String, String> properties = new HashMap<>();
+		properties.put("file", file);
+		properties.put("field.msg", "{message}");
+		properties.put("framing", "array");
+		properties.put("shared", "true");
+
+		JsonWriter writer = new JsonWriter(properties);
+		writer.write(LogEntryBuilder.empty().message("Hello World!").create());
+		writer.close();
+
+		assertThat(FileSystem.readFile(file, StandardCharsets.UTF_8)).isEqualTo("{\"msg\":\"Hello World!\"}\n");
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("WARN").containsIgnoringCase("array");
+	}
+
+	/**
+	 * Verifies that an unknown framing will be reported as error.
+	 *
+	 * @throws IOException
+	 *             Failed opening file
+	 */
+	@Test
+	public void unknownFraming() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+		new JsonWriter(doubletonMap("file", file, "framing", "xml")).close();
+
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("ERROR").containsOnlyOnce("xml");
+	}
+
+	/**
+	 * Verifies that an exception will be thrown, if no file name is defined. The message of the thrown exception should
+	 * contain "file name" or "filename".
+	 */
+	@Test
+	public void missingFileName() {
+		assertThatThrownBy(() -> new JsonWriter(emptyMap())).hasMessageMatching("(?i).*file ?name.*");
+	}
+
+	/**
+	 * Verifies that writer is registered as service under the name "json".
+	 *
+	 * @throws IOException
+	 *             Failed creating temporary file
+	 */
+	@Test
+	public void isRegistered() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+		Writer writer = new ServiceLoader<>(Writer.class, Map.class).create("json", singletonMap("file", file));
+		assertThat(writer).isInstanceOf(JsonWriter.class);
+	}
+
+	/**
+	 * Gets the escaped representation of the system line separator.
+	 *
+	 * @return Escaped line separator
+	 */
+	private static String escapeNewLine() {
+		return System.lineSeparator().replace("\r", "\\r").replace("\n", "\\n");
+	}
+
+}
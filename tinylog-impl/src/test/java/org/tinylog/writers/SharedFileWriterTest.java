@@ -21,6 +21,7 @@ import java.nio.channels.FileLock;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
@@ -146,7 +147,7 @@ public final class SharedFileWriterTest {
 			throw new IOException("Failed to delete temporary file: " + path);
 		}
 
-		List<Process> processes = new JvmProcessBuilder(SharedFileWriterTest.class, path, "false").start(NUMBER_OF_PROCESSES);
+		List<Process> processes = new JvmProcessBuilder(SharedFileWriterTest.class, path, "false", "false").start(NUMBER_OF_PROCESSES);
 
 		Files.write(file.toPath(), Arrays.asList("PREAMBLE"));
 
@@ -194,7 +195,107 @@ public final class SharedFileWriterTest {
 			throw new IOException("Failed to delete temporary file: " + path);
 		}
 
-		List<Process> processes = new JvmProcessBuilder(SharedFileWriterTest.class, path, "true").start(NUMBER_OF_PROCESSES);
+		List<Process> processes = new JvmProcessBuilder(SharedFileWriterTest.class, path, "true", "false").start(NUMBER_OF_PROCESSES);
+
+		Files.write(file.toPath(), Arrays.asList("PREAMBLE"));
+
+		for (Process process : processes) {
+			process.waitFor();
+		}
+
+		int entries = NUMBER_OF_PROCESSES * NUMBER_OF_LINES;
+		assertThat(FileSystem.readFile(path))
+			.hasLineCount(entries + 1)
+			.matches(Pattern.quote("PREAMBLE" + NEW_LINE) + "(" + Pattern.quote(LOG_ENTRY_MESSAGE + NEW_LINE) + "){" + entries + "}");
+	}
+
+	/**
+	 * Verifies that an already existing file will be overwritten by a single process, if atomic mode is enabled and
+	 * append mode is disabled.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void atomicModeForSingleProcess() throws IOException {
+		String file = FileSystem.createTemporaryFile("Test");
+
+		SharedFileWriter writer = new SharedFileWriter(tripletonMap("file", file, "format", "{message}", "atomic", "true"));
+		writer.write(LogEntryBuilder.empty().message("Hello World!").create());
+		writer.close();
+
+		assertThat(FileSystem.readFile(file)).isEqualTo("Hello World!" + NEW_LINE);
+		assertThat(Whitebox.getInternalState(writer, ByteArrayWriter.class)).isInstanceOf(SynchronizedWriterDecorator.class);
+	}
+
+	/**
+	 * Verifies that an exception will be thrown, if the folder for the log file cannot be created in atomic mode.
+	 *
+	 * @throws IOException
+	 *             Failed creating temporary file
+	 */
+	@Test
+	public void atomicModeWithInvalidFolder() throws IOException {
+		Map<String, String> properties = new HashMap<>();
+		properties.put("file", new File(FileSystem.createTemporaryFile(), "test.log").getPath());
+		properties.put("append", "true");
+		properties.put("atomic", "true");
+
+		assertThatThrownBy(() -> new SharedFileWriter(properties))
+			.isInstanceOf(IOException.class)
+			.hasMessageContaining("folder");
+	}
+
+	/**
+	 * Verifies that multiple processes override an already existing file but don't override each other, if atomic
+	 * mode is enabled and append mode is disabled.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file or creating process
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for process
+	 */
+	@Test
+	public void atomicModeWithoutAppendingForMultipleProcesses() throws IOException, InterruptedException {
+		File file = new File(FileSystem.createTemporaryFile());
+		String path = file.getAbsolutePath();
+
+		if (!file.delete()) {
+			throw new IOException("Failed to delete temporary file: " + path);
+		}
+
+		List<Process> processes = new JvmProcessBuilder(SharedFileWriterTest.class, path, "false", "true").start(NUMBER_OF_PROCESSES);
+
+		Files.write(file.toPath(), Arrays.asList("PREAMBLE"));
+
+		for (Process process : processes) {
+			process.waitFor();
+		}
+
+		assertThat(FileSystem.readFile(path))
+			.hasLineCount(NUMBER_OF_PROCESSES * NUMBER_OF_LINES)
+			.matches("(" + Pattern.quote(LOG_ENTRY_MESSAGE + NEW_LINE) + "){" + (NUMBER_OF_PROCESSES * NUMBER_OF_LINES) + "}");
+	}
+
+	/**
+	 * Verifies that multiple processes neither override an already existing file nor each other, if atomic mode and
+	 * append mode are enabled.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file or creating process
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for process
+	 */
+	@Test
+	public void atomicModeWithAppendingForMultipleProcesses() throws IOException, InterruptedException {
+		File file = new File(FileSystem.createTemporaryFile());
+		String path = file.getAbsolutePath();
+
+		if (!file.delete()) {
+			throw new IOException("Failed to delete temporary file: " + path);
+		}
+
+		List<Process> processes = new JvmProcessBuilder(SharedFileWriterTest.class, path, "true", "true").start(NUMBER_OF_PROCESSES);
 
 		Files.write(file.toPath(), Arrays.asList("PREAMBLE"));
 
@@ -353,7 +454,8 @@ public final class SharedFileWriterTest {
 	 * to the same file by multiple processes.
 	 *
 	 * @param arguments
-	 *            First element will be used as file name for target file and second element for defining append mode
+	 *            First element will be used as file name for target file, second element for defining append mode and
+	 *            third element for defining atomic mode
 	 * @throws IOException
 	 *             Failed writing to target file
 	 */
@@ -363,7 +465,12 @@ public final class SharedFileWriterTest {
 			Thread.yield();
 		}
 
-		Map<String, String> properties = tripletonMap("file", arguments[0], "append", arguments[1], "format", "{message}");
+		Map<String, String> properties = new HashMap<>();
+		properties.put("file", arguments[0]);
+		properties.put("append", arguments[1]);
+		properties.put("atomic", arguments[2]);
+		properties.put("format", "{message}");
+
 		SharedFileWriter writer = new SharedFileWriter(properties);
 		LogEntry logEntry = LogEntryBuilder.prefilled(SharedFileWriterTest.class).message(LOG_ENTRY_MESSAGE).create();
 
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2020 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers.raw;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+import org.tinylog.util.FileSystem;
+import org.tinylog.util.JvmProcessBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AtomicFileOutputStreamWriter}.
+ */
+public final class AtomicFileOutputStreamWriterTest {
+
+	private static final int NUMBER_OF_PROCESSES = 5;
+	private static final int NUMBER_OF_LINES = 1000;
+	private static final int LINES_PER_LARGE_WRITE = 100;
+
+	private static final String LINE = "!!! Test Line !!! 1234567890 !!! qwertzuiopasdfghjklyxcvbnm !!!" + System.lineSeparator();
+	private static final byte[] DATA = LINE.getBytes(Charset.defaultCharset());
+
+	/**
+	 * Verifies that a {@link FileOutputStream} is wrapped correctly.
+	 *
+	 * @throws IOException
+	 *             Failed accessing temporary file
+	 */
+	@Test
+	public void singleProcess() throws IOException {
+		String fileName = FileSystem.createTemporaryFile();
+		FileOutputStream stream = new FileOutputStream(fileName, true);
+		AtomicFileOutputStreamWriter writer = new AtomicFileOutputStreamWriter(stream);
+
+		writer.write(new byte[] { 'A', 'B', 'C' }, 2);
+		writer.flush();
+		writer.close();
+
+		assertThat(FileSystem.readFile(fileName)).isEqualTo("AB");
+		assertThat(stream.getChannel().isOpen()).isFalse();
+	}
+
+	/**
+	 * Verifies that large data, which exceeds the typical buffer sizes of operating systems, is written completely.
+	 *
+	 * @throws IOException
+	 *             Failed accessing temporary file
+	 */
+	@Test
+	public void largeData() throws IOException {
+		String fileName = FileSystem.createTemporaryFile("Test");
+		AtomicFileOutputStreamWriter writer = new AtomicFileOutputStreamWriter(new FileOutputStream(fileName, true));
+
+		byte[] data = new byte[10_000];
+		Arrays.fill(data, (byte) 'X');
+
+		writer.write(data, data.length);
+		writer.close();
+
+		assertThat(FileSystem.readFile(fileName)).hasSize("Test".length() + System.lineSeparator().length() + data.length);
+	}
+
+	/**
+	 * Verifies that large writes are split into chunks that do not exceed the limit for atomic writes and end on line
+	 * boundaries.
+	 *
+	 * @throws IOException
+	 *             Failed accessing temporary file
+	 */
+	@Test
+	public void splitLargeWrites() throws IOException {
+		String fileName = FileSystem.createTemporaryFile();
+		List<Integer> chunks = new ArrayList<>();
+
+		FileOutputStream stream = new FileOutputStream(fileName, true) {
+			@Override
+			public void write(final byte[] data, final int offset, final int length) throws IOException {
+				chunks.add(length);
+				super.write(data, offset, length);
+			}
+		};
+
+		byte[] data = new byte[DATA.length * LINES_PER_LARGE_WRITE];
+		for (int i = 0; i < LINES_PER_LARGE_WRITE; ++i) {
+			System.arraycopy(DATA, 0, data, i * DATA.length, DATA.length);
+		}
+
+		AtomicFileOutputStreamWriter writer = new AtomicFileOutputStreamWriter(stream);
+		writer.write(data, data.length);
+		writer.close();
+
+		assertThat(chunks).hasSizeGreaterThan(1).allSatisfy(length -> {
+			assertThat(length).isLessThanOrEqualTo(AtomicFileOutputStreamWriter.ATOMIC_WRITE_LIMIT);
+			assertThat(length % DATA.length).isZero();
+		});
+
+		assertThat(FileSystem.readFile(fileName))
+			.matches("(" + Pattern.quote(LINE) + "){" + LINES_PER_LARGE_WRITE + "}");
+	}
+
+	/**
+	 * Verifies that multiple processes can write simultaneously to the same file without overriding or interleaving
+	 * each other's data.
+	 *
+	 * @throws IOException
+	 *             Failed accessing temporary file or creating process
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for process
+	 */
+	@Test
+	public void multipleProcesses() throws IOException, InterruptedException {
+		verifyMultipleProcesses(1);
+	}
+
+	/**
+	 * Verifies that multiple processes can write large data, which exceeds the limit for atomic writes, simultaneously
+	 * to the same file without breaking each other's lines.
+	 *
+	 * @throws IOException
+	 *             Failed accessing temporary file or creating process
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for process
+	 */
+	@Test
+	public void multipleProcessesWithLargeWrites() throws IOException, InterruptedException {
+		assertThat(DATA.length * LINES_PER_LARGE_WRITE).isGreaterThan(AtomicFileOutputStreamWriter.ATOMIC_WRITE_LIMIT);
+		verifyMultipleProcesses(LINES_PER_LARGE_WRITE);
+	}
+
+	/**
+	 * Writes a defined number of lines to a given target file. This main method is used to test writing simultaneously
+	 * to the same file by multiple processes.
+	 *
+	 * @param arguments
+	 *            First element will be used as file name for target file, second element as number of lines per write
+	 * @throws IOException
+	 *             Failed accessing target file
+	 */
+	public static void main(final String[] arguments) throws IOException {
+		File file = new File(arguments[0]);
+		int linesPerWrite = Integer.parseInt(arguments[1]);
+		while (!file.exists()) {
+			Thread.yield();
+		}
+
+		byte[] data = new byte[DATA.length * linesPerWrite];
+		for (int i = 0; i < linesPerWrite; ++i) {
+			System.arraycopy(DATA, 0, data, i * DATA.length, DATA.length);
+		}
+
+		AtomicFileOutputStreamWriter writer = new AtomicFileOutputStreamWriter(new FileOutputStream(file, true));
+
+		for (int i = 0; i < NUMBER_OF_LINES / linesPerWrite; ++i) {
+			writer.write(data, data.length);
+		}
+
+		writer.close();
+	}
+
+	/**
+	 * Starts multiple processes that write simultaneously to the same file and verifies that all lines are complete.
+	 *
+	 * @param linesPerWrite
+	 *            Number of lines that each process writes at once
+	 * @throws IOException
+	 *             Failed accessing temporary file or creating process
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for process
+	 */
+	private static void verifyMultipleProcesses(final int linesPerWrite) throws IOException, InterruptedException {
+		File file = new File(FileSystem.createTemporaryFile());
+		String path = file.getAbsolutePath();
+
+		if (!file.delete()) {
+			throw new IOException("Failed to delete temporary file: " + path);
+		}
+
+		String lines = Integer.toString(linesPerWrite);
+		List<Process> processes = new JvmProcessBuilder(AtomicFileOutputStreamWriterTest.class, path, lines).start(NUMBER_OF_PROCESSES);
+
+		if (!file.createNewFile()) {
+			throw new IOException("Failed to recreate temporary file: " + path);
+		}
+
+		for (Process process : processes) {
+			process.waitFor();
+		}
+
+		assertThat(FileSystem.readFile(path))
+			.hasLineCount(NUMBER_OF_PROCESSES * NUMBER_OF_LINES)
+			.matches("(" + Pattern.quote(LINE) + "){" + (NUMBER_OF_PROCESSES * NUMBER_OF_LINES) + "}");
+	}
+
+}